@@ -30,28 +30,67 @@ sourceSets {
         runtimeClasspath += sourceSets.main.get().output
     }
 
+    create("engine") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+        compileClasspath += sourceSets["model"].output
+        runtimeClasspath += sourceSets["model"].output
+    }
+
     create("client") {
         compileClasspath += sourceSets.main.get().output
         runtimeClasspath += sourceSets.main.get().output
         compileClasspath += sourceSets["model"].output
         runtimeClasspath += sourceSets["model"].output
+        compileClasspath += sourceSets["engine"].output
+        runtimeClasspath += sourceSets["engine"].output
+    }
+
+    create("jmh") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+        compileClasspath += sourceSets["model"].output
+        runtimeClasspath += sourceSets["model"].output
+        compileClasspath += sourceSets["engine"].output
+        runtimeClasspath += sourceSets["engine"].output
+    }
+
+    test {
+        compileClasspath += sourceSets["model"].output
+        runtimeClasspath += sourceSets["model"].output
+        compileClasspath += sourceSets["engine"].output
+        runtimeClasspath += sourceSets["engine"].output
+        compileClasspath += sourceSets["client"].output
+        runtimeClasspath += sourceSets["client"].output
     }
 }
 
 val generatorImplementation by configurations.getting { extendsFrom(configurations.implementation.get()) }
 val modelImplementation by configurations.getting { extendsFrom(configurations.implementation.get()) }
+val engineImplementation by configurations.getting { extendsFrom(configurations.implementation.get()) }
 val clientImplementation by configurations.getting { extendsFrom(configurations.implementation.get()) }
+val jmhImplementation by configurations.getting { extendsFrom(configurations.implementation.get()) }
 
 dependencies {
     implementation(platform("org.springframework.boot:spring-boot-dependencies:2.4.0"))
     api("com.fasterxml.jackson.core:jackson-databind")
     api("io.projectreactor:reactor-core")
+    api("io.projectreactor.netty:reactor-netty")
+    implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
     implementation("org.springframework:spring-core")
 
     generatorImplementation("com.github.spullara.mustache.java:compiler:0.9.7")
     generatorImplementation("io.swagger.parser.v3:swagger-parser:2.0.23")
     generatorImplementation("org.apache.commons:commons-text:1.9")
     generatorImplementation("org.springframework.boot:spring-boot-starter")
+
+    jmhImplementation("org.openjdk.jmh:jmh-core:1.26")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.26")
+
+    testImplementation("io.projectreactor:reactor-test")
+    testImplementation("org.assertj:assertj-core")
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
 java {
@@ -66,9 +105,24 @@ repositories {
 
 tasks.withType<Jar> {
     from(sourceSets["model"].output)
+    from(sourceSets["engine"].output)
     from(sourceSets["client"].output)
 }
 
+tasks.named<ProcessResources>("processJmhResources") {
+    from("openapi.json")
+}
+
+tasks.register<JavaExec>("jmh") {
+    description = "Runs the JMH benchmarks, reporting allocation and GC with the gc profiler"
+    group = "verification"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    args("-prof", "gc", "-rf", "json", "-rff", "$buildDir/reports/jmh/results.json")
+    project.findProperty("jmh")?.let { args(it.toString().split(" ")) }
+    doFirst { mkdir("$buildDir/reports/jmh") }
+}
+
 tasks.withType<Test> {
     useJUnitPlatform()
 }
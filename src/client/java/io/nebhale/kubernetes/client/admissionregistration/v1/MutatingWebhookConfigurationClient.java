@@ -25,7 +25,9 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface MutatingWebhookConfigurationClient {
@@ -55,6 +57,11 @@ public interface MutatingWebhookConfigurationClient {
      */
     Mono<MutatingWebhookConfigurationList> list(ListOptions options);
 
+    /**
+     * list all objects of kind MutatingWebhookConfiguration, page by page
+     */
+    Flux<MutatingWebhookConfiguration> listAll(ListOptions options);
+
     /**
      * partially update the specified MutatingWebhookConfiguration
      */
@@ -63,6 +70,11 @@ public interface MutatingWebhookConfigurationClient {
     /**
      * replace the specified MutatingWebhookConfiguration
      */
-    Mono<MutatingWebhookConfiguration> update(MutatingWebhookConfiguration body, UpdateOptions options);
+    Mono<MutatingWebhookConfiguration> update(String name, MutatingWebhookConfiguration body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind MutatingWebhookConfiguration
+     */
+    Flux<WatchEvent<MutatingWebhookConfiguration>> watch(ListOptions options);
 
 }
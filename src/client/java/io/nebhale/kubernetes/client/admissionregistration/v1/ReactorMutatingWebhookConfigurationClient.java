@@ -0,0 +1,164 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.client.admissionregistration.v1;
+
+import io.k8s.admissionregistration.v1.MutatingWebhookConfiguration;
+import io.k8s.admissionregistration.v1.MutatingWebhookConfigurationList;
+import io.k8s.meta.v1.CreateOptions;
+import io.k8s.meta.v1.DeleteOptions;
+import io.k8s.meta.v1.GetOptions;
+import io.k8s.meta.v1.ListOptions;
+import io.k8s.meta.v1.PatchOptions;
+import io.k8s.meta.v1.Status;
+import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
+import io.k8s.type.PatchType;
+import io.nebhale.kubernetes.engine.ConnectionContext;
+import io.nebhale.kubernetes.engine.Request;
+import io.netty.handler.codec.http.HttpMethod;
+import java.util.Arrays;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * A {@link MutatingWebhookConfigurationClient} that executes requests on a shared {@link ConnectionContext}.
+ */
+public final class ReactorMutatingWebhookConfigurationClient implements MutatingWebhookConfigurationClient {
+
+    private final ConnectionContext connectionContext;
+
+    /**
+     * Creates a client
+     *
+     * @param connectionContext the connection to execute requests on
+     */
+    public ReactorMutatingWebhookConfigurationClient(ConnectionContext connectionContext) {
+        this.connectionContext = connectionContext;
+    }
+
+    @Override
+    public Mono<MutatingWebhookConfiguration> create(MutatingWebhookConfiguration body, CreateOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.POST)
+            .clusterPath("/apis/admissionregistration.k8s.io/v1/mutatingwebhookconfigurations")
+            .body(body)
+            .options(options)
+            .build();
+
+        return connectionContext.exchange(request, MutatingWebhookConfiguration.class);
+    }
+
+    @Override
+    public Mono<Status> delete(String name, DeleteOptions body) {
+        Request request = Request.builder()
+            .method(HttpMethod.DELETE)
+            .clusterPath("/apis/admissionregistration.k8s.io/v1/mutatingwebhookconfigurations/{name}")
+            .pathVariable("name", name)
+            .body(body)
+            .build();
+
+        return connectionContext.exchange(request, Status.class);
+    }
+
+    @Override
+    public Mono<Status> deleteCollection(DeleteOptions body, ListOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.DELETE)
+            .clusterPath("/apis/admissionregistration.k8s.io/v1/mutatingwebhookconfigurations")
+            .body(body)
+            .options(options)
+            .build();
+
+        return connectionContext.exchange(request, Status.class);
+    }
+
+    @Override
+    public Mono<MutatingWebhookConfiguration> get(String name, GetOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.GET)
+            .clusterPath("/apis/admissionregistration.k8s.io/v1/mutatingwebhookconfigurations/{name}")
+            .pathVariable("name", name)
+            .options(options)
+            .build();
+
+        return connectionContext.exchange(request, MutatingWebhookConfiguration.class);
+    }
+
+    @Override
+    public Mono<MutatingWebhookConfigurationList> list(ListOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.GET)
+            .clusterPath("/apis/admissionregistration.k8s.io/v1/mutatingwebhookconfigurations")
+            .options(options)
+            .build();
+
+        return connectionContext.exchange(request, MutatingWebhookConfigurationList.class);
+    }
+
+    @Override
+    public Flux<MutatingWebhookConfiguration> listAll(ListOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.GET)
+            .clusterPath("/apis/admissionregistration.k8s.io/v1/mutatingwebhookconfigurations")
+            .options(options)
+            .build();
+
+        return connectionContext.listAll(request, MutatingWebhookConfiguration.class);
+    }
+
+    @Override
+    public Mono<MutatingWebhookConfiguration> patch(String name, PatchType type, Object body, PatchOptions options, String... subresources) {
+        Request request = Request.builder()
+            .method(HttpMethod.PATCH)
+            .clusterPath("/apis/admissionregistration.k8s.io/v1/mutatingwebhookconfigurations/{name}")
+            .pathVariable("name", name)
+            .contentType(type.getMediaType())
+            .body(body)
+            .options(options)
+            .subresources(Arrays.asList(subresources))
+            .build();
+
+        return connectionContext.exchange(request, MutatingWebhookConfiguration.class);
+    }
+
+    @Override
+    public Mono<MutatingWebhookConfiguration> update(String name, MutatingWebhookConfiguration body, UpdateOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.PUT)
+            .clusterPath("/apis/admissionregistration.k8s.io/v1/mutatingwebhookconfigurations/{name}")
+            .pathVariable("name", name)
+            .body(body)
+            .options(options)
+            .build();
+
+        return connectionContext.exchange(request, MutatingWebhookConfiguration.class);
+    }
+
+    @Override
+    public Flux<WatchEvent<MutatingWebhookConfiguration>> watch(ListOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.GET)
+            .clusterPath("/apis/admissionregistration.k8s.io/v1/mutatingwebhookconfigurations")
+            .queryParameter("watch", true)
+            .options(options)
+            .build();
+
+        return connectionContext.watch(request, MutatingWebhookConfiguration.class);
+    }
+
+}
@@ -25,7 +25,9 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface ValidatingWebhookConfigurationClient {
@@ -55,6 +57,11 @@ public interface ValidatingWebhookConfigurationClient {
      */
     Mono<ValidatingWebhookConfigurationList> list(ListOptions options);
 
+    /**
+     * list all objects of kind ValidatingWebhookConfiguration, page by page
+     */
+    Flux<ValidatingWebhookConfiguration> listAll(ListOptions options);
+
     /**
      * partially update the specified ValidatingWebhookConfiguration
      */
@@ -63,6 +70,11 @@ public interface ValidatingWebhookConfigurationClient {
     /**
      * replace the specified ValidatingWebhookConfiguration
      */
-    Mono<ValidatingWebhookConfiguration> update(ValidatingWebhookConfiguration body, UpdateOptions options);
+    Mono<ValidatingWebhookConfiguration> update(String name, ValidatingWebhookConfiguration body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind ValidatingWebhookConfiguration
+     */
+    Flux<WatchEvent<ValidatingWebhookConfiguration>> watch(ListOptions options);
 
 }
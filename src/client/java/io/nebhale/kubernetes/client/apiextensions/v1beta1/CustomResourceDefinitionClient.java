@@ -25,7 +25,9 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface CustomResourceDefinitionClient {
@@ -60,6 +62,11 @@ public interface CustomResourceDefinitionClient {
      */
     Mono<CustomResourceDefinitionList> list(ListOptions options);
 
+    /**
+     * list all objects of kind CustomResourceDefinition, page by page
+     */
+    Flux<CustomResourceDefinition> listAll(ListOptions options);
+
     /**
      * partially update the specified CustomResourceDefinition
      */
@@ -73,11 +80,16 @@ public interface CustomResourceDefinitionClient {
     /**
      * replace the specified CustomResourceDefinition
      */
-    Mono<CustomResourceDefinition> update(CustomResourceDefinition body, UpdateOptions options);
+    Mono<CustomResourceDefinition> update(String name, CustomResourceDefinition body, UpdateOptions options);
 
     /**
      * replace status of the specified CustomResourceDefinition
      */
-    Mono<CustomResourceDefinition> updateStatus(CustomResourceDefinition body, UpdateOptions options);
+    Mono<CustomResourceDefinition> updateStatus(String name, CustomResourceDefinition body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind CustomResourceDefinition
+     */
+    Flux<WatchEvent<CustomResourceDefinition>> watch(ListOptions options);
 
 }
@@ -25,7 +25,9 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface APIServiceClient {
@@ -60,6 +62,11 @@ public interface APIServiceClient {
      */
     Mono<APIServiceList> list(ListOptions options);
 
+    /**
+     * list all objects of kind APIService, page by page
+     */
+    Flux<APIService> listAll(ListOptions options);
+
     /**
      * partially update the specified APIService
      */
@@ -73,11 +80,16 @@ public interface APIServiceClient {
     /**
      * replace the specified APIService
      */
-    Mono<APIService> update(APIService body, UpdateOptions options);
+    Mono<APIService> update(String name, APIService body, UpdateOptions options);
 
     /**
      * replace status of the specified APIService
      */
-    Mono<APIService> updateStatus(APIService body, UpdateOptions options);
+    Mono<APIService> updateStatus(String name, APIService body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind APIService
+     */
+    Flux<WatchEvent<APIService>> watch(ListOptions options);
 
 }
@@ -25,7 +25,9 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface ControllerRevisionClient {
@@ -55,6 +57,11 @@ public interface ControllerRevisionClient {
      */
     Mono<ControllerRevisionList> list(ListOptions options);
 
+    /**
+     * list all objects of kind ControllerRevision, page by page
+     */
+    Flux<ControllerRevision> listAll(ListOptions options);
+
     /**
      * partially update the specified ControllerRevision
      */
@@ -63,6 +70,11 @@ public interface ControllerRevisionClient {
     /**
      * replace the specified ControllerRevision
      */
-    Mono<ControllerRevision> update(ControllerRevision body, UpdateOptions options);
+    Mono<ControllerRevision> update(String name, ControllerRevision body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind ControllerRevision
+     */
+    Flux<WatchEvent<ControllerRevision>> watch(ListOptions options);
 
 }
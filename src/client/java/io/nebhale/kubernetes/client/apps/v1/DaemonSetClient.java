@@ -25,7 +25,9 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface DaemonSetClient {
@@ -60,6 +62,11 @@ public interface DaemonSetClient {
      */
     Mono<DaemonSetList> list(ListOptions options);
 
+    /**
+     * list all objects of kind DaemonSet, page by page
+     */
+    Flux<DaemonSet> listAll(ListOptions options);
+
     /**
      * partially update the specified DaemonSet
      */
@@ -73,11 +80,16 @@ public interface DaemonSetClient {
     /**
      * replace the specified DaemonSet
      */
-    Mono<DaemonSet> update(DaemonSet body, UpdateOptions options);
+    Mono<DaemonSet> update(String name, DaemonSet body, UpdateOptions options);
 
     /**
      * replace status of the specified DaemonSet
      */
-    Mono<DaemonSet> updateStatus(DaemonSet body, UpdateOptions options);
+    Mono<DaemonSet> updateStatus(String name, DaemonSet body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind DaemonSet
+     */
+    Flux<WatchEvent<DaemonSet>> watch(ListOptions options);
 
 }
@@ -25,7 +25,9 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface DeploymentClient {
@@ -60,6 +62,11 @@ public interface DeploymentClient {
      */
     Mono<DeploymentList> list(ListOptions options);
 
+    /**
+     * list all objects of kind Deployment, page by page
+     */
+    Flux<Deployment> listAll(ListOptions options);
+
     /**
      * partially update the specified Deployment
      */
@@ -73,12 +80,16 @@ public interface DeploymentClient {
     /**
      * replace the specified Deployment
      */
-    Mono<Deployment> update(Deployment body, UpdateOptions options);
-
+    Mono<Deployment> update(String name, Deployment body, UpdateOptions options);
 
     /**
      * replace status of the specified Deployment
      */
-    Mono<Deployment> updateStatus(Deployment body, UpdateOptions options);
+    Mono<Deployment> updateStatus(String name, Deployment body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind Deployment
+     */
+    Flux<WatchEvent<Deployment>> watch(ListOptions options);
 
 }
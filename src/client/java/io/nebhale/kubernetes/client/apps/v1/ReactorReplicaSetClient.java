@@ -0,0 +1,233 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.client.apps.v1;
+
+import io.k8s.apps.v1.ReplicaSet;
+import io.k8s.apps.v1.ReplicaSetList;
+import io.k8s.meta.v1.CreateOptions;
+import io.k8s.meta.v1.DeleteOptions;
+import io.k8s.meta.v1.GetOptions;
+import io.k8s.meta.v1.ListOptions;
+import io.k8s.meta.v1.PatchOptions;
+import io.k8s.meta.v1.Status;
+import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
+import io.k8s.type.PatchType;
+import io.nebhale.kubernetes.engine.ConnectionContext;
+import io.nebhale.kubernetes.engine.Request;
+import io.netty.handler.codec.http.HttpMethod;
+import java.util.Arrays;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * A {@link ReplicaSetClient} that executes requests on a shared {@link ConnectionContext}.
+ */
+public final class ReactorReplicaSetClient implements ReplicaSetClient {
+
+    private final ConnectionContext connectionContext;
+
+    @Nullable
+    private final String namespace;
+
+    /**
+     * Creates a client that is not scoped to a namespace
+     *
+     * @param connectionContext the connection to execute requests on
+     */
+    public ReactorReplicaSetClient(ConnectionContext connectionContext) {
+        this(connectionContext, null);
+    }
+
+    /**
+     * Creates a client that is scoped to a namespace
+     *
+     * @param connectionContext the connection to execute requests on
+     * @param namespace         the namespace to scope requests to
+     */
+    public ReactorReplicaSetClient(ConnectionContext connectionContext, @Nullable String namespace) {
+        this.connectionContext = connectionContext;
+        this.namespace = namespace;
+    }
+
+    @Override
+    public Mono<ReplicaSet> create(ReplicaSet body, CreateOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.POST)
+            .namespacedPath("/apis/apps/v1/namespaces/{namespace}/replicasets")
+            .namespace(namespace)
+            .body(body)
+            .options(options)
+            .build();
+
+        return connectionContext.exchange(request, ReplicaSet.class);
+    }
+
+    @Override
+    public Mono<Status> delete(String name, DeleteOptions body) {
+        Request request = Request.builder()
+            .method(HttpMethod.DELETE)
+            .namespacedPath("/apis/apps/v1/namespaces/{namespace}/replicasets/{name}")
+            .namespace(namespace)
+            .pathVariable("name", name)
+            .body(body)
+            .build();
+
+        return connectionContext.exchange(request, Status.class);
+    }
+
+    @Override
+    public Mono<Status> deleteCollection(DeleteOptions body, ListOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.DELETE)
+            .namespacedPath("/apis/apps/v1/namespaces/{namespace}/replicasets")
+            .namespace(namespace)
+            .body(body)
+            .options(options)
+            .build();
+
+        return connectionContext.exchange(request, Status.class);
+    }
+
+    @Override
+    public Mono<ReplicaSet> get(String name, GetOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.GET)
+            .namespacedPath("/apis/apps/v1/namespaces/{namespace}/replicasets/{name}")
+            .namespace(namespace)
+            .pathVariable("name", name)
+            .options(options)
+            .build();
+
+        return connectionContext.exchange(request, ReplicaSet.class);
+    }
+
+    @Override
+    public Mono<ReplicaSet> getStatus(String name, GetOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.GET)
+            .namespacedPath("/apis/apps/v1/namespaces/{namespace}/replicasets/{name}/status")
+            .namespace(namespace)
+            .pathVariable("name", name)
+            .options(options)
+            .build();
+
+        return connectionContext.exchange(request, ReplicaSet.class);
+    }
+
+    @Override
+    public Mono<ReplicaSetList> list(ListOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.GET)
+            .namespacedPath("/apis/apps/v1/namespaces/{namespace}/replicasets")
+            .clusterPath("/apis/apps/v1/replicasets")
+            .namespace(namespace)
+            .options(options)
+            .build();
+
+        return connectionContext.exchange(request, ReplicaSetList.class);
+    }
+
+    @Override
+    public Flux<ReplicaSet> listAll(ListOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.GET)
+            .namespacedPath("/apis/apps/v1/namespaces/{namespace}/replicasets")
+            .clusterPath("/apis/apps/v1/replicasets")
+            .namespace(namespace)
+            .options(options)
+            .build();
+
+        return connectionContext.listAll(request, ReplicaSet.class);
+    }
+
+    @Override
+    public Mono<ReplicaSet> patch(String name, PatchType type, Object body, PatchOptions options, String... subresources) {
+        Request request = Request.builder()
+            .method(HttpMethod.PATCH)
+            .namespacedPath("/apis/apps/v1/namespaces/{namespace}/replicasets/{name}")
+            .namespace(namespace)
+            .pathVariable("name", name)
+            .contentType(type.getMediaType())
+            .body(body)
+            .options(options)
+            .subresources(Arrays.asList(subresources))
+            .build();
+
+        return connectionContext.exchange(request, ReplicaSet.class);
+    }
+
+    @Override
+    public Mono<ReplicaSet> patchStatus(String name, PatchType type, Object body, PatchOptions options, String... subresources) {
+        Request request = Request.builder()
+            .method(HttpMethod.PATCH)
+            .namespacedPath("/apis/apps/v1/namespaces/{namespace}/replicasets/{name}/status")
+            .namespace(namespace)
+            .pathVariable("name", name)
+            .contentType(type.getMediaType())
+            .body(body)
+            .options(options)
+            .subresources(Arrays.asList(subresources))
+            .build();
+
+        return connectionContext.exchange(request, ReplicaSet.class);
+    }
+
+    @Override
+    public Mono<ReplicaSet> update(String name, ReplicaSet body, UpdateOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.PUT)
+            .namespacedPath("/apis/apps/v1/namespaces/{namespace}/replicasets/{name}")
+            .namespace(namespace)
+            .pathVariable("name", name)
+            .body(body)
+            .options(options)
+            .build();
+
+        return connectionContext.exchange(request, ReplicaSet.class);
+    }
+
+    @Override
+    public Mono<ReplicaSet> updateStatus(String name, ReplicaSet body, UpdateOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.PUT)
+            .namespacedPath("/apis/apps/v1/namespaces/{namespace}/replicasets/{name}/status")
+            .namespace(namespace)
+            .pathVariable("name", name)
+            .body(body)
+            .options(options)
+            .build();
+
+        return connectionContext.exchange(request, ReplicaSet.class);
+    }
+
+    @Override
+    public Flux<WatchEvent<ReplicaSet>> watch(ListOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.GET)
+            .namespacedPath("/apis/apps/v1/namespaces/{namespace}/replicasets")
+            .clusterPath("/apis/apps/v1/replicasets")
+            .namespace(namespace)
+            .queryParameter("watch", true)
+            .options(options)
+            .build();
+
+        return connectionContext.watch(request, ReplicaSet.class);
+    }
+
+}
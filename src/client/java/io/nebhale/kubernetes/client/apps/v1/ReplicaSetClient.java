@@ -25,7 +25,9 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface ReplicaSetClient {
@@ -60,6 +62,11 @@ public interface ReplicaSetClient {
      */
     Mono<ReplicaSetList> list(ListOptions options);
 
+    /**
+     * list all objects of kind ReplicaSet, page by page
+     */
+    Flux<ReplicaSet> listAll(ListOptions options);
+
     /**
      * partially update the specified ReplicaSet
      */
@@ -73,12 +80,16 @@ public interface ReplicaSetClient {
     /**
      * replace the specified ReplicaSet
      */
-    Mono<ReplicaSet> update(ReplicaSet body, UpdateOptions options);
-
+    Mono<ReplicaSet> update(String name, ReplicaSet body, UpdateOptions options);
 
     /**
      * replace status of the specified ReplicaSet
      */
-    Mono<ReplicaSet> updateStatus(ReplicaSet body, UpdateOptions options);
+    Mono<ReplicaSet> updateStatus(String name, ReplicaSet body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind ReplicaSet
+     */
+    Flux<WatchEvent<ReplicaSet>> watch(ListOptions options);
 
 }
@@ -25,7 +25,9 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface StatefulSetClient {
@@ -60,6 +62,11 @@ public interface StatefulSetClient {
      */
     Mono<StatefulSetList> list(ListOptions options);
 
+    /**
+     * list all objects of kind StatefulSet, page by page
+     */
+    Flux<StatefulSet> listAll(ListOptions options);
+
     /**
      * partially update the specified StatefulSet
      */
@@ -73,12 +80,16 @@ public interface StatefulSetClient {
     /**
      * replace the specified StatefulSet
      */
-    Mono<StatefulSet> update(StatefulSet body, UpdateOptions options);
-
+    Mono<StatefulSet> update(String name, StatefulSet body, UpdateOptions options);
 
     /**
      * replace status of the specified StatefulSet
      */
-    Mono<StatefulSet> updateStatus(StatefulSet body, UpdateOptions options);
+    Mono<StatefulSet> updateStatus(String name, StatefulSet body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind StatefulSet
+     */
+    Flux<WatchEvent<StatefulSet>> watch(ListOptions options);
 
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.client.authorization.v1;
+
+import io.k8s.authorization.v1.SelfSubjectAccessReview;
+import io.k8s.meta.v1.CreateOptions;
+import io.nebhale.kubernetes.engine.ConnectionContext;
+import io.nebhale.kubernetes.engine.Request;
+import io.netty.handler.codec.http.HttpMethod;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Mono;
+
+/**
+ * A {@link SelfSubjectAccessReviewClient} that executes requests on a shared {@link ConnectionContext}.
+ */
+public final class ReactorSelfSubjectAccessReviewClient implements SelfSubjectAccessReviewClient {
+
+    private final ConnectionContext connectionContext;
+
+    /**
+     * Creates a client
+     *
+     * @param connectionContext the connection to execute requests on
+     */
+    public ReactorSelfSubjectAccessReviewClient(ConnectionContext connectionContext) {
+        this.connectionContext = connectionContext;
+    }
+
+    @Override
+    public Mono<SelfSubjectAccessReview> create(SelfSubjectAccessReview body, CreateOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.POST)
+            .clusterPath("/apis/authorization.k8s.io/v1/selfsubjectaccessreviews")
+            .body(body)
+            .options(options)
+            .build();
+
+        return connectionContext.exchange(request, SelfSubjectAccessReview.class);
+    }
+
+}
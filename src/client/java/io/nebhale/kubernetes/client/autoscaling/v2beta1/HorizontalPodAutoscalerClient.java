@@ -25,7 +25,9 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface HorizontalPodAutoscalerClient {
@@ -60,6 +62,11 @@ public interface HorizontalPodAutoscalerClient {
      */
     Mono<HorizontalPodAutoscalerList> list(ListOptions options);
 
+    /**
+     * list all objects of kind HorizontalPodAutoscaler, page by page
+     */
+    Flux<HorizontalPodAutoscaler> listAll(ListOptions options);
+
     /**
      * partially update the specified HorizontalPodAutoscaler
      */
@@ -73,11 +80,16 @@ public interface HorizontalPodAutoscalerClient {
     /**
      * replace the specified HorizontalPodAutoscaler
      */
-    Mono<HorizontalPodAutoscaler> update(HorizontalPodAutoscaler body, UpdateOptions options);
+    Mono<HorizontalPodAutoscaler> update(String name, HorizontalPodAutoscaler body, UpdateOptions options);
 
     /**
      * replace status of the specified HorizontalPodAutoscaler
      */
-    Mono<HorizontalPodAutoscaler> updateStatus(HorizontalPodAutoscaler body, UpdateOptions options);
+    Mono<HorizontalPodAutoscaler> updateStatus(String name, HorizontalPodAutoscaler body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind HorizontalPodAutoscaler
+     */
+    Flux<WatchEvent<HorizontalPodAutoscaler>> watch(ListOptions options);
 
 }
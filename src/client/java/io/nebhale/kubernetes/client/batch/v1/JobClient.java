@@ -25,7 +25,9 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface JobClient {
@@ -60,6 +62,11 @@ public interface JobClient {
      */
     Mono<JobList> list(ListOptions options);
 
+    /**
+     * list all objects of kind Job, page by page
+     */
+    Flux<Job> listAll(ListOptions options);
+
     /**
      * partially update the specified Job
      */
@@ -73,11 +80,16 @@ public interface JobClient {
     /**
      * replace the specified Job
      */
-    Mono<Job> update(Job body, UpdateOptions options);
+    Mono<Job> update(String name, Job body, UpdateOptions options);
 
     /**
      * replace status of the specified Job
      */
-    Mono<Job> updateStatus(Job body, UpdateOptions options);
+    Mono<Job> updateStatus(String name, Job body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind Job
+     */
+    Flux<WatchEvent<Job>> watch(ListOptions options);
 
 }
@@ -25,7 +25,9 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface CronJobClient {
@@ -60,6 +62,11 @@ public interface CronJobClient {
      */
     Mono<CronJobList> list(ListOptions options);
 
+    /**
+     * list all objects of kind CronJob, page by page
+     */
+    Flux<CronJob> listAll(ListOptions options);
+
     /**
      * partially update the specified CronJob
      */
@@ -73,11 +80,16 @@ public interface CronJobClient {
     /**
      * replace the specified CronJob
      */
-    Mono<CronJob> update(CronJob body, UpdateOptions options);
+    Mono<CronJob> update(String name, CronJob body, UpdateOptions options);
 
     /**
      * replace status of the specified CronJob
      */
-    Mono<CronJob> updateStatus(CronJob body, UpdateOptions options);
+    Mono<CronJob> updateStatus(String name, CronJob body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind CronJob
+     */
+    Flux<WatchEvent<CronJob>> watch(ListOptions options);
 
 }
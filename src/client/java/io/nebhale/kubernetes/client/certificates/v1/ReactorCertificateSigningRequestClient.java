@@ -0,0 +1,244 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.client.certificates.v1;
+
+import io.k8s.certificates.v1.CertificateSigningRequest;
+import io.k8s.certificates.v1.CertificateSigningRequestList;
+import io.k8s.meta.v1.CreateOptions;
+import io.k8s.meta.v1.DeleteOptions;
+import io.k8s.meta.v1.GetOptions;
+import io.k8s.meta.v1.ListOptions;
+import io.k8s.meta.v1.PatchOptions;
+import io.k8s.meta.v1.Status;
+import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
+import io.k8s.type.PatchType;
+import io.nebhale.kubernetes.engine.ConnectionContext;
+import io.nebhale.kubernetes.engine.Request;
+import io.netty.handler.codec.http.HttpMethod;
+import java.util.Arrays;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * A {@link CertificateSigningRequestClient} that executes requests on a shared {@link ConnectionContext}.
+ */
+public final class ReactorCertificateSigningRequestClient implements CertificateSigningRequestClient {
+
+    private final ConnectionContext connectionContext;
+
+    /**
+     * Creates a client
+     *
+     * @param connectionContext the connection to execute requests on
+     */
+    public ReactorCertificateSigningRequestClient(ConnectionContext connectionContext) {
+        this.connectionContext = connectionContext;
+    }
+
+    @Override
+    public Mono<CertificateSigningRequest> create(CertificateSigningRequest body, CreateOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.POST)
+            .clusterPath("/apis/certificates.k8s.io/v1/certificatesigningrequests")
+            .body(body)
+            .options(options)
+            .build();
+
+        return connectionContext.exchange(request, CertificateSigningRequest.class);
+    }
+
+    @Override
+    public Mono<Status> delete(String name, DeleteOptions body) {
+        Request request = Request.builder()
+            .method(HttpMethod.DELETE)
+            .clusterPath("/apis/certificates.k8s.io/v1/certificatesigningrequests/{name}")
+            .pathVariable("name", name)
+            .body(body)
+            .build();
+
+        return connectionContext.exchange(request, Status.class);
+    }
+
+    @Override
+    public Mono<Status> deleteCollection(DeleteOptions body, ListOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.DELETE)
+            .clusterPath("/apis/certificates.k8s.io/v1/certificatesigningrequests")
+            .body(body)
+            .options(options)
+            .build();
+
+        return connectionContext.exchange(request, Status.class);
+    }
+
+    @Override
+    public Mono<CertificateSigningRequest> get(String name, GetOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.GET)
+            .clusterPath("/apis/certificates.k8s.io/v1/certificatesigningrequests/{name}")
+            .pathVariable("name", name)
+            .options(options)
+            .build();
+
+        return connectionContext.exchange(request, CertificateSigningRequest.class);
+    }
+
+    @Override
+    public Mono<CertificateSigningRequest> getApproval(String name, GetOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.GET)
+            .clusterPath("/apis/certificates.k8s.io/v1/certificatesigningrequests/{name}/approval")
+            .pathVariable("name", name)
+            .options(options)
+            .build();
+
+        return connectionContext.exchange(request, CertificateSigningRequest.class);
+    }
+
+    @Override
+    public Mono<CertificateSigningRequest> getStatus(String name, GetOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.GET)
+            .clusterPath("/apis/certificates.k8s.io/v1/certificatesigningrequests/{name}/status")
+            .pathVariable("name", name)
+            .options(options)
+            .build();
+
+        return connectionContext.exchange(request, CertificateSigningRequest.class);
+    }
+
+    @Override
+    public Mono<CertificateSigningRequestList> list(ListOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.GET)
+            .clusterPath("/apis/certificates.k8s.io/v1/certificatesigningrequests")
+            .options(options)
+            .build();
+
+        return connectionContext.exchange(request, CertificateSigningRequestList.class);
+    }
+
+    @Override
+    public Flux<CertificateSigningRequest> listAll(ListOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.GET)
+            .clusterPath("/apis/certificates.k8s.io/v1/certificatesigningrequests")
+            .options(options)
+            .build();
+
+        return connectionContext.listAll(request, CertificateSigningRequest.class);
+    }
+
+    @Override
+    public Mono<CertificateSigningRequest> patch(String name, PatchType type, Object body, PatchOptions options, String... subresources) {
+        Request request = Request.builder()
+            .method(HttpMethod.PATCH)
+            .clusterPath("/apis/certificates.k8s.io/v1/certificatesigningrequests/{name}")
+            .pathVariable("name", name)
+            .contentType(type.getMediaType())
+            .body(body)
+            .options(options)
+            .subresources(Arrays.asList(subresources))
+            .build();
+
+        return connectionContext.exchange(request, CertificateSigningRequest.class);
+    }
+
+    @Override
+    public Mono<CertificateSigningRequest> patchApproval(String name, PatchType type, Object body, PatchOptions options, String... subresources) {
+        Request request = Request.builder()
+            .method(HttpMethod.PATCH)
+            .clusterPath("/apis/certificates.k8s.io/v1/certificatesigningrequests/{name}/approval")
+            .pathVariable("name", name)
+            .contentType(type.getMediaType())
+            .body(body)
+            .options(options)
+            .subresources(Arrays.asList(subresources))
+            .build();
+
+        return connectionContext.exchange(request, CertificateSigningRequest.class);
+    }
+
+    @Override
+    public Mono<CertificateSigningRequest> patchStatus(String name, PatchType type, Object body, PatchOptions options, String... subresources) {
+        Request request = Request.builder()
+            .method(HttpMethod.PATCH)
+            .clusterPath("/apis/certificates.k8s.io/v1/certificatesigningrequests/{name}/status")
+            .pathVariable("name", name)
+            .contentType(type.getMediaType())
+            .body(body)
+            .options(options)
+            .subresources(Arrays.asList(subresources))
+            .build();
+
+        return connectionContext.exchange(request, CertificateSigningRequest.class);
+    }
+
+    @Override
+    public Mono<CertificateSigningRequest> update(String name, CertificateSigningRequest body, UpdateOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.PUT)
+            .clusterPath("/apis/certificates.k8s.io/v1/certificatesigningrequests/{name}")
+            .pathVariable("name", name)
+            .body(body)
+            .options(options)
+            .build();
+
+        return connectionContext.exchange(request, CertificateSigningRequest.class);
+    }
+
+    @Override
+    public Mono<CertificateSigningRequest> updateApproval(String name, CertificateSigningRequest body, UpdateOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.PUT)
+            .clusterPath("/apis/certificates.k8s.io/v1/certificatesigningrequests/{name}/approval")
+            .pathVariable("name", name)
+            .body(body)
+            .options(options)
+            .build();
+
+        return connectionContext.exchange(request, CertificateSigningRequest.class);
+    }
+
+    @Override
+    public Mono<CertificateSigningRequest> updateStatus(String name, CertificateSigningRequest body, UpdateOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.PUT)
+            .clusterPath("/apis/certificates.k8s.io/v1/certificatesigningrequests/{name}/status")
+            .pathVariable("name", name)
+            .body(body)
+            .options(options)
+            .build();
+
+        return connectionContext.exchange(request, CertificateSigningRequest.class);
+    }
+
+    @Override
+    public Flux<WatchEvent<CertificateSigningRequest>> watch(ListOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.GET)
+            .clusterPath("/apis/certificates.k8s.io/v1/certificatesigningrequests")
+            .queryParameter("watch", true)
+            .options(options)
+            .build();
+
+        return connectionContext.watch(request, CertificateSigningRequest.class);
+    }
+
+}
@@ -25,7 +25,9 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface CertificateSigningRequestClient {
@@ -65,6 +67,11 @@ public interface CertificateSigningRequestClient {
      */
     Mono<CertificateSigningRequestList> list(ListOptions options);
 
+    /**
+     * list all objects of kind CertificateSigningRequest, page by page
+     */
+    Flux<CertificateSigningRequest> listAll(ListOptions options);
+
     /**
      * partially update the specified CertificateSigningRequest
      */
@@ -83,16 +90,21 @@ public interface CertificateSigningRequestClient {
     /**
      * replace the specified CertificateSigningRequest
      */
-    Mono<CertificateSigningRequest> update(CertificateSigningRequest body, UpdateOptions options);
+    Mono<CertificateSigningRequest> update(String name, CertificateSigningRequest body, UpdateOptions options);
 
     /**
      * replace approval of the specified CertificateSigningRequest
      */
-    Mono<CertificateSigningRequest> updateApproval(CertificateSigningRequest body, UpdateOptions options);
+    Mono<CertificateSigningRequest> updateApproval(String name, CertificateSigningRequest body, UpdateOptions options);
 
     /**
      * replace status of the specified CertificateSigningRequest
      */
-    Mono<CertificateSigningRequest> updateStatus(CertificateSigningRequest body, UpdateOptions options);
+    Mono<CertificateSigningRequest> updateStatus(String name, CertificateSigningRequest body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind CertificateSigningRequest
+     */
+    Flux<WatchEvent<CertificateSigningRequest>> watch(ListOptions options);
 
 }
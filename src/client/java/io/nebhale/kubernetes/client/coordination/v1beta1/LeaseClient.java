@@ -25,7 +25,9 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface LeaseClient {
@@ -55,6 +57,11 @@ public interface LeaseClient {
      */
     Mono<LeaseList> list(ListOptions options);
 
+    /**
+     * list all objects of kind Lease, page by page
+     */
+    Flux<Lease> listAll(ListOptions options);
+
     /**
      * partially update the specified Lease
      */
@@ -63,6 +70,11 @@ public interface LeaseClient {
     /**
      * replace the specified Lease
      */
-    Mono<Lease> update(Lease body, UpdateOptions options);
+    Mono<Lease> update(String name, Lease body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind Lease
+     */
+    Flux<WatchEvent<Lease>> watch(ListOptions options);
 
 }
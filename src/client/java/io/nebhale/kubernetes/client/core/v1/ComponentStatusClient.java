@@ -20,6 +20,8 @@ import io.k8s.core.v1.ComponentStatus;
 import io.k8s.core.v1.ComponentStatusList;
 import io.k8s.meta.v1.GetOptions;
 import io.k8s.meta.v1.ListOptions;
+import io.k8s.meta.v1.WatchEvent;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface ComponentStatusClient {
@@ -34,4 +36,14 @@ public interface ComponentStatusClient {
      */
     Mono<ComponentStatusList> list(ListOptions options);
 
+    /**
+     * list all objects of kind ComponentStatus, page by page
+     */
+    Flux<ComponentStatus> listAll(ListOptions options);
+
+    /**
+     * watch changes to objects of kind ComponentStatus
+     */
+    Flux<WatchEvent<ComponentStatus>> watch(ListOptions options);
+
 }
@@ -25,7 +25,9 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface ConfigMapClient {
@@ -55,6 +57,11 @@ public interface ConfigMapClient {
      */
     Mono<ConfigMapList> list(ListOptions options);
 
+    /**
+     * list all objects of kind ConfigMap, page by page
+     */
+    Flux<ConfigMap> listAll(ListOptions options);
+
     /**
      * partially update the specified ConfigMap
      */
@@ -63,6 +70,11 @@ public interface ConfigMapClient {
     /**
      * replace the specified ConfigMap
      */
-    Mono<ConfigMap> update(ConfigMap body, UpdateOptions options);
+    Mono<ConfigMap> update(String name, ConfigMap body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind ConfigMap
+     */
+    Flux<WatchEvent<ConfigMap>> watch(ListOptions options);
 
 }
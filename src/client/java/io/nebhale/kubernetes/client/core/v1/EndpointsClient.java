@@ -25,7 +25,9 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface EndpointsClient {
@@ -55,6 +57,11 @@ public interface EndpointsClient {
      */
     Mono<EndpointsList> list(ListOptions options);
 
+    /**
+     * list all objects of kind Endpoints, page by page
+     */
+    Flux<Endpoints> listAll(ListOptions options);
+
     /**
      * partially update the specified Endpoints
      */
@@ -63,6 +70,11 @@ public interface EndpointsClient {
     /**
      * replace the specified Endpoints
      */
-    Mono<Endpoints> update(Endpoints body, UpdateOptions options);
+    Mono<Endpoints> update(String name, Endpoints body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind Endpoints
+     */
+    Flux<WatchEvent<Endpoints>> watch(ListOptions options);
 
 }
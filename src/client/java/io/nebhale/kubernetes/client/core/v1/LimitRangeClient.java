@@ -25,7 +25,9 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface LimitRangeClient {
@@ -55,6 +57,11 @@ public interface LimitRangeClient {
      */
     Mono<LimitRangeList> list(ListOptions options);
 
+    /**
+     * list all objects of kind LimitRange, page by page
+     */
+    Flux<LimitRange> listAll(ListOptions options);
+
     /**
      * partially update the specified LimitRange
      */
@@ -63,6 +70,11 @@ public interface LimitRangeClient {
     /**
      * replace the specified LimitRange
      */
-    Mono<LimitRange> update(LimitRange body, UpdateOptions options);
+    Mono<LimitRange> update(String name, LimitRange body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind LimitRange
+     */
+    Flux<WatchEvent<LimitRange>> watch(ListOptions options);
 
 }
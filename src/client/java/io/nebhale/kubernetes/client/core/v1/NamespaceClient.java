@@ -25,7 +25,9 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface NamespaceClient {
@@ -48,13 +50,18 @@ public interface NamespaceClient {
     /**
      * read status of the specified Namespace
      */
-    Mono<Namespace> get(String name, GetOptions options);
+    Mono<Namespace> getStatus(String name, GetOptions options);
 
     /**
      * list or watch objects of kind Namespace
      */
     Mono<NamespaceList> list(ListOptions options);
 
+    /**
+     * list all objects of kind Namespace, page by page
+     */
+    Flux<Namespace> listAll(ListOptions options);
+
     /**
      * partially update the specified Namespace
      */
@@ -63,7 +70,7 @@ public interface NamespaceClient {
     /**
      * partially update status of the specified Namespace
      */
-    Mono<Namespace> patch(String name, PatchType type, Object body, PatchOptions options, String... subresources);
+    Mono<Namespace> patchStatus(String name, PatchType type, Object body, PatchOptions options, String... subresources);
 
     /**
      * replace the specified Namespace
@@ -73,11 +80,16 @@ public interface NamespaceClient {
     /**
      * replace finalize of the specified Namespace
      */
-    Mono<Namespace> update(String name, Namespace body, UpdateOptions options);
+    Mono<Namespace> updateFinalize(String name, Namespace body, UpdateOptions options);
 
     /**
      * replace status of the specified Namespace
      */
-    Mono<Namespace> update(Namespace body, UpdateOptions options);
+    Mono<Namespace> updateStatus(String name, Namespace body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind Namespace
+     */
+    Flux<WatchEvent<Namespace>> watch(ListOptions options);
 
 }
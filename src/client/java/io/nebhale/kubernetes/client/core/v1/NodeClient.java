@@ -25,7 +25,9 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface NodeClient {
@@ -60,6 +62,11 @@ public interface NodeClient {
      */
     Mono<NodeList> list(ListOptions options);
 
+    /**
+     * list all objects of kind Node, page by page
+     */
+    Flux<Node> listAll(ListOptions options);
+
     /**
      * partially update the specified Node
      */
@@ -73,11 +80,16 @@ public interface NodeClient {
     /**
      * replace the specified Node
      */
-    Mono<Node> update(Node body, UpdateOptions options);
+    Mono<Node> update(String name, Node body, UpdateOptions options);
 
     /**
      * replace status of the specified Node
      */
-    Mono<Node> updateStatus(Node body, UpdateOptions options);
+    Mono<Node> updateStatus(String name, Node body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind Node
+     */
+    Flux<WatchEvent<Node>> watch(ListOptions options);
 
 }
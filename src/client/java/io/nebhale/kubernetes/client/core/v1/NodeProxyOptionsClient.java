@@ -1,5 +1,5 @@
 /*
- * Copyright 2020 the original author or authors.
+ * Copyright 2020-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,73 +22,73 @@ import reactor.core.publisher.Mono;
 public interface NodeProxyOptionsClient {
 
     /**
-     * connect GET requests to proxy of Node
+     * connect DELETE requests to proxy of Node
      */
-    Mono<Void> connectProxy(String name, String path);
+    Mono<Void> connectDeleteProxy(String name, String path);
 
     /**
-     * connect PUT requests to proxy of Node
+     * connect DELETE requests to proxy of Node
      */
-    Mono<Void> connectProxy(String name, String path);
+    Mono<Void> connectDeleteProxyWithPath(String name, String path);
 
     /**
-     * connect HEAD requests to proxy of Node
+     * connect GET requests to proxy of Node
      */
-    Mono<Void> connectProxy(String name, String path);
+    Mono<Void> connectGetProxy(String name, String path);
 
     /**
-     * connect POST requests to proxy of Node
+     * connect GET requests to proxy of Node
      */
-    Mono<Void> connectProxy(String name, String path);
+    Mono<Void> connectGetProxyWithPath(String name, String path);
 
     /**
-     * connect DELETE requests to proxy of Node
+     * connect HEAD requests to proxy of Node
      */
-    Mono<Void> connectProxy(String name, String path);
+    Mono<Void> connectHeadProxy(String name, String path);
 
     /**
-     * connect PATCH requests to proxy of Node
+     * connect HEAD requests to proxy of Node
      */
-    Mono<Void> connectProxy(String name, String path);
+    Mono<Void> connectHeadProxyWithPath(String name, String path);
 
     /**
      * connect OPTIONS requests to proxy of Node
      */
-    Mono<Void> connectProxy(String name, String path);
+    Mono<Void> connectOptionsProxy(String name, String path);
 
     /**
-     * connect GET requests to proxy of Node
+     * connect OPTIONS requests to proxy of Node
      */
-    Mono<Void> connectProxy/{path}(String name, String path, String path);
+    Mono<Void> connectOptionsProxyWithPath(String name, String path);
 
     /**
-     * connect PUT requests to proxy of Node
+     * connect PATCH requests to proxy of Node
      */
-    Mono<Void> connectProxy/{path}(String name, String path, String path);
+    Mono<Void> connectPatchProxy(String name, String path);
 
     /**
-     * connect HEAD requests to proxy of Node
+     * connect PATCH requests to proxy of Node
      */
-    Mono<Void> connectProxy/{path}(String name, String path, String path);
+    Mono<Void> connectPatchProxyWithPath(String name, String path);
 
     /**
      * connect POST requests to proxy of Node
      */
-    Mono<Void> connectProxy/{path}(String name, String path, String path);
+    Mono<Void> connectPostProxy(String name, String path);
 
     /**
-     * connect DELETE requests to proxy of Node
+     * connect POST requests to proxy of Node
      */
-    Mono<Void> connectProxy/{path}(String name, String path, String path);
+    Mono<Void> connectPostProxyWithPath(String name, String path);
 
     /**
-     * connect PATCH requests to proxy of Node
+     * connect PUT requests to proxy of Node
      */
-    Mono<Void> connectProxy/{path}(String name, String path, String path);
+    Mono<Void> connectPutProxy(String name, String path);
 
     /**
-     * connect OPTIONS requests to proxy of Node
+     * connect PUT requests to proxy of Node
      */
-    Mono<Void> connectProxy/{path}(String name, String path, String path);
+    Mono<Void> connectPutProxyWithPath(String name, String path);
 
 }
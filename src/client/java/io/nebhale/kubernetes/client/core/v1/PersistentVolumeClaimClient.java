@@ -25,7 +25,9 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface PersistentVolumeClaimClient {
@@ -60,6 +62,11 @@ public interface PersistentVolumeClaimClient {
      */
     Mono<PersistentVolumeClaimList> list(ListOptions options);
 
+    /**
+     * list all objects of kind PersistentVolumeClaim, page by page
+     */
+    Flux<PersistentVolumeClaim> listAll(ListOptions options);
+
     /**
      * partially update the specified PersistentVolumeClaim
      */
@@ -73,11 +80,16 @@ public interface PersistentVolumeClaimClient {
     /**
      * replace the specified PersistentVolumeClaim
      */
-    Mono<PersistentVolumeClaim> update(PersistentVolumeClaim body, UpdateOptions options);
+    Mono<PersistentVolumeClaim> update(String name, PersistentVolumeClaim body, UpdateOptions options);
 
     /**
      * replace status of the specified PersistentVolumeClaim
      */
-    Mono<PersistentVolumeClaim> updateStatus(PersistentVolumeClaim body, UpdateOptions options);
+    Mono<PersistentVolumeClaim> updateStatus(String name, PersistentVolumeClaim body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind PersistentVolumeClaim
+     */
+    Flux<WatchEvent<PersistentVolumeClaim>> watch(ListOptions options);
 
 }
@@ -25,7 +25,9 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface PersistentVolumeClient {
@@ -60,6 +62,11 @@ public interface PersistentVolumeClient {
      */
     Mono<PersistentVolumeList> list(ListOptions options);
 
+    /**
+     * list all objects of kind PersistentVolume, page by page
+     */
+    Flux<PersistentVolume> listAll(ListOptions options);
+
     /**
      * partially update the specified PersistentVolume
      */
@@ -73,11 +80,16 @@ public interface PersistentVolumeClient {
     /**
      * replace the specified PersistentVolume
      */
-    Mono<PersistentVolume> update(PersistentVolume body, UpdateOptions options);
+    Mono<PersistentVolume> update(String name, PersistentVolume body, UpdateOptions options);
 
     /**
      * replace status of the specified PersistentVolume
      */
-    Mono<PersistentVolume> updateStatus(PersistentVolume body, UpdateOptions options);
+    Mono<PersistentVolume> updateStatus(String name, PersistentVolume body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind PersistentVolume
+     */
+    Flux<WatchEvent<PersistentVolume>> watch(ListOptions options);
 
 }
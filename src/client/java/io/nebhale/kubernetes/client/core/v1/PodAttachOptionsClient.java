@@ -1,5 +1,5 @@
 /*
- * Copyright 2020 the original author or authors.
+ * Copyright 2020-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,19 +16,17 @@
 
 package io.nebhale.kubernetes.client.core.v1;
 
-import java.lang.Void;
+import io.nebhale.kubernetes.engine.RemoteCommand;
+import io.nebhale.kubernetes.engine.TerminalSize;
+import java.nio.ByteBuffer;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
 
 public interface PodAttachOptionsClient {
 
     /**
-     * connect GET requests to attach of Pod
+     * connect to attach of Pod, streaming its channels
      */
-    Mono<Void> connectAttach(String container, String name, Boolean stderr, Boolean stdin, Boolean stdout, Boolean tty);
-
-    /**
-     * connect POST requests to attach of Pod
-     */
-    Mono<Void> connectAttach(String container, String name, Boolean stderr, Boolean stdin, Boolean stdout, Boolean tty);
+    Mono<RemoteCommand> connectAttach(String container, String name, Boolean stderr, Boolean stdin, Boolean stdout, Boolean tty, Publisher<ByteBuffer> input, Publisher<TerminalSize> resize);
 
 }
@@ -25,7 +25,10 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.type.PatchType;
+import io.nebhale.kubernetes.engine.LogLine;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface PodClient {
@@ -65,6 +68,11 @@ public interface PodClient {
      */
     Mono<PodList> list(ListOptions options);
 
+    /**
+     * list all objects of kind Pod, page by page
+     */
+    Flux<Pod> listAll(ListOptions options);
+
     /**
      * partially update the specified Pod
      */
@@ -75,14 +83,24 @@ public interface PodClient {
      */
     Mono<Pod> patchStatus(String name, PatchType type, Object body, PatchOptions options, String... subresources);
 
+    /**
+     * stream the log of the specified Pod, line by line
+     */
+    Flux<LogLine> streamLog(String container, Boolean follow, Boolean insecureSkipTLSVerifyBackend, Integer limitBytes, String name, Boolean previous, Integer sinceSeconds, Integer tailLines, Boolean timestamps, GetOptions options);
+
     /**
      * replace the specified Pod
      */
-    Mono<Pod> update(Pod body, UpdateOptions options);
+    Mono<Pod> update(String name, Pod body, UpdateOptions options);
 
     /**
      * replace status of the specified Pod
      */
-    Mono<Pod> updateStatus(Pod body, UpdateOptions options);
+    Mono<Pod> updateStatus(String name, Pod body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind Pod
+     */
+    Flux<WatchEvent<Pod>> watch(ListOptions options);
 
 }
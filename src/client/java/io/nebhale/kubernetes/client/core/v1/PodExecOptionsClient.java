@@ -1,5 +1,5 @@
 /*
- * Copyright 2020 the original author or authors.
+ * Copyright 2020-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,19 +16,18 @@
 
 package io.nebhale.kubernetes.client.core.v1;
 
-import java.lang.Void;
+import io.nebhale.kubernetes.engine.RemoteCommand;
+import io.nebhale.kubernetes.engine.TerminalSize;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
 
 public interface PodExecOptionsClient {
 
     /**
-     * connect GET requests to exec of Pod
+     * connect to exec of Pod, streaming its channels
      */
-    Mono<Void> connectExec(String command, String container, String name, Boolean stderr, Boolean stdin, Boolean stdout, Boolean tty);
-
-    /**
-     * connect POST requests to exec of Pod
-     */
-    Mono<Void> connectExec(String command, String container, String name, Boolean stderr, Boolean stdin, Boolean stdout, Boolean tty);
+    Mono<RemoteCommand> connectExec(List<String> command, String container, String name, Boolean stderr, Boolean stdin, Boolean stdout, Boolean tty, Publisher<ByteBuffer> input, Publisher<TerminalSize> resize);
 
 }
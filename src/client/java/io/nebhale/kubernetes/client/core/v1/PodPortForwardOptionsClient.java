@@ -1,5 +1,5 @@
 /*
- * Copyright 2020 the original author or authors.
+ * Copyright 2020-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,19 +16,16 @@
 
 package io.nebhale.kubernetes.client.core.v1;
 
-import java.lang.Void;
+import io.nebhale.kubernetes.engine.PortForward;
+import java.lang.Integer;
 import reactor.core.publisher.Mono;
 
 public interface PodPortForwardOptionsClient {
 
     /**
-     * connect GET requests to portforward of Pod
+     * connect to portforward of Pod, forwarding it to localPort on the loopback interface, or to an ephemeral port if
+     * localPort is null or 0
      */
-    Mono<Void> connectPortforward(String name, Integer ports);
-
-    /**
-     * connect POST requests to portforward of Pod
-     */
-    Mono<Void> connectPortforward(String name, Integer ports);
+    Mono<PortForward> connectPortforward(String name, Integer ports, Integer localPort);
 
 }
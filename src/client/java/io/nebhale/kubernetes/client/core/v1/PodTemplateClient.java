@@ -25,7 +25,9 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface PodTemplateClient {
@@ -55,6 +57,11 @@ public interface PodTemplateClient {
      */
     Mono<PodTemplateList> list(ListOptions options);
 
+    /**
+     * list all objects of kind PodTemplate, page by page
+     */
+    Flux<PodTemplate> listAll(ListOptions options);
+
     /**
      * partially update the specified PodTemplate
      */
@@ -63,6 +70,11 @@ public interface PodTemplateClient {
     /**
      * replace the specified PodTemplate
      */
-    Mono<PodTemplate> update(PodTemplate body, UpdateOptions options);
+    Mono<PodTemplate> update(String name, PodTemplate body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind PodTemplate
+     */
+    Flux<WatchEvent<PodTemplate>> watch(ListOptions options);
 
 }
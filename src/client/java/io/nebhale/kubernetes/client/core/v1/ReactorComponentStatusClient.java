@@ -0,0 +1,93 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.client.core.v1;
+
+import io.k8s.core.v1.ComponentStatus;
+import io.k8s.core.v1.ComponentStatusList;
+import io.k8s.meta.v1.GetOptions;
+import io.k8s.meta.v1.ListOptions;
+import io.k8s.meta.v1.WatchEvent;
+import io.nebhale.kubernetes.engine.ConnectionContext;
+import io.nebhale.kubernetes.engine.Request;
+import io.netty.handler.codec.http.HttpMethod;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * A {@link ComponentStatusClient} that executes requests on a shared {@link ConnectionContext}.
+ */
+public final class ReactorComponentStatusClient implements ComponentStatusClient {
+
+    private final ConnectionContext connectionContext;
+
+    /**
+     * Creates a client
+     *
+     * @param connectionContext the connection to execute requests on
+     */
+    public ReactorComponentStatusClient(ConnectionContext connectionContext) {
+        this.connectionContext = connectionContext;
+    }
+
+    @Override
+    public Mono<ComponentStatus> get(String name, GetOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.GET)
+            .clusterPath("/api/v1/componentstatuses/{name}")
+            .pathVariable("name", name)
+            .options(options)
+            .build();
+
+        return connectionContext.exchange(request, ComponentStatus.class);
+    }
+
+    @Override
+    public Mono<ComponentStatusList> list(ListOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.GET)
+            .clusterPath("/api/v1/componentstatuses")
+            .options(options)
+            .build();
+
+        return connectionContext.exchange(request, ComponentStatusList.class);
+    }
+
+    @Override
+    public Flux<ComponentStatus> listAll(ListOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.GET)
+            .clusterPath("/api/v1/componentstatuses")
+            .options(options)
+            .build();
+
+        return connectionContext.listAll(request, ComponentStatus.class);
+    }
+
+    @Override
+    public Flux<WatchEvent<ComponentStatus>> watch(ListOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.GET)
+            .clusterPath("/api/v1/componentstatuses")
+            .queryParameter("watch", true)
+            .options(options)
+            .build();
+
+        return connectionContext.watch(request, ComponentStatus.class);
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.client.core.v1;
+
+import io.nebhale.kubernetes.engine.ConnectionContext;
+import io.nebhale.kubernetes.engine.RemoteCommand;
+import io.nebhale.kubernetes.engine.Request;
+import io.nebhale.kubernetes.engine.TerminalSize;
+import io.netty.handler.codec.http.HttpMethod;
+import java.nio.ByteBuffer;
+import org.reactivestreams.Publisher;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Mono;
+
+/**
+ * A {@link PodAttachOptionsClient} that executes requests on a shared {@link ConnectionContext}.
+ */
+public final class ReactorPodAttachOptionsClient implements PodAttachOptionsClient {
+
+    private final ConnectionContext connectionContext;
+
+    @Nullable
+    private final String namespace;
+
+    /**
+     * Creates a client that is not scoped to a namespace
+     *
+     * @param connectionContext the connection to execute requests on
+     */
+    public ReactorPodAttachOptionsClient(ConnectionContext connectionContext) {
+        this(connectionContext, null);
+    }
+
+    /**
+     * Creates a client that is scoped to a namespace
+     *
+     * @param connectionContext the connection to execute requests on
+     * @param namespace         the namespace to scope requests to
+     */
+    public ReactorPodAttachOptionsClient(ConnectionContext connectionContext, @Nullable String namespace) {
+        this.connectionContext = connectionContext;
+        this.namespace = namespace;
+    }
+
+    @Override
+    public Mono<RemoteCommand> connectAttach(String container, String name, Boolean stderr, Boolean stdin, Boolean stdout, Boolean tty, Publisher<ByteBuffer> input, Publisher<TerminalSize> resize) {
+        Request request = Request.builder()
+            .method(HttpMethod.GET)
+            .namespacedPath("/api/v1/namespaces/{namespace}/pods/{name}/attach")
+            .namespace(namespace)
+            .queryParameter("container", container)
+            .pathVariable("name", name)
+            .queryParameter("stderr", stderr)
+            .queryParameter("stdin", stdin)
+            .queryParameter("stdout", stdout)
+            .queryParameter("tty", tty)
+            .build();
+
+        return connectionContext.connect(request, input, resize);
+    }
+
+}
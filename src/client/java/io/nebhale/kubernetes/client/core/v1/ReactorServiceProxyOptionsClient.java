@@ -0,0 +1,238 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.client.core.v1;
+
+import io.nebhale.kubernetes.engine.ConnectionContext;
+import io.nebhale.kubernetes.engine.Request;
+import io.netty.handler.codec.http.HttpMethod;
+import java.lang.Void;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Mono;
+
+/**
+ * A {@link ServiceProxyOptionsClient} that executes requests on a shared {@link ConnectionContext}.
+ */
+public final class ReactorServiceProxyOptionsClient implements ServiceProxyOptionsClient {
+
+    private final ConnectionContext connectionContext;
+
+    @Nullable
+    private final String namespace;
+
+    /**
+     * Creates a client that is not scoped to a namespace
+     *
+     * @param connectionContext the connection to execute requests on
+     */
+    public ReactorServiceProxyOptionsClient(ConnectionContext connectionContext) {
+        this(connectionContext, null);
+    }
+
+    /**
+     * Creates a client that is scoped to a namespace
+     *
+     * @param connectionContext the connection to execute requests on
+     * @param namespace         the namespace to scope requests to
+     */
+    public ReactorServiceProxyOptionsClient(ConnectionContext connectionContext, @Nullable String namespace) {
+        this.connectionContext = connectionContext;
+        this.namespace = namespace;
+    }
+
+    @Override
+    public Mono<Void> connectDeleteProxy(String name, String path) {
+        Request request = Request.builder()
+            .method(HttpMethod.DELETE)
+            .namespacedPath("/api/v1/namespaces/{namespace}/services/{name}/proxy")
+            .namespace(namespace)
+            .pathVariable("name", name)
+            .queryParameter("path", path)
+            .build();
+
+        return connectionContext.exchange(request, Void.class);
+    }
+
+    @Override
+    public Mono<Void> connectDeleteProxyWithPath(String name, String path) {
+        Request request = Request.builder()
+            .method(HttpMethod.DELETE)
+            .namespacedPath("/api/v1/namespaces/{namespace}/services/{name}/proxy/{path}")
+            .namespace(namespace)
+            .pathVariable("name", name)
+            .pathVariable("path", path)
+            .build();
+
+        return connectionContext.exchange(request, Void.class);
+    }
+
+    @Override
+    public Mono<Void> connectGetProxy(String name, String path) {
+        Request request = Request.builder()
+            .method(HttpMethod.GET)
+            .namespacedPath("/api/v1/namespaces/{namespace}/services/{name}/proxy")
+            .namespace(namespace)
+            .pathVariable("name", name)
+            .queryParameter("path", path)
+            .build();
+
+        return connectionContext.exchange(request, Void.class);
+    }
+
+    @Override
+    public Mono<Void> connectGetProxyWithPath(String name, String path) {
+        Request request = Request.builder()
+            .method(HttpMethod.GET)
+            .namespacedPath("/api/v1/namespaces/{namespace}/services/{name}/proxy/{path}")
+            .namespace(namespace)
+            .pathVariable("name", name)
+            .pathVariable("path", path)
+            .build();
+
+        return connectionContext.exchange(request, Void.class);
+    }
+
+    @Override
+    public Mono<Void> connectHeadProxy(String name, String path) {
+        Request request = Request.builder()
+            .method(HttpMethod.HEAD)
+            .namespacedPath("/api/v1/namespaces/{namespace}/services/{name}/proxy")
+            .namespace(namespace)
+            .pathVariable("name", name)
+            .queryParameter("path", path)
+            .build();
+
+        return connectionContext.exchange(request, Void.class);
+    }
+
+    @Override
+    public Mono<Void> connectHeadProxyWithPath(String name, String path) {
+        Request request = Request.builder()
+            .method(HttpMethod.HEAD)
+            .namespacedPath("/api/v1/namespaces/{namespace}/services/{name}/proxy/{path}")
+            .namespace(namespace)
+            .pathVariable("name", name)
+            .pathVariable("path", path)
+            .build();
+
+        return connectionContext.exchange(request, Void.class);
+    }
+
+    @Override
+    public Mono<Void> connectOptionsProxy(String name, String path) {
+        Request request = Request.builder()
+            .method(HttpMethod.OPTIONS)
+            .namespacedPath("/api/v1/namespaces/{namespace}/services/{name}/proxy")
+            .namespace(namespace)
+            .pathVariable("name", name)
+            .queryParameter("path", path)
+            .build();
+
+        return connectionContext.exchange(request, Void.class);
+    }
+
+    @Override
+    public Mono<Void> connectOptionsProxyWithPath(String name, String path) {
+        Request request = Request.builder()
+            .method(HttpMethod.OPTIONS)
+            .namespacedPath("/api/v1/namespaces/{namespace}/services/{name}/proxy/{path}")
+            .namespace(namespace)
+            .pathVariable("name", name)
+            .pathVariable("path", path)
+            .build();
+
+        return connectionContext.exchange(request, Void.class);
+    }
+
+    @Override
+    public Mono<Void> connectPatchProxy(String name, String path) {
+        Request request = Request.builder()
+            .method(HttpMethod.PATCH)
+            .namespacedPath("/api/v1/namespaces/{namespace}/services/{name}/proxy")
+            .namespace(namespace)
+            .pathVariable("name", name)
+            .queryParameter("path", path)
+            .build();
+
+        return connectionContext.exchange(request, Void.class);
+    }
+
+    @Override
+    public Mono<Void> connectPatchProxyWithPath(String name, String path) {
+        Request request = Request.builder()
+            .method(HttpMethod.PATCH)
+            .namespacedPath("/api/v1/namespaces/{namespace}/services/{name}/proxy/{path}")
+            .namespace(namespace)
+            .pathVariable("name", name)
+            .pathVariable("path", path)
+            .build();
+
+        return connectionContext.exchange(request, Void.class);
+    }
+
+    @Override
+    public Mono<Void> connectPostProxy(String name, String path) {
+        Request request = Request.builder()
+            .method(HttpMethod.POST)
+            .namespacedPath("/api/v1/namespaces/{namespace}/services/{name}/proxy")
+            .namespace(namespace)
+            .pathVariable("name", name)
+            .queryParameter("path", path)
+            .build();
+
+        return connectionContext.exchange(request, Void.class);
+    }
+
+    @Override
+    public Mono<Void> connectPostProxyWithPath(String name, String path) {
+        Request request = Request.builder()
+            .method(HttpMethod.POST)
+            .namespacedPath("/api/v1/namespaces/{namespace}/services/{name}/proxy/{path}")
+            .namespace(namespace)
+            .pathVariable("name", name)
+            .pathVariable("path", path)
+            .build();
+
+        return connectionContext.exchange(request, Void.class);
+    }
+
+    @Override
+    public Mono<Void> connectPutProxy(String name, String path) {
+        Request request = Request.builder()
+            .method(HttpMethod.PUT)
+            .namespacedPath("/api/v1/namespaces/{namespace}/services/{name}/proxy")
+            .namespace(namespace)
+            .pathVariable("name", name)
+            .queryParameter("path", path)
+            .build();
+
+        return connectionContext.exchange(request, Void.class);
+    }
+
+    @Override
+    public Mono<Void> connectPutProxyWithPath(String name, String path) {
+        Request request = Request.builder()
+            .method(HttpMethod.PUT)
+            .namespacedPath("/api/v1/namespaces/{namespace}/services/{name}/proxy/{path}")
+            .namespace(namespace)
+            .pathVariable("name", name)
+            .pathVariable("path", path)
+            .build();
+
+        return connectionContext.exchange(request, Void.class);
+    }
+
+}
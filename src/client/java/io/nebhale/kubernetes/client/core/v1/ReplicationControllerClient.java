@@ -25,7 +25,9 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface ReplicationControllerClient {
@@ -60,6 +62,11 @@ public interface ReplicationControllerClient {
      */
     Mono<ReplicationControllerList> list(ListOptions options);
 
+    /**
+     * list all objects of kind ReplicationController, page by page
+     */
+    Flux<ReplicationController> listAll(ListOptions options);
+
     /**
      * partially update the specified ReplicationController
      */
@@ -73,12 +80,16 @@ public interface ReplicationControllerClient {
     /**
      * replace the specified ReplicationController
      */
-    Mono<ReplicationController> update(ReplicationController body, UpdateOptions options);
-
+    Mono<ReplicationController> update(String name, ReplicationController body, UpdateOptions options);
 
     /**
      * replace status of the specified ReplicationController
      */
-    Mono<ReplicationController> updateStatus(ReplicationController body, UpdateOptions options);
+    Mono<ReplicationController> updateStatus(String name, ReplicationController body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind ReplicationController
+     */
+    Flux<WatchEvent<ReplicationController>> watch(ListOptions options);
 
 }
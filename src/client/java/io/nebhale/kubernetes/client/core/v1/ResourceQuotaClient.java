@@ -25,7 +25,9 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface ResourceQuotaClient {
@@ -60,6 +62,11 @@ public interface ResourceQuotaClient {
      */
     Mono<ResourceQuotaList> list(ListOptions options);
 
+    /**
+     * list all objects of kind ResourceQuota, page by page
+     */
+    Flux<ResourceQuota> listAll(ListOptions options);
+
     /**
      * partially update the specified ResourceQuota
      */
@@ -73,11 +80,16 @@ public interface ResourceQuotaClient {
     /**
      * replace the specified ResourceQuota
      */
-    Mono<ResourceQuota> update(ResourceQuota body, UpdateOptions options);
+    Mono<ResourceQuota> update(String name, ResourceQuota body, UpdateOptions options);
 
     /**
      * replace status of the specified ResourceQuota
      */
-    Mono<ResourceQuota> updateStatus(ResourceQuota body, UpdateOptions options);
+    Mono<ResourceQuota> updateStatus(String name, ResourceQuota body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind ResourceQuota
+     */
+    Flux<WatchEvent<ResourceQuota>> watch(ListOptions options);
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2020 the original author or authors.
+ * Copyright 2020-2021 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,64 +25,64 @@ import reactor.core.publisher.Mono;
 
 public interface ScaleClient {
 
-    /**
-     * read scale of the specified ReplicationController
-     */
-    Mono<Scale> getScale(String name, GetOptions options);
-
     /**
      * read scale of the specified Deployment
      */
-    Mono<Scale> getScale(String name, GetOptions options);
+    Mono<Scale> getDeploymentScale(String name, GetOptions options);
 
     /**
      * read scale of the specified ReplicaSet
      */
-    Mono<Scale> getScale(String name, GetOptions options);
+    Mono<Scale> getReplicaSetScale(String name, GetOptions options);
 
     /**
-     * read scale of the specified StatefulSet
+     * read scale of the specified ReplicationController
      */
-    Mono<Scale> getScale(String name, GetOptions options);
+    Mono<Scale> getReplicationControllerScale(String name, GetOptions options);
 
     /**
-     * partially update scale of the specified ReplicationController
+     * read scale of the specified StatefulSet
      */
-    Mono<Scale> patchScale(String name, PatchType type, Object body, PatchOptions options, String... subresources);
+    Mono<Scale> getStatefulSetScale(String name, GetOptions options);
 
     /**
      * partially update scale of the specified Deployment
      */
-    Mono<Scale> patchScale(String name, PatchType type, Object body, PatchOptions options, String... subresources);
+    Mono<Scale> patchDeploymentScale(String name, PatchType type, Object body, PatchOptions options, String... subresources);
 
     /**
      * partially update scale of the specified ReplicaSet
      */
-    Mono<Scale> patchScale(String name, PatchType type, Object body, PatchOptions options, String... subresources);
+    Mono<Scale> patchReplicaSetScale(String name, PatchType type, Object body, PatchOptions options, String... subresources);
 
     /**
-     * partially update scale of the specified StatefulSet
+     * partially update scale of the specified ReplicationController
      */
-    Mono<Scale> patchScale(String name, PatchType type, Object body, PatchOptions options, String... subresources);
+    Mono<Scale> patchReplicationControllerScale(String name, PatchType type, Object body, PatchOptions options, String... subresources);
 
     /**
-     * replace scale of the specified ReplicationController
+     * partially update scale of the specified StatefulSet
      */
-    Mono<Scale> updateScale(String name, Scale body, UpdateOptions options);
+    Mono<Scale> patchStatefulSetScale(String name, PatchType type, Object body, PatchOptions options, String... subresources);
 
     /**
      * replace scale of the specified Deployment
      */
-    Mono<Scale> updateScale(String name, Scale body, UpdateOptions options);
+    Mono<Scale> updateDeploymentScale(String name, Scale body, UpdateOptions options);
 
     /**
      * replace scale of the specified ReplicaSet
      */
-    Mono<Scale> updateScale(String name, Scale body, UpdateOptions options);
+    Mono<Scale> updateReplicaSetScale(String name, Scale body, UpdateOptions options);
+
+    /**
+     * replace scale of the specified ReplicationController
+     */
+    Mono<Scale> updateReplicationControllerScale(String name, Scale body, UpdateOptions options);
 
     /**
      * replace scale of the specified StatefulSet
      */
-    Mono<Scale> updateScale(String name, Scale body, UpdateOptions options);
+    Mono<Scale> updateStatefulSetScale(String name, Scale body, UpdateOptions options);
 
 }
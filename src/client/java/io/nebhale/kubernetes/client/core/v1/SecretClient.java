@@ -25,7 +25,9 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface SecretClient {
@@ -55,6 +57,11 @@ public interface SecretClient {
      */
     Mono<SecretList> list(ListOptions options);
 
+    /**
+     * list all objects of kind Secret, page by page
+     */
+    Flux<Secret> listAll(ListOptions options);
+
     /**
      * partially update the specified Secret
      */
@@ -63,6 +70,11 @@ public interface SecretClient {
     /**
      * replace the specified Secret
      */
-    Mono<Secret> update(Secret body, UpdateOptions options);
+    Mono<Secret> update(String name, Secret body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind Secret
+     */
+    Flux<WatchEvent<Secret>> watch(ListOptions options);
 
 }
@@ -25,7 +25,9 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface ServiceAccountClient {
@@ -55,6 +57,11 @@ public interface ServiceAccountClient {
      */
     Mono<ServiceAccountList> list(ListOptions options);
 
+    /**
+     * list all objects of kind ServiceAccount, page by page
+     */
+    Flux<ServiceAccount> listAll(ListOptions options);
+
     /**
      * partially update the specified ServiceAccount
      */
@@ -63,6 +70,11 @@ public interface ServiceAccountClient {
     /**
      * replace the specified ServiceAccount
      */
-    Mono<ServiceAccount> update(ServiceAccount body, UpdateOptions options);
+    Mono<ServiceAccount> update(String name, ServiceAccount body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind ServiceAccount
+     */
+    Flux<WatchEvent<ServiceAccount>> watch(ListOptions options);
 
 }
@@ -25,7 +25,9 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface ServiceClient {
@@ -55,6 +57,11 @@ public interface ServiceClient {
      */
     Mono<ServiceList> list(ListOptions options);
 
+    /**
+     * list all objects of kind Service, page by page
+     */
+    Flux<Service> listAll(ListOptions options);
+
     /**
      * partially update the specified Service
      */
@@ -68,11 +75,16 @@ public interface ServiceClient {
     /**
      * replace the specified Service
      */
-    Mono<Service> update(Service body, UpdateOptions options);
+    Mono<Service> update(String name, Service body, UpdateOptions options);
 
     /**
      * replace status of the specified Service
      */
-    Mono<Service> updateStatus(Service body, UpdateOptions options);
+    Mono<Service> updateStatus(String name, Service body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind Service
+     */
+    Flux<WatchEvent<Service>> watch(ListOptions options);
 
 }
@@ -25,7 +25,9 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface EndpointSliceClient {
@@ -55,6 +57,11 @@ public interface EndpointSliceClient {
      */
     Mono<EndpointSliceList> list(ListOptions options);
 
+    /**
+     * list all objects of kind EndpointSlice, page by page
+     */
+    Flux<EndpointSlice> listAll(ListOptions options);
+
     /**
      * partially update the specified EndpointSlice
      */
@@ -63,6 +70,11 @@ public interface EndpointSliceClient {
     /**
      * replace the specified EndpointSlice
      */
-    Mono<EndpointSlice> update(EndpointSlice body, UpdateOptions options);
+    Mono<EndpointSlice> update(String name, EndpointSlice body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind EndpointSlice
+     */
+    Flux<WatchEvent<EndpointSlice>> watch(ListOptions options);
 
 }
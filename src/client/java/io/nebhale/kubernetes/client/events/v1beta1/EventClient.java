@@ -25,7 +25,9 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface EventClient {
@@ -55,6 +57,11 @@ public interface EventClient {
      */
     Mono<EventList> list(ListOptions options);
 
+    /**
+     * list all objects of kind Event, page by page
+     */
+    Flux<Event> listAll(ListOptions options);
+
     /**
      * partially update the specified Event
      */
@@ -63,6 +70,11 @@ public interface EventClient {
     /**
      * replace the specified Event
      */
-    Mono<Event> update(Event body, UpdateOptions options);
+    Mono<Event> update(String name, Event body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind Event
+     */
+    Flux<WatchEvent<Event>> watch(ListOptions options);
 
 }
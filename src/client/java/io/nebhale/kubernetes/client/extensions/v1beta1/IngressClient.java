@@ -25,7 +25,9 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface IngressClient {
@@ -60,6 +62,11 @@ public interface IngressClient {
      */
     Mono<IngressList> list(ListOptions options);
 
+    /**
+     * list all objects of kind Ingress, page by page
+     */
+    Flux<Ingress> listAll(ListOptions options);
+
     /**
      * partially update the specified Ingress
      */
@@ -73,11 +80,16 @@ public interface IngressClient {
     /**
      * replace the specified Ingress
      */
-    Mono<Ingress> update(Ingress body, UpdateOptions options);
+    Mono<Ingress> update(String name, Ingress body, UpdateOptions options);
 
     /**
      * replace status of the specified Ingress
      */
-    Mono<Ingress> updateStatus(Ingress body, UpdateOptions options);
+    Mono<Ingress> updateStatus(String name, Ingress body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind Ingress
+     */
+    Flux<WatchEvent<Ingress>> watch(ListOptions options);
 
 }
@@ -23,9 +23,11 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.networking.v1.NetworkPolicy;
 import io.k8s.networking.v1.NetworkPolicyList;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface NetworkPolicyClient {
@@ -55,6 +57,11 @@ public interface NetworkPolicyClient {
      */
     Mono<NetworkPolicyList> list(ListOptions options);
 
+    /**
+     * list all objects of kind NetworkPolicy, page by page
+     */
+    Flux<NetworkPolicy> listAll(ListOptions options);
+
     /**
      * partially update the specified NetworkPolicy
      */
@@ -63,6 +70,11 @@ public interface NetworkPolicyClient {
     /**
      * replace the specified NetworkPolicy
      */
-    Mono<NetworkPolicy> update(NetworkPolicy body, UpdateOptions options);
+    Mono<NetworkPolicy> update(String name, NetworkPolicy body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind NetworkPolicy
+     */
+    Flux<WatchEvent<NetworkPolicy>> watch(ListOptions options);
 
 }
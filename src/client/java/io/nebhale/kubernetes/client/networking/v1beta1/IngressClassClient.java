@@ -23,9 +23,11 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.networking.v1beta1.IngressClass;
 import io.k8s.networking.v1beta1.IngressClassList;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface IngressClassClient {
@@ -55,6 +57,11 @@ public interface IngressClassClient {
      */
     Mono<IngressClassList> list(ListOptions options);
 
+    /**
+     * list all objects of kind IngressClass, page by page
+     */
+    Flux<IngressClass> listAll(ListOptions options);
+
     /**
      * partially update the specified IngressClass
      */
@@ -63,6 +70,11 @@ public interface IngressClassClient {
     /**
      * replace the specified IngressClass
      */
-    Mono<IngressClass> update(IngressClass body, UpdateOptions options);
+    Mono<IngressClass> update(String name, IngressClass body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind IngressClass
+     */
+    Flux<WatchEvent<IngressClass>> watch(ListOptions options);
 
 }
@@ -23,9 +23,11 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.node.v1beta1.RuntimeClass;
 import io.k8s.node.v1beta1.RuntimeClassList;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface RuntimeClassClient {
@@ -55,6 +57,11 @@ public interface RuntimeClassClient {
      */
     Mono<RuntimeClassList> list(ListOptions options);
 
+    /**
+     * list all objects of kind RuntimeClass, page by page
+     */
+    Flux<RuntimeClass> listAll(ListOptions options);
+
     /**
      * partially update the specified RuntimeClass
      */
@@ -63,6 +70,11 @@ public interface RuntimeClassClient {
     /**
      * replace the specified RuntimeClass
      */
-    Mono<RuntimeClass> update(RuntimeClass body, UpdateOptions options);
+    Mono<RuntimeClass> update(String name, RuntimeClass body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind RuntimeClass
+     */
+    Flux<WatchEvent<RuntimeClass>> watch(ListOptions options);
 
 }
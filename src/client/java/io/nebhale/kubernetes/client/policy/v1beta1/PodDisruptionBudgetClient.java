@@ -23,9 +23,11 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.policy.v1beta1.PodDisruptionBudget;
 import io.k8s.policy.v1beta1.PodDisruptionBudgetList;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface PodDisruptionBudgetClient {
@@ -60,6 +62,11 @@ public interface PodDisruptionBudgetClient {
      */
     Mono<PodDisruptionBudgetList> list(ListOptions options);
 
+    /**
+     * list all objects of kind PodDisruptionBudget, page by page
+     */
+    Flux<PodDisruptionBudget> listAll(ListOptions options);
+
     /**
      * partially update the specified PodDisruptionBudget
      */
@@ -73,11 +80,16 @@ public interface PodDisruptionBudgetClient {
     /**
      * replace the specified PodDisruptionBudget
      */
-    Mono<PodDisruptionBudget> update(PodDisruptionBudget body, UpdateOptions options);
+    Mono<PodDisruptionBudget> update(String name, PodDisruptionBudget body, UpdateOptions options);
 
     /**
      * replace status of the specified PodDisruptionBudget
      */
-    Mono<PodDisruptionBudget> updateStatus(PodDisruptionBudget body, UpdateOptions options);
+    Mono<PodDisruptionBudget> updateStatus(String name, PodDisruptionBudget body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind PodDisruptionBudget
+     */
+    Flux<WatchEvent<PodDisruptionBudget>> watch(ListOptions options);
 
 }
@@ -23,9 +23,11 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.policy.v1beta1.PodSecurityPolicy;
 import io.k8s.policy.v1beta1.PodSecurityPolicyList;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface PodSecurityPolicyClient {
@@ -55,6 +57,11 @@ public interface PodSecurityPolicyClient {
      */
     Mono<PodSecurityPolicyList> list(ListOptions options);
 
+    /**
+     * list all objects of kind PodSecurityPolicy, page by page
+     */
+    Flux<PodSecurityPolicy> listAll(ListOptions options);
+
     /**
      * partially update the specified PodSecurityPolicy
      */
@@ -63,6 +70,11 @@ public interface PodSecurityPolicyClient {
     /**
      * replace the specified PodSecurityPolicy
      */
-    Mono<PodSecurityPolicy> update(PodSecurityPolicy body, UpdateOptions options);
+    Mono<PodSecurityPolicy> update(String name, PodSecurityPolicy body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind PodSecurityPolicy
+     */
+    Flux<WatchEvent<PodSecurityPolicy>> watch(ListOptions options);
 
 }
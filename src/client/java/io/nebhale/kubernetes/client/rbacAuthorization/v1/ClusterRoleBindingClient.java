@@ -23,9 +23,11 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.rbac.v1.ClusterRoleBinding;
 import io.k8s.rbac.v1.ClusterRoleBindingList;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface ClusterRoleBindingClient {
@@ -55,6 +57,11 @@ public interface ClusterRoleBindingClient {
      */
     Mono<ClusterRoleBindingList> list(ListOptions options);
 
+    /**
+     * list all objects of kind ClusterRoleBinding, page by page
+     */
+    Flux<ClusterRoleBinding> listAll(ListOptions options);
+
     /**
      * partially update the specified ClusterRoleBinding
      */
@@ -63,6 +70,11 @@ public interface ClusterRoleBindingClient {
     /**
      * replace the specified ClusterRoleBinding
      */
-    Mono<ClusterRoleBinding> update(ClusterRoleBinding body, UpdateOptions options);
+    Mono<ClusterRoleBinding> update(String name, ClusterRoleBinding body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind ClusterRoleBinding
+     */
+    Flux<WatchEvent<ClusterRoleBinding>> watch(ListOptions options);
 
 }
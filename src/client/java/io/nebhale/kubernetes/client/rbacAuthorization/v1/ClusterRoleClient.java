@@ -23,9 +23,11 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.rbac.v1.ClusterRole;
 import io.k8s.rbac.v1.ClusterRoleList;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface ClusterRoleClient {
@@ -55,6 +57,11 @@ public interface ClusterRoleClient {
      */
     Mono<ClusterRoleList> list(ListOptions options);
 
+    /**
+     * list all objects of kind ClusterRole, page by page
+     */
+    Flux<ClusterRole> listAll(ListOptions options);
+
     /**
      * partially update the specified ClusterRole
      */
@@ -63,6 +70,11 @@ public interface ClusterRoleClient {
     /**
      * replace the specified ClusterRole
      */
-    Mono<ClusterRole> update(ClusterRole body, UpdateOptions options);
+    Mono<ClusterRole> update(String name, ClusterRole body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind ClusterRole
+     */
+    Flux<WatchEvent<ClusterRole>> watch(ListOptions options);
 
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.client.rbacAuthorization.v1beta1;
+
+import io.k8s.meta.v1.CreateOptions;
+import io.k8s.meta.v1.DeleteOptions;
+import io.k8s.meta.v1.GetOptions;
+import io.k8s.meta.v1.ListOptions;
+import io.k8s.meta.v1.PatchOptions;
+import io.k8s.meta.v1.Status;
+import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
+import io.k8s.rbac.v1beta1.ClusterRoleBinding;
+import io.k8s.rbac.v1beta1.ClusterRoleBindingList;
+import io.k8s.type.PatchType;
+import io.nebhale.kubernetes.engine.ConnectionContext;
+import io.nebhale.kubernetes.engine.Request;
+import io.netty.handler.codec.http.HttpMethod;
+import java.util.Arrays;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * A {@link ClusterRoleBindingClient} that executes requests on a shared {@link ConnectionContext}.
+ */
+public final class ReactorClusterRoleBindingClient implements ClusterRoleBindingClient {
+
+    private final ConnectionContext connectionContext;
+
+    /**
+     * Creates a client
+     *
+     * @param connectionContext the connection to execute requests on
+     */
+    public ReactorClusterRoleBindingClient(ConnectionContext connectionContext) {
+        this.connectionContext = connectionContext;
+    }
+
+    @Override
+    public Mono<ClusterRoleBinding> create(ClusterRoleBinding body, CreateOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.POST)
+            .clusterPath("/apis/rbac.authorization.k8s.io/v1beta1/clusterrolebindings")
+            .body(body)
+            .options(options)
+            .build();
+
+        return connectionContext.exchange(request, ClusterRoleBinding.class);
+    }
+
+    @Override
+    public Mono<Status> delete(String name, DeleteOptions body) {
+        Request request = Request.builder()
+            .method(HttpMethod.DELETE)
+            .clusterPath("/apis/rbac.authorization.k8s.io/v1beta1/clusterrolebindings/{name}")
+            .pathVariable("name", name)
+            .body(body)
+            .build();
+
+        return connectionContext.exchange(request, Status.class);
+    }
+
+    @Override
+    public Mono<Status> deleteCollection(DeleteOptions body, ListOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.DELETE)
+            .clusterPath("/apis/rbac.authorization.k8s.io/v1beta1/clusterrolebindings")
+            .body(body)
+            .options(options)
+            .build();
+
+        return connectionContext.exchange(request, Status.class);
+    }
+
+    @Override
+    public Mono<ClusterRoleBinding> get(String name, GetOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.GET)
+            .clusterPath("/apis/rbac.authorization.k8s.io/v1beta1/clusterrolebindings/{name}")
+            .pathVariable("name", name)
+            .options(options)
+            .build();
+
+        return connectionContext.exchange(request, ClusterRoleBinding.class);
+    }
+
+    @Override
+    public Mono<ClusterRoleBindingList> list(ListOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.GET)
+            .clusterPath("/apis/rbac.authorization.k8s.io/v1beta1/clusterrolebindings")
+            .options(options)
+            .build();
+
+        return connectionContext.exchange(request, ClusterRoleBindingList.class);
+    }
+
+    @Override
+    public Flux<ClusterRoleBinding> listAll(ListOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.GET)
+            .clusterPath("/apis/rbac.authorization.k8s.io/v1beta1/clusterrolebindings")
+            .options(options)
+            .build();
+
+        return connectionContext.listAll(request, ClusterRoleBinding.class);
+    }
+
+    @Override
+    public Mono<ClusterRoleBinding> patch(String name, PatchType type, Object body, PatchOptions options, String... subresources) {
+        Request request = Request.builder()
+            .method(HttpMethod.PATCH)
+            .clusterPath("/apis/rbac.authorization.k8s.io/v1beta1/clusterrolebindings/{name}")
+            .pathVariable("name", name)
+            .contentType(type.getMediaType())
+            .body(body)
+            .options(options)
+            .subresources(Arrays.asList(subresources))
+            .build();
+
+        return connectionContext.exchange(request, ClusterRoleBinding.class);
+    }
+
+    @Override
+    public Mono<ClusterRoleBinding> update(String name, ClusterRoleBinding body, UpdateOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.PUT)
+            .clusterPath("/apis/rbac.authorization.k8s.io/v1beta1/clusterrolebindings/{name}")
+            .pathVariable("name", name)
+            .body(body)
+            .options(options)
+            .build();
+
+        return connectionContext.exchange(request, ClusterRoleBinding.class);
+    }
+
+    @Override
+    public Flux<WatchEvent<ClusterRoleBinding>> watch(ListOptions options) {
+        Request request = Request.builder()
+            .method(HttpMethod.GET)
+            .clusterPath("/apis/rbac.authorization.k8s.io/v1beta1/clusterrolebindings")
+            .queryParameter("watch", true)
+            .options(options)
+            .build();
+
+        return connectionContext.watch(request, ClusterRoleBinding.class);
+    }
+
+}
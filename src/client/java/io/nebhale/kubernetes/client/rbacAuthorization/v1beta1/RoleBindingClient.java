@@ -23,9 +23,11 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.rbac.v1beta1.RoleBinding;
 import io.k8s.rbac.v1beta1.RoleBindingList;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface RoleBindingClient {
@@ -55,6 +57,11 @@ public interface RoleBindingClient {
      */
     Mono<RoleBindingList> list(ListOptions options);
 
+    /**
+     * list all objects of kind RoleBinding, page by page
+     */
+    Flux<RoleBinding> listAll(ListOptions options);
+
     /**
      * partially update the specified RoleBinding
      */
@@ -63,6 +70,11 @@ public interface RoleBindingClient {
     /**
      * replace the specified RoleBinding
      */
-    Mono<RoleBinding> update(RoleBinding body, UpdateOptions options);
+    Mono<RoleBinding> update(String name, RoleBinding body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind RoleBinding
+     */
+    Flux<WatchEvent<RoleBinding>> watch(ListOptions options);
 
 }
@@ -23,9 +23,11 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.rbac.v1beta1.Role;
 import io.k8s.rbac.v1beta1.RoleList;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface RoleClient {
@@ -55,6 +57,11 @@ public interface RoleClient {
      */
     Mono<RoleList> list(ListOptions options);
 
+    /**
+     * list all objects of kind Role, page by page
+     */
+    Flux<Role> listAll(ListOptions options);
+
     /**
      * partially update the specified Role
      */
@@ -63,6 +70,11 @@ public interface RoleClient {
     /**
      * replace the specified Role
      */
-    Mono<Role> update(Role body, UpdateOptions options);
+    Mono<Role> update(String name, Role body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind Role
+     */
+    Flux<WatchEvent<Role>> watch(ListOptions options);
 
 }
@@ -23,9 +23,11 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.scheduling.v1beta1.PriorityClass;
 import io.k8s.scheduling.v1beta1.PriorityClassList;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface PriorityClassClient {
@@ -55,6 +57,11 @@ public interface PriorityClassClient {
      */
     Mono<PriorityClassList> list(ListOptions options);
 
+    /**
+     * list all objects of kind PriorityClass, page by page
+     */
+    Flux<PriorityClass> listAll(ListOptions options);
+
     /**
      * partially update the specified PriorityClass
      */
@@ -63,6 +70,11 @@ public interface PriorityClassClient {
     /**
      * replace the specified PriorityClass
      */
-    Mono<PriorityClass> update(PriorityClass body, UpdateOptions options);
+    Mono<PriorityClass> update(String name, PriorityClass body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind PriorityClass
+     */
+    Flux<WatchEvent<PriorityClass>> watch(ListOptions options);
 
 }
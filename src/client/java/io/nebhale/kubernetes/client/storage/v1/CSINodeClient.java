@@ -23,9 +23,11 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.storage.v1.CSINode;
 import io.k8s.storage.v1.CSINodeList;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface CSINodeClient {
@@ -55,6 +57,11 @@ public interface CSINodeClient {
      */
     Mono<CSINodeList> list(ListOptions options);
 
+    /**
+     * list all objects of kind CSINode, page by page
+     */
+    Flux<CSINode> listAll(ListOptions options);
+
     /**
      * partially update the specified CSINode
      */
@@ -63,6 +70,11 @@ public interface CSINodeClient {
     /**
      * replace the specified CSINode
      */
-    Mono<CSINode> update(CSINode body, UpdateOptions options);
+    Mono<CSINode> update(String name, CSINode body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind CSINode
+     */
+    Flux<WatchEvent<CSINode>> watch(ListOptions options);
 
 }
@@ -23,9 +23,11 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.storage.v1.StorageClass;
 import io.k8s.storage.v1.StorageClassList;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface StorageClassClient {
@@ -55,6 +57,11 @@ public interface StorageClassClient {
      */
     Mono<StorageClassList> list(ListOptions options);
 
+    /**
+     * list all objects of kind StorageClass, page by page
+     */
+    Flux<StorageClass> listAll(ListOptions options);
+
     /**
      * partially update the specified StorageClass
      */
@@ -63,6 +70,11 @@ public interface StorageClassClient {
     /**
      * replace the specified StorageClass
      */
-    Mono<StorageClass> update(StorageClass body, UpdateOptions options);
+    Mono<StorageClass> update(String name, StorageClass body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind StorageClass
+     */
+    Flux<WatchEvent<StorageClass>> watch(ListOptions options);
 
 }
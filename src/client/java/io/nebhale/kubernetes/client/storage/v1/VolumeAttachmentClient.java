@@ -23,9 +23,11 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.storage.v1.VolumeAttachment;
 import io.k8s.storage.v1.VolumeAttachmentList;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface VolumeAttachmentClient {
@@ -60,6 +62,11 @@ public interface VolumeAttachmentClient {
      */
     Mono<VolumeAttachmentList> list(ListOptions options);
 
+    /**
+     * list all objects of kind VolumeAttachment, page by page
+     */
+    Flux<VolumeAttachment> listAll(ListOptions options);
+
     /**
      * partially update the specified VolumeAttachment
      */
@@ -73,11 +80,16 @@ public interface VolumeAttachmentClient {
     /**
      * replace the specified VolumeAttachment
      */
-    Mono<VolumeAttachment> update(VolumeAttachment body, UpdateOptions options);
+    Mono<VolumeAttachment> update(String name, VolumeAttachment body, UpdateOptions options);
 
     /**
      * replace status of the specified VolumeAttachment
      */
-    Mono<VolumeAttachment> updateStatus(VolumeAttachment body, UpdateOptions options);
+    Mono<VolumeAttachment> updateStatus(String name, VolumeAttachment body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind VolumeAttachment
+     */
+    Flux<WatchEvent<VolumeAttachment>> watch(ListOptions options);
 
 }
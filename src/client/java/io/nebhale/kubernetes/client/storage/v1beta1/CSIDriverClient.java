@@ -23,9 +23,11 @@ import io.k8s.meta.v1.ListOptions;
 import io.k8s.meta.v1.PatchOptions;
 import io.k8s.meta.v1.Status;
 import io.k8s.meta.v1.UpdateOptions;
+import io.k8s.meta.v1.WatchEvent;
 import io.k8s.storage.v1beta1.CSIDriver;
 import io.k8s.storage.v1beta1.CSIDriverList;
 import io.k8s.type.PatchType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface CSIDriverClient {
@@ -55,6 +57,11 @@ public interface CSIDriverClient {
      */
     Mono<CSIDriverList> list(ListOptions options);
 
+    /**
+     * list all objects of kind CSIDriver, page by page
+     */
+    Flux<CSIDriver> listAll(ListOptions options);
+
     /**
      * partially update the specified CSIDriver
      */
@@ -63,6 +70,11 @@ public interface CSIDriverClient {
     /**
      * replace the specified CSIDriver
      */
-    Mono<CSIDriver> update(CSIDriver body, UpdateOptions options);
+    Mono<CSIDriver> update(String name, CSIDriver body, UpdateOptions options);
+
+    /**
+     * watch changes to objects of kind CSIDriver
+     */
+    Flux<WatchEvent<CSIDriver>> watch(ListOptions options);
 
 }
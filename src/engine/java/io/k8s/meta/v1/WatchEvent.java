@@ -0,0 +1,167 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.meta.v1;
+
+import org.springframework.lang.Nullable;
+
+import java.util.function.Supplier;
+
+/**
+ * Event represents a single event to a watched resource.
+ * <p>
+ * The object of an event is decoded lazily, the first time {@link #getObject()} is called, so that events filtered on
+ * their {@link #getType() type} or {@link #getResourceVersion() resourceVersion} alone never pay for decoding it.
+ *
+ * @param <T> the type of the watched resource
+ */
+public final class WatchEvent<T extends ObjectMeta> {
+
+    public static final String GROUP = "";
+
+    public static final String KIND = "WatchEvent";
+
+    public static final String VERSION = "v1";
+
+    /**
+     * The type of event sent when an object is added
+     */
+    public static final String ADDED = "ADDED";
+
+    /**
+     * The type of event sent periodically with only the current resourceVersion of the watched collection
+     */
+    public static final String BOOKMARK = "BOOKMARK";
+
+    /**
+     * The type of event sent when an object is deleted
+     */
+    public static final String DELETED = "DELETED";
+
+    /**
+     * The type of event sent when an object is modified
+     */
+    public static final String MODIFIED = "MODIFIED";
+
+    private final String type;
+
+    @Nullable
+    private final String resourceVersion;
+
+    @Nullable
+    private volatile Supplier<T> decoder;
+
+    @Nullable
+    private volatile T object;
+
+    private WatchEvent(String type, @Nullable String resourceVersion, @Nullable Supplier<T> decoder, @Nullable T object) {
+        this.type = type;
+        this.resourceVersion = resourceVersion;
+        this.decoder = decoder;
+        this.object = object;
+    }
+
+    /**
+     * Creates an event for an already decoded object
+     *
+     * @param type   the type of the event
+     * @param object the object of the event
+     * @param <T>    the type of the watched resource
+     * @return the event
+     */
+    public static <T extends ObjectMeta> WatchEvent<T> of(String type, T object) {
+        return new WatchEvent<>(type, object.getResourceVersion(), null, object);
+    }
+
+    /**
+     * Creates an event whose object is decoded on first access
+     *
+     * @param type            the type of the event
+     * @param resourceVersion the resourceVersion of the object of the event
+     * @param decoder         decodes the object of the event. Called at most once.
+     * @param <T>             the type of the watched resource
+     * @return the event
+     */
+    public static <T extends ObjectMeta> WatchEvent<T> of(String type, @Nullable String resourceVersion, Supplier<T> decoder) {
+        return new WatchEvent<>(type, resourceVersion, decoder, null);
+    }
+
+    /**
+     * Object is:
+     * <ul>
+     *     <li>If Type is Added or Modified: the new state of the object.</li>
+     *     <li>If Type is Deleted: the state of the object immediately before deletion.</li>
+     *     <li>If Type is Bookmark: the object (instance of a type being watched) where only ResourceVersion field is
+     *     set.</li>
+     * </ul>
+     *
+     * @return the object of the event
+     */
+    public T getObject() {
+        T object = this.object;
+        if (object != null) {
+            return object;
+        }
+
+        synchronized (this) {
+            if (this.object == null) {
+                Supplier<T> decoder = this.decoder;
+                if (decoder == null) {
+                    throw new IllegalStateException("no object or decoder");
+                }
+
+                this.object = decoder.get();
+                this.decoder = null;
+            }
+
+            return this.object;
+        }
+    }
+
+    /**
+     * Returns the resourceVersion of the object of the event without decoding it
+     *
+     * @return the resourceVersion of the object of the event
+     */
+    @Nullable
+    public String getResourceVersion() {
+        return resourceVersion;
+    }
+
+    /**
+     * Returns the type of the event: {@link #ADDED}, {@link #MODIFIED}, {@link #DELETED}, or {@link #BOOKMARK}
+     *
+     * @return the type of the event
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Returns whether the object of the event has been decoded
+     *
+     * @return whether the object of the event has been decoded
+     */
+    public boolean isDecoded() {
+        return object != null;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("WatchEvent(type=%s, resourceVersion=%s)", type, resourceVersion);
+    }
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.runtime;
+
+import lombok.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Event represents a single event to a watched resource, with its object left in its {@link Unknown} envelope.
+ */
+@Value(staticConstructor = "of")
+public class RawWatchEvent {
+
+    /**
+     * The type of the event, one of {@code ADDED}, {@code MODIFIED}, {@code DELETED}, or {@code BOOKMARK}
+     */
+    @NonNull
+    String type;
+
+    /**
+     * The resourceVersion of the object of the event, read without decoding it
+     */
+    @Nullable
+    String resourceVersion;
+
+    /**
+     * The object of the event
+     */
+    @NonNull
+    Unknown object;
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.runtime;
+
+import io.k8s.meta.v1.TypeMeta;
+import lombok.Builder;
+import lombok.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Unknown allows api objects with unknown types to be passed-through. This is the envelope that every object encoded
+ * as {@code application/vnd.kubernetes.protobuf} is wrapped in: the type of the object alongside its undecoded bytes.
+ */
+@Builder
+@Value
+public class Unknown implements TypeMeta {
+
+    /**
+     * APIVersion defines the versioned schema of this representation of an object.
+     */
+    @Nullable
+    String apiVersion;
+
+    /**
+     * ContentEncoding is encoding used to encode 'Raw' data. Unspecified means no encoding.
+     */
+    @Nullable
+    String contentEncoding;
+
+    /**
+     * ContentType is serialization method used to serialize 'Raw'. Unspecified means ContentTypeJSON.
+     */
+    @Nullable
+    String contentType;
+
+    /**
+     * Kind is a string value representing the REST resource this object represents.
+     */
+    @Nullable
+    String kind;
+
+    /**
+     * Raw will hold the complete serialized object which couldn't be matched with a registered type. Most likely,
+     * nothing should be done with this except for passing it through the system.
+     */
+    @NonNull
+    byte[] raw;
+
+}
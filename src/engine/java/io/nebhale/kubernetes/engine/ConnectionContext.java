@@ -0,0 +1,875 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.engine;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.k8s.ModelModule;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.StringPool;
+import io.k8s.meta.v1.ListOptions;
+import io.k8s.meta.v1.ObjectMeta;
+import io.k8s.meta.v1.Status;
+import io.k8s.meta.v1.WatchEvent;
+import io.k8s.runtime.RawWatchEvent;
+import io.k8s.runtime.Unknown;
+import io.nebhale.kubernetes.engine.RateLimiter.VerbClass;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.ssl.SslContext;
+import lombok.ToString;
+import org.reactivestreams.Publisher;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.ByteBufMono;
+import reactor.netty.Connection;
+import reactor.netty.NettyOutbound;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientRequest;
+import reactor.netty.http.client.HttpClientResponse;
+import reactor.netty.http.client.WebsocketClientSpec;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.tcp.TcpServer;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The shared, non-blocking connection to a Kubernetes API server. A single instance multiplexes the requests of every
+ * client over a pool of keep-alive connections driven by a small number of event loop threads, and should be shared
+ * by all clients talking to the same API server.
+ */
+@ToString(of = "apiServer")
+public final class ConnectionContext implements Disposable {
+
+    private static final int DEFAULT_MAX_CONNECTIONS = 500;
+
+    private static final Duration DEFAULT_MAX_IDLE_TIME = Duration.ofSeconds(90);
+
+    private static final int DEFAULT_PAGE_SIZE = 500;
+
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private static final int PAGE_PREFETCH = 32;
+
+    private static final int LOG_PREFETCH = 8;
+
+    private static final int MAX_LOG_LINE_LENGTH = 1024 * 1024;
+
+    private static final int MAX_THROTTLED_RETRIES = 10;
+
+    private static final int MAX_WATCH_EVENT_LENGTH = 16 * 1024 * 1024;
+
+    private static final String PRIORITY_LEVEL_UID = "X-Kubernetes-PF-PriorityLevel-UID";
+
+    private static final int STATUS_GONE = 410;
+
+    private static final int STATUS_SERVICE_UNAVAILABLE = 503;
+
+    private static final int STATUS_TOO_MANY_REQUESTS = 429;
+
+    // A throttled request was never processed, so it is safe to retry whatever its verb
+    private static final Retry THROTTLED = Retry.max(MAX_THROTTLED_RETRIES)
+        .filter(t -> t instanceof StatusException && ((StatusException) t).getStatusCode() == STATUS_TOO_MANY_REQUESTS)
+        .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+
+    private static final String WATCH_EVENT_ERROR = "ERROR";
+
+    private static final TypeReference<Map<String, Object>> QUERY_PARAMETERS = new TypeReference<Map<String, Object>>() {
+    };
+
+    private final String apiServer;
+
+    @Nullable
+    private final RequestCoalescer coalescer;
+
+    private final ConnectionProvider connectionProvider;
+
+    private final HttpClient httpClient;
+
+    private final ObjectMapper objectMapper;
+
+    @Nullable
+    private final RateLimiter rateLimiter;
+
+    private final boolean shared;
+
+    @lombok.Builder
+    ConnectionContext(String apiServer, @Nullable String token, @Nullable SslContext sslContext, @Nullable Integer maxConnections,
+                      @Nullable Duration maxIdleTime, @Nullable ObjectMapper objectMapper, @Nullable RateLimiter rateLimiter) {
+
+        this.apiServer = apiServer;
+        this.coalescer = null;
+        this.rateLimiter = rateLimiter;
+
+        this.connectionProvider = ConnectionProvider.builder("kubernetes")
+            .maxConnections(Optional.ofNullable(maxConnections).orElse(DEFAULT_MAX_CONNECTIONS))
+            .maxIdleTime(Optional.ofNullable(maxIdleTime).orElse(DEFAULT_MAX_IDLE_TIME))
+            .pendingAcquireMaxCount(-1)
+            .build();
+
+        HttpClient httpClient = HttpClient.create(this.connectionProvider)
+            .baseUrl(apiServer)
+            .keepAlive(true)
+            .compress(true)
+            .headers(h -> {
+                h.set(HttpHeaderNames.ACCEPT, HttpHeaderValues.APPLICATION_JSON);
+                if (token != null) {
+                    h.set(HttpHeaderNames.AUTHORIZATION, String.format("Bearer %s", token));
+                }
+            });
+
+        if (sslContext != null) {
+            httpClient = httpClient.secure(s -> s.sslContext(sslContext));
+        }
+
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper != null ? objectMapper : defaultObjectMapper();
+        this.shared = false;
+    }
+
+    private ConnectionContext(ConnectionContext parent, ObjectMapper objectMapper, @Nullable RequestCoalescer coalescer) {
+        this.apiServer = parent.apiServer;
+        this.coalescer = coalescer;
+        this.connectionProvider = parent.connectionProvider;
+        this.httpClient = parent.httpClient;
+        this.objectMapper = objectMapper;
+        this.rateLimiter = parent.rateLimiter;
+        this.shared = true;
+    }
+
+    /**
+     * Returns an {@link ObjectMapper} configured for the Kubernetes wire format
+     *
+     * @return an {@link ObjectMapper} configured for the Kubernetes wire format
+     */
+    public static ObjectMapper defaultObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new KubernetesModule())
+            .registerModule(new ModelModule())
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+        // Singular collections are never null, so omit empty ones rather than clear server-side state
+        objectMapper.configOverride(List.class).setInclude(JsonInclude.Value.construct(JsonInclude.Include.NON_EMPTY, null));
+        objectMapper.configOverride(Map.class).setInclude(JsonInclude.Value.construct(JsonInclude.Include.NON_EMPTY, null));
+
+        return objectMapper;
+    }
+
+    /**
+     * Disposes the connections of this context. Contexts derived from another, such as with {@link
+     * #withoutManagedFields()}, {@link #withStringPool(StringPool)}, or {@link #withCoalescing(RequestCoalescer)}, share its connections and leave them to be
+     * disposed with it.
+     */
+    @Override
+    public void dispose() {
+        if (!shared) {
+            connectionProvider.dispose();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return connectionProvider.isDisposed();
+    }
+
+    /**
+     * Connects to a command running in a container, such as with the {@code exec} or {@code attach} subresources of a
+     * pod, over the {@code v4.channel.k8s.io} WebSocket subprotocol. Each command costs a single connection, and no
+     * thread is blocked while it runs.
+     *
+     * @param request the exec or attach request to connect with
+     * @param stdin   the standard input of the command. Each buffer is sent without being copied, and must not be
+     *                modified once it has been emitted.
+     * @param resize  the sizes of the terminal of the command, if it was started with a {@code tty}
+     * @return the command, emitted once connected. The connection is closed when the command completes, or when the
+     * command is disposed.
+     */
+    public Mono<RemoteCommand> connect(Request request, Publisher<ByteBuffer> stdin, Publisher<TerminalSize> resize) {
+        return limit(VerbClass.WRITE, Mono.create(sink -> {
+            Disposable connection = httpClient
+                .websocket(WebsocketClientSpec.builder()
+                    .protocols(RemoteCommand.PROTOCOL)
+                    .maxFramePayloadLength(RemoteCommand.MAX_MESSAGE_LENGTH)
+                    .build())
+                .uri(getUri(request))
+                .handle((in, out) -> {
+                    RemoteCommand command = new RemoteCommand(objectMapper, in, out);
+                    sink.success(command);
+                    return command.run(stdin, resize);
+                })
+                .subscribe(null, sink::error);
+
+            sink.onCancel(connection);
+        }));
+    }
+
+    /**
+     * Executes a request and decodes its response. If this context coalesces requests, a {@code GET} request without
+     * a body is collapsed into an identical request already in flight, keyed by its path, its options, the type
+     * of its response, and the {@link ObjectMapper} it is decoded with. Contexts that share a coalescer but decode
+     * differently, such as one derived with {@link #withoutManagedFields()}, never share a response.
+     *
+     * @param request      the request to execute
+     * @param responseType the type to decode the response as. {@link Void} discards the response, {@link String}
+     *                     returns it undecoded, and {@link Unknown} requests it as protobuf and returns it in its
+     *                     envelope.
+     * @param <T>          the type of the response
+     * @return the decoded response
+     */
+    public <T> Mono<T> exchange(Request request, Class<T> responseType) {
+        RequestCoalescer coalescer = this.coalescer;
+        if (coalescer == null || !HttpMethod.GET.equals(request.getMethod()) || request.getBody() != null) {
+            return Mono.defer(() -> exchange(request, getUri(request), responseType));
+        }
+
+        return Mono.defer(() -> {
+            String uri = getUri(request);
+            return coalescer.coalesce(Arrays.asList(request.getMethod(), uri, responseType, objectMapper), () -> exchange(request, uri, responseType));
+        });
+    }
+
+    /**
+     * Executes a list request page by page, streaming the items of each page. Items are bound one at a time as they
+     * arrive, so neither a page nor a list object is ever materialized. Once the continue token of the current page is
+     * known the next page is requested, but its items are only read as far as a small buffer allows until the current
+     * page has been consumed. Unless the request specifies a {@code limit}, pages of {@value #DEFAULT_PAGE_SIZE} items
+     * are requested.
+     * <p>
+     * If the continue token of a page expires before the next page is requested, listing resumes with the token the
+     * API server returns alongside the {@code 410 Gone} status. Items listed after that point come from a newer
+     * snapshot than the items before it, but no item is listed twice.
+     *
+     * @param request  the list request to execute
+     * @param itemType the type to decode the items of each page as
+     * @param <T>      the type of the items
+     * @return the items of all pages
+     */
+    public <T> Flux<T> listAll(Request request, Class<T> itemType) {
+        Request first = hasLimit(request) ? request : withQueryParameter(request, "limit", DEFAULT_PAGE_SIZE);
+
+        return Flux.defer(() -> {
+            Sinks.Many<String> tokens = Sinks.many().unicast().onBackpressureBuffer();
+            tokens.tryEmitNext("");
+
+            Flux<Flux<T>> pages = tokens.asFlux()
+                .map(token -> getPage(first, itemType, token, c -> {
+                    if (c.isEmpty()) {
+                        tokens.tryEmitComplete();
+                    } else {
+                        tokens.tryEmitNext(c);
+                    }
+                }));
+
+            return Flux.mergeSequential(pages, 2, PAGE_PREFETCH);
+        });
+    }
+
+    /**
+     * Returns the {@link ObjectMapper} used to encode and decode payloads
+     *
+     * @return the {@link ObjectMapper} used to encode and decode payloads
+     */
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * Executes a log request and streams the lines of the response as they arrive. Lines are framed as slices of the
+     * network buffers they arrive in, and the response is only read as fast as lines are consumed, so a followed log
+     * never completes and a log is never buffered whole. If the request asks for {@code timestamps}, the timestamp
+     * prefixing each line is parsed.
+     *
+     * @param request the log request to execute
+     * @return the lines of the log, completing when the API server closes the log
+     */
+    public Flux<LogLine> log(Request request) {
+        boolean timestamps = Boolean.parseBoolean(String.valueOf(request.getQueryParameters().get("timestamps")));
+
+        return limit(VerbClass.READ, Flux.defer(() -> httpClient
+            .request(request.getMethod())
+            .uri(getUri(request))
+            .send((r, o) -> send(request, r, o))
+            .responseConnection((r, c) -> {
+                observe(VerbClass.READ, r);
+                return receiveLines(r, c, timestamps);
+            })));
+    }
+
+    /**
+     * Forwards a port of a pod, such as with the {@code portforward} subresource of a pod, to a local port on the
+     * loopback interface. Each connection accepted on the local port is forwarded over its own connection, upgraded to
+     * the {@code v4.channel.k8s.io} WebSocket subprotocol, and data is forwarded in both directions without being
+     * copied.
+     *
+     * @param request   the port-forward request to connect with, naming a single port
+     * @param localPort the local port to forward to, or {@code 0} for an ephemeral port
+     * @return the port forward, emitted once the local port is bound. Connections are forwarded until it is disposed.
+     */
+    public Mono<PortForward> portForward(Request request, int localPort) {
+        String uri = getUri(request);
+
+        return PortForward.bind(TcpServer.create().host("localhost").port(localPort), handler ->
+            limit(VerbClass.WRITE, Flux.defer(() -> httpClient
+                .websocket(WebsocketClientSpec.builder()
+                    .protocols(RemoteCommand.PROTOCOL)
+                    .maxFramePayloadLength(RemoteCommand.MAX_MESSAGE_LENGTH)
+                    .build())
+                .uri(uri)
+                .handle(handler))));
+    }
+
+    /**
+     * Executes a watch request and decodes each event of the newline-delimited response as it arrives. The object of
+     * each event is retained undecoded until it is first read. An {@code ERROR} event terminates the returned {@link
+     * Flux} with a {@link StatusException}.
+     *
+     * @param request    the watch request to execute
+     * @param objectType the type to decode the object of each event as
+     * @param <T>        the type of the watched resource
+     * @return the events of the watch, completing when the API server closes the watch
+     */
+    public <T extends ObjectMeta> Flux<WatchEvent<T>> watch(Request request, Class<T> objectType) {
+        return limit(VerbClass.WATCH, Flux.defer(() -> httpClient
+            .request(request.getMethod())
+            .uri(getUri(request))
+            .send((r, o) -> send(request, r, o))
+            .responseConnection((r, c) -> {
+                observe(VerbClass.WATCH, r);
+                return receiveEvents(r, c, objectType);
+            })));
+    }
+
+    /**
+     * Executes a watch request as a protobuf stream and decodes the envelope of each event as it arrives. The object of
+     * each event is left in its envelope, with only its resourceVersion read. An {@code ERROR} event terminates the
+     * returned {@link Flux} with a {@link StatusException}.
+     *
+     * @param request the watch request to execute
+     * @return the events of the watch, completing when the API server closes the watch
+     */
+    public Flux<RawWatchEvent> watchUnknown(Request request) {
+        return limit(VerbClass.WATCH, Flux.defer(() -> httpClient
+            .request(request.getMethod())
+            .uri(getUri(request))
+            .send((r, o) -> send(request, r.header(HttpHeaderNames.ACCEPT, Protobuf.WATCH_MEDIA_TYPE), o))
+            .responseConnection((r, c) -> {
+                observe(VerbClass.WATCH, r);
+                return receiveUnknownEvents(r, c);
+            })));
+    }
+
+    /**
+     * Returns a context that shares the connections of this one, but skips {@code metadata.managedFields} when decoding
+     * responses. The managed fields are often half of the size of an object and rarely read, so clients or informers
+     * that cache many objects can use this context to avoid retaining them. Objects decoded by the returned context
+     * have no managed fields, and must not be used to update objects with server-side apply.
+     *
+     * @return a context that skips managed fields when decoding responses
+     */
+    public ConnectionContext withoutManagedFields() {
+        return withAttribute(Codecs.SKIP_MANAGED_FIELDS, Boolean.TRUE);
+    }
+
+    /**
+     * Returns a context that shares the connections of this one, but collapses concurrent identical reads into a
+     * single in-flight request, fanning its response out to every subscriber. Only {@code GET} requests made with
+     * {@link #exchange(Request, Class)} are coalesced; lists streamed with {@link #listAll(Request, Class)}, watches,
+     * and writes are always executed.
+     *
+     * @param coalescer the coalescer to collapse requests with. May be shared by several contexts.
+     * @return a context that coalesces concurrent identical reads
+     */
+    public ConnectionContext withCoalescing(RequestCoalescer coalescer) {
+        return new ConnectionContext(this, objectMapper, coalescer);
+    }
+
+    /**
+     * Returns a context that shares the connections of this one, but interns low-cardinality strings such as label
+     * values, namespaces, and image names in a pool when decoding responses. Objects decoded by the returned context
+     * share a single instance of each repeated string, reducing the footprint of informer caches. Only the generated
+     * codecs of the model intern strings.
+     *
+     * @param stringPool the pool to intern strings in. May be shared by several contexts.
+     * @return a context that interns strings when decoding responses
+     */
+    public ConnectionContext withStringPool(StringPool stringPool) {
+        return withAttribute(Codecs.STRING_POOL, stringPool);
+    }
+
+    String getUri(Request request) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        if (request.getOptions() != null) {
+            parameters.putAll(objectMapper.convertValue(request.getOptions(), QUERY_PARAMETERS));
+            parameters.remove("kind");
+            parameters.remove("apiVersion");
+        }
+        parameters.putAll(request.getQueryParameters());
+
+        StringJoiner query = new StringJoiner("&", "?", "").setEmptyValue("");
+        parameters.forEach((key, value) -> {
+            if (value instanceof Collection) {
+                ((Collection<?>) value).forEach(v -> query.add(String.format("%s=%s", Request.encode(key), Request.encode(String.valueOf(v)))));
+            } else if (value != null) {
+                query.add(String.format("%s=%s", Request.encode(key), Request.encode(String.valueOf(value))));
+            }
+        });
+
+        return request.getPath() + query;
+    }
+
+    private <T> Mono<T> exchange(Request request, String uri, Class<T> responseType) {
+        VerbClass verbClass = HttpMethod.GET.equals(request.getMethod()) || HttpMethod.HEAD.equals(request.getMethod()) ? VerbClass.READ : VerbClass.WRITE;
+
+        return limit(verbClass, httpClient
+            .request(request.getMethod())
+            .uri(uri)
+            .send((r, o) -> send(request, Unknown.class == responseType ? r.header(HttpHeaderNames.ACCEPT, Protobuf.MEDIA_TYPE) : r, o))
+            .responseSingle((r, c) -> {
+                observe(verbClass, r);
+                return receive(r, c, responseType);
+            }));
+    }
+
+    private static boolean hasLimit(Request request) {
+        return request.getQueryParameters().containsKey("limit") ||
+            (request.getOptions() instanceof ListOptions && ((ListOptions) request.getOptions()).getLimit() != null);
+    }
+
+    private static Request withQueryParameter(Request request, String name, Object value) {
+        return Request.builder()
+            .method(request.getMethod())
+            .namespacedPath(request.getNamespacedPath())
+            .clusterPath(request.getClusterPath())
+            .namespace(request.getNamespace())
+            .pathVariables(request.getPathVariables())
+            .subresources(request.getSubresources())
+            .queryParameters(request.getQueryParameters())
+            .queryParameter(name, value)
+            .options(request.getOptions())
+            .body(request.getBody())
+            .contentType(request.getContentType())
+            .build();
+    }
+
+    // Retry-After is either a number of seconds or an HTTP date. A 429 without one still asks clients to back off.
+    @Nullable
+    private static Duration getRetryAfter(@Nullable String retryAfter, int statusCode) {
+        Duration fallback = statusCode == STATUS_TOO_MANY_REQUESTS ? DEFAULT_RETRY_AFTER : null;
+        if (retryAfter == null) {
+            return fallback;
+        }
+
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(retryAfter.trim())));
+        } catch (NumberFormatException e) {
+            // fall through to an HTTP date
+        }
+
+        try {
+            Duration duration = Duration.between(ZonedDateTime.now(), ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+            return duration.isNegative() ? Duration.ZERO : duration;
+        } catch (DateTimeParseException e) {
+            return fallback;
+        }
+    }
+
+    private <T> Flux<T> getPage(Request request, Class<T> itemType, String token, Consumer<String> onContinue) {
+        Request page = token.isEmpty() ? request : withQueryParameter(request, "continue", token);
+
+        return receiveItems(page, itemType, onContinue)
+            .onErrorResume(t -> !token.isEmpty() && getExpiredContinue(t) != null,
+                t -> getPage(request, itemType, Objects.requireNonNull(getExpiredContinue(t)), onContinue));
+    }
+
+    @Nullable
+    private static String getExpiredContinue(Throwable t) {
+        if (!(t instanceof StatusException) || ((StatusException) t).getStatusCode() != STATUS_GONE) {
+            return null;
+        }
+
+        Status status = ((StatusException) t).getStatus();
+        return status != null && StringUtils.hasText(status.getContinue()) ? status.getContinue() : null;
+    }
+
+    private <T> Flux<T> limit(VerbClass verbClass, Flux<T> request) {
+        RateLimiter rateLimiter = this.rateLimiter;
+        if (rateLimiter == null) {
+            return request;
+        }
+
+        return rateLimiter.acquire(verbClass)
+            .thenMany(request)
+            .retryWhen(THROTTLED);
+    }
+
+    private <T> Mono<T> limit(VerbClass verbClass, Mono<T> request) {
+        RateLimiter rateLimiter = this.rateLimiter;
+        if (rateLimiter == null) {
+            return request;
+        }
+
+        return rateLimiter.acquire(verbClass)
+            .then(request)
+            .retryWhen(THROTTLED);
+    }
+
+    private void observe(VerbClass verbClass, HttpClientResponse response) {
+        RateLimiter rateLimiter = this.rateLimiter;
+        if (rateLimiter == null) {
+            return;
+        }
+
+        int statusCode = response.status().code();
+        Duration retryAfter = statusCode == STATUS_TOO_MANY_REQUESTS || statusCode == STATUS_SERVICE_UNAVAILABLE ?
+            getRetryAfter(response.responseHeaders().get(HttpHeaderNames.RETRY_AFTER), statusCode) : null;
+
+        rateLimiter.observe(verbClass, response.responseHeaders().get(PRIORITY_LEVEL_UID), retryAfter);
+    }
+
+    private <T> Flux<T> receiveItems(Request request, Class<T> itemType, Consumer<String> onContinue) {
+        return limit(VerbClass.READ, httpClient
+            .request(request.getMethod())
+            .uri(getUri(request))
+            .send((r, o) -> send(request, r, o))
+            .response((response, content) -> {
+                observe(VerbClass.READ, response);
+
+                int statusCode = response.status().code();
+                if (statusCode >= 400) {
+                    return receive(response, content.aggregate(), Void.class)
+                        .thenMany(Flux.empty());
+                }
+
+                ListDecoder<T> decoder;
+                try {
+                    decoder = new ListDecoder<>(objectMapper, itemType, onContinue);
+                } catch (IOException e) {
+                    return Flux.error(e);
+                }
+
+                return content
+                    .map(chunk -> decode(() -> decoder.decode(chunk)))
+                    .concatWith(Mono.fromCallable(() -> decode(decoder::end)))
+                    .concatMapIterable(Function.identity());
+            }));
+    }
+
+    private static <T> List<T> decode(Callable<List<T>> decoder) {
+        try {
+            return decoder.call();
+        } catch (Exception e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    private <T> Mono<T> receive(HttpClientResponse response, ByteBufMono content, Class<T> responseType) {
+        int statusCode = response.status().code();
+        if (statusCode >= 400 && Protobuf.isProtobuf(response.responseHeaders().get(HttpHeaderNames.CONTENT_TYPE))) {
+            return content
+                .map(ConnectionContext::readStatus)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(s -> Mono.error(new StatusException(statusCode, s.orElse(null))));
+        }
+
+        if (statusCode >= 400) {
+            return content.asInputStream()
+                .map(this::readStatus)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(s -> Mono.error(new StatusException(statusCode, s.orElse(null))));
+        }
+
+        if (Void.class == responseType) {
+            return content.then().cast(responseType);
+        }
+
+        if (String.class == responseType) {
+            return content.asString(StandardCharsets.UTF_8).cast(responseType);
+        }
+
+        if (Unknown.class == responseType) {
+            return content.map(Protobuf::readUnknown).cast(responseType);
+        }
+
+        return content.asInputStream()
+            .map(in -> {
+                try (InputStream i = in) {
+                    return objectMapper.readValue(i, responseType);
+                } catch (IOException e) {
+                    throw Exceptions.propagate(e);
+                }
+            });
+    }
+
+    private Flux<LogLine> receiveLines(HttpClientResponse response, Connection connection, boolean timestamps) {
+        int statusCode = response.status().code();
+        if (statusCode >= 400) {
+            return receive(response, connection.inbound().receive().aggregate(), Void.class)
+                .thenMany(Flux.empty());
+        }
+
+        LineDecoder decoder = new LineDecoder(connection.channel().alloc(), MAX_LOG_LINE_LENGTH, true);
+        Function<ByteBuf, LogLine> reader = line -> readLogLine(line, timestamps);
+
+        return connection.inbound().receive()
+            .map(chunk -> decoder.decode(chunk, reader))
+            .concatWith(Mono.fromCallable(() -> decoder.end(reader)))
+            .concatMapIterable(Function.identity(), LOG_PREFETCH)
+            .doFinally(s -> decoder.release());
+    }
+
+    private <T extends ObjectMeta> Flux<WatchEvent<T>> receiveEvents(HttpClientResponse response, Connection connection, Class<T> objectType) {
+        int statusCode = response.status().code();
+        if (statusCode >= 400) {
+            return receive(response, connection.inbound().receive().aggregate(), Void.class)
+                .thenMany(Flux.empty());
+        }
+
+        LineDecoder decoder = new LineDecoder(connection.channel().alloc(), MAX_WATCH_EVENT_LENGTH);
+        ObjectReader reader = objectMapper.readerFor(objectType);
+
+        return connection.inbound().receive()
+            .map(chunk -> decoder.decode(chunk, line -> this.<T>readEvent(line, reader)))
+            .concatMapIterable(Function.identity())
+            .doFinally(s -> decoder.release());
+    }
+
+    private Flux<RawWatchEvent> receiveUnknownEvents(HttpClientResponse response, Connection connection) {
+        int statusCode = response.status().code();
+        if (statusCode >= 400) {
+            return receive(response, connection.inbound().receive().aggregate(), Void.class)
+                .thenMany(Flux.empty());
+        }
+
+        LengthDelimitedDecoder decoder = new LengthDelimitedDecoder(connection.channel().alloc(), MAX_WATCH_EVENT_LENGTH);
+
+        return connection.inbound().receive()
+            .map(chunk -> decoder.decode(chunk, ConnectionContext::readUnknownEvent))
+            .concatMapIterable(Function.identity())
+            .doFinally(s -> decoder.release());
+    }
+
+    private static RawWatchEvent readUnknownEvent(ByteBuf frame) {
+        RawWatchEvent event = Protobuf.readWatchEvent(frame);
+
+        if (WATCH_EVENT_ERROR.equals(event.getType())) {
+            Status status = Protobuf.readStatus(event.getObject());
+            throw new StatusException(Optional.ofNullable(status.getCode()).orElse(500), status);
+        }
+
+        return event;
+    }
+
+    // Timestamped lines are prefixed with an RFC 3339 timestamp and a space
+    private static LogLine readLogLine(ByteBuf line, boolean timestamps) {
+        int start = line.readerIndex();
+        int space = timestamps ? line.indexOf(start, line.writerIndex(), (byte) ' ') : -1;
+
+        if (space != -1) {
+            try {
+                Instant timestamp = OffsetDateTime.parse(line.toString(start, space - start, StandardCharsets.US_ASCII)).toInstant();
+                return LogLine.of(timestamp, line.toString(space + 1, line.writerIndex() - space - 1, StandardCharsets.UTF_8));
+            } catch (DateTimeParseException e) {
+                // fall through to an untimestamped line
+            }
+        }
+
+        return LogLine.of(null, line.toString(StandardCharsets.UTF_8));
+    }
+
+    private <T extends ObjectMeta> WatchEvent<T> readEvent(ByteBuf line, ObjectReader reader) {
+        byte[] event = ByteBufUtil.getBytes(line);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(event)) {
+            String type = null;
+            String resourceVersion = null;
+            int start = -1;
+            int end = -1;
+
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "watch event is not an object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+
+                if ("type".equals(name)) {
+                    type = parser.getValueAsString();
+                } else if ("object".equals(name) && value == JsonToken.START_OBJECT) {
+                    start = (int) parser.getTokenLocation().getByteOffset();
+                    resourceVersion = readResourceVersion(parser);
+                    end = (int) parser.getCurrentLocation().getByteOffset();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            if (type == null || start == -1) {
+                throw new JsonParseException(parser, "watch event is missing its type or object");
+            }
+
+            int offset = start;
+            int length = end - start;
+
+            if (WATCH_EVENT_ERROR.equals(type)) {
+                Status status = objectMapper.readValue(event, offset, length, Status.class);
+                throw new StatusException(Optional.ofNullable(status.getCode()).orElse(500), status);
+            }
+
+            return WatchEvent.of(type, resourceVersion, () -> {
+                try {
+                    return reader.readValue(event, offset, length);
+                } catch (IOException e) {
+                    throw Exceptions.propagate(e);
+                }
+            });
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    // Walks the object only deeply enough to find metadata.resourceVersion, leaving the parser at its end
+    @Nullable
+    private static String readResourceVersion(JsonParser parser) throws IOException {
+        String resourceVersion = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+
+            if (!"metadata".equals(name) || value != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String metadataName = parser.getCurrentName();
+                parser.nextToken();
+
+                if ("resourceVersion".equals(metadataName)) {
+                    resourceVersion = parser.getValueAsString();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        return resourceVersion;
+    }
+
+    private static Optional<Status> readStatus(ByteBuf content) {
+        try {
+            return Optional.of(Protobuf.readStatus(Protobuf.readUnknown(content)));
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Optional<Status> readStatus(InputStream in) {
+        try (InputStream i = in) {
+            return Optional.of(objectMapper.readValue(i, Status.class));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private NettyOutbound send(Request request, HttpClientRequest httpRequest, NettyOutbound outbound) {
+        Object body = request.getBody();
+        if (body == null) {
+            return outbound;
+        }
+
+        if (body instanceof Unknown) {
+            httpRequest.header(HttpHeaderNames.CONTENT_TYPE, Protobuf.MEDIA_TYPE);
+
+            return outbound.send(Mono.fromCallable(() -> {
+                ByteBuf buffer = outbound.alloc().buffer();
+                Protobuf.writeUnknown((Unknown) body, buffer);
+                return buffer;
+            }));
+        }
+
+        String contentType = request.getContentType();
+        httpRequest.header(HttpHeaderNames.CONTENT_TYPE, contentType != null ? contentType : HttpHeaderValues.APPLICATION_JSON.toString());
+
+        return outbound.send(Mono.fromCallable(() -> {
+            ByteBuf buffer = outbound.alloc().buffer();
+
+            try (OutputStream out = new ByteBufOutputStream(buffer)) {
+                if (body instanceof String) {
+                    out.write(((String) body).getBytes(StandardCharsets.UTF_8));
+                } else {
+                    objectMapper.writeValue(out, body);
+                }
+            } catch (IOException e) {
+                buffer.release();
+                throw e;
+            }
+
+            return buffer;
+        }));
+    }
+
+    private ConnectionContext withAttribute(String key, Object value) {
+        ObjectMapper objectMapper = this.objectMapper.copy();
+        objectMapper.setConfig(objectMapper.getDeserializationConfig().withAttribute(key, value));
+        return new ConnectionContext(this, objectMapper, coalescer);
+    }
+
+}
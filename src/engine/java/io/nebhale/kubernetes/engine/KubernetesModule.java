@@ -0,0 +1,107 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.engine;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import io.k8s.meta.v1.ListMeta;
+import io.k8s.meta.v1.ObjectMeta;
+import org.springframework.lang.Nullable;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A Jackson {@link com.fasterxml.jackson.databind.Module} that maps the Kubernetes wire format onto the model. Model
+ * classes inline the properties of {@link ObjectMeta} and {@link ListMeta} while the API server nests them under a
+ * {@code metadata} property, so those properties are moved between the two shapes during (de)serialization. Only
+ * reflective bean (de)serializers are adapted; the generated codecs registered by {@link io.k8s.ModelModule} already
+ * read and write the nested shape.
+ */
+public final class KubernetesModule extends SimpleModule {
+
+    private static final long serialVersionUID = 2802880094004040938L;
+
+    public KubernetesModule() {
+        super("KubernetesModule");
+
+        setDeserializerModifier(new BeanDeserializerModifier() {
+
+            @Override
+            public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config, BeanDescription beanDesc, JsonDeserializer<?> deserializer) {
+                if (!(deserializer instanceof BeanDeserializerBase)) {
+                    return deserializer;
+                }
+
+                // model classes are deserialized through their builders, which are nested in the model class
+                Class<?> type = beanDesc.getBeanClass();
+                if (getMeta(type) == null && getMeta(type.getDeclaringClass()) == null) {
+                    return deserializer;
+                }
+
+                return new MetadataDeserializer(deserializer);
+            }
+
+        });
+
+        setSerializerModifier(new BeanSerializerModifier() {
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc, JsonSerializer<?> serializer) {
+                Class<?> meta = getMeta(beanDesc.getBeanClass());
+                if (meta == null || !(serializer instanceof BeanSerializerBase)) {
+                    return serializer;
+                }
+
+                Set<String> names = config.introspect(config.constructType(meta)).findProperties().stream()
+                    .map(BeanPropertyDefinition::getName)
+                    .collect(Collectors.toSet());
+
+                return new MetadataSerializer((JsonSerializer<Object>) serializer, names);
+            }
+
+        });
+    }
+
+    @Nullable
+    private static Class<?> getMeta(@Nullable Class<?> type) {
+        if (type == null || type.isInterface()) {
+            return null;
+        }
+
+        if (ObjectMeta.class.isAssignableFrom(type)) {
+            return ObjectMeta.class;
+        }
+
+        if (ListMeta.class.isAssignableFrom(type)) {
+            return ListMeta.class;
+        }
+
+        return null;
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.engine;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.TooLongFrameException;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Splits a stream of arbitrarily chunked buffers into frames, each prefixed with its length as a big-endian 32-bit
+ * integer. Frames contained entirely within a chunk are passed on as slices of that chunk, and only frames spanning
+ * chunks are copied. Frames are only valid for the duration of the callback they are passed to. Instances are stateful
+ * and must only be used for a single stream.
+ */
+final class LengthDelimitedDecoder {
+
+    private static final int LENGTH_FIELD_LENGTH = 4;
+
+    private final ByteBufAllocator allocator;
+
+    private final int maxLength;
+
+    @Nullable
+    private ByteBuf pending;
+
+    LengthDelimitedDecoder(ByteBufAllocator allocator, int maxLength) {
+        this.allocator = allocator;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Decodes the complete frames ending within a chunk, buffering any trailing partial frame
+     *
+     * @param chunk  the chunk to decode
+     * @param mapper the function to map each frame with
+     * @param <T>    the type frames are mapped to
+     * @return the mapped frames
+     */
+    <T> List<T> decode(ByteBuf chunk, Function<ByteBuf, T> mapper) {
+        List<T> results = new ArrayList<>();
+
+        while (chunk.isReadable()) {
+            if (pending == null && chunk.readableBytes() >= LENGTH_FIELD_LENGTH) {
+                int length = getLength(chunk);
+                if (chunk.readableBytes() >= LENGTH_FIELD_LENGTH + length) {
+                    ByteBuf frame = chunk.slice(chunk.readerIndex() + LENGTH_FIELD_LENGTH, length);
+                    chunk.skipBytes(LENGTH_FIELD_LENGTH + length);
+                    results.add(mapper.apply(frame));
+                    continue;
+                }
+            }
+
+            if (pending == null) {
+                pending = allocator.buffer();
+            }
+
+            int required = pending.readableBytes() < LENGTH_FIELD_LENGTH ? LENGTH_FIELD_LENGTH : LENGTH_FIELD_LENGTH + getLength(pending);
+            pending.writeBytes(chunk, Math.min(required - pending.readableBytes(), chunk.readableBytes()));
+
+            if (pending.readableBytes() < LENGTH_FIELD_LENGTH || pending.readableBytes() < LENGTH_FIELD_LENGTH + getLength(pending)) {
+                continue;
+            }
+
+            try {
+                results.add(mapper.apply(pending.slice(pending.readerIndex() + LENGTH_FIELD_LENGTH, getLength(pending))));
+            } finally {
+                release();
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Releases any buffered partial frame
+     */
+    void release() {
+        if (pending != null) {
+            pending.release();
+            pending = null;
+        }
+    }
+
+    private int getLength(ByteBuf buffer) {
+        int length = buffer.getInt(buffer.readerIndex());
+
+        if (length < 0) {
+            release();
+            throw new CorruptedFrameException(String.format("negative frame length %d", length));
+        } else if (length > maxLength) {
+            release();
+            throw new TooLongFrameException(String.format("frame length exceeds %d bytes", maxLength));
+        }
+
+        return length;
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.engine;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.handler.codec.TooLongFrameException;
+import io.netty.util.ByteProcessor;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Splits a stream of arbitrarily chunked buffers into newline-delimited lines. Lines contained entirely within a chunk
+ * are passed on as slices of that chunk, and only lines spanning chunks are copied. Lines are only valid for the
+ * duration of the callback they are passed to. Empty lines are skipped unless they are retained when the decoder is
+ * created. Instances are stateful and must only be used for a single stream.
+ */
+final class LineDecoder {
+
+    private final ByteBufAllocator allocator;
+
+    private final int maxLength;
+
+    @Nullable
+    private ByteBuf pending;
+
+    private final boolean retainEmpty;
+
+    LineDecoder(ByteBufAllocator allocator, int maxLength) {
+        this(allocator, maxLength, false);
+    }
+
+    LineDecoder(ByteBufAllocator allocator, int maxLength, boolean retainEmpty) {
+        this.allocator = allocator;
+        this.maxLength = maxLength;
+        this.retainEmpty = retainEmpty;
+    }
+
+    /**
+     * Decodes the complete lines terminated within a chunk, buffering any trailing partial line
+     *
+     * @param chunk  the chunk to decode
+     * @param mapper the function to map each line with
+     * @param <T>    the type lines are mapped to
+     * @return the mapped lines
+     */
+    <T> List<T> decode(ByteBuf chunk, Function<ByteBuf, T> mapper) {
+        List<T> results = new ArrayList<>();
+
+        while (chunk.isReadable()) {
+            int end = chunk.forEachByte(ByteProcessor.FIND_LF);
+            if (end == -1) {
+                append(chunk, chunk.readableBytes());
+                break;
+            }
+
+            int length = end - chunk.readerIndex();
+            ByteBuf line;
+            if (pending == null) {
+                line = chunk.slice(chunk.readerIndex(), trim(chunk, chunk.readerIndex(), length));
+            } else {
+                append(chunk, length);
+                line = pending.slice(pending.readerIndex(), trim(pending, pending.readerIndex(), pending.readableBytes()));
+            }
+            chunk.readerIndex(end + 1);
+
+            try {
+                if (retainEmpty || line.isReadable()) {
+                    results.add(mapper.apply(line));
+                }
+            } finally {
+                release();
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Decodes the partial line buffered when a stream ends without a final line terminator
+     *
+     * @param mapper the function to map the line with
+     * @param <T>    the type lines are mapped to
+     * @return the mapped line, if any
+     */
+    <T> List<T> end(Function<ByteBuf, T> mapper) {
+        if (pending == null) {
+            return Collections.emptyList();
+        }
+
+        try {
+            ByteBuf line = pending.slice(pending.readerIndex(), trim(pending, pending.readerIndex(), pending.readableBytes()));
+            return line.isReadable() ? Collections.singletonList(mapper.apply(line)) : Collections.emptyList();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Releases any buffered partial line
+     */
+    void release() {
+        if (pending != null) {
+            pending.release();
+            pending = null;
+        }
+    }
+
+    private void append(ByteBuf chunk, int length) {
+        if (pending == null) {
+            pending = allocator.buffer(length);
+        }
+
+        if (pending.readableBytes() + length > maxLength) {
+            release();
+            throw new TooLongFrameException(String.format("line length exceeds %d bytes", maxLength));
+        }
+
+        pending.writeBytes(chunk, chunk.readerIndex(), length);
+        chunk.skipBytes(length);
+    }
+
+    private static int trim(ByteBuf buffer, int index, int length) {
+        return length > 0 && buffer.getByte(index + length - 1) == '\r' ? length - 1 : length;
+    }
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.engine;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Incrementally decodes a Kubernetes {@code *List} document fed as arbitrarily chunked buffers, binding each element of
+ * its {@code items} array as soon as the element is complete. Only the element currently being bound is held in
+ * memory, never the whole list. Instances are stateful and must only be used for a single document.
+ *
+ * @param <T> the type of the items
+ */
+final class ListDecoder<T> {
+
+    private final ObjectMapper objectMapper;
+
+    private final Consumer<String> onContinue;
+
+    private final JsonParser parser;
+
+    private final ObjectReader reader;
+
+    @Nullable
+    private TokenBuffer item;
+
+    private int depth;
+
+    @Nullable
+    private String field;
+
+    @Nullable
+    private String _continue;
+
+    private boolean continueSignalled;
+
+    private boolean inItems;
+
+    private boolean inMetadata;
+
+    /**
+     * Creates a new instance
+     *
+     * @param objectMapper the {@link ObjectMapper} to bind items with
+     * @param itemType     the type of the items
+     * @param onContinue   called once with the continue token of the list, or an empty string if it has none, as soon
+     *                     as it is known. Called at the latest when the document ends.
+     * @throws IOException if the parser cannot be created
+     */
+    ListDecoder(ObjectMapper objectMapper, Class<T> itemType, Consumer<String> onContinue) throws IOException {
+        this.objectMapper = objectMapper;
+        this.onContinue = onContinue;
+        this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        this.reader = objectMapper.readerFor(itemType);
+    }
+
+    /**
+     * Decodes the items completed by a chunk
+     *
+     * @param chunk the chunk to decode
+     * @return the items completed by the chunk
+     * @throws IOException if the document is malformed or an item cannot be bound
+     */
+    List<T> decode(ByteBuf chunk) throws IOException {
+        byte[] bytes = ByteBufUtil.getBytes(chunk);
+        ((ByteArrayFeeder) parser.getNonBlockingInputFeeder()).feedInput(bytes, 0, bytes.length);
+        return drain();
+    }
+
+    /**
+     * Signals the end of the document
+     *
+     * @return any items completed by the end of the document
+     * @throws IOException if the document is incomplete
+     */
+    List<T> end() throws IOException {
+        ((ByteArrayFeeder) parser.getNonBlockingInputFeeder()).endOfInput();
+        List<T> items = drain();
+
+        if (depth != 0) {
+            throw new IOException("list ended unexpectedly");
+        }
+
+        signalContinue();
+        parser.close();
+        return items;
+    }
+
+    private List<T> drain() throws IOException {
+        List<T> items = new ArrayList<>();
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (item != null) {
+                item.copyCurrentEvent(parser);
+            }
+
+            if (token.isStructStart()) {
+                if (inItems && depth == 2 && token == JsonToken.START_OBJECT) {
+                    item = new TokenBuffer(objectMapper, false);
+                    item.copyCurrentEvent(parser);
+                }
+
+                if (depth == 1 && token == JsonToken.START_ARRAY && "items".equals(field)) {
+                    inItems = true;
+                }
+
+                if (depth == 1 && token == JsonToken.START_OBJECT && "metadata".equals(field)) {
+                    inMetadata = true;
+                }
+
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+
+                if (item != null && depth == 2) {
+                    try (JsonParser p = item.asParser(objectMapper)) {
+                        items.add(reader.readValue(p));
+                    }
+                    item = null;
+                }
+
+                if (depth == 1) {
+                    if (inMetadata) {
+                        signalContinue();
+                    }
+
+                    inItems = false;
+                    inMetadata = false;
+                }
+            } else if (token == JsonToken.FIELD_NAME) {
+                if (depth == 1 || (inMetadata && depth == 2)) {
+                    field = parser.getCurrentName();
+                }
+            } else if (inMetadata && depth == 2 && "continue".equals(field)) {
+                _continue = parser.getValueAsString();
+            }
+        }
+
+        return items;
+    }
+
+    private void signalContinue() {
+        if (!continueSignalled) {
+            continueSignalled = true;
+            onContinue.accept(_continue == null ? "" : _continue);
+        }
+    }
+
+}
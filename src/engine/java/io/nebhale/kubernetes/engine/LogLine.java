@@ -14,32 +14,30 @@
  * limitations under the License.
  */
 
-package io.k8s.meta.v1;
+package io.nebhale.kubernetes.engine;
 
-import io.k8s.runtime.RawExtension;
-import lombok.Builder;
 import lombok.Value;
-import lombok.extern.jackson.Jacksonized;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.time.Instant;
 
 /**
- * Event represents a single event to a watched resource.
+ * A single line of a container's log
  */
-@Builder
-@Jacksonized
-@Value
-public class WatchEvent {
-
-    public static final String GROUP = "";
-
-    public static final String KIND = "WatchEvent";
-
-    public static final String VERSION = "v1";
-
-    @NonNull
-    RawExtension object;
-
+@Value(staticConstructor = "of")
+public class LogLine {
+
+    /**
+     * The time the line was written, if the log was requested with {@code timestamps}
+     */
+    @Nullable
+    Instant timestamp;
+
+    /**
+     * The line, without its timestamp or line terminator
+     */
     @NonNull
-    String type;
+    String message;
 
 }
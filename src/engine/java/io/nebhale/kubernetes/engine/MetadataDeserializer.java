@@ -0,0 +1,62 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.engine;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.k8s.codec.Codecs;
+
+import java.io.IOException;
+
+final class MetadataDeserializer extends DelegatingDeserializer {
+
+    private static final long serialVersionUID = -6208180165316045404L;
+
+    MetadataDeserializer(JsonDeserializer<?> delegatee) {
+        super(delegatee);
+    }
+
+    @Override
+    public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonNode node = ctxt.readTree(p);
+
+        if (node instanceof ObjectNode) {
+            JsonNode metadata = ((ObjectNode) node).remove("metadata");
+            if (metadata instanceof ObjectNode) {
+                if (Codecs.isSkippingManagedFields(ctxt)) {
+                    ((ObjectNode) metadata).remove("managedFields");
+                }
+                ((ObjectNode) node).setAll((ObjectNode) metadata);
+            }
+        }
+
+        try (JsonParser tree = node.traverse(p.getCodec())) {
+            tree.nextToken();
+            return _delegatee.deserialize(tree, ctxt);
+        }
+    }
+
+    @Override
+    protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+        return new MetadataDeserializer(newDelegatee);
+    }
+
+}
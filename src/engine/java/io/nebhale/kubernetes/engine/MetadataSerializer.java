@@ -0,0 +1,77 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.engine;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.util.Set;
+
+final class MetadataSerializer extends StdSerializer<Object> implements ResolvableSerializer {
+
+    private static final long serialVersionUID = 3985960372420221683L;
+
+    private final JsonSerializer<Object> delegate;
+
+    private final Set<String> names;
+
+    MetadataSerializer(JsonSerializer<Object> delegate, Set<String> names) {
+        super(Object.class);
+        this.delegate = delegate;
+        this.names = names;
+    }
+
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        if (delegate instanceof ResolvableSerializer) {
+            ((ResolvableSerializer) delegate).resolve(provider);
+        }
+    }
+
+    @Override
+    public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        TokenBuffer buffer = new TokenBuffer(gen.getCodec(), false);
+        delegate.serialize(value, buffer, provider);
+
+        ObjectNode node;
+        try (JsonParser p = buffer.asParser(gen.getCodec())) {
+            node = p.readValueAsTree();
+        }
+
+        ObjectNode metadata = node.objectNode();
+        for (String name : names) {
+            if (node.has(name)) {
+                metadata.set(name, node.remove(name));
+            }
+        }
+
+        if (!metadata.isEmpty()) {
+            node.set("metadata", metadata);
+        }
+
+        gen.writeTree(node);
+    }
+
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.engine;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import org.reactivestreams.Publisher;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.NettyInbound;
+import reactor.netty.NettyOutbound;
+import reactor.netty.http.websocket.WebsocketInbound;
+import reactor.netty.http.websocket.WebsocketOutbound;
+import reactor.netty.tcp.TcpServer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A port of a pod forwarded to a local port. Each connection accepted on the local port is forwarded over its own
+ * connection to the API server, upgraded to the {@code v4.channel.k8s.io} WebSocket subprotocol, on which the data and
+ * errors of the port are carried on channels {@code 0} and {@code 1}, each opening with the number of the port.
+ * Connections are served by shared event loops, so no thread is dedicated to any of them.
+ * <p>
+ * Data is forwarded without being copied: buffers read from a local connection are sent as the payloads of WebSocket
+ * frames, and the payloads of frames received are written to the local connection as slices of the buffers they
+ * arrive in. Each direction is only read as fast as the other can be written.
+ */
+public final class PortForward implements Disposable {
+
+    private static final byte DATA = 0;
+
+    private static final byte ERROR = 1;
+
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private volatile boolean disposed;
+
+    private final LongAdder received = new LongAdder();
+
+    private final LongAdder sent = new LongAdder();
+
+    private volatile DisposableServer server;
+
+    private PortForward() {
+    }
+
+    @Override
+    public void dispose() {
+        disposed = true;
+        server.dispose();
+    }
+
+    /**
+     * Returns the number of local connections currently forwarded
+     *
+     * @return the number of local connections currently forwarded
+     */
+    public int getConnections() {
+        return connections.get();
+    }
+
+    /**
+     * Returns the local port that the pod's port is forwarded to
+     *
+     * @return the local port
+     */
+    public int getLocalPort() {
+        return server.port();
+    }
+
+    /**
+     * Returns the number of bytes received from the pod and written to local connections
+     *
+     * @return the number of bytes received
+     */
+    public long getReceived() {
+        return received.sum();
+    }
+
+    /**
+     * Returns the number of bytes read from local connections and sent to the pod
+     *
+     * @return the number of bytes sent
+     */
+    public long getSent() {
+        return sent.sum();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed || server.isDisposed();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PortForward(localPort=%d, connections=%d, sent=%d, received=%d)", getLocalPort(), getConnections(), getSent(), getReceived());
+    }
+
+    /**
+     * Binds a local port and forwards each connection accepted on it over a connection to the pod
+     *
+     * @param server  the server to bind
+     * @param connect opens a connection to the pod and handles it with the given handler
+     * @return a {@link Mono} that emits the {@link PortForward} once the local port is bound
+     */
+    static Mono<PortForward> bind(TcpServer server,
+                                  Function<BiFunction<WebsocketInbound, WebsocketOutbound, Mono<Void>>, Publisher<Void>> connect) {
+
+        return Mono.defer(() -> {
+            PortForward portForward = new PortForward();
+
+            return server
+                .handle((local, localOut) -> connect.apply((remote, remoteOut) -> portForward.forward(local, localOut, remote, remoteOut)))
+                .bind()
+                .map(s -> {
+                    portForward.server = s;
+                    return portForward;
+                });
+        });
+    }
+
+    /**
+     * Forwards a local connection until either it or the connection to the pod is closed
+     *
+     * @param local     the inbound of the local connection
+     * @param localOut  the outbound of the local connection
+     * @param remote    the inbound of the connection to the pod
+     * @param remoteOut the outbound of the connection to the pod
+     * @return a {@link Mono} that completes once either connection is closed
+     */
+    private Mono<Void> forward(NettyInbound local, NettyOutbound localOut, WebsocketInbound remote, WebsocketOutbound remoteOut) {
+        boolean[] opened = new boolean[2];
+
+        Mono<Void> send = remoteOut
+            .sendObject(local.receive()
+                .retain()
+                .doOnNext(b -> sent.add(b.readableBytes()))
+                .map(PortForward::frame))
+            .then();
+
+        Mono<Void> receive = localOut
+            .send(remote
+                .aggregateFrames(RemoteCommand.MAX_MESSAGE_LENGTH)
+                .receiveFrames()
+                .handle((frame, sink) -> {
+                    ByteBuf content = frame.content();
+                    if (!(frame instanceof BinaryWebSocketFrame) || !content.isReadable()) {
+                        return;
+                    }
+
+                    byte channel = content.getByte(content.readerIndex());
+                    if (channel != DATA && channel != ERROR) {
+                        return;
+                    }
+
+                    // The first message of each channel is the number of the port rather than data
+                    if (!opened[channel]) {
+                        opened[channel] = true;
+                        return;
+                    }
+
+                    int length = content.readableBytes() - 1;
+                    if (channel == ERROR) {
+                        sink.error(new IllegalStateException(content.toString(content.readerIndex() + 1, length, StandardCharsets.UTF_8)));
+                    } else if (length > 0) {
+                        received.add(length);
+                        sink.next(content.retainedSlice(content.readerIndex() + 1, length));
+                    }
+                }))
+            .then();
+
+        // The count is decremented before the local connection is closed, so a closed connection is never counted
+        return Mono.firstWithSignal(send, receive)
+            .doOnSubscribe(s -> connections.incrementAndGet())
+            .doOnTerminate(connections::decrementAndGet)
+            .doOnCancel(connections::decrementAndGet);
+    }
+
+    private static WebSocketFrame frame(ByteBuf data) {
+        return new BinaryWebSocketFrame(Unpooled.wrappedBuffer(Unpooled.wrappedBuffer(new byte[]{DATA}), data));
+    }
+
+}
@@ -0,0 +1,403 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.engine;
+
+import io.k8s.meta.v1.Status;
+import io.k8s.meta.v1.StatusCause;
+import io.k8s.meta.v1.StatusDetails;
+import io.k8s.runtime.RawWatchEvent;
+import io.k8s.runtime.Unknown;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.CorruptedFrameException;
+import org.springframework.lang.Nullable;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads and writes the Kubernetes protobuf envelope: a four byte magic prefix followed by a {@code runtime.Unknown}
+ * message carrying the type of an object and its undecoded bytes. Watch events are framed as a big-endian length
+ * followed by an envelope whose payload is a {@code meta.v1.WatchEvent} message, which in turn embeds the envelope of
+ * its object.
+ * <p>
+ * The OpenAPI document does not carry protobuf field numbers, so beyond the envelope only the messages whose layout the
+ * engine itself depends on are read: the {@code resourceVersion} of an object's {@code metadata} and {@code Status}.
+ */
+final class Protobuf {
+
+    static final String MEDIA_TYPE = "application/vnd.kubernetes.protobuf";
+
+    static final String WATCH_MEDIA_TYPE = MEDIA_TYPE + ";stream=watch";
+
+    private static final int MAGIC = 0x6b387300; // k8s\0
+
+    private static final int WIRE_TYPE_VARINT = 0;
+
+    private static final int WIRE_TYPE_FIXED64 = 1;
+
+    private static final int WIRE_TYPE_LENGTH_DELIMITED = 2;
+
+    private static final int WIRE_TYPE_FIXED32 = 5;
+
+    private Protobuf() {
+    }
+
+    /**
+     * Returns whether a media type is the protobuf media type, ignoring any parameters
+     *
+     * @param mediaType the media type
+     * @return {@code true} if the media type is the protobuf media type
+     */
+    static boolean isProtobuf(@Nullable String mediaType) {
+        return mediaType != null && mediaType.regionMatches(true, 0, MEDIA_TYPE, 0, MEDIA_TYPE.length());
+    }
+
+    /**
+     * Reads the {@code metadata.resourceVersion} of an object without decoding the rest of it. Every persisted object
+     * has its {@code ObjectMeta} as field 1, with {@code resourceVersion} as its field 6.
+     *
+     * @param object the envelope of the object
+     * @return the resourceVersion of the object, or {@code null} if it has none
+     */
+    @Nullable
+    static String readResourceVersion(Unknown object) {
+        try {
+            ByteBuf metadata = findField(Unpooled.wrappedBuffer(object.getRaw()), 1);
+            if (metadata == null) {
+                return null;
+            }
+
+            ByteBuf resourceVersion = findField(metadata, 6);
+            return resourceVersion != null ? resourceVersion.toString(StandardCharsets.UTF_8) : null;
+        } catch (IndexOutOfBoundsException e) {
+            throw new CorruptedFrameException("object is truncated", e);
+        }
+    }
+
+    /**
+     * Reads a {@code Status} from its envelope
+     *
+     * @param status the envelope of the status
+     * @return the status
+     */
+    static Status readStatus(Unknown status) {
+        try {
+            ByteBuf buffer = Unpooled.wrappedBuffer(status.getRaw());
+            Status.Builder builder = Status.builder()
+                .apiVersion(status.getApiVersion())
+                .kind(status.getKind());
+
+            while (buffer.isReadable()) {
+                int tag = (int) readVarint(buffer);
+                switch (tag) {
+                    case (2 << 3) | WIRE_TYPE_LENGTH_DELIMITED:
+                        builder.status(readString(buffer));
+                        break;
+                    case (3 << 3) | WIRE_TYPE_LENGTH_DELIMITED:
+                        builder.message(readString(buffer));
+                        break;
+                    case (4 << 3) | WIRE_TYPE_LENGTH_DELIMITED:
+                        builder.reason(readString(buffer));
+                        break;
+                    case (5 << 3) | WIRE_TYPE_LENGTH_DELIMITED:
+                        builder.details(readStatusDetails(readLengthDelimited(buffer)));
+                        break;
+                    case (6 << 3) | WIRE_TYPE_VARINT:
+                        builder.code((int) readVarint(buffer));
+                        break;
+                    default:
+                        skipField(buffer, tag);
+                }
+            }
+
+            return builder.build();
+        } catch (IndexOutOfBoundsException e) {
+            throw new CorruptedFrameException("status is truncated", e);
+        }
+    }
+
+    /**
+     * Reads an envelope, copying its payload out of the buffer
+     *
+     * @param buffer the buffer to read from
+     * @return the envelope
+     * @throws CorruptedFrameException if the buffer does not contain an envelope
+     */
+    static Unknown readUnknown(ByteBuf buffer) {
+        try {
+            if (buffer.readableBytes() < 4 || buffer.readInt() != MAGIC) {
+                throw new CorruptedFrameException("payload does not start with the protobuf envelope prefix");
+            }
+
+            Unknown.Builder builder = Unknown.builder()
+                .raw(new byte[0]);
+
+            while (buffer.isReadable()) {
+                int tag = (int) readVarint(buffer);
+                switch (tag) {
+                    case (1 << 3) | WIRE_TYPE_LENGTH_DELIMITED:
+                        readTypeMeta(readLengthDelimited(buffer), builder);
+                        break;
+                    case (2 << 3) | WIRE_TYPE_LENGTH_DELIMITED:
+                        builder.raw(ByteBufUtil.getBytes(readLengthDelimited(buffer)));
+                        break;
+                    case (3 << 3) | WIRE_TYPE_LENGTH_DELIMITED:
+                        builder.contentEncoding(readString(buffer));
+                        break;
+                    case (4 << 3) | WIRE_TYPE_LENGTH_DELIMITED:
+                        builder.contentType(readString(buffer));
+                        break;
+                    default:
+                        skipField(buffer, tag);
+                }
+            }
+
+            return builder.build();
+        } catch (IndexOutOfBoundsException e) {
+            throw new CorruptedFrameException("envelope is truncated", e);
+        }
+    }
+
+    /**
+     * Reads a single framed watch event, without its length prefix
+     *
+     * @param frame the frame to read from
+     * @return the event
+     * @throws CorruptedFrameException if the frame does not contain a watch event
+     */
+    static RawWatchEvent readWatchEvent(ByteBuf frame) {
+        ByteBuf event = Unpooled.wrappedBuffer(readUnknown(frame).getRaw());
+
+        try {
+            String type = null;
+            Unknown object = null;
+
+            while (event.isReadable()) {
+                int tag = (int) readVarint(event);
+                switch (tag) {
+                    case (1 << 3) | WIRE_TYPE_LENGTH_DELIMITED:
+                        type = readString(event);
+                        break;
+                    case (2 << 3) | WIRE_TYPE_LENGTH_DELIMITED:
+                        ByteBuf raw = findField(readLengthDelimited(event), 1);
+                        object = readUnknown(raw != null ? raw : Unpooled.EMPTY_BUFFER);
+                        break;
+                    default:
+                        skipField(event, tag);
+                }
+            }
+
+            if (type == null || object == null) {
+                throw new CorruptedFrameException("watch event is missing its type or object");
+            }
+
+            return RawWatchEvent.of(type, readResourceVersion(object), object);
+        } catch (IndexOutOfBoundsException e) {
+            throw new CorruptedFrameException("watch event is truncated", e);
+        }
+    }
+
+    /**
+     * Writes an envelope
+     *
+     * @param unknown the envelope to write
+     * @param buffer  the buffer to write to
+     */
+    static void writeUnknown(Unknown unknown, ByteBuf buffer) {
+        buffer.writeInt(MAGIC);
+
+        int typeMetaLength = sizeOfString(1, unknown.getApiVersion()) + sizeOfString(2, unknown.getKind());
+        writeVarint(buffer, (1 << 3) | WIRE_TYPE_LENGTH_DELIMITED);
+        writeVarint(buffer, typeMetaLength);
+        writeString(buffer, 1, unknown.getApiVersion());
+        writeString(buffer, 2, unknown.getKind());
+
+        writeVarint(buffer, (2 << 3) | WIRE_TYPE_LENGTH_DELIMITED);
+        writeVarint(buffer, unknown.getRaw().length);
+        buffer.writeBytes(unknown.getRaw());
+
+        writeString(buffer, 3, unknown.getContentEncoding());
+        writeString(buffer, 4, unknown.getContentType());
+    }
+
+    // Returns the last occurrence of a length-delimited field, as protobuf merges repeated occurrences of a scalar
+    @Nullable
+    private static ByteBuf findField(ByteBuf buffer, int field) {
+        ByteBuf value = null;
+
+        while (buffer.isReadable()) {
+            int tag = (int) readVarint(buffer);
+            if (tag == ((field << 3) | WIRE_TYPE_LENGTH_DELIMITED)) {
+                value = readLengthDelimited(buffer);
+            } else {
+                skipField(buffer, tag);
+            }
+        }
+
+        return value;
+    }
+
+    private static ByteBuf readLengthDelimited(ByteBuf buffer) {
+        long length = readVarint(buffer);
+        if (length > buffer.readableBytes()) {
+            throw new CorruptedFrameException(String.format("field length %d exceeds the %d remaining bytes", length, buffer.readableBytes()));
+        }
+
+        return buffer.readSlice((int) length);
+    }
+
+    private static StatusDetails readStatusDetails(ByteBuf buffer) {
+        StatusDetails.Builder builder = StatusDetails.builder();
+
+        while (buffer.isReadable()) {
+            int tag = (int) readVarint(buffer);
+            switch (tag) {
+                case (1 << 3) | WIRE_TYPE_LENGTH_DELIMITED:
+                    builder.name(readString(buffer));
+                    break;
+                case (2 << 3) | WIRE_TYPE_LENGTH_DELIMITED:
+                    builder.group(readString(buffer));
+                    break;
+                case (3 << 3) | WIRE_TYPE_LENGTH_DELIMITED:
+                    builder.kind(readString(buffer));
+                    break;
+                case (4 << 3) | WIRE_TYPE_LENGTH_DELIMITED:
+                    builder.cause(readStatusCause(readLengthDelimited(buffer)));
+                    break;
+                case (5 << 3) | WIRE_TYPE_VARINT:
+                    builder.retryAfterSeconds((int) readVarint(buffer));
+                    break;
+                case (6 << 3) | WIRE_TYPE_LENGTH_DELIMITED:
+                    builder.uid(readString(buffer));
+                    break;
+                default:
+                    skipField(buffer, tag);
+            }
+        }
+
+        return builder.build();
+    }
+
+    private static StatusCause readStatusCause(ByteBuf buffer) {
+        StatusCause.Builder builder = StatusCause.builder();
+
+        while (buffer.isReadable()) {
+            int tag = (int) readVarint(buffer);
+            switch (tag) {
+                case (1 << 3) | WIRE_TYPE_LENGTH_DELIMITED:
+                    builder.reason(readString(buffer));
+                    break;
+                case (2 << 3) | WIRE_TYPE_LENGTH_DELIMITED:
+                    builder.message(readString(buffer));
+                    break;
+                case (3 << 3) | WIRE_TYPE_LENGTH_DELIMITED:
+                    builder.field(readString(buffer));
+                    break;
+                default:
+                    skipField(buffer, tag);
+            }
+        }
+
+        return builder.build();
+    }
+
+    private static String readString(ByteBuf buffer) {
+        return readLengthDelimited(buffer).toString(StandardCharsets.UTF_8);
+    }
+
+    private static void readTypeMeta(ByteBuf buffer, Unknown.Builder builder) {
+        while (buffer.isReadable()) {
+            int tag = (int) readVarint(buffer);
+            switch (tag) {
+                case (1 << 3) | WIRE_TYPE_LENGTH_DELIMITED:
+                    builder.apiVersion(readString(buffer));
+                    break;
+                case (2 << 3) | WIRE_TYPE_LENGTH_DELIMITED:
+                    builder.kind(readString(buffer));
+                    break;
+                default:
+                    skipField(buffer, tag);
+            }
+        }
+    }
+
+    private static long readVarint(ByteBuf buffer) {
+        long value = 0;
+
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.readByte();
+            value |= (long) (b & 0x7f) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+
+        throw new CorruptedFrameException("varint is longer than 10 bytes");
+    }
+
+    private static int sizeOfString(int field, @Nullable String value) {
+        if (value == null) {
+            return 0;
+        }
+
+        int length = ByteBufUtil.utf8Bytes(value);
+        return sizeOfVarint((field << 3) | WIRE_TYPE_LENGTH_DELIMITED) + sizeOfVarint(length) + length;
+    }
+
+    private static int sizeOfVarint(int value) {
+        return (38 - Integer.numberOfLeadingZeros(value)) / 7 + (value == 0 ? 1 : 0);
+    }
+
+    private static void skipField(ByteBuf buffer, int tag) {
+        switch (tag & 0x7) {
+            case WIRE_TYPE_VARINT:
+                readVarint(buffer);
+                break;
+            case WIRE_TYPE_FIXED64:
+                buffer.skipBytes(8);
+                break;
+            case WIRE_TYPE_LENGTH_DELIMITED:
+                readLengthDelimited(buffer);
+                break;
+            case WIRE_TYPE_FIXED32:
+                buffer.skipBytes(4);
+                break;
+            default:
+                throw new CorruptedFrameException(String.format("field %d has unsupported wire type %d", tag >>> 3, tag & 0x7));
+        }
+    }
+
+    private static void writeString(ByteBuf buffer, int field, @Nullable String value) {
+        if (value == null) {
+            return;
+        }
+
+        writeVarint(buffer, (field << 3) | WIRE_TYPE_LENGTH_DELIMITED);
+        writeVarint(buffer, ByteBufUtil.utf8Bytes(value));
+        ByteBufUtil.writeUtf8(buffer, value);
+    }
+
+    private static void writeVarint(ByteBuf buffer, int value) {
+        while ((value & ~0x7f) != 0) {
+            buffer.writeByte((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        buffer.writeByte(value);
+    }
+
+}
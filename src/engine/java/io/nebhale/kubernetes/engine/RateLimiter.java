@@ -0,0 +1,75 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.engine;
+
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Limits the rate at which a {@link ConnectionContext} sends requests to the API server. A limiter is configured when a
+ * context is built, and is shared by every client of that context and of the contexts derived from it. Each request
+ * acquires a permit for its {@link VerbClass verb class} before it is sent, and reports the flow control headers of
+ * its response once it is received.
+ */
+public interface RateLimiter {
+
+    /**
+     * Returns a {@link Mono} that completes once a request of a verb class may be sent
+     *
+     * @param verbClass the verb class of the request
+     * @return a {@link Mono} that completes once the request may be sent
+     */
+    Mono<Void> acquire(VerbClass verbClass);
+
+    /**
+     * Reports the flow control headers of a response
+     *
+     * @param verbClass     the verb class of the request
+     * @param priorityLevel the UID of the API Priority and Fairness priority level that handled the request, from the
+     *                      {@code X-Kubernetes-PF-PriorityLevel-UID} header, or {@code null} if the API server did not
+     *                      report one
+     * @param retryAfter    how long the API server asked clients to wait before sending further requests, from the
+     *                      {@code Retry-After} header of a throttled response, or {@code null} if the request was not
+     *                      throttled
+     */
+    void observe(VerbClass verbClass, @Nullable String priorityLevel, @Nullable Duration retryAfter);
+
+    /**
+     * The classes of verbs that are limited independently of each other
+     */
+    enum VerbClass {
+
+        /**
+         * Requests that read resources, such as {@code get} and {@code list}
+         */
+        READ,
+
+        /**
+         * Requests that modify resources, such as {@code create}, {@code patch}, and {@code delete}
+         */
+        WRITE,
+
+        /**
+         * Requests that open a watch
+         */
+        WATCH
+
+    }
+
+}
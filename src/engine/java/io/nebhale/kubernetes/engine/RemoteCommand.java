@@ -0,0 +1,326 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.engine;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.k8s.meta.v1.Status;
+import io.k8s.meta.v1.StatusCause;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import io.netty.util.ReferenceCountUtil;
+import org.reactivestreams.Publisher;
+import org.springframework.lang.Nullable;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.DisposableChannel;
+import reactor.netty.http.websocket.WebsocketInbound;
+import reactor.netty.http.websocket.WebsocketOutbound;
+import reactor.util.concurrent.Queues;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * A command running in a container, attached to over the {@code v4.channel.k8s.io} WebSocket subprotocol. A single
+ * connection multiplexes the standard streams of the command, each message carrying the number of its channel in its
+ * first byte: standard input, output, and error on channels {@code 0} to {@code 2}, the final {@link Status} of the
+ * command on channel {@code 3}, and terminal resizes on channel {@code 4}.
+ * <p>
+ * Standard output and error are the payloads of the messages received, sliced from the pooled buffers they arrive in
+ * without being copied. Each buffer passes to the subscriber that receives it, which must release it. Each stream
+ * buffers a small number of messages until they are consumed, and once either buffer is full no more messages are read
+ * from the connection until it drains, so the output of a command is only read as fast as it is consumed. Output that
+ * is requested must therefore be consumed for the command to complete. Output that has not been subscribed to by the
+ * time the command completes is released.
+ */
+public final class RemoteCommand implements Disposable {
+
+    static final int MAX_MESSAGE_LENGTH = 16 * 1024 * 1024;
+
+    static final String PROTOCOL = "v4.channel.k8s.io";
+
+    private static final byte STDIN = 0;
+
+    private static final byte STDOUT = 1;
+
+    private static final byte STDERR = 2;
+
+    private static final byte ERROR = 3;
+
+    private static final byte RESIZE = 4;
+
+    private static final String EXIT_CODE = "ExitCode";
+
+    private static final int OUTPUT_BUFFER_SIZE = 32;
+
+    private static final String NON_ZERO_EXIT_CODE = "NonZeroExitCode";
+
+    private static final String SUCCESS = "Success";
+
+    private volatile boolean disposed;
+
+    private final WebsocketInbound inbound;
+
+    private final ObjectMapper objectMapper;
+
+    private final WebsocketOutbound outbound;
+
+    private final Sinks.One<Status> status = Sinks.one();
+
+    private final Output stderr = new Output();
+
+    private final Output stdout = new Output();
+
+    RemoteCommand(ObjectMapper objectMapper, WebsocketInbound inbound, WebsocketOutbound outbound) {
+        this.inbound = inbound;
+        this.objectMapper = objectMapper;
+        this.outbound = outbound;
+    }
+
+    /**
+     * Closes the connection to the command
+     */
+    @Override
+    public void dispose() {
+        disposed = true;
+        stdout.close();
+        stderr.close();
+        inbound.withConnection(DisposableChannel::dispose);
+    }
+
+    /**
+     * Returns the exit code of the command
+     *
+     * @return the exit code of the command, or a {@link StatusException} if the command failed without one. Empty if
+     * the connection closed without a {@link Status}.
+     */
+    public Mono<Integer> getExitCode() {
+        return getStatus().flatMap(RemoteCommand::getExitCode);
+    }
+
+    /**
+     * Returns the final status of the command
+     *
+     * @return the final status of the command, completing once the connection is closed. Empty if the connection
+     * closed without a {@link Status}.
+     */
+    public Mono<Status> getStatus() {
+        return status.asMono();
+    }
+
+    /**
+     * Returns the standard error of the command. May only be subscribed to once.
+     *
+     * @return the standard error of the command, completing once the connection is closed. Each buffer must be released
+     * by the subscriber.
+     */
+    public Flux<ByteBuf> getStderr() {
+        return stderr.asFlux();
+    }
+
+    /**
+     * Returns the standard output of the command. May only be subscribed to once.
+     *
+     * @return the standard output of the command, completing once the connection is closed. Each buffer must be
+     * released by the subscriber.
+     */
+    public Flux<ByteBuf> getStdout() {
+        return stdout.asFlux();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed;
+    }
+
+    /**
+     * Sends standard input and terminal resizes, and dispatches the messages received, until the connection is closed.
+     * The command completes when the server closes the connection, cancelling standard input and terminal resizes if
+     * they have not completed.
+     *
+     * @param stdin  the standard input of the command. Each buffer is sent without being copied, and must not be
+     *               modified once it has been emitted.
+     * @param resize the sizes of the terminal of the command
+     * @return a {@link Mono} that completes once the connection is closed
+     */
+    Mono<Void> run(Publisher<ByteBuffer> stdin, Publisher<TerminalSize> resize) {
+        Sinks.Empty<Void> received = Sinks.empty();
+
+        Mono<Void> send = outbound
+            .sendObject(Flux.merge(
+                Flux.from(stdin).map(b -> frame(STDIN, Unpooled.wrappedBuffer(b))),
+                Flux.from(resize).map(s -> frame(RESIZE, Unpooled.copiedBuffer(
+                    String.format("{\"Width\":%d,\"Height\":%d}", s.getWidth(), s.getHeight()), StandardCharsets.US_ASCII)))))
+            .then();
+
+        Mono<Void> receive = inbound
+            .aggregateFrames(MAX_MESSAGE_LENGTH)
+            .receiveFrames()
+            .map(this::dispatch)
+            .concatMap(Function.identity(), 1)
+            .then()
+            .doFinally(s -> received.tryEmitEmpty());
+
+        return Mono.when(send.takeUntilOther(received.asMono()), receive)
+            .doOnError(t -> {
+                stdout.sink.tryEmitError(t);
+                stderr.sink.tryEmitError(t);
+                status.tryEmitError(t);
+            })
+            .doOnSuccess(v -> {
+                stdout.sink.tryEmitComplete();
+                stderr.sink.tryEmitComplete();
+                status.tryEmitEmpty();
+            })
+            .doFinally(s -> {
+                disposed = true;
+                stdout.release();
+                stderr.release();
+            });
+    }
+
+    private static WebSocketFrame frame(byte channel, ByteBuf data) {
+        return new BinaryWebSocketFrame(Unpooled.wrappedBuffer(Unpooled.wrappedBuffer(new byte[]{channel}), data));
+    }
+
+    private static Mono<Integer> getExitCode(Status status) {
+        if (SUCCESS.equals(status.getStatus())) {
+            return Mono.just(0);
+        }
+
+        if (NON_ZERO_EXIT_CODE.equals(status.getReason()) && status.getDetails() != null) {
+            Optional<Integer> exitCode = status.getDetails().getCauses().stream()
+                .filter(c -> EXIT_CODE.equals(c.getReason()))
+                .map(StatusCause::getMessage)
+                .filter(Objects::nonNull)
+                .map(RemoteCommand::parseExitCode)
+                .filter(Objects::nonNull)
+                .findFirst();
+
+            if (exitCode.isPresent()) {
+                return Mono.just(exitCode.get());
+            }
+        }
+
+        return Mono.error(new StatusException(Optional.ofNullable(status.getCode()).orElse(500), status));
+    }
+
+    @Nullable
+    private static Integer parseExitCode(String message) {
+        try {
+            return Integer.valueOf(message);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // Frames are released once they have been received, so their payload is sliced as soon as they arrive, and the
+    // returned Mono completes once the payload has been accepted
+    private Mono<Void> dispatch(WebSocketFrame frame) {
+        ByteBuf content = frame.content();
+        if (!(frame instanceof BinaryWebSocketFrame) || content.readableBytes() < 2) {
+            return Mono.empty();
+        }
+
+        byte channel = content.getByte(content.readerIndex());
+        ByteBuf data = content.retainedSlice(content.readerIndex() + 1, content.readableBytes() - 1);
+
+        if (channel == STDOUT || channel == STDERR) {
+            return (channel == STDOUT ? stdout : stderr).offer(data);
+        }
+
+        try (InputStream in = new ByteBufInputStream(data, true)) {
+            if (channel == ERROR) {
+                status.tryEmitValue(objectMapper.readValue(in, Status.class));
+            }
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        }
+
+        return Mono.empty();
+    }
+
+    // Buffers the output of a stream until it is consumed. A buffer offered while the buffer is full waits until the
+    // subscriber has taken one, or has cancelled, before it is accepted.
+    private static final class Output {
+
+        private volatile boolean closed;
+
+        private final Sinks.Many<ByteBuf> sink = Sinks.many().unicast().onBackpressureBuffer(Queues.<ByteBuf>get(OUTPUT_BUFFER_SIZE).get());
+
+        private volatile Sinks.Empty<Void> space = Sinks.empty();
+
+        private Flux<ByteBuf> asFlux() {
+            return sink.asFlux()
+                .doOnNext(b -> space.tryEmitEmpty())
+                .doOnCancel(() -> space.tryEmitEmpty())
+                .doOnDiscard(ByteBuf.class, ReferenceCountUtil::release);
+        }
+
+        private void close() {
+            closed = true;
+            space.tryEmitEmpty();
+        }
+
+        private Mono<Void> offer(ByteBuf data) {
+            return Mono.defer(() -> {
+                if (closed) {
+                    data.release();
+                    return Mono.empty();
+                }
+
+                Sinks.Empty<Void> space = Sinks.empty();
+                this.space = space;
+
+                // A full buffer fails with FAIL_ZERO_SUBSCRIBER until it has been subscribed to, and FAIL_OVERFLOW after
+                Sinks.EmitResult result = sink.tryEmitNext(data);
+                if (result == Sinks.EmitResult.FAIL_OVERFLOW || result == Sinks.EmitResult.FAIL_ZERO_SUBSCRIBER) {
+                    return space.asMono()
+                        .doOnCancel(data::release)
+                        .then(offer(data));
+                }
+
+                if (result.isFailure()) {
+                    data.release();
+                }
+
+                return Mono.empty();
+            });
+        }
+
+        // Output that has not been subscribed to by the time the command completes is drained and released
+        private void release() {
+            if (sink.currentSubscriberCount() == 0) {
+                sink.asFlux().subscribe(ReferenceCountUtil::release, t -> {
+                });
+            }
+        }
+
+    }
+
+}
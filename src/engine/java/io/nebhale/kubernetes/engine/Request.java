@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.engine;
+
+import io.netty.handler.codec.http.HttpMethod;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A description of a single request to the Kubernetes API server, independent of the connection it is executed on.
+ */
+@Builder
+@SuppressWarnings("cast")
+@Value
+public class Request {
+
+    private static final Pattern PATH_VARIABLE = Pattern.compile("\\{([^}]+)}");
+
+    /**
+     * The HTTP method of the request
+     */
+    @NonNull
+    HttpMethod method;
+
+    /**
+     * The path template used when the request is scoped to a namespace
+     */
+    @Nullable
+    String namespacedPath;
+
+    /**
+     * The path template used when the request is not scoped to a namespace
+     */
+    @Nullable
+    String clusterPath;
+
+    /**
+     * The namespace the request is scoped to
+     */
+    @Nullable
+    String namespace;
+
+    /**
+     * The values substituted into the path template
+     */
+    @Singular
+    Map<String, String> pathVariables;
+
+    /**
+     * Additional path segments appended to the expanded path template
+     */
+    @Singular
+    List<String> subresources;
+
+    /**
+     * The query parameters of the request. Parameters with {@code null} values are omitted.
+     */
+    @Singular
+    Map<String, Object> queryParameters;
+
+    /**
+     * An options payload (e.g. {@code ListOptions}) whose properties are sent as query parameters
+     */
+    @Nullable
+    Object options;
+
+    /**
+     * The payload of the request
+     */
+    @Nullable
+    Object body;
+
+    /**
+     * The media type of the payload. Defaults to {@code application/json}.
+     */
+    @Nullable
+    String contentType;
+
+    /**
+     * Returns the expanded path of the request. When a namespace is specified, the namespaced path template is
+     * preferred, otherwise the cluster path template is used.
+     *
+     * @return the expanded path of the request
+     * @throws IllegalStateException if no path template is applicable or a path variable is missing
+     */
+    public String getPath() {
+        String template;
+        if (namespace != null && namespacedPath != null) {
+            template = namespacedPath;
+        } else if (clusterPath != null) {
+            template = clusterPath;
+        } else {
+            throw new IllegalStateException(String.format("%s %s requires a namespace", method, namespacedPath));
+        }
+
+        StringBuffer sb = new StringBuffer();
+        Matcher matcher = PATH_VARIABLE.matcher(template);
+        while (matcher.find()) {
+            String name = matcher.group(1);
+
+            String value = "namespace".equals(name) ? namespace : pathVariables.get(name);
+            if (value == null) {
+                throw new IllegalStateException(String.format("%s %s requires a value for '%s'", method, template, name));
+            }
+
+            matcher.appendReplacement(sb, Matcher.quoteReplacement(encode(value)));
+        }
+        matcher.appendTail(sb);
+
+        for (String subresource : subresources) {
+            sb.append('/').append(encode(subresource));
+        }
+
+        return sb.toString();
+    }
+
+    static String encode(String raw) {
+        try {
+            return URLEncoder.encode(raw, StandardCharsets.UTF_8.name())
+                .replace("+", "%20")
+                .replace("%2F", "/");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.engine;
+
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent identical reads into a single in-flight request. The first subscriber to a key executes the
+ * request, and every subscriber to the same key that arrives before it completes shares its result, receiving the
+ * same decoded instance or the same error. Once the request completes the key is released, so a later read always
+ * executes a new request and never observes a stale response.
+ * <p>
+ * A coalescer is opted into with {@link ConnectionContext#withCoalescing(RequestCoalescer)}, and may be shared by
+ * several contexts. Requests from contexts that decode responses differently are keyed apart, so each receives a
+ * response decoded with its own configuration.
+ */
+public final class RequestCoalescer {
+
+    private final LongAdder executions = new LongAdder();
+
+    private final ConcurrentMap<Object, Mono<?>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder requests = new LongAdder();
+
+    /**
+     * Returns the in-flight request for a key, executing it if there is none. The source is subscribed to at most
+     * once per execution, and runs to completion even if every subscriber cancels, so that subscribers that arrive
+     * later can still share its result.
+     *
+     * @param key    the identity of the request, such as its verb, path, and options
+     * @param source a supplier of the request to execute if none is in flight for the key
+     * @param <T>    the type of the response
+     * @return the response of the in-flight request
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> coalesce(Object key, Supplier<Mono<T>> source) {
+        return Mono.defer(() -> {
+            requests.increment();
+            return (Mono<T>) inFlight.computeIfAbsent(key, k -> {
+                executions.increment();
+                return source.get()
+                    .doOnTerminate(() -> inFlight.remove(k))
+                    .cache();
+            });
+        });
+    }
+
+    /**
+     * Returns the proportion of requests that were collapsed into a request already in flight
+     *
+     * @return the collapse ratio, between {@code 0} and {@code 1}, or {@code NaN} if there have been no requests
+     */
+    public double getCollapseRatio() {
+        long requests = getRequests();
+        return requests == 0 ? Double.NaN : (double) (requests - getExecutions()) / requests;
+    }
+
+    /**
+     * Returns the number of requests that were executed
+     *
+     * @return the number of executions
+     */
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    /**
+     * Returns the number of requests that are currently in flight
+     *
+     * @return the number of requests in flight
+     */
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    /**
+     * Returns the number of requests made, whether executed or collapsed
+     *
+     * @return the number of requests
+     */
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RequestCoalescer(requests=%d, executions=%d, inFlight=%d)", getRequests(), getExecutions(), getInFlight());
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.engine;
+
+import io.k8s.meta.v1.Status;
+import org.springframework.lang.Nullable;
+
+/**
+ * An exception indicating that the Kubernetes API server responded to a request with an error status.
+ */
+public final class StatusException extends RuntimeException {
+
+    private static final long serialVersionUID = -2486337016451291437L;
+
+    private final int statusCode;
+
+    @Nullable
+    private final transient Status status;
+
+    public StatusException(int statusCode, @Nullable Status status) {
+        super(getMessage(statusCode, status));
+        this.statusCode = statusCode;
+        this.status = status;
+    }
+
+    /**
+     * Returns the HTTP status code of the response
+     *
+     * @return the HTTP status code of the response
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Returns the {@link Status} returned by the API server, if the response contained one
+     *
+     * @return the {@link Status} returned by the API server
+     */
+    @Nullable
+    public Status getStatus() {
+        return status;
+    }
+
+    private static String getMessage(int statusCode, @Nullable Status status) {
+        if (status == null || status.getMessage() == null) {
+            return String.format("HTTP %d", statusCode);
+        }
+
+        return String.format("HTTP %d: %s", statusCode, status.getMessage());
+    }
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.engine;
+
+import lombok.Value;
+
+/**
+ * The size of the terminal of a remote command, sent when the terminal is resized
+ */
+@Value(staticConstructor = "of")
+public class TerminalSize {
+
+    /**
+     * The width of the terminal, in columns
+     */
+    int width;
+
+    /**
+     * The height of the terminal, in rows
+     */
+    int height;
+
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.engine;
+
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link RateLimiter} with a token bucket for each {@link RateLimiter.VerbClass verb class}, so that a burst of
+ * writes does not delay reads, and a burst of either does not delay watches. Each bucket refills at a steady rate and
+ * holds up to a burst of tokens. A request takes a token if one is available, or otherwise reserves the next token to
+ * be refilled and waits for it, so requests are queued rather than rejected and are sent in the order they reserved
+ * their tokens. Reservations are a single compare-and-set on the time the next token is refilled, and never lock.
+ * <p>
+ * When the API server throttles a request, the bucket of its verb class is paused until the {@code Retry-After} time
+ * has passed, and then refills from empty. API Priority and Fairness queues requests by priority level rather than by
+ * verb, so the buckets of every verb class last handled by the throttled priority level are paused with it.
+ */
+public final class TokenBucketRateLimiter implements RateLimiter {
+
+    /**
+     * The default number of read requests that may be sent at once
+     */
+    public static final int DEFAULT_READ_BURST = 100;
+
+    /**
+     * The default number of read requests per second
+     */
+    public static final double DEFAULT_READ_QPS = 50;
+
+    /**
+     * The default number of watch requests that may be sent at once
+     */
+    public static final int DEFAULT_WATCH_BURST = 20;
+
+    /**
+     * The default number of watch requests per second
+     */
+    public static final double DEFAULT_WATCH_QPS = 10;
+
+    /**
+     * The default number of write requests that may be sent at once
+     */
+    public static final int DEFAULT_WRITE_BURST = 40;
+
+    /**
+     * The default number of write requests per second
+     */
+    public static final double DEFAULT_WRITE_QPS = 20;
+
+    private final Map<VerbClass, Bucket> buckets = new EnumMap<>(VerbClass.class);
+
+    @lombok.Builder
+    TokenBucketRateLimiter(@Nullable Double readQps, @Nullable Integer readBurst, @Nullable Double writeQps, @Nullable Integer writeBurst,
+                           @Nullable Double watchQps, @Nullable Integer watchBurst) {
+
+        this.buckets.put(VerbClass.READ, new Bucket(
+            Optional.ofNullable(readQps).orElse(DEFAULT_READ_QPS), Optional.ofNullable(readBurst).orElse(DEFAULT_READ_BURST)));
+        this.buckets.put(VerbClass.WRITE, new Bucket(
+            Optional.ofNullable(writeQps).orElse(DEFAULT_WRITE_QPS), Optional.ofNullable(writeBurst).orElse(DEFAULT_WRITE_BURST)));
+        this.buckets.put(VerbClass.WATCH, new Bucket(
+            Optional.ofNullable(watchQps).orElse(DEFAULT_WATCH_QPS), Optional.ofNullable(watchBurst).orElse(DEFAULT_WATCH_BURST)));
+    }
+
+    @Override
+    public Mono<Void> acquire(VerbClass verbClass) {
+        Bucket bucket = buckets.get(verbClass);
+
+        return Mono.defer(() -> {
+            long delay = bucket.reserve(System.nanoTime());
+            if (delay <= 0) {
+                return Mono.empty();
+            }
+
+            bucket.waiting.incrementAndGet();
+            return Mono.delay(Duration.ofNanos(delay))
+                .then()
+                .doOnTerminate(bucket.waiting::decrementAndGet)
+                .doOnCancel(bucket.waiting::decrementAndGet);
+        });
+    }
+
+    /**
+     * Returns the number of requests of a verb class that have acquired a permit, whether immediately or after waiting
+     *
+     * @param verbClass the verb class
+     * @return the number of acquisitions
+     */
+    public long getAcquisitions(VerbClass verbClass) {
+        return buckets.get(verbClass).acquisitions.sum();
+    }
+
+    /**
+     * Returns the UID of the API Priority and Fairness priority level that last handled a request of a verb class
+     *
+     * @param verbClass the verb class
+     * @return the UID of the priority level, or {@code null} if the API server has not reported one
+     */
+    @Nullable
+    public String getPriorityLevel(VerbClass verbClass) {
+        return buckets.get(verbClass).priorityLevel;
+    }
+
+    /**
+     * Returns the number of requests of a verb class currently waiting for a permit
+     *
+     * @param verbClass the verb class
+     * @return the number of waiting requests
+     */
+    public int getQueueDepth(VerbClass verbClass) {
+        return buckets.get(verbClass).waiting.get();
+    }
+
+    /**
+     * Returns the total time requests of a verb class have waited for a permit
+     *
+     * @param verbClass the verb class
+     * @return the total wait time
+     */
+    public Duration getWaitTime(VerbClass verbClass) {
+        return Duration.ofNanos(buckets.get(verbClass).waitTime.sum());
+    }
+
+    @Override
+    public void observe(VerbClass verbClass, @Nullable String priorityLevel, @Nullable Duration retryAfter) {
+        Bucket bucket = buckets.get(verbClass);
+        if (priorityLevel != null) {
+            bucket.priorityLevel = priorityLevel;
+        }
+
+        if (retryAfter == null) {
+            return;
+        }
+
+        long until = System.nanoTime() + retryAfter.toNanos();
+        bucket.pause(until);
+
+        if (priorityLevel != null) {
+            buckets.values().stream()
+                .filter(b -> priorityLevel.equals(b.priorityLevel))
+                .forEach(b -> b.pause(until));
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "TokenBucketRateLimiter(", ")");
+        buckets.keySet().forEach(verbClass -> joiner.add(String.format("%s(queueDepth=%d, acquisitions=%d, waitTime=%s)",
+            verbClass, getQueueDepth(verbClass), getAcquisitions(verbClass), getWaitTime(verbClass))));
+        return joiner.toString();
+    }
+
+    private static final class Bucket {
+
+        private final LongAdder acquisitions = new LongAdder();
+
+        private final long capacity;
+
+        private final long interval;
+
+        private final AtomicLong next;
+
+        @Nullable
+        private volatile String priorityLevel;
+
+        private final AtomicInteger waiting = new AtomicInteger();
+
+        private final LongAdder waitTime = new LongAdder();
+
+        private Bucket(double qps, int burst) {
+            if (qps <= 0) {
+                throw new IllegalArgumentException(String.format("qps %f must be positive", qps));
+            }
+
+            if (burst < 1) {
+                throw new IllegalArgumentException(String.format("burst %d must be positive", burst));
+            }
+
+            this.interval = Math.max(1, (long) (Duration.ofSeconds(1).toNanos() / qps));
+            this.capacity = this.interval * burst;
+            this.next = new AtomicLong(System.nanoTime() - this.capacity);
+        }
+
+        // Delays the refill of the next token until the given time, leaving the bucket empty once it has passed
+        private void pause(long until) {
+            next.accumulateAndGet(until - interval, Math::max);
+        }
+
+        // The bucket is represented by the time its next token is refilled: the bucket is full when that time is at
+        // least a burst of intervals in the past, and each reservation moves it an interval into the future
+        private long reserve(long now) {
+            long current;
+            long reserved;
+
+            do {
+                current = next.get();
+                reserved = Math.max(current, now - capacity) + interval;
+            } while (!next.compareAndSet(current, reserved));
+
+            long delay = reserved - now;
+            acquisitions.increment();
+            if (delay > 0) {
+                waitTime.add(delay);
+            }
+
+            return delay;
+        }
+
+    }
+
+}
@@ -0,0 +1,323 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.fields;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import io.k8s.intstr.IntOrString;
+import io.k8s.meta.v1.ListMeta;
+import io.k8s.meta.v1.ObjectMeta;
+import io.k8s.resource.Quantity;
+import org.springframework.lang.Nullable;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A compiled field selector, evaluated against objects in memory rather than by the API server. The selector is the
+ * string form used by {@code ListOptions.fieldSelector}, a comma-separated list of requirements, all of which must
+ * match:
+ * <pre>
+ * spec.nodeName=node-1,status.phase!=Running,metadata.namespace==default
+ * </pre>
+ * Each field is a path of JSON property names through the model. When a selector is compiled, each path is resolved
+ * once to a chain of accessors bound directly to the model's getters, so evaluating a selector involves no reflection
+ * and, for string, integer, and boolean fields, no allocation. As in Kubernetes, an unset field has the value {@code
+ * ""}, and values may escape {@code \}, {@code ,}, and {@code =} with a backslash.
+ * <p>
+ * Unlike the API server, any scalar field of the model can be selected on.
+ *
+ * @param <T> the type of object selected
+ */
+public final class FieldSelector<T> implements Predicate<T> {
+
+    private static final SerializationConfig CONFIG = new ObjectMapper().getSerializationConfig();
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final List<Requirement> requirements;
+
+    private FieldSelector(List<Requirement> requirements) {
+        this.requirements = requirements;
+    }
+
+    /**
+     * Compiles a field selector
+     *
+     * @param type     the type of object selected
+     * @param selector the selector. An empty selector matches everything.
+     * @param <T>      the type of object selected
+     * @return the compiled selector
+     * @throws IllegalArgumentException if the selector cannot be parsed, or a field is not a scalar property of the type
+     */
+    public static <T> FieldSelector<T> parse(Class<T> type, String selector) {
+        List<Requirement> requirements = new ArrayList<>();
+
+        int start = 0;
+        for (int i = 0; i <= selector.length(); i++) {
+            if (i < selector.length() && selector.charAt(i) == '\\') {
+                i++;
+            } else if (i == selector.length() || selector.charAt(i) == ',') {
+                String term = selector.substring(start, i).trim();
+                if (!term.isEmpty() || i < selector.length() || !requirements.isEmpty()) {
+                    requirements.add(parseRequirement(type, selector, term));
+                }
+                start = i + 1;
+            }
+        }
+
+        return new FieldSelector<>(Collections.unmodifiableList(requirements));
+    }
+
+    /**
+     * Returns the requirements of this selector
+     *
+     * @return the requirements of this selector
+     */
+    public List<Requirement> getRequirements() {
+        return requirements;
+    }
+
+    /**
+     * Returns whether this selector matches an object
+     *
+     * @param object the object
+     * @return {@code true} if every requirement matches the object
+     */
+    @Override
+    public boolean test(T object) {
+        for (int i = 0; i < requirements.size(); i++) {
+            if (!requirements.get(i).test(object)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the string form of this selector, suitable for {@code ListOptions.fieldSelector}
+     *
+     * @return the string form of this selector
+     */
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(",");
+        requirements.forEach(r -> joiner.add(r.toString()));
+        return joiner.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> getAccessor(Method getter) {
+        try {
+            MethodHandle handle = LOOKUP.unreflect(getter);
+            CallSite site = LambdaMetafactory.metafactory(LOOKUP, "apply", MethodType.methodType(Function.class),
+                MethodType.methodType(Object.class, Object.class), handle, handle.type());
+            return (Function<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable t) {
+            throw new IllegalStateException(String.format("unable to bind %s", getter), t);
+        }
+    }
+
+    private static Requirement parseRequirement(Class<?> type, String selector, String term) {
+        int end = term.indexOf('=');
+        if (end < 1) {
+            throw new IllegalArgumentException(String.format("invalid field selector '%s': '%s' is not of the form field=value", selector, term));
+        }
+
+        boolean negated = term.charAt(end - 1) == '!';
+        String field = term.substring(0, negated ? end - 1 : end).trim();
+        int valueStart = !negated && term.startsWith("==", end) ? end + 2 : end + 1;
+        String value = unescape(term.substring(valueStart).trim());
+
+        List<Function<Object, Object>> accessors = new ArrayList<>();
+        Class<?> current = type;
+        for (String name : field.split("\\.", -1)) {
+            if ("metadata".equals(name) && (ObjectMeta.class.isAssignableFrom(current) || ListMeta.class.isAssignableFrom(current))) {
+                continue; // model classes inline their metadata
+            }
+
+            Method getter = getGetter(current, name);
+            if (getter == null) {
+                throw new IllegalArgumentException(String.format("invalid field selector '%s': %s has no property '%s'", selector, current.getSimpleName(), name));
+            }
+
+            accessors.add(getAccessor(getter));
+            current = getter.getReturnType();
+        }
+
+        if (!isScalar(current) || accessors.isEmpty()) {
+            throw new IllegalArgumentException(String.format("invalid field selector '%s': '%s' is not a scalar field", selector, field));
+        }
+
+        return new Requirement(field, negated, value, accessors, current);
+    }
+
+    @Nullable
+    private static Method getGetter(Class<?> type, String name) {
+        BeanDescription description = CONFIG.introspect(CONFIG.constructType(type));
+
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            AnnotatedMember getter = property.getAccessor();
+            if (name.equals(property.getName()) && getter != null && getter.getMember() instanceof Method) {
+                return (Method) getter.getMember();
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean isScalar(Class<?> type) {
+        return CharSequence.class.isAssignableFrom(type) || Number.class.isAssignableFrom(type) || Boolean.class == type || type.isEnum() ||
+            Temporal.class.isAssignableFrom(type) || IntOrString.class == type || Quantity.class == type;
+    }
+
+    private static String unescape(String value) {
+        if (value.indexOf('\\') == -1) {
+            return value;
+        }
+
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                c = value.charAt(++i);
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    private static String escape(String value) {
+        return value
+            .replace("\\", "\\\\")
+            .replace(",", "\\,")
+            .replace("=", "\\=");
+    }
+
+    /**
+     * A single requirement of a {@link FieldSelector}
+     */
+    public static final class Requirement {
+
+        private final List<Function<Object, Object>> accessors;
+
+        // the value converted to the type of the field, or null if it is compared as a string
+        @Nullable
+        private final Object expected;
+
+        private final String field;
+
+        private final boolean negated;
+
+        private final String value;
+
+        private Requirement(String field, boolean negated, String value, List<Function<Object, Object>> accessors, Class<?> type) {
+            this.field = field;
+            this.negated = negated;
+            this.value = value;
+            this.accessors = accessors;
+            this.expected = convert(value, type);
+        }
+
+        /**
+         * Returns the path of the field this requirement applies to
+         *
+         * @return the path of the field
+         */
+        public String getField() {
+            return field;
+        }
+
+        /**
+         * Returns the value the field is compared with
+         *
+         * @return the value
+         */
+        public String getValue() {
+            return value;
+        }
+
+        /**
+         * Returns whether the field must not equal the value, rather than equal it
+         *
+         * @return {@code true} if the field must not equal the value
+         */
+        public boolean isNegated() {
+            return negated;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s%s%s", field, negated ? "!=" : "=", escape(value));
+        }
+
+        private boolean test(Object object) {
+            Object current = object;
+            for (int i = 0; i < accessors.size() && current != null; i++) {
+                current = accessors.get(i).apply(current);
+            }
+
+            boolean equal;
+            if (current == null) {
+                equal = value.isEmpty();
+            } else if (expected != null) {
+                equal = expected.equals(current);
+            } else {
+                equal = value.equals(current.toString());
+            }
+
+            return equal != negated;
+        }
+
+        // Only values whose string form round-trips are converted, so that matching is the same as comparing strings
+        @Nullable
+        private static Object convert(String value, Class<?> type) {
+            try {
+                if (String.class == type) {
+                    return value;
+                } else if (Integer.class == type && Integer.toString(Integer.parseInt(value)).equals(value)) {
+                    return Integer.parseInt(value);
+                } else if (Long.class == type && Long.toString(Long.parseLong(value)).equals(value)) {
+                    return Long.parseLong(value);
+                } else if (Boolean.class == type && ("true".equals(value) || "false".equals(value))) {
+                    return Boolean.valueOf(value);
+                }
+            } catch (NumberFormatException e) {
+                return null;
+            }
+
+            return null;
+        }
+
+    }
+
+}
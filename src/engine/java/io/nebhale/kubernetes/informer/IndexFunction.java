@@ -0,0 +1,37 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.informer;
+
+import java.util.Collection;
+
+/**
+ * Computes the values an object is indexed under in a {@link Store}
+ *
+ * @param <T> the type of object indexed
+ */
+@FunctionalInterface
+public interface IndexFunction<T> {
+
+    /**
+     * Returns the values an object is indexed under
+     *
+     * @param object the object to index
+     * @return the values the object is indexed under, empty if the object should not be indexed
+     */
+    Collection<String> index(T object);
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.informer;
+
+import io.k8s.meta.v1.ObjectMeta;
+import io.k8s.meta.v1.OwnerReference;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Common {@link IndexFunction}s over {@link ObjectMeta}
+ */
+public final class Indexers {
+
+    /**
+     * The conventional name of the {@link #labels()} index, used by {@link Store#list(io.nebhale.kubernetes.labels.Selector)}
+     */
+    public static final String LABELS = "labels";
+
+    /**
+     * The conventional name of the {@link #namespace()} index
+     */
+    public static final String NAMESPACE = "namespace";
+
+    /**
+     * The conventional name of the {@link #ownerUid()} index
+     */
+    public static final String OWNER_UID = "ownerUid";
+
+    private Indexers() {
+    }
+
+    /**
+     * Indexes objects by the value of a label
+     *
+     * @param key the key of the label
+     * @param <T> the type of object indexed
+     * @return an {@link IndexFunction} indexing objects by the value of the label, skipping objects without it
+     */
+    public static <T extends ObjectMeta> IndexFunction<T> label(String key) {
+        return object -> {
+            Map<String, String> labels = object.getLabels();
+            if (labels == null || !labels.containsKey(key)) {
+                return Collections.emptyList();
+            }
+
+            return Collections.singletonList(labels.get(key));
+        };
+    }
+
+    /**
+     * Indexes objects by each of their labels, as {@code key=value}
+     *
+     * @param <T> the type of object indexed
+     * @return an {@link IndexFunction} indexing objects by each of their labels
+     */
+    public static <T extends ObjectMeta> IndexFunction<T> labels() {
+        return object -> {
+            Map<String, String> labels = object.getLabels();
+            if (labels == null || labels.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            List<String> values = new ArrayList<>(labels.size());
+            labels.forEach((key, value) -> values.add(getLabelValue(key, value)));
+            return values;
+        };
+    }
+
+    /**
+     * Indexes objects by their namespace
+     *
+     * @param <T> the type of object indexed
+     * @return an {@link IndexFunction} indexing objects by their namespace, skipping cluster-scoped objects
+     */
+    public static <T extends ObjectMeta> IndexFunction<T> namespace() {
+        return object -> {
+            String namespace = object.getNamespace();
+            return namespace == null ? Collections.emptyList() : Collections.singletonList(namespace);
+        };
+    }
+
+    /**
+     * Indexes objects by the UIDs of their owners
+     *
+     * @param <T> the type of object indexed
+     * @return an {@link IndexFunction} indexing objects by the UIDs of their owners
+     */
+    public static <T extends ObjectMeta> IndexFunction<T> ownerUid() {
+        return object -> {
+            List<OwnerReference> ownerReferences = object.getOwnerReferences();
+            if (ownerReferences == null) {
+                return Collections.emptyList();
+            }
+
+            return ownerReferences.stream()
+                .map(OwnerReference::getUid)
+                .collect(Collectors.toList());
+        };
+    }
+
+    static String getLabelValue(String key, String value) {
+        return String.format("%s=%s", key, value);
+    }
+
+}
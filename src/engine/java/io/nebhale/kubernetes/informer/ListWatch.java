@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.informer;
+
+import io.k8s.meta.v1.ListMeta;
+import io.k8s.meta.v1.ListOptions;
+import io.k8s.meta.v1.ObjectMeta;
+import io.k8s.meta.v1.WatchEvent;
+import lombok.Builder;
+import lombok.Value;
+import org.springframework.lang.NonNull;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The list and watch operations of a single resource type, typically the {@code list} and {@code watch} methods of a
+ * generated client:
+ * <pre>
+ * ListWatch.of(podClient::list, PodList::getItems, podClient::watch)
+ * </pre>
+ *
+ * @param <T> the type of the resource
+ * @param <L> the type of the list of the resource
+ */
+@Builder
+@Value
+public class ListWatch<T extends ObjectMeta, L extends ListMeta> {
+
+    /**
+     * Lists the resources
+     */
+    @NonNull
+    Function<ListOptions, Mono<L>> list;
+
+    /**
+     * Extracts the items of a list
+     */
+    @NonNull
+    Function<L, List<T>> items;
+
+    /**
+     * Watches the resources
+     */
+    @NonNull
+    Function<ListOptions, Flux<WatchEvent<T>>> watch;
+
+    /**
+     * Creates a new instance
+     *
+     * @param list  lists the resources
+     * @param items extracts the items of a list
+     * @param watch watches the resources
+     * @param <T>   the type of the resource
+     * @param <L>   the type of the list of the resource
+     * @return the new instance
+     */
+    public static <T extends ObjectMeta, L extends ListMeta> ListWatch<T, L> of(Function<ListOptions, Mono<L>> list, Function<L, List<T>> items,
+                                                                                Function<ListOptions, Flux<WatchEvent<T>>> watch) {
+        return ListWatch.<T, L>builder()
+            .list(list)
+            .items(items)
+            .watch(watch)
+            .build();
+    }
+
+}
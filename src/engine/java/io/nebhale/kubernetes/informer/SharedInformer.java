@@ -0,0 +1,332 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.informer;
+
+import io.k8s.meta.v1.ListMeta;
+import io.k8s.meta.v1.ListOptions;
+import io.k8s.meta.v1.ObjectMeta;
+import io.k8s.meta.v1.WatchEvent;
+import io.nebhale.kubernetes.engine.StatusException;
+import org.springframework.lang.Nullable;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Maintains a {@link Store} of all objects of a resource type with a single list and watch, and shares it and its
+ * stream of changes with any number of subscribers.
+ * <p>
+ * The informer lists the resources once, then watches from the resourceVersion of the list, resuming each watch from
+ * the last resourceVersion observed when the API server closes it. If that resourceVersion has expired the resources
+ * are listed again, and the differences with the {@link Store} published as events. Any other error is retried with
+ * an exponential backoff.
+ *
+ * @param <T> the type of the resource
+ */
+public final class SharedInformer<T extends ObjectMeta> implements Disposable {
+
+    static final int MAX_BUFFERED_EVENTS = 1024;
+
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private static final Duration MIN_BACKOFF = Duration.ofSeconds(1);
+
+    private static final int STATUS_GONE = 410;
+
+    private final ListWatch<T, ?> listWatch;
+
+    private final ListOptions options;
+
+    private final Object monitor = new Object();
+
+    private final Store<T> store = new Store<>();
+
+    private final Set<Sinks.Many<WatchEvent<T>>> subscribers = new CopyOnWriteArraySet<>();
+
+    private final AtomicReference<Disposable> subscription = new AtomicReference<>();
+
+    private final Sinks.Empty<Void> synced = Sinks.empty();
+
+    @Nullable
+    private volatile String resourceVersion;
+
+    /**
+     * Creates a new instance that informs on all resources
+     *
+     * @param listWatch the list and watch operations of the resource
+     */
+    public SharedInformer(ListWatch<T, ?> listWatch) {
+        this(listWatch, ListOptions.builder().build());
+    }
+
+    /**
+     * Creates a new instance that informs on the resources matching selectors
+     *
+     * @param listWatch the list and watch operations of the resource
+     * @param options   the {@code labelSelector} and {@code fieldSelector} to restrict the resources by. Other options
+     *                  are ignored.
+     */
+    public SharedInformer(ListWatch<T, ?> listWatch, ListOptions options) {
+        this.listWatch = listWatch;
+        this.options = options;
+    }
+
+    @Override
+    public void dispose() {
+        Disposable d = subscription.getAndSet(Disposables.disposed());
+        if (d != null) {
+            d.dispose();
+        }
+
+        synchronized (monitor) {
+            subscribers.forEach(Sinks.Many::tryEmitComplete);
+            subscribers.clear();
+        }
+    }
+
+    /**
+     * Returns the changes to the {@link Store}. Each subscriber first receives an {@link WatchEvent#ADDED} event for
+     * every object already in the {@link Store}, followed by every subsequent change. Up to {@value
+     * #MAX_BUFFERED_EVENTS} changes a subscriber has not yet requested are buffered. A subscriber that falls further
+     * behind receives the changes already buffered and is then resynced: rather than the changes it missed, it receives
+     * an event for each difference between the objects it has received and the {@link Store}, followed by every
+     * subsequent change. To resync subscribers, the informer tracks the objects each one has received.
+     *
+     * @return the changes to the {@link Store}
+     */
+    public Flux<WatchEvent<T>> events() {
+        return Flux.defer(() -> events(new HashMap<>()));
+    }
+
+    /**
+     * Returns the {@link Store} maintained by this informer
+     *
+     * @return the {@link Store} maintained by this informer
+     */
+    public Store<T> getStore() {
+        return store;
+    }
+
+    @Override
+    public boolean isDisposed() {
+        Disposable d = subscription.get();
+        return d != null && d.isDisposed();
+    }
+
+    /**
+     * Starts listing and watching the resource. Calling this method more than once has no effect.
+     *
+     * @return this informer
+     */
+    public SharedInformer<T> start() {
+        if (subscription.get() == null) {
+            Disposable d = run().subscribe();
+            if (!subscription.compareAndSet(null, d)) {
+                d.dispose();
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Returns a {@link Mono} that completes once the {@link Store} has been populated by the first list
+     *
+     * @return a {@link Mono} that completes once the {@link Store} has been populated by the first list
+     */
+    public Mono<Void> synced() {
+        return synced.asMono();
+    }
+
+    private static boolean isExpired(Throwable t) {
+        return t instanceof StatusException && ((StatusException) t).getStatusCode() == STATUS_GONE;
+    }
+
+    private WatchEvent<T> apply(WatchEvent<T> event) {
+        String type = event.getType();
+
+        if (!WatchEvent.BOOKMARK.equals(type)) {
+            T object = event.getObject();
+
+            synchronized (monitor) {
+                if (WatchEvent.DELETED.equals(type)) {
+                    store.remove(Store.getKey(object));
+                } else {
+                    store.put(object);
+                }
+
+                dispatch(event);
+            }
+        }
+
+        if (event.getResourceVersion() != null) {
+            resourceVersion = event.getResourceVersion();
+        }
+
+        return event;
+    }
+
+    // A full buffer fails with FAIL_ZERO_SUBSCRIBER until it has been subscribed to, and FAIL_OVERFLOW after
+    private void dispatch(WatchEvent<T> event) {
+        for (Sinks.Many<WatchEvent<T>> subscriber : subscribers) {
+            Sinks.EmitResult result = subscriber.tryEmitNext(event);
+
+            if (result == Sinks.EmitResult.FAIL_OVERFLOW || result == Sinks.EmitResult.FAIL_ZERO_SUBSCRIBER) {
+                subscribers.remove(subscriber);
+                subscriber.tryEmitError(Exceptions.failWithOverflow(String.format("more than %d events buffered", MAX_BUFFERED_EVENTS)));
+            }
+        }
+    }
+
+    // Each round sends the differences between the objects the subscriber has received and the store, then the changes
+    // to the store until the subscriber falls too far behind, after which a new round starts
+    private Flux<WatchEvent<T>> events(Map<String, T> received) {
+        return Flux.defer(() -> {
+            Sinks.Many<WatchEvent<T>> sink = Sinks.many().unicast().onBackpressureBuffer(Queues.<WatchEvent<T>>get(MAX_BUFFERED_EVENTS).get());
+            List<WatchEvent<T>> differences;
+
+            synchronized (monitor) {
+                differences = getDifferences(received);
+                if (isDisposed()) {
+                    sink.tryEmitComplete();
+                } else {
+                    subscribers.add(sink);
+                }
+            }
+
+            return Flux.fromIterable(differences)
+                .concatWith(sink.asFlux())
+                .doFinally(s -> subscribers.remove(sink));
+        })
+            .doOnNext(e -> {
+                String key = Store.getKey(e.getObject());
+                if (WatchEvent.DELETED.equals(e.getType())) {
+                    received.remove(key);
+                } else {
+                    received.put(key, e.getObject());
+                }
+            })
+            .onErrorResume(Exceptions::isOverflow, t -> events(received));
+    }
+
+    private List<WatchEvent<T>> getDifferences(Map<String, T> received) {
+        List<WatchEvent<T>> events = new ArrayList<>();
+        Set<String> keys = new HashSet<>();
+
+        for (T object : store.list()) {
+            String key = Store.getKey(object);
+            keys.add(key);
+
+            T previous = received.get(key);
+            if (previous == null) {
+                events.add(WatchEvent.of(WatchEvent.ADDED, object));
+            } else if (!Objects.equals(previous.getResourceVersion(), object.getResourceVersion())) {
+                events.add(WatchEvent.of(WatchEvent.MODIFIED, object));
+            }
+        }
+
+        received.forEach((key, object) -> {
+            if (!keys.contains(key)) {
+                events.add(WatchEvent.of(WatchEvent.DELETED, object));
+            }
+        });
+
+        return events;
+    }
+
+    private <L extends ListMeta> Flux<WatchEvent<T>> list(ListWatch<T, L> listWatch) {
+        ListOptions listOptions = ListOptions.builder()
+            .labelSelector(options.getLabelSelector())
+            .fieldSelector(options.getFieldSelector())
+            .build();
+
+        return listWatch.getList().apply(listOptions)
+            .flatMapIterable(l -> {
+                List<WatchEvent<T>> events = replace(listWatch.getItems().apply(l));
+                resourceVersion = l.getResourceVersion();
+                synced.tryEmitEmpty();
+                return events;
+            });
+    }
+
+    private List<WatchEvent<T>> replace(List<T> objects) {
+        List<WatchEvent<T>> events = new ArrayList<>();
+
+        synchronized (monitor) {
+            Set<String> keys = new HashSet<>();
+
+            for (T object : objects) {
+                keys.add(Store.getKey(object));
+
+                T previous = store.put(object);
+                if (previous == null) {
+                    events.add(WatchEvent.of(WatchEvent.ADDED, object));
+                } else if (!Objects.equals(previous.getResourceVersion(), object.getResourceVersion())) {
+                    events.add(WatchEvent.of(WatchEvent.MODIFIED, object));
+                }
+            }
+
+            for (T object : store.list()) {
+                String key = Store.getKey(object);
+                if (!keys.contains(key)) {
+                    store.remove(key);
+                    events.add(WatchEvent.of(WatchEvent.DELETED, object));
+                }
+            }
+
+            events.forEach(this::dispatch);
+        }
+
+        return events;
+    }
+
+    private Flux<WatchEvent<T>> run() {
+        return Flux.defer(() -> list(listWatch))
+            .concatWith(Flux.defer(this::watch).repeat())
+            .retryWhen(Retry.indefinitely().filter(SharedInformer::isExpired))
+            .retryWhen(Retry.backoff(Long.MAX_VALUE, MIN_BACKOFF).maxBackoff(MAX_BACKOFF).transientErrors(true));
+    }
+
+    private Flux<WatchEvent<T>> watch() {
+        ListOptions watchOptions = ListOptions.builder()
+            .labelSelector(options.getLabelSelector())
+            .fieldSelector(options.getFieldSelector())
+            .resourceVersion(resourceVersion)
+            .allowWatchBookmarks(true)
+            .build();
+
+        return listWatch.getWatch().apply(watchOptions)
+            .map(this::apply);
+    }
+
+}
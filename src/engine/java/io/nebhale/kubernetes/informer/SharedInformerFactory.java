@@ -0,0 +1,65 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.informer;
+
+import io.k8s.meta.v1.ObjectMeta;
+import reactor.core.Disposable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A registry of {@link SharedInformer}s, ensuring that a process lists and watches each resource type at most once no
+ * matter how many components are interested in it.
+ */
+public final class SharedInformerFactory implements Disposable {
+
+    private final Map<Class<?>, SharedInformer<?>> informers = new ConcurrentHashMap<>();
+
+    private volatile boolean disposed;
+
+    @Override
+    public void dispose() {
+        disposed = true;
+        informers.values().forEach(SharedInformer::dispose);
+        informers.clear();
+    }
+
+    /**
+     * Returns the started {@link SharedInformer} for a resource type, creating it on first use
+     *
+     * @param type      the type of the resource
+     * @param listWatch the list and watch operations of the resource. Only used if the informer does not yet exist.
+     * @param <T>       the type of the resource
+     * @return the started {@link SharedInformer} for the resource type
+     * @throws IllegalStateException if this factory has been disposed
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends ObjectMeta> SharedInformer<T> getInformer(Class<T> type, ListWatch<T, ?> listWatch) {
+        if (disposed) {
+            throw new IllegalStateException("factory has been disposed");
+        }
+
+        return (SharedInformer<T>) informers.computeIfAbsent(type, t -> new SharedInformer<>(listWatch).start());
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed;
+    }
+
+}
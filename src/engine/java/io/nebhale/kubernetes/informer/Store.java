@@ -0,0 +1,282 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.informer;
+
+import io.k8s.meta.v1.ObjectMeta;
+import io.nebhale.kubernetes.labels.Selector;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * A thread-safe, in-memory store of objects keyed by {@code namespace/name} with any number of secondary indexes.
+ * Reads never block and may run concurrently with writes; writes are serialized.
+ *
+ * @param <T> the type of object stored
+ */
+public final class Store<T extends ObjectMeta> {
+
+    private final Map<String, IndexFunction<? super T>> indexFunctions = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<String, Set<String>>> indexes = new ConcurrentHashMap<>();
+
+    private final Object monitor = new Object();
+
+    private final Map<String, T> objects = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the key of an object
+     *
+     * @param object the object
+     * @return {@code namespace/name} for namespaced objects and {@code name} for cluster-scoped objects
+     */
+    public static String getKey(ObjectMeta object) {
+        return getKey(object.getNamespace(), Objects.requireNonNull(object.getName(), "name"));
+    }
+
+    /**
+     * Returns the key of an object
+     *
+     * @param namespace the namespace of the object, {@code null} for cluster-scoped objects
+     * @param name      the name of the object
+     * @return {@code namespace/name} for namespaced objects and {@code name} for cluster-scoped objects
+     */
+    public static String getKey(@Nullable String namespace, String name) {
+        return namespace == null || namespace.isEmpty() ? name : String.format("%s/%s", namespace, name);
+    }
+
+    /**
+     * Adds a secondary index, indexing any objects already stored
+     *
+     * @param name          the name of the index
+     * @param indexFunction computes the values objects are indexed under
+     * @throws IllegalArgumentException if an index with the name already exists
+     */
+    public void addIndex(String name, IndexFunction<? super T> indexFunction) {
+        synchronized (monitor) {
+            if (indexFunctions.putIfAbsent(name, indexFunction) != null) {
+                throw new IllegalArgumentException(String.format("index %s already exists", name));
+            }
+
+            Map<String, Set<String>> index = new ConcurrentHashMap<>();
+            objects.forEach((key, object) -> indexFunction.index(object).forEach(v -> add(index, v, key)));
+            indexes.put(name, index);
+        }
+    }
+
+    /**
+     * Returns an object
+     *
+     * @param key the key of the object
+     * @return the object, or {@code null} if no object with the key is stored
+     */
+    @Nullable
+    public T get(String key) {
+        return objects.get(key);
+    }
+
+    /**
+     * Returns an object
+     *
+     * @param namespace the namespace of the object, {@code null} for cluster-scoped objects
+     * @param name      the name of the object
+     * @return the object, or {@code null} if no object with the namespace and name is stored
+     */
+    @Nullable
+    public T get(@Nullable String namespace, String name) {
+        return get(getKey(namespace, name));
+    }
+
+    /**
+     * Returns the objects indexed under a value
+     *
+     * @param indexName the name of the index
+     * @param value     the indexed value
+     * @return the objects indexed under the value
+     * @throws IllegalArgumentException if no index with the name exists
+     */
+    public List<T> getByIndex(String indexName, String value) {
+        Map<String, Set<String>> index = indexes.get(indexName);
+        if (index == null) {
+            throw new IllegalArgumentException(String.format("index %s does not exist", indexName));
+        }
+
+        Set<String> keys = index.get(value);
+        if (keys == null) {
+            return Collections.emptyList();
+        }
+
+        return keys.stream()
+            .map(objects::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the values indexed in an index
+     *
+     * @param indexName the name of the index
+     * @return the values indexed in the index
+     * @throws IllegalArgumentException if no index with the name exists
+     */
+    public Set<String> getIndexValues(String indexName) {
+        Map<String, Set<String>> index = indexes.get(indexName);
+        if (index == null) {
+            throw new IllegalArgumentException(String.format("index %s does not exist", indexName));
+        }
+
+        return Collections.unmodifiableSet(index.keySet());
+    }
+
+    /**
+     * Returns all objects
+     *
+     * @return all objects
+     */
+    public List<T> list() {
+        return new ArrayList<>(objects.values());
+    }
+
+    /**
+     * Returns the objects matching a predicate, such as a {@link io.nebhale.kubernetes.fields.FieldSelector}
+     *
+     * @param predicate the predicate
+     * @return the objects matching the predicate
+     */
+    public List<T> list(Predicate<? super T> predicate) {
+        return objects.values().stream()
+            .filter(predicate)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the objects whose labels match a selector. If the {@link Indexers#LABELS} index exists, only the objects
+     * indexed under the most selective equality or set-inclusion requirement of the selector are evaluated, rather than
+     * every object.
+     *
+     * @param selector the selector
+     * @return the objects matching the selector
+     */
+    public List<T> list(Selector selector) {
+        if (selector.isEverything()) {
+            return list();
+        }
+
+        Collection<String> keys = getCandidates(selector);
+        if (keys == null) {
+            return objects.values().stream()
+                .filter(selector::matches)
+                .collect(Collectors.toList());
+        }
+
+        return keys.stream()
+            .map(objects::get)
+            .filter(Objects::nonNull)
+            .filter(selector::matches)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the number of objects
+     *
+     * @return the number of objects
+     */
+    public int size() {
+        return objects.size();
+    }
+
+    @Nullable
+    T put(T object) {
+        String key = getKey(object);
+
+        synchronized (monitor) {
+            T previous = objects.put(key, object);
+            reindex(key, previous, object);
+            return previous;
+        }
+    }
+
+    @Nullable
+    T remove(String key) {
+        synchronized (monitor) {
+            T previous = objects.remove(key);
+            reindex(key, previous, null);
+            return previous;
+        }
+    }
+
+    // Returns the keys indexed under the requirement matching the fewest objects, or null if no requirement is indexed
+    @Nullable
+    private Collection<String> getCandidates(Selector selector) {
+        Map<String, Set<String>> index = indexes.get(Indexers.LABELS);
+        if (index == null) {
+            return null;
+        }
+
+        Collection<String> candidates = null;
+        for (Selector.Requirement requirement : selector.getRequirements()) {
+            if (requirement.getOperator() != Selector.Operator.EQUALS && requirement.getOperator() != Selector.Operator.IN) {
+                continue;
+            }
+
+            Collection<String> keys = new ArrayList<>();
+            for (String value : requirement.getValues()) {
+                keys.addAll(index.getOrDefault(Indexers.getLabelValue(requirement.getKey(), value), Collections.emptySet()));
+            }
+
+            if (candidates == null || keys.size() < candidates.size()) {
+                candidates = keys;
+            }
+        }
+
+        return candidates;
+    }
+
+    private static void add(Map<String, Set<String>> index, String value, String key) {
+        index.computeIfAbsent(value, v -> ConcurrentHashMap.newKeySet()).add(key);
+    }
+
+    private static void remove(Map<String, Set<String>> index, String value, String key) {
+        index.computeIfPresent(value, (v, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    private void reindex(String key, @Nullable T previous, @Nullable T current) {
+        indexFunctions.forEach((name, indexFunction) -> {
+            Map<String, Set<String>> index = indexes.get(name);
+            Collection<String> previousValues = previous == null ? Collections.emptySet() : indexFunction.index(previous);
+            Collection<String> currentValues = current == null ? Collections.emptySet() : indexFunction.index(current);
+
+            previousValues.stream()
+                .filter(v -> !currentValues.contains(v))
+                .forEach(v -> remove(index, v, key));
+            currentValues.forEach(v -> add(index, v, key));
+        });
+    }
+
+}
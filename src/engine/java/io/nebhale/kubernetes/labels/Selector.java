@@ -0,0 +1,555 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.labels;
+
+import io.k8s.meta.v1.LabelSelector;
+import io.k8s.meta.v1.LabelSelectorRequirement;
+import io.k8s.meta.v1.ObjectMeta;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+
+/**
+ * A compiled label selector. Both the string form used by {@code ListOptions.labelSelector} and the structured {@link
+ * LabelSelector} compile to the same immutable matcher, which can be evaluated against the labels of any number of
+ * objects, from any number of threads, without allocating.
+ * <p>
+ * The string form is a comma-separated list of requirements, all of which must match:
+ * <pre>
+ * environment=production, tier!=frontend, release in (stable, canary), !deprecated, partition, replicas&gt;2
+ * </pre>
+ */
+public final class Selector {
+
+    private static final Selector EVERYTHING = new Selector(Collections.emptyList(), true);
+
+    private static final Selector NOTHING = new Selector(Collections.emptyList(), false);
+
+    private static final String SPECIAL_CHARACTERS = "=!(),<>";
+
+    private final boolean matchesEmpty;
+
+    private final List<Requirement> requirements;
+
+    private Selector(List<Requirement> requirements, boolean matchesEmpty) {
+        this.requirements = requirements;
+        this.matchesEmpty = matchesEmpty;
+    }
+
+    /**
+     * Returns a selector that matches every object
+     *
+     * @return a selector that matches every object
+     */
+    public static Selector everything() {
+        return EVERYTHING;
+    }
+
+    /**
+     * Returns a selector that matches no object. This selector has no string form and, as in Kubernetes, renders as an
+     * empty string.
+     *
+     * @return a selector that matches no object
+     */
+    public static Selector nothing() {
+        return NOTHING;
+    }
+
+    /**
+     * Compiles a structured selector. As in Kubernetes, a {@code null} selector matches nothing while an empty selector
+     * matches everything.
+     *
+     * @param labelSelector the selector
+     * @return the compiled selector
+     * @throws IllegalArgumentException if a requirement has an unknown operator or values inconsistent with it
+     */
+    public static Selector of(@Nullable LabelSelector labelSelector) {
+        if (labelSelector == null) {
+            return NOTHING;
+        }
+
+        List<Requirement> requirements = new ArrayList<>();
+        labelSelector.getMatchLabels().forEach((key, value) -> requirements.add(new Requirement(key, Operator.EQUALS, value)));
+        for (LabelSelectorRequirement expression : labelSelector.getMatchExpressions()) {
+            requirements.add(new Requirement(expression.getKey(), Operator.fromLabelSelectorOperator(expression.getOperator()),
+                expression.getValues().toArray(new String[0])));
+        }
+
+        return compile(requirements);
+    }
+
+    /**
+     * Compiles a set-based selector, such as {@code Service.spec.selector}, where every label must equal its value. As
+     * in Kubernetes, a {@code null} or empty map matches everything.
+     *
+     * @param labels the labels to match
+     * @return the compiled selector
+     */
+    public static Selector of(@Nullable Map<String, String> labels) {
+        if (labels == null || labels.isEmpty()) {
+            return EVERYTHING;
+        }
+
+        List<Requirement> requirements = new ArrayList<>(labels.size());
+        labels.forEach((key, value) -> requirements.add(new Requirement(key, Operator.EQUALS, value)));
+        return compile(requirements);
+    }
+
+    /**
+     * Compiles the string form of a selector
+     *
+     * @param selector the selector
+     * @return the compiled selector. An empty selector matches everything.
+     * @throws IllegalArgumentException if the selector cannot be parsed
+     */
+    public static Selector parse(String selector) {
+        return compile(new Parser(selector).parse());
+    }
+
+    /**
+     * Returns the requirements of this selector, sorted by key
+     *
+     * @return the requirements of this selector
+     */
+    public List<Requirement> getRequirements() {
+        return requirements;
+    }
+
+    /**
+     * Returns whether this selector matches every object
+     *
+     * @return {@code true} if this selector has no requirements and matches every object
+     */
+    public boolean isEverything() {
+        return requirements.isEmpty() && matchesEmpty;
+    }
+
+    /**
+     * Returns whether this selector matches a set of labels
+     *
+     * @param labels the labels
+     * @return {@code true} if every requirement matches the labels
+     */
+    public boolean matches(@Nullable Map<String, String> labels) {
+        if (!matchesEmpty) {
+            return false;
+        }
+
+        for (int i = 0; i < requirements.size(); i++) {
+            if (!requirements.get(i).matches(labels)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns whether this selector matches the labels of an object
+     *
+     * @param object the object
+     * @return {@code true} if every requirement matches the labels of the object
+     */
+    public boolean matches(ObjectMeta object) {
+        return matches(object.getLabels());
+    }
+
+    /**
+     * Returns the string form of this selector, suitable for {@code ListOptions.labelSelector}
+     *
+     * @return the string form of this selector
+     */
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(",");
+        requirements.forEach(r -> joiner.add(r.toString()));
+        return joiner.toString();
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Selector)) {
+            return false;
+        }
+
+        Selector other = (Selector) o;
+        return matchesEmpty == other.matchesEmpty && requirements.equals(other.requirements);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * requirements.hashCode() + (matchesEmpty ? 1 : 0);
+    }
+
+    private static Selector compile(List<Requirement> requirements) {
+        if (requirements.isEmpty()) {
+            return EVERYTHING;
+        }
+
+        requirements.sort(Comparator.comparing(Requirement::getKey));
+        return new Selector(Collections.unmodifiableList(requirements), true);
+    }
+
+    /**
+     * The operator of a {@link Requirement}
+     */
+    public enum Operator {
+
+        DOES_NOT_EXIST(null, "DoesNotExist"),
+
+        EQUALS("=", null),
+
+        EXISTS(null, "Exists"),
+
+        GREATER_THAN(">", null),
+
+        IN("in", "In"),
+
+        LESS_THAN("<", null),
+
+        NOT_EQUALS("!=", null),
+
+        NOT_IN("notin", "NotIn");
+
+        @Nullable
+        private final String labelSelectorOperator;
+
+        @Nullable
+        private final String symbol;
+
+        Operator(@Nullable String symbol, @Nullable String labelSelectorOperator) {
+            this.symbol = symbol;
+            this.labelSelectorOperator = labelSelectorOperator;
+        }
+
+        private static Operator fromLabelSelectorOperator(String operator) {
+            for (Operator candidate : values()) {
+                if (operator.equals(candidate.labelSelectorOperator)) {
+                    return candidate;
+                }
+            }
+
+            throw new IllegalArgumentException(String.format("'%s' is not a valid label selector operator", operator));
+        }
+
+    }
+
+    /**
+     * A single requirement of a {@link Selector}
+     */
+    public static final class Requirement {
+
+        private final String key;
+
+        private final Operator operator;
+
+        private final long operand;
+
+        private final String[] values;
+
+        Requirement(String key, Operator operator, String... values) {
+            if (key.isEmpty()) {
+                throw new IllegalArgumentException("label selector key must not be empty");
+            }
+
+            this.key = key;
+            this.operator = operator;
+            // As in Kubernetes, the values are a set, so a repeated value neither matches nor indexes an object twice
+            this.values = new TreeSet<>(Arrays.asList(values)).toArray(new String[0]);
+
+            switch (operator) {
+                case DOES_NOT_EXIST:
+                case EXISTS:
+                    if (values.length != 0) {
+                        throw new IllegalArgumentException(String.format("values must be empty for '%s %s'", key, operator));
+                    }
+                    this.operand = 0;
+                    break;
+                case EQUALS:
+                case NOT_EQUALS:
+                    if (values.length != 1) {
+                        throw new IllegalArgumentException(String.format("exactly one value is required for '%s %s'", key, operator));
+                    }
+                    this.operand = 0;
+                    break;
+                case IN:
+                case NOT_IN:
+                    if (values.length == 0) {
+                        throw new IllegalArgumentException(String.format("values must not be empty for '%s %s'", key, operator));
+                    }
+                    this.operand = 0;
+                    break;
+                default:
+                    if (values.length != 1 || !isInteger(values[0])) {
+                        throw new IllegalArgumentException(String.format("exactly one integer value is required for '%s %s'", key, operator));
+                    }
+                    this.operand = Long.parseLong(values[0]);
+            }
+        }
+
+        /**
+         * Returns the key of the label this requirement applies to
+         *
+         * @return the key of the label
+         */
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * Returns the operator of this requirement
+         *
+         * @return the operator
+         */
+        public Operator getOperator() {
+            return operator;
+        }
+
+        /**
+         * Returns the values of this requirement, sorted and without duplicates
+         *
+         * @return the values
+         */
+        public List<String> getValues() {
+            return Collections.unmodifiableList(Arrays.asList(values));
+        }
+
+        /**
+         * Returns whether this requirement matches a set of labels
+         *
+         * @param labels the labels
+         * @return {@code true} if this requirement matches the labels
+         */
+        public boolean matches(@Nullable Map<String, String> labels) {
+            String value = labels == null ? null : labels.get(key);
+
+            switch (operator) {
+                case DOES_NOT_EXIST:
+                    return labels == null || !labels.containsKey(key);
+                case EQUALS:
+                case IN:
+                    return value != null && Arrays.binarySearch(values, value) >= 0;
+                case EXISTS:
+                    return labels != null && labels.containsKey(key);
+                case GREATER_THAN:
+                    return value != null && isInteger(value) && Long.parseLong(value) > operand;
+                case LESS_THAN:
+                    return value != null && isInteger(value) && Long.parseLong(value) < operand;
+                case NOT_EQUALS:
+                case NOT_IN:
+                    return value == null || Arrays.binarySearch(values, value) < 0;
+                default:
+                    throw new IllegalStateException(String.format("unknown operator %s", operator));
+            }
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Requirement)) {
+                return false;
+            }
+
+            Requirement other = (Requirement) o;
+            return key.equals(other.key) && operator == other.operator && Arrays.equals(values, other.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return (31 * key.hashCode() + operator.hashCode()) * 31 + Arrays.hashCode(values);
+        }
+
+        @Override
+        public String toString() {
+            switch (operator) {
+                case DOES_NOT_EXIST:
+                    return "!" + key;
+                case EXISTS:
+                    return key;
+                case IN:
+                case NOT_IN:
+                    return String.format("%s %s (%s)", key, operator.symbol, String.join(",", values));
+                default:
+                    return key + operator.symbol + values[0];
+            }
+        }
+
+        // Long.parseLong allocates an exception for invalid input, so label values are checked first
+        private static boolean isInteger(String value) {
+            int start = value.startsWith("-") || value.startsWith("+") ? 1 : 0;
+            if (value.length() == start || value.length() - start > 18) {
+                return false;
+            }
+
+            for (int i = start; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c < '0' || c > '9') {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+    }
+
+    private static final class Parser {
+
+        private final String input;
+
+        private int position;
+
+        private Parser(String input) {
+            this.input = input;
+        }
+
+        private List<Requirement> parse() {
+            List<Requirement> requirements = new ArrayList<>();
+
+            skipWhitespace();
+            while (position < input.length()) {
+                requirements.add(parseRequirement());
+
+                skipWhitespace();
+                if (position < input.length()) {
+                    expect(',');
+                    skipWhitespace();
+                    if (position == input.length()) {
+                        throw error("expected a requirement");
+                    }
+                }
+            }
+
+            return requirements;
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(String.format("invalid label selector '%s': %s at position %d", input, message, position));
+        }
+
+        private void expect(char c) {
+            if (position >= input.length() || input.charAt(position) != c) {
+                throw error(String.format("expected '%s'", c));
+            }
+            position++;
+        }
+
+        private boolean consume(String token) {
+            if (input.startsWith(token, position)) {
+                position += token.length();
+                return true;
+            }
+            return false;
+        }
+
+        private String identifier() {
+            int start = position;
+            while (position < input.length()) {
+                char c = input.charAt(position);
+                if (Character.isWhitespace(c) || SPECIAL_CHARACTERS.indexOf(c) != -1) {
+                    break;
+                }
+                position++;
+            }
+            return input.substring(start, position);
+        }
+
+        private String key() {
+            skipWhitespace();
+            String key = identifier();
+            if (key.isEmpty()) {
+                throw error("expected a key");
+            }
+            return key;
+        }
+
+        private Requirement parseRequirement() {
+            if (consume("!")) {
+                return new Requirement(key(), Operator.DOES_NOT_EXIST);
+            }
+
+            String key = key();
+            skipWhitespace();
+
+            if (position == input.length() || input.charAt(position) == ',') {
+                return new Requirement(key, Operator.EXISTS);
+            }
+
+            if (consume("==") || consume("=")) {
+                return new Requirement(key, Operator.EQUALS, value());
+            }
+            if (consume("!=")) {
+                return new Requirement(key, Operator.NOT_EQUALS, value());
+            }
+            if (consume(">")) {
+                return new Requirement(key, Operator.GREATER_THAN, value());
+            }
+            if (consume("<")) {
+                return new Requirement(key, Operator.LESS_THAN, value());
+            }
+
+            String operator = identifier();
+            if ("in".equals(operator)) {
+                return new Requirement(key, Operator.IN, values());
+            }
+            if ("notin".equals(operator)) {
+                return new Requirement(key, Operator.NOT_IN, values());
+            }
+
+            throw error(String.format("expected an operator after '%s'", key));
+        }
+
+        private void skipWhitespace() {
+            while (position < input.length() && Character.isWhitespace(input.charAt(position))) {
+                position++;
+            }
+        }
+
+        private String value() {
+            skipWhitespace();
+            return identifier();
+        }
+
+        private String[] values() {
+            skipWhitespace();
+            expect('(');
+
+            List<String> values = new ArrayList<>();
+            do {
+                values.add(value());
+                skipWhitespace();
+            } while (consume(","));
+
+            expect(')');
+            return values.toArray(new String[0]);
+        }
+
+    }
+
+}
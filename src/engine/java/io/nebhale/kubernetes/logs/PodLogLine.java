@@ -0,0 +1,54 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.logs;
+
+import io.nebhale.kubernetes.engine.LogLine;
+import lombok.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * A single line of the log of a container, identified by its pod and container
+ */
+@Value(staticConstructor = "of")
+public class PodLogLine {
+
+    /**
+     * The namespace of the pod
+     */
+    @Nullable
+    String namespace;
+
+    /**
+     * The name of the pod
+     */
+    @NonNull
+    String name;
+
+    /**
+     * The name of the container
+     */
+    @NonNull
+    String container;
+
+    /**
+     * The line
+     */
+    @NonNull
+    LogLine line;
+
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.logs;
+
+import io.k8s.core.v1.Container;
+import io.k8s.core.v1.ContainerStatus;
+import io.k8s.core.v1.Pod;
+import io.k8s.meta.v1.LabelSelector;
+import io.k8s.meta.v1.WatchEvent;
+import io.nebhale.kubernetes.engine.LogLine;
+import io.nebhale.kubernetes.informer.Store;
+import io.nebhale.kubernetes.labels.Selector;
+import lombok.Value;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Follows the logs of every container of every pod matching a label selector, merging them into a single stream
+ * ordered by timestamp. Pods are tracked from a stream of watch events, typically the {@link
+ * io.nebhale.kubernetes.informer.SharedInformer#events() events} of an informer, and the log of each container is
+ * followed from when it starts: a stream is added when a container starts, replaced when it restarts, and dropped when
+ * its pod is deleted or stops matching the selector. The stream of a container that terminates ends with its log.
+ * <pre>
+ * PodLogs.follow(informer.events(), labelSelector, (pod, container) -&gt;
+ *     new ReactorPodClient(connectionContext, pod.getNamespace())
+ *         .streamLog(container, true, null, null, pod.getName(), null, null, null, true, GetOptions.builder().build()));
+ * </pre>
+ * Lines from different streams are ordered by the timestamps of their log lines, so logs should be requested with
+ * {@code timestamps}. Lines without a timestamp are ordered by the time they arrived. As followed logs never complete,
+ * lines are held for an ordering window after they arrive, and released in timestamp order once it has passed: lines
+ * arriving within the window of each other are ordered exactly, and a line never waits for longer than the window.
+ * At most {@value #MAX_HELD_LINES} lines are held at once: if more arrive within the window, the earliest-arriving line
+ * is released early, along with any held lines ordered before it. Beyond the held lines, each stream buffers only a
+ * small number of lines, so streams are read no faster than the merged stream is consumed.
+ */
+public final class PodLogs {
+
+    /**
+     * The default time lines are held to be ordered with lines from other streams
+     */
+    public static final Duration DEFAULT_ORDERING_WINDOW = Duration.ofSeconds(1);
+
+    static final int MAX_HELD_LINES = 1024;
+
+    private static final int STREAM_PREFETCH = 32;
+
+    private static final int TICKS_PER_WINDOW = 4;
+
+    private PodLogs() {
+    }
+
+    /**
+     * Follows the logs of the containers of pods matching a label selector, with the {@link #DEFAULT_ORDERING_WINDOW
+     * default ordering window}
+     *
+     * @param pods          the watch events of the pods to follow
+     * @param labelSelector the selector to restrict the pods by, or {@code null} to follow every pod
+     * @param logs          follows the log of a container of a pod
+     * @return the lines of the followed logs, in timestamp order
+     */
+    public static Flux<PodLogLine> follow(Flux<WatchEvent<Pod>> pods, @Nullable LabelSelector labelSelector, BiFunction<Pod, String, Flux<LogLine>> logs) {
+        return follow(pods, labelSelector, logs, DEFAULT_ORDERING_WINDOW);
+    }
+
+    /**
+     * Follows the logs of the containers of pods matching a label selector
+     *
+     * @param pods           the watch events of the pods to follow
+     * @param labelSelector  the selector to restrict the pods by, or {@code null} to follow every pod
+     * @param logs           follows the log of a container of a pod
+     * @param orderingWindow the time lines are held to be ordered with lines from other streams
+     * @return the lines of the followed logs, in timestamp order
+     * @throws IllegalArgumentException if {@code orderingWindow} is not positive
+     */
+    public static Flux<PodLogLine> follow(Flux<WatchEvent<Pod>> pods, @Nullable LabelSelector labelSelector, BiFunction<Pod, String, Flux<LogLine>> logs,
+                                          Duration orderingWindow) {
+
+        if (orderingWindow.isNegative() || orderingWindow.isZero()) {
+            throw new IllegalArgumentException(String.format("ordering window %s must be positive", orderingWindow));
+        }
+
+        // Unlike a null selector in Kubernetes, which matches nothing, no selector here follows every pod
+        Selector selector = labelSelector == null ? Selector.everything() : Selector.of(labelSelector);
+
+        Flux<PodLogLine> lines = pods
+            .filter(e -> !WatchEvent.BOOKMARK.equals(e.getType()))
+            .concatMapIterable(e -> getContainers(e, selector))
+            .groupBy(ContainerInstance::getKey)
+            .flatMap(g -> g
+                .takeUntil(ContainerInstance::isDeleted)
+                .distinctUntilChanged(ContainerInstance::getContainerId)
+                .switchMap(c -> c.getContainerId().isEmpty() ? Flux.empty() : follow(c, logs)), Integer.MAX_VALUE, STREAM_PREFETCH);
+
+        return Flux.defer(() -> {
+            Reorderer reorderer = new Reorderer(orderingWindow.toNanos());
+            Sinks.Empty<Void> done = Sinks.empty();
+
+            Flux<Optional<PodLogLine>> ticks = Flux.interval(orderingWindow.dividedBy(TICKS_PER_WINDOW))
+                .onBackpressureDrop()
+                .map(i -> Optional.<PodLogLine>empty())
+                .takeUntilOther(done.asMono());
+
+            return Flux.merge(lines.map(Optional::of).doFinally(s -> done.tryEmitEmpty()), ticks)
+                .concatMapIterable(l -> reorderer.offer(l.orElse(null), System.nanoTime()))
+                .concatWith(Flux.defer(() -> Flux.fromIterable(reorderer.drain())));
+        });
+    }
+
+    // A failed stream is dropped, and followed again if its container restarts
+    private static Flux<PodLogLine> follow(ContainerInstance instance, BiFunction<Pod, String, Flux<LogLine>> logs) {
+        Pod pod = instance.getPod();
+
+        return logs.apply(pod, instance.getContainer())
+            .map(l -> PodLogLine.of(pod.getNamespace(), pod.getName(), instance.getContainer(), l))
+            .onErrorResume(t -> Flux.empty());
+    }
+
+    private static List<ContainerInstance> getContainers(WatchEvent<Pod> event, Selector selector) {
+        Pod pod = event.getObject();
+        if (pod.getSpec() == null) {
+            return Collections.emptyList();
+        }
+
+        boolean deleted = WatchEvent.DELETED.equals(event.getType());
+        Map<String, String> running = deleted || !selector.matches(pod) || pod.getStatus() == null ? Collections.emptyMap() :
+            pod.getStatus().getContainerStatuses().stream()
+                .filter(s -> s.getContainerID() != null && s.getState() != null && s.getState().getWaiting() == null)
+                .collect(Collectors.toMap(ContainerStatus::getName, ContainerStatus::getContainerID, (a, b) -> b));
+
+        return pod.getSpec().getContainers().stream()
+            .map(Container::getName)
+            .map(c -> new ContainerInstance(String.format("%s/%s", Store.getKey(pod), c), pod, c, running.getOrDefault(c, ""), deleted))
+            .collect(Collectors.toList());
+    }
+
+    @Value
+    private static class ContainerInstance {
+
+        String key;
+
+        Pod pod;
+
+        String container;
+
+        // Empty if the container has not started, or is not to be followed
+        String containerId;
+
+        boolean deleted;
+
+    }
+
+    private static final class Entry {
+
+        private static final Comparator<Entry> ORDER = Comparator.<Entry, Instant>comparing(e -> e.timestamp)
+            .thenComparingLong(e -> e.sequence);
+
+        private final long arrival;
+
+        private boolean emitted;
+
+        private final PodLogLine line;
+
+        private final long sequence;
+
+        private final Instant timestamp;
+
+        private Entry(PodLogLine line, long arrival, long sequence) {
+            this.arrival = arrival;
+            this.line = line;
+            this.sequence = sequence;
+            this.timestamp = Optional.ofNullable(line.getLine().getTimestamp()).orElseGet(Instant::now);
+        }
+
+    }
+
+    // Releases lines in timestamp order once the earliest-arriving line still held has been held for the window, or once
+    // too many lines are held. Lines are tracked both by arrival, to find the lines that are due, and by timestamp, to
+    // release them in order. Every line held is in arrivals, so bounding arrivals bounds both.
+    private static final class Reorderer {
+
+        private final Queue<Entry> arrivals = new ArrayDeque<>();
+
+        private final PriorityQueue<Entry> pending = new PriorityQueue<>(Entry.ORDER);
+
+        private long sequence;
+
+        private final long window;
+
+        private Reorderer(long window) {
+            this.window = window;
+        }
+
+        private List<PodLogLine> drain() {
+            List<PodLogLine> lines = new ArrayList<>(pending.size());
+            while (!pending.isEmpty()) {
+                lines.add(pending.poll().line);
+            }
+
+            arrivals.clear();
+            return lines;
+        }
+
+        private List<PodLogLine> offer(@Nullable PodLogLine line, long now) {
+            if (line != null) {
+                Entry entry = new Entry(line, now, sequence++);
+                arrivals.add(entry);
+                pending.add(entry);
+            }
+
+            List<PodLogLine> lines = new ArrayList<>();
+
+            Entry due;
+            while ((due = arrivals.peek()) != null && (now - due.arrival >= window || arrivals.size() > MAX_HELD_LINES)) {
+                arrivals.poll();
+
+                while (!due.emitted && !pending.isEmpty()) {
+                    Entry next = pending.poll();
+                    next.emitted = true;
+                    lines.add(next.line);
+                }
+            }
+
+            return lines;
+        }
+
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.patch;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import io.k8s.meta.v1.ListMeta;
+import io.k8s.meta.v1.ObjectMeta;
+import io.k8s.type.PatchMergeKey;
+import io.k8s.type.PatchStrategy;
+import org.springframework.lang.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+
+/**
+ * The properties of the model, found by introspecting its classes alongside their JSON trees
+ */
+final class ModelProperties {
+
+    private static final String METADATA = "metadata";
+
+    private ModelProperties() {
+    }
+
+    @Nullable
+    static String getMergeKey(@Nullable BeanPropertyDefinition property) {
+        PatchMergeKey mergeKey = getAnnotation(property, PatchMergeKey.class);
+        return mergeKey == null ? null : mergeKey.value();
+    }
+
+    @Nullable
+    static BeanPropertyDefinition getProperty(SerializationConfig config, @Nullable JavaType type, String name) {
+        if (type == null || !type.isConcrete() || type.isContainerType()) {
+            return null;
+        }
+
+        for (BeanPropertyDefinition property : config.introspect(type).findProperties()) {
+            if (name.equals(property.getName())) {
+                return property;
+            }
+        }
+
+        return null;
+    }
+
+    @Nullable
+    static JavaType getType(@Nullable JavaType type, String name, @Nullable BeanPropertyDefinition property) {
+        if (type == null) {
+            return null;
+        }
+
+        if (type.isMapLikeType()) {
+            return type.getContentType();
+        }
+
+        // the properties of metadata are inlined into the model classes
+        if (property == null && METADATA.equals(name) &&
+            (ObjectMeta.class.isAssignableFrom(type.getRawClass()) || ListMeta.class.isAssignableFrom(type.getRawClass()))) {
+            return type;
+        }
+
+        return property == null ? null : property.getPrimaryType();
+    }
+
+    static boolean isMerged(@Nullable BeanPropertyDefinition property) {
+        PatchStrategy strategy = getAnnotation(property, PatchStrategy.class);
+        return strategy != null && Arrays.asList(strategy.value().split(",")).contains(PatchStrategy.MERGE);
+    }
+
+    // merge keys are scalars, which may be decoded to different numeric node types
+    static boolean isSameKey(@Nullable JsonNode a, @Nullable JsonNode b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+
+        return a.equals(b) || (a.isValueNode() && b.isValueNode() && a.asText().equals(b.asText()));
+    }
+
+    @Nullable
+    private static <A extends Annotation> A getAnnotation(@Nullable BeanPropertyDefinition property, Class<A> type) {
+        if (property == null) {
+            return null;
+        }
+
+        for (AnnotatedMember member : Arrays.asList(property.getAccessor(), property.getField())) {
+            A annotation = member == null ? null : member.getAnnotation(type);
+            if (annotation != null) {
+                return annotation;
+            }
+        }
+
+        return null;
+    }
+
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.patch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.k8s.meta.v1.FieldsV1;
+import io.k8s.meta.v1.ManagedFieldsEntry;
+import io.k8s.meta.v1.ObjectMeta;
+import io.k8s.meta.v1.TypeMeta;
+import org.springframework.lang.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * Builds minimal apply configurations for {@link io.k8s.type.PatchType#APPLY server-side apply}. Rather than reading an
+ * object, modifying it, and updating it, a field manager declares the fields it wants to own in an apply configuration,
+ * and the API server merges them, so concurrent writers no longer conflict over the object's resource version:
+ * <pre>
+ * ObjectNode configuration = ServerSideApply.configuration(objectMapper, "my-controller", live, desired);
+ * client.patch(name, PatchType.APPLY, configuration, PatchOptions.builder().fieldManager("my-controller").build());
+ * </pre>
+ * The configuration holds the fields of the desired object that the manager already owns, according to the {@link
+ * ManagedFieldsEntry managed fields} of the live object, and those that differ from the live object. Fields owned by
+ * other managers that the desired object leaves unchanged are omitted, so the manager does not contend for them, and
+ * fields the manager owns that the desired object no longer sets are released. The status and the metadata populated by
+ * the API server are never included. Before applying, {@link #conflicts(ObjectMeta, String, FieldsV1)} finds the fields
+ * that other managers own.
+ */
+public final class ServerSideApply {
+
+    private static final String APPLY = "Apply";
+
+    private static final ObjectMapper KEYS = new ObjectMapper();
+
+    private static final String METADATA = "metadata";
+
+    private static final Set<String> ROOT = Collections.singleton("status");
+
+    private static final Set<String> SERVER_METADATA = new HashSet<>(Arrays.asList("creationTimestamp", "deletionGracePeriodSeconds",
+        "deletionTimestamp", "generation", "managedFields", "resourceVersion", "selfLink", "uid"));
+
+    private ServerSideApply() {
+    }
+
+    /**
+     * Returns the apply configuration for a desired object
+     *
+     * @param objectMapper the {@link ObjectMapper} to convert the objects with
+     * @param fieldManager the name of the field manager applying the configuration
+     * @param live         the object as last read from the API server, including its managed fields, or {@code null} if
+     *                     it does not yet exist
+     * @param desired      the desired object
+     * @param <T>          the type of the object
+     * @return the apply configuration
+     * @throws IllegalArgumentException if the desired object has no name, or the live object has no managed fields
+     */
+    public static <T extends ObjectMeta & TypeMeta> ObjectNode configuration(ObjectMapper objectMapper, String fieldManager, @Nullable T live,
+                                                                             T desired) {
+
+        if (desired.getName() == null) {
+            throw new IllegalArgumentException("An applied object must have a name");
+        }
+
+        FieldsV1 owned = live == null ? FieldsV1.EMPTY : getOwned(live, fieldManager);
+
+        SerializationConfig config = objectMapper.getSerializationConfig();
+        ObjectNode desiredTree = objectMapper.valueToTree(desired);
+        JsonNode liveTree = live == null ? null : objectMapper.valueToTree(live);
+
+        ObjectNode configuration = JsonNodeFactory.instance.objectNode();
+        copy(desiredTree, configuration, "apiVersion");
+        copy(desiredTree, configuration, "kind");
+
+        ObjectNode metadata = configuration.putObject(METADATA);
+        copy(desiredTree.path(METADATA), metadata, "name");
+        copy(desiredTree.path(METADATA), metadata, "namespace");
+
+        ObjectNode projected = projectObject(config, desiredTree, liveTree, owned, config.constructType(desired.getClass()), ROOT);
+        projected.fields().forEachRemaining(field -> {
+            if (METADATA.equals(field.getKey())) {
+                metadata.setAll((ObjectNode) field.getValue());
+            } else {
+                configuration.set(field.getKey(), field.getValue());
+            }
+        });
+
+        return configuration;
+    }
+
+    /**
+     * Returns the fields of a set that are also owned by other field managers. Applying any of them with a different value
+     * conflicts, unless the apply is forced.
+     *
+     * @param live         the object as last read from the API server, including its managed fields
+     * @param fieldManager the name of the field manager applying the fields
+     * @param fields       the fields to be applied
+     * @return the conflicting fields, by the field manager that owns them
+     */
+    public static Map<String, FieldsV1> conflicts(ObjectMeta live, String fieldManager, FieldsV1 fields) {
+        Map<String, FieldsV1> conflicts = new TreeMap<>();
+
+        List<ManagedFieldsEntry> entries = live.getManagedFields();
+        if (entries == null) {
+            return conflicts;
+        }
+
+        for (ManagedFieldsEntry entry : entries) {
+            if (entry.getManager() != null && !fieldManager.equals(entry.getManager()) && entry.getFieldsV1() != null) {
+                FieldsV1 conflict = fields.intersection(entry.getFieldsV1());
+                if (!conflict.isEmpty()) {
+                    conflicts.merge(entry.getManager(), conflict, FieldsV1::union);
+                }
+            }
+        }
+
+        return conflicts;
+    }
+
+    private static boolean contains(JsonNode list, JsonNode value) {
+        for (JsonNode element : list) {
+            if (element.equals(value)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static void copy(JsonNode source, ObjectNode destination, String name) {
+        JsonNode value = source.get(name);
+        if (value != null) {
+            destination.set(name, value);
+        }
+    }
+
+    @Nullable
+    private static JsonNode find(@Nullable JsonNode list, String mergeKey, JsonNode value) {
+        if (list == null) {
+            return null;
+        }
+
+        for (JsonNode element : list) {
+            if (ModelProperties.isSameKey(element.get(mergeKey), value)) {
+                return element;
+            }
+        }
+
+        return null;
+    }
+
+    @Nullable
+    private static String findKey(@Nullable FieldsV1 owned, String prefix, Predicate<JsonNode> predicate) {
+        if (owned == null) {
+            return null;
+        }
+
+        for (String key : owned.getKeys()) {
+            if (key.startsWith(prefix) && predicate.test(readKey(key))) {
+                return key;
+            }
+        }
+
+        return null;
+    }
+
+    private static FieldsV1 getOwned(ObjectMeta live, String fieldManager) {
+        List<ManagedFieldsEntry> entries = live.getManagedFields();
+        if (entries == null || entries.isEmpty()) {
+            throw new IllegalArgumentException(String.format("The fields owned by %s cannot be determined, as the live object has no managed fields",
+                fieldManager));
+        }
+
+        // a manager applying several versions of an object owns the fields of each
+        FieldsV1 owned = FieldsV1.EMPTY;
+        for (ManagedFieldsEntry entry : entries) {
+            if (fieldManager.equals(entry.getManager()) && APPLY.equals(entry.getOperation()) && entry.getFieldsV1() != null) {
+                owned = owned.union(entry.getFieldsV1());
+            }
+        }
+
+        return owned;
+    }
+
+    @Nullable
+    private static JsonNode project(SerializationConfig config, String name, JsonNode value, @Nullable JsonNode live, @Nullable FieldsV1 owned,
+                                    @Nullable JavaType type, Set<String> excluded) {
+
+        BeanPropertyDefinition property = ModelProperties.getProperty(config, type, name);
+        JavaType propertyType = ModelProperties.getType(type, name, property);
+
+        if (value.isObject()) {
+            ObjectNode projected = projectObject(config, (ObjectNode) value, live, owned, propertyType, excluded);
+            return projected.size() != 0 || owned != null || live == null ? projected : null;
+        }
+
+        if (value.isArray() && ModelProperties.isMerged(property)) {
+            ArrayNode projected = projectList(config, (ArrayNode) value, live, owned, propertyType == null ? null : propertyType.getContentType(),
+                ModelProperties.getMergeKey(property));
+            return projected.size() != 0 || owned != null || live == null ? projected : null;
+        }
+
+        // scalars and atomic lists are owned as a whole
+        return owned != null || !value.equals(live) ? value : null;
+    }
+
+    private static ArrayNode projectList(SerializationConfig config, ArrayNode desired, @Nullable JsonNode live, @Nullable FieldsV1 owned,
+                                         @Nullable JavaType type, @Nullable String mergeKey) {
+
+        ArrayNode projected = JsonNodeFactory.instance.arrayNode();
+
+        for (JsonNode element : desired) {
+            if (mergeKey == null || !element.isObject() || !element.has(mergeKey)) {
+                String key = findKey(owned, "v:", element::equals);
+                if (key != null || live == null || !contains(live, element)) {
+                    projected.add(element);
+                }
+                continue;
+            }
+
+            JsonNode value = element.get(mergeKey);
+            String key = findKey(owned, "k:", k -> ModelProperties.isSameKey(k.get(mergeKey), value));
+            JsonNode liveElement = find(live, mergeKey, value);
+
+            ObjectNode projectedElement = projectObject(config, (ObjectNode) element, liveElement, key == null ? null : owned.get(key), type,
+                Collections.emptySet());
+
+            if (projectedElement.size() != 0 || key != null || liveElement == null) {
+                // the element is identified by its merge key and any other keys the API server identified it by
+                ObjectNode identified = JsonNodeFactory.instance.objectNode().set(mergeKey, value);
+                if (key != null) {
+                    readKey(key).fieldNames().forEachRemaining(f -> copy(element, identified, f));
+                }
+                projected.add(identified.setAll(projectedElement));
+            }
+        }
+
+        return projected;
+    }
+
+    private static ObjectNode projectObject(SerializationConfig config, ObjectNode desired, @Nullable JsonNode live, @Nullable FieldsV1 owned,
+                                            @Nullable JavaType type, Set<String> excluded) {
+
+        ObjectNode projected = JsonNodeFactory.instance.objectNode();
+
+        for (Iterator<Map.Entry<String, JsonNode>> i = desired.fields(); i.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = i.next();
+            String name = field.getKey();
+
+            if (excluded.contains(name)) {
+                continue;
+            }
+
+            JsonNode value = project(config, name, field.getValue(), live == null ? null : live.get(name), owned == null ? null : owned.get("f:" + name),
+                type, excluded == ROOT && METADATA.equals(name) ? SERVER_METADATA : Collections.emptySet());
+
+            if (value != null) {
+                projected.set(name, value);
+            }
+        }
+
+        return projected;
+    }
+
+    // the keys of list elements are their JSON value, or a JSON object of the properties that identify them
+    private static JsonNode readKey(String key) {
+        try {
+            return KEYS.readTree(key.substring(2));
+        } catch (JsonProcessingException e) {
+            return JsonNodeFactory.instance.missingNode();
+        }
+    }
+
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.patch;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.k8s.type.PatchMergeKey;
+import io.k8s.type.PatchStrategy;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Applies strategic merge patches to objects in memory, predicting the result of a {@link
+ * io.k8s.type.PatchType#STRATEGIC_MERGE} patch without a round trip to the API server. A patch produced by {@link
+ * io.k8s.codec.Diff#toPatch(io.k8s.type.PatchType)} applied to its original yields its modified instance:
+ * <pre>
+ * Object patch = Diff.of(original, modified, DeploymentCodec::diff).toPatch(PatchType.STRATEGIC_MERGE);
+ * Deployment predicted = StrategicMergePatch.apply(objectMapper, original, patch);
+ * </pre>
+ * As on the API server, properties are merged according to the {@link PatchStrategy} and {@link PatchMergeKey} of the
+ * model: lists with a {@code merge} strategy are merged element by element, other lists are replaced, and objects are
+ * merged recursively. The {@code $patch}, {@code $retainKeys}, {@code $deleteFromPrimitiveList}, and {@code
+ * $setElementOrder} directives are supported. Unlike the API server, elements that are not named by a {@code
+ * $setElementOrder} directive follow those that are, rather than keeping their relative positions.
+ */
+public final class StrategicMergePatch {
+
+    private static final String DELETE_FROM_PRIMITIVE_LIST = "$deleteFromPrimitiveList/";
+
+    private static final String PATCH = "$patch";
+
+    private static final String RETAIN_KEYS = "$retainKeys";
+
+    private static final String SET_ELEMENT_ORDER = "$setElementOrder/";
+
+    private StrategicMergePatch() {
+    }
+
+    /**
+     * Applies a strategic merge patch to an object
+     *
+     * @param objectMapper the {@link ObjectMapper} to convert the object and patch with
+     * @param original     the object to patch
+     * @param patch        the patch, as a {@link JsonNode} or any value that serializes to a JSON object
+     * @param <T>          the type of the object
+     * @return a new instance of the object, with the patch applied
+     * @throws IllegalArgumentException if the patch is not a JSON object, deletes the object, or produces an invalid
+     *                                  object
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T apply(ObjectMapper objectMapper, T original, Object patch) {
+        JsonNode originalTree = objectMapper.valueToTree(original);
+        JsonNode patchTree = objectMapper.valueToTree(patch);
+
+        if (!originalTree.isObject() || !patchTree.isObject()) {
+            throw new IllegalArgumentException("A strategic merge patch must be applied as a JSON object to a JSON object");
+        }
+
+        SerializationConfig config = objectMapper.getSerializationConfig();
+        ObjectNode merged = mergeObject(config, (ObjectNode) originalTree, (ObjectNode) patchTree, config.constructType(original.getClass()));
+        if (merged == null) {
+            throw new IllegalArgumentException("A strategic merge patch cannot delete the object it is applied to");
+        }
+
+        return (T) objectMapper.convertValue(merged, original.getClass());
+    }
+
+    private static void deleteFromPrimitiveList(ObjectNode object, String name, JsonNode values) {
+        JsonNode list = object.get(name);
+        if (list == null || !list.isArray()) {
+            return;
+        }
+
+        ArrayNode result = JsonNodeFactory.instance.arrayNode(list.size());
+        list.forEach(element -> {
+            if (!contains(values, element)) {
+                result.add(element);
+            }
+        });
+        object.set(name, result);
+    }
+
+    private static boolean contains(JsonNode list, JsonNode value) {
+        for (JsonNode element : list) {
+            if (element.equals(value)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static int indexOf(ArrayNode list, String mergeKey, @Nullable JsonNode key) {
+        for (int i = 0; i < list.size(); i++) {
+            if (ModelProperties.isSameKey(list.get(i).get(mergeKey), key)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static boolean isPatch(JsonNode node, String directive) {
+        return node.isObject() && directive.equals(node.path(PATCH).textValue());
+    }
+
+    private static ArrayNode mergeList(SerializationConfig config, @Nullable JsonNode original, ArrayNode patch, @Nullable JavaType type,
+                                       @Nullable String mergeKey) {
+
+        ArrayNode result = original != null && original.isArray() ? (ArrayNode) original : JsonNodeFactory.instance.arrayNode();
+
+        for (JsonNode element : patch) {
+            if (isPatch(element, "replace")) {
+                return (ArrayNode) strip(patch);
+            }
+        }
+
+        for (JsonNode element : patch) {
+            if (mergeKey == null || !element.isObject()) {
+                if (!contains(result, element)) {
+                    result.add(strip(element));
+                }
+                continue;
+            }
+
+            JsonNode key = element.get(mergeKey);
+
+            if (isPatch(element, "delete")) {
+                for (int i = indexOf(result, mergeKey, key); i != -1; i = indexOf(result, mergeKey, key)) {
+                    result.remove(i);
+                }
+                continue;
+            }
+
+            int i = indexOf(result, mergeKey, key);
+            ObjectNode merged = mergeObject(config, i == -1 ? JsonNodeFactory.instance.objectNode() : (ObjectNode) result.get(i),
+                (ObjectNode) element, type);
+
+            if (merged == null) {
+                if (i != -1) {
+                    result.remove(i);
+                }
+            } else if (i == -1) {
+                result.add(merged);
+            } else {
+                result.set(i, merged);
+            }
+        }
+
+        return result;
+    }
+
+    @Nullable
+    private static ObjectNode mergeObject(SerializationConfig config, ObjectNode original, ObjectNode patch, @Nullable JavaType type) {
+        if (isPatch(patch, "delete")) {
+            return null;
+        }
+
+        if (isPatch(patch, "replace")) {
+            return (ObjectNode) strip(patch);
+        }
+
+        for (Iterator<Map.Entry<String, JsonNode>> i = patch.fields(); i.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = i.next();
+            if (field.getKey().startsWith(DELETE_FROM_PRIMITIVE_LIST)) {
+                deleteFromPrimitiveList(original, field.getKey().substring(DELETE_FROM_PRIMITIVE_LIST.length()), field.getValue());
+            }
+        }
+
+        for (Iterator<Map.Entry<String, JsonNode>> i = patch.fields(); i.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = i.next();
+            String name = field.getKey();
+            JsonNode value = field.getValue();
+
+            if (name.startsWith("$")) {
+                continue;
+            }
+
+            if (value.isNull()) {
+                original.remove(name);
+                continue;
+            }
+
+            BeanPropertyDefinition property = ModelProperties.getProperty(config, type, name);
+            JavaType propertyType = ModelProperties.getType(type, name, property);
+            JsonNode current = original.get(name);
+
+            if (value.isObject()) {
+                ObjectNode merged = mergeObject(config, current != null && current.isObject() ? (ObjectNode) current :
+                    JsonNodeFactory.instance.objectNode(), (ObjectNode) value, propertyType);
+
+                if (merged == null) {
+                    original.remove(name);
+                } else {
+                    original.set(name, merged);
+                }
+            } else if (value.isArray() && ModelProperties.isMerged(property)) {
+                original.set(name, mergeList(config, current, (ArrayNode) value, propertyType == null ? null : propertyType.getContentType(),
+                    ModelProperties.getMergeKey(property)));
+            } else {
+                original.set(name, strip(value));
+            }
+        }
+
+        for (Iterator<Map.Entry<String, JsonNode>> i = patch.fields(); i.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = i.next();
+            if (field.getKey().startsWith(SET_ELEMENT_ORDER)) {
+                String name = field.getKey().substring(SET_ELEMENT_ORDER.length());
+                setElementOrder(original, name, field.getValue(), ModelProperties.getMergeKey(ModelProperties.getProperty(config, type, name)));
+            }
+        }
+
+        JsonNode retainKeys = patch.get(RETAIN_KEYS);
+        if (retainKeys != null && retainKeys.isArray()) {
+            Set<String> retained = new HashSet<>();
+            retainKeys.forEach(key -> retained.add(key.asText()));
+            original.retain(retained);
+        }
+
+        return original;
+    }
+
+    private static void setElementOrder(ObjectNode object, String name, JsonNode order, @Nullable String mergeKey) {
+        JsonNode list = object.get(name);
+        if (list == null || !list.isArray()) {
+            return;
+        }
+
+        List<JsonNode> remaining = new ArrayList<>();
+        list.forEach(remaining::add);
+
+        ArrayNode result = JsonNodeFactory.instance.arrayNode(list.size());
+        for (JsonNode key : order) {
+            for (Iterator<JsonNode> i = remaining.iterator(); i.hasNext(); ) {
+                JsonNode element = i.next();
+                if (mergeKey == null ? element.equals(key) : ModelProperties.isSameKey(element.get(mergeKey), key.get(mergeKey))) {
+                    result.add(element);
+                    i.remove();
+                }
+            }
+        }
+        result.addAll(remaining);
+
+        object.set(name, result);
+    }
+
+    private static JsonNode strip(JsonNode node) {
+        if (node.isObject()) {
+            ObjectNode result = JsonNodeFactory.instance.objectNode();
+            node.fields().forEachRemaining(field -> {
+                if (!field.getKey().startsWith("$")) {
+                    result.set(field.getKey(), strip(field.getValue()));
+                }
+            });
+            return result;
+        }
+
+        if (node.isArray()) {
+            ArrayNode result = JsonNodeFactory.instance.arrayNode(node.size());
+            node.forEach(element -> {
+                if (!element.has(PATCH)) {
+                    result.add(strip(element));
+                }
+            });
+            return result;
+        }
+
+        return node;
+    }
+
+}
@@ -16,6 +16,8 @@
 
 package io.nebhale.kubernetes;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.mustachejava.DefaultMustacheFactory;
 import com.github.mustachejava.MustacheFactory;
 import io.swagger.parser.OpenAPIParser;
@@ -29,6 +31,9 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.io.File;
+import java.io.IOException;
+
 @Configuration
 @SpringBootApplication
 public class Application {
@@ -45,13 +50,31 @@ public class Application {
     }
 
     @Bean
-    OpenAPI openAPI(@Value("${spec}") String path) {
+    OpenAPI openAPI(@Value("${spec}") String path) throws IOException {
         SwaggerParseResult result = new OpenAPIParser().readLocation(path, null, null);
         for (String m : result.getMessages()) {
             logger.warn(m);
         }
 
-        return result.getOpenAPI();
+        OpenAPI openAPI = result.getOpenAPI();
+        restoreReferenceExtensions(openAPI, new ObjectMapper().readTree(new File(path)).path("definitions"));
+        return openAPI;
+    }
+
+    // converting the spec discards the siblings of a property's $ref, including extensions such as its patch strategy
+    private static void restoreReferenceExtensions(OpenAPI openAPI, JsonNode definitions) {
+        Util.getSafeSchemas(openAPI).forEach((name, schema) ->
+            Util.getSafeProperties(schema).forEach((propertyName, property) -> {
+                if (property.get$ref() == null) {
+                    return;
+                }
+
+                definitions.path(name).path("properties").path(propertyName).fields().forEachRemaining(e -> {
+                    if (e.getKey().startsWith("x-") && e.getValue().isTextual()) {
+                        property.addExtension(e.getKey(), e.getValue().textValue());
+                    }
+                });
+            }));
     }
 
 }
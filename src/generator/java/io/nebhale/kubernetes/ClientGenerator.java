@@ -25,18 +25,27 @@ import io.k8s.meta.v1.UpdateOptions;
 import io.k8s.type.PatchType;
 import io.nebhale.kubernetes.generator.CompositeGenerator;
 import io.nebhale.kubernetes.generator.Generator;
+import io.nebhale.kubernetes.generator.ImplementationGenerator;
 import io.nebhale.kubernetes.generator.InterfaceGenerator;
 import io.nebhale.kubernetes.generator.PackageGenerator;
 import io.nebhale.kubernetes.template.DefaultType;
+import io.nebhale.kubernetes.template.FluxType;
+import io.nebhale.kubernetes.template.Implementation;
 import io.nebhale.kubernetes.template.Interface;
+import io.nebhale.kubernetes.template.ListType;
+import io.nebhale.kubernetes.template.Method;
 import io.nebhale.kubernetes.template.MethodSignature;
 import io.nebhale.kubernetes.template.MonoType;
 import io.nebhale.kubernetes.template.NeverImportType;
 import io.nebhale.kubernetes.template.Parameter;
+import io.nebhale.kubernetes.template.PublisherType;
 import io.nebhale.kubernetes.template.Type;
 import io.nebhale.kubernetes.template.VariableArgumentsType;
+import io.nebhale.kubernetes.template.WatchEventType;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.Content;
 import io.swagger.v3.oas.models.media.MediaType;
 import io.swagger.v3.oas.models.media.Schema;
@@ -55,11 +64,18 @@ import org.springframework.util.FileSystemUtils;
 import org.springframework.util.StringUtils;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -74,6 +90,12 @@ final class ClientGenerator implements CommandLineRunner {
 
     private static final String GROUP_VERSION_KIND = "x-kubernetes-group-version-kind";
 
+    private static final String HTTP_METHOD = "x-kubernetes-http-method";
+
+    private static final String PARENT_KIND = "x-kubernetes-parent-kind";
+
+    private static final String PATH = "x-kubernetes-path";
+
     private static final String SUB_RESOURCE = "x-kubernetes-subresource";
 
     private static final String MEDIA_TYPE_ALL = "*/*";
@@ -82,7 +104,34 @@ final class ClientGenerator implements CommandLineRunner {
 
     private static final String MEDIA_TYPE_APPLICATION_JSON_PATCH_JSON = "application/json-patch+json";
 
-    private static final Pattern URI_PATTERN = Pattern.compile("^/api(?:s/[^/]+)?/[^/]+(?:/watch)?(?:/namespaces/[^/]+)?/[^/]+(?:/[^/]+(?:/(?<subresource>[^/]+(?:/[^/]+)?))?)?$");
+    private static final Set<Type> IMPLEMENTATION_TYPES = new HashSet<>(Arrays.asList(
+        new DefaultType("io.nebhale.kubernetes.engine.ConnectionContext"),
+        new DefaultType("io.netty.handler.codec.http.HttpMethod"),
+        new DefaultType(Nullable.class),
+        new DefaultType("io.nebhale.kubernetes.engine.Request")
+    ));
+
+    private static final Type ARRAYS = new DefaultType(Arrays.class);
+
+    private static final Type LOG_LINE = new DefaultType("io.nebhale.kubernetes.engine.LogLine");
+
+    private static final Type PORT_FORWARD = new DefaultType("io.nebhale.kubernetes.engine.PortForward");
+
+    private static final String PORT_FORWARD_SUBRESOURCE = "portforward";
+
+    private static final Type REMOTE_COMMAND = new DefaultType("io.nebhale.kubernetes.engine.RemoteCommand");
+
+    private static final Type TERMINAL_SIZE = new DefaultType("io.nebhale.kubernetes.engine.TerminalSize");
+
+    private static final Set<String> STREAMING_SUBRESOURCES = new HashSet<>(Arrays.asList(
+        "attach",
+        "exec",
+        PORT_FORWARD_SUBRESOURCE
+    ));
+
+    private static final Type VOID = new DefaultType(Void.class);
+
+    private static final Pattern URI_PATTERN = Pattern.compile("^/api(?:s/[^/]+)?/[^/]+(?:/watch)?(?:/namespaces/\\{namespace})?/[^/]+(?:/[^/]+(?:/(?<subresource>[^/]+(?:/[^/]+)?))?)?$");
 
     private static final List<String> CREATE_OPTIONS_PARAMETERS = Arrays.asList(
         "kind",
@@ -155,10 +204,13 @@ final class ClientGenerator implements CommandLineRunner {
     public void run(String... args) throws IOException {
         Map<GroupVersionKind, List<Operation>> clients = Util.getSafePaths(openAPI).entrySet().stream()
             .filter(e -> !Util.isDeprecated(e.getValue().getDescription()))
-            .flatMap(e -> e.getValue().readOperations().stream()
-                .filter(o -> Util.getSafeExtensions(o).containsKey(GROUP_VERSION_KIND) && !Util.isDeprecated(o.getDescription()))
+            .flatMap(e -> e.getValue().readOperationsMap().entrySet().stream()
+                .filter(o -> Util.getSafeExtensions(o.getValue()).containsKey(GROUP_VERSION_KIND) && !Util.isDeprecated(o.getValue().getDescription()))
+                .map(o -> withHttpMethod(o.getValue(), o.getKey()))
                 .map(o -> withAdditionalParameters(o, Util.getSafeParameters(e.getValue())))
-                .map(o -> withSubresource(o, e.getKey())))
+                .map(o -> withSubresource(o, e.getKey()))
+                .map(o -> withParentKind(o, e.getKey()))
+                .map(o -> withPath(o, e.getKey())))
             .collect(Collectors.groupingBy(this::getGroupVersionKind));
 
         List<Generator> generators = clients.entrySet().stream()
@@ -212,15 +264,51 @@ final class ClientGenerator implements CommandLineRunner {
 
         Generator packageGenerator = new PackageGenerator(type.getPackage(), mustacheFactory);
 
-        List<MethodSignature> methodSignatures = operations.stream()
-            .map(this::getMethodSignature)
-            .distinct()
+        Set<String> ambiguousMethodNames = operations.stream()
+            .collect(Collectors.groupingBy(this::getMethodName, Collectors.mapping(this::getParentKind, Collectors.toSet())))
+            .entrySet().stream()
+            .filter(e -> e.getValue().size() > 1)
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toSet());
+
+        Map<MethodSignature, List<Operation>> methods = operations.stream()
+            .collect(Collectors.groupingBy(o -> getMethodSignature(o, ambiguousMethodNames.contains(getMethodName(o))),
+                LinkedHashMap::new, Collectors.toList()));
+
+        List<List<Operation>> listOperations = methods.values().stream()
+            .filter(o -> getAction(o.get(0)) == Action.LIST && Util.getSafeExtensions(o.get(0)).get(SUB_RESOURCE) == null)
+            .collect(Collectors.toList());
+
+        Map<MethodSignature, List<Operation>> listAllMethods = listOperations.stream()
+            .collect(Collectors.toMap(o -> getListAllMethodSignature(gvk.getKind(), o.get(0)), Function.identity()));
+
+        Map<MethodSignature, List<Operation>> watchMethods = listOperations.stream()
+            .collect(Collectors.toMap(o -> getWatchMethodSignature(gvk.getKind(), o.get(0)), Function.identity()));
+
+        Map<MethodSignature, List<Operation>> streamLogMethods = methods.values().stream()
+            .filter(o -> getAction(o.get(0)) == Action.GET && "log".equals(Util.getSafeExtensions(o.get(0)).get(SUB_RESOURCE)))
+            .collect(Collectors.toMap(o -> getStreamLogMethodSignature(gvk.getKind(), o.get(0)), Function.identity()));
+
+        List<MethodSignature> methodSignatures = Stream.of(methods, listAllMethods, watchMethods, streamLogMethods)
+            .flatMap(m -> m.keySet().stream())
             .sorted()
             .collect(Collectors.toList());
 
         Interface _interface = new Interface(null, type, methodSignatures);
 
-        return new CompositeGenerator(packageGenerator, new InterfaceGenerator(_interface, mustacheFactory));
+        Implementation implementation = new Implementation(getImplementationType(type), type, IMPLEMENTATION_TYPES,
+            operations.stream().anyMatch(this::isNamespaced),
+            Stream.of(
+                methods.entrySet().stream().map(e -> getMethod(e.getKey(), e.getValue(), getAction(e.getValue().get(0)))),
+                listAllMethods.entrySet().stream().map(e -> getMethod(e.getKey(), e.getValue(), Action.LISTALL)),
+                watchMethods.entrySet().stream().map(e -> getMethod(e.getKey(), e.getValue(), Action.WATCH)),
+                streamLogMethods.entrySet().stream().map(e -> getMethod(e.getKey(), e.getValue(), Action.STREAMLOG)))
+                .flatMap(Function.identity())
+                .sorted()
+                .collect(Collectors.toList()));
+
+        return new CompositeGenerator(packageGenerator, new InterfaceGenerator(_interface, mustacheFactory),
+            new ImplementationGenerator(implementation, mustacheFactory));
     }
 
     @SuppressWarnings("unchecked")
@@ -229,25 +317,157 @@ final class ClientGenerator implements CommandLineRunner {
         return new GroupVersionKind(raw.get("group"), raw.get("version"), raw.get("kind"));
     }
 
-    private MethodSignature getMethodSignature(Operation operation) {
+    private PathItem.HttpMethod getHttpMethod(Operation operation) {
+        return PathItem.HttpMethod.valueOf((String) Util.getSafeExtensions(operation).get(HTTP_METHOD));
+    }
+
+    private Type getImplementationType(Type type) {
+        return new DefaultType(String.format("%s.Reactor%s", type.getPackage(), type.getName()));
+    }
+
+    private List<io.swagger.v3.oas.models.parameters.Parameter> getInterestingParameters(Action action, Operation operation) {
+        Map<String, io.swagger.v3.oas.models.parameters.Parameter> parameters = new LinkedHashMap<>();
+
+        for (io.swagger.v3.oas.models.parameters.Parameter p : Util.getSafeParameters(operation)) {
+            if (isInterestingParameter(action, p) && (!parameters.containsKey(p.getName()) || "path".equals(p.getIn()))) {
+                parameters.put(p.getName(), p);
+            }
+        }
+
+        return new ArrayList<>(parameters.values());
+    }
+
+    private Type getItemType(Operation operation) {
+        Schema<?> list = Util.getSafeSchemas(openAPI).get(getResponseSchemaName(operation));
+        Schema<?> items = Util.getSafeProperties(list).get("items");
+        return typeFactory.create(((ArraySchema) items).getItems());
+    }
+
+    private Method getMethod(MethodSignature methodSignature, List<Operation> operations, Action action) {
+        Operation operation = operations.get(0);
+
+        Set<Type> types = new HashSet<>();
+        List<String> statements = new ArrayList<>();
+
+        statements.add("Request request = Request.builder()");
+        // Streaming connections are upgraded to WebSockets, which are only ever opened with a GET
+        statements.add(String.format("    .method(HttpMethod.%s)", isStreaming(operation) ? PathItem.HttpMethod.GET : getHttpMethod(operation)));
+
+        Optional<String> namespacedPath = getPath(operations, true);
+        namespacedPath.ifPresent(p -> statements.add(String.format("    .namespacedPath(\"%s\")", p)));
+        getPath(operations, false).ifPresent(p -> statements.add(String.format("    .clusterPath(\"%s\")", p)));
+        if (namespacedPath.isPresent()) {
+            statements.add("    .namespace(namespace)");
+        }
+
+        for (io.swagger.v3.oas.models.parameters.Parameter p : getInterestingParameters(action, operation)) {
+            if ("path".equals(p.getIn())) {
+                statements.add(String.format("    .pathVariable(\"%1$s\", %1$s)", p.getName()));
+            } else {
+                statements.add(String.format("    .queryParameter(\"%1$s\", %1$s)", p.getName()));
+            }
+        }
+
+        if (action == Action.WATCH) {
+            statements.add("    .queryParameter(\"watch\", true)");
+        }
+
+        if (action == Action.PATCH) {
+            statements.add("    .contentType(type.getMediaType())");
+        }
+
+        if (getRequestBodyType(operation) != null) {
+            statements.add("    .body(body)");
+        }
+
+        if (action == Action.DELETECOLLECTION || action == Action.GET || action == Action.LIST || action == Action.LISTALL ||
+            action == Action.PATCH || action == Action.POST || action == Action.PUT || action == Action.STREAMLOG || action == Action.WATCH) {
+            statements.add("    .options(options)");
+        }
+
+        if (action == Action.PATCH) {
+            types.add(ARRAYS);
+            statements.add("    .subresources(Arrays.asList(subresources))");
+        }
+
+        statements.add("    .build();");
+
+        if (action == Action.LISTALL) {
+            return new Method(methodSignature, types, statements,
+                String.format("return connectionContext.listAll(request, %s.class);", getItemType(operation).getName()));
+        }
+
+        if (action == Action.STREAMLOG) {
+            return new Method(methodSignature, types, statements, "return connectionContext.log(request);");
+        }
+
+        if (isPortForward(operation)) {
+            return new Method(methodSignature, types, statements, "return connectionContext.portForward(request, localPort == null ? 0 : localPort);");
+        }
+
+        if (isStreaming(operation)) {
+            return new Method(methodSignature, types, statements, "return connectionContext.connect(request, input, resize);");
+        }
+
+        if (action == Action.WATCH) {
+            return new Method(methodSignature, types, statements,
+                String.format("return connectionContext.watch(request, %s.class);", getItemType(operation).getName()));
+        }
+
+        return new Method(methodSignature, types, statements,
+            String.format("return connectionContext.exchange(request, %s.class);", getResponseType(operation).getName()));
+    }
+
+    private MethodSignature getMethodSignature(Operation operation, boolean qualified) {
         Action action = getAction(operation);
 
         String methodName = action.getMethodName();
+        if (action == Action.CONNECT && !isStreaming(operation)) {
+            methodName = String.format("%s%s", methodName, StringUtils.capitalize(getHttpMethod(operation).name().toLowerCase()));
+        }
+
+        if (qualified) {
+            methodName = String.format("%s%s", methodName, getParentKind(operation));
+        }
+
         String subresource = (String) Util.getSafeExtensions(operation).get(SUB_RESOURCE);
         if (subresource != null) {
-            methodName = String.format("%s%s", methodName, StringUtils.capitalize(subresource));
+            methodName = String.format("%s%s", methodName, getSubresourceName(subresource));
+        }
+
+        // The GET and POST operations of a streaming connection collapse into a single method
+        String description = operation.getDescription();
+        if (isStreaming(operation)) {
+            description = String.format("%s, %s", description.replaceFirst("^connect \\w+ requests to", "connect to"),
+                isPortForward(operation) ? "forwarding it to localPort on the loopback interface, or to an ephemeral port if localPort is null or 0" :
+                    "streaming its channels");
         }
 
-        return new MethodSignature(operation.getDescription(), Collections.emptySet(), getReturnType(operation),
+        return new MethodSignature(description, Collections.emptySet(), getReturnType(operation),
             methodName, getParameters(action, operation));
     }
 
+    private String getMethodName(Operation operation) {
+        return getMethodSignature(operation, false).getName();
+    }
+
+    private String getParentKind(Operation operation) {
+        return (String) Util.getSafeExtensions(operation).getOrDefault(PARENT_KIND, "");
+    }
+
     private List<Parameter> getParameters(Action action, Operation operation) {
-        List<Parameter> parameters = Util.getSafeParameters(operation).stream()
-            .filter(p -> isInterestingParameter(action, p))
-            .map(p -> new Parameter(typeFactory.create(p.getSchema()), p.getName()))
+        List<Parameter> parameters = getInterestingParameters(action, operation).stream()
+            .map(p -> new Parameter(isStreaming(operation) && "command".equals(p.getName()) ?
+                new ListType(typeFactory.create(p.getSchema())) : typeFactory.create(p.getSchema()), p.getName()))
             .collect(Collectors.toList());
 
+        if (isPortForward(operation)) {
+            parameters.add(new Parameter(new DefaultType(Integer.class), "localPort"));
+        } else if (isStreaming(operation)) {
+            parameters.add(new Parameter(new PublisherType(new DefaultType(ByteBuffer.class)), "input"));
+            parameters.add(new Parameter(new PublisherType(TERMINAL_SIZE), "resize"));
+        }
+
         if (action == Action.PATCH) {
             parameters.add(new Parameter(new DefaultType(PatchType.class), "type"));
         }
@@ -261,11 +481,11 @@ final class ClientGenerator implements CommandLineRunner {
             parameters.add(new Parameter(new DefaultType(ListOptions.class), "options"));
         }
 
-        if (action == Action.GET) {
+        if (action == Action.GET || action == Action.STREAMLOG) {
             parameters.add(new Parameter(new DefaultType(GetOptions.class), "options"));
         }
 
-        if (action == Action.LIST || action == Action.WATCH || action == Action.WATCHLIST) {
+        if (action == Action.LIST || action == Action.LISTALL || action == Action.WATCH || action == Action.WATCHLIST) {
             parameters.add(new Parameter(new DefaultType(ListOptions.class), "options"));
         }
 
@@ -285,24 +505,65 @@ final class ClientGenerator implements CommandLineRunner {
         return parameters;
     }
 
-    private Type getReturnType(Operation operation) {
+    private Optional<String> getPath(List<Operation> operations, boolean namespaced) {
+        return operations.stream()
+            .filter(o -> isNamespaced(o) == namespaced)
+            .map(o -> (String) Util.getSafeExtensions(o).get(PATH))
+            .findFirst();
+    }
+
+    private Type getResponseType(Operation operation) {
         ApiResponse response = Util.getSafeResponses(operation).get("200");
         if (response == null) {
             logger.warn("{} missing 200 response", operation.getOperationId());
-            return MonoType.MONO_VOID;
+            return VOID;
         }
 
         MediaType mediaType = response.getContent().get(MEDIA_TYPE_APPLICATION_JSON);
         if (mediaType == null) {
-            return MonoType.MONO_VOID;
+            return VOID;
         }
 
         Schema<?> schema = mediaType.getSchema();
         if (schema == null) {
-            return MonoType.MONO_VOID;
+            return VOID;
+        }
+
+        return typeFactory.create(schema);
+    }
+
+    @Nullable
+    private String getResponseSchemaName(Operation operation) {
+        ApiResponse response = Util.getSafeResponses(operation).get("200");
+        if (response == null) {
+            return null;
+        }
+
+        MediaType mediaType = response.getContent().get(MEDIA_TYPE_APPLICATION_JSON);
+        if (mediaType == null || mediaType.getSchema() == null || mediaType.getSchema().get$ref() == null) {
+            return null;
+        }
+
+        String ref = mediaType.getSchema().get$ref();
+        return ref.substring(ref.lastIndexOf('/') + 1);
+    }
+
+    private Type getReturnType(Operation operation) {
+        if (isPortForward(operation)) {
+            return new MonoType(PORT_FORWARD);
+        }
+
+        if (isStreaming(operation)) {
+            return new MonoType(REMOTE_COMMAND);
         }
 
-        return new MonoType(typeFactory.create(schema));
+        return new MonoType(getResponseType(operation));
+    }
+
+    private String getSubresourceName(String subresource) {
+        return Arrays.stream(subresource.split("/"))
+            .map(s -> s.startsWith("{") ? String.format("With%s", StringUtils.capitalize(s.substring(1, s.length() - 1))) : StringUtils.capitalize(s))
+            .collect(Collectors.joining());
     }
 
     private Type getType(String kind, Operation operation) {
@@ -313,6 +574,22 @@ final class ClientGenerator implements CommandLineRunner {
         return new DefaultType(String.format("io.nebhale.kubernetes.client.%s.%sClient", _package, kind));
     }
 
+    private MethodSignature getListAllMethodSignature(String kind, Operation operation) {
+        return new MethodSignature(String.format("list all objects of kind %s, page by page", kind), Collections.emptySet(),
+            new FluxType(getItemType(operation)), Action.LISTALL.getMethodName(), getParameters(Action.LISTALL, operation));
+    }
+
+    private MethodSignature getStreamLogMethodSignature(String kind, Operation operation) {
+        return new MethodSignature(String.format("stream the log of the specified %s, line by line", kind), Collections.emptySet(),
+            new FluxType(LOG_LINE), Action.STREAMLOG.getMethodName(), getParameters(Action.STREAMLOG, operation));
+    }
+
+    private MethodSignature getWatchMethodSignature(String kind, Operation operation) {
+        return new MethodSignature(String.format("watch changes to objects of kind %s", kind), Collections.emptySet(),
+            new FluxType(new WatchEventType(getItemType(operation))), Action.WATCH.getMethodName(),
+            getParameters(Action.WATCH, operation));
+    }
+
     private boolean isInterestingParameter(Action action, io.swagger.v3.oas.models.parameters.Parameter parameter) {
         String name = parameter.getName();
 
@@ -338,11 +615,11 @@ final class ClientGenerator implements CommandLineRunner {
             return false;
         }
 
-        if (action == Action.GET && GET_OPTIONS_PARAMETERS.contains(name)) {
+        if ((action == Action.GET || action == Action.STREAMLOG) && GET_OPTIONS_PARAMETERS.contains(name)) {
             return false;
         }
 
-        if ((action == Action.LIST || action == Action.WATCH || action == Action.WATCHLIST) &&
+        if ((action == Action.LIST || action == Action.LISTALL || action == Action.WATCH || action == Action.WATCHLIST) &&
             LIST_OPTIONS_PARAMETERS.contains(name)
         ) {
             return false;
@@ -363,6 +640,18 @@ final class ClientGenerator implements CommandLineRunner {
         return true;
     }
 
+    private boolean isNamespaced(Operation operation) {
+        return ((String) Util.getSafeExtensions(operation).get(PATH)).contains("{namespace}");
+    }
+
+    private boolean isPortForward(Operation operation) {
+        return getAction(operation) == Action.CONNECT && PORT_FORWARD_SUBRESOURCE.equals(Util.getSafeExtensions(operation).get(SUB_RESOURCE));
+    }
+
+    private boolean isStreaming(Operation operation) {
+        return getAction(operation) == Action.CONNECT && STREAMING_SUBRESOURCES.contains((String) Util.getSafeExtensions(operation).get(SUB_RESOURCE));
+    }
+
     private Operation withAdditionalParameters(Operation operation, List<io.swagger.v3.oas.models.parameters.Parameter> parameters) {
         List<io.swagger.v3.oas.models.parameters.Parameter> p = Stream.concat(Util.getSafeParameters(operation).stream(), parameters.stream())
             .collect(Collectors.toList());
@@ -371,6 +660,43 @@ final class ClientGenerator implements CommandLineRunner {
         return operation;
     }
 
+    private Operation withHttpMethod(Operation operation, PathItem.HttpMethod httpMethod) {
+        Map<String, Object> extensions = Util.getSafeExtensions(operation);
+        extensions.put(HTTP_METHOD, httpMethod.name());
+        operation.setExtensions(extensions);
+        return operation;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Operation withParentKind(Operation operation, String uri) {
+        String subresource = (String) Util.getSafeExtensions(operation).get(SUB_RESOURCE);
+        if (subresource == null) {
+            return operation;
+        }
+
+        PathItem parent = Util.getSafePaths(openAPI).get(uri.substring(0, uri.length() - subresource.length() - 1));
+        if (parent == null || parent.getGet() == null) {
+            return operation;
+        }
+
+        Map<String, String> gvk = (Map<String, String>) Util.getSafeExtensions(parent.getGet()).get(GROUP_VERSION_KIND);
+        if (gvk == null) {
+            return operation;
+        }
+
+        Map<String, Object> extensions = Util.getSafeExtensions(operation);
+        extensions.put(PARENT_KIND, gvk.get("kind"));
+        operation.setExtensions(extensions);
+        return operation;
+    }
+
+    private Operation withPath(Operation operation, String uri) {
+        Map<String, Object> extensions = Util.getSafeExtensions(operation);
+        extensions.put(PATH, uri);
+        operation.setExtensions(extensions);
+        return operation;
+    }
+
     private Operation withSubresource(Operation operation, String uri) {
         Matcher matcher = URI_PATTERN.matcher(uri);
         if (matcher.find()) {
@@ -389,8 +715,10 @@ final class ClientGenerator implements CommandLineRunner {
         DELETECOLLECTION("deleteCollection"),
         GET("get"),
         LIST("list"),
+        LISTALL("listAll"),
         PATCH("patch"),
         PUT("update"),
+        STREAMLOG("streamLog"),
         WATCH("watch"),
         WATCHLIST("watchList");
 
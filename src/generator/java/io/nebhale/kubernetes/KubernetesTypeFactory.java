@@ -33,6 +33,7 @@ import org.springframework.stereotype.Component;
 import javax.annotation.PostConstruct;
 import java.time.OffsetDateTime;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -50,6 +51,8 @@ final class KubernetesTypeFactory implements TypeFactory {
         "io.k8s.apimachinery.pkg.apis.meta.v1.Patch"
     );
 
+    private static final Map<String, Type> PROVIDED = new HashMap<>();
+
     private static final Type BOOLEAN = new NeverImportType(new DefaultType(Boolean.class));
 
     private static final Type DATE_TIME = new DefaultType(OffsetDateTime.class);
@@ -58,7 +61,7 @@ final class KubernetesTypeFactory implements TypeFactory {
 
     private static final Type INTEGER = new NeverImportType(new DefaultType(Integer.class));
 
-    private static final Type INT_OR_STRING = new NeverImportType(new DefaultType(String.class));
+    private static final Type INT_OR_STRING = new DefaultType("io.k8s.intstr.IntOrString");
 
     private static final Type LONG = new NeverImportType(new DefaultType(Long.class));
 
@@ -66,6 +69,13 @@ final class KubernetesTypeFactory implements TypeFactory {
 
     private static final Type STRING = new NeverImportType(new DefaultType(String.class));
 
+    static {
+        PROVIDED.put("io.k8s.apimachinery.pkg.api.resource.Quantity", new DefaultType("io.k8s.resource.Quantity"));
+        PROVIDED.put("io.k8s.apimachinery.pkg.apis.meta.v1.FieldsV1", new DefaultType("io.k8s.meta.v1.FieldsV1"));
+        PROVIDED.put("io.k8s.apimachinery.pkg.apis.meta.v1.WatchEvent", new DefaultType("io.k8s.meta.v1.WatchEvent"));
+        PROVIDED.put("io.k8s.apimachinery.pkg.util.intstr.IntOrString", INT_OR_STRING);
+    }
+
     private final Map<String, Type> aliasedTypes = new ConcurrentHashMap<>();
 
     @NonNull
@@ -89,6 +99,12 @@ final class KubernetesTypeFactory implements TypeFactory {
 
     @Override
     public Type create(String name, Schema<?> schema) {
+        Type provided = PROVIDED.get(name);
+        if (provided != null) {
+            aliasedTypes.put(name, provided);
+            return provided;
+        }
+
         Type type = getType(schema);
         if (type != null) {
             aliasedTypes.put(name, type);
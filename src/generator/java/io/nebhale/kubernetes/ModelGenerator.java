@@ -19,16 +19,22 @@ package io.nebhale.kubernetes;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.github.mustachejava.MustacheFactory;
 import io.k8s.meta.v1.TypeMeta;
+import io.k8s.type.PatchMergeKey;
+import io.k8s.type.PatchStrategy;
 import io.nebhale.kubernetes.generator.ClassGenerator;
+import io.nebhale.kubernetes.generator.CodecGenerator;
 import io.nebhale.kubernetes.generator.CompositeGenerator;
 import io.nebhale.kubernetes.generator.Generator;
 import io.nebhale.kubernetes.generator.InterfaceGenerator;
+import io.nebhale.kubernetes.generator.ModuleGenerator;
 import io.nebhale.kubernetes.generator.NoOpGenerator;
 import io.nebhale.kubernetes.generator.PackageGenerator;
 import io.nebhale.kubernetes.template.Annotation;
 import io.nebhale.kubernetes.template.Class;
+import io.nebhale.kubernetes.template.Codec;
 import io.nebhale.kubernetes.template.Constant;
 import io.nebhale.kubernetes.template.DefaultType;
+import io.nebhale.kubernetes.template.Module;
 import io.nebhale.kubernetes.template.Property;
 import io.nebhale.kubernetes.template.Type;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -75,6 +81,12 @@ final class ModelGenerator implements CommandLineRunner {
         "io.k8s.apimachinery.pkg.apis.meta.v1.ObjectMeta"
     );
 
+    private static final Type MODULE = new DefaultType("io.k8s.ModelModule");
+
+    private static final Type PATCH_MERGE_KEY = new DefaultType(PatchMergeKey.class);
+
+    private static final Type PATCH_STRATEGY = new DefaultType(PatchStrategy.class);
+
     private static final Pattern PLURALS = Pattern.compile(".+[^s]s$");
 
     private static final Set<String> SINGULAR_EXCEPTIONS = Collections.singleton("podCIDRs");
@@ -113,6 +125,14 @@ final class ModelGenerator implements CommandLineRunner {
             .map(e -> getGenerator(e.getKey(), e.getValue(), metas))
             .collect(Collectors.toList());
 
+        List<Type> types = schemas.entrySet().stream()
+            .map(e -> typeFactory.create(e.getKey(), e.getValue()))
+            .filter(t -> t.isGenerated() && !metas.containsKey(t))
+            .collect(Collectors.toList());
+
+        generators.add(new CompositeGenerator(new PackageGenerator(MODULE.getPackage(), mustacheFactory),
+            new ModuleGenerator(new Module(MODULE, types), mustacheFactory)));
+
         if (FileSystemUtils.deleteRecursively(path)) {
             logger.warn("Deleted {}", path);
         }
@@ -153,14 +173,17 @@ final class ModelGenerator implements CommandLineRunner {
             return new CompositeGenerator(packageGenerator, new InterfaceGenerator(_class.asInterface(), mustacheFactory));
         }
 
+        Set<String> metadataNames = new HashSet<>();
         for (Type t : _class.getInterfaces()) {
             Class meta = metas.get(t);
             if (meta != null) {
                 _class = _class.withAdditionalProperties(meta.getProperties());
+                meta.getProperties().forEach(p -> metadataNames.add(p.getName()));
             }
         }
 
-        return new CompositeGenerator(packageGenerator, new ClassGenerator(_class, mustacheFactory));
+        return new CompositeGenerator(packageGenerator, new ClassGenerator(_class, mustacheFactory),
+            new CodecGenerator(new Codec(_class, metadataNames), mustacheFactory));
     }
 
     private Set<Type> getInterfaces(Schema<?> schema) {
@@ -207,12 +230,28 @@ final class ModelGenerator implements CommandLineRunner {
         annotations.add(required ? NON_NULL : NULLABLE);
 
         String safeName = Util.getSafeName(name);
-        if (!name.equals(safeName)) {
+        boolean singularSameAsPlural = false;
+
+        if (type.isCollection() && !SINGULAR_EXCEPTIONS.contains(name)) {
+            singularSameAsPlural = !PLURALS.matcher(name).find();
+            annotations.add(new Annotation(SINGULAR, singularSameAsPlural ? safeName : null));
+        }
+
+        // an explicit property name is copied to the plural builder method, disambiguating it from a same-named adder
+        if (!name.equals(safeName) || singularSameAsPlural) {
             annotations.add(new Annotation(JSON_PROPERTY, name));
         }
 
-        if (type.isCollection() && !SINGULAR_EXCEPTIONS.contains(name)) {
-            annotations.add(new Annotation(SINGULAR, PLURALS.matcher(name).find() ? null : safeName));
+        Map<String, Object> extensions = Util.getSafeExtensions(schema);
+
+        Object patchStrategy = extensions.get("x-kubernetes-patch-strategy");
+        if (patchStrategy != null) {
+            annotations.add(new Annotation(PATCH_STRATEGY, (String) patchStrategy));
+        }
+
+        Object patchMergeKey = extensions.get("x-kubernetes-patch-merge-key");
+        if (patchMergeKey != null) {
+            annotations.add(new Annotation(PATCH_MERGE_KEY, (String) patchMergeKey));
         }
 
         return new Property(schema.getDescription(), annotations, type, safeName);
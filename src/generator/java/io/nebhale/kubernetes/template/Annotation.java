@@ -56,6 +56,11 @@ public final class Annotation implements Comparable<Annotation>, Importable {
         return type;
     }
 
+    @Nullable
+    public String getValue() {
+        return value;
+    }
+
     @Override
     public List<String> getImportStatements(String _package) {
         return type.getImportStatements(_package);
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.template;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import joptsimple.internal.Strings;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public final class Codec {
+
+    private static final List<Type> TYPES = Arrays.asList(
+        new DefaultType(Codecs.class),
+        new DefaultType(Diff.class),
+        new DefaultType(DeserializationContext.class),
+        new DefaultType(IOException.class),
+        new DefaultType(JsonDeserializer.class),
+        new DefaultType(JsonGenerator.class),
+        new DefaultType(JsonParser.class),
+        new DefaultType(JsonSerializer.class),
+        new DefaultType(JsonToken.class),
+        new DefaultType(Nullable.class),
+        new DefaultType(SerializerProvider.class),
+        new DefaultType(StdDeserializer.class),
+        new DefaultType(StdSerializer.class)
+    );
+
+    private static final Type COLLECTIONS = new DefaultType(Collections.class);
+
+    @NonNull
+    private final Class _class;
+
+    @NonNull
+    private final Set<String> metadataNames;
+
+    public String getPackage() {
+        return _class.getPackage();
+    }
+
+    public List<String> getImportStatements() {
+        Set<Type> types = _class.getProperties().stream()
+            .flatMap(p -> Stream.concat(Stream.of(p.getType()), CodecProperty.getCodecTypes(p.getType()).stream()))
+            .collect(Collectors.toSet());
+
+        if (CodecProperty.usesCollections(getProperties())) {
+            types.add(COLLECTIONS);
+        }
+
+        return Util.getImportStatements(getPackage(), TYPES, types);
+    }
+
+    public String getName() {
+        return CodecProperty.getCodecType(_class.getType()).getName();
+    }
+
+    public String getTypeName() {
+        return _class.getName();
+    }
+
+    public String getArguments() {
+        return Strings.join(getProperties().stream()
+            .map(CodecProperty::getLocalName)
+            .collect(Collectors.toList()), ", ");
+    }
+
+    public List<CodecProperty> getFields() {
+        return getProperties(false);
+    }
+
+    public boolean isMetadata() {
+        return !metadataNames.isEmpty();
+    }
+
+    public List<CodecProperty> getMetadataFields() {
+        return getProperties(true);
+    }
+
+    public String getMetadataGetters() {
+        return Strings.join(getMetadataFields().stream()
+            .map(p -> String.format("value.%s()", p.getGetterName()))
+            .collect(Collectors.toList()), ", ");
+    }
+
+    public List<CodecProperty> getProperties() {
+        return _class.getProperties().stream()
+            .map(p -> new CodecProperty(_class.getType(), p))
+            .collect(Collectors.toList());
+    }
+
+    private List<CodecProperty> getProperties(boolean metadata) {
+        return _class.getProperties().stream()
+            .filter(p -> metadataNames.contains(p.getName()) == metadata)
+            .map(p -> new CodecProperty(_class.getType(), p))
+            .collect(Collectors.toList());
+    }
+
+}
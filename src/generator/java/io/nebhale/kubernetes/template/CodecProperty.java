@@ -0,0 +1,264 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.template;
+
+import io.k8s.intstr.IntOrString;
+import io.k8s.meta.v1.FieldsV1;
+import io.k8s.resource.Quantity;
+import io.k8s.type.PatchStrategy;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public final class CodecProperty {
+
+    private static final Set<String> INTERNED = new HashSet<>();
+
+    private static final String MANAGED_FIELDS = "managedFields";
+
+    private static final Map<String, String> SCALARS = new HashMap<>();
+
+    static {
+        Stream.of(Boolean.class, Double.class, Integer.class, Long.class, String.class)
+            .forEach(c -> SCALARS.put(c.getName(), c.getSimpleName()));
+
+        SCALARS.put(OffsetDateTime.class.getName(), "DateTime");
+        SCALARS.put(FieldsV1.class.getName(), "FieldsV1");
+        SCALARS.put(IntOrString.class.getName(), "IntOrString");
+        SCALARS.put(Quantity.class.getName(), "Quantity");
+
+        // low-cardinality strings, and maps of them, by JSON name or by declaring type and JSON name
+        Stream.of("apiVersion", "dnsPolicy", "effect", "fieldsType", "hostIP", "image", "imageID", "imagePullPolicy", "key",
+            "kind", "labels", "manager", "matchLabels", "namespace", "nodeName", "nodeSelector", "operation", "operator", "phase",
+            "priorityClassName", "protocol", "qosClass", "reason", "restartPolicy", "schedulerName", "selector", "serviceAccount",
+            "serviceAccountName", "status", "terminationMessagePath", "terminationMessagePolicy", "type")
+            .forEach(INTERNED::add);
+
+        Stream.of("Container", "ContainerPort", "ContainerStatus", "EnvVar", "EphemeralContainer", "Volume", "VolumeMount")
+            .forEach(t -> INTERNED.add(String.format("io.k8s.core.v1.%s.name", t)));
+    }
+
+    @NonNull
+    private final Type owner;
+
+    @NonNull
+    private final Property property;
+
+    static List<Type> getCodecTypes(Type type) {
+        if (type instanceof ListType) {
+            return getCodecTypes(((ListType) type).getItems());
+        }
+
+        if (type instanceof MapType) {
+            return getCodecTypes(((MapType) type).getValues());
+        }
+
+        if (type.isGenerated()) {
+            return Collections.singletonList(getCodecType(type));
+        }
+
+        return Collections.emptyList();
+    }
+
+    static Type getCodecType(Type type) {
+        return new DefaultType(String.format("%s.%sCodec", type.getPackage(), type.getName()));
+    }
+
+    public String getDiffStatement() {
+        Type type = property.getType();
+        String getter = String.format("%s::%s", owner.getName(), getGetterName());
+
+        if (type instanceof ListType && property.hasPatchStrategy(PatchStrategy.MERGE)) {
+            Type items = ((ListType) type).getItems();
+            String mergeKey = property.getPatchMergeKey();
+
+            if (mergeKey != null && items.isGenerated()) {
+                return String.format("diff.list(\"%s\", original, modified, %s, \"%s\", %s::get%s, %s);", getJsonName(), getter, mergeKey,
+                    items.getName(), StringUtils.capitalize(mergeKey), getDiffer(items));
+            }
+
+            if (mergeKey == null && !items.isGenerated()) {
+                return String.format("diff.list(\"%s\", original, modified, %s);", getJsonName(), getter);
+            }
+        }
+
+        if (type instanceof MapType) {
+            return String.format("diff.map(\"%s\", original, modified, %s);", getJsonName(), getter);
+        }
+
+        if (type.isGenerated()) {
+            return String.format("diff.object(\"%s\", original, modified, %s, %s);", getJsonName(), getter, getDiffer(type));
+        }
+
+        return String.format("diff.value(\"%s\", original, modified, %s);", getJsonName(), getter);
+    }
+
+    public String getGetterName() {
+        return property.asMethodSignature().getName();
+    }
+
+    public String getInitialValue() {
+        if (!property.isSingular()) {
+            return "null";
+        }
+
+        return property.getType() instanceof MapType ? "Collections.emptyMap()" : "Collections.emptyList()";
+    }
+
+    public String getJsonName() {
+        return property.getJsonName();
+    }
+
+    public String getLocalName() {
+        return property.getName();
+    }
+
+    public String getReadExpression() {
+        Type type = property.getType();
+
+        if (type instanceof ListType && MANAGED_FIELDS.equals(getJsonName())) {
+            return String.format("Codecs.readManagedFields(parser, context, %s)", getReader(((ListType) type).getItems()));
+        }
+
+        if (type instanceof ListType) {
+            return String.format("Codecs.readList(parser, context, %s)", getReader(((ListType) type).getItems()));
+        }
+
+        if (type instanceof MapType && isInterned(((MapType) type).getValues())) {
+            return "Codecs.readMap(parser, context, Codecs::readInternedString)";
+        }
+
+        if (type instanceof MapType) {
+            return String.format("Codecs.readMap(parser, context, %s)", getReader(((MapType) type).getValues()));
+        }
+
+        if (type.isGenerated()) {
+            return String.format("%s.read(parser, context)", getCodecType(type).getName());
+        }
+
+        if (isInterned(type)) {
+            return "Codecs.readInternedString(parser, context)";
+        }
+
+        String scalar = getScalar(type);
+        if (scalar != null) {
+            return String.format("Codecs.read%s(parser, context)", scalar);
+        }
+
+        return String.format("Codecs.readValue(parser, context, %s.class)", type.getName());
+    }
+
+    public String getTypeName() {
+        return property.getTypeName();
+    }
+
+    public String getWriteStatement() {
+        Type type = property.getType();
+
+        if (type instanceof ListType) {
+            return getWriteStatement("writeListField", getWriter(((ListType) type).getItems()));
+        }
+
+        if (type instanceof MapType) {
+            return getWriteStatement("writeMapField", getWriter(((MapType) type).getValues()));
+        }
+
+        return getWriteStatement("writeField", getWriter(type));
+    }
+
+    static boolean usesCollections(List<CodecProperty> properties) {
+        return properties.stream()
+            .anyMatch(p -> p.property.isSingular());
+    }
+
+    private boolean isInterned(Type type) {
+        return "String".equals(getScalar(type)) &&
+            (INTERNED.contains(getJsonName()) || INTERNED.contains(String.format("%s.%s.%s", owner.getPackage(), owner.getName(), getJsonName())));
+    }
+
+    private static String getReader(Type type) {
+        if (type instanceof ListType) {
+            return String.format("Codecs.listReader(%s)", getReader(((ListType) type).getItems()));
+        }
+
+        if (type instanceof MapType) {
+            return String.format("Codecs.mapReader(%s)", getReader(((MapType) type).getValues()));
+        }
+
+        if (type.isGenerated()) {
+            return String.format("%s::read", getCodecType(type).getName());
+        }
+
+        String scalar = getScalar(type);
+        if (scalar != null) {
+            return String.format("Codecs::read%s", scalar);
+        }
+
+        return String.format("Codecs.valueReader(%s.class)", type.getName());
+    }
+
+    private String getDiffer(Type type) {
+        String differ = String.format("%s::diff", getCodecType(type).getName());
+        return property.hasPatchStrategy(PatchStrategy.RETAIN_KEYS) ? String.format("Diff.retainKeys(%s)", differ) : differ;
+    }
+
+    @Nullable
+    private static String getScalar(Type type) {
+        return SCALARS.get(String.format("%s.%s", type.getPackage(), type.getName()));
+    }
+
+    private static String getWriter(Type type) {
+        if (type instanceof ListType) {
+            return String.format("Codecs.listWriter(%s)", getWriter(((ListType) type).getItems()));
+        }
+
+        if (type instanceof MapType) {
+            return String.format("Codecs.mapWriter(%s)", getWriter(((MapType) type).getValues()));
+        }
+
+        if (type.isGenerated()) {
+            return String.format("%s::write", getCodecType(type).getName());
+        }
+
+        String scalar = getScalar(type);
+        if (scalar != null) {
+            return String.format("Codecs::write%s", scalar);
+        }
+
+        return "Codecs::writeValue";
+    }
+
+    private String getWriteStatement(String method, String writer) {
+        return String.format("Codecs.%s(\"%s\", value.%s(), %s, generator, provider);", method, getJsonName(), getGetterName(), writer);
+    }
+
+}
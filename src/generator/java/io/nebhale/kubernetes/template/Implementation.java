@@ -0,0 +1,71 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.template;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.springframework.lang.NonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public final class Implementation {
+
+    @NonNull
+    private final Type type;
+
+    @NonNull
+    private final Type _interface;
+
+    @NonNull
+    private final Set<Type> types;
+
+    private final boolean namespaced;
+
+    @NonNull
+    private final List<Method> methods;
+
+    public String getPackage() {
+        return type.getPackage();
+    }
+
+    public List<String> getImportStatements() {
+        return Util.getImportStatements(type.getPackage(), Collections.singleton(_interface), types, methods);
+    }
+
+    public String getName() {
+        return type.getName();
+    }
+
+    public String getInterfaceName() {
+        return _interface.getName();
+    }
+
+    public boolean isNamespaced() {
+        return namespaced;
+    }
+
+    public List<Method> getMethods() {
+        return methods;
+    }
+
+}
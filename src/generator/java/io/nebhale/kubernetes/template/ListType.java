@@ -34,6 +34,10 @@ public final class ListType implements Type {
     @NonNull
     private final Type items;
 
+    public Type getItems() {
+        return items;
+    }
+
     @Override
     public String getPackage() {
         return LIST.getPackage();
@@ -38,6 +38,10 @@ public final class MapType implements Type {
     @NonNull
     private final Type values;
 
+    public Type getValues() {
+        return values;
+    }
+
     @Override
     public String getPackage() {
         return MAP.getPackage();
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.template;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.springframework.lang.NonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public final class Method implements Comparable<Method>, Importable {
+
+    @NonNull
+    private final MethodSignature methodSignature;
+
+    @NonNull
+    private final Set<Type> types;
+
+    @NonNull
+    private final List<String> statements;
+
+    @NonNull
+    private final String returnStatement;
+
+    @Override
+    public int compareTo(Method o) {
+        return methodSignature.compareTo(o.methodSignature);
+    }
+
+    public String getReturnTypeName() {
+        return methodSignature.getReturnTypeName();
+    }
+
+    public String getName() {
+        return methodSignature.getName();
+    }
+
+    public String getParameterDeclarations() {
+        return methodSignature.getParameterDeclarations();
+    }
+
+    public List<String> getStatements() {
+        return statements;
+    }
+
+    public String getReturnStatement() {
+        return returnStatement;
+    }
+
+    @Override
+    public List<String> getImportStatements(String _package) {
+        return Util.getImportStatements(_package, Collections.singleton(methodSignature), types);
+    }
+
+}
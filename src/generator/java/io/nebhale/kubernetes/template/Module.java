@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.template;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.springframework.lang.NonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public final class Module {
+
+    @NonNull
+    private final Type type;
+
+    @NonNull
+    private final List<Type> types;
+
+    public String getPackage() {
+        return type.getPackage();
+    }
+
+    public String getName() {
+        return type.getName();
+    }
+
+    public List<Registration> getRegistrations() {
+        return types.stream()
+            .map(t -> new Registration(String.format("%s.%s", t.getPackage(), t.getName()),
+                String.format("%s.%s", t.getPackage(), CodecProperty.getCodecType(t).getName())))
+            .sorted()
+            .collect(Collectors.toList());
+    }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    @ToString
+    public static final class Registration implements Comparable<Registration> {
+
+        @NonNull
+        private final String typeName;
+
+        @NonNull
+        private final String codecName;
+
+        @Override
+        public int compareTo(Registration o) {
+            return typeName.compareTo(o.typeName);
+        }
+
+        public String getCodecName() {
+            return codecName;
+        }
+
+        public String getTypeName() {
+            return typeName;
+        }
+
+    }
+
+}
@@ -16,6 +16,9 @@
 
 package io.nebhale.kubernetes.template;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.k8s.type.PatchMergeKey;
+import io.k8s.type.PatchStrategy;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Singular;
@@ -24,6 +27,7 @@ import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.StringUtils;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -35,7 +39,15 @@ import java.util.stream.Collectors;
 @ToString
 public final class Property implements Importable {
 
-    private static final Set<Type> PROPERTY_ONLY_ANNOTATIONS = Collections.singleton(new DefaultType(Singular.class));
+    private static final Type JSON_PROPERTY = new DefaultType(JsonProperty.class);
+
+    private static final Type PATCH_MERGE_KEY = new DefaultType(PatchMergeKey.class);
+
+    private static final Type PATCH_STRATEGY = new DefaultType(PatchStrategy.class);
+
+    private static final Type SINGULAR = new DefaultType(Singular.class);
+
+    private static final Set<Type> PROPERTY_ONLY_ANNOTATIONS = Collections.singleton(SINGULAR);
 
     @Nullable
     private final String comment;
@@ -57,10 +69,34 @@ public final class Property implements Importable {
         return new TreeSet<>(annotations);
     }
 
+    public String getJsonName() {
+        String value = getAnnotationValue(JSON_PROPERTY);
+        return value != null ? value : name;
+    }
+
+    @Nullable
+    public String getPatchMergeKey() {
+        return getAnnotationValue(PATCH_MERGE_KEY);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
     public String getTypeName() {
         return type.getName();
     }
 
+    public boolean hasPatchStrategy(String strategy) {
+        String value = getAnnotationValue(PATCH_STRATEGY);
+        return value != null && Arrays.asList(value.split(",")).contains(strategy);
+    }
+
+    public boolean isSingular() {
+        return annotations.stream()
+            .anyMatch(a -> SINGULAR.equals(a.getType()));
+    }
+
     public String getName() {
         return name;
     }
@@ -83,4 +119,13 @@ public final class Property implements Importable {
         return new MethodSignature(comment, annotations, type, name, Collections.emptyList());
     }
 
+    @Nullable
+    private String getAnnotationValue(Type type) {
+        return annotations.stream()
+            .filter(a -> type.equals(a.getType()) && a.getValue() != null)
+            .map(Annotation::getValue)
+            .findFirst()
+            .orElse(null);
+    }
+
 }
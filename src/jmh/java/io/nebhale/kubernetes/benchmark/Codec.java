@@ -0,0 +1,73 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.nebhale.kubernetes.engine.ConnectionContext;
+import io.nebhale.kubernetes.engine.KubernetesModule;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * The ways the benchmarks bind payloads to the model.
+ */
+public enum Codec {
+
+    /**
+     * The generated codecs, as configured by {@link ConnectionContext#defaultObjectMapper()}
+     */
+    GENERATED(ConnectionContext::defaultObjectMapper),
+
+    /**
+     * Reflective binding through the Lombok builders, with the generated codecs left unregistered
+     */
+    REFLECTIVE(() -> {
+        ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new KubernetesModule())
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+        objectMapper.configOverride(List.class).setInclude(JsonInclude.Value.construct(JsonInclude.Include.NON_EMPTY, null));
+        objectMapper.configOverride(Map.class).setInclude(JsonInclude.Value.construct(JsonInclude.Include.NON_EMPTY, null));
+
+        return objectMapper;
+    });
+
+    private final Supplier<ObjectMapper> objectMapper;
+
+    Codec(Supplier<ObjectMapper> objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Creates a new {@link ObjectMapper} that binds with this codec
+     *
+     * @return a new {@link ObjectMapper} that binds with this codec
+     */
+    public ObjectMapper createObjectMapper() {
+        return objectMapper.get();
+    }
+
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates benchmark payloads from the definitions in {@code openapi.json}. Required properties are always populated
+ * and optional properties are populated at random, with a fixed seed so that a payload is identical across runs.
+ * Recursive definitions are nested at most {@value #MAX_RECURSION} deep.
+ */
+final class Fixtures {
+
+    private static final int COLLECTION_SIZE = 2;
+
+    private static final JsonNodeFactory FACTORY = JsonNodeFactory.instance;
+
+    private static final int MAX_RECURSION = 2;
+
+    private static final double OPTIONAL_PROBABILITY = 0.6;
+
+    private static final String[] QUANTITIES = { "100m", "1Gi", "2", "512Mi", "1.5" };
+
+    private static final String REF_PREFIX = "#/definitions/";
+
+    private static final long SEED = 42L;
+
+    private final JsonNode definitions;
+
+    private final Deque<String> path = new ArrayDeque<>();
+
+    private final Random random = new Random(SEED);
+
+    private final Map<String, Integer> stack = new HashMap<>();
+
+    private int counter;
+
+    private Fixtures(JsonNode definitions) {
+        this.definitions = definitions;
+    }
+
+    /**
+     * Generates a payload
+     *
+     * @param objectMapper the {@link ObjectMapper} to read {@code openapi.json} and write the payload with
+     * @param payload      the payload to generate
+     * @param size         the length of the payload's sized collection
+     * @return the encoded payload
+     * @throws IOException if {@code openapi.json} cannot be read
+     */
+    static byte[] generate(ObjectMapper objectMapper, Payload payload, int size) throws IOException {
+        JsonNode openApi;
+        try (InputStream in = Fixtures.class.getResourceAsStream("/openapi.json")) {
+            if (in == null) {
+                throw new IllegalStateException("openapi.json is not on the classpath");
+            }
+
+            openApi = objectMapper.readTree(in);
+        }
+
+        Fixtures fixtures = new Fixtures(openApi.get("definitions"));
+        return objectMapper.writeValueAsBytes(fixtures.definition(payload.getDefinition(), payload.getSizedPath(), size));
+    }
+
+    private JsonNode array(JsonNode schema, String sizedPath, int size) {
+        ArrayNode array = FACTORY.arrayNode();
+
+        for (int i = 0; i < getSize(sizedPath, size); i++) {
+            JsonNode item = value(schema.get("items"), sizedPath, size);
+            if (item != null) {
+                array.add(item);
+            }
+        }
+
+        return array;
+    }
+
+    @Nullable
+    private JsonNode definition(String name, String sizedPath, int size) {
+        switch (name) {
+            case "io.k8s.apimachinery.pkg.api.resource.Quantity":
+                return FACTORY.textNode(QUANTITIES[random.nextInt(QUANTITIES.length)]);
+            case "io.k8s.apimachinery.pkg.apis.meta.v1.FieldsV1":
+                return FACTORY.objectNode()
+                    .set("f:metadata", FACTORY.objectNode()
+                        .set("f:labels", FACTORY.objectNode()
+                            .set(".", FACTORY.objectNode())));
+            case "io.k8s.apimachinery.pkg.util.intstr.IntOrString":
+                return random.nextBoolean() ? FACTORY.numberNode(random.nextInt(65536)) : FACTORY.textNode(String.format("port-%d", counter++));
+        }
+
+        if (stack.merge(name, 1, Integer::sum) > MAX_RECURSION) {
+            stack.merge(name, -1, Integer::sum);
+            return null;
+        }
+
+        try {
+            JsonNode schema = definitions.get(name);
+            if (schema == null) {
+                throw new IllegalArgumentException(String.format("'%s' is not a known definition", name));
+            }
+
+            // untyped definitions (JSON, JSONSchemaPropsOrBool, ...) are generated as empty classes by the model
+            if (!schema.has("type") && !schema.has("properties")) {
+                return FACTORY.objectNode();
+            }
+
+            JsonNode value = value(schema, sizedPath, size);
+            if (value instanceof ObjectNode) {
+                typeMeta(schema, (ObjectNode) value);
+            }
+
+            return value;
+        } finally {
+            stack.merge(name, -1, Integer::sum);
+        }
+    }
+
+    private int getSize(String sizedPath, int size) {
+        return sizedPath.equals(String.join(".", path)) ? size : COLLECTION_SIZE;
+    }
+
+    private boolean isIncluded(JsonNode schema, String property, String sizedPath) {
+        if ("apiVersion".equals(property) || "kind".equals(property) || "metadata".equals(property)) {
+            return true;
+        }
+
+        String candidate = path.isEmpty() ? property : String.format("%s.%s", String.join(".", path), property);
+        if (sizedPath.equals(candidate) || sizedPath.startsWith(candidate + ".")) {
+            return true;
+        }
+
+        for (JsonNode required : schema.path("required")) {
+            if (property.equals(required.asText())) {
+                return true;
+            }
+        }
+
+        return random.nextDouble() < OPTIONAL_PROBABILITY;
+    }
+
+    private JsonNode map(JsonNode schema, String sizedPath, int size) {
+        ObjectNode map = FACTORY.objectNode();
+
+        for (int i = 0; i < getSize(sizedPath, size); i++) {
+            JsonNode value = value(schema.get("additionalProperties"), sizedPath, size);
+            if (value != null) {
+                map.set(String.format("key-%d", counter++), value);
+            }
+        }
+
+        return map;
+    }
+
+    private ObjectNode object(JsonNode schema, String sizedPath, int size) {
+        ObjectNode object = FACTORY.objectNode();
+
+        for (Iterator<Map.Entry<String, JsonNode>> i = schema.path("properties").fields(); i.hasNext(); ) {
+            Map.Entry<String, JsonNode> property = i.next();
+            if (!isIncluded(schema, property.getKey(), sizedPath)) {
+                continue;
+            }
+
+            path.addLast(property.getKey());
+            try {
+                JsonNode value = value(property.getValue(), sizedPath, size);
+                if (value != null) {
+                    object.set(property.getKey(), value);
+                }
+            } finally {
+                path.removeLast();
+            }
+        }
+
+        return object;
+    }
+
+    private JsonNode string(JsonNode schema) {
+        String format = schema.path("format").asText();
+
+        if ("date-time".equals(format)) {
+            return FACTORY.textNode(String.format("2020-01-01T00:%02d:%02dZ", random.nextInt(60), random.nextInt(60)));
+        } else if ("byte".equals(format)) {
+            return FACTORY.textNode("aGVsbG8gd29ybGQ=");
+        }
+
+        return FACTORY.textNode(String.format("%s-%d", path.isEmpty() ? "value" : path.getLast(), counter++));
+    }
+
+    private void typeMeta(JsonNode schema, ObjectNode value) {
+        JsonNode gvk = schema.path("x-kubernetes-group-version-kind").path(0);
+        if (gvk.isMissingNode()) {
+            return;
+        }
+
+        String group = gvk.path("group").asText();
+        String version = gvk.path("version").asText();
+        value.put("apiVersion", group.isEmpty() ? version : String.format("%s/%s", group, version));
+        value.put("kind", gvk.path("kind").asText());
+    }
+
+    @Nullable
+    private JsonNode value(JsonNode schema, String sizedPath, int size) {
+        if (schema.has("$ref")) {
+            return definition(schema.get("$ref").asText().substring(REF_PREFIX.length()), sizedPath, size);
+        }
+
+        switch (schema.path("type").asText()) {
+            case "array":
+                return array(schema, sizedPath, size);
+            case "boolean":
+                return FACTORY.booleanNode(random.nextBoolean());
+            case "integer":
+                return FACTORY.numberNode(random.nextInt(1000));
+            case "number":
+                return FACTORY.numberNode(random.nextDouble());
+            case "string":
+                return string(schema);
+            default:
+                return schema.has("additionalProperties") ? map(schema, sizedPath, size) : object(schema, sizedPath, size);
+        }
+    }
+
+}
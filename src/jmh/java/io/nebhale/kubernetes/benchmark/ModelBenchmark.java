@@ -0,0 +1,107 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks decoding and encoding model payloads. Run with {@code ./gradlew jmh}, which adds the {@code gc} profiler:
+ * {@code gc.alloc.rate.norm} is the allocation per payload, and dividing it by {@code size} gives the allocation per
+ * object. The {@code objects} counter reports throughput in objects rather than payloads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class ModelBenchmark {
+
+    @Param
+    public Codec codec;
+
+    @Param
+    public Payload payload;
+
+    @Param({ "10", "100", "1000" })
+    public int size;
+
+    private byte[] encoded;
+
+    private Object decoded;
+
+    private ObjectReader reader;
+
+    private ObjectWriter writer;
+
+    @Benchmark
+    public Object decode(Objects objects) throws IOException {
+        objects.objects += size;
+        return reader.readValue(encoded);
+    }
+
+    @Benchmark
+    public byte[] encode(Objects objects) throws IOException {
+        objects.objects += size;
+        return writer.writeValueAsBytes(decoded);
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        ObjectMapper objectMapper = codec.createObjectMapper();
+
+        encoded = Fixtures.generate(objectMapper, payload, size);
+        reader = objectMapper.readerFor(payload.getType());
+        writer = objectMapper.writerFor(payload.getType());
+        decoded = reader.readValue(encoded);
+    }
+
+    /**
+     * Counts the objects decoded or encoded, reported as a throughput alongside the payload throughput
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Objects {
+
+        public long objects;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            objects = 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.benchmark;
+
+import io.k8s.apiextensions.v1.CustomResourceDefinition;
+import io.k8s.core.v1.ConfigMap;
+import io.k8s.core.v1.EventList;
+import io.k8s.core.v1.NodeList;
+import io.k8s.core.v1.PodList;
+
+/**
+ * The payloads exercised by the benchmarks. Each payload has a sized collection whose length is varied to produce
+ * payloads of different sizes.
+ */
+public enum Payload {
+
+    CONFIG_MAP("io.k8s.api.core.v1.ConfigMap", ConfigMap.class, "data"),
+
+    CUSTOM_RESOURCE_DEFINITION("io.k8s.apiextensions-apiserver.pkg.apis.apiextensions.v1.CustomResourceDefinition",
+        CustomResourceDefinition.class, "spec.versions.schema.openAPIV3Schema.properties"),
+
+    EVENT_LIST("io.k8s.api.core.v1.EventList", EventList.class, "items"),
+
+    NODE_LIST("io.k8s.api.core.v1.NodeList", NodeList.class, "items"),
+
+    POD_LIST("io.k8s.api.core.v1.PodList", PodList.class, "items");
+
+    private final String definition;
+
+    private final Class<?> type;
+
+    private final String sizedPath;
+
+    Payload(String definition, Class<?> type, String sizedPath) {
+        this.definition = definition;
+        this.type = type;
+        this.sizedPath = sizedPath;
+    }
+
+    /**
+     * Returns the name of the payload's definition in {@code openapi.json}
+     *
+     * @return the name of the payload's definition in {@code openapi.json}
+     */
+    public String getDefinition() {
+        return definition;
+    }
+
+    /**
+     * Returns the model type of the payload
+     *
+     * @return the model type of the payload
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the dot-separated path of the collection whose length is varied
+     *
+     * @return the dot-separated path of the collection whose length is varied
+     */
+    public String getSizedPath() {
+        return sizedPath;
+    }
+
+}
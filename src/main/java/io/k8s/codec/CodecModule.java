@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.codec;
+
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.NopAnnotationIntrospector;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.springframework.lang.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A Jackson {@link com.fasterxml.jackson.databind.Module} that registers codecs for classes that are also annotated
+ * for builder-based binding. Jackson resolves a {@code @JsonDeserialize(builder = ...)} annotation before consulting
+ * the deserializers registered by modules, so deserializers are instead contributed through an
+ * {@link com.fasterxml.jackson.databind.AnnotationIntrospector}, which takes precedence over the builder.
+ */
+public class CodecModule extends SimpleModule {
+
+    private static final long serialVersionUID = -3394125538432315925L;
+
+    private final Map<Class<?>, JsonDeserializer<?>> deserializers = new HashMap<>();
+
+    /**
+     * Creates a new module
+     *
+     * @param name the name of the module
+     */
+    protected CodecModule(String name) {
+        super(name);
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        context.insertAnnotationIntrospector(new CodecAnnotationIntrospector(deserializers));
+    }
+
+    /**
+     * Registers the codec for a type
+     *
+     * @param type         the type
+     * @param deserializer the deserializer for the type
+     * @param serializer   the serializer for the type
+     * @param <T>          the type
+     */
+    protected final <T> void addCodec(Class<T> type, JsonDeserializer<T> deserializer, JsonSerializer<T> serializer) {
+        deserializers.put(type, deserializer);
+        addSerializer(type, serializer);
+    }
+
+    private static final class CodecAnnotationIntrospector extends NopAnnotationIntrospector {
+
+        private static final long serialVersionUID = 8790741424227419734L;
+
+        private final Map<Class<?>, JsonDeserializer<?>> deserializers;
+
+        private CodecAnnotationIntrospector(Map<Class<?>, JsonDeserializer<?>> deserializers) {
+            this.deserializers = deserializers;
+        }
+
+        @Override
+        @Nullable
+        public Object findDeserializer(Annotated a) {
+            if (!(a instanceof AnnotatedClass)) {
+                return null;
+            }
+
+            return deserializers.get(a.getRawType());
+        }
+
+    }
+
+}
@@ -0,0 +1,695 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import io.k8s.intstr.IntOrString;
+import io.k8s.meta.v1.FieldsV1;
+import io.k8s.resource.Quantity;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Readers and writers shared by the codecs generated for the model. Readers are positioned on the first token of a
+ * value and leave the parser on its last token. Writers omit {@code null} values and empty collections, matching the
+ * inclusion rules of the default {@link com.fasterxml.jackson.databind.ObjectMapper}.
+ */
+public final class Codecs {
+
+    /**
+     * The {@link DeserializationContext} attribute that, when {@link Boolean#TRUE}, skips {@code metadata.managedFields}
+     * at the token level so that it is never bound. Objects read this way have no managed fields.
+     */
+    public static final String SKIP_MANAGED_FIELDS = "io.k8s.codec.skipManagedFields";
+
+    /**
+     * The {@link DeserializationContext} attribute holding the {@link StringPool} that low-cardinality strings are
+     * interned in. When absent, strings are not interned.
+     */
+    public static final String STRING_POOL = "io.k8s.codec.stringPool";
+
+    private Codecs() {
+    }
+
+    /**
+     * Returns whether any of the values would be written by a field writer
+     *
+     * @param values the values to check
+     * @return {@code true} if any of the values is neither {@code null} nor an empty collection or map
+     */
+    public static boolean isPresent(@Nullable Object... values) {
+        for (Object value : values) {
+            if (value instanceof Collection) {
+                if (!((Collection<?>) value).isEmpty()) {
+                    return true;
+                }
+            } else if (value instanceof Map) {
+                if (!((Map<?, ?>) value).isEmpty()) {
+                    return true;
+                }
+            } else if (value != null) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns whether managed fields are skipped rather than read
+     *
+     * @param context the context to read with
+     * @return {@code true} if the {@link #SKIP_MANAGED_FIELDS} attribute is set
+     */
+    public static boolean isSkippingManagedFields(DeserializationContext context) {
+        return Boolean.TRUE.equals(context.getAttribute(SKIP_MANAGED_FIELDS));
+    }
+
+    /**
+     * Returns a reader for lists of values
+     *
+     * @param reader the reader for the list's values
+     * @param <T>    the type of the list's values
+     * @return a reader for lists of values
+     */
+    public static <T> Reader<List<T>> listReader(Reader<T> reader) {
+        return (parser, context) -> readList(parser, context, reader);
+    }
+
+    /**
+     * Returns a writer for lists of values
+     *
+     * @param writer the writer for the list's values
+     * @param <T>    the type of the list's values
+     * @return a writer for lists of values
+     */
+    public static <T> Writer<List<T>> listWriter(Writer<? super T> writer) {
+        return (values, generator, provider) -> writeList(values, writer, generator, provider);
+    }
+
+    /**
+     * Returns a reader for maps of values
+     *
+     * @param reader the reader for the map's values
+     * @param <T>    the type of the map's values
+     * @return a reader for maps of values
+     */
+    public static <T> Reader<Map<String, T>> mapReader(Reader<T> reader) {
+        return (parser, context) -> readMap(parser, context, reader);
+    }
+
+    /**
+     * Returns a writer for maps of values
+     *
+     * @param writer the writer for the map's values
+     * @param <T>    the type of the map's values
+     * @return a writer for maps of values
+     */
+    public static <T> Writer<Map<String, T>> mapWriter(Writer<? super T> writer) {
+        return (values, generator, provider) -> writeMap(values, writer, generator, provider);
+    }
+
+    /**
+     * Returns a reader for values read with the deserializer registered for their type
+     *
+     * @param type the type of the values
+     * @param <T>  the type of the values
+     * @return a reader for values read with the deserializer registered for their type
+     */
+    public static <T> Reader<T> valueReader(Class<T> type) {
+        return (parser, context) -> readValue(parser, context, type);
+    }
+
+    @Nullable
+    public static Boolean readBoolean(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+
+        if (token == JsonToken.VALUE_TRUE) {
+            return Boolean.TRUE;
+        } else if (token == JsonToken.VALUE_FALSE) {
+            return Boolean.FALSE;
+        } else if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        return context.readValue(parser, Boolean.class);
+    }
+
+    /**
+     * Reads a date-time. Unlike the deserializer registered for {@link OffsetDateTime}, which Jackson does not cache, the
+     * value is parsed directly while still honouring {@link DeserializationFeature#ADJUST_DATES_TO_CONTEXT_TIME_ZONE}.
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the date-time
+     * @throws IOException if the date-time cannot be read
+     */
+    @Nullable
+    public static OffsetDateTime readDateTime(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        } else if (token != JsonToken.VALUE_STRING) {
+            return context.readValue(parser, OffsetDateTime.class);
+        }
+
+        String text = parser.getText().trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+
+        OffsetDateTime value;
+        try {
+            value = OffsetDateTime.parse(text, DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            throw context.weirdStringException(text, OffsetDateTime.class, e.getMessage());
+        }
+
+        if (context.isEnabled(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE)) {
+            value = value.withOffsetSameInstant(context.getTimeZone().toZoneId().getRules().getOffset(value.toInstant()));
+        }
+
+        return value;
+    }
+
+    @Nullable
+    public static Double readDouble(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+
+        if (token == JsonToken.VALUE_NUMBER_FLOAT || token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getDoubleValue();
+        } else if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        return context.readValue(parser, Double.class);
+    }
+
+    @Nullable
+    public static Integer readInteger(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getIntValue();
+        } else if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        return context.readValue(parser, Integer.class);
+    }
+
+    /**
+     * Reads a string, interning it in the {@link #STRING_POOL} if one is set. Used for values that repeat across many
+     * objects, such as label values and namespaces.
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the string
+     * @throws IOException if the string cannot be read
+     */
+    @Nullable
+    public static String readInternedString(JsonParser parser, DeserializationContext context) throws IOException {
+        Object pool = context.getAttribute(STRING_POOL);
+
+        if (pool instanceof StringPool && parser.currentToken() == JsonToken.VALUE_STRING) {
+            return ((StringPool) pool).intern(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        }
+
+        return readString(parser, context);
+    }
+
+    @Nullable
+    public static FieldsV1 readFieldsV1(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        } else if (token != JsonToken.START_OBJECT) {
+            throw context.wrongTokenException(parser, FieldsV1.class, JsonToken.START_OBJECT, null);
+        }
+
+        // field names are canonicalized by the parser, so the keys repeated across entries and objects are shared
+        FieldsV1.Builder builder = FieldsV1.builder();
+        for (String key = parser.nextFieldName(); key != null; key = parser.nextFieldName()) {
+            parser.nextToken();
+            builder.child(key, readFieldsV1(parser, context));
+        }
+
+        return builder.build();
+    }
+
+    @Nullable
+    public static IntOrString readIntOrString(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+
+        if (token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() == JsonParser.NumberType.INT) {
+            return IntOrString.of(parser.getIntValue());
+        } else if (token == JsonToken.VALUE_STRING) {
+            return IntOrString.of(parser.getText());
+        } else if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        return context.readValue(parser, IntOrString.class);
+    }
+
+    /**
+     * Reads a list of values. A {@code null} list is read as an empty list, matching the {@code @Singular} builders of
+     * the model.
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @param reader  the reader for the list's values
+     * @param <T>     the type of the list's values
+     * @return an unmodifiable list of values
+     * @throws IOException if the list cannot be read
+     */
+    public static <T> List<T> readList(JsonParser parser, DeserializationContext context, Reader<T> reader) throws IOException {
+        JsonToken token = parser.currentToken();
+
+        if (token == JsonToken.VALUE_NULL) {
+            return Collections.emptyList();
+        } else if (token != JsonToken.START_ARRAY) {
+            throw context.wrongTokenException(parser, List.class, JsonToken.START_ARRAY, null);
+        }
+
+        if (parser.nextToken() == JsonToken.END_ARRAY) {
+            return Collections.emptyList();
+        }
+
+        T first = reader.read(parser, context);
+        if (parser.nextToken() == JsonToken.END_ARRAY) {
+            return Collections.singletonList(first);
+        }
+
+        List<T> values = new ArrayList<>();
+        values.add(first);
+        do {
+            values.add(reader.read(parser, context));
+        } while (parser.nextToken() != JsonToken.END_ARRAY);
+
+        return Collections.unmodifiableList(values);
+    }
+
+    @Nullable
+    public static Long readLong(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getLongValue();
+        } else if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        return context.readValue(parser, Long.class);
+    }
+
+    /**
+     * Reads the managed fields of an object's metadata, unless the {@link #SKIP_MANAGED_FIELDS} attribute is set
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @param reader  the reader for the list's values
+     * @param <T>     the type of the list's values
+     * @return an unmodifiable list of values, empty if skipped
+     * @throws IOException if the list cannot be read
+     */
+    public static <T> List<T> readManagedFields(JsonParser parser, DeserializationContext context, Reader<T> reader) throws IOException {
+        if (isSkippingManagedFields(context)) {
+            parser.skipChildren();
+            return Collections.emptyList();
+        }
+
+        return readList(parser, context, reader);
+    }
+
+    /**
+     * Reads a map of values. A {@code null} map is read as an empty map, matching the {@code @Singular} builders of the
+     * model.
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @param reader  the reader for the map's values
+     * @param <T>     the type of the map's values
+     * @return an unmodifiable map of values
+     * @throws IOException if the map cannot be read
+     */
+    public static <T> Map<String, T> readMap(JsonParser parser, DeserializationContext context, Reader<T> reader) throws IOException {
+        String field = startObject(parser, context, Map.class);
+        if (field == null) {
+            return Collections.emptyMap();
+        }
+
+        parser.nextToken();
+        T first = reader.read(parser, context);
+
+        String next = parser.nextFieldName();
+        if (next == null) {
+            return Collections.singletonMap(field, first);
+        }
+
+        Map<String, T> values = new LinkedHashMap<>();
+        values.put(field, first);
+        for (; next != null; next = parser.nextFieldName()) {
+            parser.nextToken();
+            values.put(next, reader.read(parser, context));
+        }
+
+        return Collections.unmodifiableMap(values);
+    }
+
+    @Nullable
+    public static Quantity readQuantity(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        } else if (token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+            return Quantity.valueOf(parser.getLongValue());
+        } else if (token != JsonToken.VALUE_STRING && token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT) {
+            return context.readValue(parser, Quantity.class);
+        }
+
+        String text = parser.getText();
+        try {
+            return Quantity.parse(text);
+        } catch (NumberFormatException e) {
+            throw context.weirdStringException(text, Quantity.class, e.getMessage());
+        }
+    }
+
+    @Nullable
+    public static String readString(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+
+        if (token == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        } else if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        return context.readValue(parser, String.class);
+    }
+
+    /**
+     * Reads a value with the deserializer registered for its type
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @param type    the type of the value
+     * @param <T>     the type of the value
+     * @return the value
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static <T> T readValue(JsonParser parser, DeserializationContext context, Class<T> type) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        return context.readValue(parser, type);
+    }
+
+    /**
+     * Starts reading an object, returning the name of its first field
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @param type    the type of the object
+     * @return the name of the first field or {@code null} if the object is {@code null} or has no fields
+     * @throws IOException if the parser is not positioned at an object
+     */
+    @Nullable
+    public static String startObject(JsonParser parser, DeserializationContext context, Class<?> type) throws IOException {
+        JsonToken token = parser.currentToken();
+
+        if (token == JsonToken.START_OBJECT) {
+            return parser.nextFieldName();
+        } else if (token == JsonToken.FIELD_NAME) {
+            return parser.getCurrentName();
+        } else if (token == JsonToken.END_OBJECT || token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        throw context.wrongTokenException(parser, type, JsonToken.START_OBJECT, null);
+    }
+
+    public static void writeBoolean(@Nullable Boolean value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeBoolean(value);
+        }
+    }
+
+    public static void writeDateTime(@Nullable OffsetDateTime value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            provider.defaultSerializeValue(value, generator);
+        } else {
+            generator.writeString(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(value));
+        }
+    }
+
+    public static void writeDouble(@Nullable Double value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    /**
+     * Writes a field unless its value is {@code null}
+     *
+     * @param name      the name of the field
+     * @param value     the value of the field
+     * @param writer    the writer for the value
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @param <T>       the type of the value
+     * @throws IOException if the field cannot be written
+     */
+    public static <T> void writeField(String name, @Nullable T value, Writer<? super T> writer, JsonGenerator generator,
+                                      SerializerProvider provider) throws IOException {
+        if (value == null) {
+            return;
+        }
+
+        generator.writeFieldName(name);
+        writer.write(value, generator, provider);
+    }
+
+    public static void writeFieldsV1(@Nullable FieldsV1 value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject();
+        for (String key : value.getKeys()) {
+            generator.writeFieldName(key);
+            writeFieldsV1(value.get(key), generator, provider);
+        }
+        generator.writeEndObject();
+    }
+
+    public static void writeInteger(@Nullable Integer value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    public static void writeIntOrString(@Nullable IntOrString value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value.isInt()) {
+            generator.writeNumber(value.getIntValue());
+        } else {
+            generator.writeString(value.getStringValue());
+        }
+    }
+
+    public static <T> void writeList(@Nullable List<T> values, Writer<? super T> writer, JsonGenerator generator,
+                                     SerializerProvider provider) throws IOException {
+        if (values == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartArray();
+        for (T value : values) {
+            writer.write(value, generator, provider);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Writes a list field unless its value is {@code null} or empty
+     *
+     * @param name      the name of the field
+     * @param values    the value of the field
+     * @param writer    the writer for the list's values
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @param <T>       the type of the list's values
+     * @throws IOException if the field cannot be written
+     */
+    public static <T> void writeListField(String name, @Nullable List<T> values, Writer<? super T> writer, JsonGenerator generator,
+                                          SerializerProvider provider) throws IOException {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+
+        generator.writeFieldName(name);
+        writeList(values, writer, generator, provider);
+    }
+
+    public static void writeLong(@Nullable Long value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    public static <T> void writeMap(@Nullable Map<String, T> values, Writer<? super T> writer, JsonGenerator generator,
+                                    SerializerProvider provider) throws IOException {
+        if (values == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(values);
+        for (Map.Entry<String, T> entry : values.entrySet()) {
+            generator.writeFieldName(entry.getKey());
+            writer.write(entry.getValue(), generator, provider);
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes a map field unless its value is {@code null} or empty
+     *
+     * @param name      the name of the field
+     * @param values    the value of the field
+     * @param writer    the writer for the map's values
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @param <T>       the type of the map's values
+     * @throws IOException if the field cannot be written
+     */
+    public static <T> void writeMapField(String name, @Nullable Map<String, T> values, Writer<? super T> writer, JsonGenerator generator,
+                                         SerializerProvider provider) throws IOException {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+
+        generator.writeFieldName(name);
+        writeMap(values, writer, generator, provider);
+    }
+
+    public static void writeQuantity(@Nullable Quantity value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value.toString());
+        }
+    }
+
+    public static void writeString(@Nullable String value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value);
+        }
+    }
+
+    /**
+     * Writes a value with the serializer registered for its type
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void writeValue(@Nullable Object value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        provider.defaultSerializeValue(value, generator);
+    }
+
+    /**
+     * Reads a value from a parser
+     *
+     * @param <T> the type of the value
+     */
+    @FunctionalInterface
+    public interface Reader<T> {
+
+        /**
+         * Reads a value, leaving the parser on the value's last token
+         *
+         * @param parser  the parser to read from
+         * @param context the context to read with
+         * @return the value
+         * @throws IOException if the value cannot be read
+         */
+        @Nullable
+        T read(JsonParser parser, DeserializationContext context) throws IOException;
+
+    }
+
+    /**
+     * Writes a value to a generator
+     *
+     * @param <T> the type of the value
+     */
+    @FunctionalInterface
+    public interface Writer<T> {
+
+        /**
+         * Writes a value
+         *
+         * @param value     the value to write
+         * @param generator the generator to write to
+         * @param provider  the provider to write with
+         * @throws IOException if the value cannot be written
+         */
+        void write(@Nullable T value, JsonGenerator generator, SerializerProvider provider) throws IOException;
+
+    }
+
+}
@@ -0,0 +1,593 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.k8s.type.PatchType;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The structural difference between two instances of a model class, rendered as a minimal patch. Differences are
+ * found by the {@code diff} methods generated for each model class, which compare instances property by property
+ * through their getters, without reflection, and descend only into properties that are not equal:
+ * <pre>
+ * Diff diff = Diff.of(original, modified, DeploymentCodec::diff);
+ * if (!diff.isEmpty()) {
+ *     client.patch(name, PatchType.MERGE, diff.toPatch(PatchType.MERGE), options);
+ * }
+ * </pre>
+ * As on the wire, {@code null} values and empty collections are equivalent and absent. Lists are replaced as a whole,
+ * while maps and objects are patched key by key. A change beneath a property absent from the original is folded into a
+ * single addition of that property.
+ * <p>
+ * A {@link PatchType#STRATEGIC_MERGE strategic merge patch} additionally follows the {@link io.k8s.type.PatchStrategy}
+ * of each property: lists with a {@code merge} strategy are patched element by element, with deleted elements and the
+ * final order recorded as directives, and objects with a {@code retainKeys} strategy list the properties they keep.
+ */
+public final class Diff {
+
+    private static final String DELETE_FROM_PRIMITIVE_LIST = "$deleteFromPrimitiveList/";
+
+    private static final String PATCH = "$patch";
+
+    private static final String RETAIN_KEYS = "$retainKeys";
+
+    private static final String SET_ELEMENT_ORDER = "$setElementOrder/";
+
+    private final Deque<Frame> frames = new ArrayDeque<>();
+
+    private final List<Change> changes = new ArrayList<>();
+
+    private final List<Directive> directives = new ArrayList<>();
+
+    private Diff() {
+    }
+
+    /**
+     * Returns the difference between two instances
+     *
+     * @param original the original instance
+     * @param modified the modified instance
+     * @param differ   the generated {@code diff} method of the instances' class
+     * @param <T>      the type of the instances
+     * @return the difference
+     */
+    public static <T> Diff of(T original, T modified, Differ<T> differ) {
+        Diff diff = new Diff();
+        if (!original.equals(modified)) {
+            differ.diff(original, modified, diff);
+        }
+        return diff;
+    }
+
+    /**
+     * Returns the changes found, in the order they were found
+     *
+     * @return the changes found
+     */
+    public List<Change> getChanges() {
+        return Collections.unmodifiableList(changes);
+    }
+
+    /**
+     * Returns whether the instances are equal
+     *
+     * @return {@code true} if there are no changes
+     */
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    /**
+     * Compares a list property with a {@code merge} strategy whose elements are identified by a merge key
+     *
+     * @param name      the JSON name of the property
+     * @param original  the original instance, or {@code null} if it is absent
+     * @param modified  the modified instance
+     * @param getter    the getter of the property
+     * @param mergeKey  the JSON name of the merge key
+     * @param keyGetter the getter of the merge key
+     * @param differ    the generated {@code diff} method of the elements' class
+     * @param <T>       the type of the instances
+     * @param <E>       the type of the list's elements
+     */
+    public <T, E> void list(String name, @Nullable T original, T modified, Function<T, List<E>> getter, String mergeKey,
+                            Function<E, ?> keyGetter, Differ<E> differ) {
+
+        List<E> originalValue = original == null ? null : normalize(getter.apply(original));
+        List<E> modifiedValue = normalize(getter.apply(modified));
+
+        compare(name, originalValue, modifiedValue);
+        if (originalValue == null || modifiedValue == null || originalValue.equals(modifiedValue)) {
+            return;
+        }
+
+        Map<Object, E> originalElements = index(originalValue, keyGetter);
+        Map<Object, E> modifiedElements = index(modifiedValue, keyGetter);
+
+        ArrayNode patch = JsonNodeFactory.instance.arrayNode();
+
+        // elements that cannot be told apart can only be replaced as a whole
+        if (originalElements == null || modifiedElements == null) {
+            modifiedValue.forEach(patch::addPOJO);
+            patch.addObject().put(PATCH, "replace");
+            directive(name, patch);
+            return;
+        }
+
+        ArrayNode order = JsonNodeFactory.instance.arrayNode(modifiedElements.size());
+
+        modifiedElements.forEach((key, element) -> {
+            order.addObject().putPOJO(mergeKey, key);
+
+            E originalElement = originalElements.get(key);
+            if (originalElement == null) {
+                patch.addPOJO(element);
+            } else if (!originalElement.equals(element)) {
+                Diff diff = new Diff();
+                differ.diff(originalElement, element, diff);
+                if (!diff.isEmpty()) {
+                    patch.addObject().putPOJO(mergeKey, key).setAll(diff.toMergePatch(true));
+                }
+            }
+        });
+
+        originalElements.keySet().stream()
+            .filter(key -> !modifiedElements.containsKey(key))
+            .forEach(key -> patch.addObject().putPOJO(mergeKey, key).put(PATCH, "delete"));
+
+        directive(name, patch);
+        directive(SET_ELEMENT_ORDER + name, order);
+    }
+
+    /**
+     * Compares a list property of scalars with a {@code merge} strategy
+     *
+     * @param name     the JSON name of the property
+     * @param original the original instance, or {@code null} if it is absent
+     * @param modified the modified instance
+     * @param getter   the getter of the property
+     * @param <T>      the type of the instances
+     * @param <E>      the type of the list's elements
+     */
+    public <T, E> void list(String name, @Nullable T original, T modified, Function<T, List<E>> getter) {
+        List<E> originalValue = original == null ? null : normalize(getter.apply(original));
+        List<E> modifiedValue = normalize(getter.apply(modified));
+
+        compare(name, originalValue, modifiedValue);
+        if (originalValue == null || modifiedValue == null || originalValue.equals(modifiedValue)) {
+            return;
+        }
+
+        Set<E> originalElements = new LinkedHashSet<>(originalValue);
+        Set<E> modifiedElements = new LinkedHashSet<>(modifiedValue);
+
+        ArrayNode additions = JsonNodeFactory.instance.arrayNode();
+        ArrayNode deletions = JsonNodeFactory.instance.arrayNode();
+        ArrayNode order = JsonNodeFactory.instance.arrayNode(modifiedElements.size());
+
+        modifiedElements.forEach(element -> {
+            order.addPOJO(element);
+            if (!originalElements.contains(element)) {
+                additions.addPOJO(element);
+            }
+        });
+
+        originalElements.stream()
+            .filter(element -> !modifiedElements.contains(element))
+            .forEach(deletions::addPOJO);
+
+        directive(name, additions.size() == 0 ? null : additions);
+        if (deletions.size() != 0) {
+            directive(DELETE_FROM_PRIMITIVE_LIST + name, deletions);
+        }
+        directive(SET_ELEMENT_ORDER + name, order);
+    }
+
+    /**
+     * Compares a map property key by key
+     *
+     * @param name     the JSON name of the property
+     * @param original the original instance, or {@code null} if it is absent
+     * @param modified the modified instance
+     * @param getter   the getter of the property
+     * @param <T>      the type of the instances
+     * @param <V>      the type of the map's values
+     */
+    public <T, V> void map(String name, @Nullable T original, T modified, Function<T, Map<String, V>> getter) {
+        Map<String, V> originalValue = original == null ? null : normalize(getter.apply(original));
+        Map<String, V> modifiedValue = normalize(getter.apply(modified));
+
+        if (originalValue == null || modifiedValue == null) {
+            compare(name, originalValue, modifiedValue);
+            return;
+        }
+
+        if (originalValue.equals(modifiedValue)) {
+            return;
+        }
+
+        frames.push(new Frame(name, true));
+        Set<String> keys = new LinkedHashSet<>(originalValue.keySet());
+        keys.addAll(modifiedValue.keySet());
+        keys.forEach(key -> compare(key, originalValue.get(key), modifiedValue.get(key)));
+        frames.pop();
+    }
+
+    /**
+     * Compares an object property, descending into it if it is present in both instances
+     *
+     * @param name     the JSON name of the property
+     * @param original the original instance, or {@code null} if it is absent
+     * @param modified the modified instance
+     * @param getter   the getter of the property
+     * @param differ   the generated {@code diff} method of the property's class
+     * @param <T>      the type of the instances
+     * @param <V>      the type of the property
+     */
+    public <T, V> void object(String name, @Nullable T original, T modified, Function<T, V> getter, Differ<V> differ) {
+        V originalValue = original == null ? null : getter.apply(original);
+        V modifiedValue = getter.apply(modified);
+
+        if (modifiedValue == null || Objects.equals(originalValue, modifiedValue)) {
+            compare(name, originalValue, modifiedValue);
+            return;
+        }
+
+        Frame frame = new Frame(name, originalValue != null);
+        frames.push(frame);
+        differ.diff(originalValue, modifiedValue, this);
+        frames.pop();
+
+        if (!frame.exists) {
+            record(name, null, frame.added);
+        }
+    }
+
+    /**
+     * Wraps the generated {@code diff} method of a class whose properties are retained by a strategic merge patch only if
+     * they are listed by it, as required by a {@code retainKeys} strategy
+     *
+     * @param differ the generated {@code diff} method of the class
+     * @param <T>    the type of the instances
+     * @return the {@code diff} method, additionally recording the properties of the modified instance
+     */
+    public static <T> Differ<T> retainKeys(Differ<T> differ) {
+        return (original, modified, diff) -> {
+            int changes = diff.changes.size();
+            differ.diff(original, modified, diff);
+
+            if (original == null || diff.changes.size() == changes) {
+                return;
+            }
+
+            // compared to nothing, each present property is a single addition
+            Diff present = new Diff();
+            differ.diff(null, modified, present);
+
+            ArrayNode keys = JsonNodeFactory.instance.arrayNode(present.changes.size());
+            present.changes.forEach(change -> keys.add(change.path.get(0)));
+            diff.directive(RETAIN_KEYS, keys);
+        };
+    }
+
+    /**
+     * Renders the changes as a patch body
+     *
+     * @param type the type of patch, {@link PatchType#JSON}, {@link PatchType#MERGE}, or {@link PatchType#STRATEGIC_MERGE}
+     * @return the patch body, to be serialized with the model's codecs
+     * @throws IllegalArgumentException if the type of patch is not supported
+     */
+    public JsonNode toPatch(PatchType type) {
+        switch (type) {
+            case JSON:
+                return toJsonPatch();
+            case MERGE:
+                return toMergePatch(false);
+            case STRATEGIC_MERGE:
+                return toMergePatch(true);
+            default:
+                throw new IllegalArgumentException(String.format("%s patches are not supported", type));
+        }
+    }
+
+    /**
+     * Compares a scalar or list property
+     *
+     * @param name     the JSON name of the property
+     * @param original the original instance, or {@code null} if it is absent
+     * @param modified the modified instance
+     * @param getter   the getter of the property
+     * @param <T>      the type of the instances
+     * @param <V>      the type of the property
+     */
+    public <T, V> void value(String name, @Nullable T original, T modified, Function<T, V> getter) {
+        compare(name, original == null ? null : getter.apply(original), getter.apply(modified));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Diff(changes=%s)", changes);
+    }
+
+    private void compare(String name, @Nullable Object original, @Nullable Object modified) {
+        Object originalValue = normalize(original);
+        Object modifiedValue = normalize(modified);
+
+        if (!Objects.equals(originalValue, modifiedValue)) {
+            record(name, originalValue, modifiedValue);
+        }
+    }
+
+    @Nullable
+    private static <T> T normalize(@Nullable T value) {
+        if (value instanceof Collection && ((Collection<?>) value).isEmpty()) {
+            return null;
+        }
+
+        if (value instanceof Map && ((Map<?, ?>) value).isEmpty()) {
+            return null;
+        }
+
+        return value;
+    }
+
+    private void record(String name, @Nullable Object original, @Nullable Object modified) {
+        Frame frame = frames.peek();
+
+        if (frame != null && !frame.exists) {
+            if (modified != null) {
+                frame.added.put(name, modified);
+            }
+            return;
+        }
+
+        Operation operation = original == null ? Operation.ADD : modified == null ? Operation.REMOVE : Operation.REPLACE;
+        changes.add(new Change(operation, getPath(name), modified));
+    }
+
+    private void directive(String name, @Nullable JsonNode value) {
+        directives.add(new Directive(getPath(name), value));
+    }
+
+    private List<String> getPath(String name) {
+        List<String> path = new ArrayList<>(frames.size() + 1);
+        for (Iterator<Frame> i = frames.descendingIterator(); i.hasNext(); ) {
+            path.add(i.next().name);
+        }
+        path.add(name);
+
+        return Collections.unmodifiableList(path);
+    }
+
+    @Nullable
+    private static <E> Map<Object, E> index(List<E> elements, Function<E, ?> keyGetter) {
+        Map<Object, E> index = new LinkedHashMap<>();
+
+        for (E element : elements) {
+            Object key = keyGetter.apply(element);
+            if (key == null || index.put(key, element) != null) {
+                return null;
+            }
+        }
+
+        return index;
+    }
+
+    private ArrayNode toJsonPatch() {
+        ArrayNode patch = JsonNodeFactory.instance.arrayNode(changes.size());
+
+        for (Change change : changes) {
+            ObjectNode operation = patch.addObject()
+                .put("op", change.operation.name().toLowerCase(Locale.ROOT))
+                .put("path", change.getPointer());
+            if (change.operation != Operation.REMOVE) {
+                operation.putPOJO("value", change.value);
+            }
+        }
+
+        return patch;
+    }
+
+    // A tree rather than a map, as removals must be serialized as explicit nulls regardless of inclusion settings
+    private ObjectNode toMergePatch(boolean strategic) {
+        ObjectNode patch = JsonNodeFactory.instance.objectNode();
+
+        for (Change change : changes) {
+            ObjectNode parent = getParent(patch, change.path);
+            String name = change.path.get(change.path.size() - 1);
+
+            if (change.value == null) {
+                parent.putNull(name);
+            } else {
+                parent.putPOJO(name, change.value);
+            }
+        }
+
+        if (strategic) {
+            for (Directive directive : directives) {
+                ObjectNode parent = getParent(patch, directive.path);
+                String name = directive.path.get(directive.path.size() - 1);
+
+                if (directive.value == null) {
+                    parent.remove(name);
+                } else {
+                    parent.set(name, directive.value);
+                }
+            }
+        }
+
+        return patch;
+    }
+
+    private static ObjectNode getParent(ObjectNode patch, List<String> path) {
+        ObjectNode parent = patch;
+
+        for (int i = 0; i < path.size() - 1; i++) {
+            String name = path.get(i);
+            parent = parent.has(name) ? (ObjectNode) parent.get(name) : parent.putObject(name);
+        }
+
+        return parent;
+    }
+
+    /**
+     * Compares two instances of a model class. Implemented by the {@code diff} methods generated for each model class.
+     *
+     * @param <T> the type of the instances
+     */
+    @FunctionalInterface
+    public interface Differ<T> {
+
+        /**
+         * Compares two instances, recording their differences
+         *
+         * @param original the original instance, or {@code null} if it is absent
+         * @param modified the modified instance
+         * @param diff     the difference to record into
+         */
+        void diff(@Nullable T original, T modified, Diff diff);
+
+    }
+
+    /**
+     * The operation of a {@link Change}
+     */
+    public enum Operation {
+
+        ADD,
+
+        REMOVE,
+
+        REPLACE
+
+    }
+
+    /**
+     * A single change between two instances
+     */
+    public static final class Change {
+
+        private final Operation operation;
+
+        private final List<String> path;
+
+        @Nullable
+        private final Object value;
+
+        private Change(Operation operation, List<String> path, @Nullable Object value) {
+            this.operation = operation;
+            this.path = path;
+            this.value = value;
+        }
+
+        /**
+         * Returns the operation of the change
+         *
+         * @return the operation
+         */
+        public Operation getOperation() {
+            return operation;
+        }
+
+        /**
+         * Returns the path of JSON property names or map keys to the changed value
+         *
+         * @return the path to the changed value
+         */
+        public List<String> getPath() {
+            return path;
+        }
+
+        /**
+         * Returns the path to the changed value as a JSON Pointer
+         *
+         * @return the JSON Pointer to the changed value
+         */
+        public String getPointer() {
+            StringBuilder sb = new StringBuilder();
+            for (String segment : path) {
+                sb.append('/').append(segment.replace("~", "~0").replace("/", "~1"));
+            }
+            return sb.toString();
+        }
+
+        /**
+         * Returns the modified value
+         *
+         * @return the modified value, or {@code null} if it was removed
+         */
+        @Nullable
+        public Object getValue() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s %s", operation, getPointer());
+        }
+
+    }
+
+    private static final class Directive {
+
+        private final List<String> path;
+
+        @Nullable
+        private final JsonNode value;
+
+        private Directive(List<String> path, @Nullable JsonNode value) {
+            this.path = path;
+            this.value = value;
+        }
+
+    }
+
+    private static final class Frame {
+
+        private final Map<String, Object> added = new LinkedHashMap<>();
+
+        private final boolean exists;
+
+        private final String name;
+
+        private Frame(String name, boolean exists) {
+            this.name = name;
+            this.exists = exists;
+        }
+
+    }
+
+}
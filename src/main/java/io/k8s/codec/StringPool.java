@@ -0,0 +1,166 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.codec;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, concurrent pool of strings, used to share a single instance of the values that repeat across many
+ * decoded objects, such as label values, namespaces, and image names. The pool is a fixed-size, direct-mapped table:
+ * each string has a single slot, and a string that misses replaces whatever occupied its slot. Memory use is therefore
+ * bounded by the capacity, frequently repeated strings stay resident, and lookups and replacements never lock.
+ * <p>
+ * Strings are looked up from the characters of the parser's buffer, so a hit allocates nothing.
+ */
+public final class StringPool {
+
+    /**
+     * The default capacity of a pool
+     */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    private final AtomicReferenceArray<String> entries;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final int mask;
+
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a pool with the {@link #DEFAULT_CAPACITY default capacity}
+     */
+    public StringPool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a pool
+     *
+     * @param capacity the maximum number of strings held by the pool, rounded up to a power of two
+     * @throws IllegalArgumentException if {@code capacity} is not between 1 and 2<sup>30</sup>
+     */
+    public StringPool(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException(String.format("capacity %d must be between 1 and 2^30", capacity));
+        }
+
+        int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.entries = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Returns the number of lookups that found their string in the pool
+     *
+     * @return the number of hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the proportion of lookups that found their string in the pool
+     *
+     * @return the hit ratio, between {@code 0} and {@code 1}, or {@code NaN} if there have been no lookups
+     */
+    public double getHitRatio() {
+        long hits = getHits();
+        long lookups = hits + getMisses();
+        return lookups == 0 ? Double.NaN : (double) hits / lookups;
+    }
+
+    /**
+     * Returns the number of lookups that did not find their string in the pool
+     *
+     * @return the number of misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the pooled instance of a string held in a character buffer, allocating it only if it is not pooled
+     *
+     * @param buffer the buffer holding the string
+     * @param offset the offset of the string in the buffer
+     * @param length the length of the string
+     * @return the pooled instance of the string
+     */
+    public String intern(char[] buffer, int offset, int length) {
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + buffer[i];
+        }
+
+        int index = spread(hash);
+        String candidate = entries.get(index);
+        if (candidate != null && matches(candidate, buffer, offset, length)) {
+            hits.increment();
+            return candidate;
+        }
+
+        String value = new String(buffer, offset, length);
+        entries.lazySet(index, value);
+        misses.increment();
+        return value;
+    }
+
+    /**
+     * Returns the pooled instance of a string
+     *
+     * @param value the string
+     * @return the pooled instance of the string
+     */
+    public String intern(String value) {
+        int index = spread(value.hashCode());
+        String candidate = entries.get(index);
+        if (value.equals(candidate)) {
+            hits.increment();
+            return candidate;
+        }
+
+        entries.lazySet(index, value);
+        misses.increment();
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("StringPool(capacity=%d, hits=%d, misses=%d)", entries.length(), getHits(), getMisses());
+    }
+
+    private static boolean matches(String candidate, char[] buffer, int offset, int length) {
+        if (candidate.length() != length) {
+            return false;
+        }
+
+        for (int i = 0; i < length; i++) {
+            if (candidate.charAt(i) != buffer[offset + i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private int spread(int hash) {
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+}
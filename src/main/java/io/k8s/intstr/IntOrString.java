@@ -0,0 +1,202 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.intstr;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import org.springframework.lang.Nullable;
+
+/**
+ * IntOrString is a type that can hold an int32 or a string. When used in JSON it produces or consumes the inner type,
+ * allowing, for example, a port to be given as a number or a name, or a replica count as a number or a percentage.
+ * Integers are held unboxed and a percentage is parsed once, when the value is created, so that
+ * {@link #getScaledValue(int, boolean)} is plain arithmetic.
+ */
+public final class IntOrString {
+
+    private static final int NOT_A_PERCENTAGE = Integer.MIN_VALUE;
+
+    private final int intValue;
+
+    private final int percentage;
+
+    @Nullable
+    private final String stringValue;
+
+    private IntOrString(int intValue, @Nullable String stringValue, int percentage) {
+        this.intValue = intValue;
+        this.stringValue = stringValue;
+        this.percentage = percentage;
+    }
+
+    /**
+     * Creates an integer value
+     *
+     * @param value the integer
+     * @return the value
+     */
+    @JsonCreator
+    public static IntOrString of(int value) {
+        return new IntOrString(value, null, NOT_A_PERCENTAGE);
+    }
+
+    /**
+     * Creates a string value
+     *
+     * @param value the string
+     * @return the value
+     */
+    @JsonCreator
+    public static IntOrString of(String value) {
+        return new IntOrString(0, value, parsePercentage(value));
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IntOrString)) {
+            return false;
+        }
+
+        IntOrString other = (IntOrString) o;
+        return stringValue == null ? other.stringValue == null && intValue == other.intValue : stringValue.equals(other.stringValue);
+    }
+
+    /**
+     * Returns the integer value
+     *
+     * @return the integer value
+     * @throws IllegalStateException if this is a string value
+     */
+    public int getIntValue() {
+        if (stringValue != null) {
+            throw new IllegalStateException(String.format("'%s' is not an integer value", stringValue));
+        }
+
+        return intValue;
+    }
+
+    /**
+     * Returns the value of an integer, or of a percentage applied to a total. Percentages are rounded up or down to the
+     * nearest integer.
+     *
+     * @param total   the total to apply a percentage to
+     * @param roundUp whether a percentage is rounded up rather than down
+     * @return the integer value, or the percentage of {@code total}
+     * @throws IllegalArgumentException if this is a string value that is not a percentage
+     */
+    public int getScaledValue(int total, boolean roundUp) {
+        if (stringValue == null) {
+            return intValue;
+        }
+
+        if (percentage == NOT_A_PERCENTAGE) {
+            throw new IllegalArgumentException(String.format("'%s' is not a percentage", stringValue));
+        }
+
+        long product = (long) percentage * total;
+        return (int) (roundUp ? -Math.floorDiv(-product, 100) : Math.floorDiv(product, 100));
+    }
+
+    /**
+     * Returns the string value
+     *
+     * @return the string value
+     * @throws IllegalStateException if this is an integer value
+     */
+    public String getStringValue() {
+        if (stringValue == null) {
+            throw new IllegalStateException(String.format("%d is not a string value", intValue));
+        }
+
+        return stringValue;
+    }
+
+    /**
+     * Returns the value as it is represented in JSON
+     *
+     * @return an {@link Integer} or a {@link String}
+     */
+    @JsonValue
+    public Object getValue() {
+        return stringValue != null ? stringValue : intValue;
+    }
+
+    @Override
+    public int hashCode() {
+        return stringValue != null ? stringValue.hashCode() : intValue;
+    }
+
+    /**
+     * Returns whether this is an integer value
+     *
+     * @return {@code true} if this is an integer value
+     */
+    public boolean isInt() {
+        return stringValue == null;
+    }
+
+    /**
+     * Returns whether this is a percentage, such as {@code 25%}
+     *
+     * @return {@code true} if this is a percentage
+     */
+    public boolean isPercentage() {
+        return percentage != NOT_A_PERCENTAGE;
+    }
+
+    @Override
+    public String toString() {
+        return stringValue != null ? stringValue : Integer.toString(intValue);
+    }
+
+    private static int parsePercentage(String value) {
+        int length = value.length() - 1;
+        if (length < 1 || value.charAt(length) != '%') {
+            return NOT_A_PERCENTAGE;
+        }
+
+        int i = 0;
+        boolean negative = false;
+        if (value.charAt(0) == '+' || value.charAt(0) == '-') {
+            negative = value.charAt(0) == '-';
+            i++;
+        }
+
+        if (i == length) {
+            return NOT_A_PERCENTAGE;
+        }
+
+        long percentage = 0;
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return NOT_A_PERCENTAGE;
+            }
+
+            percentage = percentage * 10 + (c - '0');
+            if (percentage > Integer.MAX_VALUE) {
+                return NOT_A_PERCENTAGE;
+            }
+        }
+
+        return (int) (negative ? -percentage : percentage);
+    }
+
+}
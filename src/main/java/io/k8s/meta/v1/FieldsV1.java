@@ -0,0 +1,381 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.meta.v1;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FieldsV1 stores a set of fields in a data structure like a Trie, in JSON format.
+ * <p>
+ * Each key is either a '.' representing the field itself, and will always map to an empty set, or a string
+ * representing a sub-field or item. The string will follow one of these four formats: 'f:&lt;name&gt;', where
+ * &lt;name&gt; is the name of a field in a struct, or key in a map 'v:&lt;value&gt;', where &lt;value&gt; is the exact
+ * json formatted value of a list item 'i:&lt;index&gt;', where &lt;index&gt; is position of a item in a list
+ * 'k:&lt;keys&gt;', where &lt;keys&gt; is a map of  a list item's key fields to their unique values If a key maps to
+ * an empty Fields value, the field that key represents is part of the set.
+ * <p>
+ * The exact format is defined in sigs.k8s.io/structured-merge-diff
+ * <p>
+ * Each node of the trie holds its keys in sorted order, alongside their children, and every leaf is the shared {@link
+ * #EMPTY} instance. As a set, a field is a member if it maps to an empty set or to a set containing {@link #SELF}.
+ * {@link #union(FieldsV1)}, {@link #intersection(FieldsV1)}, and {@link #difference(FieldsV1)} merge the sorted keys of
+ * both sets, taking time proportional to their size, and share unchanged subtrees with their operands.
+ */
+public final class FieldsV1 {
+
+    /**
+     * The empty set of fields
+     */
+    public static final FieldsV1 EMPTY = new FieldsV1(new String[0], new FieldsV1[0]);
+
+    /**
+     * The key representing the field itself
+     */
+    public static final String SELF = ".";
+
+    private final FieldsV1[] children;
+
+    private final String[] keys;
+
+    private FieldsV1(String[] keys, FieldsV1[] children) {
+        this.keys = keys;
+        this.children = children;
+    }
+
+    /**
+     * Returns a new builder
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a set of fields
+     *
+     * @param children the children of the set, by key
+     * @return the set of fields
+     */
+    @JsonCreator
+    public static FieldsV1 of(Map<String, FieldsV1> children) {
+        Builder builder = builder();
+        children.forEach(builder::child);
+        return builder.build();
+    }
+
+    /**
+     * Returns whether a path of keys is present in the set
+     *
+     * @param path the path of keys
+     * @return {@code true} if each key of the path is present beneath the previous one
+     */
+    public boolean contains(String... path) {
+        FieldsV1 current = this;
+
+        for (String key : path) {
+            current = current.get(key);
+            if (current == null) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the fields of this set that are not in another
+     *
+     * @param other the other set
+     * @return the difference of the sets
+     */
+    public FieldsV1 difference(FieldsV1 other) {
+        return orEmpty(combine(this, false, other, false, Operation.DIFFERENCE));
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        FieldsV1 that = (FieldsV1) o;
+        return Arrays.equals(keys, that.keys) && Arrays.equals(children, that.children);
+    }
+
+    /**
+     * Returns the child for a key
+     *
+     * @param key the key
+     * @return the child, or {@code null} if the key is not present
+     */
+    @Nullable
+    public FieldsV1 get(String key) {
+        int i = Arrays.binarySearch(keys, key);
+        return i < 0 ? null : children[i];
+    }
+
+    /**
+     * Returns the children of the set, by key, in key order
+     *
+     * @return the children of the set
+     */
+    @JsonValue
+    public Map<String, FieldsV1> getChildren() {
+        Map<String, FieldsV1> map = new LinkedHashMap<>(keys.length * 2);
+        for (int i = 0; i < keys.length; i++) {
+            map.put(keys[i], children[i]);
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Returns the keys of the set, in order
+     *
+     * @return the keys of the set
+     */
+    public List<String> getKeys() {
+        return Collections.unmodifiableList(Arrays.asList(keys));
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(keys) + Arrays.hashCode(children);
+    }
+
+    /**
+     * Returns the fields in both this set and another
+     *
+     * @param other the other set
+     * @return the intersection of the sets
+     */
+    public FieldsV1 intersection(FieldsV1 other) {
+        return orEmpty(combine(this, false, other, false, Operation.INTERSECTION));
+    }
+
+    /**
+     * Returns whether the set is empty
+     *
+     * @return {@code true} if the set has no keys
+     */
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    private boolean isMember() {
+        return keys.length == 0 || get(SELF) != null;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        append(sb);
+        return sb.toString();
+    }
+
+    /**
+     * Returns the fields in either this set or another
+     *
+     * @param other the other set
+     * @return the union of the sets
+     */
+    public FieldsV1 union(FieldsV1 other) {
+        return orEmpty(combine(this, false, other, false, Operation.UNION));
+    }
+
+    // a node that is not itself a member is absent when it has no children
+    @Nullable
+    private static FieldsV1 combine(FieldsV1 a, boolean aMember, FieldsV1 b, boolean bMember, Operation operation) {
+        if (a == b && aMember == bMember) {
+            return operation == Operation.DIFFERENCE ? null : a;
+        }
+
+        String[] aKeys = a.keys;
+        String[] bKeys = b.keys;
+
+        boolean member = operation.apply(aMember, bMember);
+        List<String> keys = new ArrayList<>(aKeys.length + bKeys.length + 1);
+        List<FieldsV1> children = new ArrayList<>(aKeys.length + bKeys.length + 1);
+
+        int i = 0;
+        int j = 0;
+        while (i < aKeys.length || j < bKeys.length) {
+            int comparison = i == aKeys.length ? 1 : j == bKeys.length ? -1 : aKeys[i].compareTo(bKeys[j]);
+
+            String key;
+            FieldsV1 child;
+            if (comparison == 0) {
+                key = aKeys[i];
+                child = combine(a.children[i], a.children[i].isMember(), b.children[j], b.children[j].isMember(), operation);
+                i++;
+                j++;
+            } else if (comparison < 0) {
+                key = aKeys[i];
+                child = operation == Operation.INTERSECTION ? null : a.children[i];
+                i++;
+            } else {
+                key = bKeys[j];
+                child = operation == Operation.UNION ? b.children[j] : null;
+                j++;
+            }
+
+            if (child != null && !SELF.equals(key)) {
+                keys.add(key);
+                children.add(child);
+            }
+        }
+
+        if (keys.isEmpty()) {
+            return member ? EMPTY : null;
+        }
+
+        if (member) {
+            int index = Collections.binarySearch(keys, SELF);
+            keys.add(-index - 1, SELF);
+            children.add(-index - 1, EMPTY);
+        }
+
+        return new FieldsV1(keys.toArray(new String[0]), children.toArray(new FieldsV1[0]));
+    }
+
+    private static FieldsV1 orEmpty(@Nullable FieldsV1 fields) {
+        return fields == null ? EMPTY : fields;
+    }
+
+    private void append(StringBuilder sb) {
+        sb.append('{');
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(keys[i]).append(':');
+            children[i].append(sb);
+        }
+        sb.append('}');
+    }
+
+    private enum Operation {
+
+        DIFFERENCE {
+            @Override
+            boolean apply(boolean a, boolean b) {
+                return a && !b;
+            }
+        },
+
+        INTERSECTION {
+            @Override
+            boolean apply(boolean a, boolean b) {
+                return a && b;
+            }
+        },
+
+        UNION {
+            @Override
+            boolean apply(boolean a, boolean b) {
+                return a || b;
+            }
+        };
+
+        abstract boolean apply(boolean a, boolean b);
+
+    }
+
+    /**
+     * A builder of {@link FieldsV1}
+     */
+    public static final class Builder {
+
+        private final List<FieldsV1> children = new ArrayList<>();
+
+        private final List<String> keys = new ArrayList<>();
+
+        private boolean sorted = true;
+
+        private Builder() {
+        }
+
+        /**
+         * Builds the set of fields
+         *
+         * @return the set of fields
+         */
+        public FieldsV1 build() {
+            if (keys.isEmpty()) {
+                return EMPTY;
+            }
+
+            String[] keys = this.keys.toArray(new String[0]);
+            FieldsV1[] children = this.children.toArray(new FieldsV1[0]);
+
+            // the API server writes keys in order, so sorting is rarely needed
+            if (!sorted) {
+                Integer[] order = new Integer[keys.length];
+                for (int i = 0; i < order.length; i++) {
+                    order[i] = i;
+                }
+                Arrays.sort(order, (a, b) -> keys[a].compareTo(keys[b]));
+
+                String[] sortedKeys = new String[keys.length];
+                FieldsV1[] sortedChildren = new FieldsV1[keys.length];
+                int size = 0;
+                for (int i : order) {
+                    // of duplicate keys, the last one wins
+                    if (size > 0 && sortedKeys[size - 1].equals(keys[i])) {
+                        size--;
+                    }
+                    sortedKeys[size] = keys[i];
+                    sortedChildren[size++] = children[i];
+                }
+
+                return new FieldsV1(Arrays.copyOf(sortedKeys, size), Arrays.copyOf(sortedChildren, size));
+            }
+
+            return new FieldsV1(keys, children);
+        }
+
+        /**
+         * Adds a child to the set
+         *
+         * @param key   the key of the child
+         * @param child the child, or {@code null} if it is empty
+         * @return this builder
+         */
+        public Builder child(String key, @Nullable FieldsV1 child) {
+            if (!keys.isEmpty() && keys.get(keys.size() - 1).compareTo(key) >= 0) {
+                sorted = false;
+            }
+
+            keys.add(key);
+            children.add(child == null ? EMPTY : child);
+            return this;
+        }
+
+    }
+
+}
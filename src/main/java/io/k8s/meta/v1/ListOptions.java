@@ -99,6 +99,7 @@ public class ListOptions implements TypeMeta {
      * are updated during a chunked list the version of the object that was present at the time the first list result
      * was calculated is returned.
      */
+    @Nullable
     Long limit;
 
     /**
@@ -115,6 +116,7 @@ public class ListOptions implements TypeMeta {
      * is true. Clients may start a watch from the last resourceVersion value returned by the server and not miss any
      * modifications.
      */
+    @Nullable
     String _continue;
 
 }
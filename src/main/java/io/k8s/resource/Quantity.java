@@ -0,0 +1,519 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.resource;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import org.springframework.lang.Nullable;
+
+import java.math.BigDecimal;
+
+/**
+ * Quantity is a fixed-point representation of a number, such as {@code 100m} CPU or {@code 1Gi} of memory. A quantity
+ * is held as a {@code long} unscaled value and a base-10 scale so that parsing does not allocate and arithmetic and
+ * comparison do not re-parse. Precision below one nano is rounded up, away from zero, as it is by the API server.
+ * <p>
+ * A quantity remembers the {@link Format} it was parsed with and is serialized in the canonical form of that format:
+ * {@code 1.5} is serialized as {@code 1500m} and {@code 1.5Gi} as {@code 1536Mi}. Equality and ordering are numeric,
+ * so {@code 1Ki} and {@code 1024} are equal.
+ */
+public final class Quantity implements Comparable<Quantity> {
+
+    /**
+     * A zero quantity
+     */
+    public static final Quantity ZERO = new Quantity(0, 0, Format.DECIMAL_SI);
+
+    private static final String[] BINARY_SUFFIXES = { "", "Ki", "Mi", "Gi", "Ti", "Pi", "Ei" };
+
+    private static final String[] DECIMAL_SUFFIXES = { "n", "u", "m", "", "k", "M", "G", "T", "P", "E" };
+
+    private static final int MAX_DECIMAL_EXPONENT = 18;
+
+    private static final int MAX_EXPONENT = 1000;
+
+    private static final int MIN_SCALE = -9;
+
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final Format format;
+
+    private final int scale;
+
+    private final long value;
+
+    @Nullable
+    private volatile String string;
+
+    private Quantity(long value, int scale, Format format) {
+        while (value != 0 && value % 10 == 0) {
+            value /= 10;
+            scale++;
+        }
+
+        this.value = value;
+        this.scale = value == 0 ? 0 : scale;
+        this.format = format;
+    }
+
+    /**
+     * Creates a quantity of {@code value * 10^scale}
+     *
+     * @param value  the unscaled value
+     * @param scale  the base-10 scale, at least {@code -9}
+     * @param format the format to serialize the quantity with
+     * @return the quantity
+     */
+    public static Quantity of(long value, int scale, Format format) {
+        if (scale < MIN_SCALE) {
+            throw new IllegalArgumentException(String.format("scale %d is smaller than %d", scale, MIN_SCALE));
+        }
+
+        return new Quantity(value, scale, format);
+    }
+
+    /**
+     * Parses a quantity. The syntax is a signed decimal number followed by an optional suffix: a binary SI suffix
+     * ({@code Ki}, {@code Mi}, {@code Gi}, {@code Ti}, {@code Pi}, {@code Ei}), a decimal SI suffix ({@code n},
+     * {@code u}, {@code m}, {@code k}, {@code M}, {@code G}, {@code T}, {@code P}, {@code E}), or a decimal exponent
+     * ({@code e3}, {@code E-6}).
+     *
+     * @param text the text to parse
+     * @return the quantity
+     * @throws NumberFormatException if {@code text} is not a quantity or is too large to represent
+     */
+    public static Quantity parse(CharSequence text) {
+        int length = text.length();
+        int i = 0;
+
+        boolean negative = false;
+        if (length > 0 && (text.charAt(0) == '+' || text.charAt(0) == '-')) {
+            negative = text.charAt(0) == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int scale = 0;
+        int digits = 0;
+        boolean fraction = false;
+        boolean inexact = false;
+
+        for (; i < length; i++) {
+            char c = text.charAt(i);
+
+            if (c >= '0' && c <= '9') {
+                digits++;
+
+                if (mantissa <= (Long.MAX_VALUE - 9) / 10) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    if (fraction) {
+                        scale--;
+                    }
+                } else {
+                    inexact |= c != '0';
+                    if (!fraction) {
+                        scale++;
+                    }
+                }
+            } else if (c == '.' && !fraction) {
+                fraction = true;
+            } else {
+                break;
+            }
+        }
+
+        if (digits == 0) {
+            throw invalid(text);
+        }
+
+        Format format;
+        int remaining = length - i;
+
+        if (remaining == 0) {
+            format = Format.DECIMAL_SI;
+        } else if (remaining == 2 && text.charAt(i + 1) == 'i') {
+            format = Format.BINARY_SI;
+            int power = indexOf(BINARY_SUFFIXES, text.charAt(i));
+            if (power < 1) {
+                throw invalid(text);
+            }
+
+            try {
+                mantissa = Math.multiplyExact(mantissa, 1L << (10 * power));
+            } catch (ArithmeticException e) {
+                throw outOfRange(text);
+            }
+        } else if (remaining > 1 && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+            format = Format.DECIMAL_EXPONENT;
+            scale += parseExponent(text, i + 1);
+        } else if (remaining == 1) {
+            format = Format.DECIMAL_SI;
+            int index = indexOf(DECIMAL_SUFFIXES, text.charAt(i));
+            if (index < 0 || index == 3) {
+                throw invalid(text);
+            }
+
+            scale += (index - 3) * 3;
+        } else {
+            throw invalid(text);
+        }
+
+        if (scale < MIN_SCALE) {
+            int shift = MIN_SCALE - scale;
+            long divisor = shift < POWERS_OF_TEN.length ? POWERS_OF_TEN[shift] : Long.MAX_VALUE;
+
+            inexact |= mantissa % divisor != 0;
+            mantissa /= divisor;
+            scale = MIN_SCALE;
+        }
+
+        if (inexact) {
+            mantissa++;
+        }
+
+        return new Quantity(negative ? -mantissa : mantissa, scale, format);
+    }
+
+    /**
+     * Parses a quantity
+     *
+     * @param text the text to parse
+     * @return the quantity
+     * @throws NumberFormatException if {@code text} is not a quantity or is too large to represent
+     * @see #parse(CharSequence)
+     */
+    @JsonCreator
+    public static Quantity valueOf(String text) {
+        return parse(text);
+    }
+
+    /**
+     * Creates a quantity of a whole number in {@link Format#DECIMAL_SI}
+     *
+     * @param value the value
+     * @return the quantity
+     */
+    @JsonCreator
+    public static Quantity valueOf(long value) {
+        return new Quantity(value, 0, Format.DECIMAL_SI);
+    }
+
+    /**
+     * Returns the sum of this quantity and another, in this quantity's format
+     *
+     * @param other the quantity to add
+     * @return the sum
+     * @throws ArithmeticException if the sum cannot be represented
+     */
+    public Quantity add(Quantity other) {
+        if (other.value == 0) {
+            return this;
+        }
+
+        int scale = Math.min(this.scale, other.scale);
+        return new Quantity(Math.addExact(rescale(this.value, this.scale - scale), rescale(other.value, other.scale - scale)), scale, format);
+    }
+
+    @Override
+    public int compareTo(Quantity other) {
+        int signum = Long.signum(value);
+        if (signum != Long.signum(other.value)) {
+            return Integer.compare(signum, Long.signum(other.value));
+        }
+
+        if (scale == other.scale) {
+            return Long.compare(value, other.value);
+        }
+
+        int scale = Math.min(this.scale, other.scale);
+        try {
+            return Long.compare(rescale(this.value, this.scale - scale), rescale(other.value, other.scale - scale));
+        } catch (ArithmeticException e) {
+            return toBigDecimal().compareTo(other.toBigDecimal());
+        }
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Quantity)) {
+            return false;
+        }
+
+        Quantity other = (Quantity) o;
+        return value == other.value && scale == other.scale;
+    }
+
+    /**
+     * Returns the format the quantity is serialized with
+     *
+     * @return the format the quantity is serialized with
+     */
+    public Format getFormat() {
+        return format;
+    }
+
+    /**
+     * Returns the value of the quantity in thousandths, rounded up away from zero
+     *
+     * @return the value of the quantity in thousandths
+     * @throws ArithmeticException if the value cannot be represented as a {@code long}
+     */
+    public long getMilliValue() {
+        return getScaledValue(-3);
+    }
+
+    /**
+     * Returns the value of the quantity in units of {@code 10^scale}, rounded up away from zero
+     *
+     * @param scale the base-10 scale of the units
+     * @return the value of the quantity in units of {@code 10^scale}
+     * @throws ArithmeticException if the value cannot be represented as a {@code long}
+     */
+    public long getScaledValue(int scale) {
+        if (this.scale >= scale) {
+            return rescale(value, this.scale - scale);
+        }
+
+        int shift = scale - this.scale;
+        if (shift >= POWERS_OF_TEN.length) {
+            return Long.signum(value);
+        }
+
+        long divisor = POWERS_OF_TEN[shift];
+        long result = value / divisor;
+        return value % divisor == 0 ? result : result + Long.signum(value);
+    }
+
+    /**
+     * Returns the value of the quantity, rounded up away from zero
+     *
+     * @return the value of the quantity
+     * @throws ArithmeticException if the value cannot be represented as a {@code long}
+     */
+    public long getValue() {
+        return getScaledValue(0);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(value) + scale;
+    }
+
+    /**
+     * Returns whether the quantity is zero
+     *
+     * @return {@code true} if the quantity is zero
+     */
+    public boolean isZero() {
+        return value == 0;
+    }
+
+    /**
+     * Returns the negation of this quantity
+     *
+     * @return the negation of this quantity
+     */
+    public Quantity negate() {
+        return new Quantity(Math.negateExact(value), scale, format);
+    }
+
+    /**
+     * Returns the signum of this quantity
+     *
+     * @return {@code -1}, {@code 0} or {@code 1} as the quantity is negative, zero or positive
+     */
+    public int signum() {
+        return Long.signum(value);
+    }
+
+    /**
+     * Returns the difference of this quantity and another, in this quantity's format
+     *
+     * @param other the quantity to subtract
+     * @return the difference
+     * @throws ArithmeticException if the difference cannot be represented
+     */
+    public Quantity subtract(Quantity other) {
+        return add(other.negate());
+    }
+
+    /**
+     * Returns the exact value of the quantity
+     *
+     * @return the exact value of the quantity
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(value, -scale);
+    }
+
+    /**
+     * Returns the canonical form of the quantity in its format
+     *
+     * @return the canonical form of the quantity in its format
+     */
+    @JsonValue
+    @Override
+    public String toString() {
+        String s = string;
+        if (s == null) {
+            s = string = format();
+        }
+
+        return s;
+    }
+
+    /**
+     * Returns a quantity with the same value serialized in another format
+     *
+     * @param format the format
+     * @return a quantity with the same value serialized in {@code format}
+     */
+    public Quantity withFormat(Format format) {
+        return this.format == format ? this : new Quantity(value, scale, format);
+    }
+
+    private static int indexOf(String[] suffixes, char c) {
+        for (int i = 0; i < suffixes.length; i++) {
+            if (suffixes[i].length() > 0 && suffixes[i].charAt(0) == c) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static NumberFormatException invalid(CharSequence text) {
+        return new NumberFormatException(String.format("'%s' is not a valid quantity", text));
+    }
+
+    private static NumberFormatException outOfRange(CharSequence text) {
+        return new NumberFormatException(String.format("'%s' is too large to be represented as a quantity", text));
+    }
+
+    private static int parseExponent(CharSequence text, int start) {
+        int i = start;
+        boolean negative = false;
+        if (text.charAt(i) == '+' || text.charAt(i) == '-') {
+            negative = text.charAt(i) == '-';
+            i++;
+        }
+
+        if (i == text.length()) {
+            throw invalid(text);
+        }
+
+        int exponent = 0;
+        for (; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                throw invalid(text);
+            }
+
+            exponent = exponent * 10 + (c - '0');
+            if (exponent > MAX_EXPONENT) {
+                throw outOfRange(text);
+            }
+        }
+
+        return negative ? -exponent : exponent;
+    }
+
+    private static long rescale(long value, int shift) {
+        if (value == 0 || shift == 0) {
+            return value;
+        }
+
+        if (shift >= POWERS_OF_TEN.length) {
+            throw new ArithmeticException("long overflow");
+        }
+
+        return Math.multiplyExact(value, POWERS_OF_TEN[shift]);
+    }
+
+    private String format() {
+        if (format == Format.BINARY_SI && scale >= 0) {
+            try {
+                long integer = rescale(value, scale);
+
+                if (integer <= -1024 || integer >= 1024) {
+                    int power = 0;
+                    while (power < BINARY_SUFFIXES.length - 1 && integer % 1024 == 0) {
+                        integer /= 1024;
+                        power++;
+                    }
+
+                    return integer + BINARY_SUFFIXES[power];
+                }
+            } catch (ArithmeticException e) {
+                // too large for a binary suffix, so fall back to a decimal suffix
+            }
+        }
+
+        int exponent = Math.floorDiv(scale, 3) * 3;
+        if (format != Format.DECIMAL_EXPONENT) {
+            exponent = Math.min(exponent, MAX_DECIMAL_EXPONENT);
+        }
+
+        StringBuilder sb = new StringBuilder(24).append(value);
+        for (int i = exponent; i < scale; i++) {
+            sb.append('0');
+        }
+
+        if (format == Format.DECIMAL_EXPONENT) {
+            if (exponent != 0) {
+                sb.append('e').append(exponent);
+            }
+        } else {
+            sb.append(DECIMAL_SUFFIXES[exponent / 3 + 3]);
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * The formats a quantity can be serialized in
+     */
+    public enum Format {
+
+        /**
+         * Powers of two, such as {@code 1536Mi}
+         */
+        BINARY_SI,
+
+        /**
+         * Powers of ten written as an exponent, such as {@code 15e2}
+         */
+        DECIMAL_EXPONENT,
+
+        /**
+         * Powers of ten written as an SI suffix, such as {@code 1500m}
+         */
+        DECIMAL_SI
+
+    }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.type;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * PatchStrategy describes how a property is merged by a strategic merge patch, as declared by the
+ * {@code x-kubernetes-patch-strategy} extension of the API schema. Lists without a {@code merge} strategy, and all
+ * other properties without a {@code retainKeys} strategy, are replaced as a whole.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface PatchStrategy {
+
+    /**
+     * The strategy that merges a list element by element, identifying elements by their {@link PatchMergeKey}, or by
+     * value if the list is of scalars.
+     */
+    String MERGE = "merge";
+
+    /**
+     * The strategy that clears the properties of an object which are not present in the patch.
+     */
+    String RETAIN_KEYS = "retainKeys";
+
+    /**
+     * A comma-separated list of strategies, {@value #MERGE} and {@value #RETAIN_KEYS}.
+     */
+    String value();
+
+}
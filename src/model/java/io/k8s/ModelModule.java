@@ -0,0 +1,582 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s;
+
+import io.k8s.codec.CodecModule;
+
+/**
+ * A {@link CodecModule} that registers the generated codecs of every model class.
+ */
+public final class ModelModule extends CodecModule {
+
+    private static final long serialVersionUID = 590104839514248617L;
+
+    public ModelModule() {
+        super("ModelModule");
+
+        addCodec(io.k8s.admissionregistration.v1.MutatingWebhook.class, io.k8s.admissionregistration.v1.MutatingWebhookCodec.DESERIALIZER, io.k8s.admissionregistration.v1.MutatingWebhookCodec.SERIALIZER);
+        addCodec(io.k8s.admissionregistration.v1.MutatingWebhookConfiguration.class, io.k8s.admissionregistration.v1.MutatingWebhookConfigurationCodec.DESERIALIZER, io.k8s.admissionregistration.v1.MutatingWebhookConfigurationCodec.SERIALIZER);
+        addCodec(io.k8s.admissionregistration.v1.MutatingWebhookConfigurationList.class, io.k8s.admissionregistration.v1.MutatingWebhookConfigurationListCodec.DESERIALIZER, io.k8s.admissionregistration.v1.MutatingWebhookConfigurationListCodec.SERIALIZER);
+        addCodec(io.k8s.admissionregistration.v1.RuleWithOperations.class, io.k8s.admissionregistration.v1.RuleWithOperationsCodec.DESERIALIZER, io.k8s.admissionregistration.v1.RuleWithOperationsCodec.SERIALIZER);
+        addCodec(io.k8s.admissionregistration.v1.ServiceReference.class, io.k8s.admissionregistration.v1.ServiceReferenceCodec.DESERIALIZER, io.k8s.admissionregistration.v1.ServiceReferenceCodec.SERIALIZER);
+        addCodec(io.k8s.admissionregistration.v1.ValidatingWebhook.class, io.k8s.admissionregistration.v1.ValidatingWebhookCodec.DESERIALIZER, io.k8s.admissionregistration.v1.ValidatingWebhookCodec.SERIALIZER);
+        addCodec(io.k8s.admissionregistration.v1.ValidatingWebhookConfiguration.class, io.k8s.admissionregistration.v1.ValidatingWebhookConfigurationCodec.DESERIALIZER, io.k8s.admissionregistration.v1.ValidatingWebhookConfigurationCodec.SERIALIZER);
+        addCodec(io.k8s.admissionregistration.v1.ValidatingWebhookConfigurationList.class, io.k8s.admissionregistration.v1.ValidatingWebhookConfigurationListCodec.DESERIALIZER, io.k8s.admissionregistration.v1.ValidatingWebhookConfigurationListCodec.SERIALIZER);
+        addCodec(io.k8s.admissionregistration.v1.WebhookClientConfig.class, io.k8s.admissionregistration.v1.WebhookClientConfigCodec.DESERIALIZER, io.k8s.admissionregistration.v1.WebhookClientConfigCodec.SERIALIZER);
+        addCodec(io.k8s.admissionregistration.v1beta1.MutatingWebhook.class, io.k8s.admissionregistration.v1beta1.MutatingWebhookCodec.DESERIALIZER, io.k8s.admissionregistration.v1beta1.MutatingWebhookCodec.SERIALIZER);
+        addCodec(io.k8s.admissionregistration.v1beta1.MutatingWebhookConfiguration.class, io.k8s.admissionregistration.v1beta1.MutatingWebhookConfigurationCodec.DESERIALIZER, io.k8s.admissionregistration.v1beta1.MutatingWebhookConfigurationCodec.SERIALIZER);
+        addCodec(io.k8s.admissionregistration.v1beta1.MutatingWebhookConfigurationList.class, io.k8s.admissionregistration.v1beta1.MutatingWebhookConfigurationListCodec.DESERIALIZER, io.k8s.admissionregistration.v1beta1.MutatingWebhookConfigurationListCodec.SERIALIZER);
+        addCodec(io.k8s.admissionregistration.v1beta1.RuleWithOperations.class, io.k8s.admissionregistration.v1beta1.RuleWithOperationsCodec.DESERIALIZER, io.k8s.admissionregistration.v1beta1.RuleWithOperationsCodec.SERIALIZER);
+        addCodec(io.k8s.admissionregistration.v1beta1.ServiceReference.class, io.k8s.admissionregistration.v1beta1.ServiceReferenceCodec.DESERIALIZER, io.k8s.admissionregistration.v1beta1.ServiceReferenceCodec.SERIALIZER);
+        addCodec(io.k8s.admissionregistration.v1beta1.ValidatingWebhook.class, io.k8s.admissionregistration.v1beta1.ValidatingWebhookCodec.DESERIALIZER, io.k8s.admissionregistration.v1beta1.ValidatingWebhookCodec.SERIALIZER);
+        addCodec(io.k8s.admissionregistration.v1beta1.ValidatingWebhookConfiguration.class, io.k8s.admissionregistration.v1beta1.ValidatingWebhookConfigurationCodec.DESERIALIZER, io.k8s.admissionregistration.v1beta1.ValidatingWebhookConfigurationCodec.SERIALIZER);
+        addCodec(io.k8s.admissionregistration.v1beta1.ValidatingWebhookConfigurationList.class, io.k8s.admissionregistration.v1beta1.ValidatingWebhookConfigurationListCodec.DESERIALIZER, io.k8s.admissionregistration.v1beta1.ValidatingWebhookConfigurationListCodec.SERIALIZER);
+        addCodec(io.k8s.admissionregistration.v1beta1.WebhookClientConfig.class, io.k8s.admissionregistration.v1beta1.WebhookClientConfigCodec.DESERIALIZER, io.k8s.admissionregistration.v1beta1.WebhookClientConfigCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1.CustomResourceColumnDefinition.class, io.k8s.apiextensions.v1.CustomResourceColumnDefinitionCodec.DESERIALIZER, io.k8s.apiextensions.v1.CustomResourceColumnDefinitionCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1.CustomResourceConversion.class, io.k8s.apiextensions.v1.CustomResourceConversionCodec.DESERIALIZER, io.k8s.apiextensions.v1.CustomResourceConversionCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1.CustomResourceDefinition.class, io.k8s.apiextensions.v1.CustomResourceDefinitionCodec.DESERIALIZER, io.k8s.apiextensions.v1.CustomResourceDefinitionCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1.CustomResourceDefinitionCondition.class, io.k8s.apiextensions.v1.CustomResourceDefinitionConditionCodec.DESERIALIZER, io.k8s.apiextensions.v1.CustomResourceDefinitionConditionCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1.CustomResourceDefinitionList.class, io.k8s.apiextensions.v1.CustomResourceDefinitionListCodec.DESERIALIZER, io.k8s.apiextensions.v1.CustomResourceDefinitionListCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1.CustomResourceDefinitionNames.class, io.k8s.apiextensions.v1.CustomResourceDefinitionNamesCodec.DESERIALIZER, io.k8s.apiextensions.v1.CustomResourceDefinitionNamesCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1.CustomResourceDefinitionSpec.class, io.k8s.apiextensions.v1.CustomResourceDefinitionSpecCodec.DESERIALIZER, io.k8s.apiextensions.v1.CustomResourceDefinitionSpecCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1.CustomResourceDefinitionStatus.class, io.k8s.apiextensions.v1.CustomResourceDefinitionStatusCodec.DESERIALIZER, io.k8s.apiextensions.v1.CustomResourceDefinitionStatusCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1.CustomResourceDefinitionVersion.class, io.k8s.apiextensions.v1.CustomResourceDefinitionVersionCodec.DESERIALIZER, io.k8s.apiextensions.v1.CustomResourceDefinitionVersionCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1.CustomResourceSubresourceScale.class, io.k8s.apiextensions.v1.CustomResourceSubresourceScaleCodec.DESERIALIZER, io.k8s.apiextensions.v1.CustomResourceSubresourceScaleCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1.CustomResourceSubresourceStatus.class, io.k8s.apiextensions.v1.CustomResourceSubresourceStatusCodec.DESERIALIZER, io.k8s.apiextensions.v1.CustomResourceSubresourceStatusCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1.CustomResourceSubresources.class, io.k8s.apiextensions.v1.CustomResourceSubresourcesCodec.DESERIALIZER, io.k8s.apiextensions.v1.CustomResourceSubresourcesCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1.CustomResourceValidation.class, io.k8s.apiextensions.v1.CustomResourceValidationCodec.DESERIALIZER, io.k8s.apiextensions.v1.CustomResourceValidationCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1.ExternalDocumentation.class, io.k8s.apiextensions.v1.ExternalDocumentationCodec.DESERIALIZER, io.k8s.apiextensions.v1.ExternalDocumentationCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1.JSON.class, io.k8s.apiextensions.v1.JSONCodec.DESERIALIZER, io.k8s.apiextensions.v1.JSONCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1.JSONSchemaProps.class, io.k8s.apiextensions.v1.JSONSchemaPropsCodec.DESERIALIZER, io.k8s.apiextensions.v1.JSONSchemaPropsCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1.JSONSchemaPropsOrArray.class, io.k8s.apiextensions.v1.JSONSchemaPropsOrArrayCodec.DESERIALIZER, io.k8s.apiextensions.v1.JSONSchemaPropsOrArrayCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1.JSONSchemaPropsOrBool.class, io.k8s.apiextensions.v1.JSONSchemaPropsOrBoolCodec.DESERIALIZER, io.k8s.apiextensions.v1.JSONSchemaPropsOrBoolCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1.JSONSchemaPropsOrStringArray.class, io.k8s.apiextensions.v1.JSONSchemaPropsOrStringArrayCodec.DESERIALIZER, io.k8s.apiextensions.v1.JSONSchemaPropsOrStringArrayCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1.ServiceReference.class, io.k8s.apiextensions.v1.ServiceReferenceCodec.DESERIALIZER, io.k8s.apiextensions.v1.ServiceReferenceCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1.WebhookClientConfig.class, io.k8s.apiextensions.v1.WebhookClientConfigCodec.DESERIALIZER, io.k8s.apiextensions.v1.WebhookClientConfigCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1.WebhookConversion.class, io.k8s.apiextensions.v1.WebhookConversionCodec.DESERIALIZER, io.k8s.apiextensions.v1.WebhookConversionCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1beta1.CustomResourceColumnDefinition.class, io.k8s.apiextensions.v1beta1.CustomResourceColumnDefinitionCodec.DESERIALIZER, io.k8s.apiextensions.v1beta1.CustomResourceColumnDefinitionCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1beta1.CustomResourceConversion.class, io.k8s.apiextensions.v1beta1.CustomResourceConversionCodec.DESERIALIZER, io.k8s.apiextensions.v1beta1.CustomResourceConversionCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1beta1.CustomResourceDefinition.class, io.k8s.apiextensions.v1beta1.CustomResourceDefinitionCodec.DESERIALIZER, io.k8s.apiextensions.v1beta1.CustomResourceDefinitionCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1beta1.CustomResourceDefinitionCondition.class, io.k8s.apiextensions.v1beta1.CustomResourceDefinitionConditionCodec.DESERIALIZER, io.k8s.apiextensions.v1beta1.CustomResourceDefinitionConditionCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1beta1.CustomResourceDefinitionList.class, io.k8s.apiextensions.v1beta1.CustomResourceDefinitionListCodec.DESERIALIZER, io.k8s.apiextensions.v1beta1.CustomResourceDefinitionListCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1beta1.CustomResourceDefinitionNames.class, io.k8s.apiextensions.v1beta1.CustomResourceDefinitionNamesCodec.DESERIALIZER, io.k8s.apiextensions.v1beta1.CustomResourceDefinitionNamesCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1beta1.CustomResourceDefinitionSpec.class, io.k8s.apiextensions.v1beta1.CustomResourceDefinitionSpecCodec.DESERIALIZER, io.k8s.apiextensions.v1beta1.CustomResourceDefinitionSpecCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1beta1.CustomResourceDefinitionStatus.class, io.k8s.apiextensions.v1beta1.CustomResourceDefinitionStatusCodec.DESERIALIZER, io.k8s.apiextensions.v1beta1.CustomResourceDefinitionStatusCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1beta1.CustomResourceDefinitionVersion.class, io.k8s.apiextensions.v1beta1.CustomResourceDefinitionVersionCodec.DESERIALIZER, io.k8s.apiextensions.v1beta1.CustomResourceDefinitionVersionCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1beta1.CustomResourceSubresourceScale.class, io.k8s.apiextensions.v1beta1.CustomResourceSubresourceScaleCodec.DESERIALIZER, io.k8s.apiextensions.v1beta1.CustomResourceSubresourceScaleCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1beta1.CustomResourceSubresourceStatus.class, io.k8s.apiextensions.v1beta1.CustomResourceSubresourceStatusCodec.DESERIALIZER, io.k8s.apiextensions.v1beta1.CustomResourceSubresourceStatusCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1beta1.CustomResourceSubresources.class, io.k8s.apiextensions.v1beta1.CustomResourceSubresourcesCodec.DESERIALIZER, io.k8s.apiextensions.v1beta1.CustomResourceSubresourcesCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1beta1.CustomResourceValidation.class, io.k8s.apiextensions.v1beta1.CustomResourceValidationCodec.DESERIALIZER, io.k8s.apiextensions.v1beta1.CustomResourceValidationCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1beta1.ExternalDocumentation.class, io.k8s.apiextensions.v1beta1.ExternalDocumentationCodec.DESERIALIZER, io.k8s.apiextensions.v1beta1.ExternalDocumentationCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1beta1.JSON.class, io.k8s.apiextensions.v1beta1.JSONCodec.DESERIALIZER, io.k8s.apiextensions.v1beta1.JSONCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1beta1.JSONSchemaProps.class, io.k8s.apiextensions.v1beta1.JSONSchemaPropsCodec.DESERIALIZER, io.k8s.apiextensions.v1beta1.JSONSchemaPropsCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1beta1.JSONSchemaPropsOrArray.class, io.k8s.apiextensions.v1beta1.JSONSchemaPropsOrArrayCodec.DESERIALIZER, io.k8s.apiextensions.v1beta1.JSONSchemaPropsOrArrayCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1beta1.JSONSchemaPropsOrBool.class, io.k8s.apiextensions.v1beta1.JSONSchemaPropsOrBoolCodec.DESERIALIZER, io.k8s.apiextensions.v1beta1.JSONSchemaPropsOrBoolCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1beta1.JSONSchemaPropsOrStringArray.class, io.k8s.apiextensions.v1beta1.JSONSchemaPropsOrStringArrayCodec.DESERIALIZER, io.k8s.apiextensions.v1beta1.JSONSchemaPropsOrStringArrayCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1beta1.ServiceReference.class, io.k8s.apiextensions.v1beta1.ServiceReferenceCodec.DESERIALIZER, io.k8s.apiextensions.v1beta1.ServiceReferenceCodec.SERIALIZER);
+        addCodec(io.k8s.apiextensions.v1beta1.WebhookClientConfig.class, io.k8s.apiextensions.v1beta1.WebhookClientConfigCodec.DESERIALIZER, io.k8s.apiextensions.v1beta1.WebhookClientConfigCodec.SERIALIZER);
+        addCodec(io.k8s.apiregistration.v1.APIService.class, io.k8s.apiregistration.v1.APIServiceCodec.DESERIALIZER, io.k8s.apiregistration.v1.APIServiceCodec.SERIALIZER);
+        addCodec(io.k8s.apiregistration.v1.APIServiceCondition.class, io.k8s.apiregistration.v1.APIServiceConditionCodec.DESERIALIZER, io.k8s.apiregistration.v1.APIServiceConditionCodec.SERIALIZER);
+        addCodec(io.k8s.apiregistration.v1.APIServiceList.class, io.k8s.apiregistration.v1.APIServiceListCodec.DESERIALIZER, io.k8s.apiregistration.v1.APIServiceListCodec.SERIALIZER);
+        addCodec(io.k8s.apiregistration.v1.APIServiceSpec.class, io.k8s.apiregistration.v1.APIServiceSpecCodec.DESERIALIZER, io.k8s.apiregistration.v1.APIServiceSpecCodec.SERIALIZER);
+        addCodec(io.k8s.apiregistration.v1.APIServiceStatus.class, io.k8s.apiregistration.v1.APIServiceStatusCodec.DESERIALIZER, io.k8s.apiregistration.v1.APIServiceStatusCodec.SERIALIZER);
+        addCodec(io.k8s.apiregistration.v1.ServiceReference.class, io.k8s.apiregistration.v1.ServiceReferenceCodec.DESERIALIZER, io.k8s.apiregistration.v1.ServiceReferenceCodec.SERIALIZER);
+        addCodec(io.k8s.apiregistration.v1beta1.APIService.class, io.k8s.apiregistration.v1beta1.APIServiceCodec.DESERIALIZER, io.k8s.apiregistration.v1beta1.APIServiceCodec.SERIALIZER);
+        addCodec(io.k8s.apiregistration.v1beta1.APIServiceCondition.class, io.k8s.apiregistration.v1beta1.APIServiceConditionCodec.DESERIALIZER, io.k8s.apiregistration.v1beta1.APIServiceConditionCodec.SERIALIZER);
+        addCodec(io.k8s.apiregistration.v1beta1.APIServiceList.class, io.k8s.apiregistration.v1beta1.APIServiceListCodec.DESERIALIZER, io.k8s.apiregistration.v1beta1.APIServiceListCodec.SERIALIZER);
+        addCodec(io.k8s.apiregistration.v1beta1.APIServiceSpec.class, io.k8s.apiregistration.v1beta1.APIServiceSpecCodec.DESERIALIZER, io.k8s.apiregistration.v1beta1.APIServiceSpecCodec.SERIALIZER);
+        addCodec(io.k8s.apiregistration.v1beta1.APIServiceStatus.class, io.k8s.apiregistration.v1beta1.APIServiceStatusCodec.DESERIALIZER, io.k8s.apiregistration.v1beta1.APIServiceStatusCodec.SERIALIZER);
+        addCodec(io.k8s.apiregistration.v1beta1.ServiceReference.class, io.k8s.apiregistration.v1beta1.ServiceReferenceCodec.DESERIALIZER, io.k8s.apiregistration.v1beta1.ServiceReferenceCodec.SERIALIZER);
+        addCodec(io.k8s.apps.v1.ControllerRevision.class, io.k8s.apps.v1.ControllerRevisionCodec.DESERIALIZER, io.k8s.apps.v1.ControllerRevisionCodec.SERIALIZER);
+        addCodec(io.k8s.apps.v1.ControllerRevisionList.class, io.k8s.apps.v1.ControllerRevisionListCodec.DESERIALIZER, io.k8s.apps.v1.ControllerRevisionListCodec.SERIALIZER);
+        addCodec(io.k8s.apps.v1.DaemonSet.class, io.k8s.apps.v1.DaemonSetCodec.DESERIALIZER, io.k8s.apps.v1.DaemonSetCodec.SERIALIZER);
+        addCodec(io.k8s.apps.v1.DaemonSetCondition.class, io.k8s.apps.v1.DaemonSetConditionCodec.DESERIALIZER, io.k8s.apps.v1.DaemonSetConditionCodec.SERIALIZER);
+        addCodec(io.k8s.apps.v1.DaemonSetList.class, io.k8s.apps.v1.DaemonSetListCodec.DESERIALIZER, io.k8s.apps.v1.DaemonSetListCodec.SERIALIZER);
+        addCodec(io.k8s.apps.v1.DaemonSetSpec.class, io.k8s.apps.v1.DaemonSetSpecCodec.DESERIALIZER, io.k8s.apps.v1.DaemonSetSpecCodec.SERIALIZER);
+        addCodec(io.k8s.apps.v1.DaemonSetStatus.class, io.k8s.apps.v1.DaemonSetStatusCodec.DESERIALIZER, io.k8s.apps.v1.DaemonSetStatusCodec.SERIALIZER);
+        addCodec(io.k8s.apps.v1.DaemonSetUpdateStrategy.class, io.k8s.apps.v1.DaemonSetUpdateStrategyCodec.DESERIALIZER, io.k8s.apps.v1.DaemonSetUpdateStrategyCodec.SERIALIZER);
+        addCodec(io.k8s.apps.v1.Deployment.class, io.k8s.apps.v1.DeploymentCodec.DESERIALIZER, io.k8s.apps.v1.DeploymentCodec.SERIALIZER);
+        addCodec(io.k8s.apps.v1.DeploymentCondition.class, io.k8s.apps.v1.DeploymentConditionCodec.DESERIALIZER, io.k8s.apps.v1.DeploymentConditionCodec.SERIALIZER);
+        addCodec(io.k8s.apps.v1.DeploymentList.class, io.k8s.apps.v1.DeploymentListCodec.DESERIALIZER, io.k8s.apps.v1.DeploymentListCodec.SERIALIZER);
+        addCodec(io.k8s.apps.v1.DeploymentSpec.class, io.k8s.apps.v1.DeploymentSpecCodec.DESERIALIZER, io.k8s.apps.v1.DeploymentSpecCodec.SERIALIZER);
+        addCodec(io.k8s.apps.v1.DeploymentStatus.class, io.k8s.apps.v1.DeploymentStatusCodec.DESERIALIZER, io.k8s.apps.v1.DeploymentStatusCodec.SERIALIZER);
+        addCodec(io.k8s.apps.v1.DeploymentStrategy.class, io.k8s.apps.v1.DeploymentStrategyCodec.DESERIALIZER, io.k8s.apps.v1.DeploymentStrategyCodec.SERIALIZER);
+        addCodec(io.k8s.apps.v1.ReplicaSet.class, io.k8s.apps.v1.ReplicaSetCodec.DESERIALIZER, io.k8s.apps.v1.ReplicaSetCodec.SERIALIZER);
+        addCodec(io.k8s.apps.v1.ReplicaSetCondition.class, io.k8s.apps.v1.ReplicaSetConditionCodec.DESERIALIZER, io.k8s.apps.v1.ReplicaSetConditionCodec.SERIALIZER);
+        addCodec(io.k8s.apps.v1.ReplicaSetList.class, io.k8s.apps.v1.ReplicaSetListCodec.DESERIALIZER, io.k8s.apps.v1.ReplicaSetListCodec.SERIALIZER);
+        addCodec(io.k8s.apps.v1.ReplicaSetSpec.class, io.k8s.apps.v1.ReplicaSetSpecCodec.DESERIALIZER, io.k8s.apps.v1.ReplicaSetSpecCodec.SERIALIZER);
+        addCodec(io.k8s.apps.v1.ReplicaSetStatus.class, io.k8s.apps.v1.ReplicaSetStatusCodec.DESERIALIZER, io.k8s.apps.v1.ReplicaSetStatusCodec.SERIALIZER);
+        addCodec(io.k8s.apps.v1.RollingUpdateDaemonSet.class, io.k8s.apps.v1.RollingUpdateDaemonSetCodec.DESERIALIZER, io.k8s.apps.v1.RollingUpdateDaemonSetCodec.SERIALIZER);
+        addCodec(io.k8s.apps.v1.RollingUpdateDeployment.class, io.k8s.apps.v1.RollingUpdateDeploymentCodec.DESERIALIZER, io.k8s.apps.v1.RollingUpdateDeploymentCodec.SERIALIZER);
+        addCodec(io.k8s.apps.v1.RollingUpdateStatefulSetStrategy.class, io.k8s.apps.v1.RollingUpdateStatefulSetStrategyCodec.DESERIALIZER, io.k8s.apps.v1.RollingUpdateStatefulSetStrategyCodec.SERIALIZER);
+        addCodec(io.k8s.apps.v1.StatefulSet.class, io.k8s.apps.v1.StatefulSetCodec.DESERIALIZER, io.k8s.apps.v1.StatefulSetCodec.SERIALIZER);
+        addCodec(io.k8s.apps.v1.StatefulSetCondition.class, io.k8s.apps.v1.StatefulSetConditionCodec.DESERIALIZER, io.k8s.apps.v1.StatefulSetConditionCodec.SERIALIZER);
+        addCodec(io.k8s.apps.v1.StatefulSetList.class, io.k8s.apps.v1.StatefulSetListCodec.DESERIALIZER, io.k8s.apps.v1.StatefulSetListCodec.SERIALIZER);
+        addCodec(io.k8s.apps.v1.StatefulSetSpec.class, io.k8s.apps.v1.StatefulSetSpecCodec.DESERIALIZER, io.k8s.apps.v1.StatefulSetSpecCodec.SERIALIZER);
+        addCodec(io.k8s.apps.v1.StatefulSetStatus.class, io.k8s.apps.v1.StatefulSetStatusCodec.DESERIALIZER, io.k8s.apps.v1.StatefulSetStatusCodec.SERIALIZER);
+        addCodec(io.k8s.apps.v1.StatefulSetUpdateStrategy.class, io.k8s.apps.v1.StatefulSetUpdateStrategyCodec.DESERIALIZER, io.k8s.apps.v1.StatefulSetUpdateStrategyCodec.SERIALIZER);
+        addCodec(io.k8s.authentication.v1.TokenReview.class, io.k8s.authentication.v1.TokenReviewCodec.DESERIALIZER, io.k8s.authentication.v1.TokenReviewCodec.SERIALIZER);
+        addCodec(io.k8s.authentication.v1.TokenReviewSpec.class, io.k8s.authentication.v1.TokenReviewSpecCodec.DESERIALIZER, io.k8s.authentication.v1.TokenReviewSpecCodec.SERIALIZER);
+        addCodec(io.k8s.authentication.v1.TokenReviewStatus.class, io.k8s.authentication.v1.TokenReviewStatusCodec.DESERIALIZER, io.k8s.authentication.v1.TokenReviewStatusCodec.SERIALIZER);
+        addCodec(io.k8s.authentication.v1.UserInfo.class, io.k8s.authentication.v1.UserInfoCodec.DESERIALIZER, io.k8s.authentication.v1.UserInfoCodec.SERIALIZER);
+        addCodec(io.k8s.authentication.v1beta1.TokenReview.class, io.k8s.authentication.v1beta1.TokenReviewCodec.DESERIALIZER, io.k8s.authentication.v1beta1.TokenReviewCodec.SERIALIZER);
+        addCodec(io.k8s.authentication.v1beta1.TokenReviewSpec.class, io.k8s.authentication.v1beta1.TokenReviewSpecCodec.DESERIALIZER, io.k8s.authentication.v1beta1.TokenReviewSpecCodec.SERIALIZER);
+        addCodec(io.k8s.authentication.v1beta1.TokenReviewStatus.class, io.k8s.authentication.v1beta1.TokenReviewStatusCodec.DESERIALIZER, io.k8s.authentication.v1beta1.TokenReviewStatusCodec.SERIALIZER);
+        addCodec(io.k8s.authentication.v1beta1.UserInfo.class, io.k8s.authentication.v1beta1.UserInfoCodec.DESERIALIZER, io.k8s.authentication.v1beta1.UserInfoCodec.SERIALIZER);
+        addCodec(io.k8s.authorization.v1.LocalSubjectAccessReview.class, io.k8s.authorization.v1.LocalSubjectAccessReviewCodec.DESERIALIZER, io.k8s.authorization.v1.LocalSubjectAccessReviewCodec.SERIALIZER);
+        addCodec(io.k8s.authorization.v1.NonResourceAttributes.class, io.k8s.authorization.v1.NonResourceAttributesCodec.DESERIALIZER, io.k8s.authorization.v1.NonResourceAttributesCodec.SERIALIZER);
+        addCodec(io.k8s.authorization.v1.NonResourceRule.class, io.k8s.authorization.v1.NonResourceRuleCodec.DESERIALIZER, io.k8s.authorization.v1.NonResourceRuleCodec.SERIALIZER);
+        addCodec(io.k8s.authorization.v1.ResourceAttributes.class, io.k8s.authorization.v1.ResourceAttributesCodec.DESERIALIZER, io.k8s.authorization.v1.ResourceAttributesCodec.SERIALIZER);
+        addCodec(io.k8s.authorization.v1.ResourceRule.class, io.k8s.authorization.v1.ResourceRuleCodec.DESERIALIZER, io.k8s.authorization.v1.ResourceRuleCodec.SERIALIZER);
+        addCodec(io.k8s.authorization.v1.SelfSubjectAccessReview.class, io.k8s.authorization.v1.SelfSubjectAccessReviewCodec.DESERIALIZER, io.k8s.authorization.v1.SelfSubjectAccessReviewCodec.SERIALIZER);
+        addCodec(io.k8s.authorization.v1.SelfSubjectAccessReviewSpec.class, io.k8s.authorization.v1.SelfSubjectAccessReviewSpecCodec.DESERIALIZER, io.k8s.authorization.v1.SelfSubjectAccessReviewSpecCodec.SERIALIZER);
+        addCodec(io.k8s.authorization.v1.SelfSubjectRulesReview.class, io.k8s.authorization.v1.SelfSubjectRulesReviewCodec.DESERIALIZER, io.k8s.authorization.v1.SelfSubjectRulesReviewCodec.SERIALIZER);
+        addCodec(io.k8s.authorization.v1.SelfSubjectRulesReviewSpec.class, io.k8s.authorization.v1.SelfSubjectRulesReviewSpecCodec.DESERIALIZER, io.k8s.authorization.v1.SelfSubjectRulesReviewSpecCodec.SERIALIZER);
+        addCodec(io.k8s.authorization.v1.SubjectAccessReview.class, io.k8s.authorization.v1.SubjectAccessReviewCodec.DESERIALIZER, io.k8s.authorization.v1.SubjectAccessReviewCodec.SERIALIZER);
+        addCodec(io.k8s.authorization.v1.SubjectAccessReviewSpec.class, io.k8s.authorization.v1.SubjectAccessReviewSpecCodec.DESERIALIZER, io.k8s.authorization.v1.SubjectAccessReviewSpecCodec.SERIALIZER);
+        addCodec(io.k8s.authorization.v1.SubjectAccessReviewStatus.class, io.k8s.authorization.v1.SubjectAccessReviewStatusCodec.DESERIALIZER, io.k8s.authorization.v1.SubjectAccessReviewStatusCodec.SERIALIZER);
+        addCodec(io.k8s.authorization.v1.SubjectRulesReviewStatus.class, io.k8s.authorization.v1.SubjectRulesReviewStatusCodec.DESERIALIZER, io.k8s.authorization.v1.SubjectRulesReviewStatusCodec.SERIALIZER);
+        addCodec(io.k8s.authorization.v1beta1.LocalSubjectAccessReview.class, io.k8s.authorization.v1beta1.LocalSubjectAccessReviewCodec.DESERIALIZER, io.k8s.authorization.v1beta1.LocalSubjectAccessReviewCodec.SERIALIZER);
+        addCodec(io.k8s.authorization.v1beta1.NonResourceAttributes.class, io.k8s.authorization.v1beta1.NonResourceAttributesCodec.DESERIALIZER, io.k8s.authorization.v1beta1.NonResourceAttributesCodec.SERIALIZER);
+        addCodec(io.k8s.authorization.v1beta1.NonResourceRule.class, io.k8s.authorization.v1beta1.NonResourceRuleCodec.DESERIALIZER, io.k8s.authorization.v1beta1.NonResourceRuleCodec.SERIALIZER);
+        addCodec(io.k8s.authorization.v1beta1.ResourceAttributes.class, io.k8s.authorization.v1beta1.ResourceAttributesCodec.DESERIALIZER, io.k8s.authorization.v1beta1.ResourceAttributesCodec.SERIALIZER);
+        addCodec(io.k8s.authorization.v1beta1.ResourceRule.class, io.k8s.authorization.v1beta1.ResourceRuleCodec.DESERIALIZER, io.k8s.authorization.v1beta1.ResourceRuleCodec.SERIALIZER);
+        addCodec(io.k8s.authorization.v1beta1.SelfSubjectAccessReview.class, io.k8s.authorization.v1beta1.SelfSubjectAccessReviewCodec.DESERIALIZER, io.k8s.authorization.v1beta1.SelfSubjectAccessReviewCodec.SERIALIZER);
+        addCodec(io.k8s.authorization.v1beta1.SelfSubjectAccessReviewSpec.class, io.k8s.authorization.v1beta1.SelfSubjectAccessReviewSpecCodec.DESERIALIZER, io.k8s.authorization.v1beta1.SelfSubjectAccessReviewSpecCodec.SERIALIZER);
+        addCodec(io.k8s.authorization.v1beta1.SelfSubjectRulesReview.class, io.k8s.authorization.v1beta1.SelfSubjectRulesReviewCodec.DESERIALIZER, io.k8s.authorization.v1beta1.SelfSubjectRulesReviewCodec.SERIALIZER);
+        addCodec(io.k8s.authorization.v1beta1.SelfSubjectRulesReviewSpec.class, io.k8s.authorization.v1beta1.SelfSubjectRulesReviewSpecCodec.DESERIALIZER, io.k8s.authorization.v1beta1.SelfSubjectRulesReviewSpecCodec.SERIALIZER);
+        addCodec(io.k8s.authorization.v1beta1.SubjectAccessReview.class, io.k8s.authorization.v1beta1.SubjectAccessReviewCodec.DESERIALIZER, io.k8s.authorization.v1beta1.SubjectAccessReviewCodec.SERIALIZER);
+        addCodec(io.k8s.authorization.v1beta1.SubjectAccessReviewSpec.class, io.k8s.authorization.v1beta1.SubjectAccessReviewSpecCodec.DESERIALIZER, io.k8s.authorization.v1beta1.SubjectAccessReviewSpecCodec.SERIALIZER);
+        addCodec(io.k8s.authorization.v1beta1.SubjectAccessReviewStatus.class, io.k8s.authorization.v1beta1.SubjectAccessReviewStatusCodec.DESERIALIZER, io.k8s.authorization.v1beta1.SubjectAccessReviewStatusCodec.SERIALIZER);
+        addCodec(io.k8s.authorization.v1beta1.SubjectRulesReviewStatus.class, io.k8s.authorization.v1beta1.SubjectRulesReviewStatusCodec.DESERIALIZER, io.k8s.authorization.v1beta1.SubjectRulesReviewStatusCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v1.CrossVersionObjectReference.class, io.k8s.autoscaling.v1.CrossVersionObjectReferenceCodec.DESERIALIZER, io.k8s.autoscaling.v1.CrossVersionObjectReferenceCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v1.HorizontalPodAutoscaler.class, io.k8s.autoscaling.v1.HorizontalPodAutoscalerCodec.DESERIALIZER, io.k8s.autoscaling.v1.HorizontalPodAutoscalerCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v1.HorizontalPodAutoscalerList.class, io.k8s.autoscaling.v1.HorizontalPodAutoscalerListCodec.DESERIALIZER, io.k8s.autoscaling.v1.HorizontalPodAutoscalerListCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v1.HorizontalPodAutoscalerSpec.class, io.k8s.autoscaling.v1.HorizontalPodAutoscalerSpecCodec.DESERIALIZER, io.k8s.autoscaling.v1.HorizontalPodAutoscalerSpecCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v1.HorizontalPodAutoscalerStatus.class, io.k8s.autoscaling.v1.HorizontalPodAutoscalerStatusCodec.DESERIALIZER, io.k8s.autoscaling.v1.HorizontalPodAutoscalerStatusCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v1.Scale.class, io.k8s.autoscaling.v1.ScaleCodec.DESERIALIZER, io.k8s.autoscaling.v1.ScaleCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v1.ScaleSpec.class, io.k8s.autoscaling.v1.ScaleSpecCodec.DESERIALIZER, io.k8s.autoscaling.v1.ScaleSpecCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v1.ScaleStatus.class, io.k8s.autoscaling.v1.ScaleStatusCodec.DESERIALIZER, io.k8s.autoscaling.v1.ScaleStatusCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta1.CrossVersionObjectReference.class, io.k8s.autoscaling.v2beta1.CrossVersionObjectReferenceCodec.DESERIALIZER, io.k8s.autoscaling.v2beta1.CrossVersionObjectReferenceCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta1.ExternalMetricSource.class, io.k8s.autoscaling.v2beta1.ExternalMetricSourceCodec.DESERIALIZER, io.k8s.autoscaling.v2beta1.ExternalMetricSourceCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta1.ExternalMetricStatus.class, io.k8s.autoscaling.v2beta1.ExternalMetricStatusCodec.DESERIALIZER, io.k8s.autoscaling.v2beta1.ExternalMetricStatusCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta1.HorizontalPodAutoscaler.class, io.k8s.autoscaling.v2beta1.HorizontalPodAutoscalerCodec.DESERIALIZER, io.k8s.autoscaling.v2beta1.HorizontalPodAutoscalerCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta1.HorizontalPodAutoscalerCondition.class, io.k8s.autoscaling.v2beta1.HorizontalPodAutoscalerConditionCodec.DESERIALIZER, io.k8s.autoscaling.v2beta1.HorizontalPodAutoscalerConditionCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta1.HorizontalPodAutoscalerList.class, io.k8s.autoscaling.v2beta1.HorizontalPodAutoscalerListCodec.DESERIALIZER, io.k8s.autoscaling.v2beta1.HorizontalPodAutoscalerListCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta1.HorizontalPodAutoscalerSpec.class, io.k8s.autoscaling.v2beta1.HorizontalPodAutoscalerSpecCodec.DESERIALIZER, io.k8s.autoscaling.v2beta1.HorizontalPodAutoscalerSpecCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta1.HorizontalPodAutoscalerStatus.class, io.k8s.autoscaling.v2beta1.HorizontalPodAutoscalerStatusCodec.DESERIALIZER, io.k8s.autoscaling.v2beta1.HorizontalPodAutoscalerStatusCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta1.MetricSpec.class, io.k8s.autoscaling.v2beta1.MetricSpecCodec.DESERIALIZER, io.k8s.autoscaling.v2beta1.MetricSpecCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta1.MetricStatus.class, io.k8s.autoscaling.v2beta1.MetricStatusCodec.DESERIALIZER, io.k8s.autoscaling.v2beta1.MetricStatusCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta1.ObjectMetricSource.class, io.k8s.autoscaling.v2beta1.ObjectMetricSourceCodec.DESERIALIZER, io.k8s.autoscaling.v2beta1.ObjectMetricSourceCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta1.ObjectMetricStatus.class, io.k8s.autoscaling.v2beta1.ObjectMetricStatusCodec.DESERIALIZER, io.k8s.autoscaling.v2beta1.ObjectMetricStatusCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta1.PodsMetricSource.class, io.k8s.autoscaling.v2beta1.PodsMetricSourceCodec.DESERIALIZER, io.k8s.autoscaling.v2beta1.PodsMetricSourceCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta1.PodsMetricStatus.class, io.k8s.autoscaling.v2beta1.PodsMetricStatusCodec.DESERIALIZER, io.k8s.autoscaling.v2beta1.PodsMetricStatusCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta1.ResourceMetricSource.class, io.k8s.autoscaling.v2beta1.ResourceMetricSourceCodec.DESERIALIZER, io.k8s.autoscaling.v2beta1.ResourceMetricSourceCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta1.ResourceMetricStatus.class, io.k8s.autoscaling.v2beta1.ResourceMetricStatusCodec.DESERIALIZER, io.k8s.autoscaling.v2beta1.ResourceMetricStatusCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta2.CrossVersionObjectReference.class, io.k8s.autoscaling.v2beta2.CrossVersionObjectReferenceCodec.DESERIALIZER, io.k8s.autoscaling.v2beta2.CrossVersionObjectReferenceCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta2.ExternalMetricSource.class, io.k8s.autoscaling.v2beta2.ExternalMetricSourceCodec.DESERIALIZER, io.k8s.autoscaling.v2beta2.ExternalMetricSourceCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta2.ExternalMetricStatus.class, io.k8s.autoscaling.v2beta2.ExternalMetricStatusCodec.DESERIALIZER, io.k8s.autoscaling.v2beta2.ExternalMetricStatusCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta2.HPAScalingPolicy.class, io.k8s.autoscaling.v2beta2.HPAScalingPolicyCodec.DESERIALIZER, io.k8s.autoscaling.v2beta2.HPAScalingPolicyCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta2.HPAScalingRules.class, io.k8s.autoscaling.v2beta2.HPAScalingRulesCodec.DESERIALIZER, io.k8s.autoscaling.v2beta2.HPAScalingRulesCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta2.HorizontalPodAutoscaler.class, io.k8s.autoscaling.v2beta2.HorizontalPodAutoscalerCodec.DESERIALIZER, io.k8s.autoscaling.v2beta2.HorizontalPodAutoscalerCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta2.HorizontalPodAutoscalerBehavior.class, io.k8s.autoscaling.v2beta2.HorizontalPodAutoscalerBehaviorCodec.DESERIALIZER, io.k8s.autoscaling.v2beta2.HorizontalPodAutoscalerBehaviorCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta2.HorizontalPodAutoscalerCondition.class, io.k8s.autoscaling.v2beta2.HorizontalPodAutoscalerConditionCodec.DESERIALIZER, io.k8s.autoscaling.v2beta2.HorizontalPodAutoscalerConditionCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta2.HorizontalPodAutoscalerList.class, io.k8s.autoscaling.v2beta2.HorizontalPodAutoscalerListCodec.DESERIALIZER, io.k8s.autoscaling.v2beta2.HorizontalPodAutoscalerListCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta2.HorizontalPodAutoscalerSpec.class, io.k8s.autoscaling.v2beta2.HorizontalPodAutoscalerSpecCodec.DESERIALIZER, io.k8s.autoscaling.v2beta2.HorizontalPodAutoscalerSpecCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta2.HorizontalPodAutoscalerStatus.class, io.k8s.autoscaling.v2beta2.HorizontalPodAutoscalerStatusCodec.DESERIALIZER, io.k8s.autoscaling.v2beta2.HorizontalPodAutoscalerStatusCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta2.MetricIdentifier.class, io.k8s.autoscaling.v2beta2.MetricIdentifierCodec.DESERIALIZER, io.k8s.autoscaling.v2beta2.MetricIdentifierCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta2.MetricSpec.class, io.k8s.autoscaling.v2beta2.MetricSpecCodec.DESERIALIZER, io.k8s.autoscaling.v2beta2.MetricSpecCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta2.MetricStatus.class, io.k8s.autoscaling.v2beta2.MetricStatusCodec.DESERIALIZER, io.k8s.autoscaling.v2beta2.MetricStatusCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta2.MetricTarget.class, io.k8s.autoscaling.v2beta2.MetricTargetCodec.DESERIALIZER, io.k8s.autoscaling.v2beta2.MetricTargetCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta2.MetricValueStatus.class, io.k8s.autoscaling.v2beta2.MetricValueStatusCodec.DESERIALIZER, io.k8s.autoscaling.v2beta2.MetricValueStatusCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta2.ObjectMetricSource.class, io.k8s.autoscaling.v2beta2.ObjectMetricSourceCodec.DESERIALIZER, io.k8s.autoscaling.v2beta2.ObjectMetricSourceCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta2.ObjectMetricStatus.class, io.k8s.autoscaling.v2beta2.ObjectMetricStatusCodec.DESERIALIZER, io.k8s.autoscaling.v2beta2.ObjectMetricStatusCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta2.PodsMetricSource.class, io.k8s.autoscaling.v2beta2.PodsMetricSourceCodec.DESERIALIZER, io.k8s.autoscaling.v2beta2.PodsMetricSourceCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta2.PodsMetricStatus.class, io.k8s.autoscaling.v2beta2.PodsMetricStatusCodec.DESERIALIZER, io.k8s.autoscaling.v2beta2.PodsMetricStatusCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta2.ResourceMetricSource.class, io.k8s.autoscaling.v2beta2.ResourceMetricSourceCodec.DESERIALIZER, io.k8s.autoscaling.v2beta2.ResourceMetricSourceCodec.SERIALIZER);
+        addCodec(io.k8s.autoscaling.v2beta2.ResourceMetricStatus.class, io.k8s.autoscaling.v2beta2.ResourceMetricStatusCodec.DESERIALIZER, io.k8s.autoscaling.v2beta2.ResourceMetricStatusCodec.SERIALIZER);
+        addCodec(io.k8s.batch.v1.Job.class, io.k8s.batch.v1.JobCodec.DESERIALIZER, io.k8s.batch.v1.JobCodec.SERIALIZER);
+        addCodec(io.k8s.batch.v1.JobCondition.class, io.k8s.batch.v1.JobConditionCodec.DESERIALIZER, io.k8s.batch.v1.JobConditionCodec.SERIALIZER);
+        addCodec(io.k8s.batch.v1.JobList.class, io.k8s.batch.v1.JobListCodec.DESERIALIZER, io.k8s.batch.v1.JobListCodec.SERIALIZER);
+        addCodec(io.k8s.batch.v1.JobSpec.class, io.k8s.batch.v1.JobSpecCodec.DESERIALIZER, io.k8s.batch.v1.JobSpecCodec.SERIALIZER);
+        addCodec(io.k8s.batch.v1.JobStatus.class, io.k8s.batch.v1.JobStatusCodec.DESERIALIZER, io.k8s.batch.v1.JobStatusCodec.SERIALIZER);
+        addCodec(io.k8s.batch.v1beta1.CronJob.class, io.k8s.batch.v1beta1.CronJobCodec.DESERIALIZER, io.k8s.batch.v1beta1.CronJobCodec.SERIALIZER);
+        addCodec(io.k8s.batch.v1beta1.CronJobList.class, io.k8s.batch.v1beta1.CronJobListCodec.DESERIALIZER, io.k8s.batch.v1beta1.CronJobListCodec.SERIALIZER);
+        addCodec(io.k8s.batch.v1beta1.CronJobSpec.class, io.k8s.batch.v1beta1.CronJobSpecCodec.DESERIALIZER, io.k8s.batch.v1beta1.CronJobSpecCodec.SERIALIZER);
+        addCodec(io.k8s.batch.v1beta1.CronJobStatus.class, io.k8s.batch.v1beta1.CronJobStatusCodec.DESERIALIZER, io.k8s.batch.v1beta1.CronJobStatusCodec.SERIALIZER);
+        addCodec(io.k8s.batch.v1beta1.JobTemplateSpec.class, io.k8s.batch.v1beta1.JobTemplateSpecCodec.DESERIALIZER, io.k8s.batch.v1beta1.JobTemplateSpecCodec.SERIALIZER);
+        addCodec(io.k8s.certificates.v1.CertificateSigningRequest.class, io.k8s.certificates.v1.CertificateSigningRequestCodec.DESERIALIZER, io.k8s.certificates.v1.CertificateSigningRequestCodec.SERIALIZER);
+        addCodec(io.k8s.certificates.v1.CertificateSigningRequestCondition.class, io.k8s.certificates.v1.CertificateSigningRequestConditionCodec.DESERIALIZER, io.k8s.certificates.v1.CertificateSigningRequestConditionCodec.SERIALIZER);
+        addCodec(io.k8s.certificates.v1.CertificateSigningRequestList.class, io.k8s.certificates.v1.CertificateSigningRequestListCodec.DESERIALIZER, io.k8s.certificates.v1.CertificateSigningRequestListCodec.SERIALIZER);
+        addCodec(io.k8s.certificates.v1.CertificateSigningRequestSpec.class, io.k8s.certificates.v1.CertificateSigningRequestSpecCodec.DESERIALIZER, io.k8s.certificates.v1.CertificateSigningRequestSpecCodec.SERIALIZER);
+        addCodec(io.k8s.certificates.v1.CertificateSigningRequestStatus.class, io.k8s.certificates.v1.CertificateSigningRequestStatusCodec.DESERIALIZER, io.k8s.certificates.v1.CertificateSigningRequestStatusCodec.SERIALIZER);
+        addCodec(io.k8s.certificates.v1beta1.CertificateSigningRequest.class, io.k8s.certificates.v1beta1.CertificateSigningRequestCodec.DESERIALIZER, io.k8s.certificates.v1beta1.CertificateSigningRequestCodec.SERIALIZER);
+        addCodec(io.k8s.certificates.v1beta1.CertificateSigningRequestCondition.class, io.k8s.certificates.v1beta1.CertificateSigningRequestConditionCodec.DESERIALIZER, io.k8s.certificates.v1beta1.CertificateSigningRequestConditionCodec.SERIALIZER);
+        addCodec(io.k8s.certificates.v1beta1.CertificateSigningRequestList.class, io.k8s.certificates.v1beta1.CertificateSigningRequestListCodec.DESERIALIZER, io.k8s.certificates.v1beta1.CertificateSigningRequestListCodec.SERIALIZER);
+        addCodec(io.k8s.certificates.v1beta1.CertificateSigningRequestSpec.class, io.k8s.certificates.v1beta1.CertificateSigningRequestSpecCodec.DESERIALIZER, io.k8s.certificates.v1beta1.CertificateSigningRequestSpecCodec.SERIALIZER);
+        addCodec(io.k8s.certificates.v1beta1.CertificateSigningRequestStatus.class, io.k8s.certificates.v1beta1.CertificateSigningRequestStatusCodec.DESERIALIZER, io.k8s.certificates.v1beta1.CertificateSigningRequestStatusCodec.SERIALIZER);
+        addCodec(io.k8s.coordination.v1.Lease.class, io.k8s.coordination.v1.LeaseCodec.DESERIALIZER, io.k8s.coordination.v1.LeaseCodec.SERIALIZER);
+        addCodec(io.k8s.coordination.v1.LeaseList.class, io.k8s.coordination.v1.LeaseListCodec.DESERIALIZER, io.k8s.coordination.v1.LeaseListCodec.SERIALIZER);
+        addCodec(io.k8s.coordination.v1.LeaseSpec.class, io.k8s.coordination.v1.LeaseSpecCodec.DESERIALIZER, io.k8s.coordination.v1.LeaseSpecCodec.SERIALIZER);
+        addCodec(io.k8s.coordination.v1beta1.Lease.class, io.k8s.coordination.v1beta1.LeaseCodec.DESERIALIZER, io.k8s.coordination.v1beta1.LeaseCodec.SERIALIZER);
+        addCodec(io.k8s.coordination.v1beta1.LeaseList.class, io.k8s.coordination.v1beta1.LeaseListCodec.DESERIALIZER, io.k8s.coordination.v1beta1.LeaseListCodec.SERIALIZER);
+        addCodec(io.k8s.coordination.v1beta1.LeaseSpec.class, io.k8s.coordination.v1beta1.LeaseSpecCodec.DESERIALIZER, io.k8s.coordination.v1beta1.LeaseSpecCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.AWSElasticBlockStoreVolumeSource.class, io.k8s.core.v1.AWSElasticBlockStoreVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.AWSElasticBlockStoreVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.Affinity.class, io.k8s.core.v1.AffinityCodec.DESERIALIZER, io.k8s.core.v1.AffinityCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.AttachedVolume.class, io.k8s.core.v1.AttachedVolumeCodec.DESERIALIZER, io.k8s.core.v1.AttachedVolumeCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.AzureDiskVolumeSource.class, io.k8s.core.v1.AzureDiskVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.AzureDiskVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.AzureFilePersistentVolumeSource.class, io.k8s.core.v1.AzureFilePersistentVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.AzureFilePersistentVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.AzureFileVolumeSource.class, io.k8s.core.v1.AzureFileVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.AzureFileVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.Binding.class, io.k8s.core.v1.BindingCodec.DESERIALIZER, io.k8s.core.v1.BindingCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.CSIPersistentVolumeSource.class, io.k8s.core.v1.CSIPersistentVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.CSIPersistentVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.CSIVolumeSource.class, io.k8s.core.v1.CSIVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.CSIVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.Capabilities.class, io.k8s.core.v1.CapabilitiesCodec.DESERIALIZER, io.k8s.core.v1.CapabilitiesCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.CephFSPersistentVolumeSource.class, io.k8s.core.v1.CephFSPersistentVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.CephFSPersistentVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.CephFSVolumeSource.class, io.k8s.core.v1.CephFSVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.CephFSVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.CinderPersistentVolumeSource.class, io.k8s.core.v1.CinderPersistentVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.CinderPersistentVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.CinderVolumeSource.class, io.k8s.core.v1.CinderVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.CinderVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ClientIPConfig.class, io.k8s.core.v1.ClientIPConfigCodec.DESERIALIZER, io.k8s.core.v1.ClientIPConfigCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ComponentCondition.class, io.k8s.core.v1.ComponentConditionCodec.DESERIALIZER, io.k8s.core.v1.ComponentConditionCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ComponentStatus.class, io.k8s.core.v1.ComponentStatusCodec.DESERIALIZER, io.k8s.core.v1.ComponentStatusCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ComponentStatusList.class, io.k8s.core.v1.ComponentStatusListCodec.DESERIALIZER, io.k8s.core.v1.ComponentStatusListCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ConfigMap.class, io.k8s.core.v1.ConfigMapCodec.DESERIALIZER, io.k8s.core.v1.ConfigMapCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ConfigMapEnvSource.class, io.k8s.core.v1.ConfigMapEnvSourceCodec.DESERIALIZER, io.k8s.core.v1.ConfigMapEnvSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ConfigMapKeySelector.class, io.k8s.core.v1.ConfigMapKeySelectorCodec.DESERIALIZER, io.k8s.core.v1.ConfigMapKeySelectorCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ConfigMapList.class, io.k8s.core.v1.ConfigMapListCodec.DESERIALIZER, io.k8s.core.v1.ConfigMapListCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ConfigMapNodeConfigSource.class, io.k8s.core.v1.ConfigMapNodeConfigSourceCodec.DESERIALIZER, io.k8s.core.v1.ConfigMapNodeConfigSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ConfigMapProjection.class, io.k8s.core.v1.ConfigMapProjectionCodec.DESERIALIZER, io.k8s.core.v1.ConfigMapProjectionCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ConfigMapVolumeSource.class, io.k8s.core.v1.ConfigMapVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.ConfigMapVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.Container.class, io.k8s.core.v1.ContainerCodec.DESERIALIZER, io.k8s.core.v1.ContainerCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ContainerImage.class, io.k8s.core.v1.ContainerImageCodec.DESERIALIZER, io.k8s.core.v1.ContainerImageCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ContainerPort.class, io.k8s.core.v1.ContainerPortCodec.DESERIALIZER, io.k8s.core.v1.ContainerPortCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ContainerState.class, io.k8s.core.v1.ContainerStateCodec.DESERIALIZER, io.k8s.core.v1.ContainerStateCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ContainerStateRunning.class, io.k8s.core.v1.ContainerStateRunningCodec.DESERIALIZER, io.k8s.core.v1.ContainerStateRunningCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ContainerStateTerminated.class, io.k8s.core.v1.ContainerStateTerminatedCodec.DESERIALIZER, io.k8s.core.v1.ContainerStateTerminatedCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ContainerStateWaiting.class, io.k8s.core.v1.ContainerStateWaitingCodec.DESERIALIZER, io.k8s.core.v1.ContainerStateWaitingCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ContainerStatus.class, io.k8s.core.v1.ContainerStatusCodec.DESERIALIZER, io.k8s.core.v1.ContainerStatusCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.DaemonEndpoint.class, io.k8s.core.v1.DaemonEndpointCodec.DESERIALIZER, io.k8s.core.v1.DaemonEndpointCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.DownwardAPIProjection.class, io.k8s.core.v1.DownwardAPIProjectionCodec.DESERIALIZER, io.k8s.core.v1.DownwardAPIProjectionCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.DownwardAPIVolumeFile.class, io.k8s.core.v1.DownwardAPIVolumeFileCodec.DESERIALIZER, io.k8s.core.v1.DownwardAPIVolumeFileCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.DownwardAPIVolumeSource.class, io.k8s.core.v1.DownwardAPIVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.DownwardAPIVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.EmptyDirVolumeSource.class, io.k8s.core.v1.EmptyDirVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.EmptyDirVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.EndpointAddress.class, io.k8s.core.v1.EndpointAddressCodec.DESERIALIZER, io.k8s.core.v1.EndpointAddressCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.EndpointPort.class, io.k8s.core.v1.EndpointPortCodec.DESERIALIZER, io.k8s.core.v1.EndpointPortCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.EndpointSubset.class, io.k8s.core.v1.EndpointSubsetCodec.DESERIALIZER, io.k8s.core.v1.EndpointSubsetCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.Endpoints.class, io.k8s.core.v1.EndpointsCodec.DESERIALIZER, io.k8s.core.v1.EndpointsCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.EndpointsList.class, io.k8s.core.v1.EndpointsListCodec.DESERIALIZER, io.k8s.core.v1.EndpointsListCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.EnvFromSource.class, io.k8s.core.v1.EnvFromSourceCodec.DESERIALIZER, io.k8s.core.v1.EnvFromSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.EnvVar.class, io.k8s.core.v1.EnvVarCodec.DESERIALIZER, io.k8s.core.v1.EnvVarCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.EnvVarSource.class, io.k8s.core.v1.EnvVarSourceCodec.DESERIALIZER, io.k8s.core.v1.EnvVarSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.EphemeralContainer.class, io.k8s.core.v1.EphemeralContainerCodec.DESERIALIZER, io.k8s.core.v1.EphemeralContainerCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.EphemeralVolumeSource.class, io.k8s.core.v1.EphemeralVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.EphemeralVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.Event.class, io.k8s.core.v1.EventCodec.DESERIALIZER, io.k8s.core.v1.EventCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.EventList.class, io.k8s.core.v1.EventListCodec.DESERIALIZER, io.k8s.core.v1.EventListCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.EventSeries.class, io.k8s.core.v1.EventSeriesCodec.DESERIALIZER, io.k8s.core.v1.EventSeriesCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.EventSource.class, io.k8s.core.v1.EventSourceCodec.DESERIALIZER, io.k8s.core.v1.EventSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ExecAction.class, io.k8s.core.v1.ExecActionCodec.DESERIALIZER, io.k8s.core.v1.ExecActionCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.FCVolumeSource.class, io.k8s.core.v1.FCVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.FCVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.FlexPersistentVolumeSource.class, io.k8s.core.v1.FlexPersistentVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.FlexPersistentVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.FlexVolumeSource.class, io.k8s.core.v1.FlexVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.FlexVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.FlockerVolumeSource.class, io.k8s.core.v1.FlockerVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.FlockerVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.GCEPersistentDiskVolumeSource.class, io.k8s.core.v1.GCEPersistentDiskVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.GCEPersistentDiskVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.GitRepoVolumeSource.class, io.k8s.core.v1.GitRepoVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.GitRepoVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.GlusterfsPersistentVolumeSource.class, io.k8s.core.v1.GlusterfsPersistentVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.GlusterfsPersistentVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.GlusterfsVolumeSource.class, io.k8s.core.v1.GlusterfsVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.GlusterfsVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.HTTPGetAction.class, io.k8s.core.v1.HTTPGetActionCodec.DESERIALIZER, io.k8s.core.v1.HTTPGetActionCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.HTTPHeader.class, io.k8s.core.v1.HTTPHeaderCodec.DESERIALIZER, io.k8s.core.v1.HTTPHeaderCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.Handler.class, io.k8s.core.v1.HandlerCodec.DESERIALIZER, io.k8s.core.v1.HandlerCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.HostAlias.class, io.k8s.core.v1.HostAliasCodec.DESERIALIZER, io.k8s.core.v1.HostAliasCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.HostPathVolumeSource.class, io.k8s.core.v1.HostPathVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.HostPathVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ISCSIPersistentVolumeSource.class, io.k8s.core.v1.ISCSIPersistentVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.ISCSIPersistentVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ISCSIVolumeSource.class, io.k8s.core.v1.ISCSIVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.ISCSIVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.KeyToPath.class, io.k8s.core.v1.KeyToPathCodec.DESERIALIZER, io.k8s.core.v1.KeyToPathCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.Lifecycle.class, io.k8s.core.v1.LifecycleCodec.DESERIALIZER, io.k8s.core.v1.LifecycleCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.LimitRange.class, io.k8s.core.v1.LimitRangeCodec.DESERIALIZER, io.k8s.core.v1.LimitRangeCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.LimitRangeItem.class, io.k8s.core.v1.LimitRangeItemCodec.DESERIALIZER, io.k8s.core.v1.LimitRangeItemCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.LimitRangeList.class, io.k8s.core.v1.LimitRangeListCodec.DESERIALIZER, io.k8s.core.v1.LimitRangeListCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.LimitRangeSpec.class, io.k8s.core.v1.LimitRangeSpecCodec.DESERIALIZER, io.k8s.core.v1.LimitRangeSpecCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.LoadBalancerIngress.class, io.k8s.core.v1.LoadBalancerIngressCodec.DESERIALIZER, io.k8s.core.v1.LoadBalancerIngressCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.LoadBalancerStatus.class, io.k8s.core.v1.LoadBalancerStatusCodec.DESERIALIZER, io.k8s.core.v1.LoadBalancerStatusCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.LocalObjectReference.class, io.k8s.core.v1.LocalObjectReferenceCodec.DESERIALIZER, io.k8s.core.v1.LocalObjectReferenceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.LocalVolumeSource.class, io.k8s.core.v1.LocalVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.LocalVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.NFSVolumeSource.class, io.k8s.core.v1.NFSVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.NFSVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.Namespace.class, io.k8s.core.v1.NamespaceCodec.DESERIALIZER, io.k8s.core.v1.NamespaceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.NamespaceCondition.class, io.k8s.core.v1.NamespaceConditionCodec.DESERIALIZER, io.k8s.core.v1.NamespaceConditionCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.NamespaceList.class, io.k8s.core.v1.NamespaceListCodec.DESERIALIZER, io.k8s.core.v1.NamespaceListCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.NamespaceSpec.class, io.k8s.core.v1.NamespaceSpecCodec.DESERIALIZER, io.k8s.core.v1.NamespaceSpecCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.NamespaceStatus.class, io.k8s.core.v1.NamespaceStatusCodec.DESERIALIZER, io.k8s.core.v1.NamespaceStatusCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.Node.class, io.k8s.core.v1.NodeCodec.DESERIALIZER, io.k8s.core.v1.NodeCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.NodeAddress.class, io.k8s.core.v1.NodeAddressCodec.DESERIALIZER, io.k8s.core.v1.NodeAddressCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.NodeAffinity.class, io.k8s.core.v1.NodeAffinityCodec.DESERIALIZER, io.k8s.core.v1.NodeAffinityCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.NodeCondition.class, io.k8s.core.v1.NodeConditionCodec.DESERIALIZER, io.k8s.core.v1.NodeConditionCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.NodeConfigSource.class, io.k8s.core.v1.NodeConfigSourceCodec.DESERIALIZER, io.k8s.core.v1.NodeConfigSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.NodeConfigStatus.class, io.k8s.core.v1.NodeConfigStatusCodec.DESERIALIZER, io.k8s.core.v1.NodeConfigStatusCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.NodeDaemonEndpoints.class, io.k8s.core.v1.NodeDaemonEndpointsCodec.DESERIALIZER, io.k8s.core.v1.NodeDaemonEndpointsCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.NodeList.class, io.k8s.core.v1.NodeListCodec.DESERIALIZER, io.k8s.core.v1.NodeListCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.NodeSelector.class, io.k8s.core.v1.NodeSelectorCodec.DESERIALIZER, io.k8s.core.v1.NodeSelectorCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.NodeSelectorRequirement.class, io.k8s.core.v1.NodeSelectorRequirementCodec.DESERIALIZER, io.k8s.core.v1.NodeSelectorRequirementCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.NodeSelectorTerm.class, io.k8s.core.v1.NodeSelectorTermCodec.DESERIALIZER, io.k8s.core.v1.NodeSelectorTermCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.NodeSpec.class, io.k8s.core.v1.NodeSpecCodec.DESERIALIZER, io.k8s.core.v1.NodeSpecCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.NodeStatus.class, io.k8s.core.v1.NodeStatusCodec.DESERIALIZER, io.k8s.core.v1.NodeStatusCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.NodeSystemInfo.class, io.k8s.core.v1.NodeSystemInfoCodec.DESERIALIZER, io.k8s.core.v1.NodeSystemInfoCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ObjectFieldSelector.class, io.k8s.core.v1.ObjectFieldSelectorCodec.DESERIALIZER, io.k8s.core.v1.ObjectFieldSelectorCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ObjectReference.class, io.k8s.core.v1.ObjectReferenceCodec.DESERIALIZER, io.k8s.core.v1.ObjectReferenceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.PersistentVolume.class, io.k8s.core.v1.PersistentVolumeCodec.DESERIALIZER, io.k8s.core.v1.PersistentVolumeCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.PersistentVolumeClaim.class, io.k8s.core.v1.PersistentVolumeClaimCodec.DESERIALIZER, io.k8s.core.v1.PersistentVolumeClaimCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.PersistentVolumeClaimCondition.class, io.k8s.core.v1.PersistentVolumeClaimConditionCodec.DESERIALIZER, io.k8s.core.v1.PersistentVolumeClaimConditionCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.PersistentVolumeClaimList.class, io.k8s.core.v1.PersistentVolumeClaimListCodec.DESERIALIZER, io.k8s.core.v1.PersistentVolumeClaimListCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.PersistentVolumeClaimSpec.class, io.k8s.core.v1.PersistentVolumeClaimSpecCodec.DESERIALIZER, io.k8s.core.v1.PersistentVolumeClaimSpecCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.PersistentVolumeClaimStatus.class, io.k8s.core.v1.PersistentVolumeClaimStatusCodec.DESERIALIZER, io.k8s.core.v1.PersistentVolumeClaimStatusCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.PersistentVolumeClaimTemplate.class, io.k8s.core.v1.PersistentVolumeClaimTemplateCodec.DESERIALIZER, io.k8s.core.v1.PersistentVolumeClaimTemplateCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.PersistentVolumeClaimVolumeSource.class, io.k8s.core.v1.PersistentVolumeClaimVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.PersistentVolumeClaimVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.PersistentVolumeList.class, io.k8s.core.v1.PersistentVolumeListCodec.DESERIALIZER, io.k8s.core.v1.PersistentVolumeListCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.PersistentVolumeSpec.class, io.k8s.core.v1.PersistentVolumeSpecCodec.DESERIALIZER, io.k8s.core.v1.PersistentVolumeSpecCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.PersistentVolumeStatus.class, io.k8s.core.v1.PersistentVolumeStatusCodec.DESERIALIZER, io.k8s.core.v1.PersistentVolumeStatusCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.PhotonPersistentDiskVolumeSource.class, io.k8s.core.v1.PhotonPersistentDiskVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.PhotonPersistentDiskVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.Pod.class, io.k8s.core.v1.PodCodec.DESERIALIZER, io.k8s.core.v1.PodCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.PodAffinity.class, io.k8s.core.v1.PodAffinityCodec.DESERIALIZER, io.k8s.core.v1.PodAffinityCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.PodAffinityTerm.class, io.k8s.core.v1.PodAffinityTermCodec.DESERIALIZER, io.k8s.core.v1.PodAffinityTermCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.PodAntiAffinity.class, io.k8s.core.v1.PodAntiAffinityCodec.DESERIALIZER, io.k8s.core.v1.PodAntiAffinityCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.PodCondition.class, io.k8s.core.v1.PodConditionCodec.DESERIALIZER, io.k8s.core.v1.PodConditionCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.PodDNSConfig.class, io.k8s.core.v1.PodDNSConfigCodec.DESERIALIZER, io.k8s.core.v1.PodDNSConfigCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.PodDNSConfigOption.class, io.k8s.core.v1.PodDNSConfigOptionCodec.DESERIALIZER, io.k8s.core.v1.PodDNSConfigOptionCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.PodIP.class, io.k8s.core.v1.PodIPCodec.DESERIALIZER, io.k8s.core.v1.PodIPCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.PodList.class, io.k8s.core.v1.PodListCodec.DESERIALIZER, io.k8s.core.v1.PodListCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.PodReadinessGate.class, io.k8s.core.v1.PodReadinessGateCodec.DESERIALIZER, io.k8s.core.v1.PodReadinessGateCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.PodSecurityContext.class, io.k8s.core.v1.PodSecurityContextCodec.DESERIALIZER, io.k8s.core.v1.PodSecurityContextCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.PodSpec.class, io.k8s.core.v1.PodSpecCodec.DESERIALIZER, io.k8s.core.v1.PodSpecCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.PodStatus.class, io.k8s.core.v1.PodStatusCodec.DESERIALIZER, io.k8s.core.v1.PodStatusCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.PodTemplate.class, io.k8s.core.v1.PodTemplateCodec.DESERIALIZER, io.k8s.core.v1.PodTemplateCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.PodTemplateList.class, io.k8s.core.v1.PodTemplateListCodec.DESERIALIZER, io.k8s.core.v1.PodTemplateListCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.PodTemplateSpec.class, io.k8s.core.v1.PodTemplateSpecCodec.DESERIALIZER, io.k8s.core.v1.PodTemplateSpecCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.PortworxVolumeSource.class, io.k8s.core.v1.PortworxVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.PortworxVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.PreferredSchedulingTerm.class, io.k8s.core.v1.PreferredSchedulingTermCodec.DESERIALIZER, io.k8s.core.v1.PreferredSchedulingTermCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.Probe.class, io.k8s.core.v1.ProbeCodec.DESERIALIZER, io.k8s.core.v1.ProbeCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ProjectedVolumeSource.class, io.k8s.core.v1.ProjectedVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.ProjectedVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.QuobyteVolumeSource.class, io.k8s.core.v1.QuobyteVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.QuobyteVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.RBDPersistentVolumeSource.class, io.k8s.core.v1.RBDPersistentVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.RBDPersistentVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.RBDVolumeSource.class, io.k8s.core.v1.RBDVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.RBDVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ReplicationController.class, io.k8s.core.v1.ReplicationControllerCodec.DESERIALIZER, io.k8s.core.v1.ReplicationControllerCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ReplicationControllerCondition.class, io.k8s.core.v1.ReplicationControllerConditionCodec.DESERIALIZER, io.k8s.core.v1.ReplicationControllerConditionCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ReplicationControllerList.class, io.k8s.core.v1.ReplicationControllerListCodec.DESERIALIZER, io.k8s.core.v1.ReplicationControllerListCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ReplicationControllerSpec.class, io.k8s.core.v1.ReplicationControllerSpecCodec.DESERIALIZER, io.k8s.core.v1.ReplicationControllerSpecCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ReplicationControllerStatus.class, io.k8s.core.v1.ReplicationControllerStatusCodec.DESERIALIZER, io.k8s.core.v1.ReplicationControllerStatusCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ResourceFieldSelector.class, io.k8s.core.v1.ResourceFieldSelectorCodec.DESERIALIZER, io.k8s.core.v1.ResourceFieldSelectorCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ResourceQuota.class, io.k8s.core.v1.ResourceQuotaCodec.DESERIALIZER, io.k8s.core.v1.ResourceQuotaCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ResourceQuotaList.class, io.k8s.core.v1.ResourceQuotaListCodec.DESERIALIZER, io.k8s.core.v1.ResourceQuotaListCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ResourceQuotaSpec.class, io.k8s.core.v1.ResourceQuotaSpecCodec.DESERIALIZER, io.k8s.core.v1.ResourceQuotaSpecCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ResourceQuotaStatus.class, io.k8s.core.v1.ResourceQuotaStatusCodec.DESERIALIZER, io.k8s.core.v1.ResourceQuotaStatusCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ResourceRequirements.class, io.k8s.core.v1.ResourceRequirementsCodec.DESERIALIZER, io.k8s.core.v1.ResourceRequirementsCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.SELinuxOptions.class, io.k8s.core.v1.SELinuxOptionsCodec.DESERIALIZER, io.k8s.core.v1.SELinuxOptionsCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ScaleIOPersistentVolumeSource.class, io.k8s.core.v1.ScaleIOPersistentVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.ScaleIOPersistentVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ScaleIOVolumeSource.class, io.k8s.core.v1.ScaleIOVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.ScaleIOVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ScopeSelector.class, io.k8s.core.v1.ScopeSelectorCodec.DESERIALIZER, io.k8s.core.v1.ScopeSelectorCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ScopedResourceSelectorRequirement.class, io.k8s.core.v1.ScopedResourceSelectorRequirementCodec.DESERIALIZER, io.k8s.core.v1.ScopedResourceSelectorRequirementCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.SeccompProfile.class, io.k8s.core.v1.SeccompProfileCodec.DESERIALIZER, io.k8s.core.v1.SeccompProfileCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.Secret.class, io.k8s.core.v1.SecretCodec.DESERIALIZER, io.k8s.core.v1.SecretCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.SecretEnvSource.class, io.k8s.core.v1.SecretEnvSourceCodec.DESERIALIZER, io.k8s.core.v1.SecretEnvSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.SecretKeySelector.class, io.k8s.core.v1.SecretKeySelectorCodec.DESERIALIZER, io.k8s.core.v1.SecretKeySelectorCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.SecretList.class, io.k8s.core.v1.SecretListCodec.DESERIALIZER, io.k8s.core.v1.SecretListCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.SecretProjection.class, io.k8s.core.v1.SecretProjectionCodec.DESERIALIZER, io.k8s.core.v1.SecretProjectionCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.SecretReference.class, io.k8s.core.v1.SecretReferenceCodec.DESERIALIZER, io.k8s.core.v1.SecretReferenceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.SecretVolumeSource.class, io.k8s.core.v1.SecretVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.SecretVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.SecurityContext.class, io.k8s.core.v1.SecurityContextCodec.DESERIALIZER, io.k8s.core.v1.SecurityContextCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.Service.class, io.k8s.core.v1.ServiceCodec.DESERIALIZER, io.k8s.core.v1.ServiceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ServiceAccount.class, io.k8s.core.v1.ServiceAccountCodec.DESERIALIZER, io.k8s.core.v1.ServiceAccountCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ServiceAccountList.class, io.k8s.core.v1.ServiceAccountListCodec.DESERIALIZER, io.k8s.core.v1.ServiceAccountListCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ServiceAccountTokenProjection.class, io.k8s.core.v1.ServiceAccountTokenProjectionCodec.DESERIALIZER, io.k8s.core.v1.ServiceAccountTokenProjectionCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ServiceList.class, io.k8s.core.v1.ServiceListCodec.DESERIALIZER, io.k8s.core.v1.ServiceListCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ServicePort.class, io.k8s.core.v1.ServicePortCodec.DESERIALIZER, io.k8s.core.v1.ServicePortCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ServiceSpec.class, io.k8s.core.v1.ServiceSpecCodec.DESERIALIZER, io.k8s.core.v1.ServiceSpecCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.ServiceStatus.class, io.k8s.core.v1.ServiceStatusCodec.DESERIALIZER, io.k8s.core.v1.ServiceStatusCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.SessionAffinityConfig.class, io.k8s.core.v1.SessionAffinityConfigCodec.DESERIALIZER, io.k8s.core.v1.SessionAffinityConfigCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.StorageOSPersistentVolumeSource.class, io.k8s.core.v1.StorageOSPersistentVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.StorageOSPersistentVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.StorageOSVolumeSource.class, io.k8s.core.v1.StorageOSVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.StorageOSVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.Sysctl.class, io.k8s.core.v1.SysctlCodec.DESERIALIZER, io.k8s.core.v1.SysctlCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.TCPSocketAction.class, io.k8s.core.v1.TCPSocketActionCodec.DESERIALIZER, io.k8s.core.v1.TCPSocketActionCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.Taint.class, io.k8s.core.v1.TaintCodec.DESERIALIZER, io.k8s.core.v1.TaintCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.Toleration.class, io.k8s.core.v1.TolerationCodec.DESERIALIZER, io.k8s.core.v1.TolerationCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.TopologySelectorLabelRequirement.class, io.k8s.core.v1.TopologySelectorLabelRequirementCodec.DESERIALIZER, io.k8s.core.v1.TopologySelectorLabelRequirementCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.TopologySelectorTerm.class, io.k8s.core.v1.TopologySelectorTermCodec.DESERIALIZER, io.k8s.core.v1.TopologySelectorTermCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.TopologySpreadConstraint.class, io.k8s.core.v1.TopologySpreadConstraintCodec.DESERIALIZER, io.k8s.core.v1.TopologySpreadConstraintCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.TypedLocalObjectReference.class, io.k8s.core.v1.TypedLocalObjectReferenceCodec.DESERIALIZER, io.k8s.core.v1.TypedLocalObjectReferenceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.Volume.class, io.k8s.core.v1.VolumeCodec.DESERIALIZER, io.k8s.core.v1.VolumeCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.VolumeDevice.class, io.k8s.core.v1.VolumeDeviceCodec.DESERIALIZER, io.k8s.core.v1.VolumeDeviceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.VolumeMount.class, io.k8s.core.v1.VolumeMountCodec.DESERIALIZER, io.k8s.core.v1.VolumeMountCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.VolumeNodeAffinity.class, io.k8s.core.v1.VolumeNodeAffinityCodec.DESERIALIZER, io.k8s.core.v1.VolumeNodeAffinityCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.VolumeProjection.class, io.k8s.core.v1.VolumeProjectionCodec.DESERIALIZER, io.k8s.core.v1.VolumeProjectionCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.VsphereVirtualDiskVolumeSource.class, io.k8s.core.v1.VsphereVirtualDiskVolumeSourceCodec.DESERIALIZER, io.k8s.core.v1.VsphereVirtualDiskVolumeSourceCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.WeightedPodAffinityTerm.class, io.k8s.core.v1.WeightedPodAffinityTermCodec.DESERIALIZER, io.k8s.core.v1.WeightedPodAffinityTermCodec.SERIALIZER);
+        addCodec(io.k8s.core.v1.WindowsSecurityContextOptions.class, io.k8s.core.v1.WindowsSecurityContextOptionsCodec.DESERIALIZER, io.k8s.core.v1.WindowsSecurityContextOptionsCodec.SERIALIZER);
+        addCodec(io.k8s.discovery.v1beta1.Endpoint.class, io.k8s.discovery.v1beta1.EndpointCodec.DESERIALIZER, io.k8s.discovery.v1beta1.EndpointCodec.SERIALIZER);
+        addCodec(io.k8s.discovery.v1beta1.EndpointConditions.class, io.k8s.discovery.v1beta1.EndpointConditionsCodec.DESERIALIZER, io.k8s.discovery.v1beta1.EndpointConditionsCodec.SERIALIZER);
+        addCodec(io.k8s.discovery.v1beta1.EndpointPort.class, io.k8s.discovery.v1beta1.EndpointPortCodec.DESERIALIZER, io.k8s.discovery.v1beta1.EndpointPortCodec.SERIALIZER);
+        addCodec(io.k8s.discovery.v1beta1.EndpointSlice.class, io.k8s.discovery.v1beta1.EndpointSliceCodec.DESERIALIZER, io.k8s.discovery.v1beta1.EndpointSliceCodec.SERIALIZER);
+        addCodec(io.k8s.discovery.v1beta1.EndpointSliceList.class, io.k8s.discovery.v1beta1.EndpointSliceListCodec.DESERIALIZER, io.k8s.discovery.v1beta1.EndpointSliceListCodec.SERIALIZER);
+        addCodec(io.k8s.events.v1.Event.class, io.k8s.events.v1.EventCodec.DESERIALIZER, io.k8s.events.v1.EventCodec.SERIALIZER);
+        addCodec(io.k8s.events.v1.EventList.class, io.k8s.events.v1.EventListCodec.DESERIALIZER, io.k8s.events.v1.EventListCodec.SERIALIZER);
+        addCodec(io.k8s.events.v1.EventSeries.class, io.k8s.events.v1.EventSeriesCodec.DESERIALIZER, io.k8s.events.v1.EventSeriesCodec.SERIALIZER);
+        addCodec(io.k8s.events.v1beta1.Event.class, io.k8s.events.v1beta1.EventCodec.DESERIALIZER, io.k8s.events.v1beta1.EventCodec.SERIALIZER);
+        addCodec(io.k8s.events.v1beta1.EventList.class, io.k8s.events.v1beta1.EventListCodec.DESERIALIZER, io.k8s.events.v1beta1.EventListCodec.SERIALIZER);
+        addCodec(io.k8s.events.v1beta1.EventSeries.class, io.k8s.events.v1beta1.EventSeriesCodec.DESERIALIZER, io.k8s.events.v1beta1.EventSeriesCodec.SERIALIZER);
+        addCodec(io.k8s.extensions.v1beta1.HTTPIngressPath.class, io.k8s.extensions.v1beta1.HTTPIngressPathCodec.DESERIALIZER, io.k8s.extensions.v1beta1.HTTPIngressPathCodec.SERIALIZER);
+        addCodec(io.k8s.extensions.v1beta1.HTTPIngressRuleValue.class, io.k8s.extensions.v1beta1.HTTPIngressRuleValueCodec.DESERIALIZER, io.k8s.extensions.v1beta1.HTTPIngressRuleValueCodec.SERIALIZER);
+        addCodec(io.k8s.extensions.v1beta1.Ingress.class, io.k8s.extensions.v1beta1.IngressCodec.DESERIALIZER, io.k8s.extensions.v1beta1.IngressCodec.SERIALIZER);
+        addCodec(io.k8s.extensions.v1beta1.IngressBackend.class, io.k8s.extensions.v1beta1.IngressBackendCodec.DESERIALIZER, io.k8s.extensions.v1beta1.IngressBackendCodec.SERIALIZER);
+        addCodec(io.k8s.extensions.v1beta1.IngressList.class, io.k8s.extensions.v1beta1.IngressListCodec.DESERIALIZER, io.k8s.extensions.v1beta1.IngressListCodec.SERIALIZER);
+        addCodec(io.k8s.extensions.v1beta1.IngressRule.class, io.k8s.extensions.v1beta1.IngressRuleCodec.DESERIALIZER, io.k8s.extensions.v1beta1.IngressRuleCodec.SERIALIZER);
+        addCodec(io.k8s.extensions.v1beta1.IngressSpec.class, io.k8s.extensions.v1beta1.IngressSpecCodec.DESERIALIZER, io.k8s.extensions.v1beta1.IngressSpecCodec.SERIALIZER);
+        addCodec(io.k8s.extensions.v1beta1.IngressStatus.class, io.k8s.extensions.v1beta1.IngressStatusCodec.DESERIALIZER, io.k8s.extensions.v1beta1.IngressStatusCodec.SERIALIZER);
+        addCodec(io.k8s.extensions.v1beta1.IngressTLS.class, io.k8s.extensions.v1beta1.IngressTLSCodec.DESERIALIZER, io.k8s.extensions.v1beta1.IngressTLSCodec.SERIALIZER);
+        addCodec(io.k8s.meta.v1.APIGroup.class, io.k8s.meta.v1.APIGroupCodec.DESERIALIZER, io.k8s.meta.v1.APIGroupCodec.SERIALIZER);
+        addCodec(io.k8s.meta.v1.APIGroupList.class, io.k8s.meta.v1.APIGroupListCodec.DESERIALIZER, io.k8s.meta.v1.APIGroupListCodec.SERIALIZER);
+        addCodec(io.k8s.meta.v1.APIResource.class, io.k8s.meta.v1.APIResourceCodec.DESERIALIZER, io.k8s.meta.v1.APIResourceCodec.SERIALIZER);
+        addCodec(io.k8s.meta.v1.APIResourceList.class, io.k8s.meta.v1.APIResourceListCodec.DESERIALIZER, io.k8s.meta.v1.APIResourceListCodec.SERIALIZER);
+        addCodec(io.k8s.meta.v1.APIVersions.class, io.k8s.meta.v1.APIVersionsCodec.DESERIALIZER, io.k8s.meta.v1.APIVersionsCodec.SERIALIZER);
+        addCodec(io.k8s.meta.v1.DeleteOptions.class, io.k8s.meta.v1.DeleteOptionsCodec.DESERIALIZER, io.k8s.meta.v1.DeleteOptionsCodec.SERIALIZER);
+        addCodec(io.k8s.meta.v1.GroupVersionForDiscovery.class, io.k8s.meta.v1.GroupVersionForDiscoveryCodec.DESERIALIZER, io.k8s.meta.v1.GroupVersionForDiscoveryCodec.SERIALIZER);
+        addCodec(io.k8s.meta.v1.LabelSelector.class, io.k8s.meta.v1.LabelSelectorCodec.DESERIALIZER, io.k8s.meta.v1.LabelSelectorCodec.SERIALIZER);
+        addCodec(io.k8s.meta.v1.LabelSelectorRequirement.class, io.k8s.meta.v1.LabelSelectorRequirementCodec.DESERIALIZER, io.k8s.meta.v1.LabelSelectorRequirementCodec.SERIALIZER);
+        addCodec(io.k8s.meta.v1.ManagedFieldsEntry.class, io.k8s.meta.v1.ManagedFieldsEntryCodec.DESERIALIZER, io.k8s.meta.v1.ManagedFieldsEntryCodec.SERIALIZER);
+        addCodec(io.k8s.meta.v1.OwnerReference.class, io.k8s.meta.v1.OwnerReferenceCodec.DESERIALIZER, io.k8s.meta.v1.OwnerReferenceCodec.SERIALIZER);
+        addCodec(io.k8s.meta.v1.Preconditions.class, io.k8s.meta.v1.PreconditionsCodec.DESERIALIZER, io.k8s.meta.v1.PreconditionsCodec.SERIALIZER);
+        addCodec(io.k8s.meta.v1.ServerAddressByClientCIDR.class, io.k8s.meta.v1.ServerAddressByClientCIDRCodec.DESERIALIZER, io.k8s.meta.v1.ServerAddressByClientCIDRCodec.SERIALIZER);
+        addCodec(io.k8s.meta.v1.Status.class, io.k8s.meta.v1.StatusCodec.DESERIALIZER, io.k8s.meta.v1.StatusCodec.SERIALIZER);
+        addCodec(io.k8s.meta.v1.StatusCause.class, io.k8s.meta.v1.StatusCauseCodec.DESERIALIZER, io.k8s.meta.v1.StatusCauseCodec.SERIALIZER);
+        addCodec(io.k8s.meta.v1.StatusDetails.class, io.k8s.meta.v1.StatusDetailsCodec.DESERIALIZER, io.k8s.meta.v1.StatusDetailsCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1.HTTPIngressPath.class, io.k8s.networking.v1.HTTPIngressPathCodec.DESERIALIZER, io.k8s.networking.v1.HTTPIngressPathCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1.HTTPIngressRuleValue.class, io.k8s.networking.v1.HTTPIngressRuleValueCodec.DESERIALIZER, io.k8s.networking.v1.HTTPIngressRuleValueCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1.IPBlock.class, io.k8s.networking.v1.IPBlockCodec.DESERIALIZER, io.k8s.networking.v1.IPBlockCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1.Ingress.class, io.k8s.networking.v1.IngressCodec.DESERIALIZER, io.k8s.networking.v1.IngressCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1.IngressBackend.class, io.k8s.networking.v1.IngressBackendCodec.DESERIALIZER, io.k8s.networking.v1.IngressBackendCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1.IngressClass.class, io.k8s.networking.v1.IngressClassCodec.DESERIALIZER, io.k8s.networking.v1.IngressClassCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1.IngressClassList.class, io.k8s.networking.v1.IngressClassListCodec.DESERIALIZER, io.k8s.networking.v1.IngressClassListCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1.IngressClassSpec.class, io.k8s.networking.v1.IngressClassSpecCodec.DESERIALIZER, io.k8s.networking.v1.IngressClassSpecCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1.IngressList.class, io.k8s.networking.v1.IngressListCodec.DESERIALIZER, io.k8s.networking.v1.IngressListCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1.IngressRule.class, io.k8s.networking.v1.IngressRuleCodec.DESERIALIZER, io.k8s.networking.v1.IngressRuleCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1.IngressServiceBackend.class, io.k8s.networking.v1.IngressServiceBackendCodec.DESERIALIZER, io.k8s.networking.v1.IngressServiceBackendCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1.IngressSpec.class, io.k8s.networking.v1.IngressSpecCodec.DESERIALIZER, io.k8s.networking.v1.IngressSpecCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1.IngressStatus.class, io.k8s.networking.v1.IngressStatusCodec.DESERIALIZER, io.k8s.networking.v1.IngressStatusCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1.IngressTLS.class, io.k8s.networking.v1.IngressTLSCodec.DESERIALIZER, io.k8s.networking.v1.IngressTLSCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1.NetworkPolicy.class, io.k8s.networking.v1.NetworkPolicyCodec.DESERIALIZER, io.k8s.networking.v1.NetworkPolicyCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1.NetworkPolicyEgressRule.class, io.k8s.networking.v1.NetworkPolicyEgressRuleCodec.DESERIALIZER, io.k8s.networking.v1.NetworkPolicyEgressRuleCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1.NetworkPolicyIngressRule.class, io.k8s.networking.v1.NetworkPolicyIngressRuleCodec.DESERIALIZER, io.k8s.networking.v1.NetworkPolicyIngressRuleCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1.NetworkPolicyList.class, io.k8s.networking.v1.NetworkPolicyListCodec.DESERIALIZER, io.k8s.networking.v1.NetworkPolicyListCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1.NetworkPolicyPeer.class, io.k8s.networking.v1.NetworkPolicyPeerCodec.DESERIALIZER, io.k8s.networking.v1.NetworkPolicyPeerCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1.NetworkPolicyPort.class, io.k8s.networking.v1.NetworkPolicyPortCodec.DESERIALIZER, io.k8s.networking.v1.NetworkPolicyPortCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1.NetworkPolicySpec.class, io.k8s.networking.v1.NetworkPolicySpecCodec.DESERIALIZER, io.k8s.networking.v1.NetworkPolicySpecCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1.ServiceBackendPort.class, io.k8s.networking.v1.ServiceBackendPortCodec.DESERIALIZER, io.k8s.networking.v1.ServiceBackendPortCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1beta1.HTTPIngressPath.class, io.k8s.networking.v1beta1.HTTPIngressPathCodec.DESERIALIZER, io.k8s.networking.v1beta1.HTTPIngressPathCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1beta1.HTTPIngressRuleValue.class, io.k8s.networking.v1beta1.HTTPIngressRuleValueCodec.DESERIALIZER, io.k8s.networking.v1beta1.HTTPIngressRuleValueCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1beta1.Ingress.class, io.k8s.networking.v1beta1.IngressCodec.DESERIALIZER, io.k8s.networking.v1beta1.IngressCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1beta1.IngressBackend.class, io.k8s.networking.v1beta1.IngressBackendCodec.DESERIALIZER, io.k8s.networking.v1beta1.IngressBackendCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1beta1.IngressClass.class, io.k8s.networking.v1beta1.IngressClassCodec.DESERIALIZER, io.k8s.networking.v1beta1.IngressClassCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1beta1.IngressClassList.class, io.k8s.networking.v1beta1.IngressClassListCodec.DESERIALIZER, io.k8s.networking.v1beta1.IngressClassListCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1beta1.IngressClassSpec.class, io.k8s.networking.v1beta1.IngressClassSpecCodec.DESERIALIZER, io.k8s.networking.v1beta1.IngressClassSpecCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1beta1.IngressList.class, io.k8s.networking.v1beta1.IngressListCodec.DESERIALIZER, io.k8s.networking.v1beta1.IngressListCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1beta1.IngressRule.class, io.k8s.networking.v1beta1.IngressRuleCodec.DESERIALIZER, io.k8s.networking.v1beta1.IngressRuleCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1beta1.IngressSpec.class, io.k8s.networking.v1beta1.IngressSpecCodec.DESERIALIZER, io.k8s.networking.v1beta1.IngressSpecCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1beta1.IngressStatus.class, io.k8s.networking.v1beta1.IngressStatusCodec.DESERIALIZER, io.k8s.networking.v1beta1.IngressStatusCodec.SERIALIZER);
+        addCodec(io.k8s.networking.v1beta1.IngressTLS.class, io.k8s.networking.v1beta1.IngressTLSCodec.DESERIALIZER, io.k8s.networking.v1beta1.IngressTLSCodec.SERIALIZER);
+        addCodec(io.k8s.node.v1beta1.Overhead.class, io.k8s.node.v1beta1.OverheadCodec.DESERIALIZER, io.k8s.node.v1beta1.OverheadCodec.SERIALIZER);
+        addCodec(io.k8s.node.v1beta1.RuntimeClass.class, io.k8s.node.v1beta1.RuntimeClassCodec.DESERIALIZER, io.k8s.node.v1beta1.RuntimeClassCodec.SERIALIZER);
+        addCodec(io.k8s.node.v1beta1.RuntimeClassList.class, io.k8s.node.v1beta1.RuntimeClassListCodec.DESERIALIZER, io.k8s.node.v1beta1.RuntimeClassListCodec.SERIALIZER);
+        addCodec(io.k8s.node.v1beta1.Scheduling.class, io.k8s.node.v1beta1.SchedulingCodec.DESERIALIZER, io.k8s.node.v1beta1.SchedulingCodec.SERIALIZER);
+        addCodec(io.k8s.policy.v1beta1.AllowedCSIDriver.class, io.k8s.policy.v1beta1.AllowedCSIDriverCodec.DESERIALIZER, io.k8s.policy.v1beta1.AllowedCSIDriverCodec.SERIALIZER);
+        addCodec(io.k8s.policy.v1beta1.AllowedFlexVolume.class, io.k8s.policy.v1beta1.AllowedFlexVolumeCodec.DESERIALIZER, io.k8s.policy.v1beta1.AllowedFlexVolumeCodec.SERIALIZER);
+        addCodec(io.k8s.policy.v1beta1.AllowedHostPath.class, io.k8s.policy.v1beta1.AllowedHostPathCodec.DESERIALIZER, io.k8s.policy.v1beta1.AllowedHostPathCodec.SERIALIZER);
+        addCodec(io.k8s.policy.v1beta1.Eviction.class, io.k8s.policy.v1beta1.EvictionCodec.DESERIALIZER, io.k8s.policy.v1beta1.EvictionCodec.SERIALIZER);
+        addCodec(io.k8s.policy.v1beta1.FSGroupStrategyOptions.class, io.k8s.policy.v1beta1.FSGroupStrategyOptionsCodec.DESERIALIZER, io.k8s.policy.v1beta1.FSGroupStrategyOptionsCodec.SERIALIZER);
+        addCodec(io.k8s.policy.v1beta1.HostPortRange.class, io.k8s.policy.v1beta1.HostPortRangeCodec.DESERIALIZER, io.k8s.policy.v1beta1.HostPortRangeCodec.SERIALIZER);
+        addCodec(io.k8s.policy.v1beta1.IDRange.class, io.k8s.policy.v1beta1.IDRangeCodec.DESERIALIZER, io.k8s.policy.v1beta1.IDRangeCodec.SERIALIZER);
+        addCodec(io.k8s.policy.v1beta1.PodDisruptionBudget.class, io.k8s.policy.v1beta1.PodDisruptionBudgetCodec.DESERIALIZER, io.k8s.policy.v1beta1.PodDisruptionBudgetCodec.SERIALIZER);
+        addCodec(io.k8s.policy.v1beta1.PodDisruptionBudgetList.class, io.k8s.policy.v1beta1.PodDisruptionBudgetListCodec.DESERIALIZER, io.k8s.policy.v1beta1.PodDisruptionBudgetListCodec.SERIALIZER);
+        addCodec(io.k8s.policy.v1beta1.PodDisruptionBudgetSpec.class, io.k8s.policy.v1beta1.PodDisruptionBudgetSpecCodec.DESERIALIZER, io.k8s.policy.v1beta1.PodDisruptionBudgetSpecCodec.SERIALIZER);
+        addCodec(io.k8s.policy.v1beta1.PodDisruptionBudgetStatus.class, io.k8s.policy.v1beta1.PodDisruptionBudgetStatusCodec.DESERIALIZER, io.k8s.policy.v1beta1.PodDisruptionBudgetStatusCodec.SERIALIZER);
+        addCodec(io.k8s.policy.v1beta1.PodSecurityPolicy.class, io.k8s.policy.v1beta1.PodSecurityPolicyCodec.DESERIALIZER, io.k8s.policy.v1beta1.PodSecurityPolicyCodec.SERIALIZER);
+        addCodec(io.k8s.policy.v1beta1.PodSecurityPolicyList.class, io.k8s.policy.v1beta1.PodSecurityPolicyListCodec.DESERIALIZER, io.k8s.policy.v1beta1.PodSecurityPolicyListCodec.SERIALIZER);
+        addCodec(io.k8s.policy.v1beta1.PodSecurityPolicySpec.class, io.k8s.policy.v1beta1.PodSecurityPolicySpecCodec.DESERIALIZER, io.k8s.policy.v1beta1.PodSecurityPolicySpecCodec.SERIALIZER);
+        addCodec(io.k8s.policy.v1beta1.RunAsGroupStrategyOptions.class, io.k8s.policy.v1beta1.RunAsGroupStrategyOptionsCodec.DESERIALIZER, io.k8s.policy.v1beta1.RunAsGroupStrategyOptionsCodec.SERIALIZER);
+        addCodec(io.k8s.policy.v1beta1.RunAsUserStrategyOptions.class, io.k8s.policy.v1beta1.RunAsUserStrategyOptionsCodec.DESERIALIZER, io.k8s.policy.v1beta1.RunAsUserStrategyOptionsCodec.SERIALIZER);
+        addCodec(io.k8s.policy.v1beta1.RuntimeClassStrategyOptions.class, io.k8s.policy.v1beta1.RuntimeClassStrategyOptionsCodec.DESERIALIZER, io.k8s.policy.v1beta1.RuntimeClassStrategyOptionsCodec.SERIALIZER);
+        addCodec(io.k8s.policy.v1beta1.SELinuxStrategyOptions.class, io.k8s.policy.v1beta1.SELinuxStrategyOptionsCodec.DESERIALIZER, io.k8s.policy.v1beta1.SELinuxStrategyOptionsCodec.SERIALIZER);
+        addCodec(io.k8s.policy.v1beta1.SupplementalGroupsStrategyOptions.class, io.k8s.policy.v1beta1.SupplementalGroupsStrategyOptionsCodec.DESERIALIZER, io.k8s.policy.v1beta1.SupplementalGroupsStrategyOptionsCodec.SERIALIZER);
+        addCodec(io.k8s.rbac.v1.AggregationRule.class, io.k8s.rbac.v1.AggregationRuleCodec.DESERIALIZER, io.k8s.rbac.v1.AggregationRuleCodec.SERIALIZER);
+        addCodec(io.k8s.rbac.v1.ClusterRole.class, io.k8s.rbac.v1.ClusterRoleCodec.DESERIALIZER, io.k8s.rbac.v1.ClusterRoleCodec.SERIALIZER);
+        addCodec(io.k8s.rbac.v1.ClusterRoleBinding.class, io.k8s.rbac.v1.ClusterRoleBindingCodec.DESERIALIZER, io.k8s.rbac.v1.ClusterRoleBindingCodec.SERIALIZER);
+        addCodec(io.k8s.rbac.v1.ClusterRoleBindingList.class, io.k8s.rbac.v1.ClusterRoleBindingListCodec.DESERIALIZER, io.k8s.rbac.v1.ClusterRoleBindingListCodec.SERIALIZER);
+        addCodec(io.k8s.rbac.v1.ClusterRoleList.class, io.k8s.rbac.v1.ClusterRoleListCodec.DESERIALIZER, io.k8s.rbac.v1.ClusterRoleListCodec.SERIALIZER);
+        addCodec(io.k8s.rbac.v1.PolicyRule.class, io.k8s.rbac.v1.PolicyRuleCodec.DESERIALIZER, io.k8s.rbac.v1.PolicyRuleCodec.SERIALIZER);
+        addCodec(io.k8s.rbac.v1.Role.class, io.k8s.rbac.v1.RoleCodec.DESERIALIZER, io.k8s.rbac.v1.RoleCodec.SERIALIZER);
+        addCodec(io.k8s.rbac.v1.RoleBinding.class, io.k8s.rbac.v1.RoleBindingCodec.DESERIALIZER, io.k8s.rbac.v1.RoleBindingCodec.SERIALIZER);
+        addCodec(io.k8s.rbac.v1.RoleBindingList.class, io.k8s.rbac.v1.RoleBindingListCodec.DESERIALIZER, io.k8s.rbac.v1.RoleBindingListCodec.SERIALIZER);
+        addCodec(io.k8s.rbac.v1.RoleList.class, io.k8s.rbac.v1.RoleListCodec.DESERIALIZER, io.k8s.rbac.v1.RoleListCodec.SERIALIZER);
+        addCodec(io.k8s.rbac.v1.RoleRef.class, io.k8s.rbac.v1.RoleRefCodec.DESERIALIZER, io.k8s.rbac.v1.RoleRefCodec.SERIALIZER);
+        addCodec(io.k8s.rbac.v1.Subject.class, io.k8s.rbac.v1.SubjectCodec.DESERIALIZER, io.k8s.rbac.v1.SubjectCodec.SERIALIZER);
+        addCodec(io.k8s.rbac.v1beta1.AggregationRule.class, io.k8s.rbac.v1beta1.AggregationRuleCodec.DESERIALIZER, io.k8s.rbac.v1beta1.AggregationRuleCodec.SERIALIZER);
+        addCodec(io.k8s.rbac.v1beta1.ClusterRole.class, io.k8s.rbac.v1beta1.ClusterRoleCodec.DESERIALIZER, io.k8s.rbac.v1beta1.ClusterRoleCodec.SERIALIZER);
+        addCodec(io.k8s.rbac.v1beta1.ClusterRoleBinding.class, io.k8s.rbac.v1beta1.ClusterRoleBindingCodec.DESERIALIZER, io.k8s.rbac.v1beta1.ClusterRoleBindingCodec.SERIALIZER);
+        addCodec(io.k8s.rbac.v1beta1.ClusterRoleBindingList.class, io.k8s.rbac.v1beta1.ClusterRoleBindingListCodec.DESERIALIZER, io.k8s.rbac.v1beta1.ClusterRoleBindingListCodec.SERIALIZER);
+        addCodec(io.k8s.rbac.v1beta1.ClusterRoleList.class, io.k8s.rbac.v1beta1.ClusterRoleListCodec.DESERIALIZER, io.k8s.rbac.v1beta1.ClusterRoleListCodec.SERIALIZER);
+        addCodec(io.k8s.rbac.v1beta1.PolicyRule.class, io.k8s.rbac.v1beta1.PolicyRuleCodec.DESERIALIZER, io.k8s.rbac.v1beta1.PolicyRuleCodec.SERIALIZER);
+        addCodec(io.k8s.rbac.v1beta1.Role.class, io.k8s.rbac.v1beta1.RoleCodec.DESERIALIZER, io.k8s.rbac.v1beta1.RoleCodec.SERIALIZER);
+        addCodec(io.k8s.rbac.v1beta1.RoleBinding.class, io.k8s.rbac.v1beta1.RoleBindingCodec.DESERIALIZER, io.k8s.rbac.v1beta1.RoleBindingCodec.SERIALIZER);
+        addCodec(io.k8s.rbac.v1beta1.RoleBindingList.class, io.k8s.rbac.v1beta1.RoleBindingListCodec.DESERIALIZER, io.k8s.rbac.v1beta1.RoleBindingListCodec.SERIALIZER);
+        addCodec(io.k8s.rbac.v1beta1.RoleList.class, io.k8s.rbac.v1beta1.RoleListCodec.DESERIALIZER, io.k8s.rbac.v1beta1.RoleListCodec.SERIALIZER);
+        addCodec(io.k8s.rbac.v1beta1.RoleRef.class, io.k8s.rbac.v1beta1.RoleRefCodec.DESERIALIZER, io.k8s.rbac.v1beta1.RoleRefCodec.SERIALIZER);
+        addCodec(io.k8s.rbac.v1beta1.Subject.class, io.k8s.rbac.v1beta1.SubjectCodec.DESERIALIZER, io.k8s.rbac.v1beta1.SubjectCodec.SERIALIZER);
+        addCodec(io.k8s.runtime.RawExtension.class, io.k8s.runtime.RawExtensionCodec.DESERIALIZER, io.k8s.runtime.RawExtensionCodec.SERIALIZER);
+        addCodec(io.k8s.scheduling.v1.PriorityClass.class, io.k8s.scheduling.v1.PriorityClassCodec.DESERIALIZER, io.k8s.scheduling.v1.PriorityClassCodec.SERIALIZER);
+        addCodec(io.k8s.scheduling.v1.PriorityClassList.class, io.k8s.scheduling.v1.PriorityClassListCodec.DESERIALIZER, io.k8s.scheduling.v1.PriorityClassListCodec.SERIALIZER);
+        addCodec(io.k8s.scheduling.v1beta1.PriorityClass.class, io.k8s.scheduling.v1beta1.PriorityClassCodec.DESERIALIZER, io.k8s.scheduling.v1beta1.PriorityClassCodec.SERIALIZER);
+        addCodec(io.k8s.scheduling.v1beta1.PriorityClassList.class, io.k8s.scheduling.v1beta1.PriorityClassListCodec.DESERIALIZER, io.k8s.scheduling.v1beta1.PriorityClassListCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1.CSIDriver.class, io.k8s.storage.v1.CSIDriverCodec.DESERIALIZER, io.k8s.storage.v1.CSIDriverCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1.CSIDriverList.class, io.k8s.storage.v1.CSIDriverListCodec.DESERIALIZER, io.k8s.storage.v1.CSIDriverListCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1.CSIDriverSpec.class, io.k8s.storage.v1.CSIDriverSpecCodec.DESERIALIZER, io.k8s.storage.v1.CSIDriverSpecCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1.CSINode.class, io.k8s.storage.v1.CSINodeCodec.DESERIALIZER, io.k8s.storage.v1.CSINodeCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1.CSINodeDriver.class, io.k8s.storage.v1.CSINodeDriverCodec.DESERIALIZER, io.k8s.storage.v1.CSINodeDriverCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1.CSINodeList.class, io.k8s.storage.v1.CSINodeListCodec.DESERIALIZER, io.k8s.storage.v1.CSINodeListCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1.CSINodeSpec.class, io.k8s.storage.v1.CSINodeSpecCodec.DESERIALIZER, io.k8s.storage.v1.CSINodeSpecCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1.StorageClass.class, io.k8s.storage.v1.StorageClassCodec.DESERIALIZER, io.k8s.storage.v1.StorageClassCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1.StorageClassList.class, io.k8s.storage.v1.StorageClassListCodec.DESERIALIZER, io.k8s.storage.v1.StorageClassListCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1.VolumeAttachment.class, io.k8s.storage.v1.VolumeAttachmentCodec.DESERIALIZER, io.k8s.storage.v1.VolumeAttachmentCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1.VolumeAttachmentList.class, io.k8s.storage.v1.VolumeAttachmentListCodec.DESERIALIZER, io.k8s.storage.v1.VolumeAttachmentListCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1.VolumeAttachmentSource.class, io.k8s.storage.v1.VolumeAttachmentSourceCodec.DESERIALIZER, io.k8s.storage.v1.VolumeAttachmentSourceCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1.VolumeAttachmentSpec.class, io.k8s.storage.v1.VolumeAttachmentSpecCodec.DESERIALIZER, io.k8s.storage.v1.VolumeAttachmentSpecCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1.VolumeAttachmentStatus.class, io.k8s.storage.v1.VolumeAttachmentStatusCodec.DESERIALIZER, io.k8s.storage.v1.VolumeAttachmentStatusCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1.VolumeError.class, io.k8s.storage.v1.VolumeErrorCodec.DESERIALIZER, io.k8s.storage.v1.VolumeErrorCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1.VolumeNodeResources.class, io.k8s.storage.v1.VolumeNodeResourcesCodec.DESERIALIZER, io.k8s.storage.v1.VolumeNodeResourcesCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1beta1.CSIDriver.class, io.k8s.storage.v1beta1.CSIDriverCodec.DESERIALIZER, io.k8s.storage.v1beta1.CSIDriverCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1beta1.CSIDriverList.class, io.k8s.storage.v1beta1.CSIDriverListCodec.DESERIALIZER, io.k8s.storage.v1beta1.CSIDriverListCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1beta1.CSIDriverSpec.class, io.k8s.storage.v1beta1.CSIDriverSpecCodec.DESERIALIZER, io.k8s.storage.v1beta1.CSIDriverSpecCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1beta1.CSINode.class, io.k8s.storage.v1beta1.CSINodeCodec.DESERIALIZER, io.k8s.storage.v1beta1.CSINodeCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1beta1.CSINodeDriver.class, io.k8s.storage.v1beta1.CSINodeDriverCodec.DESERIALIZER, io.k8s.storage.v1beta1.CSINodeDriverCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1beta1.CSINodeList.class, io.k8s.storage.v1beta1.CSINodeListCodec.DESERIALIZER, io.k8s.storage.v1beta1.CSINodeListCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1beta1.CSINodeSpec.class, io.k8s.storage.v1beta1.CSINodeSpecCodec.DESERIALIZER, io.k8s.storage.v1beta1.CSINodeSpecCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1beta1.StorageClass.class, io.k8s.storage.v1beta1.StorageClassCodec.DESERIALIZER, io.k8s.storage.v1beta1.StorageClassCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1beta1.StorageClassList.class, io.k8s.storage.v1beta1.StorageClassListCodec.DESERIALIZER, io.k8s.storage.v1beta1.StorageClassListCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1beta1.VolumeAttachment.class, io.k8s.storage.v1beta1.VolumeAttachmentCodec.DESERIALIZER, io.k8s.storage.v1beta1.VolumeAttachmentCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1beta1.VolumeAttachmentList.class, io.k8s.storage.v1beta1.VolumeAttachmentListCodec.DESERIALIZER, io.k8s.storage.v1beta1.VolumeAttachmentListCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1beta1.VolumeAttachmentSource.class, io.k8s.storage.v1beta1.VolumeAttachmentSourceCodec.DESERIALIZER, io.k8s.storage.v1beta1.VolumeAttachmentSourceCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1beta1.VolumeAttachmentSpec.class, io.k8s.storage.v1beta1.VolumeAttachmentSpecCodec.DESERIALIZER, io.k8s.storage.v1beta1.VolumeAttachmentSpecCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1beta1.VolumeAttachmentStatus.class, io.k8s.storage.v1beta1.VolumeAttachmentStatusCodec.DESERIALIZER, io.k8s.storage.v1beta1.VolumeAttachmentStatusCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1beta1.VolumeError.class, io.k8s.storage.v1beta1.VolumeErrorCodec.DESERIALIZER, io.k8s.storage.v1beta1.VolumeErrorCodec.SERIALIZER);
+        addCodec(io.k8s.storage.v1beta1.VolumeNodeResources.class, io.k8s.storage.v1beta1.VolumeNodeResourcesCodec.DESERIALIZER, io.k8s.storage.v1beta1.VolumeNodeResourcesCodec.SERIALIZER);
+        addCodec(io.k8s.version.Info.class, io.k8s.version.InfoCodec.DESERIALIZER, io.k8s.version.InfoCodec.SERIALIZER);
+    }
+
+}
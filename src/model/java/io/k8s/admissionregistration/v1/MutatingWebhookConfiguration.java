@@ -20,6 +20,8 @@ import io.k8s.meta.v1.ManagedFieldsEntry;
 import io.k8s.meta.v1.ObjectMeta;
 import io.k8s.meta.v1.OwnerReference;
 import io.k8s.meta.v1.TypeMeta;
+import io.k8s.type.PatchMergeKey;
+import io.k8s.type.PatchStrategy;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
@@ -64,6 +66,8 @@ public class MutatingWebhookConfiguration implements ObjectMeta, TypeMeta {
      * Webhooks is a list of webhooks and the affected resources and operations.
      */
     @Nullable
+    @PatchMergeKey("name")
+    @PatchStrategy("merge")
     @Singular
     List<MutatingWebhook> webhooks;
 
@@ -109,6 +113,7 @@ public class MutatingWebhookConfiguration implements ObjectMeta, TypeMeta {
      * ordering changes in the list.
      */
     @Nullable
+    @PatchStrategy("merge")
     @Singular
     List<String> finalizers;
 
@@ -180,6 +185,8 @@ public class MutatingWebhookConfiguration implements ObjectMeta, TypeMeta {
      * controller, with the controller field set to true. There cannot be more than one managing controller.
      */
     @Nullable
+    @PatchMergeKey("uid")
+    @PatchStrategy("merge")
     @Singular
     List<OwnerReference> ownerReferences;
 
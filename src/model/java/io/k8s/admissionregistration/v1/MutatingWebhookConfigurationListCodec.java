@@ -0,0 +1,192 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.admissionregistration.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link MutatingWebhookConfigurationList} that read and write its fields without reflection.
+ */
+public final class MutatingWebhookConfigurationListCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link MutatingWebhookConfigurationList}
+     */
+    public static final JsonDeserializer<MutatingWebhookConfigurationList> DESERIALIZER = new StdDeserializer<MutatingWebhookConfigurationList>(MutatingWebhookConfigurationList.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public MutatingWebhookConfigurationList deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return MutatingWebhookConfigurationListCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link MutatingWebhookConfigurationList}
+     */
+    public static final JsonSerializer<MutatingWebhookConfigurationList> SERIALIZER = new StdSerializer<MutatingWebhookConfigurationList>(MutatingWebhookConfigurationList.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(MutatingWebhookConfigurationList value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            MutatingWebhookConfigurationListCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private MutatingWebhookConfigurationListCodec() {
+    }
+
+    /**
+     * Compares two {@link MutatingWebhookConfigurationList}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable MutatingWebhookConfigurationList original, MutatingWebhookConfigurationList modified, Diff diff) {
+        diff.value("apiVersion", original, modified, MutatingWebhookConfigurationList::getApiVersion);
+        diff.value("items", original, modified, MutatingWebhookConfigurationList::getItems);
+        diff.value("kind", original, modified, MutatingWebhookConfigurationList::getKind);
+        diff.object("metadata", original, modified, MutatingWebhookConfigurationListCodec::getMetadata, MutatingWebhookConfigurationListCodec::diffMetadata);
+    }
+
+    /**
+     * Reads a {@link MutatingWebhookConfigurationList}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link MutatingWebhookConfigurationList} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static MutatingWebhookConfigurationList read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String apiVersion = null;
+        List<MutatingWebhookConfiguration> items = Collections.emptyList();
+        String kind = null;
+        String _continue = null;
+        Long remainingItemCount = null;
+        String resourceVersion = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, MutatingWebhookConfigurationList.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "apiVersion":
+                    apiVersion = Codecs.readInternedString(parser, context);
+                    break;
+                case "items":
+                    items = Codecs.readList(parser, context, MutatingWebhookConfigurationCodec::read);
+                    break;
+                case "kind":
+                    kind = Codecs.readInternedString(parser, context);
+                    break;
+                case "metadata":
+                    for (String metadataName = Codecs.startObject(parser, context, MutatingWebhookConfigurationList.class); metadataName != null; metadataName = parser.nextFieldName()) {
+                        parser.nextToken();
+
+                        switch (metadataName) {
+                            case "continue":
+                                _continue = Codecs.readString(parser, context);
+                                break;
+                            case "remainingItemCount":
+                                remainingItemCount = Codecs.readLong(parser, context);
+                                break;
+                            case "resourceVersion":
+                                resourceVersion = Codecs.readString(parser, context);
+                                break;
+                            default:
+                                parser.skipChildren();
+                        }
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new MutatingWebhookConfigurationList(apiVersion, items, kind, _continue, remainingItemCount, resourceVersion);
+        } catch (IllegalArgumentException e) {
+            return (MutatingWebhookConfigurationList) context.handleInstantiationProblem(MutatingWebhookConfigurationList.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link MutatingWebhookConfigurationList}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable MutatingWebhookConfigurationList value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("apiVersion", value.getApiVersion(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("items", value.getItems(), MutatingWebhookConfigurationCodec::write, generator, provider);
+        Codecs.writeField("kind", value.getKind(), Codecs::writeString, generator, provider);
+
+        if (Codecs.isPresent(value.getContinue(), value.getRemainingItemCount(), value.getResourceVersion())) {
+            generator.writeFieldName("metadata");
+            generator.writeStartObject();
+            Codecs.writeField("continue", value.getContinue(), Codecs::writeString, generator, provider);
+            Codecs.writeField("remainingItemCount", value.getRemainingItemCount(), Codecs::writeLong, generator, provider);
+            Codecs.writeField("resourceVersion", value.getResourceVersion(), Codecs::writeString, generator, provider);
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+    }
+
+    private static void diffMetadata(@Nullable MutatingWebhookConfigurationList original, MutatingWebhookConfigurationList modified, Diff diff) {
+        diff.value("continue", original, modified, MutatingWebhookConfigurationList::getContinue);
+        diff.value("remainingItemCount", original, modified, MutatingWebhookConfigurationList::getRemainingItemCount);
+        diff.value("resourceVersion", original, modified, MutatingWebhookConfigurationList::getResourceVersion);
+    }
+
+    // The value stands in for its own metadata, which is only present on the wire if any of its properties are
+    @Nullable
+    private static MutatingWebhookConfigurationList getMetadata(MutatingWebhookConfigurationList value) {
+        return Codecs.isPresent(value.getContinue(), value.getRemainingItemCount(), value.getResourceVersion()) ? value : null;
+    }
+
+}
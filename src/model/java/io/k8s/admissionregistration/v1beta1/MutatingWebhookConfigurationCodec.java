@@ -0,0 +1,270 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.admissionregistration.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.meta.v1.ManagedFieldsEntry;
+import io.k8s.meta.v1.ManagedFieldsEntryCodec;
+import io.k8s.meta.v1.OwnerReference;
+import io.k8s.meta.v1.OwnerReferenceCodec;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link MutatingWebhookConfiguration} that read and write its fields without reflection.
+ */
+public final class MutatingWebhookConfigurationCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link MutatingWebhookConfiguration}
+     */
+    public static final JsonDeserializer<MutatingWebhookConfiguration> DESERIALIZER = new StdDeserializer<MutatingWebhookConfiguration>(MutatingWebhookConfiguration.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public MutatingWebhookConfiguration deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return MutatingWebhookConfigurationCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link MutatingWebhookConfiguration}
+     */
+    public static final JsonSerializer<MutatingWebhookConfiguration> SERIALIZER = new StdSerializer<MutatingWebhookConfiguration>(MutatingWebhookConfiguration.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(MutatingWebhookConfiguration value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            MutatingWebhookConfigurationCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private MutatingWebhookConfigurationCodec() {
+    }
+
+    /**
+     * Compares two {@link MutatingWebhookConfiguration}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable MutatingWebhookConfiguration original, MutatingWebhookConfiguration modified, Diff diff) {
+        diff.value("apiVersion", original, modified, MutatingWebhookConfiguration::getApiVersion);
+        diff.value("kind", original, modified, MutatingWebhookConfiguration::getKind);
+        diff.list("webhooks", original, modified, MutatingWebhookConfiguration::getWebhooks, "name", MutatingWebhook::getName, MutatingWebhookCodec::diff);
+        diff.object("metadata", original, modified, MutatingWebhookConfigurationCodec::getMetadata, MutatingWebhookConfigurationCodec::diffMetadata);
+    }
+
+    /**
+     * Reads a {@link MutatingWebhookConfiguration}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link MutatingWebhookConfiguration} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static MutatingWebhookConfiguration read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String apiVersion = null;
+        String kind = null;
+        List<MutatingWebhook> webhooks = Collections.emptyList();
+        Map<String, String> annotations = Collections.emptyMap();
+        String clusterName = null;
+        OffsetDateTime creationTimestamp = null;
+        Long deletionGracePeriodSeconds = null;
+        OffsetDateTime deletionTimestamp = null;
+        List<String> finalizers = Collections.emptyList();
+        String generateName = null;
+        Long generation = null;
+        Map<String, String> labels = Collections.emptyMap();
+        List<ManagedFieldsEntry> managedFields = Collections.emptyList();
+        String name = null;
+        String namespace = null;
+        List<OwnerReference> ownerReferences = Collections.emptyList();
+        String resourceVersion = null;
+        String uid = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, MutatingWebhookConfiguration.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "apiVersion":
+                    apiVersion = Codecs.readInternedString(parser, context);
+                    break;
+                case "kind":
+                    kind = Codecs.readInternedString(parser, context);
+                    break;
+                case "webhooks":
+                    webhooks = Codecs.readList(parser, context, MutatingWebhookCodec::read);
+                    break;
+                case "metadata":
+                    for (String metadataName = Codecs.startObject(parser, context, MutatingWebhookConfiguration.class); metadataName != null; metadataName = parser.nextFieldName()) {
+                        parser.nextToken();
+
+                        switch (metadataName) {
+                            case "annotations":
+                                annotations = Codecs.readMap(parser, context, Codecs::readString);
+                                break;
+                            case "clusterName":
+                                clusterName = Codecs.readString(parser, context);
+                                break;
+                            case "creationTimestamp":
+                                creationTimestamp = Codecs.readDateTime(parser, context);
+                                break;
+                            case "deletionGracePeriodSeconds":
+                                deletionGracePeriodSeconds = Codecs.readLong(parser, context);
+                                break;
+                            case "deletionTimestamp":
+                                deletionTimestamp = Codecs.readDateTime(parser, context);
+                                break;
+                            case "finalizers":
+                                finalizers = Codecs.readList(parser, context, Codecs::readString);
+                                break;
+                            case "generateName":
+                                generateName = Codecs.readString(parser, context);
+                                break;
+                            case "generation":
+                                generation = Codecs.readLong(parser, context);
+                                break;
+                            case "labels":
+                                labels = Codecs.readMap(parser, context, Codecs::readInternedString);
+                                break;
+                            case "managedFields":
+                                managedFields = Codecs.readManagedFields(parser, context, ManagedFieldsEntryCodec::read);
+                                break;
+                            case "name":
+                                name = Codecs.readString(parser, context);
+                                break;
+                            case "namespace":
+                                namespace = Codecs.readInternedString(parser, context);
+                                break;
+                            case "ownerReferences":
+                                ownerReferences = Codecs.readList(parser, context, OwnerReferenceCodec::read);
+                                break;
+                            case "resourceVersion":
+                                resourceVersion = Codecs.readString(parser, context);
+                                break;
+                            case "uid":
+                                uid = Codecs.readString(parser, context);
+                                break;
+                            default:
+                                parser.skipChildren();
+                        }
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new MutatingWebhookConfiguration(apiVersion, kind, webhooks, annotations, clusterName, creationTimestamp, deletionGracePeriodSeconds, deletionTimestamp, finalizers, generateName, generation, labels, managedFields, name, namespace, ownerReferences, resourceVersion, uid);
+        } catch (IllegalArgumentException e) {
+            return (MutatingWebhookConfiguration) context.handleInstantiationProblem(MutatingWebhookConfiguration.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link MutatingWebhookConfiguration}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable MutatingWebhookConfiguration value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("apiVersion", value.getApiVersion(), Codecs::writeString, generator, provider);
+        Codecs.writeField("kind", value.getKind(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("webhooks", value.getWebhooks(), MutatingWebhookCodec::write, generator, provider);
+
+        if (Codecs.isPresent(value.getAnnotations(), value.getClusterName(), value.getCreationTimestamp(), value.getDeletionGracePeriodSeconds(), value.getDeletionTimestamp(), value.getFinalizers(), value.getGenerateName(), value.getGeneration(), value.getLabels(), value.getManagedFields(), value.getName(), value.getNamespace(), value.getOwnerReferences(), value.getResourceVersion(), value.getUid())) {
+            generator.writeFieldName("metadata");
+            generator.writeStartObject();
+            Codecs.writeMapField("annotations", value.getAnnotations(), Codecs::writeString, generator, provider);
+            Codecs.writeField("clusterName", value.getClusterName(), Codecs::writeString, generator, provider);
+            Codecs.writeField("creationTimestamp", value.getCreationTimestamp(), Codecs::writeDateTime, generator, provider);
+            Codecs.writeField("deletionGracePeriodSeconds", value.getDeletionGracePeriodSeconds(), Codecs::writeLong, generator, provider);
+            Codecs.writeField("deletionTimestamp", value.getDeletionTimestamp(), Codecs::writeDateTime, generator, provider);
+            Codecs.writeListField("finalizers", value.getFinalizers(), Codecs::writeString, generator, provider);
+            Codecs.writeField("generateName", value.getGenerateName(), Codecs::writeString, generator, provider);
+            Codecs.writeField("generation", value.getGeneration(), Codecs::writeLong, generator, provider);
+            Codecs.writeMapField("labels", value.getLabels(), Codecs::writeString, generator, provider);
+            Codecs.writeListField("managedFields", value.getManagedFields(), ManagedFieldsEntryCodec::write, generator, provider);
+            Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+            Codecs.writeField("namespace", value.getNamespace(), Codecs::writeString, generator, provider);
+            Codecs.writeListField("ownerReferences", value.getOwnerReferences(), OwnerReferenceCodec::write, generator, provider);
+            Codecs.writeField("resourceVersion", value.getResourceVersion(), Codecs::writeString, generator, provider);
+            Codecs.writeField("uid", value.getUid(), Codecs::writeString, generator, provider);
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+    }
+
+    private static void diffMetadata(@Nullable MutatingWebhookConfiguration original, MutatingWebhookConfiguration modified, Diff diff) {
+        diff.map("annotations", original, modified, MutatingWebhookConfiguration::getAnnotations);
+        diff.value("clusterName", original, modified, MutatingWebhookConfiguration::getClusterName);
+        diff.value("creationTimestamp", original, modified, MutatingWebhookConfiguration::getCreationTimestamp);
+        diff.value("deletionGracePeriodSeconds", original, modified, MutatingWebhookConfiguration::getDeletionGracePeriodSeconds);
+        diff.value("deletionTimestamp", original, modified, MutatingWebhookConfiguration::getDeletionTimestamp);
+        diff.list("finalizers", original, modified, MutatingWebhookConfiguration::getFinalizers);
+        diff.value("generateName", original, modified, MutatingWebhookConfiguration::getGenerateName);
+        diff.value("generation", original, modified, MutatingWebhookConfiguration::getGeneration);
+        diff.map("labels", original, modified, MutatingWebhookConfiguration::getLabels);
+        diff.value("managedFields", original, modified, MutatingWebhookConfiguration::getManagedFields);
+        diff.value("name", original, modified, MutatingWebhookConfiguration::getName);
+        diff.value("namespace", original, modified, MutatingWebhookConfiguration::getNamespace);
+        diff.list("ownerReferences", original, modified, MutatingWebhookConfiguration::getOwnerReferences, "uid", OwnerReference::getUid, OwnerReferenceCodec::diff);
+        diff.value("resourceVersion", original, modified, MutatingWebhookConfiguration::getResourceVersion);
+        diff.value("uid", original, modified, MutatingWebhookConfiguration::getUid);
+    }
+
+    // The value stands in for its own metadata, which is only present on the wire if any of its properties are
+    @Nullable
+    private static MutatingWebhookConfiguration getMetadata(MutatingWebhookConfiguration value) {
+        return Codecs.isPresent(value.getAnnotations(), value.getClusterName(), value.getCreationTimestamp(), value.getDeletionGracePeriodSeconds(), value.getDeletionTimestamp(), value.getFinalizers(), value.getGenerateName(), value.getGeneration(), value.getLabels(), value.getManagedFields(), value.getName(), value.getNamespace(), value.getOwnerReferences(), value.getResourceVersion(), value.getUid()) ? value : null;
+    }
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.admissionregistration.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link RuleWithOperations} that read and write its fields without reflection.
+ */
+public final class RuleWithOperationsCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link RuleWithOperations}
+     */
+    public static final JsonDeserializer<RuleWithOperations> DESERIALIZER = new StdDeserializer<RuleWithOperations>(RuleWithOperations.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public RuleWithOperations deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return RuleWithOperationsCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link RuleWithOperations}
+     */
+    public static final JsonSerializer<RuleWithOperations> SERIALIZER = new StdSerializer<RuleWithOperations>(RuleWithOperations.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(RuleWithOperations value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            RuleWithOperationsCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private RuleWithOperationsCodec() {
+    }
+
+    /**
+     * Compares two {@link RuleWithOperations}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable RuleWithOperations original, RuleWithOperations modified, Diff diff) {
+        diff.value("apiGroups", original, modified, RuleWithOperations::getApiGroups);
+        diff.value("apiVersions", original, modified, RuleWithOperations::getApiVersions);
+        diff.value("operations", original, modified, RuleWithOperations::getOperations);
+        diff.value("resources", original, modified, RuleWithOperations::getResources);
+        diff.value("scope", original, modified, RuleWithOperations::getScope);
+    }
+
+    /**
+     * Reads a {@link RuleWithOperations}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link RuleWithOperations} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static RuleWithOperations read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<String> apiGroups = Collections.emptyList();
+        List<String> apiVersions = Collections.emptyList();
+        List<String> operations = Collections.emptyList();
+        List<String> resources = Collections.emptyList();
+        String scope = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, RuleWithOperations.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "apiGroups":
+                    apiGroups = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "apiVersions":
+                    apiVersions = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "operations":
+                    operations = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "resources":
+                    resources = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "scope":
+                    scope = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new RuleWithOperations(apiGroups, apiVersions, operations, resources, scope);
+        } catch (IllegalArgumentException e) {
+            return (RuleWithOperations) context.handleInstantiationProblem(RuleWithOperations.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link RuleWithOperations}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable RuleWithOperations value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("apiGroups", value.getApiGroups(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("apiVersions", value.getApiVersions(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("operations", value.getOperations(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("resources", value.getResources(), Codecs::writeString, generator, provider);
+        Codecs.writeField("scope", value.getScope(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
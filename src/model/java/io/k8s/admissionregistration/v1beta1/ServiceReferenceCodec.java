@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.admissionregistration.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ServiceReference} that read and write its fields without reflection.
+ */
+public final class ServiceReferenceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ServiceReference}
+     */
+    public static final JsonDeserializer<ServiceReference> DESERIALIZER = new StdDeserializer<ServiceReference>(ServiceReference.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ServiceReference deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ServiceReferenceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ServiceReference}
+     */
+    public static final JsonSerializer<ServiceReference> SERIALIZER = new StdSerializer<ServiceReference>(ServiceReference.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ServiceReference value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ServiceReferenceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ServiceReferenceCodec() {
+    }
+
+    /**
+     * Compares two {@link ServiceReference}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ServiceReference original, ServiceReference modified, Diff diff) {
+        diff.value("name", original, modified, ServiceReference::getName);
+        diff.value("namespace", original, modified, ServiceReference::getNamespace);
+        diff.value("path", original, modified, ServiceReference::getPath);
+        diff.value("port", original, modified, ServiceReference::getPort);
+    }
+
+    /**
+     * Reads a {@link ServiceReference}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ServiceReference} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ServiceReference read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String name = null;
+        String namespace = null;
+        String path = null;
+        Integer port = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, ServiceReference.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "name":
+                    name = Codecs.readString(parser, context);
+                    break;
+                case "namespace":
+                    namespace = Codecs.readInternedString(parser, context);
+                    break;
+                case "path":
+                    path = Codecs.readString(parser, context);
+                    break;
+                case "port":
+                    port = Codecs.readInteger(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ServiceReference(name, namespace, path, port);
+        } catch (IllegalArgumentException e) {
+            return (ServiceReference) context.handleInstantiationProblem(ServiceReference.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ServiceReference}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ServiceReference value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("namespace", value.getNamespace(), Codecs::writeString, generator, provider);
+        Codecs.writeField("path", value.getPath(), Codecs::writeString, generator, provider);
+        Codecs.writeField("port", value.getPort(), Codecs::writeInteger, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.admissionregistration.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.meta.v1.LabelSelector;
+import io.k8s.meta.v1.LabelSelectorCodec;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ValidatingWebhook} that read and write its fields without reflection.
+ */
+public final class ValidatingWebhookCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ValidatingWebhook}
+     */
+    public static final JsonDeserializer<ValidatingWebhook> DESERIALIZER = new StdDeserializer<ValidatingWebhook>(ValidatingWebhook.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ValidatingWebhook deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ValidatingWebhookCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ValidatingWebhook}
+     */
+    public static final JsonSerializer<ValidatingWebhook> SERIALIZER = new StdSerializer<ValidatingWebhook>(ValidatingWebhook.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ValidatingWebhook value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ValidatingWebhookCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ValidatingWebhookCodec() {
+    }
+
+    /**
+     * Compares two {@link ValidatingWebhook}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ValidatingWebhook original, ValidatingWebhook modified, Diff diff) {
+        diff.value("admissionReviewVersions", original, modified, ValidatingWebhook::getAdmissionReviewVersions);
+        diff.object("clientConfig", original, modified, ValidatingWebhook::getClientConfig, WebhookClientConfigCodec::diff);
+        diff.value("failurePolicy", original, modified, ValidatingWebhook::getFailurePolicy);
+        diff.value("matchPolicy", original, modified, ValidatingWebhook::getMatchPolicy);
+        diff.value("name", original, modified, ValidatingWebhook::getName);
+        diff.object("namespaceSelector", original, modified, ValidatingWebhook::getNamespaceSelector, LabelSelectorCodec::diff);
+        diff.object("objectSelector", original, modified, ValidatingWebhook::getObjectSelector, LabelSelectorCodec::diff);
+        diff.value("rules", original, modified, ValidatingWebhook::getRules);
+        diff.value("sideEffects", original, modified, ValidatingWebhook::getSideEffects);
+        diff.value("timeoutSeconds", original, modified, ValidatingWebhook::getTimeoutSeconds);
+    }
+
+    /**
+     * Reads a {@link ValidatingWebhook}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ValidatingWebhook} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ValidatingWebhook read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<String> admissionReviewVersions = Collections.emptyList();
+        WebhookClientConfig clientConfig = null;
+        String failurePolicy = null;
+        String matchPolicy = null;
+        String name = null;
+        LabelSelector namespaceSelector = null;
+        LabelSelector objectSelector = null;
+        List<RuleWithOperations> rules = Collections.emptyList();
+        String sideEffects = null;
+        Integer timeoutSeconds = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, ValidatingWebhook.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "admissionReviewVersions":
+                    admissionReviewVersions = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "clientConfig":
+                    clientConfig = WebhookClientConfigCodec.read(parser, context);
+                    break;
+                case "failurePolicy":
+                    failurePolicy = Codecs.readString(parser, context);
+                    break;
+                case "matchPolicy":
+                    matchPolicy = Codecs.readString(parser, context);
+                    break;
+                case "name":
+                    name = Codecs.readString(parser, context);
+                    break;
+                case "namespaceSelector":
+                    namespaceSelector = LabelSelectorCodec.read(parser, context);
+                    break;
+                case "objectSelector":
+                    objectSelector = LabelSelectorCodec.read(parser, context);
+                    break;
+                case "rules":
+                    rules = Codecs.readList(parser, context, RuleWithOperationsCodec::read);
+                    break;
+                case "sideEffects":
+                    sideEffects = Codecs.readString(parser, context);
+                    break;
+                case "timeoutSeconds":
+                    timeoutSeconds = Codecs.readInteger(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ValidatingWebhook(admissionReviewVersions, clientConfig, failurePolicy, matchPolicy, name, namespaceSelector, objectSelector, rules, sideEffects, timeoutSeconds);
+        } catch (IllegalArgumentException e) {
+            return (ValidatingWebhook) context.handleInstantiationProblem(ValidatingWebhook.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ValidatingWebhook}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ValidatingWebhook value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("admissionReviewVersions", value.getAdmissionReviewVersions(), Codecs::writeString, generator, provider);
+        Codecs.writeField("clientConfig", value.getClientConfig(), WebhookClientConfigCodec::write, generator, provider);
+        Codecs.writeField("failurePolicy", value.getFailurePolicy(), Codecs::writeString, generator, provider);
+        Codecs.writeField("matchPolicy", value.getMatchPolicy(), Codecs::writeString, generator, provider);
+        Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("namespaceSelector", value.getNamespaceSelector(), LabelSelectorCodec::write, generator, provider);
+        Codecs.writeField("objectSelector", value.getObjectSelector(), LabelSelectorCodec::write, generator, provider);
+        Codecs.writeListField("rules", value.getRules(), RuleWithOperationsCodec::write, generator, provider);
+        Codecs.writeField("sideEffects", value.getSideEffects(), Codecs::writeString, generator, provider);
+        Codecs.writeField("timeoutSeconds", value.getTimeoutSeconds(), Codecs::writeInteger, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.apiextensions.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link CustomResourceColumnDefinition} that read and write its fields without reflection.
+ */
+public final class CustomResourceColumnDefinitionCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link CustomResourceColumnDefinition}
+     */
+    public static final JsonDeserializer<CustomResourceColumnDefinition> DESERIALIZER = new StdDeserializer<CustomResourceColumnDefinition>(CustomResourceColumnDefinition.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public CustomResourceColumnDefinition deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return CustomResourceColumnDefinitionCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link CustomResourceColumnDefinition}
+     */
+    public static final JsonSerializer<CustomResourceColumnDefinition> SERIALIZER = new StdSerializer<CustomResourceColumnDefinition>(CustomResourceColumnDefinition.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(CustomResourceColumnDefinition value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            CustomResourceColumnDefinitionCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private CustomResourceColumnDefinitionCodec() {
+    }
+
+    /**
+     * Compares two {@link CustomResourceColumnDefinition}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable CustomResourceColumnDefinition original, CustomResourceColumnDefinition modified, Diff diff) {
+        diff.value("description", original, modified, CustomResourceColumnDefinition::getDescription);
+        diff.value("format", original, modified, CustomResourceColumnDefinition::getFormat);
+        diff.value("jsonPath", original, modified, CustomResourceColumnDefinition::getJsonPath);
+        diff.value("name", original, modified, CustomResourceColumnDefinition::getName);
+        diff.value("priority", original, modified, CustomResourceColumnDefinition::getPriority);
+        diff.value("type", original, modified, CustomResourceColumnDefinition::getType);
+    }
+
+    /**
+     * Reads a {@link CustomResourceColumnDefinition}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link CustomResourceColumnDefinition} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static CustomResourceColumnDefinition read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String description = null;
+        String format = null;
+        String jsonPath = null;
+        String name = null;
+        Integer priority = null;
+        String type = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, CustomResourceColumnDefinition.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "description":
+                    description = Codecs.readString(parser, context);
+                    break;
+                case "format":
+                    format = Codecs.readString(parser, context);
+                    break;
+                case "jsonPath":
+                    jsonPath = Codecs.readString(parser, context);
+                    break;
+                case "name":
+                    name = Codecs.readString(parser, context);
+                    break;
+                case "priority":
+                    priority = Codecs.readInteger(parser, context);
+                    break;
+                case "type":
+                    type = Codecs.readInternedString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new CustomResourceColumnDefinition(description, format, jsonPath, name, priority, type);
+        } catch (IllegalArgumentException e) {
+            return (CustomResourceColumnDefinition) context.handleInstantiationProblem(CustomResourceColumnDefinition.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link CustomResourceColumnDefinition}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable CustomResourceColumnDefinition value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("description", value.getDescription(), Codecs::writeString, generator, provider);
+        Codecs.writeField("format", value.getFormat(), Codecs::writeString, generator, provider);
+        Codecs.writeField("jsonPath", value.getJsonPath(), Codecs::writeString, generator, provider);
+        Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("priority", value.getPriority(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("type", value.getType(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
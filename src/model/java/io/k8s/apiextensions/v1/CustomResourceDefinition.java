@@ -20,6 +20,8 @@ import io.k8s.meta.v1.ManagedFieldsEntry;
 import io.k8s.meta.v1.ObjectMeta;
 import io.k8s.meta.v1.OwnerReference;
 import io.k8s.meta.v1.TypeMeta;
+import io.k8s.type.PatchMergeKey;
+import io.k8s.type.PatchStrategy;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
@@ -109,6 +111,7 @@ public class CustomResourceDefinition implements ObjectMeta, TypeMeta {
      * ordering changes in the list.
      */
     @Nullable
+    @PatchStrategy("merge")
     @Singular
     List<String> finalizers;
 
@@ -180,6 +183,8 @@ public class CustomResourceDefinition implements ObjectMeta, TypeMeta {
      * controller, with the controller field set to true. There cannot be more than one managing controller.
      */
     @Nullable
+    @PatchMergeKey("uid")
+    @PatchStrategy("merge")
     @Singular
     List<OwnerReference> ownerReferences;
 
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.apiextensions.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link CustomResourceDefinitionStatus} that read and write its fields without reflection.
+ */
+public final class CustomResourceDefinitionStatusCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link CustomResourceDefinitionStatus}
+     */
+    public static final JsonDeserializer<CustomResourceDefinitionStatus> DESERIALIZER = new StdDeserializer<CustomResourceDefinitionStatus>(CustomResourceDefinitionStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public CustomResourceDefinitionStatus deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return CustomResourceDefinitionStatusCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link CustomResourceDefinitionStatus}
+     */
+    public static final JsonSerializer<CustomResourceDefinitionStatus> SERIALIZER = new StdSerializer<CustomResourceDefinitionStatus>(CustomResourceDefinitionStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(CustomResourceDefinitionStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            CustomResourceDefinitionStatusCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private CustomResourceDefinitionStatusCodec() {
+    }
+
+    /**
+     * Compares two {@link CustomResourceDefinitionStatus}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable CustomResourceDefinitionStatus original, CustomResourceDefinitionStatus modified, Diff diff) {
+        diff.object("acceptedNames", original, modified, CustomResourceDefinitionStatus::getAcceptedNames, CustomResourceDefinitionNamesCodec::diff);
+        diff.value("conditions", original, modified, CustomResourceDefinitionStatus::getConditions);
+        diff.value("storedVersions", original, modified, CustomResourceDefinitionStatus::getStoredVersions);
+    }
+
+    /**
+     * Reads a {@link CustomResourceDefinitionStatus}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link CustomResourceDefinitionStatus} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static CustomResourceDefinitionStatus read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        CustomResourceDefinitionNames acceptedNames = null;
+        List<CustomResourceDefinitionCondition> conditions = Collections.emptyList();
+        List<String> storedVersions = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, CustomResourceDefinitionStatus.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "acceptedNames":
+                    acceptedNames = CustomResourceDefinitionNamesCodec.read(parser, context);
+                    break;
+                case "conditions":
+                    conditions = Codecs.readList(parser, context, CustomResourceDefinitionConditionCodec::read);
+                    break;
+                case "storedVersions":
+                    storedVersions = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new CustomResourceDefinitionStatus(acceptedNames, conditions, storedVersions);
+        } catch (IllegalArgumentException e) {
+            return (CustomResourceDefinitionStatus) context.handleInstantiationProblem(CustomResourceDefinitionStatus.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link CustomResourceDefinitionStatus}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable CustomResourceDefinitionStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("acceptedNames", value.getAcceptedNames(), CustomResourceDefinitionNamesCodec::write, generator, provider);
+        Codecs.writeListField("conditions", value.getConditions(), CustomResourceDefinitionConditionCodec::write, generator, provider);
+        Codecs.writeListField("storedVersions", value.getStoredVersions(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
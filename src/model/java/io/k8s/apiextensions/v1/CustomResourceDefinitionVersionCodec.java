@@ -0,0 +1,166 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.apiextensions.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link CustomResourceDefinitionVersion} that read and write its fields without reflection.
+ */
+public final class CustomResourceDefinitionVersionCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link CustomResourceDefinitionVersion}
+     */
+    public static final JsonDeserializer<CustomResourceDefinitionVersion> DESERIALIZER = new StdDeserializer<CustomResourceDefinitionVersion>(CustomResourceDefinitionVersion.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public CustomResourceDefinitionVersion deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return CustomResourceDefinitionVersionCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link CustomResourceDefinitionVersion}
+     */
+    public static final JsonSerializer<CustomResourceDefinitionVersion> SERIALIZER = new StdSerializer<CustomResourceDefinitionVersion>(CustomResourceDefinitionVersion.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(CustomResourceDefinitionVersion value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            CustomResourceDefinitionVersionCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private CustomResourceDefinitionVersionCodec() {
+    }
+
+    /**
+     * Compares two {@link CustomResourceDefinitionVersion}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable CustomResourceDefinitionVersion original, CustomResourceDefinitionVersion modified, Diff diff) {
+        diff.value("additionalPrinterColumns", original, modified, CustomResourceDefinitionVersion::getAdditionalPrinterColumns);
+        diff.value("name", original, modified, CustomResourceDefinitionVersion::getName);
+        diff.object("schema", original, modified, CustomResourceDefinitionVersion::getSchema, CustomResourceValidationCodec::diff);
+        diff.value("served", original, modified, CustomResourceDefinitionVersion::getServed);
+        diff.value("storage", original, modified, CustomResourceDefinitionVersion::getStorage);
+        diff.object("subresources", original, modified, CustomResourceDefinitionVersion::getSubresources, CustomResourceSubresourcesCodec::diff);
+    }
+
+    /**
+     * Reads a {@link CustomResourceDefinitionVersion}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link CustomResourceDefinitionVersion} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static CustomResourceDefinitionVersion read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<CustomResourceColumnDefinition> additionalPrinterColumns = Collections.emptyList();
+        String name = null;
+        CustomResourceValidation schema = null;
+        Boolean served = null;
+        Boolean storage = null;
+        CustomResourceSubresources subresources = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, CustomResourceDefinitionVersion.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "additionalPrinterColumns":
+                    additionalPrinterColumns = Codecs.readList(parser, context, CustomResourceColumnDefinitionCodec::read);
+                    break;
+                case "name":
+                    name = Codecs.readString(parser, context);
+                    break;
+                case "schema":
+                    schema = CustomResourceValidationCodec.read(parser, context);
+                    break;
+                case "served":
+                    served = Codecs.readBoolean(parser, context);
+                    break;
+                case "storage":
+                    storage = Codecs.readBoolean(parser, context);
+                    break;
+                case "subresources":
+                    subresources = CustomResourceSubresourcesCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new CustomResourceDefinitionVersion(additionalPrinterColumns, name, schema, served, storage, subresources);
+        } catch (IllegalArgumentException e) {
+            return (CustomResourceDefinitionVersion) context.handleInstantiationProblem(CustomResourceDefinitionVersion.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link CustomResourceDefinitionVersion}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable CustomResourceDefinitionVersion value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("additionalPrinterColumns", value.getAdditionalPrinterColumns(), CustomResourceColumnDefinitionCodec::write, generator, provider);
+        Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("schema", value.getSchema(), CustomResourceValidationCodec::write, generator, provider);
+        Codecs.writeField("served", value.getServed(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("storage", value.getStorage(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("subresources", value.getSubresources(), CustomResourceSubresourcesCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
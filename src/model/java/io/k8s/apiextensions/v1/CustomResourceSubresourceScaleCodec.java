@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.apiextensions.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link CustomResourceSubresourceScale} that read and write its fields without reflection.
+ */
+public final class CustomResourceSubresourceScaleCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link CustomResourceSubresourceScale}
+     */
+    public static final JsonDeserializer<CustomResourceSubresourceScale> DESERIALIZER = new StdDeserializer<CustomResourceSubresourceScale>(CustomResourceSubresourceScale.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public CustomResourceSubresourceScale deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return CustomResourceSubresourceScaleCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link CustomResourceSubresourceScale}
+     */
+    public static final JsonSerializer<CustomResourceSubresourceScale> SERIALIZER = new StdSerializer<CustomResourceSubresourceScale>(CustomResourceSubresourceScale.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(CustomResourceSubresourceScale value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            CustomResourceSubresourceScaleCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private CustomResourceSubresourceScaleCodec() {
+    }
+
+    /**
+     * Compares two {@link CustomResourceSubresourceScale}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable CustomResourceSubresourceScale original, CustomResourceSubresourceScale modified, Diff diff) {
+        diff.value("labelSelectorPath", original, modified, CustomResourceSubresourceScale::getLabelSelectorPath);
+        diff.value("specReplicasPath", original, modified, CustomResourceSubresourceScale::getSpecReplicasPath);
+        diff.value("statusReplicasPath", original, modified, CustomResourceSubresourceScale::getStatusReplicasPath);
+    }
+
+    /**
+     * Reads a {@link CustomResourceSubresourceScale}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link CustomResourceSubresourceScale} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static CustomResourceSubresourceScale read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String labelSelectorPath = null;
+        String specReplicasPath = null;
+        String statusReplicasPath = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, CustomResourceSubresourceScale.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "labelSelectorPath":
+                    labelSelectorPath = Codecs.readString(parser, context);
+                    break;
+                case "specReplicasPath":
+                    specReplicasPath = Codecs.readString(parser, context);
+                    break;
+                case "statusReplicasPath":
+                    statusReplicasPath = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new CustomResourceSubresourceScale(labelSelectorPath, specReplicasPath, statusReplicasPath);
+        } catch (IllegalArgumentException e) {
+            return (CustomResourceSubresourceScale) context.handleInstantiationProblem(CustomResourceSubresourceScale.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link CustomResourceSubresourceScale}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable CustomResourceSubresourceScale value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("labelSelectorPath", value.getLabelSelectorPath(), Codecs::writeString, generator, provider);
+        Codecs.writeField("specReplicasPath", value.getSpecReplicasPath(), Codecs::writeString, generator, provider);
+        Codecs.writeField("statusReplicasPath", value.getStatusReplicasPath(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
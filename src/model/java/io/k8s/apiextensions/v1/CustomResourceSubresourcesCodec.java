@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.apiextensions.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link CustomResourceSubresources} that read and write its fields without reflection.
+ */
+public final class CustomResourceSubresourcesCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link CustomResourceSubresources}
+     */
+    public static final JsonDeserializer<CustomResourceSubresources> DESERIALIZER = new StdDeserializer<CustomResourceSubresources>(CustomResourceSubresources.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public CustomResourceSubresources deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return CustomResourceSubresourcesCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link CustomResourceSubresources}
+     */
+    public static final JsonSerializer<CustomResourceSubresources> SERIALIZER = new StdSerializer<CustomResourceSubresources>(CustomResourceSubresources.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(CustomResourceSubresources value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            CustomResourceSubresourcesCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private CustomResourceSubresourcesCodec() {
+    }
+
+    /**
+     * Compares two {@link CustomResourceSubresources}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable CustomResourceSubresources original, CustomResourceSubresources modified, Diff diff) {
+        diff.object("scale", original, modified, CustomResourceSubresources::getScale, CustomResourceSubresourceScaleCodec::diff);
+        diff.object("status", original, modified, CustomResourceSubresources::getStatus, CustomResourceSubresourceStatusCodec::diff);
+    }
+
+    /**
+     * Reads a {@link CustomResourceSubresources}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link CustomResourceSubresources} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static CustomResourceSubresources read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        CustomResourceSubresourceScale scale = null;
+        CustomResourceSubresourceStatus status = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, CustomResourceSubresources.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "scale":
+                    scale = CustomResourceSubresourceScaleCodec.read(parser, context);
+                    break;
+                case "status":
+                    status = CustomResourceSubresourceStatusCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new CustomResourceSubresources(scale, status);
+        } catch (IllegalArgumentException e) {
+            return (CustomResourceSubresources) context.handleInstantiationProblem(CustomResourceSubresources.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link CustomResourceSubresources}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable CustomResourceSubresources value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("scale", value.getScale(), CustomResourceSubresourceScaleCodec::write, generator, provider);
+        Codecs.writeField("status", value.getStatus(), CustomResourceSubresourceStatusCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -47,10 +47,12 @@ public class JSONSchemaProps {
     @Nullable
     JSONSchemaPropsOrBool additionalProperties;
 
+    @JsonProperty("allOf")
     @Nullable
     @Singular("allOf")
     List<JSONSchemaProps> allOf;
 
+    @JsonProperty("anyOf")
     @Nullable
     @Singular("anyOf")
     List<JSONSchemaProps> anyOf;
@@ -155,6 +157,7 @@ public class JSONSchemaProps {
     @Nullable
     Boolean nullable;
 
+    @JsonProperty("oneOf")
     @Nullable
     @Singular("oneOf")
     List<JSONSchemaProps> oneOf;
@@ -170,6 +173,7 @@ public class JSONSchemaProps {
     @Singular
     Map<String, JSONSchemaProps> properties;
 
+    @JsonProperty("required")
     @Nullable
     @Singular("required")
     List<String> required;
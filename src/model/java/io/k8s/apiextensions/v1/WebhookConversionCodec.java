@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.apiextensions.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link WebhookConversion} that read and write its fields without reflection.
+ */
+public final class WebhookConversionCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link WebhookConversion}
+     */
+    public static final JsonDeserializer<WebhookConversion> DESERIALIZER = new StdDeserializer<WebhookConversion>(WebhookConversion.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public WebhookConversion deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return WebhookConversionCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link WebhookConversion}
+     */
+    public static final JsonSerializer<WebhookConversion> SERIALIZER = new StdSerializer<WebhookConversion>(WebhookConversion.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(WebhookConversion value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            WebhookConversionCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private WebhookConversionCodec() {
+    }
+
+    /**
+     * Compares two {@link WebhookConversion}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable WebhookConversion original, WebhookConversion modified, Diff diff) {
+        diff.object("clientConfig", original, modified, WebhookConversion::getClientConfig, WebhookClientConfigCodec::diff);
+        diff.value("conversionReviewVersions", original, modified, WebhookConversion::getConversionReviewVersions);
+    }
+
+    /**
+     * Reads a {@link WebhookConversion}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link WebhookConversion} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static WebhookConversion read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        WebhookClientConfig clientConfig = null;
+        List<String> conversionReviewVersions = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, WebhookConversion.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "clientConfig":
+                    clientConfig = WebhookClientConfigCodec.read(parser, context);
+                    break;
+                case "conversionReviewVersions":
+                    conversionReviewVersions = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new WebhookConversion(clientConfig, conversionReviewVersions);
+        } catch (IllegalArgumentException e) {
+            return (WebhookConversion) context.handleInstantiationProblem(WebhookConversion.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link WebhookConversion}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable WebhookConversion value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("clientConfig", value.getClientConfig(), WebhookClientConfigCodec::write, generator, provider);
+        Codecs.writeListField("conversionReviewVersions", value.getConversionReviewVersions(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.apiextensions.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link CustomResourceDefinitionNames} that read and write its fields without reflection.
+ */
+public final class CustomResourceDefinitionNamesCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link CustomResourceDefinitionNames}
+     */
+    public static final JsonDeserializer<CustomResourceDefinitionNames> DESERIALIZER = new StdDeserializer<CustomResourceDefinitionNames>(CustomResourceDefinitionNames.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public CustomResourceDefinitionNames deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return CustomResourceDefinitionNamesCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link CustomResourceDefinitionNames}
+     */
+    public static final JsonSerializer<CustomResourceDefinitionNames> SERIALIZER = new StdSerializer<CustomResourceDefinitionNames>(CustomResourceDefinitionNames.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(CustomResourceDefinitionNames value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            CustomResourceDefinitionNamesCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private CustomResourceDefinitionNamesCodec() {
+    }
+
+    /**
+     * Compares two {@link CustomResourceDefinitionNames}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable CustomResourceDefinitionNames original, CustomResourceDefinitionNames modified, Diff diff) {
+        diff.value("categories", original, modified, CustomResourceDefinitionNames::getCategories);
+        diff.value("kind", original, modified, CustomResourceDefinitionNames::getKind);
+        diff.value("listKind", original, modified, CustomResourceDefinitionNames::getListKind);
+        diff.value("plural", original, modified, CustomResourceDefinitionNames::getPlural);
+        diff.value("shortNames", original, modified, CustomResourceDefinitionNames::getShortNames);
+        diff.value("singular", original, modified, CustomResourceDefinitionNames::getSingular);
+    }
+
+    /**
+     * Reads a {@link CustomResourceDefinitionNames}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link CustomResourceDefinitionNames} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static CustomResourceDefinitionNames read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<String> categories = Collections.emptyList();
+        String kind = null;
+        String listKind = null;
+        String plural = null;
+        List<String> shortNames = Collections.emptyList();
+        String singular = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, CustomResourceDefinitionNames.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "categories":
+                    categories = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "kind":
+                    kind = Codecs.readInternedString(parser, context);
+                    break;
+                case "listKind":
+                    listKind = Codecs.readString(parser, context);
+                    break;
+                case "plural":
+                    plural = Codecs.readString(parser, context);
+                    break;
+                case "shortNames":
+                    shortNames = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "singular":
+                    singular = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new CustomResourceDefinitionNames(categories, kind, listKind, plural, shortNames, singular);
+        } catch (IllegalArgumentException e) {
+            return (CustomResourceDefinitionNames) context.handleInstantiationProblem(CustomResourceDefinitionNames.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link CustomResourceDefinitionNames}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable CustomResourceDefinitionNames value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("categories", value.getCategories(), Codecs::writeString, generator, provider);
+        Codecs.writeField("kind", value.getKind(), Codecs::writeString, generator, provider);
+        Codecs.writeField("listKind", value.getListKind(), Codecs::writeString, generator, provider);
+        Codecs.writeField("plural", value.getPlural(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("shortNames", value.getShortNames(), Codecs::writeString, generator, provider);
+        Codecs.writeField("singular", value.getSingular(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
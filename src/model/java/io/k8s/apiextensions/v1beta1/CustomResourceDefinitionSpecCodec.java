@@ -0,0 +1,178 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.apiextensions.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link CustomResourceDefinitionSpec} that read and write its fields without reflection.
+ */
+public final class CustomResourceDefinitionSpecCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link CustomResourceDefinitionSpec}
+     */
+    public static final JsonDeserializer<CustomResourceDefinitionSpec> DESERIALIZER = new StdDeserializer<CustomResourceDefinitionSpec>(CustomResourceDefinitionSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public CustomResourceDefinitionSpec deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return CustomResourceDefinitionSpecCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link CustomResourceDefinitionSpec}
+     */
+    public static final JsonSerializer<CustomResourceDefinitionSpec> SERIALIZER = new StdSerializer<CustomResourceDefinitionSpec>(CustomResourceDefinitionSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(CustomResourceDefinitionSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            CustomResourceDefinitionSpecCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private CustomResourceDefinitionSpecCodec() {
+    }
+
+    /**
+     * Compares two {@link CustomResourceDefinitionSpec}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable CustomResourceDefinitionSpec original, CustomResourceDefinitionSpec modified, Diff diff) {
+        diff.value("additionalPrinterColumns", original, modified, CustomResourceDefinitionSpec::getAdditionalPrinterColumns);
+        diff.object("conversion", original, modified, CustomResourceDefinitionSpec::getConversion, CustomResourceConversionCodec::diff);
+        diff.value("group", original, modified, CustomResourceDefinitionSpec::getGroup);
+        diff.object("names", original, modified, CustomResourceDefinitionSpec::getNames, CustomResourceDefinitionNamesCodec::diff);
+        diff.value("scope", original, modified, CustomResourceDefinitionSpec::getScope);
+        diff.object("subresources", original, modified, CustomResourceDefinitionSpec::getSubresources, CustomResourceSubresourcesCodec::diff);
+        diff.object("validation", original, modified, CustomResourceDefinitionSpec::getValidation, CustomResourceValidationCodec::diff);
+        diff.value("versions", original, modified, CustomResourceDefinitionSpec::getVersions);
+    }
+
+    /**
+     * Reads a {@link CustomResourceDefinitionSpec}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link CustomResourceDefinitionSpec} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static CustomResourceDefinitionSpec read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<CustomResourceColumnDefinition> additionalPrinterColumns = Collections.emptyList();
+        CustomResourceConversion conversion = null;
+        String group = null;
+        CustomResourceDefinitionNames names = null;
+        String scope = null;
+        CustomResourceSubresources subresources = null;
+        CustomResourceValidation validation = null;
+        List<CustomResourceDefinitionVersion> versions = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, CustomResourceDefinitionSpec.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "additionalPrinterColumns":
+                    additionalPrinterColumns = Codecs.readList(parser, context, CustomResourceColumnDefinitionCodec::read);
+                    break;
+                case "conversion":
+                    conversion = CustomResourceConversionCodec.read(parser, context);
+                    break;
+                case "group":
+                    group = Codecs.readString(parser, context);
+                    break;
+                case "names":
+                    names = CustomResourceDefinitionNamesCodec.read(parser, context);
+                    break;
+                case "scope":
+                    scope = Codecs.readString(parser, context);
+                    break;
+                case "subresources":
+                    subresources = CustomResourceSubresourcesCodec.read(parser, context);
+                    break;
+                case "validation":
+                    validation = CustomResourceValidationCodec.read(parser, context);
+                    break;
+                case "versions":
+                    versions = Codecs.readList(parser, context, CustomResourceDefinitionVersionCodec::read);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new CustomResourceDefinitionSpec(additionalPrinterColumns, conversion, group, names, scope, subresources, validation, versions);
+        } catch (IllegalArgumentException e) {
+            return (CustomResourceDefinitionSpec) context.handleInstantiationProblem(CustomResourceDefinitionSpec.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link CustomResourceDefinitionSpec}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable CustomResourceDefinitionSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("additionalPrinterColumns", value.getAdditionalPrinterColumns(), CustomResourceColumnDefinitionCodec::write, generator, provider);
+        Codecs.writeField("conversion", value.getConversion(), CustomResourceConversionCodec::write, generator, provider);
+        Codecs.writeField("group", value.getGroup(), Codecs::writeString, generator, provider);
+        Codecs.writeField("names", value.getNames(), CustomResourceDefinitionNamesCodec::write, generator, provider);
+        Codecs.writeField("scope", value.getScope(), Codecs::writeString, generator, provider);
+        Codecs.writeField("subresources", value.getSubresources(), CustomResourceSubresourcesCodec::write, generator, provider);
+        Codecs.writeField("validation", value.getValidation(), CustomResourceValidationCodec::write, generator, provider);
+        Codecs.writeListField("versions", value.getVersions(), CustomResourceDefinitionVersionCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,389 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.apiextensions.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link JSONSchemaProps} that read and write its fields without reflection.
+ */
+public final class JSONSchemaPropsCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link JSONSchemaProps}
+     */
+    public static final JsonDeserializer<JSONSchemaProps> DESERIALIZER = new StdDeserializer<JSONSchemaProps>(JSONSchemaProps.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public JSONSchemaProps deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return JSONSchemaPropsCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link JSONSchemaProps}
+     */
+    public static final JsonSerializer<JSONSchemaProps> SERIALIZER = new StdSerializer<JSONSchemaProps>(JSONSchemaProps.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(JSONSchemaProps value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            JSONSchemaPropsCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private JSONSchemaPropsCodec() {
+    }
+
+    /**
+     * Compares two {@link JSONSchemaProps}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable JSONSchemaProps original, JSONSchemaProps modified, Diff diff) {
+        diff.value("$ref", original, modified, JSONSchemaProps::getRef);
+        diff.value("$schema", original, modified, JSONSchemaProps::getSchema);
+        diff.object("additionalItems", original, modified, JSONSchemaProps::getAdditionalItems, JSONSchemaPropsOrBoolCodec::diff);
+        diff.object("additionalProperties", original, modified, JSONSchemaProps::getAdditionalProperties, JSONSchemaPropsOrBoolCodec::diff);
+        diff.value("allOf", original, modified, JSONSchemaProps::getAllOf);
+        diff.value("anyOf", original, modified, JSONSchemaProps::getAnyOf);
+        diff.object("default", original, modified, JSONSchemaProps::getDefault, JSONCodec::diff);
+        diff.map("definitions", original, modified, JSONSchemaProps::getDefinitions);
+        diff.map("dependencies", original, modified, JSONSchemaProps::getDependencies);
+        diff.value("description", original, modified, JSONSchemaProps::getDescription);
+        diff.value("enum", original, modified, JSONSchemaProps::getEnum);
+        diff.object("example", original, modified, JSONSchemaProps::getExample, JSONCodec::diff);
+        diff.value("exclusiveMaximum", original, modified, JSONSchemaProps::getExclusiveMaximum);
+        diff.value("exclusiveMinimum", original, modified, JSONSchemaProps::getExclusiveMinimum);
+        diff.object("externalDocs", original, modified, JSONSchemaProps::getExternalDocs, ExternalDocumentationCodec::diff);
+        diff.value("format", original, modified, JSONSchemaProps::getFormat);
+        diff.value("id", original, modified, JSONSchemaProps::getId);
+        diff.object("items", original, modified, JSONSchemaProps::getItems, JSONSchemaPropsOrArrayCodec::diff);
+        diff.value("maxItems", original, modified, JSONSchemaProps::getMaxItems);
+        diff.value("maxLength", original, modified, JSONSchemaProps::getMaxLength);
+        diff.value("maxProperties", original, modified, JSONSchemaProps::getMaxProperties);
+        diff.value("maximum", original, modified, JSONSchemaProps::getMaximum);
+        diff.value("minItems", original, modified, JSONSchemaProps::getMinItems);
+        diff.value("minLength", original, modified, JSONSchemaProps::getMinLength);
+        diff.value("minProperties", original, modified, JSONSchemaProps::getMinProperties);
+        diff.value("minimum", original, modified, JSONSchemaProps::getMinimum);
+        diff.value("multipleOf", original, modified, JSONSchemaProps::getMultipleOf);
+        diff.object("not", original, modified, JSONSchemaProps::getNot, JSONSchemaPropsCodec::diff);
+        diff.value("nullable", original, modified, JSONSchemaProps::getNullable);
+        diff.value("oneOf", original, modified, JSONSchemaProps::getOneOf);
+        diff.value("pattern", original, modified, JSONSchemaProps::getPattern);
+        diff.map("patternProperties", original, modified, JSONSchemaProps::getPatternProperties);
+        diff.map("properties", original, modified, JSONSchemaProps::getProperties);
+        diff.value("required", original, modified, JSONSchemaProps::getRequired);
+        diff.value("title", original, modified, JSONSchemaProps::getTitle);
+        diff.value("type", original, modified, JSONSchemaProps::getType);
+        diff.value("uniqueItems", original, modified, JSONSchemaProps::getUniqueItems);
+        diff.value("x-kubernetes-embedded-resource", original, modified, JSONSchemaProps::getXKubernetesEmbeddedResource);
+        diff.value("x-kubernetes-int-or-string", original, modified, JSONSchemaProps::getXKubernetesIntOrString);
+        diff.value("x-kubernetes-list-map-keys", original, modified, JSONSchemaProps::getXKubernetesListMapKeys);
+        diff.value("x-kubernetes-list-type", original, modified, JSONSchemaProps::getXKubernetesListType);
+        diff.value("x-kubernetes-map-type", original, modified, JSONSchemaProps::getXKubernetesMapType);
+        diff.value("x-kubernetes-preserve-unknown-fields", original, modified, JSONSchemaProps::getXKubernetesPreserveUnknownFields);
+    }
+
+    /**
+     * Reads a {@link JSONSchemaProps}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link JSONSchemaProps} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static JSONSchemaProps read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String _ref = null;
+        String _schema = null;
+        JSONSchemaPropsOrBool additionalItems = null;
+        JSONSchemaPropsOrBool additionalProperties = null;
+        List<JSONSchemaProps> allOf = Collections.emptyList();
+        List<JSONSchemaProps> anyOf = Collections.emptyList();
+        JSON _default = null;
+        Map<String, JSONSchemaProps> definitions = Collections.emptyMap();
+        Map<String, JSONSchemaPropsOrStringArray> dependencies = Collections.emptyMap();
+        String description = null;
+        List<JSON> _enum = Collections.emptyList();
+        JSON example = null;
+        Boolean exclusiveMaximum = null;
+        Boolean exclusiveMinimum = null;
+        ExternalDocumentation externalDocs = null;
+        String format = null;
+        String id = null;
+        JSONSchemaPropsOrArray items = null;
+        Long maxItems = null;
+        Long maxLength = null;
+        Long maxProperties = null;
+        Double maximum = null;
+        Long minItems = null;
+        Long minLength = null;
+        Long minProperties = null;
+        Double minimum = null;
+        Double multipleOf = null;
+        JSONSchemaProps not = null;
+        Boolean nullable = null;
+        List<JSONSchemaProps> oneOf = Collections.emptyList();
+        String pattern = null;
+        Map<String, JSONSchemaProps> patternProperties = Collections.emptyMap();
+        Map<String, JSONSchemaProps> properties = Collections.emptyMap();
+        List<String> required = Collections.emptyList();
+        String title = null;
+        String type = null;
+        Boolean uniqueItems = null;
+        Boolean xKubernetesEmbeddedResource = null;
+        Boolean xKubernetesIntOrString = null;
+        List<String> xKubernetesListMapKeys = Collections.emptyList();
+        String xKubernetesListType = null;
+        String xKubernetesMapType = null;
+        Boolean xKubernetesPreserveUnknownFields = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, JSONSchemaProps.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "$ref":
+                    _ref = Codecs.readString(parser, context);
+                    break;
+                case "$schema":
+                    _schema = Codecs.readString(parser, context);
+                    break;
+                case "additionalItems":
+                    additionalItems = JSONSchemaPropsOrBoolCodec.read(parser, context);
+                    break;
+                case "additionalProperties":
+                    additionalProperties = JSONSchemaPropsOrBoolCodec.read(parser, context);
+                    break;
+                case "allOf":
+                    allOf = Codecs.readList(parser, context, JSONSchemaPropsCodec::read);
+                    break;
+                case "anyOf":
+                    anyOf = Codecs.readList(parser, context, JSONSchemaPropsCodec::read);
+                    break;
+                case "default":
+                    _default = JSONCodec.read(parser, context);
+                    break;
+                case "definitions":
+                    definitions = Codecs.readMap(parser, context, JSONSchemaPropsCodec::read);
+                    break;
+                case "dependencies":
+                    dependencies = Codecs.readMap(parser, context, JSONSchemaPropsOrStringArrayCodec::read);
+                    break;
+                case "description":
+                    description = Codecs.readString(parser, context);
+                    break;
+                case "enum":
+                    _enum = Codecs.readList(parser, context, JSONCodec::read);
+                    break;
+                case "example":
+                    example = JSONCodec.read(parser, context);
+                    break;
+                case "exclusiveMaximum":
+                    exclusiveMaximum = Codecs.readBoolean(parser, context);
+                    break;
+                case "exclusiveMinimum":
+                    exclusiveMinimum = Codecs.readBoolean(parser, context);
+                    break;
+                case "externalDocs":
+                    externalDocs = ExternalDocumentationCodec.read(parser, context);
+                    break;
+                case "format":
+                    format = Codecs.readString(parser, context);
+                    break;
+                case "id":
+                    id = Codecs.readString(parser, context);
+                    break;
+                case "items":
+                    items = JSONSchemaPropsOrArrayCodec.read(parser, context);
+                    break;
+                case "maxItems":
+                    maxItems = Codecs.readLong(parser, context);
+                    break;
+                case "maxLength":
+                    maxLength = Codecs.readLong(parser, context);
+                    break;
+                case "maxProperties":
+                    maxProperties = Codecs.readLong(parser, context);
+                    break;
+                case "maximum":
+                    maximum = Codecs.readDouble(parser, context);
+                    break;
+                case "minItems":
+                    minItems = Codecs.readLong(parser, context);
+                    break;
+                case "minLength":
+                    minLength = Codecs.readLong(parser, context);
+                    break;
+                case "minProperties":
+                    minProperties = Codecs.readLong(parser, context);
+                    break;
+                case "minimum":
+                    minimum = Codecs.readDouble(parser, context);
+                    break;
+                case "multipleOf":
+                    multipleOf = Codecs.readDouble(parser, context);
+                    break;
+                case "not":
+                    not = JSONSchemaPropsCodec.read(parser, context);
+                    break;
+                case "nullable":
+                    nullable = Codecs.readBoolean(parser, context);
+                    break;
+                case "oneOf":
+                    oneOf = Codecs.readList(parser, context, JSONSchemaPropsCodec::read);
+                    break;
+                case "pattern":
+                    pattern = Codecs.readString(parser, context);
+                    break;
+                case "patternProperties":
+                    patternProperties = Codecs.readMap(parser, context, JSONSchemaPropsCodec::read);
+                    break;
+                case "properties":
+                    properties = Codecs.readMap(parser, context, JSONSchemaPropsCodec::read);
+                    break;
+                case "required":
+                    required = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "title":
+                    title = Codecs.readString(parser, context);
+                    break;
+                case "type":
+                    type = Codecs.readInternedString(parser, context);
+                    break;
+                case "uniqueItems":
+                    uniqueItems = Codecs.readBoolean(parser, context);
+                    break;
+                case "x-kubernetes-embedded-resource":
+                    xKubernetesEmbeddedResource = Codecs.readBoolean(parser, context);
+                    break;
+                case "x-kubernetes-int-or-string":
+                    xKubernetesIntOrString = Codecs.readBoolean(parser, context);
+                    break;
+                case "x-kubernetes-list-map-keys":
+                    xKubernetesListMapKeys = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "x-kubernetes-list-type":
+                    xKubernetesListType = Codecs.readString(parser, context);
+                    break;
+                case "x-kubernetes-map-type":
+                    xKubernetesMapType = Codecs.readString(parser, context);
+                    break;
+                case "x-kubernetes-preserve-unknown-fields":
+                    xKubernetesPreserveUnknownFields = Codecs.readBoolean(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new JSONSchemaProps(_ref, _schema, additionalItems, additionalProperties, allOf, anyOf, _default, definitions, dependencies, description, _enum, example, exclusiveMaximum, exclusiveMinimum, externalDocs, format, id, items, maxItems, maxLength, maxProperties, maximum, minItems, minLength, minProperties, minimum, multipleOf, not, nullable, oneOf, pattern, patternProperties, properties, required, title, type, uniqueItems, xKubernetesEmbeddedResource, xKubernetesIntOrString, xKubernetesListMapKeys, xKubernetesListType, xKubernetesMapType, xKubernetesPreserveUnknownFields);
+        } catch (IllegalArgumentException e) {
+            return (JSONSchemaProps) context.handleInstantiationProblem(JSONSchemaProps.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link JSONSchemaProps}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable JSONSchemaProps value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("$ref", value.getRef(), Codecs::writeString, generator, provider);
+        Codecs.writeField("$schema", value.getSchema(), Codecs::writeString, generator, provider);
+        Codecs.writeField("additionalItems", value.getAdditionalItems(), JSONSchemaPropsOrBoolCodec::write, generator, provider);
+        Codecs.writeField("additionalProperties", value.getAdditionalProperties(), JSONSchemaPropsOrBoolCodec::write, generator, provider);
+        Codecs.writeListField("allOf", value.getAllOf(), JSONSchemaPropsCodec::write, generator, provider);
+        Codecs.writeListField("anyOf", value.getAnyOf(), JSONSchemaPropsCodec::write, generator, provider);
+        Codecs.writeField("default", value.getDefault(), JSONCodec::write, generator, provider);
+        Codecs.writeMapField("definitions", value.getDefinitions(), JSONSchemaPropsCodec::write, generator, provider);
+        Codecs.writeMapField("dependencies", value.getDependencies(), JSONSchemaPropsOrStringArrayCodec::write, generator, provider);
+        Codecs.writeField("description", value.getDescription(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("enum", value.getEnum(), JSONCodec::write, generator, provider);
+        Codecs.writeField("example", value.getExample(), JSONCodec::write, generator, provider);
+        Codecs.writeField("exclusiveMaximum", value.getExclusiveMaximum(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("exclusiveMinimum", value.getExclusiveMinimum(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("externalDocs", value.getExternalDocs(), ExternalDocumentationCodec::write, generator, provider);
+        Codecs.writeField("format", value.getFormat(), Codecs::writeString, generator, provider);
+        Codecs.writeField("id", value.getId(), Codecs::writeString, generator, provider);
+        Codecs.writeField("items", value.getItems(), JSONSchemaPropsOrArrayCodec::write, generator, provider);
+        Codecs.writeField("maxItems", value.getMaxItems(), Codecs::writeLong, generator, provider);
+        Codecs.writeField("maxLength", value.getMaxLength(), Codecs::writeLong, generator, provider);
+        Codecs.writeField("maxProperties", value.getMaxProperties(), Codecs::writeLong, generator, provider);
+        Codecs.writeField("maximum", value.getMaximum(), Codecs::writeDouble, generator, provider);
+        Codecs.writeField("minItems", value.getMinItems(), Codecs::writeLong, generator, provider);
+        Codecs.writeField("minLength", value.getMinLength(), Codecs::writeLong, generator, provider);
+        Codecs.writeField("minProperties", value.getMinProperties(), Codecs::writeLong, generator, provider);
+        Codecs.writeField("minimum", value.getMinimum(), Codecs::writeDouble, generator, provider);
+        Codecs.writeField("multipleOf", value.getMultipleOf(), Codecs::writeDouble, generator, provider);
+        Codecs.writeField("not", value.getNot(), JSONSchemaPropsCodec::write, generator, provider);
+        Codecs.writeField("nullable", value.getNullable(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeListField("oneOf", value.getOneOf(), JSONSchemaPropsCodec::write, generator, provider);
+        Codecs.writeField("pattern", value.getPattern(), Codecs::writeString, generator, provider);
+        Codecs.writeMapField("patternProperties", value.getPatternProperties(), JSONSchemaPropsCodec::write, generator, provider);
+        Codecs.writeMapField("properties", value.getProperties(), JSONSchemaPropsCodec::write, generator, provider);
+        Codecs.writeListField("required", value.getRequired(), Codecs::writeString, generator, provider);
+        Codecs.writeField("title", value.getTitle(), Codecs::writeString, generator, provider);
+        Codecs.writeField("type", value.getType(), Codecs::writeString, generator, provider);
+        Codecs.writeField("uniqueItems", value.getUniqueItems(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("x-kubernetes-embedded-resource", value.getXKubernetesEmbeddedResource(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("x-kubernetes-int-or-string", value.getXKubernetesIntOrString(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeListField("x-kubernetes-list-map-keys", value.getXKubernetesListMapKeys(), Codecs::writeString, generator, provider);
+        Codecs.writeField("x-kubernetes-list-type", value.getXKubernetesListType(), Codecs::writeString, generator, provider);
+        Codecs.writeField("x-kubernetes-map-type", value.getXKubernetesMapType(), Codecs::writeString, generator, provider);
+        Codecs.writeField("x-kubernetes-preserve-unknown-fields", value.getXKubernetesPreserveUnknownFields(), Codecs::writeBoolean, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
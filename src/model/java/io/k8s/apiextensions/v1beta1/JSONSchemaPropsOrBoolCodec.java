@@ -0,0 +1,128 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.apiextensions.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link JSONSchemaPropsOrBool} that read and write its fields without reflection.
+ */
+public final class JSONSchemaPropsOrBoolCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link JSONSchemaPropsOrBool}
+     */
+    public static final JsonDeserializer<JSONSchemaPropsOrBool> DESERIALIZER = new StdDeserializer<JSONSchemaPropsOrBool>(JSONSchemaPropsOrBool.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public JSONSchemaPropsOrBool deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return JSONSchemaPropsOrBoolCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link JSONSchemaPropsOrBool}
+     */
+    public static final JsonSerializer<JSONSchemaPropsOrBool> SERIALIZER = new StdSerializer<JSONSchemaPropsOrBool>(JSONSchemaPropsOrBool.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(JSONSchemaPropsOrBool value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            JSONSchemaPropsOrBoolCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private JSONSchemaPropsOrBoolCodec() {
+    }
+
+    /**
+     * Compares two {@link JSONSchemaPropsOrBool}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable JSONSchemaPropsOrBool original, JSONSchemaPropsOrBool modified, Diff diff) {
+    }
+
+    /**
+     * Reads a {@link JSONSchemaPropsOrBool}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link JSONSchemaPropsOrBool} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static JSONSchemaPropsOrBool read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+
+        for (String fieldName = Codecs.startObject(parser, context, JSONSchemaPropsOrBool.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new JSONSchemaPropsOrBool();
+        } catch (IllegalArgumentException e) {
+            return (JSONSchemaPropsOrBool) context.handleInstantiationProblem(JSONSchemaPropsOrBool.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link JSONSchemaPropsOrBool}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable JSONSchemaPropsOrBool value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        generator.writeEndObject();
+    }
+
+}
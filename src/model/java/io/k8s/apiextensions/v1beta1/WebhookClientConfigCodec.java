@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.apiextensions.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link WebhookClientConfig} that read and write its fields without reflection.
+ */
+public final class WebhookClientConfigCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link WebhookClientConfig}
+     */
+    public static final JsonDeserializer<WebhookClientConfig> DESERIALIZER = new StdDeserializer<WebhookClientConfig>(WebhookClientConfig.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public WebhookClientConfig deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return WebhookClientConfigCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link WebhookClientConfig}
+     */
+    public static final JsonSerializer<WebhookClientConfig> SERIALIZER = new StdSerializer<WebhookClientConfig>(WebhookClientConfig.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(WebhookClientConfig value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            WebhookClientConfigCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private WebhookClientConfigCodec() {
+    }
+
+    /**
+     * Compares two {@link WebhookClientConfig}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable WebhookClientConfig original, WebhookClientConfig modified, Diff diff) {
+        diff.value("caBundle", original, modified, WebhookClientConfig::getCaBundle);
+        diff.object("service", original, modified, WebhookClientConfig::getService, ServiceReferenceCodec::diff);
+        diff.value("url", original, modified, WebhookClientConfig::getUrl);
+    }
+
+    /**
+     * Reads a {@link WebhookClientConfig}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link WebhookClientConfig} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static WebhookClientConfig read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String caBundle = null;
+        ServiceReference service = null;
+        String url = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, WebhookClientConfig.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "caBundle":
+                    caBundle = Codecs.readString(parser, context);
+                    break;
+                case "service":
+                    service = ServiceReferenceCodec.read(parser, context);
+                    break;
+                case "url":
+                    url = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new WebhookClientConfig(caBundle, service, url);
+        } catch (IllegalArgumentException e) {
+            return (WebhookClientConfig) context.handleInstantiationProblem(WebhookClientConfig.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link WebhookClientConfig}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable WebhookClientConfig value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("caBundle", value.getCaBundle(), Codecs::writeString, generator, provider);
+        Codecs.writeField("service", value.getService(), ServiceReferenceCodec::write, generator, provider);
+        Codecs.writeField("url", value.getUrl(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
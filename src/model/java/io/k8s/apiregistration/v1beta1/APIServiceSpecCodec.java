@@ -0,0 +1,170 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.apiregistration.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link APIServiceSpec} that read and write its fields without reflection.
+ */
+public final class APIServiceSpecCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link APIServiceSpec}
+     */
+    public static final JsonDeserializer<APIServiceSpec> DESERIALIZER = new StdDeserializer<APIServiceSpec>(APIServiceSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public APIServiceSpec deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return APIServiceSpecCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link APIServiceSpec}
+     */
+    public static final JsonSerializer<APIServiceSpec> SERIALIZER = new StdSerializer<APIServiceSpec>(APIServiceSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(APIServiceSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            APIServiceSpecCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private APIServiceSpecCodec() {
+    }
+
+    /**
+     * Compares two {@link APIServiceSpec}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable APIServiceSpec original, APIServiceSpec modified, Diff diff) {
+        diff.value("caBundle", original, modified, APIServiceSpec::getCaBundle);
+        diff.value("group", original, modified, APIServiceSpec::getGroup);
+        diff.value("groupPriorityMinimum", original, modified, APIServiceSpec::getGroupPriorityMinimum);
+        diff.value("insecureSkipTLSVerify", original, modified, APIServiceSpec::getInsecureSkipTLSVerify);
+        diff.object("service", original, modified, APIServiceSpec::getService, ServiceReferenceCodec::diff);
+        diff.value("version", original, modified, APIServiceSpec::getVersion);
+        diff.value("versionPriority", original, modified, APIServiceSpec::getVersionPriority);
+    }
+
+    /**
+     * Reads a {@link APIServiceSpec}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link APIServiceSpec} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static APIServiceSpec read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String caBundle = null;
+        String group = null;
+        Integer groupPriorityMinimum = null;
+        Boolean insecureSkipTLSVerify = null;
+        ServiceReference service = null;
+        String version = null;
+        Integer versionPriority = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, APIServiceSpec.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "caBundle":
+                    caBundle = Codecs.readString(parser, context);
+                    break;
+                case "group":
+                    group = Codecs.readString(parser, context);
+                    break;
+                case "groupPriorityMinimum":
+                    groupPriorityMinimum = Codecs.readInteger(parser, context);
+                    break;
+                case "insecureSkipTLSVerify":
+                    insecureSkipTLSVerify = Codecs.readBoolean(parser, context);
+                    break;
+                case "service":
+                    service = ServiceReferenceCodec.read(parser, context);
+                    break;
+                case "version":
+                    version = Codecs.readString(parser, context);
+                    break;
+                case "versionPriority":
+                    versionPriority = Codecs.readInteger(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new APIServiceSpec(caBundle, group, groupPriorityMinimum, insecureSkipTLSVerify, service, version, versionPriority);
+        } catch (IllegalArgumentException e) {
+            return (APIServiceSpec) context.handleInstantiationProblem(APIServiceSpec.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link APIServiceSpec}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable APIServiceSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("caBundle", value.getCaBundle(), Codecs::writeString, generator, provider);
+        Codecs.writeField("group", value.getGroup(), Codecs::writeString, generator, provider);
+        Codecs.writeField("groupPriorityMinimum", value.getGroupPriorityMinimum(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("insecureSkipTLSVerify", value.getInsecureSkipTLSVerify(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("service", value.getService(), ServiceReferenceCodec::write, generator, provider);
+        Codecs.writeField("version", value.getVersion(), Codecs::writeString, generator, provider);
+        Codecs.writeField("versionPriority", value.getVersionPriority(), Codecs::writeInteger, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
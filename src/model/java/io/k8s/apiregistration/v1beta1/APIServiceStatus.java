@@ -16,6 +16,8 @@
 
 package io.k8s.apiregistration.v1beta1;
 
+import io.k8s.type.PatchMergeKey;
+import io.k8s.type.PatchStrategy;
 import java.util.List;
 import lombok.Builder;
 import lombok.Singular;
@@ -35,6 +37,8 @@ public class APIServiceStatus {
      * Current service state of apiService.
      */
     @Nullable
+    @PatchMergeKey("type")
+    @PatchStrategy("merge")
     @Singular
     List<APIServiceCondition> conditions;
 
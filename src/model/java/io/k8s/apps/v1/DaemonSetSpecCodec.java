@@ -0,0 +1,162 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.apps.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.core.v1.PodTemplateSpec;
+import io.k8s.core.v1.PodTemplateSpecCodec;
+import io.k8s.meta.v1.LabelSelector;
+import io.k8s.meta.v1.LabelSelectorCodec;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link DaemonSetSpec} that read and write its fields without reflection.
+ */
+public final class DaemonSetSpecCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link DaemonSetSpec}
+     */
+    public static final JsonDeserializer<DaemonSetSpec> DESERIALIZER = new StdDeserializer<DaemonSetSpec>(DaemonSetSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public DaemonSetSpec deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return DaemonSetSpecCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link DaemonSetSpec}
+     */
+    public static final JsonSerializer<DaemonSetSpec> SERIALIZER = new StdSerializer<DaemonSetSpec>(DaemonSetSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(DaemonSetSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            DaemonSetSpecCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private DaemonSetSpecCodec() {
+    }
+
+    /**
+     * Compares two {@link DaemonSetSpec}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable DaemonSetSpec original, DaemonSetSpec modified, Diff diff) {
+        diff.value("minReadySeconds", original, modified, DaemonSetSpec::getMinReadySeconds);
+        diff.value("revisionHistoryLimit", original, modified, DaemonSetSpec::getRevisionHistoryLimit);
+        diff.object("selector", original, modified, DaemonSetSpec::getSelector, LabelSelectorCodec::diff);
+        diff.object("template", original, modified, DaemonSetSpec::getTemplate, PodTemplateSpecCodec::diff);
+        diff.object("updateStrategy", original, modified, DaemonSetSpec::getUpdateStrategy, DaemonSetUpdateStrategyCodec::diff);
+    }
+
+    /**
+     * Reads a {@link DaemonSetSpec}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link DaemonSetSpec} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static DaemonSetSpec read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Integer minReadySeconds = null;
+        Integer revisionHistoryLimit = null;
+        LabelSelector selector = null;
+        PodTemplateSpec template = null;
+        DaemonSetUpdateStrategy updateStrategy = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, DaemonSetSpec.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "minReadySeconds":
+                    minReadySeconds = Codecs.readInteger(parser, context);
+                    break;
+                case "revisionHistoryLimit":
+                    revisionHistoryLimit = Codecs.readInteger(parser, context);
+                    break;
+                case "selector":
+                    selector = LabelSelectorCodec.read(parser, context);
+                    break;
+                case "template":
+                    template = PodTemplateSpecCodec.read(parser, context);
+                    break;
+                case "updateStrategy":
+                    updateStrategy = DaemonSetUpdateStrategyCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new DaemonSetSpec(minReadySeconds, revisionHistoryLimit, selector, template, updateStrategy);
+        } catch (IllegalArgumentException e) {
+            return (DaemonSetSpec) context.handleInstantiationProblem(DaemonSetSpec.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link DaemonSetSpec}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable DaemonSetSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("minReadySeconds", value.getMinReadySeconds(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("revisionHistoryLimit", value.getRevisionHistoryLimit(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("selector", value.getSelector(), LabelSelectorCodec::write, generator, provider);
+        Codecs.writeField("template", value.getTemplate(), PodTemplateSpecCodec::write, generator, provider);
+        Codecs.writeField("updateStrategy", value.getUpdateStrategy(), DaemonSetUpdateStrategyCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
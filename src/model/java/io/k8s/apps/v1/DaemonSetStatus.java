@@ -16,6 +16,8 @@
 
 package io.k8s.apps.v1;
 
+import io.k8s.type.PatchMergeKey;
+import io.k8s.type.PatchStrategy;
 import java.util.List;
 import lombok.Builder;
 import lombok.Singular;
@@ -43,6 +45,8 @@ public class DaemonSetStatus {
      * Represents the latest available observations of a DaemonSet's current state.
      */
     @Nullable
+    @PatchMergeKey("type")
+    @PatchStrategy("merge")
     @Singular
     List<DaemonSetCondition> conditions;
 
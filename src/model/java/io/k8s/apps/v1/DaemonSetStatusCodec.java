@@ -0,0 +1,190 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.apps.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link DaemonSetStatus} that read and write its fields without reflection.
+ */
+public final class DaemonSetStatusCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link DaemonSetStatus}
+     */
+    public static final JsonDeserializer<DaemonSetStatus> DESERIALIZER = new StdDeserializer<DaemonSetStatus>(DaemonSetStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public DaemonSetStatus deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return DaemonSetStatusCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link DaemonSetStatus}
+     */
+    public static final JsonSerializer<DaemonSetStatus> SERIALIZER = new StdSerializer<DaemonSetStatus>(DaemonSetStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(DaemonSetStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            DaemonSetStatusCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private DaemonSetStatusCodec() {
+    }
+
+    /**
+     * Compares two {@link DaemonSetStatus}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable DaemonSetStatus original, DaemonSetStatus modified, Diff diff) {
+        diff.value("collisionCount", original, modified, DaemonSetStatus::getCollisionCount);
+        diff.list("conditions", original, modified, DaemonSetStatus::getConditions, "type", DaemonSetCondition::getType, DaemonSetConditionCodec::diff);
+        diff.value("currentNumberScheduled", original, modified, DaemonSetStatus::getCurrentNumberScheduled);
+        diff.value("desiredNumberScheduled", original, modified, DaemonSetStatus::getDesiredNumberScheduled);
+        diff.value("numberAvailable", original, modified, DaemonSetStatus::getNumberAvailable);
+        diff.value("numberMisscheduled", original, modified, DaemonSetStatus::getNumberMisscheduled);
+        diff.value("numberReady", original, modified, DaemonSetStatus::getNumberReady);
+        diff.value("numberUnavailable", original, modified, DaemonSetStatus::getNumberUnavailable);
+        diff.value("observedGeneration", original, modified, DaemonSetStatus::getObservedGeneration);
+        diff.value("updatedNumberScheduled", original, modified, DaemonSetStatus::getUpdatedNumberScheduled);
+    }
+
+    /**
+     * Reads a {@link DaemonSetStatus}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link DaemonSetStatus} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static DaemonSetStatus read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Integer collisionCount = null;
+        List<DaemonSetCondition> conditions = Collections.emptyList();
+        Integer currentNumberScheduled = null;
+        Integer desiredNumberScheduled = null;
+        Integer numberAvailable = null;
+        Integer numberMisscheduled = null;
+        Integer numberReady = null;
+        Integer numberUnavailable = null;
+        Long observedGeneration = null;
+        Integer updatedNumberScheduled = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, DaemonSetStatus.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "collisionCount":
+                    collisionCount = Codecs.readInteger(parser, context);
+                    break;
+                case "conditions":
+                    conditions = Codecs.readList(parser, context, DaemonSetConditionCodec::read);
+                    break;
+                case "currentNumberScheduled":
+                    currentNumberScheduled = Codecs.readInteger(parser, context);
+                    break;
+                case "desiredNumberScheduled":
+                    desiredNumberScheduled = Codecs.readInteger(parser, context);
+                    break;
+                case "numberAvailable":
+                    numberAvailable = Codecs.readInteger(parser, context);
+                    break;
+                case "numberMisscheduled":
+                    numberMisscheduled = Codecs.readInteger(parser, context);
+                    break;
+                case "numberReady":
+                    numberReady = Codecs.readInteger(parser, context);
+                    break;
+                case "numberUnavailable":
+                    numberUnavailable = Codecs.readInteger(parser, context);
+                    break;
+                case "observedGeneration":
+                    observedGeneration = Codecs.readLong(parser, context);
+                    break;
+                case "updatedNumberScheduled":
+                    updatedNumberScheduled = Codecs.readInteger(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new DaemonSetStatus(collisionCount, conditions, currentNumberScheduled, desiredNumberScheduled, numberAvailable, numberMisscheduled, numberReady, numberUnavailable, observedGeneration, updatedNumberScheduled);
+        } catch (IllegalArgumentException e) {
+            return (DaemonSetStatus) context.handleInstantiationProblem(DaemonSetStatus.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link DaemonSetStatus}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable DaemonSetStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("collisionCount", value.getCollisionCount(), Codecs::writeInteger, generator, provider);
+        Codecs.writeListField("conditions", value.getConditions(), DaemonSetConditionCodec::write, generator, provider);
+        Codecs.writeField("currentNumberScheduled", value.getCurrentNumberScheduled(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("desiredNumberScheduled", value.getDesiredNumberScheduled(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("numberAvailable", value.getNumberAvailable(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("numberMisscheduled", value.getNumberMisscheduled(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("numberReady", value.getNumberReady(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("numberUnavailable", value.getNumberUnavailable(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("observedGeneration", value.getObservedGeneration(), Codecs::writeLong, generator, provider);
+        Codecs.writeField("updatedNumberScheduled", value.getUpdatedNumberScheduled(), Codecs::writeInteger, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
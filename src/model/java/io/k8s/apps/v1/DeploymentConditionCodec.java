@@ -0,0 +1,165 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.apps.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link DeploymentCondition} that read and write its fields without reflection.
+ */
+public final class DeploymentConditionCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link DeploymentCondition}
+     */
+    public static final JsonDeserializer<DeploymentCondition> DESERIALIZER = new StdDeserializer<DeploymentCondition>(DeploymentCondition.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public DeploymentCondition deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return DeploymentConditionCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link DeploymentCondition}
+     */
+    public static final JsonSerializer<DeploymentCondition> SERIALIZER = new StdSerializer<DeploymentCondition>(DeploymentCondition.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(DeploymentCondition value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            DeploymentConditionCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private DeploymentConditionCodec() {
+    }
+
+    /**
+     * Compares two {@link DeploymentCondition}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable DeploymentCondition original, DeploymentCondition modified, Diff diff) {
+        diff.value("lastTransitionTime", original, modified, DeploymentCondition::getLastTransitionTime);
+        diff.value("lastUpdateTime", original, modified, DeploymentCondition::getLastUpdateTime);
+        diff.value("message", original, modified, DeploymentCondition::getMessage);
+        diff.value("reason", original, modified, DeploymentCondition::getReason);
+        diff.value("status", original, modified, DeploymentCondition::getStatus);
+        diff.value("type", original, modified, DeploymentCondition::getType);
+    }
+
+    /**
+     * Reads a {@link DeploymentCondition}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link DeploymentCondition} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static DeploymentCondition read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        OffsetDateTime lastTransitionTime = null;
+        OffsetDateTime lastUpdateTime = null;
+        String message = null;
+        String reason = null;
+        String status = null;
+        String type = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, DeploymentCondition.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "lastTransitionTime":
+                    lastTransitionTime = Codecs.readDateTime(parser, context);
+                    break;
+                case "lastUpdateTime":
+                    lastUpdateTime = Codecs.readDateTime(parser, context);
+                    break;
+                case "message":
+                    message = Codecs.readString(parser, context);
+                    break;
+                case "reason":
+                    reason = Codecs.readInternedString(parser, context);
+                    break;
+                case "status":
+                    status = Codecs.readInternedString(parser, context);
+                    break;
+                case "type":
+                    type = Codecs.readInternedString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new DeploymentCondition(lastTransitionTime, lastUpdateTime, message, reason, status, type);
+        } catch (IllegalArgumentException e) {
+            return (DeploymentCondition) context.handleInstantiationProblem(DeploymentCondition.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link DeploymentCondition}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable DeploymentCondition value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("lastTransitionTime", value.getLastTransitionTime(), Codecs::writeDateTime, generator, provider);
+        Codecs.writeField("lastUpdateTime", value.getLastUpdateTime(), Codecs::writeDateTime, generator, provider);
+        Codecs.writeField("message", value.getMessage(), Codecs::writeString, generator, provider);
+        Codecs.writeField("reason", value.getReason(), Codecs::writeString, generator, provider);
+        Codecs.writeField("status", value.getStatus(), Codecs::writeString, generator, provider);
+        Codecs.writeField("type", value.getType(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -18,6 +18,7 @@ package io.k8s.apps.v1;
 
 import io.k8s.core.v1.PodTemplateSpec;
 import io.k8s.meta.v1.LabelSelector;
+import io.k8s.type.PatchStrategy;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.jackson.Jacksonized;
@@ -71,6 +72,7 @@ public class DeploymentSpec {
     LabelSelector selector;
 
     @Nullable
+    @PatchStrategy("retainKeys")
     DeploymentStrategy strategy;
 
     @NonNull
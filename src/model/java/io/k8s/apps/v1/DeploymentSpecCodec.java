@@ -0,0 +1,180 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.apps.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.core.v1.PodTemplateSpec;
+import io.k8s.core.v1.PodTemplateSpecCodec;
+import io.k8s.meta.v1.LabelSelector;
+import io.k8s.meta.v1.LabelSelectorCodec;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link DeploymentSpec} that read and write its fields without reflection.
+ */
+public final class DeploymentSpecCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link DeploymentSpec}
+     */
+    public static final JsonDeserializer<DeploymentSpec> DESERIALIZER = new StdDeserializer<DeploymentSpec>(DeploymentSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public DeploymentSpec deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return DeploymentSpecCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link DeploymentSpec}
+     */
+    public static final JsonSerializer<DeploymentSpec> SERIALIZER = new StdSerializer<DeploymentSpec>(DeploymentSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(DeploymentSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            DeploymentSpecCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private DeploymentSpecCodec() {
+    }
+
+    /**
+     * Compares two {@link DeploymentSpec}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable DeploymentSpec original, DeploymentSpec modified, Diff diff) {
+        diff.value("minReadySeconds", original, modified, DeploymentSpec::getMinReadySeconds);
+        diff.value("paused", original, modified, DeploymentSpec::getPaused);
+        diff.value("progressDeadlineSeconds", original, modified, DeploymentSpec::getProgressDeadlineSeconds);
+        diff.value("replicas", original, modified, DeploymentSpec::getReplicas);
+        diff.value("revisionHistoryLimit", original, modified, DeploymentSpec::getRevisionHistoryLimit);
+        diff.object("selector", original, modified, DeploymentSpec::getSelector, LabelSelectorCodec::diff);
+        diff.object("strategy", original, modified, DeploymentSpec::getStrategy, Diff.retainKeys(DeploymentStrategyCodec::diff));
+        diff.object("template", original, modified, DeploymentSpec::getTemplate, PodTemplateSpecCodec::diff);
+    }
+
+    /**
+     * Reads a {@link DeploymentSpec}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link DeploymentSpec} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static DeploymentSpec read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Integer minReadySeconds = null;
+        Boolean paused = null;
+        Integer progressDeadlineSeconds = null;
+        Integer replicas = null;
+        Integer revisionHistoryLimit = null;
+        LabelSelector selector = null;
+        DeploymentStrategy strategy = null;
+        PodTemplateSpec template = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, DeploymentSpec.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "minReadySeconds":
+                    minReadySeconds = Codecs.readInteger(parser, context);
+                    break;
+                case "paused":
+                    paused = Codecs.readBoolean(parser, context);
+                    break;
+                case "progressDeadlineSeconds":
+                    progressDeadlineSeconds = Codecs.readInteger(parser, context);
+                    break;
+                case "replicas":
+                    replicas = Codecs.readInteger(parser, context);
+                    break;
+                case "revisionHistoryLimit":
+                    revisionHistoryLimit = Codecs.readInteger(parser, context);
+                    break;
+                case "selector":
+                    selector = LabelSelectorCodec.read(parser, context);
+                    break;
+                case "strategy":
+                    strategy = DeploymentStrategyCodec.read(parser, context);
+                    break;
+                case "template":
+                    template = PodTemplateSpecCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new DeploymentSpec(minReadySeconds, paused, progressDeadlineSeconds, replicas, revisionHistoryLimit, selector, strategy, template);
+        } catch (IllegalArgumentException e) {
+            return (DeploymentSpec) context.handleInstantiationProblem(DeploymentSpec.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link DeploymentSpec}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable DeploymentSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("minReadySeconds", value.getMinReadySeconds(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("paused", value.getPaused(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("progressDeadlineSeconds", value.getProgressDeadlineSeconds(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("replicas", value.getReplicas(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("revisionHistoryLimit", value.getRevisionHistoryLimit(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("selector", value.getSelector(), LabelSelectorCodec::write, generator, provider);
+        Codecs.writeField("strategy", value.getStrategy(), DeploymentStrategyCodec::write, generator, provider);
+        Codecs.writeField("template", value.getTemplate(), PodTemplateSpecCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -16,6 +16,8 @@
 
 package io.k8s.apps.v1;
 
+import io.k8s.type.PatchMergeKey;
+import io.k8s.type.PatchStrategy;
 import java.util.List;
 import lombok.Builder;
 import lombok.Singular;
@@ -48,6 +50,8 @@ public class DeploymentStatus {
      * Represents the latest available observations of a deployment's current state.
      */
     @Nullable
+    @PatchMergeKey("type")
+    @PatchStrategy("merge")
     @Singular
     List<DeploymentCondition> conditions;
 
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.apps.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link DeploymentStatus} that read and write its fields without reflection.
+ */
+public final class DeploymentStatusCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link DeploymentStatus}
+     */
+    public static final JsonDeserializer<DeploymentStatus> DESERIALIZER = new StdDeserializer<DeploymentStatus>(DeploymentStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public DeploymentStatus deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return DeploymentStatusCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link DeploymentStatus}
+     */
+    public static final JsonSerializer<DeploymentStatus> SERIALIZER = new StdSerializer<DeploymentStatus>(DeploymentStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(DeploymentStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            DeploymentStatusCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private DeploymentStatusCodec() {
+    }
+
+    /**
+     * Compares two {@link DeploymentStatus}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable DeploymentStatus original, DeploymentStatus modified, Diff diff) {
+        diff.value("availableReplicas", original, modified, DeploymentStatus::getAvailableReplicas);
+        diff.value("collisionCount", original, modified, DeploymentStatus::getCollisionCount);
+        diff.list("conditions", original, modified, DeploymentStatus::getConditions, "type", DeploymentCondition::getType, DeploymentConditionCodec::diff);
+        diff.value("observedGeneration", original, modified, DeploymentStatus::getObservedGeneration);
+        diff.value("readyReplicas", original, modified, DeploymentStatus::getReadyReplicas);
+        diff.value("replicas", original, modified, DeploymentStatus::getReplicas);
+        diff.value("unavailableReplicas", original, modified, DeploymentStatus::getUnavailableReplicas);
+        diff.value("updatedReplicas", original, modified, DeploymentStatus::getUpdatedReplicas);
+    }
+
+    /**
+     * Reads a {@link DeploymentStatus}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link DeploymentStatus} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static DeploymentStatus read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Integer availableReplicas = null;
+        Integer collisionCount = null;
+        List<DeploymentCondition> conditions = Collections.emptyList();
+        Long observedGeneration = null;
+        Integer readyReplicas = null;
+        Integer replicas = null;
+        Integer unavailableReplicas = null;
+        Integer updatedReplicas = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, DeploymentStatus.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "availableReplicas":
+                    availableReplicas = Codecs.readInteger(parser, context);
+                    break;
+                case "collisionCount":
+                    collisionCount = Codecs.readInteger(parser, context);
+                    break;
+                case "conditions":
+                    conditions = Codecs.readList(parser, context, DeploymentConditionCodec::read);
+                    break;
+                case "observedGeneration":
+                    observedGeneration = Codecs.readLong(parser, context);
+                    break;
+                case "readyReplicas":
+                    readyReplicas = Codecs.readInteger(parser, context);
+                    break;
+                case "replicas":
+                    replicas = Codecs.readInteger(parser, context);
+                    break;
+                case "unavailableReplicas":
+                    unavailableReplicas = Codecs.readInteger(parser, context);
+                    break;
+                case "updatedReplicas":
+                    updatedReplicas = Codecs.readInteger(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new DeploymentStatus(availableReplicas, collisionCount, conditions, observedGeneration, readyReplicas, replicas, unavailableReplicas, updatedReplicas);
+        } catch (IllegalArgumentException e) {
+            return (DeploymentStatus) context.handleInstantiationProblem(DeploymentStatus.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link DeploymentStatus}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable DeploymentStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("availableReplicas", value.getAvailableReplicas(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("collisionCount", value.getCollisionCount(), Codecs::writeInteger, generator, provider);
+        Codecs.writeListField("conditions", value.getConditions(), DeploymentConditionCodec::write, generator, provider);
+        Codecs.writeField("observedGeneration", value.getObservedGeneration(), Codecs::writeLong, generator, provider);
+        Codecs.writeField("readyReplicas", value.getReadyReplicas(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("replicas", value.getReplicas(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("unavailableReplicas", value.getUnavailableReplicas(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("updatedReplicas", value.getUpdatedReplicas(), Codecs::writeInteger, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
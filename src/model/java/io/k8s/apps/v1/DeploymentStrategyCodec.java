@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.apps.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link DeploymentStrategy} that read and write its fields without reflection.
+ */
+public final class DeploymentStrategyCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link DeploymentStrategy}
+     */
+    public static final JsonDeserializer<DeploymentStrategy> DESERIALIZER = new StdDeserializer<DeploymentStrategy>(DeploymentStrategy.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public DeploymentStrategy deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return DeploymentStrategyCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link DeploymentStrategy}
+     */
+    public static final JsonSerializer<DeploymentStrategy> SERIALIZER = new StdSerializer<DeploymentStrategy>(DeploymentStrategy.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(DeploymentStrategy value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            DeploymentStrategyCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private DeploymentStrategyCodec() {
+    }
+
+    /**
+     * Compares two {@link DeploymentStrategy}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable DeploymentStrategy original, DeploymentStrategy modified, Diff diff) {
+        diff.object("rollingUpdate", original, modified, DeploymentStrategy::getRollingUpdate, RollingUpdateDeploymentCodec::diff);
+        diff.value("type", original, modified, DeploymentStrategy::getType);
+    }
+
+    /**
+     * Reads a {@link DeploymentStrategy}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link DeploymentStrategy} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static DeploymentStrategy read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        RollingUpdateDeployment rollingUpdate = null;
+        String type = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, DeploymentStrategy.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "rollingUpdate":
+                    rollingUpdate = RollingUpdateDeploymentCodec.read(parser, context);
+                    break;
+                case "type":
+                    type = Codecs.readInternedString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new DeploymentStrategy(rollingUpdate, type);
+        } catch (IllegalArgumentException e) {
+            return (DeploymentStrategy) context.handleInstantiationProblem(DeploymentStrategy.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link DeploymentStrategy}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable DeploymentStrategy value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("rollingUpdate", value.getRollingUpdate(), RollingUpdateDeploymentCodec::write, generator, provider);
+        Codecs.writeField("type", value.getType(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
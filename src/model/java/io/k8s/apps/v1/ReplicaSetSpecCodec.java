@@ -0,0 +1,156 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.apps.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.core.v1.PodTemplateSpec;
+import io.k8s.core.v1.PodTemplateSpecCodec;
+import io.k8s.meta.v1.LabelSelector;
+import io.k8s.meta.v1.LabelSelectorCodec;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ReplicaSetSpec} that read and write its fields without reflection.
+ */
+public final class ReplicaSetSpecCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ReplicaSetSpec}
+     */
+    public static final JsonDeserializer<ReplicaSetSpec> DESERIALIZER = new StdDeserializer<ReplicaSetSpec>(ReplicaSetSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ReplicaSetSpec deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ReplicaSetSpecCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ReplicaSetSpec}
+     */
+    public static final JsonSerializer<ReplicaSetSpec> SERIALIZER = new StdSerializer<ReplicaSetSpec>(ReplicaSetSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ReplicaSetSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ReplicaSetSpecCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ReplicaSetSpecCodec() {
+    }
+
+    /**
+     * Compares two {@link ReplicaSetSpec}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ReplicaSetSpec original, ReplicaSetSpec modified, Diff diff) {
+        diff.value("minReadySeconds", original, modified, ReplicaSetSpec::getMinReadySeconds);
+        diff.value("replicas", original, modified, ReplicaSetSpec::getReplicas);
+        diff.object("selector", original, modified, ReplicaSetSpec::getSelector, LabelSelectorCodec::diff);
+        diff.object("template", original, modified, ReplicaSetSpec::getTemplate, PodTemplateSpecCodec::diff);
+    }
+
+    /**
+     * Reads a {@link ReplicaSetSpec}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ReplicaSetSpec} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ReplicaSetSpec read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Integer minReadySeconds = null;
+        Integer replicas = null;
+        LabelSelector selector = null;
+        PodTemplateSpec template = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, ReplicaSetSpec.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "minReadySeconds":
+                    minReadySeconds = Codecs.readInteger(parser, context);
+                    break;
+                case "replicas":
+                    replicas = Codecs.readInteger(parser, context);
+                    break;
+                case "selector":
+                    selector = LabelSelectorCodec.read(parser, context);
+                    break;
+                case "template":
+                    template = PodTemplateSpecCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ReplicaSetSpec(minReadySeconds, replicas, selector, template);
+        } catch (IllegalArgumentException e) {
+            return (ReplicaSetSpec) context.handleInstantiationProblem(ReplicaSetSpec.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ReplicaSetSpec}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ReplicaSetSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("minReadySeconds", value.getMinReadySeconds(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("replicas", value.getReplicas(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("selector", value.getSelector(), LabelSelectorCodec::write, generator, provider);
+        Codecs.writeField("template", value.getTemplate(), PodTemplateSpecCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -16,6 +16,8 @@
 
 package io.k8s.apps.v1;
 
+import io.k8s.type.PatchMergeKey;
+import io.k8s.type.PatchStrategy;
 import java.util.List;
 import lombok.Builder;
 import lombok.Singular;
@@ -42,6 +44,8 @@ public class ReplicaSetStatus {
      * Represents the latest available observations of a replica set's current state.
      */
     @Nullable
+    @PatchMergeKey("type")
+    @PatchStrategy("merge")
     @Singular
     List<ReplicaSetCondition> conditions;
 
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.apps.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ReplicaSetStatus} that read and write its fields without reflection.
+ */
+public final class ReplicaSetStatusCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ReplicaSetStatus}
+     */
+    public static final JsonDeserializer<ReplicaSetStatus> DESERIALIZER = new StdDeserializer<ReplicaSetStatus>(ReplicaSetStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ReplicaSetStatus deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ReplicaSetStatusCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ReplicaSetStatus}
+     */
+    public static final JsonSerializer<ReplicaSetStatus> SERIALIZER = new StdSerializer<ReplicaSetStatus>(ReplicaSetStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ReplicaSetStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ReplicaSetStatusCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ReplicaSetStatusCodec() {
+    }
+
+    /**
+     * Compares two {@link ReplicaSetStatus}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ReplicaSetStatus original, ReplicaSetStatus modified, Diff diff) {
+        diff.value("availableReplicas", original, modified, ReplicaSetStatus::getAvailableReplicas);
+        diff.list("conditions", original, modified, ReplicaSetStatus::getConditions, "type", ReplicaSetCondition::getType, ReplicaSetConditionCodec::diff);
+        diff.value("fullyLabeledReplicas", original, modified, ReplicaSetStatus::getFullyLabeledReplicas);
+        diff.value("observedGeneration", original, modified, ReplicaSetStatus::getObservedGeneration);
+        diff.value("readyReplicas", original, modified, ReplicaSetStatus::getReadyReplicas);
+        diff.value("replicas", original, modified, ReplicaSetStatus::getReplicas);
+    }
+
+    /**
+     * Reads a {@link ReplicaSetStatus}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ReplicaSetStatus} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ReplicaSetStatus read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Integer availableReplicas = null;
+        List<ReplicaSetCondition> conditions = Collections.emptyList();
+        Integer fullyLabeledReplicas = null;
+        Long observedGeneration = null;
+        Integer readyReplicas = null;
+        Integer replicas = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, ReplicaSetStatus.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "availableReplicas":
+                    availableReplicas = Codecs.readInteger(parser, context);
+                    break;
+                case "conditions":
+                    conditions = Codecs.readList(parser, context, ReplicaSetConditionCodec::read);
+                    break;
+                case "fullyLabeledReplicas":
+                    fullyLabeledReplicas = Codecs.readInteger(parser, context);
+                    break;
+                case "observedGeneration":
+                    observedGeneration = Codecs.readLong(parser, context);
+                    break;
+                case "readyReplicas":
+                    readyReplicas = Codecs.readInteger(parser, context);
+                    break;
+                case "replicas":
+                    replicas = Codecs.readInteger(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ReplicaSetStatus(availableReplicas, conditions, fullyLabeledReplicas, observedGeneration, readyReplicas, replicas);
+        } catch (IllegalArgumentException e) {
+            return (ReplicaSetStatus) context.handleInstantiationProblem(ReplicaSetStatus.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ReplicaSetStatus}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ReplicaSetStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("availableReplicas", value.getAvailableReplicas(), Codecs::writeInteger, generator, provider);
+        Codecs.writeListField("conditions", value.getConditions(), ReplicaSetConditionCodec::write, generator, provider);
+        Codecs.writeField("fullyLabeledReplicas", value.getFullyLabeledReplicas(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("observedGeneration", value.getObservedGeneration(), Codecs::writeLong, generator, provider);
+        Codecs.writeField("readyReplicas", value.getReadyReplicas(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("replicas", value.getReplicas(), Codecs::writeInteger, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -16,6 +16,7 @@
 
 package io.k8s.apps.v1;
 
+import io.k8s.intstr.IntOrString;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.jackson.Jacksonized;
@@ -30,6 +31,6 @@ import org.springframework.lang.Nullable;
 public class RollingUpdateDaemonSet {
 
     @Nullable
-    String maxUnavailable;
+    IntOrString maxUnavailable;
 
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.apps.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.intstr.IntOrString;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link RollingUpdateDaemonSet} that read and write its fields without reflection.
+ */
+public final class RollingUpdateDaemonSetCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link RollingUpdateDaemonSet}
+     */
+    public static final JsonDeserializer<RollingUpdateDaemonSet> DESERIALIZER = new StdDeserializer<RollingUpdateDaemonSet>(RollingUpdateDaemonSet.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public RollingUpdateDaemonSet deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return RollingUpdateDaemonSetCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link RollingUpdateDaemonSet}
+     */
+    public static final JsonSerializer<RollingUpdateDaemonSet> SERIALIZER = new StdSerializer<RollingUpdateDaemonSet>(RollingUpdateDaemonSet.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(RollingUpdateDaemonSet value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            RollingUpdateDaemonSetCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private RollingUpdateDaemonSetCodec() {
+    }
+
+    /**
+     * Compares two {@link RollingUpdateDaemonSet}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable RollingUpdateDaemonSet original, RollingUpdateDaemonSet modified, Diff diff) {
+        diff.value("maxUnavailable", original, modified, RollingUpdateDaemonSet::getMaxUnavailable);
+    }
+
+    /**
+     * Reads a {@link RollingUpdateDaemonSet}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link RollingUpdateDaemonSet} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static RollingUpdateDaemonSet read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        IntOrString maxUnavailable = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, RollingUpdateDaemonSet.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "maxUnavailable":
+                    maxUnavailable = Codecs.readIntOrString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new RollingUpdateDaemonSet(maxUnavailable);
+        } catch (IllegalArgumentException e) {
+            return (RollingUpdateDaemonSet) context.handleInstantiationProblem(RollingUpdateDaemonSet.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link RollingUpdateDaemonSet}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable RollingUpdateDaemonSet value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("maxUnavailable", value.getMaxUnavailable(), Codecs::writeIntOrString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
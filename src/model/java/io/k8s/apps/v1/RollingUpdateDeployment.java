@@ -16,6 +16,7 @@
 
 package io.k8s.apps.v1;
 
+import io.k8s.intstr.IntOrString;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.jackson.Jacksonized;
@@ -30,9 +31,9 @@ import org.springframework.lang.Nullable;
 public class RollingUpdateDeployment {
 
     @Nullable
-    String maxSurge;
+    IntOrString maxSurge;
 
     @Nullable
-    String maxUnavailable;
+    IntOrString maxUnavailable;
 
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.apps.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.intstr.IntOrString;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link RollingUpdateDeployment} that read and write its fields without reflection.
+ */
+public final class RollingUpdateDeploymentCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link RollingUpdateDeployment}
+     */
+    public static final JsonDeserializer<RollingUpdateDeployment> DESERIALIZER = new StdDeserializer<RollingUpdateDeployment>(RollingUpdateDeployment.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public RollingUpdateDeployment deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return RollingUpdateDeploymentCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link RollingUpdateDeployment}
+     */
+    public static final JsonSerializer<RollingUpdateDeployment> SERIALIZER = new StdSerializer<RollingUpdateDeployment>(RollingUpdateDeployment.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(RollingUpdateDeployment value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            RollingUpdateDeploymentCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private RollingUpdateDeploymentCodec() {
+    }
+
+    /**
+     * Compares two {@link RollingUpdateDeployment}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable RollingUpdateDeployment original, RollingUpdateDeployment modified, Diff diff) {
+        diff.value("maxSurge", original, modified, RollingUpdateDeployment::getMaxSurge);
+        diff.value("maxUnavailable", original, modified, RollingUpdateDeployment::getMaxUnavailable);
+    }
+
+    /**
+     * Reads a {@link RollingUpdateDeployment}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link RollingUpdateDeployment} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static RollingUpdateDeployment read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        IntOrString maxSurge = null;
+        IntOrString maxUnavailable = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, RollingUpdateDeployment.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "maxSurge":
+                    maxSurge = Codecs.readIntOrString(parser, context);
+                    break;
+                case "maxUnavailable":
+                    maxUnavailable = Codecs.readIntOrString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new RollingUpdateDeployment(maxSurge, maxUnavailable);
+        } catch (IllegalArgumentException e) {
+            return (RollingUpdateDeployment) context.handleInstantiationProblem(RollingUpdateDeployment.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link RollingUpdateDeployment}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable RollingUpdateDeployment value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("maxSurge", value.getMaxSurge(), Codecs::writeIntOrString, generator, provider);
+        Codecs.writeField("maxUnavailable", value.getMaxUnavailable(), Codecs::writeIntOrString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.apps.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link RollingUpdateStatefulSetStrategy} that read and write its fields without reflection.
+ */
+public final class RollingUpdateStatefulSetStrategyCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link RollingUpdateStatefulSetStrategy}
+     */
+    public static final JsonDeserializer<RollingUpdateStatefulSetStrategy> DESERIALIZER = new StdDeserializer<RollingUpdateStatefulSetStrategy>(RollingUpdateStatefulSetStrategy.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public RollingUpdateStatefulSetStrategy deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return RollingUpdateStatefulSetStrategyCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link RollingUpdateStatefulSetStrategy}
+     */
+    public static final JsonSerializer<RollingUpdateStatefulSetStrategy> SERIALIZER = new StdSerializer<RollingUpdateStatefulSetStrategy>(RollingUpdateStatefulSetStrategy.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(RollingUpdateStatefulSetStrategy value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            RollingUpdateStatefulSetStrategyCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private RollingUpdateStatefulSetStrategyCodec() {
+    }
+
+    /**
+     * Compares two {@link RollingUpdateStatefulSetStrategy}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable RollingUpdateStatefulSetStrategy original, RollingUpdateStatefulSetStrategy modified, Diff diff) {
+        diff.value("partition", original, modified, RollingUpdateStatefulSetStrategy::getPartition);
+    }
+
+    /**
+     * Reads a {@link RollingUpdateStatefulSetStrategy}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link RollingUpdateStatefulSetStrategy} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static RollingUpdateStatefulSetStrategy read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Integer partition = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, RollingUpdateStatefulSetStrategy.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "partition":
+                    partition = Codecs.readInteger(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new RollingUpdateStatefulSetStrategy(partition);
+        } catch (IllegalArgumentException e) {
+            return (RollingUpdateStatefulSetStrategy) context.handleInstantiationProblem(RollingUpdateStatefulSetStrategy.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link RollingUpdateStatefulSetStrategy}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable RollingUpdateStatefulSetStrategy value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("partition", value.getPartition(), Codecs::writeInteger, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.apps.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.core.v1.PersistentVolumeClaim;
+import io.k8s.core.v1.PersistentVolumeClaimCodec;
+import io.k8s.core.v1.PodTemplateSpec;
+import io.k8s.core.v1.PodTemplateSpecCodec;
+import io.k8s.meta.v1.LabelSelector;
+import io.k8s.meta.v1.LabelSelectorCodec;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link StatefulSetSpec} that read and write its fields without reflection.
+ */
+public final class StatefulSetSpecCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link StatefulSetSpec}
+     */
+    public static final JsonDeserializer<StatefulSetSpec> DESERIALIZER = new StdDeserializer<StatefulSetSpec>(StatefulSetSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public StatefulSetSpec deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return StatefulSetSpecCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link StatefulSetSpec}
+     */
+    public static final JsonSerializer<StatefulSetSpec> SERIALIZER = new StdSerializer<StatefulSetSpec>(StatefulSetSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(StatefulSetSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            StatefulSetSpecCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private StatefulSetSpecCodec() {
+    }
+
+    /**
+     * Compares two {@link StatefulSetSpec}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable StatefulSetSpec original, StatefulSetSpec modified, Diff diff) {
+        diff.value("podManagementPolicy", original, modified, StatefulSetSpec::getPodManagementPolicy);
+        diff.value("replicas", original, modified, StatefulSetSpec::getReplicas);
+        diff.value("revisionHistoryLimit", original, modified, StatefulSetSpec::getRevisionHistoryLimit);
+        diff.object("selector", original, modified, StatefulSetSpec::getSelector, LabelSelectorCodec::diff);
+        diff.value("serviceName", original, modified, StatefulSetSpec::getServiceName);
+        diff.object("template", original, modified, StatefulSetSpec::getTemplate, PodTemplateSpecCodec::diff);
+        diff.object("updateStrategy", original, modified, StatefulSetSpec::getUpdateStrategy, StatefulSetUpdateStrategyCodec::diff);
+        diff.value("volumeClaimTemplates", original, modified, StatefulSetSpec::getVolumeClaimTemplates);
+    }
+
+    /**
+     * Reads a {@link StatefulSetSpec}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link StatefulSetSpec} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static StatefulSetSpec read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String podManagementPolicy = null;
+        Integer replicas = null;
+        Integer revisionHistoryLimit = null;
+        LabelSelector selector = null;
+        String serviceName = null;
+        PodTemplateSpec template = null;
+        StatefulSetUpdateStrategy updateStrategy = null;
+        List<PersistentVolumeClaim> volumeClaimTemplates = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, StatefulSetSpec.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "podManagementPolicy":
+                    podManagementPolicy = Codecs.readString(parser, context);
+                    break;
+                case "replicas":
+                    replicas = Codecs.readInteger(parser, context);
+                    break;
+                case "revisionHistoryLimit":
+                    revisionHistoryLimit = Codecs.readInteger(parser, context);
+                    break;
+                case "selector":
+                    selector = LabelSelectorCodec.read(parser, context);
+                    break;
+                case "serviceName":
+                    serviceName = Codecs.readString(parser, context);
+                    break;
+                case "template":
+                    template = PodTemplateSpecCodec.read(parser, context);
+                    break;
+                case "updateStrategy":
+                    updateStrategy = StatefulSetUpdateStrategyCodec.read(parser, context);
+                    break;
+                case "volumeClaimTemplates":
+                    volumeClaimTemplates = Codecs.readList(parser, context, PersistentVolumeClaimCodec::read);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new StatefulSetSpec(podManagementPolicy, replicas, revisionHistoryLimit, selector, serviceName, template, updateStrategy, volumeClaimTemplates);
+        } catch (IllegalArgumentException e) {
+            return (StatefulSetSpec) context.handleInstantiationProblem(StatefulSetSpec.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link StatefulSetSpec}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable StatefulSetSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("podManagementPolicy", value.getPodManagementPolicy(), Codecs::writeString, generator, provider);
+        Codecs.writeField("replicas", value.getReplicas(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("revisionHistoryLimit", value.getRevisionHistoryLimit(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("selector", value.getSelector(), LabelSelectorCodec::write, generator, provider);
+        Codecs.writeField("serviceName", value.getServiceName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("template", value.getTemplate(), PodTemplateSpecCodec::write, generator, provider);
+        Codecs.writeField("updateStrategy", value.getUpdateStrategy(), StatefulSetUpdateStrategyCodec::write, generator, provider);
+        Codecs.writeListField("volumeClaimTemplates", value.getVolumeClaimTemplates(), PersistentVolumeClaimCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
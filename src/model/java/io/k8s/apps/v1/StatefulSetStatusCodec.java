@@ -0,0 +1,184 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.apps.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link StatefulSetStatus} that read and write its fields without reflection.
+ */
+public final class StatefulSetStatusCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link StatefulSetStatus}
+     */
+    public static final JsonDeserializer<StatefulSetStatus> DESERIALIZER = new StdDeserializer<StatefulSetStatus>(StatefulSetStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public StatefulSetStatus deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return StatefulSetStatusCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link StatefulSetStatus}
+     */
+    public static final JsonSerializer<StatefulSetStatus> SERIALIZER = new StdSerializer<StatefulSetStatus>(StatefulSetStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(StatefulSetStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            StatefulSetStatusCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private StatefulSetStatusCodec() {
+    }
+
+    /**
+     * Compares two {@link StatefulSetStatus}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable StatefulSetStatus original, StatefulSetStatus modified, Diff diff) {
+        diff.value("collisionCount", original, modified, StatefulSetStatus::getCollisionCount);
+        diff.list("conditions", original, modified, StatefulSetStatus::getConditions, "type", StatefulSetCondition::getType, StatefulSetConditionCodec::diff);
+        diff.value("currentReplicas", original, modified, StatefulSetStatus::getCurrentReplicas);
+        diff.value("currentRevision", original, modified, StatefulSetStatus::getCurrentRevision);
+        diff.value("observedGeneration", original, modified, StatefulSetStatus::getObservedGeneration);
+        diff.value("readyReplicas", original, modified, StatefulSetStatus::getReadyReplicas);
+        diff.value("replicas", original, modified, StatefulSetStatus::getReplicas);
+        diff.value("updateRevision", original, modified, StatefulSetStatus::getUpdateRevision);
+        diff.value("updatedReplicas", original, modified, StatefulSetStatus::getUpdatedReplicas);
+    }
+
+    /**
+     * Reads a {@link StatefulSetStatus}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link StatefulSetStatus} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static StatefulSetStatus read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Integer collisionCount = null;
+        List<StatefulSetCondition> conditions = Collections.emptyList();
+        Integer currentReplicas = null;
+        String currentRevision = null;
+        Long observedGeneration = null;
+        Integer readyReplicas = null;
+        Integer replicas = null;
+        String updateRevision = null;
+        Integer updatedReplicas = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, StatefulSetStatus.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "collisionCount":
+                    collisionCount = Codecs.readInteger(parser, context);
+                    break;
+                case "conditions":
+                    conditions = Codecs.readList(parser, context, StatefulSetConditionCodec::read);
+                    break;
+                case "currentReplicas":
+                    currentReplicas = Codecs.readInteger(parser, context);
+                    break;
+                case "currentRevision":
+                    currentRevision = Codecs.readString(parser, context);
+                    break;
+                case "observedGeneration":
+                    observedGeneration = Codecs.readLong(parser, context);
+                    break;
+                case "readyReplicas":
+                    readyReplicas = Codecs.readInteger(parser, context);
+                    break;
+                case "replicas":
+                    replicas = Codecs.readInteger(parser, context);
+                    break;
+                case "updateRevision":
+                    updateRevision = Codecs.readString(parser, context);
+                    break;
+                case "updatedReplicas":
+                    updatedReplicas = Codecs.readInteger(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new StatefulSetStatus(collisionCount, conditions, currentReplicas, currentRevision, observedGeneration, readyReplicas, replicas, updateRevision, updatedReplicas);
+        } catch (IllegalArgumentException e) {
+            return (StatefulSetStatus) context.handleInstantiationProblem(StatefulSetStatus.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link StatefulSetStatus}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable StatefulSetStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("collisionCount", value.getCollisionCount(), Codecs::writeInteger, generator, provider);
+        Codecs.writeListField("conditions", value.getConditions(), StatefulSetConditionCodec::write, generator, provider);
+        Codecs.writeField("currentReplicas", value.getCurrentReplicas(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("currentRevision", value.getCurrentRevision(), Codecs::writeString, generator, provider);
+        Codecs.writeField("observedGeneration", value.getObservedGeneration(), Codecs::writeLong, generator, provider);
+        Codecs.writeField("readyReplicas", value.getReadyReplicas(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("replicas", value.getReplicas(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("updateRevision", value.getUpdateRevision(), Codecs::writeString, generator, provider);
+        Codecs.writeField("updatedReplicas", value.getUpdatedReplicas(), Codecs::writeInteger, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.authentication.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link TokenReviewStatus} that read and write its fields without reflection.
+ */
+public final class TokenReviewStatusCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link TokenReviewStatus}
+     */
+    public static final JsonDeserializer<TokenReviewStatus> DESERIALIZER = new StdDeserializer<TokenReviewStatus>(TokenReviewStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public TokenReviewStatus deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return TokenReviewStatusCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link TokenReviewStatus}
+     */
+    public static final JsonSerializer<TokenReviewStatus> SERIALIZER = new StdSerializer<TokenReviewStatus>(TokenReviewStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(TokenReviewStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            TokenReviewStatusCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private TokenReviewStatusCodec() {
+    }
+
+    /**
+     * Compares two {@link TokenReviewStatus}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable TokenReviewStatus original, TokenReviewStatus modified, Diff diff) {
+        diff.value("audiences", original, modified, TokenReviewStatus::getAudiences);
+        diff.value("authenticated", original, modified, TokenReviewStatus::getAuthenticated);
+        diff.value("error", original, modified, TokenReviewStatus::getError);
+        diff.object("user", original, modified, TokenReviewStatus::getUser, UserInfoCodec::diff);
+    }
+
+    /**
+     * Reads a {@link TokenReviewStatus}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link TokenReviewStatus} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static TokenReviewStatus read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<String> audiences = Collections.emptyList();
+        Boolean authenticated = null;
+        String error = null;
+        UserInfo user = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, TokenReviewStatus.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "audiences":
+                    audiences = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "authenticated":
+                    authenticated = Codecs.readBoolean(parser, context);
+                    break;
+                case "error":
+                    error = Codecs.readString(parser, context);
+                    break;
+                case "user":
+                    user = UserInfoCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new TokenReviewStatus(audiences, authenticated, error, user);
+        } catch (IllegalArgumentException e) {
+            return (TokenReviewStatus) context.handleInstantiationProblem(TokenReviewStatus.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link TokenReviewStatus}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable TokenReviewStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("audiences", value.getAudiences(), Codecs::writeString, generator, provider);
+        Codecs.writeField("authenticated", value.getAuthenticated(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("error", value.getError(), Codecs::writeString, generator, provider);
+        Codecs.writeField("user", value.getUser(), UserInfoCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.authentication.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link UserInfo} that read and write its fields without reflection.
+ */
+public final class UserInfoCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link UserInfo}
+     */
+    public static final JsonDeserializer<UserInfo> DESERIALIZER = new StdDeserializer<UserInfo>(UserInfo.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public UserInfo deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return UserInfoCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link UserInfo}
+     */
+    public static final JsonSerializer<UserInfo> SERIALIZER = new StdSerializer<UserInfo>(UserInfo.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(UserInfo value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            UserInfoCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private UserInfoCodec() {
+    }
+
+    /**
+     * Compares two {@link UserInfo}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable UserInfo original, UserInfo modified, Diff diff) {
+        diff.map("extra", original, modified, UserInfo::getExtra);
+        diff.value("groups", original, modified, UserInfo::getGroups);
+        diff.value("uid", original, modified, UserInfo::getUid);
+        diff.value("username", original, modified, UserInfo::getUsername);
+    }
+
+    /**
+     * Reads a {@link UserInfo}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link UserInfo} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static UserInfo read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Map<String, List<String>> extra = Collections.emptyMap();
+        List<String> groups = Collections.emptyList();
+        String uid = null;
+        String username = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, UserInfo.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "extra":
+                    extra = Codecs.readMap(parser, context, Codecs.listReader(Codecs::readString));
+                    break;
+                case "groups":
+                    groups = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "uid":
+                    uid = Codecs.readString(parser, context);
+                    break;
+                case "username":
+                    username = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new UserInfo(extra, groups, uid, username);
+        } catch (IllegalArgumentException e) {
+            return (UserInfo) context.handleInstantiationProblem(UserInfo.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link UserInfo}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable UserInfo value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeMapField("extra", value.getExtra(), Codecs.listWriter(Codecs::writeString), generator, provider);
+        Codecs.writeListField("groups", value.getGroups(), Codecs::writeString, generator, provider);
+        Codecs.writeField("uid", value.getUid(), Codecs::writeString, generator, provider);
+        Codecs.writeField("username", value.getUsername(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -16,6 +16,7 @@
 
 package io.k8s.authentication.v1beta1;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 import java.util.Map;
 import lombok.Builder;
@@ -35,6 +36,7 @@ public class UserInfo {
     /**
      * Any additional information provided by the authenticator.
      */
+    @JsonProperty("extra")
     @Nullable
     @Singular("extra")
     Map<String, List<String>> extra;
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.authorization.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link NonResourceAttributes} that read and write its fields without reflection.
+ */
+public final class NonResourceAttributesCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link NonResourceAttributes}
+     */
+    public static final JsonDeserializer<NonResourceAttributes> DESERIALIZER = new StdDeserializer<NonResourceAttributes>(NonResourceAttributes.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public NonResourceAttributes deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return NonResourceAttributesCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link NonResourceAttributes}
+     */
+    public static final JsonSerializer<NonResourceAttributes> SERIALIZER = new StdSerializer<NonResourceAttributes>(NonResourceAttributes.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(NonResourceAttributes value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            NonResourceAttributesCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private NonResourceAttributesCodec() {
+    }
+
+    /**
+     * Compares two {@link NonResourceAttributes}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable NonResourceAttributes original, NonResourceAttributes modified, Diff diff) {
+        diff.value("path", original, modified, NonResourceAttributes::getPath);
+        diff.value("verb", original, modified, NonResourceAttributes::getVerb);
+    }
+
+    /**
+     * Reads a {@link NonResourceAttributes}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link NonResourceAttributes} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static NonResourceAttributes read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String path = null;
+        String verb = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, NonResourceAttributes.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "path":
+                    path = Codecs.readString(parser, context);
+                    break;
+                case "verb":
+                    verb = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new NonResourceAttributes(path, verb);
+        } catch (IllegalArgumentException e) {
+            return (NonResourceAttributes) context.handleInstantiationProblem(NonResourceAttributes.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link NonResourceAttributes}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable NonResourceAttributes value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("path", value.getPath(), Codecs::writeString, generator, provider);
+        Codecs.writeField("verb", value.getVerb(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.authorization.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ResourceRule} that read and write its fields without reflection.
+ */
+public final class ResourceRuleCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ResourceRule}
+     */
+    public static final JsonDeserializer<ResourceRule> DESERIALIZER = new StdDeserializer<ResourceRule>(ResourceRule.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ResourceRule deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ResourceRuleCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ResourceRule}
+     */
+    public static final JsonSerializer<ResourceRule> SERIALIZER = new StdSerializer<ResourceRule>(ResourceRule.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ResourceRule value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ResourceRuleCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ResourceRuleCodec() {
+    }
+
+    /**
+     * Compares two {@link ResourceRule}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ResourceRule original, ResourceRule modified, Diff diff) {
+        diff.value("apiGroups", original, modified, ResourceRule::getApiGroups);
+        diff.value("resourceNames", original, modified, ResourceRule::getResourceNames);
+        diff.value("resources", original, modified, ResourceRule::getResources);
+        diff.value("verbs", original, modified, ResourceRule::getVerbs);
+    }
+
+    /**
+     * Reads a {@link ResourceRule}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ResourceRule} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ResourceRule read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<String> apiGroups = Collections.emptyList();
+        List<String> resourceNames = Collections.emptyList();
+        List<String> resources = Collections.emptyList();
+        List<String> verbs = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, ResourceRule.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "apiGroups":
+                    apiGroups = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "resourceNames":
+                    resourceNames = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "resources":
+                    resources = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "verbs":
+                    verbs = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ResourceRule(apiGroups, resourceNames, resources, verbs);
+        } catch (IllegalArgumentException e) {
+            return (ResourceRule) context.handleInstantiationProblem(ResourceRule.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ResourceRule}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ResourceRule value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("apiGroups", value.getApiGroups(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("resourceNames", value.getResourceNames(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("resources", value.getResources(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("verbs", value.getVerbs(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
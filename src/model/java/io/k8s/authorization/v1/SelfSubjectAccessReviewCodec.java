@@ -0,0 +1,276 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.authorization.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.meta.v1.ManagedFieldsEntry;
+import io.k8s.meta.v1.ManagedFieldsEntryCodec;
+import io.k8s.meta.v1.OwnerReference;
+import io.k8s.meta.v1.OwnerReferenceCodec;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link SelfSubjectAccessReview} that read and write its fields without reflection.
+ */
+public final class SelfSubjectAccessReviewCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link SelfSubjectAccessReview}
+     */
+    public static final JsonDeserializer<SelfSubjectAccessReview> DESERIALIZER = new StdDeserializer<SelfSubjectAccessReview>(SelfSubjectAccessReview.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public SelfSubjectAccessReview deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return SelfSubjectAccessReviewCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link SelfSubjectAccessReview}
+     */
+    public static final JsonSerializer<SelfSubjectAccessReview> SERIALIZER = new StdSerializer<SelfSubjectAccessReview>(SelfSubjectAccessReview.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(SelfSubjectAccessReview value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            SelfSubjectAccessReviewCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private SelfSubjectAccessReviewCodec() {
+    }
+
+    /**
+     * Compares two {@link SelfSubjectAccessReview}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable SelfSubjectAccessReview original, SelfSubjectAccessReview modified, Diff diff) {
+        diff.value("apiVersion", original, modified, SelfSubjectAccessReview::getApiVersion);
+        diff.value("kind", original, modified, SelfSubjectAccessReview::getKind);
+        diff.object("spec", original, modified, SelfSubjectAccessReview::getSpec, SelfSubjectAccessReviewSpecCodec::diff);
+        diff.object("status", original, modified, SelfSubjectAccessReview::getStatus, SubjectAccessReviewStatusCodec::diff);
+        diff.object("metadata", original, modified, SelfSubjectAccessReviewCodec::getMetadata, SelfSubjectAccessReviewCodec::diffMetadata);
+    }
+
+    /**
+     * Reads a {@link SelfSubjectAccessReview}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link SelfSubjectAccessReview} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static SelfSubjectAccessReview read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String apiVersion = null;
+        String kind = null;
+        SelfSubjectAccessReviewSpec spec = null;
+        SubjectAccessReviewStatus status = null;
+        Map<String, String> annotations = Collections.emptyMap();
+        String clusterName = null;
+        OffsetDateTime creationTimestamp = null;
+        Long deletionGracePeriodSeconds = null;
+        OffsetDateTime deletionTimestamp = null;
+        List<String> finalizers = Collections.emptyList();
+        String generateName = null;
+        Long generation = null;
+        Map<String, String> labels = Collections.emptyMap();
+        List<ManagedFieldsEntry> managedFields = Collections.emptyList();
+        String name = null;
+        String namespace = null;
+        List<OwnerReference> ownerReferences = Collections.emptyList();
+        String resourceVersion = null;
+        String uid = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, SelfSubjectAccessReview.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "apiVersion":
+                    apiVersion = Codecs.readInternedString(parser, context);
+                    break;
+                case "kind":
+                    kind = Codecs.readInternedString(parser, context);
+                    break;
+                case "spec":
+                    spec = SelfSubjectAccessReviewSpecCodec.read(parser, context);
+                    break;
+                case "status":
+                    status = SubjectAccessReviewStatusCodec.read(parser, context);
+                    break;
+                case "metadata":
+                    for (String metadataName = Codecs.startObject(parser, context, SelfSubjectAccessReview.class); metadataName != null; metadataName = parser.nextFieldName()) {
+                        parser.nextToken();
+
+                        switch (metadataName) {
+                            case "annotations":
+                                annotations = Codecs.readMap(parser, context, Codecs::readString);
+                                break;
+                            case "clusterName":
+                                clusterName = Codecs.readString(parser, context);
+                                break;
+                            case "creationTimestamp":
+                                creationTimestamp = Codecs.readDateTime(parser, context);
+                                break;
+                            case "deletionGracePeriodSeconds":
+                                deletionGracePeriodSeconds = Codecs.readLong(parser, context);
+                                break;
+                            case "deletionTimestamp":
+                                deletionTimestamp = Codecs.readDateTime(parser, context);
+                                break;
+                            case "finalizers":
+                                finalizers = Codecs.readList(parser, context, Codecs::readString);
+                                break;
+                            case "generateName":
+                                generateName = Codecs.readString(parser, context);
+                                break;
+                            case "generation":
+                                generation = Codecs.readLong(parser, context);
+                                break;
+                            case "labels":
+                                labels = Codecs.readMap(parser, context, Codecs::readInternedString);
+                                break;
+                            case "managedFields":
+                                managedFields = Codecs.readManagedFields(parser, context, ManagedFieldsEntryCodec::read);
+                                break;
+                            case "name":
+                                name = Codecs.readString(parser, context);
+                                break;
+                            case "namespace":
+                                namespace = Codecs.readInternedString(parser, context);
+                                break;
+                            case "ownerReferences":
+                                ownerReferences = Codecs.readList(parser, context, OwnerReferenceCodec::read);
+                                break;
+                            case "resourceVersion":
+                                resourceVersion = Codecs.readString(parser, context);
+                                break;
+                            case "uid":
+                                uid = Codecs.readString(parser, context);
+                                break;
+                            default:
+                                parser.skipChildren();
+                        }
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new SelfSubjectAccessReview(apiVersion, kind, spec, status, annotations, clusterName, creationTimestamp, deletionGracePeriodSeconds, deletionTimestamp, finalizers, generateName, generation, labels, managedFields, name, namespace, ownerReferences, resourceVersion, uid);
+        } catch (IllegalArgumentException e) {
+            return (SelfSubjectAccessReview) context.handleInstantiationProblem(SelfSubjectAccessReview.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link SelfSubjectAccessReview}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable SelfSubjectAccessReview value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("apiVersion", value.getApiVersion(), Codecs::writeString, generator, provider);
+        Codecs.writeField("kind", value.getKind(), Codecs::writeString, generator, provider);
+        Codecs.writeField("spec", value.getSpec(), SelfSubjectAccessReviewSpecCodec::write, generator, provider);
+        Codecs.writeField("status", value.getStatus(), SubjectAccessReviewStatusCodec::write, generator, provider);
+
+        if (Codecs.isPresent(value.getAnnotations(), value.getClusterName(), value.getCreationTimestamp(), value.getDeletionGracePeriodSeconds(), value.getDeletionTimestamp(), value.getFinalizers(), value.getGenerateName(), value.getGeneration(), value.getLabels(), value.getManagedFields(), value.getName(), value.getNamespace(), value.getOwnerReferences(), value.getResourceVersion(), value.getUid())) {
+            generator.writeFieldName("metadata");
+            generator.writeStartObject();
+            Codecs.writeMapField("annotations", value.getAnnotations(), Codecs::writeString, generator, provider);
+            Codecs.writeField("clusterName", value.getClusterName(), Codecs::writeString, generator, provider);
+            Codecs.writeField("creationTimestamp", value.getCreationTimestamp(), Codecs::writeDateTime, generator, provider);
+            Codecs.writeField("deletionGracePeriodSeconds", value.getDeletionGracePeriodSeconds(), Codecs::writeLong, generator, provider);
+            Codecs.writeField("deletionTimestamp", value.getDeletionTimestamp(), Codecs::writeDateTime, generator, provider);
+            Codecs.writeListField("finalizers", value.getFinalizers(), Codecs::writeString, generator, provider);
+            Codecs.writeField("generateName", value.getGenerateName(), Codecs::writeString, generator, provider);
+            Codecs.writeField("generation", value.getGeneration(), Codecs::writeLong, generator, provider);
+            Codecs.writeMapField("labels", value.getLabels(), Codecs::writeString, generator, provider);
+            Codecs.writeListField("managedFields", value.getManagedFields(), ManagedFieldsEntryCodec::write, generator, provider);
+            Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+            Codecs.writeField("namespace", value.getNamespace(), Codecs::writeString, generator, provider);
+            Codecs.writeListField("ownerReferences", value.getOwnerReferences(), OwnerReferenceCodec::write, generator, provider);
+            Codecs.writeField("resourceVersion", value.getResourceVersion(), Codecs::writeString, generator, provider);
+            Codecs.writeField("uid", value.getUid(), Codecs::writeString, generator, provider);
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+    }
+
+    private static void diffMetadata(@Nullable SelfSubjectAccessReview original, SelfSubjectAccessReview modified, Diff diff) {
+        diff.map("annotations", original, modified, SelfSubjectAccessReview::getAnnotations);
+        diff.value("clusterName", original, modified, SelfSubjectAccessReview::getClusterName);
+        diff.value("creationTimestamp", original, modified, SelfSubjectAccessReview::getCreationTimestamp);
+        diff.value("deletionGracePeriodSeconds", original, modified, SelfSubjectAccessReview::getDeletionGracePeriodSeconds);
+        diff.value("deletionTimestamp", original, modified, SelfSubjectAccessReview::getDeletionTimestamp);
+        diff.list("finalizers", original, modified, SelfSubjectAccessReview::getFinalizers);
+        diff.value("generateName", original, modified, SelfSubjectAccessReview::getGenerateName);
+        diff.value("generation", original, modified, SelfSubjectAccessReview::getGeneration);
+        diff.map("labels", original, modified, SelfSubjectAccessReview::getLabels);
+        diff.value("managedFields", original, modified, SelfSubjectAccessReview::getManagedFields);
+        diff.value("name", original, modified, SelfSubjectAccessReview::getName);
+        diff.value("namespace", original, modified, SelfSubjectAccessReview::getNamespace);
+        diff.list("ownerReferences", original, modified, SelfSubjectAccessReview::getOwnerReferences, "uid", OwnerReference::getUid, OwnerReferenceCodec::diff);
+        diff.value("resourceVersion", original, modified, SelfSubjectAccessReview::getResourceVersion);
+        diff.value("uid", original, modified, SelfSubjectAccessReview::getUid);
+    }
+
+    // The value stands in for its own metadata, which is only present on the wire if any of its properties are
+    @Nullable
+    private static SelfSubjectAccessReview getMetadata(SelfSubjectAccessReview value) {
+        return Codecs.isPresent(value.getAnnotations(), value.getClusterName(), value.getCreationTimestamp(), value.getDeletionGracePeriodSeconds(), value.getDeletionTimestamp(), value.getFinalizers(), value.getGenerateName(), value.getGeneration(), value.getLabels(), value.getManagedFields(), value.getName(), value.getNamespace(), value.getOwnerReferences(), value.getResourceVersion(), value.getUid()) ? value : null;
+    }
+
+}
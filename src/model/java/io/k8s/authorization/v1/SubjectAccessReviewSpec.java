@@ -16,6 +16,7 @@
 
 package io.k8s.authorization.v1;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 import java.util.Map;
 import lombok.Builder;
@@ -37,6 +38,7 @@ public class SubjectAccessReviewSpec {
      * Extra corresponds to the user.Info.GetExtra() method from the authenticator.  Since that is input to the
      * authorizer it needs a reflection here.
      */
+    @JsonProperty("extra")
     @Nullable
     @Singular("extra")
     Map<String, List<String>> extra;
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.authorization.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link SubjectAccessReviewStatus} that read and write its fields without reflection.
+ */
+public final class SubjectAccessReviewStatusCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link SubjectAccessReviewStatus}
+     */
+    public static final JsonDeserializer<SubjectAccessReviewStatus> DESERIALIZER = new StdDeserializer<SubjectAccessReviewStatus>(SubjectAccessReviewStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public SubjectAccessReviewStatus deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return SubjectAccessReviewStatusCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link SubjectAccessReviewStatus}
+     */
+    public static final JsonSerializer<SubjectAccessReviewStatus> SERIALIZER = new StdSerializer<SubjectAccessReviewStatus>(SubjectAccessReviewStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(SubjectAccessReviewStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            SubjectAccessReviewStatusCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private SubjectAccessReviewStatusCodec() {
+    }
+
+    /**
+     * Compares two {@link SubjectAccessReviewStatus}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable SubjectAccessReviewStatus original, SubjectAccessReviewStatus modified, Diff diff) {
+        diff.value("allowed", original, modified, SubjectAccessReviewStatus::getAllowed);
+        diff.value("denied", original, modified, SubjectAccessReviewStatus::getDenied);
+        diff.value("evaluationError", original, modified, SubjectAccessReviewStatus::getEvaluationError);
+        diff.value("reason", original, modified, SubjectAccessReviewStatus::getReason);
+    }
+
+    /**
+     * Reads a {@link SubjectAccessReviewStatus}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link SubjectAccessReviewStatus} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static SubjectAccessReviewStatus read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Boolean allowed = null;
+        Boolean denied = null;
+        String evaluationError = null;
+        String reason = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, SubjectAccessReviewStatus.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "allowed":
+                    allowed = Codecs.readBoolean(parser, context);
+                    break;
+                case "denied":
+                    denied = Codecs.readBoolean(parser, context);
+                    break;
+                case "evaluationError":
+                    evaluationError = Codecs.readString(parser, context);
+                    break;
+                case "reason":
+                    reason = Codecs.readInternedString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new SubjectAccessReviewStatus(allowed, denied, evaluationError, reason);
+        } catch (IllegalArgumentException e) {
+            return (SubjectAccessReviewStatus) context.handleInstantiationProblem(SubjectAccessReviewStatus.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link SubjectAccessReviewStatus}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable SubjectAccessReviewStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("allowed", value.getAllowed(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("denied", value.getDenied(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("evaluationError", value.getEvaluationError(), Codecs::writeString, generator, provider);
+        Codecs.writeField("reason", value.getReason(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.authorization.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link SubjectRulesReviewStatus} that read and write its fields without reflection.
+ */
+public final class SubjectRulesReviewStatusCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link SubjectRulesReviewStatus}
+     */
+    public static final JsonDeserializer<SubjectRulesReviewStatus> DESERIALIZER = new StdDeserializer<SubjectRulesReviewStatus>(SubjectRulesReviewStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public SubjectRulesReviewStatus deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return SubjectRulesReviewStatusCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link SubjectRulesReviewStatus}
+     */
+    public static final JsonSerializer<SubjectRulesReviewStatus> SERIALIZER = new StdSerializer<SubjectRulesReviewStatus>(SubjectRulesReviewStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(SubjectRulesReviewStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            SubjectRulesReviewStatusCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private SubjectRulesReviewStatusCodec() {
+    }
+
+    /**
+     * Compares two {@link SubjectRulesReviewStatus}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable SubjectRulesReviewStatus original, SubjectRulesReviewStatus modified, Diff diff) {
+        diff.value("evaluationError", original, modified, SubjectRulesReviewStatus::getEvaluationError);
+        diff.value("incomplete", original, modified, SubjectRulesReviewStatus::getIncomplete);
+        diff.value("nonResourceRules", original, modified, SubjectRulesReviewStatus::getNonResourceRules);
+        diff.value("resourceRules", original, modified, SubjectRulesReviewStatus::getResourceRules);
+    }
+
+    /**
+     * Reads a {@link SubjectRulesReviewStatus}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link SubjectRulesReviewStatus} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static SubjectRulesReviewStatus read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String evaluationError = null;
+        Boolean incomplete = null;
+        List<NonResourceRule> nonResourceRules = Collections.emptyList();
+        List<ResourceRule> resourceRules = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, SubjectRulesReviewStatus.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "evaluationError":
+                    evaluationError = Codecs.readString(parser, context);
+                    break;
+                case "incomplete":
+                    incomplete = Codecs.readBoolean(parser, context);
+                    break;
+                case "nonResourceRules":
+                    nonResourceRules = Codecs.readList(parser, context, NonResourceRuleCodec::read);
+                    break;
+                case "resourceRules":
+                    resourceRules = Codecs.readList(parser, context, ResourceRuleCodec::read);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new SubjectRulesReviewStatus(evaluationError, incomplete, nonResourceRules, resourceRules);
+        } catch (IllegalArgumentException e) {
+            return (SubjectRulesReviewStatus) context.handleInstantiationProblem(SubjectRulesReviewStatus.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link SubjectRulesReviewStatus}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable SubjectRulesReviewStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("evaluationError", value.getEvaluationError(), Codecs::writeString, generator, provider);
+        Codecs.writeField("incomplete", value.getIncomplete(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeListField("nonResourceRules", value.getNonResourceRules(), NonResourceRuleCodec::write, generator, provider);
+        Codecs.writeListField("resourceRules", value.getResourceRules(), ResourceRuleCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.authorization.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ResourceAttributes} that read and write its fields without reflection.
+ */
+public final class ResourceAttributesCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ResourceAttributes}
+     */
+    public static final JsonDeserializer<ResourceAttributes> DESERIALIZER = new StdDeserializer<ResourceAttributes>(ResourceAttributes.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ResourceAttributes deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ResourceAttributesCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ResourceAttributes}
+     */
+    public static final JsonSerializer<ResourceAttributes> SERIALIZER = new StdSerializer<ResourceAttributes>(ResourceAttributes.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ResourceAttributes value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ResourceAttributesCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ResourceAttributesCodec() {
+    }
+
+    /**
+     * Compares two {@link ResourceAttributes}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ResourceAttributes original, ResourceAttributes modified, Diff diff) {
+        diff.value("group", original, modified, ResourceAttributes::getGroup);
+        diff.value("name", original, modified, ResourceAttributes::getName);
+        diff.value("namespace", original, modified, ResourceAttributes::getNamespace);
+        diff.value("resource", original, modified, ResourceAttributes::getResource);
+        diff.value("subresource", original, modified, ResourceAttributes::getSubresource);
+        diff.value("verb", original, modified, ResourceAttributes::getVerb);
+        diff.value("version", original, modified, ResourceAttributes::getVersion);
+    }
+
+    /**
+     * Reads a {@link ResourceAttributes}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ResourceAttributes} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ResourceAttributes read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String group = null;
+        String name = null;
+        String namespace = null;
+        String resource = null;
+        String subresource = null;
+        String verb = null;
+        String version = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, ResourceAttributes.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "group":
+                    group = Codecs.readString(parser, context);
+                    break;
+                case "name":
+                    name = Codecs.readString(parser, context);
+                    break;
+                case "namespace":
+                    namespace = Codecs.readInternedString(parser, context);
+                    break;
+                case "resource":
+                    resource = Codecs.readString(parser, context);
+                    break;
+                case "subresource":
+                    subresource = Codecs.readString(parser, context);
+                    break;
+                case "verb":
+                    verb = Codecs.readString(parser, context);
+                    break;
+                case "version":
+                    version = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ResourceAttributes(group, name, namespace, resource, subresource, verb, version);
+        } catch (IllegalArgumentException e) {
+            return (ResourceAttributes) context.handleInstantiationProblem(ResourceAttributes.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ResourceAttributes}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ResourceAttributes value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("group", value.getGroup(), Codecs::writeString, generator, provider);
+        Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("namespace", value.getNamespace(), Codecs::writeString, generator, provider);
+        Codecs.writeField("resource", value.getResource(), Codecs::writeString, generator, provider);
+        Codecs.writeField("subresource", value.getSubresource(), Codecs::writeString, generator, provider);
+        Codecs.writeField("verb", value.getVerb(), Codecs::writeString, generator, provider);
+        Codecs.writeField("version", value.getVersion(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
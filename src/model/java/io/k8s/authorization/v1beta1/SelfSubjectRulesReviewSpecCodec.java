@@ -0,0 +1,134 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.authorization.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link SelfSubjectRulesReviewSpec} that read and write its fields without reflection.
+ */
+public final class SelfSubjectRulesReviewSpecCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link SelfSubjectRulesReviewSpec}
+     */
+    public static final JsonDeserializer<SelfSubjectRulesReviewSpec> DESERIALIZER = new StdDeserializer<SelfSubjectRulesReviewSpec>(SelfSubjectRulesReviewSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public SelfSubjectRulesReviewSpec deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return SelfSubjectRulesReviewSpecCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link SelfSubjectRulesReviewSpec}
+     */
+    public static final JsonSerializer<SelfSubjectRulesReviewSpec> SERIALIZER = new StdSerializer<SelfSubjectRulesReviewSpec>(SelfSubjectRulesReviewSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(SelfSubjectRulesReviewSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            SelfSubjectRulesReviewSpecCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private SelfSubjectRulesReviewSpecCodec() {
+    }
+
+    /**
+     * Compares two {@link SelfSubjectRulesReviewSpec}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable SelfSubjectRulesReviewSpec original, SelfSubjectRulesReviewSpec modified, Diff diff) {
+        diff.value("namespace", original, modified, SelfSubjectRulesReviewSpec::getNamespace);
+    }
+
+    /**
+     * Reads a {@link SelfSubjectRulesReviewSpec}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link SelfSubjectRulesReviewSpec} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static SelfSubjectRulesReviewSpec read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String namespace = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, SelfSubjectRulesReviewSpec.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "namespace":
+                    namespace = Codecs.readInternedString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new SelfSubjectRulesReviewSpec(namespace);
+        } catch (IllegalArgumentException e) {
+            return (SelfSubjectRulesReviewSpec) context.handleInstantiationProblem(SelfSubjectRulesReviewSpec.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link SelfSubjectRulesReviewSpec}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable SelfSubjectRulesReviewSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("namespace", value.getNamespace(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
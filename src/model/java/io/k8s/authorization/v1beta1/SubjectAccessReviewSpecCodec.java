@@ -0,0 +1,167 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.authorization.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link SubjectAccessReviewSpec} that read and write its fields without reflection.
+ */
+public final class SubjectAccessReviewSpecCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link SubjectAccessReviewSpec}
+     */
+    public static final JsonDeserializer<SubjectAccessReviewSpec> DESERIALIZER = new StdDeserializer<SubjectAccessReviewSpec>(SubjectAccessReviewSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public SubjectAccessReviewSpec deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return SubjectAccessReviewSpecCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link SubjectAccessReviewSpec}
+     */
+    public static final JsonSerializer<SubjectAccessReviewSpec> SERIALIZER = new StdSerializer<SubjectAccessReviewSpec>(SubjectAccessReviewSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(SubjectAccessReviewSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            SubjectAccessReviewSpecCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private SubjectAccessReviewSpecCodec() {
+    }
+
+    /**
+     * Compares two {@link SubjectAccessReviewSpec}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable SubjectAccessReviewSpec original, SubjectAccessReviewSpec modified, Diff diff) {
+        diff.map("extra", original, modified, SubjectAccessReviewSpec::getExtra);
+        diff.value("group", original, modified, SubjectAccessReviewSpec::getGroup);
+        diff.object("nonResourceAttributes", original, modified, SubjectAccessReviewSpec::getNonResourceAttributes, NonResourceAttributesCodec::diff);
+        diff.object("resourceAttributes", original, modified, SubjectAccessReviewSpec::getResourceAttributes, ResourceAttributesCodec::diff);
+        diff.value("uid", original, modified, SubjectAccessReviewSpec::getUid);
+        diff.value("user", original, modified, SubjectAccessReviewSpec::getUser);
+    }
+
+    /**
+     * Reads a {@link SubjectAccessReviewSpec}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link SubjectAccessReviewSpec} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static SubjectAccessReviewSpec read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Map<String, List<String>> extra = Collections.emptyMap();
+        List<String> group = Collections.emptyList();
+        NonResourceAttributes nonResourceAttributes = null;
+        ResourceAttributes resourceAttributes = null;
+        String uid = null;
+        String user = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, SubjectAccessReviewSpec.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "extra":
+                    extra = Codecs.readMap(parser, context, Codecs.listReader(Codecs::readString));
+                    break;
+                case "group":
+                    group = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "nonResourceAttributes":
+                    nonResourceAttributes = NonResourceAttributesCodec.read(parser, context);
+                    break;
+                case "resourceAttributes":
+                    resourceAttributes = ResourceAttributesCodec.read(parser, context);
+                    break;
+                case "uid":
+                    uid = Codecs.readString(parser, context);
+                    break;
+                case "user":
+                    user = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new SubjectAccessReviewSpec(extra, group, nonResourceAttributes, resourceAttributes, uid, user);
+        } catch (IllegalArgumentException e) {
+            return (SubjectAccessReviewSpec) context.handleInstantiationProblem(SubjectAccessReviewSpec.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link SubjectAccessReviewSpec}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable SubjectAccessReviewSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeMapField("extra", value.getExtra(), Codecs.listWriter(Codecs::writeString), generator, provider);
+        Codecs.writeListField("group", value.getGroup(), Codecs::writeString, generator, provider);
+        Codecs.writeField("nonResourceAttributes", value.getNonResourceAttributes(), NonResourceAttributesCodec::write, generator, provider);
+        Codecs.writeField("resourceAttributes", value.getResourceAttributes(), ResourceAttributesCodec::write, generator, provider);
+        Codecs.writeField("uid", value.getUid(), Codecs::writeString, generator, provider);
+        Codecs.writeField("user", value.getUser(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
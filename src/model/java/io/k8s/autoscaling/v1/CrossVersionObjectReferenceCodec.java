@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.autoscaling.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link CrossVersionObjectReference} that read and write its fields without reflection.
+ */
+public final class CrossVersionObjectReferenceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link CrossVersionObjectReference}
+     */
+    public static final JsonDeserializer<CrossVersionObjectReference> DESERIALIZER = new StdDeserializer<CrossVersionObjectReference>(CrossVersionObjectReference.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public CrossVersionObjectReference deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return CrossVersionObjectReferenceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link CrossVersionObjectReference}
+     */
+    public static final JsonSerializer<CrossVersionObjectReference> SERIALIZER = new StdSerializer<CrossVersionObjectReference>(CrossVersionObjectReference.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(CrossVersionObjectReference value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            CrossVersionObjectReferenceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private CrossVersionObjectReferenceCodec() {
+    }
+
+    /**
+     * Compares two {@link CrossVersionObjectReference}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable CrossVersionObjectReference original, CrossVersionObjectReference modified, Diff diff) {
+        diff.value("apiVersion", original, modified, CrossVersionObjectReference::getApiVersion);
+        diff.value("kind", original, modified, CrossVersionObjectReference::getKind);
+        diff.value("name", original, modified, CrossVersionObjectReference::getName);
+    }
+
+    /**
+     * Reads a {@link CrossVersionObjectReference}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link CrossVersionObjectReference} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static CrossVersionObjectReference read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String apiVersion = null;
+        String kind = null;
+        String name = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, CrossVersionObjectReference.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "apiVersion":
+                    apiVersion = Codecs.readInternedString(parser, context);
+                    break;
+                case "kind":
+                    kind = Codecs.readInternedString(parser, context);
+                    break;
+                case "name":
+                    name = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new CrossVersionObjectReference(apiVersion, kind, name);
+        } catch (IllegalArgumentException e) {
+            return (CrossVersionObjectReference) context.handleInstantiationProblem(CrossVersionObjectReference.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link CrossVersionObjectReference}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable CrossVersionObjectReference value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("apiVersion", value.getApiVersion(), Codecs::writeString, generator, provider);
+        Codecs.writeField("kind", value.getKind(), Codecs::writeString, generator, provider);
+        Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
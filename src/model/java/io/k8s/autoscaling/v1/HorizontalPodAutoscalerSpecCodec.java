@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.autoscaling.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link HorizontalPodAutoscalerSpec} that read and write its fields without reflection.
+ */
+public final class HorizontalPodAutoscalerSpecCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link HorizontalPodAutoscalerSpec}
+     */
+    public static final JsonDeserializer<HorizontalPodAutoscalerSpec> DESERIALIZER = new StdDeserializer<HorizontalPodAutoscalerSpec>(HorizontalPodAutoscalerSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public HorizontalPodAutoscalerSpec deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return HorizontalPodAutoscalerSpecCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link HorizontalPodAutoscalerSpec}
+     */
+    public static final JsonSerializer<HorizontalPodAutoscalerSpec> SERIALIZER = new StdSerializer<HorizontalPodAutoscalerSpec>(HorizontalPodAutoscalerSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(HorizontalPodAutoscalerSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            HorizontalPodAutoscalerSpecCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private HorizontalPodAutoscalerSpecCodec() {
+    }
+
+    /**
+     * Compares two {@link HorizontalPodAutoscalerSpec}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable HorizontalPodAutoscalerSpec original, HorizontalPodAutoscalerSpec modified, Diff diff) {
+        diff.value("maxReplicas", original, modified, HorizontalPodAutoscalerSpec::getMaxReplicas);
+        diff.value("minReplicas", original, modified, HorizontalPodAutoscalerSpec::getMinReplicas);
+        diff.object("scaleTargetRef", original, modified, HorizontalPodAutoscalerSpec::getScaleTargetRef, CrossVersionObjectReferenceCodec::diff);
+        diff.value("targetCPUUtilizationPercentage", original, modified, HorizontalPodAutoscalerSpec::getTargetCPUUtilizationPercentage);
+    }
+
+    /**
+     * Reads a {@link HorizontalPodAutoscalerSpec}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link HorizontalPodAutoscalerSpec} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static HorizontalPodAutoscalerSpec read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Integer maxReplicas = null;
+        Integer minReplicas = null;
+        CrossVersionObjectReference scaleTargetRef = null;
+        Integer targetCPUUtilizationPercentage = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, HorizontalPodAutoscalerSpec.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "maxReplicas":
+                    maxReplicas = Codecs.readInteger(parser, context);
+                    break;
+                case "minReplicas":
+                    minReplicas = Codecs.readInteger(parser, context);
+                    break;
+                case "scaleTargetRef":
+                    scaleTargetRef = CrossVersionObjectReferenceCodec.read(parser, context);
+                    break;
+                case "targetCPUUtilizationPercentage":
+                    targetCPUUtilizationPercentage = Codecs.readInteger(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new HorizontalPodAutoscalerSpec(maxReplicas, minReplicas, scaleTargetRef, targetCPUUtilizationPercentage);
+        } catch (IllegalArgumentException e) {
+            return (HorizontalPodAutoscalerSpec) context.handleInstantiationProblem(HorizontalPodAutoscalerSpec.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link HorizontalPodAutoscalerSpec}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable HorizontalPodAutoscalerSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("maxReplicas", value.getMaxReplicas(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("minReplicas", value.getMinReplicas(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("scaleTargetRef", value.getScaleTargetRef(), CrossVersionObjectReferenceCodec::write, generator, provider);
+        Codecs.writeField("targetCPUUtilizationPercentage", value.getTargetCPUUtilizationPercentage(), Codecs::writeInteger, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
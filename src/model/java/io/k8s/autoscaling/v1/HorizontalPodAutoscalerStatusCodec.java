@@ -0,0 +1,159 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.autoscaling.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link HorizontalPodAutoscalerStatus} that read and write its fields without reflection.
+ */
+public final class HorizontalPodAutoscalerStatusCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link HorizontalPodAutoscalerStatus}
+     */
+    public static final JsonDeserializer<HorizontalPodAutoscalerStatus> DESERIALIZER = new StdDeserializer<HorizontalPodAutoscalerStatus>(HorizontalPodAutoscalerStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public HorizontalPodAutoscalerStatus deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return HorizontalPodAutoscalerStatusCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link HorizontalPodAutoscalerStatus}
+     */
+    public static final JsonSerializer<HorizontalPodAutoscalerStatus> SERIALIZER = new StdSerializer<HorizontalPodAutoscalerStatus>(HorizontalPodAutoscalerStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(HorizontalPodAutoscalerStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            HorizontalPodAutoscalerStatusCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private HorizontalPodAutoscalerStatusCodec() {
+    }
+
+    /**
+     * Compares two {@link HorizontalPodAutoscalerStatus}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable HorizontalPodAutoscalerStatus original, HorizontalPodAutoscalerStatus modified, Diff diff) {
+        diff.value("currentCPUUtilizationPercentage", original, modified, HorizontalPodAutoscalerStatus::getCurrentCPUUtilizationPercentage);
+        diff.value("currentReplicas", original, modified, HorizontalPodAutoscalerStatus::getCurrentReplicas);
+        diff.value("desiredReplicas", original, modified, HorizontalPodAutoscalerStatus::getDesiredReplicas);
+        diff.value("lastScaleTime", original, modified, HorizontalPodAutoscalerStatus::getLastScaleTime);
+        diff.value("observedGeneration", original, modified, HorizontalPodAutoscalerStatus::getObservedGeneration);
+    }
+
+    /**
+     * Reads a {@link HorizontalPodAutoscalerStatus}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link HorizontalPodAutoscalerStatus} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static HorizontalPodAutoscalerStatus read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Integer currentCPUUtilizationPercentage = null;
+        Integer currentReplicas = null;
+        Integer desiredReplicas = null;
+        OffsetDateTime lastScaleTime = null;
+        Long observedGeneration = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, HorizontalPodAutoscalerStatus.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "currentCPUUtilizationPercentage":
+                    currentCPUUtilizationPercentage = Codecs.readInteger(parser, context);
+                    break;
+                case "currentReplicas":
+                    currentReplicas = Codecs.readInteger(parser, context);
+                    break;
+                case "desiredReplicas":
+                    desiredReplicas = Codecs.readInteger(parser, context);
+                    break;
+                case "lastScaleTime":
+                    lastScaleTime = Codecs.readDateTime(parser, context);
+                    break;
+                case "observedGeneration":
+                    observedGeneration = Codecs.readLong(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new HorizontalPodAutoscalerStatus(currentCPUUtilizationPercentage, currentReplicas, desiredReplicas, lastScaleTime, observedGeneration);
+        } catch (IllegalArgumentException e) {
+            return (HorizontalPodAutoscalerStatus) context.handleInstantiationProblem(HorizontalPodAutoscalerStatus.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link HorizontalPodAutoscalerStatus}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable HorizontalPodAutoscalerStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("currentCPUUtilizationPercentage", value.getCurrentCPUUtilizationPercentage(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("currentReplicas", value.getCurrentReplicas(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("desiredReplicas", value.getDesiredReplicas(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("lastScaleTime", value.getLastScaleTime(), Codecs::writeDateTime, generator, provider);
+        Codecs.writeField("observedGeneration", value.getObservedGeneration(), Codecs::writeLong, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
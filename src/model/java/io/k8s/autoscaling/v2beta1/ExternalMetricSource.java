@@ -17,6 +17,7 @@
 package io.k8s.autoscaling.v2beta1;
 
 import io.k8s.meta.v1.LabelSelector;
+import io.k8s.resource.Quantity;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.jackson.Jacksonized;
@@ -43,9 +44,9 @@ public class ExternalMetricSource {
     LabelSelector metricSelector;
 
     @Nullable
-    String targetAverageValue;
+    Quantity targetAverageValue;
 
     @Nullable
-    String targetValue;
+    Quantity targetValue;
 
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.autoscaling.v2beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.meta.v1.LabelSelector;
+import io.k8s.meta.v1.LabelSelectorCodec;
+import io.k8s.resource.Quantity;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ExternalMetricSource} that read and write its fields without reflection.
+ */
+public final class ExternalMetricSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ExternalMetricSource}
+     */
+    public static final JsonDeserializer<ExternalMetricSource> DESERIALIZER = new StdDeserializer<ExternalMetricSource>(ExternalMetricSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ExternalMetricSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ExternalMetricSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ExternalMetricSource}
+     */
+    public static final JsonSerializer<ExternalMetricSource> SERIALIZER = new StdSerializer<ExternalMetricSource>(ExternalMetricSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ExternalMetricSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ExternalMetricSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ExternalMetricSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link ExternalMetricSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ExternalMetricSource original, ExternalMetricSource modified, Diff diff) {
+        diff.value("metricName", original, modified, ExternalMetricSource::getMetricName);
+        diff.object("metricSelector", original, modified, ExternalMetricSource::getMetricSelector, LabelSelectorCodec::diff);
+        diff.value("targetAverageValue", original, modified, ExternalMetricSource::getTargetAverageValue);
+        diff.value("targetValue", original, modified, ExternalMetricSource::getTargetValue);
+    }
+
+    /**
+     * Reads a {@link ExternalMetricSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ExternalMetricSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ExternalMetricSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String metricName = null;
+        LabelSelector metricSelector = null;
+        Quantity targetAverageValue = null;
+        Quantity targetValue = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, ExternalMetricSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "metricName":
+                    metricName = Codecs.readString(parser, context);
+                    break;
+                case "metricSelector":
+                    metricSelector = LabelSelectorCodec.read(parser, context);
+                    break;
+                case "targetAverageValue":
+                    targetAverageValue = Codecs.readQuantity(parser, context);
+                    break;
+                case "targetValue":
+                    targetValue = Codecs.readQuantity(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ExternalMetricSource(metricName, metricSelector, targetAverageValue, targetValue);
+        } catch (IllegalArgumentException e) {
+            return (ExternalMetricSource) context.handleInstantiationProblem(ExternalMetricSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ExternalMetricSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ExternalMetricSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("metricName", value.getMetricName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("metricSelector", value.getMetricSelector(), LabelSelectorCodec::write, generator, provider);
+        Codecs.writeField("targetAverageValue", value.getTargetAverageValue(), Codecs::writeQuantity, generator, provider);
+        Codecs.writeField("targetValue", value.getTargetValue(), Codecs::writeQuantity, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -17,6 +17,7 @@
 package io.k8s.autoscaling.v2beta1;
 
 import io.k8s.meta.v1.LabelSelector;
+import io.k8s.resource.Quantity;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.jackson.Jacksonized;
@@ -32,10 +33,10 @@ import org.springframework.lang.Nullable;
 public class ExternalMetricStatus {
 
     @Nullable
-    String currentAverageValue;
+    Quantity currentAverageValue;
 
     @NonNull
-    String currentValue;
+    Quantity currentValue;
 
     /**
      * metricName is the name of a metric used for autoscaling in metric system.
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.autoscaling.v2beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.meta.v1.LabelSelector;
+import io.k8s.meta.v1.LabelSelectorCodec;
+import io.k8s.resource.Quantity;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ExternalMetricStatus} that read and write its fields without reflection.
+ */
+public final class ExternalMetricStatusCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ExternalMetricStatus}
+     */
+    public static final JsonDeserializer<ExternalMetricStatus> DESERIALIZER = new StdDeserializer<ExternalMetricStatus>(ExternalMetricStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ExternalMetricStatus deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ExternalMetricStatusCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ExternalMetricStatus}
+     */
+    public static final JsonSerializer<ExternalMetricStatus> SERIALIZER = new StdSerializer<ExternalMetricStatus>(ExternalMetricStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ExternalMetricStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ExternalMetricStatusCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ExternalMetricStatusCodec() {
+    }
+
+    /**
+     * Compares two {@link ExternalMetricStatus}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ExternalMetricStatus original, ExternalMetricStatus modified, Diff diff) {
+        diff.value("currentAverageValue", original, modified, ExternalMetricStatus::getCurrentAverageValue);
+        diff.value("currentValue", original, modified, ExternalMetricStatus::getCurrentValue);
+        diff.value("metricName", original, modified, ExternalMetricStatus::getMetricName);
+        diff.object("metricSelector", original, modified, ExternalMetricStatus::getMetricSelector, LabelSelectorCodec::diff);
+    }
+
+    /**
+     * Reads a {@link ExternalMetricStatus}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ExternalMetricStatus} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ExternalMetricStatus read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Quantity currentAverageValue = null;
+        Quantity currentValue = null;
+        String metricName = null;
+        LabelSelector metricSelector = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, ExternalMetricStatus.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "currentAverageValue":
+                    currentAverageValue = Codecs.readQuantity(parser, context);
+                    break;
+                case "currentValue":
+                    currentValue = Codecs.readQuantity(parser, context);
+                    break;
+                case "metricName":
+                    metricName = Codecs.readString(parser, context);
+                    break;
+                case "metricSelector":
+                    metricSelector = LabelSelectorCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ExternalMetricStatus(currentAverageValue, currentValue, metricName, metricSelector);
+        } catch (IllegalArgumentException e) {
+            return (ExternalMetricStatus) context.handleInstantiationProblem(ExternalMetricStatus.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ExternalMetricStatus}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ExternalMetricStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("currentAverageValue", value.getCurrentAverageValue(), Codecs::writeQuantity, generator, provider);
+        Codecs.writeField("currentValue", value.getCurrentValue(), Codecs::writeQuantity, generator, provider);
+        Codecs.writeField("metricName", value.getMetricName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("metricSelector", value.getMetricSelector(), LabelSelectorCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
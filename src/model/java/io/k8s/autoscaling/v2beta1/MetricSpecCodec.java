@@ -0,0 +1,158 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.autoscaling.v2beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link MetricSpec} that read and write its fields without reflection.
+ */
+public final class MetricSpecCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link MetricSpec}
+     */
+    public static final JsonDeserializer<MetricSpec> DESERIALIZER = new StdDeserializer<MetricSpec>(MetricSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public MetricSpec deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return MetricSpecCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link MetricSpec}
+     */
+    public static final JsonSerializer<MetricSpec> SERIALIZER = new StdSerializer<MetricSpec>(MetricSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(MetricSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            MetricSpecCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private MetricSpecCodec() {
+    }
+
+    /**
+     * Compares two {@link MetricSpec}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable MetricSpec original, MetricSpec modified, Diff diff) {
+        diff.object("external", original, modified, MetricSpec::getExternal, ExternalMetricSourceCodec::diff);
+        diff.object("object", original, modified, MetricSpec::getObject, ObjectMetricSourceCodec::diff);
+        diff.object("pods", original, modified, MetricSpec::getPods, PodsMetricSourceCodec::diff);
+        diff.object("resource", original, modified, MetricSpec::getResource, ResourceMetricSourceCodec::diff);
+        diff.value("type", original, modified, MetricSpec::getType);
+    }
+
+    /**
+     * Reads a {@link MetricSpec}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link MetricSpec} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static MetricSpec read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        ExternalMetricSource external = null;
+        ObjectMetricSource object = null;
+        PodsMetricSource pods = null;
+        ResourceMetricSource resource = null;
+        String type = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, MetricSpec.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "external":
+                    external = ExternalMetricSourceCodec.read(parser, context);
+                    break;
+                case "object":
+                    object = ObjectMetricSourceCodec.read(parser, context);
+                    break;
+                case "pods":
+                    pods = PodsMetricSourceCodec.read(parser, context);
+                    break;
+                case "resource":
+                    resource = ResourceMetricSourceCodec.read(parser, context);
+                    break;
+                case "type":
+                    type = Codecs.readInternedString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new MetricSpec(external, object, pods, resource, type);
+        } catch (IllegalArgumentException e) {
+            return (MetricSpec) context.handleInstantiationProblem(MetricSpec.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link MetricSpec}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable MetricSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("external", value.getExternal(), ExternalMetricSourceCodec::write, generator, provider);
+        Codecs.writeField("object", value.getObject(), ObjectMetricSourceCodec::write, generator, provider);
+        Codecs.writeField("pods", value.getPods(), PodsMetricSourceCodec::write, generator, provider);
+        Codecs.writeField("resource", value.getResource(), ResourceMetricSourceCodec::write, generator, provider);
+        Codecs.writeField("type", value.getType(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
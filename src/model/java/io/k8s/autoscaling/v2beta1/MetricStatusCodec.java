@@ -0,0 +1,158 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.autoscaling.v2beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link MetricStatus} that read and write its fields without reflection.
+ */
+public final class MetricStatusCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link MetricStatus}
+     */
+    public static final JsonDeserializer<MetricStatus> DESERIALIZER = new StdDeserializer<MetricStatus>(MetricStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public MetricStatus deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return MetricStatusCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link MetricStatus}
+     */
+    public static final JsonSerializer<MetricStatus> SERIALIZER = new StdSerializer<MetricStatus>(MetricStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(MetricStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            MetricStatusCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private MetricStatusCodec() {
+    }
+
+    /**
+     * Compares two {@link MetricStatus}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable MetricStatus original, MetricStatus modified, Diff diff) {
+        diff.object("external", original, modified, MetricStatus::getExternal, ExternalMetricStatusCodec::diff);
+        diff.object("object", original, modified, MetricStatus::getObject, ObjectMetricStatusCodec::diff);
+        diff.object("pods", original, modified, MetricStatus::getPods, PodsMetricStatusCodec::diff);
+        diff.object("resource", original, modified, MetricStatus::getResource, ResourceMetricStatusCodec::diff);
+        diff.value("type", original, modified, MetricStatus::getType);
+    }
+
+    /**
+     * Reads a {@link MetricStatus}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link MetricStatus} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static MetricStatus read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        ExternalMetricStatus external = null;
+        ObjectMetricStatus object = null;
+        PodsMetricStatus pods = null;
+        ResourceMetricStatus resource = null;
+        String type = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, MetricStatus.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "external":
+                    external = ExternalMetricStatusCodec.read(parser, context);
+                    break;
+                case "object":
+                    object = ObjectMetricStatusCodec.read(parser, context);
+                    break;
+                case "pods":
+                    pods = PodsMetricStatusCodec.read(parser, context);
+                    break;
+                case "resource":
+                    resource = ResourceMetricStatusCodec.read(parser, context);
+                    break;
+                case "type":
+                    type = Codecs.readInternedString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new MetricStatus(external, object, pods, resource, type);
+        } catch (IllegalArgumentException e) {
+            return (MetricStatus) context.handleInstantiationProblem(MetricStatus.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link MetricStatus}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable MetricStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("external", value.getExternal(), ExternalMetricStatusCodec::write, generator, provider);
+        Codecs.writeField("object", value.getObject(), ObjectMetricStatusCodec::write, generator, provider);
+        Codecs.writeField("pods", value.getPods(), PodsMetricStatusCodec::write, generator, provider);
+        Codecs.writeField("resource", value.getResource(), ResourceMetricStatusCodec::write, generator, provider);
+        Codecs.writeField("type", value.getType(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
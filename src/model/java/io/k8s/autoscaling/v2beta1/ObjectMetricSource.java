@@ -17,6 +17,7 @@
 package io.k8s.autoscaling.v2beta1;
 
 import io.k8s.meta.v1.LabelSelector;
+import io.k8s.resource.Quantity;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.jackson.Jacksonized;
@@ -33,7 +34,7 @@ import org.springframework.lang.Nullable;
 public class ObjectMetricSource {
 
     @Nullable
-    String averageValue;
+    Quantity averageValue;
 
     /**
      * metricName is the name of the metric in question.
@@ -48,6 +49,6 @@ public class ObjectMetricSource {
     CrossVersionObjectReference target;
 
     @NonNull
-    String targetValue;
+    Quantity targetValue;
 
 }
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.autoscaling.v2beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.meta.v1.LabelSelector;
+import io.k8s.meta.v1.LabelSelectorCodec;
+import io.k8s.resource.Quantity;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ObjectMetricSource} that read and write its fields without reflection.
+ */
+public final class ObjectMetricSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ObjectMetricSource}
+     */
+    public static final JsonDeserializer<ObjectMetricSource> DESERIALIZER = new StdDeserializer<ObjectMetricSource>(ObjectMetricSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ObjectMetricSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ObjectMetricSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ObjectMetricSource}
+     */
+    public static final JsonSerializer<ObjectMetricSource> SERIALIZER = new StdSerializer<ObjectMetricSource>(ObjectMetricSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ObjectMetricSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ObjectMetricSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ObjectMetricSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link ObjectMetricSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ObjectMetricSource original, ObjectMetricSource modified, Diff diff) {
+        diff.value("averageValue", original, modified, ObjectMetricSource::getAverageValue);
+        diff.value("metricName", original, modified, ObjectMetricSource::getMetricName);
+        diff.object("selector", original, modified, ObjectMetricSource::getSelector, LabelSelectorCodec::diff);
+        diff.object("target", original, modified, ObjectMetricSource::getTarget, CrossVersionObjectReferenceCodec::diff);
+        diff.value("targetValue", original, modified, ObjectMetricSource::getTargetValue);
+    }
+
+    /**
+     * Reads a {@link ObjectMetricSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ObjectMetricSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ObjectMetricSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Quantity averageValue = null;
+        String metricName = null;
+        LabelSelector selector = null;
+        CrossVersionObjectReference target = null;
+        Quantity targetValue = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, ObjectMetricSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "averageValue":
+                    averageValue = Codecs.readQuantity(parser, context);
+                    break;
+                case "metricName":
+                    metricName = Codecs.readString(parser, context);
+                    break;
+                case "selector":
+                    selector = LabelSelectorCodec.read(parser, context);
+                    break;
+                case "target":
+                    target = CrossVersionObjectReferenceCodec.read(parser, context);
+                    break;
+                case "targetValue":
+                    targetValue = Codecs.readQuantity(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ObjectMetricSource(averageValue, metricName, selector, target, targetValue);
+        } catch (IllegalArgumentException e) {
+            return (ObjectMetricSource) context.handleInstantiationProblem(ObjectMetricSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ObjectMetricSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ObjectMetricSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("averageValue", value.getAverageValue(), Codecs::writeQuantity, generator, provider);
+        Codecs.writeField("metricName", value.getMetricName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("selector", value.getSelector(), LabelSelectorCodec::write, generator, provider);
+        Codecs.writeField("target", value.getTarget(), CrossVersionObjectReferenceCodec::write, generator, provider);
+        Codecs.writeField("targetValue", value.getTargetValue(), Codecs::writeQuantity, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -17,6 +17,7 @@
 package io.k8s.autoscaling.v2beta1;
 
 import io.k8s.meta.v1.LabelSelector;
+import io.k8s.resource.Quantity;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.jackson.Jacksonized;
@@ -33,10 +34,10 @@ import org.springframework.lang.Nullable;
 public class ObjectMetricStatus {
 
     @Nullable
-    String averageValue;
+    Quantity averageValue;
 
     @NonNull
-    String currentValue;
+    Quantity currentValue;
 
     /**
      * metricName is the name of the metric in question.
@@ -17,6 +17,7 @@
 package io.k8s.autoscaling.v2beta1;
 
 import io.k8s.meta.v1.LabelSelector;
+import io.k8s.resource.Quantity;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.jackson.Jacksonized;
@@ -42,6 +43,6 @@ public class PodsMetricSource {
     LabelSelector selector;
 
     @NonNull
-    String targetAverageValue;
+    Quantity targetAverageValue;
 
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.autoscaling.v2beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.meta.v1.LabelSelector;
+import io.k8s.meta.v1.LabelSelectorCodec;
+import io.k8s.resource.Quantity;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link PodsMetricSource} that read and write its fields without reflection.
+ */
+public final class PodsMetricSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link PodsMetricSource}
+     */
+    public static final JsonDeserializer<PodsMetricSource> DESERIALIZER = new StdDeserializer<PodsMetricSource>(PodsMetricSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public PodsMetricSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return PodsMetricSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link PodsMetricSource}
+     */
+    public static final JsonSerializer<PodsMetricSource> SERIALIZER = new StdSerializer<PodsMetricSource>(PodsMetricSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(PodsMetricSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            PodsMetricSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private PodsMetricSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link PodsMetricSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable PodsMetricSource original, PodsMetricSource modified, Diff diff) {
+        diff.value("metricName", original, modified, PodsMetricSource::getMetricName);
+        diff.object("selector", original, modified, PodsMetricSource::getSelector, LabelSelectorCodec::diff);
+        diff.value("targetAverageValue", original, modified, PodsMetricSource::getTargetAverageValue);
+    }
+
+    /**
+     * Reads a {@link PodsMetricSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link PodsMetricSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static PodsMetricSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String metricName = null;
+        LabelSelector selector = null;
+        Quantity targetAverageValue = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, PodsMetricSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "metricName":
+                    metricName = Codecs.readString(parser, context);
+                    break;
+                case "selector":
+                    selector = LabelSelectorCodec.read(parser, context);
+                    break;
+                case "targetAverageValue":
+                    targetAverageValue = Codecs.readQuantity(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new PodsMetricSource(metricName, selector, targetAverageValue);
+        } catch (IllegalArgumentException e) {
+            return (PodsMetricSource) context.handleInstantiationProblem(PodsMetricSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link PodsMetricSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable PodsMetricSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("metricName", value.getMetricName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("selector", value.getSelector(), LabelSelectorCodec::write, generator, provider);
+        Codecs.writeField("targetAverageValue", value.getTargetAverageValue(), Codecs::writeQuantity, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -16,6 +16,7 @@
 
 package io.k8s.autoscaling.v2beta1;
 
+import io.k8s.resource.Quantity;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.jackson.Jacksonized;
@@ -47,6 +48,6 @@ public class ResourceMetricSource {
     Integer targetAverageUtilization;
 
     @Nullable
-    String targetAverageValue;
+    Quantity targetAverageValue;
 
 }
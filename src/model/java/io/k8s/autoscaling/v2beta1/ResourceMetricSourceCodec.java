@@ -0,0 +1,147 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.autoscaling.v2beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.resource.Quantity;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ResourceMetricSource} that read and write its fields without reflection.
+ */
+public final class ResourceMetricSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ResourceMetricSource}
+     */
+    public static final JsonDeserializer<ResourceMetricSource> DESERIALIZER = new StdDeserializer<ResourceMetricSource>(ResourceMetricSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ResourceMetricSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ResourceMetricSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ResourceMetricSource}
+     */
+    public static final JsonSerializer<ResourceMetricSource> SERIALIZER = new StdSerializer<ResourceMetricSource>(ResourceMetricSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ResourceMetricSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ResourceMetricSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ResourceMetricSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link ResourceMetricSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ResourceMetricSource original, ResourceMetricSource modified, Diff diff) {
+        diff.value("name", original, modified, ResourceMetricSource::getName);
+        diff.value("targetAverageUtilization", original, modified, ResourceMetricSource::getTargetAverageUtilization);
+        diff.value("targetAverageValue", original, modified, ResourceMetricSource::getTargetAverageValue);
+    }
+
+    /**
+     * Reads a {@link ResourceMetricSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ResourceMetricSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ResourceMetricSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String name = null;
+        Integer targetAverageUtilization = null;
+        Quantity targetAverageValue = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, ResourceMetricSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "name":
+                    name = Codecs.readString(parser, context);
+                    break;
+                case "targetAverageUtilization":
+                    targetAverageUtilization = Codecs.readInteger(parser, context);
+                    break;
+                case "targetAverageValue":
+                    targetAverageValue = Codecs.readQuantity(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ResourceMetricSource(name, targetAverageUtilization, targetAverageValue);
+        } catch (IllegalArgumentException e) {
+            return (ResourceMetricSource) context.handleInstantiationProblem(ResourceMetricSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ResourceMetricSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ResourceMetricSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("targetAverageUtilization", value.getTargetAverageUtilization(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("targetAverageValue", value.getTargetAverageValue(), Codecs::writeQuantity, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
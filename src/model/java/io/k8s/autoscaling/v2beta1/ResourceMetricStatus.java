@@ -16,6 +16,7 @@
 
 package io.k8s.autoscaling.v2beta1;
 
+import io.k8s.resource.Quantity;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.jackson.Jacksonized;
@@ -42,7 +43,7 @@ public class ResourceMetricStatus {
     Integer currentAverageUtilization;
 
     @NonNull
-    String currentAverageValue;
+    Quantity currentAverageValue;
 
     /**
      * name is the name of the resource in question.
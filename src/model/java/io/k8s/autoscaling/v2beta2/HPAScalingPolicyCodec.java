@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.autoscaling.v2beta2;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link HPAScalingPolicy} that read and write its fields without reflection.
+ */
+public final class HPAScalingPolicyCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link HPAScalingPolicy}
+     */
+    public static final JsonDeserializer<HPAScalingPolicy> DESERIALIZER = new StdDeserializer<HPAScalingPolicy>(HPAScalingPolicy.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public HPAScalingPolicy deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return HPAScalingPolicyCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link HPAScalingPolicy}
+     */
+    public static final JsonSerializer<HPAScalingPolicy> SERIALIZER = new StdSerializer<HPAScalingPolicy>(HPAScalingPolicy.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(HPAScalingPolicy value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            HPAScalingPolicyCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private HPAScalingPolicyCodec() {
+    }
+
+    /**
+     * Compares two {@link HPAScalingPolicy}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable HPAScalingPolicy original, HPAScalingPolicy modified, Diff diff) {
+        diff.value("periodSeconds", original, modified, HPAScalingPolicy::getPeriodSeconds);
+        diff.value("type", original, modified, HPAScalingPolicy::getType);
+        diff.value("value", original, modified, HPAScalingPolicy::getValue);
+    }
+
+    /**
+     * Reads a {@link HPAScalingPolicy}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link HPAScalingPolicy} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static HPAScalingPolicy read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Integer periodSeconds = null;
+        String type = null;
+        Integer value = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, HPAScalingPolicy.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "periodSeconds":
+                    periodSeconds = Codecs.readInteger(parser, context);
+                    break;
+                case "type":
+                    type = Codecs.readInternedString(parser, context);
+                    break;
+                case "value":
+                    value = Codecs.readInteger(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new HPAScalingPolicy(periodSeconds, type, value);
+        } catch (IllegalArgumentException e) {
+            return (HPAScalingPolicy) context.handleInstantiationProblem(HPAScalingPolicy.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link HPAScalingPolicy}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable HPAScalingPolicy value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("periodSeconds", value.getPeriodSeconds(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("type", value.getType(), Codecs::writeString, generator, provider);
+        Codecs.writeField("value", value.getValue(), Codecs::writeInteger, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.autoscaling.v2beta2;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link HPAScalingRules} that read and write its fields without reflection.
+ */
+public final class HPAScalingRulesCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link HPAScalingRules}
+     */
+    public static final JsonDeserializer<HPAScalingRules> DESERIALIZER = new StdDeserializer<HPAScalingRules>(HPAScalingRules.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public HPAScalingRules deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return HPAScalingRulesCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link HPAScalingRules}
+     */
+    public static final JsonSerializer<HPAScalingRules> SERIALIZER = new StdSerializer<HPAScalingRules>(HPAScalingRules.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(HPAScalingRules value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            HPAScalingRulesCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private HPAScalingRulesCodec() {
+    }
+
+    /**
+     * Compares two {@link HPAScalingRules}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable HPAScalingRules original, HPAScalingRules modified, Diff diff) {
+        diff.value("policies", original, modified, HPAScalingRules::getPolicies);
+        diff.value("selectPolicy", original, modified, HPAScalingRules::getSelectPolicy);
+        diff.value("stabilizationWindowSeconds", original, modified, HPAScalingRules::getStabilizationWindowSeconds);
+    }
+
+    /**
+     * Reads a {@link HPAScalingRules}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link HPAScalingRules} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static HPAScalingRules read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<HPAScalingPolicy> policies = Collections.emptyList();
+        String selectPolicy = null;
+        Integer stabilizationWindowSeconds = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, HPAScalingRules.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "policies":
+                    policies = Codecs.readList(parser, context, HPAScalingPolicyCodec::read);
+                    break;
+                case "selectPolicy":
+                    selectPolicy = Codecs.readString(parser, context);
+                    break;
+                case "stabilizationWindowSeconds":
+                    stabilizationWindowSeconds = Codecs.readInteger(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new HPAScalingRules(policies, selectPolicy, stabilizationWindowSeconds);
+        } catch (IllegalArgumentException e) {
+            return (HPAScalingRules) context.handleInstantiationProblem(HPAScalingRules.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link HPAScalingRules}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable HPAScalingRules value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("policies", value.getPolicies(), HPAScalingPolicyCodec::write, generator, provider);
+        Codecs.writeField("selectPolicy", value.getSelectPolicy(), Codecs::writeString, generator, provider);
+        Codecs.writeField("stabilizationWindowSeconds", value.getStabilizationWindowSeconds(), Codecs::writeInteger, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.autoscaling.v2beta2;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.meta.v1.LabelSelector;
+import io.k8s.meta.v1.LabelSelectorCodec;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link MetricIdentifier} that read and write its fields without reflection.
+ */
+public final class MetricIdentifierCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link MetricIdentifier}
+     */
+    public static final JsonDeserializer<MetricIdentifier> DESERIALIZER = new StdDeserializer<MetricIdentifier>(MetricIdentifier.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public MetricIdentifier deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return MetricIdentifierCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link MetricIdentifier}
+     */
+    public static final JsonSerializer<MetricIdentifier> SERIALIZER = new StdSerializer<MetricIdentifier>(MetricIdentifier.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(MetricIdentifier value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            MetricIdentifierCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private MetricIdentifierCodec() {
+    }
+
+    /**
+     * Compares two {@link MetricIdentifier}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable MetricIdentifier original, MetricIdentifier modified, Diff diff) {
+        diff.value("name", original, modified, MetricIdentifier::getName);
+        diff.object("selector", original, modified, MetricIdentifier::getSelector, LabelSelectorCodec::diff);
+    }
+
+    /**
+     * Reads a {@link MetricIdentifier}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link MetricIdentifier} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static MetricIdentifier read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String name = null;
+        LabelSelector selector = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, MetricIdentifier.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "name":
+                    name = Codecs.readString(parser, context);
+                    break;
+                case "selector":
+                    selector = LabelSelectorCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new MetricIdentifier(name, selector);
+        } catch (IllegalArgumentException e) {
+            return (MetricIdentifier) context.handleInstantiationProblem(MetricIdentifier.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link MetricIdentifier}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable MetricIdentifier value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("selector", value.getSelector(), LabelSelectorCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
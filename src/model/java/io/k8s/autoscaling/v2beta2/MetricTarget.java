@@ -16,6 +16,7 @@
 
 package io.k8s.autoscaling.v2beta2;
 
+import io.k8s.resource.Quantity;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.jackson.Jacksonized;
@@ -39,7 +40,7 @@ public class MetricTarget {
     Integer averageUtilization;
 
     @Nullable
-    String averageValue;
+    Quantity averageValue;
 
     /**
      * type represents whether the metric type is Utilization, Value, or AverageValue
@@ -48,6 +49,6 @@ public class MetricTarget {
     String type;
 
     @Nullable
-    String value;
+    Quantity value;
 
 }
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.autoscaling.v2beta2;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.resource.Quantity;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link MetricTarget} that read and write its fields without reflection.
+ */
+public final class MetricTargetCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link MetricTarget}
+     */
+    public static final JsonDeserializer<MetricTarget> DESERIALIZER = new StdDeserializer<MetricTarget>(MetricTarget.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public MetricTarget deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return MetricTargetCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link MetricTarget}
+     */
+    public static final JsonSerializer<MetricTarget> SERIALIZER = new StdSerializer<MetricTarget>(MetricTarget.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(MetricTarget value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            MetricTargetCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private MetricTargetCodec() {
+    }
+
+    /**
+     * Compares two {@link MetricTarget}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable MetricTarget original, MetricTarget modified, Diff diff) {
+        diff.value("averageUtilization", original, modified, MetricTarget::getAverageUtilization);
+        diff.value("averageValue", original, modified, MetricTarget::getAverageValue);
+        diff.value("type", original, modified, MetricTarget::getType);
+        diff.value("value", original, modified, MetricTarget::getValue);
+    }
+
+    /**
+     * Reads a {@link MetricTarget}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link MetricTarget} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static MetricTarget read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Integer averageUtilization = null;
+        Quantity averageValue = null;
+        String type = null;
+        Quantity value = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, MetricTarget.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "averageUtilization":
+                    averageUtilization = Codecs.readInteger(parser, context);
+                    break;
+                case "averageValue":
+                    averageValue = Codecs.readQuantity(parser, context);
+                    break;
+                case "type":
+                    type = Codecs.readInternedString(parser, context);
+                    break;
+                case "value":
+                    value = Codecs.readQuantity(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new MetricTarget(averageUtilization, averageValue, type, value);
+        } catch (IllegalArgumentException e) {
+            return (MetricTarget) context.handleInstantiationProblem(MetricTarget.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link MetricTarget}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable MetricTarget value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("averageUtilization", value.getAverageUtilization(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("averageValue", value.getAverageValue(), Codecs::writeQuantity, generator, provider);
+        Codecs.writeField("type", value.getType(), Codecs::writeString, generator, provider);
+        Codecs.writeField("value", value.getValue(), Codecs::writeQuantity, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
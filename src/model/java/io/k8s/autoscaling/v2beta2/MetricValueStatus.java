@@ -16,6 +16,7 @@
 
 package io.k8s.autoscaling.v2beta2;
 
+import io.k8s.resource.Quantity;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.jackson.Jacksonized;
@@ -37,9 +38,9 @@ public class MetricValueStatus {
     Integer averageUtilization;
 
     @Nullable
-    String averageValue;
+    Quantity averageValue;
 
     @Nullable
-    String value;
+    Quantity value;
 
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.autoscaling.v2beta2;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link PodsMetricStatus} that read and write its fields without reflection.
+ */
+public final class PodsMetricStatusCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link PodsMetricStatus}
+     */
+    public static final JsonDeserializer<PodsMetricStatus> DESERIALIZER = new StdDeserializer<PodsMetricStatus>(PodsMetricStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public PodsMetricStatus deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return PodsMetricStatusCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link PodsMetricStatus}
+     */
+    public static final JsonSerializer<PodsMetricStatus> SERIALIZER = new StdSerializer<PodsMetricStatus>(PodsMetricStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(PodsMetricStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            PodsMetricStatusCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private PodsMetricStatusCodec() {
+    }
+
+    /**
+     * Compares two {@link PodsMetricStatus}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable PodsMetricStatus original, PodsMetricStatus modified, Diff diff) {
+        diff.object("current", original, modified, PodsMetricStatus::getCurrent, MetricValueStatusCodec::diff);
+        diff.object("metric", original, modified, PodsMetricStatus::getMetric, MetricIdentifierCodec::diff);
+    }
+
+    /**
+     * Reads a {@link PodsMetricStatus}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link PodsMetricStatus} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static PodsMetricStatus read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        MetricValueStatus current = null;
+        MetricIdentifier metric = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, PodsMetricStatus.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "current":
+                    current = MetricValueStatusCodec.read(parser, context);
+                    break;
+                case "metric":
+                    metric = MetricIdentifierCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new PodsMetricStatus(current, metric);
+        } catch (IllegalArgumentException e) {
+            return (PodsMetricStatus) context.handleInstantiationProblem(PodsMetricStatus.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link PodsMetricStatus}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable PodsMetricStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("current", value.getCurrent(), MetricValueStatusCodec::write, generator, provider);
+        Codecs.writeField("metric", value.getMetric(), MetricIdentifierCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.autoscaling.v2beta2;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ResourceMetricStatus} that read and write its fields without reflection.
+ */
+public final class ResourceMetricStatusCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ResourceMetricStatus}
+     */
+    public static final JsonDeserializer<ResourceMetricStatus> DESERIALIZER = new StdDeserializer<ResourceMetricStatus>(ResourceMetricStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ResourceMetricStatus deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ResourceMetricStatusCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ResourceMetricStatus}
+     */
+    public static final JsonSerializer<ResourceMetricStatus> SERIALIZER = new StdSerializer<ResourceMetricStatus>(ResourceMetricStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ResourceMetricStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ResourceMetricStatusCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ResourceMetricStatusCodec() {
+    }
+
+    /**
+     * Compares two {@link ResourceMetricStatus}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ResourceMetricStatus original, ResourceMetricStatus modified, Diff diff) {
+        diff.object("current", original, modified, ResourceMetricStatus::getCurrent, MetricValueStatusCodec::diff);
+        diff.value("name", original, modified, ResourceMetricStatus::getName);
+    }
+
+    /**
+     * Reads a {@link ResourceMetricStatus}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ResourceMetricStatus} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ResourceMetricStatus read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        MetricValueStatus current = null;
+        String name = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, ResourceMetricStatus.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "current":
+                    current = MetricValueStatusCodec.read(parser, context);
+                    break;
+                case "name":
+                    name = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ResourceMetricStatus(current, name);
+        } catch (IllegalArgumentException e) {
+            return (ResourceMetricStatus) context.handleInstantiationProblem(ResourceMetricStatus.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ResourceMetricStatus}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ResourceMetricStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("current", value.getCurrent(), MetricValueStatusCodec::write, generator, provider);
+        Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
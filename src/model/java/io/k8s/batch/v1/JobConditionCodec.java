@@ -0,0 +1,165 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.batch.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link JobCondition} that read and write its fields without reflection.
+ */
+public final class JobConditionCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link JobCondition}
+     */
+    public static final JsonDeserializer<JobCondition> DESERIALIZER = new StdDeserializer<JobCondition>(JobCondition.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public JobCondition deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return JobConditionCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link JobCondition}
+     */
+    public static final JsonSerializer<JobCondition> SERIALIZER = new StdSerializer<JobCondition>(JobCondition.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(JobCondition value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            JobConditionCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private JobConditionCodec() {
+    }
+
+    /**
+     * Compares two {@link JobCondition}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable JobCondition original, JobCondition modified, Diff diff) {
+        diff.value("lastProbeTime", original, modified, JobCondition::getLastProbeTime);
+        diff.value("lastTransitionTime", original, modified, JobCondition::getLastTransitionTime);
+        diff.value("message", original, modified, JobCondition::getMessage);
+        diff.value("reason", original, modified, JobCondition::getReason);
+        diff.value("status", original, modified, JobCondition::getStatus);
+        diff.value("type", original, modified, JobCondition::getType);
+    }
+
+    /**
+     * Reads a {@link JobCondition}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link JobCondition} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static JobCondition read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        OffsetDateTime lastProbeTime = null;
+        OffsetDateTime lastTransitionTime = null;
+        String message = null;
+        String reason = null;
+        String status = null;
+        String type = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, JobCondition.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "lastProbeTime":
+                    lastProbeTime = Codecs.readDateTime(parser, context);
+                    break;
+                case "lastTransitionTime":
+                    lastTransitionTime = Codecs.readDateTime(parser, context);
+                    break;
+                case "message":
+                    message = Codecs.readString(parser, context);
+                    break;
+                case "reason":
+                    reason = Codecs.readInternedString(parser, context);
+                    break;
+                case "status":
+                    status = Codecs.readInternedString(parser, context);
+                    break;
+                case "type":
+                    type = Codecs.readInternedString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new JobCondition(lastProbeTime, lastTransitionTime, message, reason, status, type);
+        } catch (IllegalArgumentException e) {
+            return (JobCondition) context.handleInstantiationProblem(JobCondition.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link JobCondition}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable JobCondition value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("lastProbeTime", value.getLastProbeTime(), Codecs::writeDateTime, generator, provider);
+        Codecs.writeField("lastTransitionTime", value.getLastTransitionTime(), Codecs::writeDateTime, generator, provider);
+        Codecs.writeField("message", value.getMessage(), Codecs::writeString, generator, provider);
+        Codecs.writeField("reason", value.getReason(), Codecs::writeString, generator, provider);
+        Codecs.writeField("status", value.getStatus(), Codecs::writeString, generator, provider);
+        Codecs.writeField("type", value.getType(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
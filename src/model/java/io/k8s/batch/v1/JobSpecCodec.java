@@ -0,0 +1,180 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.batch.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.core.v1.PodTemplateSpec;
+import io.k8s.core.v1.PodTemplateSpecCodec;
+import io.k8s.meta.v1.LabelSelector;
+import io.k8s.meta.v1.LabelSelectorCodec;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link JobSpec} that read and write its fields without reflection.
+ */
+public final class JobSpecCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link JobSpec}
+     */
+    public static final JsonDeserializer<JobSpec> DESERIALIZER = new StdDeserializer<JobSpec>(JobSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public JobSpec deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return JobSpecCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link JobSpec}
+     */
+    public static final JsonSerializer<JobSpec> SERIALIZER = new StdSerializer<JobSpec>(JobSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(JobSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            JobSpecCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private JobSpecCodec() {
+    }
+
+    /**
+     * Compares two {@link JobSpec}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable JobSpec original, JobSpec modified, Diff diff) {
+        diff.value("activeDeadlineSeconds", original, modified, JobSpec::getActiveDeadlineSeconds);
+        diff.value("backoffLimit", original, modified, JobSpec::getBackoffLimit);
+        diff.value("completions", original, modified, JobSpec::getCompletions);
+        diff.value("manualSelector", original, modified, JobSpec::getManualSelector);
+        diff.value("parallelism", original, modified, JobSpec::getParallelism);
+        diff.object("selector", original, modified, JobSpec::getSelector, LabelSelectorCodec::diff);
+        diff.object("template", original, modified, JobSpec::getTemplate, PodTemplateSpecCodec::diff);
+        diff.value("ttlSecondsAfterFinished", original, modified, JobSpec::getTtlSecondsAfterFinished);
+    }
+
+    /**
+     * Reads a {@link JobSpec}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link JobSpec} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static JobSpec read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Long activeDeadlineSeconds = null;
+        Integer backoffLimit = null;
+        Integer completions = null;
+        Boolean manualSelector = null;
+        Integer parallelism = null;
+        LabelSelector selector = null;
+        PodTemplateSpec template = null;
+        Integer ttlSecondsAfterFinished = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, JobSpec.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "activeDeadlineSeconds":
+                    activeDeadlineSeconds = Codecs.readLong(parser, context);
+                    break;
+                case "backoffLimit":
+                    backoffLimit = Codecs.readInteger(parser, context);
+                    break;
+                case "completions":
+                    completions = Codecs.readInteger(parser, context);
+                    break;
+                case "manualSelector":
+                    manualSelector = Codecs.readBoolean(parser, context);
+                    break;
+                case "parallelism":
+                    parallelism = Codecs.readInteger(parser, context);
+                    break;
+                case "selector":
+                    selector = LabelSelectorCodec.read(parser, context);
+                    break;
+                case "template":
+                    template = PodTemplateSpecCodec.read(parser, context);
+                    break;
+                case "ttlSecondsAfterFinished":
+                    ttlSecondsAfterFinished = Codecs.readInteger(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new JobSpec(activeDeadlineSeconds, backoffLimit, completions, manualSelector, parallelism, selector, template, ttlSecondsAfterFinished);
+        } catch (IllegalArgumentException e) {
+            return (JobSpec) context.handleInstantiationProblem(JobSpec.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link JobSpec}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable JobSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("activeDeadlineSeconds", value.getActiveDeadlineSeconds(), Codecs::writeLong, generator, provider);
+        Codecs.writeField("backoffLimit", value.getBackoffLimit(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("completions", value.getCompletions(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("manualSelector", value.getManualSelector(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("parallelism", value.getParallelism(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("selector", value.getSelector(), LabelSelectorCodec::write, generator, provider);
+        Codecs.writeField("template", value.getTemplate(), PodTemplateSpecCodec::write, generator, provider);
+        Codecs.writeField("ttlSecondsAfterFinished", value.getTtlSecondsAfterFinished(), Codecs::writeInteger, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -16,6 +16,8 @@
 
 package io.k8s.batch.v1;
 
+import io.k8s.type.PatchMergeKey;
+import io.k8s.type.PatchStrategy;
 import java.time.OffsetDateTime;
 import java.util.List;
 import lombok.Builder;
@@ -46,6 +48,8 @@ public class JobStatus {
      * https://kubernetes.io/docs/concepts/workloads/controllers/jobs-run-to-completion/
      */
     @Nullable
+    @PatchMergeKey("type")
+    @PatchStrategy("merge")
     @Singular
     List<JobCondition> conditions;
 
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.batch.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link JobStatus} that read and write its fields without reflection.
+ */
+public final class JobStatusCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link JobStatus}
+     */
+    public static final JsonDeserializer<JobStatus> DESERIALIZER = new StdDeserializer<JobStatus>(JobStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public JobStatus deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return JobStatusCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link JobStatus}
+     */
+    public static final JsonSerializer<JobStatus> SERIALIZER = new StdSerializer<JobStatus>(JobStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(JobStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            JobStatusCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private JobStatusCodec() {
+    }
+
+    /**
+     * Compares two {@link JobStatus}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable JobStatus original, JobStatus modified, Diff diff) {
+        diff.value("active", original, modified, JobStatus::getActive);
+        diff.value("completionTime", original, modified, JobStatus::getCompletionTime);
+        diff.list("conditions", original, modified, JobStatus::getConditions, "type", JobCondition::getType, JobConditionCodec::diff);
+        diff.value("failed", original, modified, JobStatus::getFailed);
+        diff.value("startTime", original, modified, JobStatus::getStartTime);
+        diff.value("succeeded", original, modified, JobStatus::getSucceeded);
+    }
+
+    /**
+     * Reads a {@link JobStatus}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link JobStatus} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static JobStatus read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Integer active = null;
+        OffsetDateTime completionTime = null;
+        List<JobCondition> conditions = Collections.emptyList();
+        Integer failed = null;
+        OffsetDateTime startTime = null;
+        Integer succeeded = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, JobStatus.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "active":
+                    active = Codecs.readInteger(parser, context);
+                    break;
+                case "completionTime":
+                    completionTime = Codecs.readDateTime(parser, context);
+                    break;
+                case "conditions":
+                    conditions = Codecs.readList(parser, context, JobConditionCodec::read);
+                    break;
+                case "failed":
+                    failed = Codecs.readInteger(parser, context);
+                    break;
+                case "startTime":
+                    startTime = Codecs.readDateTime(parser, context);
+                    break;
+                case "succeeded":
+                    succeeded = Codecs.readInteger(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new JobStatus(active, completionTime, conditions, failed, startTime, succeeded);
+        } catch (IllegalArgumentException e) {
+            return (JobStatus) context.handleInstantiationProblem(JobStatus.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link JobStatus}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable JobStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("active", value.getActive(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("completionTime", value.getCompletionTime(), Codecs::writeDateTime, generator, provider);
+        Codecs.writeListField("conditions", value.getConditions(), JobConditionCodec::write, generator, provider);
+        Codecs.writeField("failed", value.getFailed(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("startTime", value.getStartTime(), Codecs::writeDateTime, generator, provider);
+        Codecs.writeField("succeeded", value.getSucceeded(), Codecs::writeInteger, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
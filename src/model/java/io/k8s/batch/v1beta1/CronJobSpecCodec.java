@@ -0,0 +1,170 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.batch.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link CronJobSpec} that read and write its fields without reflection.
+ */
+public final class CronJobSpecCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link CronJobSpec}
+     */
+    public static final JsonDeserializer<CronJobSpec> DESERIALIZER = new StdDeserializer<CronJobSpec>(CronJobSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public CronJobSpec deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return CronJobSpecCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link CronJobSpec}
+     */
+    public static final JsonSerializer<CronJobSpec> SERIALIZER = new StdSerializer<CronJobSpec>(CronJobSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(CronJobSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            CronJobSpecCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private CronJobSpecCodec() {
+    }
+
+    /**
+     * Compares two {@link CronJobSpec}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable CronJobSpec original, CronJobSpec modified, Diff diff) {
+        diff.value("concurrencyPolicy", original, modified, CronJobSpec::getConcurrencyPolicy);
+        diff.value("failedJobsHistoryLimit", original, modified, CronJobSpec::getFailedJobsHistoryLimit);
+        diff.object("jobTemplate", original, modified, CronJobSpec::getJobTemplate, JobTemplateSpecCodec::diff);
+        diff.value("schedule", original, modified, CronJobSpec::getSchedule);
+        diff.value("startingDeadlineSeconds", original, modified, CronJobSpec::getStartingDeadlineSeconds);
+        diff.value("successfulJobsHistoryLimit", original, modified, CronJobSpec::getSuccessfulJobsHistoryLimit);
+        diff.value("suspend", original, modified, CronJobSpec::getSuspend);
+    }
+
+    /**
+     * Reads a {@link CronJobSpec}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link CronJobSpec} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static CronJobSpec read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String concurrencyPolicy = null;
+        Integer failedJobsHistoryLimit = null;
+        JobTemplateSpec jobTemplate = null;
+        String schedule = null;
+        Long startingDeadlineSeconds = null;
+        Integer successfulJobsHistoryLimit = null;
+        Boolean suspend = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, CronJobSpec.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "concurrencyPolicy":
+                    concurrencyPolicy = Codecs.readString(parser, context);
+                    break;
+                case "failedJobsHistoryLimit":
+                    failedJobsHistoryLimit = Codecs.readInteger(parser, context);
+                    break;
+                case "jobTemplate":
+                    jobTemplate = JobTemplateSpecCodec.read(parser, context);
+                    break;
+                case "schedule":
+                    schedule = Codecs.readString(parser, context);
+                    break;
+                case "startingDeadlineSeconds":
+                    startingDeadlineSeconds = Codecs.readLong(parser, context);
+                    break;
+                case "successfulJobsHistoryLimit":
+                    successfulJobsHistoryLimit = Codecs.readInteger(parser, context);
+                    break;
+                case "suspend":
+                    suspend = Codecs.readBoolean(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new CronJobSpec(concurrencyPolicy, failedJobsHistoryLimit, jobTemplate, schedule, startingDeadlineSeconds, successfulJobsHistoryLimit, suspend);
+        } catch (IllegalArgumentException e) {
+            return (CronJobSpec) context.handleInstantiationProblem(CronJobSpec.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link CronJobSpec}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable CronJobSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("concurrencyPolicy", value.getConcurrencyPolicy(), Codecs::writeString, generator, provider);
+        Codecs.writeField("failedJobsHistoryLimit", value.getFailedJobsHistoryLimit(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("jobTemplate", value.getJobTemplate(), JobTemplateSpecCodec::write, generator, provider);
+        Codecs.writeField("schedule", value.getSchedule(), Codecs::writeString, generator, provider);
+        Codecs.writeField("startingDeadlineSeconds", value.getStartingDeadlineSeconds(), Codecs::writeLong, generator, provider);
+        Codecs.writeField("successfulJobsHistoryLimit", value.getSuccessfulJobsHistoryLimit(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("suspend", value.getSuspend(), Codecs::writeBoolean, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
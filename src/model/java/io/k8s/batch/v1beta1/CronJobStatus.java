@@ -16,6 +16,7 @@
 
 package io.k8s.batch.v1beta1;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import io.k8s.core.v1.ObjectReference;
 import java.time.OffsetDateTime;
 import java.util.List;
@@ -36,6 +37,7 @@ public class CronJobStatus {
     /**
      * A list of pointers to currently running jobs.
      */
+    @JsonProperty("active")
     @Nullable
     @Singular("active")
     List<ObjectReference> active;
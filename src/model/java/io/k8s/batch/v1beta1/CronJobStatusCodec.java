@@ -0,0 +1,145 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.batch.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.core.v1.ObjectReference;
+import io.k8s.core.v1.ObjectReferenceCodec;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link CronJobStatus} that read and write its fields without reflection.
+ */
+public final class CronJobStatusCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link CronJobStatus}
+     */
+    public static final JsonDeserializer<CronJobStatus> DESERIALIZER = new StdDeserializer<CronJobStatus>(CronJobStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public CronJobStatus deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return CronJobStatusCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link CronJobStatus}
+     */
+    public static final JsonSerializer<CronJobStatus> SERIALIZER = new StdSerializer<CronJobStatus>(CronJobStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(CronJobStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            CronJobStatusCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private CronJobStatusCodec() {
+    }
+
+    /**
+     * Compares two {@link CronJobStatus}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable CronJobStatus original, CronJobStatus modified, Diff diff) {
+        diff.value("active", original, modified, CronJobStatus::getActive);
+        diff.value("lastScheduleTime", original, modified, CronJobStatus::getLastScheduleTime);
+    }
+
+    /**
+     * Reads a {@link CronJobStatus}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link CronJobStatus} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static CronJobStatus read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<ObjectReference> active = Collections.emptyList();
+        OffsetDateTime lastScheduleTime = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, CronJobStatus.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "active":
+                    active = Codecs.readList(parser, context, ObjectReferenceCodec::read);
+                    break;
+                case "lastScheduleTime":
+                    lastScheduleTime = Codecs.readDateTime(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new CronJobStatus(active, lastScheduleTime);
+        } catch (IllegalArgumentException e) {
+            return (CronJobStatus) context.handleInstantiationProblem(CronJobStatus.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link CronJobStatus}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable CronJobStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("active", value.getActive(), ObjectReferenceCodec::write, generator, provider);
+        Codecs.writeField("lastScheduleTime", value.getLastScheduleTime(), Codecs::writeDateTime, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -16,6 +16,7 @@
 
 package io.k8s.certificates.v1;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 import java.util.Map;
 import lombok.Builder;
@@ -37,6 +38,7 @@ public class CertificateSigningRequestSpec {
      * extra contains extra attributes of the user that created the CertificateSigningRequest. Populated by the API
      * server on creation and immutable.
      */
+    @JsonProperty("extra")
     @Nullable
     @Singular("extra")
     Map<String, List<String>> extra;
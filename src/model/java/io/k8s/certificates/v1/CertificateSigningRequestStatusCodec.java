@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.certificates.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link CertificateSigningRequestStatus} that read and write its fields without reflection.
+ */
+public final class CertificateSigningRequestStatusCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link CertificateSigningRequestStatus}
+     */
+    public static final JsonDeserializer<CertificateSigningRequestStatus> DESERIALIZER = new StdDeserializer<CertificateSigningRequestStatus>(CertificateSigningRequestStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public CertificateSigningRequestStatus deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return CertificateSigningRequestStatusCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link CertificateSigningRequestStatus}
+     */
+    public static final JsonSerializer<CertificateSigningRequestStatus> SERIALIZER = new StdSerializer<CertificateSigningRequestStatus>(CertificateSigningRequestStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(CertificateSigningRequestStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            CertificateSigningRequestStatusCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private CertificateSigningRequestStatusCodec() {
+    }
+
+    /**
+     * Compares two {@link CertificateSigningRequestStatus}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable CertificateSigningRequestStatus original, CertificateSigningRequestStatus modified, Diff diff) {
+        diff.value("certificate", original, modified, CertificateSigningRequestStatus::getCertificate);
+        diff.value("conditions", original, modified, CertificateSigningRequestStatus::getConditions);
+    }
+
+    /**
+     * Reads a {@link CertificateSigningRequestStatus}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link CertificateSigningRequestStatus} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static CertificateSigningRequestStatus read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String certificate = null;
+        List<CertificateSigningRequestCondition> conditions = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, CertificateSigningRequestStatus.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "certificate":
+                    certificate = Codecs.readString(parser, context);
+                    break;
+                case "conditions":
+                    conditions = Codecs.readList(parser, context, CertificateSigningRequestConditionCodec::read);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new CertificateSigningRequestStatus(certificate, conditions);
+        } catch (IllegalArgumentException e) {
+            return (CertificateSigningRequestStatus) context.handleInstantiationProblem(CertificateSigningRequestStatus.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link CertificateSigningRequestStatus}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable CertificateSigningRequestStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("certificate", value.getCertificate(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("conditions", value.getConditions(), CertificateSigningRequestConditionCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
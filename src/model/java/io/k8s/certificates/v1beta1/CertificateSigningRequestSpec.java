@@ -16,6 +16,7 @@
 
 package io.k8s.certificates.v1beta1;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 import java.util.Map;
 import lombok.Builder;
@@ -37,6 +38,7 @@ public class CertificateSigningRequestSpec {
     /**
      * Extra information about the requesting user. See user.Info interface for details.
      */
+    @JsonProperty("extra")
     @Nullable
     @Singular("extra")
     Map<String, List<String>> extra;
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.certificates.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link CertificateSigningRequestSpec} that read and write its fields without reflection.
+ */
+public final class CertificateSigningRequestSpecCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link CertificateSigningRequestSpec}
+     */
+    public static final JsonDeserializer<CertificateSigningRequestSpec> DESERIALIZER = new StdDeserializer<CertificateSigningRequestSpec>(CertificateSigningRequestSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public CertificateSigningRequestSpec deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return CertificateSigningRequestSpecCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link CertificateSigningRequestSpec}
+     */
+    public static final JsonSerializer<CertificateSigningRequestSpec> SERIALIZER = new StdSerializer<CertificateSigningRequestSpec>(CertificateSigningRequestSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(CertificateSigningRequestSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            CertificateSigningRequestSpecCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private CertificateSigningRequestSpecCodec() {
+    }
+
+    /**
+     * Compares two {@link CertificateSigningRequestSpec}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable CertificateSigningRequestSpec original, CertificateSigningRequestSpec modified, Diff diff) {
+        diff.map("extra", original, modified, CertificateSigningRequestSpec::getExtra);
+        diff.value("groups", original, modified, CertificateSigningRequestSpec::getGroups);
+        diff.value("request", original, modified, CertificateSigningRequestSpec::getRequest);
+        diff.value("signerName", original, modified, CertificateSigningRequestSpec::getSignerName);
+        diff.value("uid", original, modified, CertificateSigningRequestSpec::getUid);
+        diff.value("usages", original, modified, CertificateSigningRequestSpec::getUsages);
+        diff.value("username", original, modified, CertificateSigningRequestSpec::getUsername);
+    }
+
+    /**
+     * Reads a {@link CertificateSigningRequestSpec}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link CertificateSigningRequestSpec} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static CertificateSigningRequestSpec read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Map<String, List<String>> extra = Collections.emptyMap();
+        List<String> groups = Collections.emptyList();
+        String request = null;
+        String signerName = null;
+        String uid = null;
+        List<String> usages = Collections.emptyList();
+        String username = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, CertificateSigningRequestSpec.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "extra":
+                    extra = Codecs.readMap(parser, context, Codecs.listReader(Codecs::readString));
+                    break;
+                case "groups":
+                    groups = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "request":
+                    request = Codecs.readString(parser, context);
+                    break;
+                case "signerName":
+                    signerName = Codecs.readString(parser, context);
+                    break;
+                case "uid":
+                    uid = Codecs.readString(parser, context);
+                    break;
+                case "usages":
+                    usages = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "username":
+                    username = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new CertificateSigningRequestSpec(extra, groups, request, signerName, uid, usages, username);
+        } catch (IllegalArgumentException e) {
+            return (CertificateSigningRequestSpec) context.handleInstantiationProblem(CertificateSigningRequestSpec.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link CertificateSigningRequestSpec}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable CertificateSigningRequestSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeMapField("extra", value.getExtra(), Codecs.listWriter(Codecs::writeString), generator, provider);
+        Codecs.writeListField("groups", value.getGroups(), Codecs::writeString, generator, provider);
+        Codecs.writeField("request", value.getRequest(), Codecs::writeString, generator, provider);
+        Codecs.writeField("signerName", value.getSignerName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("uid", value.getUid(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("usages", value.getUsages(), Codecs::writeString, generator, provider);
+        Codecs.writeField("username", value.getUsername(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.coordination.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link LeaseSpec} that read and write its fields without reflection.
+ */
+public final class LeaseSpecCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link LeaseSpec}
+     */
+    public static final JsonDeserializer<LeaseSpec> DESERIALIZER = new StdDeserializer<LeaseSpec>(LeaseSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public LeaseSpec deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return LeaseSpecCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link LeaseSpec}
+     */
+    public static final JsonSerializer<LeaseSpec> SERIALIZER = new StdSerializer<LeaseSpec>(LeaseSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(LeaseSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            LeaseSpecCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private LeaseSpecCodec() {
+    }
+
+    /**
+     * Compares two {@link LeaseSpec}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable LeaseSpec original, LeaseSpec modified, Diff diff) {
+        diff.value("acquireTime", original, modified, LeaseSpec::getAcquireTime);
+        diff.value("holderIdentity", original, modified, LeaseSpec::getHolderIdentity);
+        diff.value("leaseDurationSeconds", original, modified, LeaseSpec::getLeaseDurationSeconds);
+        diff.value("leaseTransitions", original, modified, LeaseSpec::getLeaseTransitions);
+        diff.value("renewTime", original, modified, LeaseSpec::getRenewTime);
+    }
+
+    /**
+     * Reads a {@link LeaseSpec}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link LeaseSpec} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static LeaseSpec read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        OffsetDateTime acquireTime = null;
+        String holderIdentity = null;
+        Integer leaseDurationSeconds = null;
+        Integer leaseTransitions = null;
+        OffsetDateTime renewTime = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, LeaseSpec.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "acquireTime":
+                    acquireTime = Codecs.readDateTime(parser, context);
+                    break;
+                case "holderIdentity":
+                    holderIdentity = Codecs.readString(parser, context);
+                    break;
+                case "leaseDurationSeconds":
+                    leaseDurationSeconds = Codecs.readInteger(parser, context);
+                    break;
+                case "leaseTransitions":
+                    leaseTransitions = Codecs.readInteger(parser, context);
+                    break;
+                case "renewTime":
+                    renewTime = Codecs.readDateTime(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new LeaseSpec(acquireTime, holderIdentity, leaseDurationSeconds, leaseTransitions, renewTime);
+        } catch (IllegalArgumentException e) {
+            return (LeaseSpec) context.handleInstantiationProblem(LeaseSpec.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link LeaseSpec}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable LeaseSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("acquireTime", value.getAcquireTime(), Codecs::writeDateTime, generator, provider);
+        Codecs.writeField("holderIdentity", value.getHolderIdentity(), Codecs::writeString, generator, provider);
+        Codecs.writeField("leaseDurationSeconds", value.getLeaseDurationSeconds(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("leaseTransitions", value.getLeaseTransitions(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("renewTime", value.getRenewTime(), Codecs::writeDateTime, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link Affinity} that read and write its fields without reflection.
+ */
+public final class AffinityCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link Affinity}
+     */
+    public static final JsonDeserializer<Affinity> DESERIALIZER = new StdDeserializer<Affinity>(Affinity.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Affinity deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return AffinityCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link Affinity}
+     */
+    public static final JsonSerializer<Affinity> SERIALIZER = new StdSerializer<Affinity>(Affinity.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(Affinity value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            AffinityCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private AffinityCodec() {
+    }
+
+    /**
+     * Compares two {@link Affinity}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable Affinity original, Affinity modified, Diff diff) {
+        diff.object("nodeAffinity", original, modified, Affinity::getNodeAffinity, NodeAffinityCodec::diff);
+        diff.object("podAffinity", original, modified, Affinity::getPodAffinity, PodAffinityCodec::diff);
+        diff.object("podAntiAffinity", original, modified, Affinity::getPodAntiAffinity, PodAntiAffinityCodec::diff);
+    }
+
+    /**
+     * Reads a {@link Affinity}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link Affinity} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static Affinity read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        NodeAffinity nodeAffinity = null;
+        PodAffinity podAffinity = null;
+        PodAntiAffinity podAntiAffinity = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, Affinity.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "nodeAffinity":
+                    nodeAffinity = NodeAffinityCodec.read(parser, context);
+                    break;
+                case "podAffinity":
+                    podAffinity = PodAffinityCodec.read(parser, context);
+                    break;
+                case "podAntiAffinity":
+                    podAntiAffinity = PodAntiAffinityCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new Affinity(nodeAffinity, podAffinity, podAntiAffinity);
+        } catch (IllegalArgumentException e) {
+            return (Affinity) context.handleInstantiationProblem(Affinity.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link Affinity}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable Affinity value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("nodeAffinity", value.getNodeAffinity(), NodeAffinityCodec::write, generator, provider);
+        Codecs.writeField("podAffinity", value.getPodAffinity(), PodAffinityCodec::write, generator, provider);
+        Codecs.writeField("podAntiAffinity", value.getPodAntiAffinity(), PodAntiAffinityCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
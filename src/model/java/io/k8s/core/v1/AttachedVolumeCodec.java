@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link AttachedVolume} that read and write its fields without reflection.
+ */
+public final class AttachedVolumeCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link AttachedVolume}
+     */
+    public static final JsonDeserializer<AttachedVolume> DESERIALIZER = new StdDeserializer<AttachedVolume>(AttachedVolume.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public AttachedVolume deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return AttachedVolumeCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link AttachedVolume}
+     */
+    public static final JsonSerializer<AttachedVolume> SERIALIZER = new StdSerializer<AttachedVolume>(AttachedVolume.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(AttachedVolume value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            AttachedVolumeCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private AttachedVolumeCodec() {
+    }
+
+    /**
+     * Compares two {@link AttachedVolume}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable AttachedVolume original, AttachedVolume modified, Diff diff) {
+        diff.value("devicePath", original, modified, AttachedVolume::getDevicePath);
+        diff.value("name", original, modified, AttachedVolume::getName);
+    }
+
+    /**
+     * Reads a {@link AttachedVolume}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link AttachedVolume} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static AttachedVolume read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String devicePath = null;
+        String name = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, AttachedVolume.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "devicePath":
+                    devicePath = Codecs.readString(parser, context);
+                    break;
+                case "name":
+                    name = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new AttachedVolume(devicePath, name);
+        } catch (IllegalArgumentException e) {
+            return (AttachedVolume) context.handleInstantiationProblem(AttachedVolume.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link AttachedVolume}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable AttachedVolume value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("devicePath", value.getDevicePath(), Codecs::writeString, generator, provider);
+        Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
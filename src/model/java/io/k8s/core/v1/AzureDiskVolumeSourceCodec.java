@@ -0,0 +1,164 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link AzureDiskVolumeSource} that read and write its fields without reflection.
+ */
+public final class AzureDiskVolumeSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link AzureDiskVolumeSource}
+     */
+    public static final JsonDeserializer<AzureDiskVolumeSource> DESERIALIZER = new StdDeserializer<AzureDiskVolumeSource>(AzureDiskVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public AzureDiskVolumeSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return AzureDiskVolumeSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link AzureDiskVolumeSource}
+     */
+    public static final JsonSerializer<AzureDiskVolumeSource> SERIALIZER = new StdSerializer<AzureDiskVolumeSource>(AzureDiskVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(AzureDiskVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            AzureDiskVolumeSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private AzureDiskVolumeSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link AzureDiskVolumeSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable AzureDiskVolumeSource original, AzureDiskVolumeSource modified, Diff diff) {
+        diff.value("cachingMode", original, modified, AzureDiskVolumeSource::getCachingMode);
+        diff.value("diskName", original, modified, AzureDiskVolumeSource::getDiskName);
+        diff.value("diskURI", original, modified, AzureDiskVolumeSource::getDiskURI);
+        diff.value("fsType", original, modified, AzureDiskVolumeSource::getFsType);
+        diff.value("kind", original, modified, AzureDiskVolumeSource::getKind);
+        diff.value("readOnly", original, modified, AzureDiskVolumeSource::getReadOnly);
+    }
+
+    /**
+     * Reads a {@link AzureDiskVolumeSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link AzureDiskVolumeSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static AzureDiskVolumeSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String cachingMode = null;
+        String diskName = null;
+        String diskURI = null;
+        String fsType = null;
+        String kind = null;
+        Boolean readOnly = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, AzureDiskVolumeSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "cachingMode":
+                    cachingMode = Codecs.readString(parser, context);
+                    break;
+                case "diskName":
+                    diskName = Codecs.readString(parser, context);
+                    break;
+                case "diskURI":
+                    diskURI = Codecs.readString(parser, context);
+                    break;
+                case "fsType":
+                    fsType = Codecs.readString(parser, context);
+                    break;
+                case "kind":
+                    kind = Codecs.readInternedString(parser, context);
+                    break;
+                case "readOnly":
+                    readOnly = Codecs.readBoolean(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new AzureDiskVolumeSource(cachingMode, diskName, diskURI, fsType, kind, readOnly);
+        } catch (IllegalArgumentException e) {
+            return (AzureDiskVolumeSource) context.handleInstantiationProblem(AzureDiskVolumeSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link AzureDiskVolumeSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable AzureDiskVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("cachingMode", value.getCachingMode(), Codecs::writeString, generator, provider);
+        Codecs.writeField("diskName", value.getDiskName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("diskURI", value.getDiskURI(), Codecs::writeString, generator, provider);
+        Codecs.writeField("fsType", value.getFsType(), Codecs::writeString, generator, provider);
+        Codecs.writeField("kind", value.getKind(), Codecs::writeString, generator, provider);
+        Codecs.writeField("readOnly", value.getReadOnly(), Codecs::writeBoolean, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
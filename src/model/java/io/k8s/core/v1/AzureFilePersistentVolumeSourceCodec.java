@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link AzureFilePersistentVolumeSource} that read and write its fields without reflection.
+ */
+public final class AzureFilePersistentVolumeSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link AzureFilePersistentVolumeSource}
+     */
+    public static final JsonDeserializer<AzureFilePersistentVolumeSource> DESERIALIZER = new StdDeserializer<AzureFilePersistentVolumeSource>(AzureFilePersistentVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public AzureFilePersistentVolumeSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return AzureFilePersistentVolumeSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link AzureFilePersistentVolumeSource}
+     */
+    public static final JsonSerializer<AzureFilePersistentVolumeSource> SERIALIZER = new StdSerializer<AzureFilePersistentVolumeSource>(AzureFilePersistentVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(AzureFilePersistentVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            AzureFilePersistentVolumeSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private AzureFilePersistentVolumeSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link AzureFilePersistentVolumeSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable AzureFilePersistentVolumeSource original, AzureFilePersistentVolumeSource modified, Diff diff) {
+        diff.value("readOnly", original, modified, AzureFilePersistentVolumeSource::getReadOnly);
+        diff.value("secretName", original, modified, AzureFilePersistentVolumeSource::getSecretName);
+        diff.value("secretNamespace", original, modified, AzureFilePersistentVolumeSource::getSecretNamespace);
+        diff.value("shareName", original, modified, AzureFilePersistentVolumeSource::getShareName);
+    }
+
+    /**
+     * Reads a {@link AzureFilePersistentVolumeSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link AzureFilePersistentVolumeSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static AzureFilePersistentVolumeSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Boolean readOnly = null;
+        String secretName = null;
+        String secretNamespace = null;
+        String shareName = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, AzureFilePersistentVolumeSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "readOnly":
+                    readOnly = Codecs.readBoolean(parser, context);
+                    break;
+                case "secretName":
+                    secretName = Codecs.readString(parser, context);
+                    break;
+                case "secretNamespace":
+                    secretNamespace = Codecs.readString(parser, context);
+                    break;
+                case "shareName":
+                    shareName = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new AzureFilePersistentVolumeSource(readOnly, secretName, secretNamespace, shareName);
+        } catch (IllegalArgumentException e) {
+            return (AzureFilePersistentVolumeSource) context.handleInstantiationProblem(AzureFilePersistentVolumeSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link AzureFilePersistentVolumeSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable AzureFilePersistentVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("readOnly", value.getReadOnly(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("secretName", value.getSecretName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("secretNamespace", value.getSecretNamespace(), Codecs::writeString, generator, provider);
+        Codecs.writeField("shareName", value.getShareName(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link AzureFileVolumeSource} that read and write its fields without reflection.
+ */
+public final class AzureFileVolumeSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link AzureFileVolumeSource}
+     */
+    public static final JsonDeserializer<AzureFileVolumeSource> DESERIALIZER = new StdDeserializer<AzureFileVolumeSource>(AzureFileVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public AzureFileVolumeSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return AzureFileVolumeSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link AzureFileVolumeSource}
+     */
+    public static final JsonSerializer<AzureFileVolumeSource> SERIALIZER = new StdSerializer<AzureFileVolumeSource>(AzureFileVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(AzureFileVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            AzureFileVolumeSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private AzureFileVolumeSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link AzureFileVolumeSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable AzureFileVolumeSource original, AzureFileVolumeSource modified, Diff diff) {
+        diff.value("readOnly", original, modified, AzureFileVolumeSource::getReadOnly);
+        diff.value("secretName", original, modified, AzureFileVolumeSource::getSecretName);
+        diff.value("shareName", original, modified, AzureFileVolumeSource::getShareName);
+    }
+
+    /**
+     * Reads a {@link AzureFileVolumeSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link AzureFileVolumeSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static AzureFileVolumeSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Boolean readOnly = null;
+        String secretName = null;
+        String shareName = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, AzureFileVolumeSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "readOnly":
+                    readOnly = Codecs.readBoolean(parser, context);
+                    break;
+                case "secretName":
+                    secretName = Codecs.readString(parser, context);
+                    break;
+                case "shareName":
+                    shareName = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new AzureFileVolumeSource(readOnly, secretName, shareName);
+        } catch (IllegalArgumentException e) {
+            return (AzureFileVolumeSource) context.handleInstantiationProblem(AzureFileVolumeSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link AzureFileVolumeSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable AzureFileVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("readOnly", value.getReadOnly(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("secretName", value.getSecretName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("shareName", value.getShareName(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
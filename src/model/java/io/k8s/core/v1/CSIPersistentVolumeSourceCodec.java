@@ -0,0 +1,184 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link CSIPersistentVolumeSource} that read and write its fields without reflection.
+ */
+public final class CSIPersistentVolumeSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link CSIPersistentVolumeSource}
+     */
+    public static final JsonDeserializer<CSIPersistentVolumeSource> DESERIALIZER = new StdDeserializer<CSIPersistentVolumeSource>(CSIPersistentVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public CSIPersistentVolumeSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return CSIPersistentVolumeSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link CSIPersistentVolumeSource}
+     */
+    public static final JsonSerializer<CSIPersistentVolumeSource> SERIALIZER = new StdSerializer<CSIPersistentVolumeSource>(CSIPersistentVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(CSIPersistentVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            CSIPersistentVolumeSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private CSIPersistentVolumeSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link CSIPersistentVolumeSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable CSIPersistentVolumeSource original, CSIPersistentVolumeSource modified, Diff diff) {
+        diff.object("controllerExpandSecretRef", original, modified, CSIPersistentVolumeSource::getControllerExpandSecretRef, SecretReferenceCodec::diff);
+        diff.object("controllerPublishSecretRef", original, modified, CSIPersistentVolumeSource::getControllerPublishSecretRef, SecretReferenceCodec::diff);
+        diff.value("driver", original, modified, CSIPersistentVolumeSource::getDriver);
+        diff.value("fsType", original, modified, CSIPersistentVolumeSource::getFsType);
+        diff.object("nodePublishSecretRef", original, modified, CSIPersistentVolumeSource::getNodePublishSecretRef, SecretReferenceCodec::diff);
+        diff.object("nodeStageSecretRef", original, modified, CSIPersistentVolumeSource::getNodeStageSecretRef, SecretReferenceCodec::diff);
+        diff.value("readOnly", original, modified, CSIPersistentVolumeSource::getReadOnly);
+        diff.map("volumeAttributes", original, modified, CSIPersistentVolumeSource::getVolumeAttributes);
+        diff.value("volumeHandle", original, modified, CSIPersistentVolumeSource::getVolumeHandle);
+    }
+
+    /**
+     * Reads a {@link CSIPersistentVolumeSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link CSIPersistentVolumeSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static CSIPersistentVolumeSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        SecretReference controllerExpandSecretRef = null;
+        SecretReference controllerPublishSecretRef = null;
+        String driver = null;
+        String fsType = null;
+        SecretReference nodePublishSecretRef = null;
+        SecretReference nodeStageSecretRef = null;
+        Boolean readOnly = null;
+        Map<String, String> volumeAttributes = Collections.emptyMap();
+        String volumeHandle = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, CSIPersistentVolumeSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "controllerExpandSecretRef":
+                    controllerExpandSecretRef = SecretReferenceCodec.read(parser, context);
+                    break;
+                case "controllerPublishSecretRef":
+                    controllerPublishSecretRef = SecretReferenceCodec.read(parser, context);
+                    break;
+                case "driver":
+                    driver = Codecs.readString(parser, context);
+                    break;
+                case "fsType":
+                    fsType = Codecs.readString(parser, context);
+                    break;
+                case "nodePublishSecretRef":
+                    nodePublishSecretRef = SecretReferenceCodec.read(parser, context);
+                    break;
+                case "nodeStageSecretRef":
+                    nodeStageSecretRef = SecretReferenceCodec.read(parser, context);
+                    break;
+                case "readOnly":
+                    readOnly = Codecs.readBoolean(parser, context);
+                    break;
+                case "volumeAttributes":
+                    volumeAttributes = Codecs.readMap(parser, context, Codecs::readString);
+                    break;
+                case "volumeHandle":
+                    volumeHandle = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new CSIPersistentVolumeSource(controllerExpandSecretRef, controllerPublishSecretRef, driver, fsType, nodePublishSecretRef, nodeStageSecretRef, readOnly, volumeAttributes, volumeHandle);
+        } catch (IllegalArgumentException e) {
+            return (CSIPersistentVolumeSource) context.handleInstantiationProblem(CSIPersistentVolumeSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link CSIPersistentVolumeSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable CSIPersistentVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("controllerExpandSecretRef", value.getControllerExpandSecretRef(), SecretReferenceCodec::write, generator, provider);
+        Codecs.writeField("controllerPublishSecretRef", value.getControllerPublishSecretRef(), SecretReferenceCodec::write, generator, provider);
+        Codecs.writeField("driver", value.getDriver(), Codecs::writeString, generator, provider);
+        Codecs.writeField("fsType", value.getFsType(), Codecs::writeString, generator, provider);
+        Codecs.writeField("nodePublishSecretRef", value.getNodePublishSecretRef(), SecretReferenceCodec::write, generator, provider);
+        Codecs.writeField("nodeStageSecretRef", value.getNodeStageSecretRef(), SecretReferenceCodec::write, generator, provider);
+        Codecs.writeField("readOnly", value.getReadOnly(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeMapField("volumeAttributes", value.getVolumeAttributes(), Codecs::writeString, generator, provider);
+        Codecs.writeField("volumeHandle", value.getVolumeHandle(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
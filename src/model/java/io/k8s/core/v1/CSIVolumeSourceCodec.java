@@ -0,0 +1,160 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link CSIVolumeSource} that read and write its fields without reflection.
+ */
+public final class CSIVolumeSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link CSIVolumeSource}
+     */
+    public static final JsonDeserializer<CSIVolumeSource> DESERIALIZER = new StdDeserializer<CSIVolumeSource>(CSIVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public CSIVolumeSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return CSIVolumeSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link CSIVolumeSource}
+     */
+    public static final JsonSerializer<CSIVolumeSource> SERIALIZER = new StdSerializer<CSIVolumeSource>(CSIVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(CSIVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            CSIVolumeSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private CSIVolumeSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link CSIVolumeSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable CSIVolumeSource original, CSIVolumeSource modified, Diff diff) {
+        diff.value("driver", original, modified, CSIVolumeSource::getDriver);
+        diff.value("fsType", original, modified, CSIVolumeSource::getFsType);
+        diff.object("nodePublishSecretRef", original, modified, CSIVolumeSource::getNodePublishSecretRef, LocalObjectReferenceCodec::diff);
+        diff.value("readOnly", original, modified, CSIVolumeSource::getReadOnly);
+        diff.map("volumeAttributes", original, modified, CSIVolumeSource::getVolumeAttributes);
+    }
+
+    /**
+     * Reads a {@link CSIVolumeSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link CSIVolumeSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static CSIVolumeSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String driver = null;
+        String fsType = null;
+        LocalObjectReference nodePublishSecretRef = null;
+        Boolean readOnly = null;
+        Map<String, String> volumeAttributes = Collections.emptyMap();
+
+        for (String fieldName = Codecs.startObject(parser, context, CSIVolumeSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "driver":
+                    driver = Codecs.readString(parser, context);
+                    break;
+                case "fsType":
+                    fsType = Codecs.readString(parser, context);
+                    break;
+                case "nodePublishSecretRef":
+                    nodePublishSecretRef = LocalObjectReferenceCodec.read(parser, context);
+                    break;
+                case "readOnly":
+                    readOnly = Codecs.readBoolean(parser, context);
+                    break;
+                case "volumeAttributes":
+                    volumeAttributes = Codecs.readMap(parser, context, Codecs::readString);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new CSIVolumeSource(driver, fsType, nodePublishSecretRef, readOnly, volumeAttributes);
+        } catch (IllegalArgumentException e) {
+            return (CSIVolumeSource) context.handleInstantiationProblem(CSIVolumeSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link CSIVolumeSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable CSIVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("driver", value.getDriver(), Codecs::writeString, generator, provider);
+        Codecs.writeField("fsType", value.getFsType(), Codecs::writeString, generator, provider);
+        Codecs.writeField("nodePublishSecretRef", value.getNodePublishSecretRef(), LocalObjectReferenceCodec::write, generator, provider);
+        Codecs.writeField("readOnly", value.getReadOnly(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeMapField("volumeAttributes", value.getVolumeAttributes(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -16,6 +16,7 @@
 
 package io.k8s.core.v1;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 import lombok.Builder;
 import lombok.Singular;
@@ -34,6 +35,7 @@ public class Capabilities {
     /**
      * Added capabilities
      */
+    @JsonProperty("add")
     @Nullable
     @Singular("add")
     List<String> add;
@@ -41,6 +43,7 @@ public class Capabilities {
     /**
      * Removed capabilities
      */
+    @JsonProperty("drop")
     @Nullable
     @Singular("drop")
     List<String> drop;
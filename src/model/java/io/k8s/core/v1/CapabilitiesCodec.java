@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link Capabilities} that read and write its fields without reflection.
+ */
+public final class CapabilitiesCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link Capabilities}
+     */
+    public static final JsonDeserializer<Capabilities> DESERIALIZER = new StdDeserializer<Capabilities>(Capabilities.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Capabilities deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return CapabilitiesCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link Capabilities}
+     */
+    public static final JsonSerializer<Capabilities> SERIALIZER = new StdSerializer<Capabilities>(Capabilities.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(Capabilities value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            CapabilitiesCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private CapabilitiesCodec() {
+    }
+
+    /**
+     * Compares two {@link Capabilities}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable Capabilities original, Capabilities modified, Diff diff) {
+        diff.value("add", original, modified, Capabilities::getAdd);
+        diff.value("drop", original, modified, Capabilities::getDrop);
+    }
+
+    /**
+     * Reads a {@link Capabilities}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link Capabilities} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static Capabilities read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<String> add = Collections.emptyList();
+        List<String> drop = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, Capabilities.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "add":
+                    add = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "drop":
+                    drop = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new Capabilities(add, drop);
+        } catch (IllegalArgumentException e) {
+            return (Capabilities) context.handleInstantiationProblem(Capabilities.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link Capabilities}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable Capabilities value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("add", value.getAdd(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("drop", value.getDrop(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link CephFSPersistentVolumeSource} that read and write its fields without reflection.
+ */
+public final class CephFSPersistentVolumeSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link CephFSPersistentVolumeSource}
+     */
+    public static final JsonDeserializer<CephFSPersistentVolumeSource> DESERIALIZER = new StdDeserializer<CephFSPersistentVolumeSource>(CephFSPersistentVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public CephFSPersistentVolumeSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return CephFSPersistentVolumeSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link CephFSPersistentVolumeSource}
+     */
+    public static final JsonSerializer<CephFSPersistentVolumeSource> SERIALIZER = new StdSerializer<CephFSPersistentVolumeSource>(CephFSPersistentVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(CephFSPersistentVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            CephFSPersistentVolumeSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private CephFSPersistentVolumeSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link CephFSPersistentVolumeSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable CephFSPersistentVolumeSource original, CephFSPersistentVolumeSource modified, Diff diff) {
+        diff.value("monitors", original, modified, CephFSPersistentVolumeSource::getMonitors);
+        diff.value("path", original, modified, CephFSPersistentVolumeSource::getPath);
+        diff.value("readOnly", original, modified, CephFSPersistentVolumeSource::getReadOnly);
+        diff.value("secretFile", original, modified, CephFSPersistentVolumeSource::getSecretFile);
+        diff.object("secretRef", original, modified, CephFSPersistentVolumeSource::getSecretRef, SecretReferenceCodec::diff);
+        diff.value("user", original, modified, CephFSPersistentVolumeSource::getUser);
+    }
+
+    /**
+     * Reads a {@link CephFSPersistentVolumeSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link CephFSPersistentVolumeSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static CephFSPersistentVolumeSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<String> monitors = Collections.emptyList();
+        String path = null;
+        Boolean readOnly = null;
+        String secretFile = null;
+        SecretReference secretRef = null;
+        String user = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, CephFSPersistentVolumeSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "monitors":
+                    monitors = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "path":
+                    path = Codecs.readString(parser, context);
+                    break;
+                case "readOnly":
+                    readOnly = Codecs.readBoolean(parser, context);
+                    break;
+                case "secretFile":
+                    secretFile = Codecs.readString(parser, context);
+                    break;
+                case "secretRef":
+                    secretRef = SecretReferenceCodec.read(parser, context);
+                    break;
+                case "user":
+                    user = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new CephFSPersistentVolumeSource(monitors, path, readOnly, secretFile, secretRef, user);
+        } catch (IllegalArgumentException e) {
+            return (CephFSPersistentVolumeSource) context.handleInstantiationProblem(CephFSPersistentVolumeSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link CephFSPersistentVolumeSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable CephFSPersistentVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("monitors", value.getMonitors(), Codecs::writeString, generator, provider);
+        Codecs.writeField("path", value.getPath(), Codecs::writeString, generator, provider);
+        Codecs.writeField("readOnly", value.getReadOnly(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("secretFile", value.getSecretFile(), Codecs::writeString, generator, provider);
+        Codecs.writeField("secretRef", value.getSecretRef(), SecretReferenceCodec::write, generator, provider);
+        Codecs.writeField("user", value.getUser(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
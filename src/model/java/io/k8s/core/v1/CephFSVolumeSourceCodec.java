@@ -0,0 +1,166 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link CephFSVolumeSource} that read and write its fields without reflection.
+ */
+public final class CephFSVolumeSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link CephFSVolumeSource}
+     */
+    public static final JsonDeserializer<CephFSVolumeSource> DESERIALIZER = new StdDeserializer<CephFSVolumeSource>(CephFSVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public CephFSVolumeSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return CephFSVolumeSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link CephFSVolumeSource}
+     */
+    public static final JsonSerializer<CephFSVolumeSource> SERIALIZER = new StdSerializer<CephFSVolumeSource>(CephFSVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(CephFSVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            CephFSVolumeSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private CephFSVolumeSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link CephFSVolumeSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable CephFSVolumeSource original, CephFSVolumeSource modified, Diff diff) {
+        diff.value("monitors", original, modified, CephFSVolumeSource::getMonitors);
+        diff.value("path", original, modified, CephFSVolumeSource::getPath);
+        diff.value("readOnly", original, modified, CephFSVolumeSource::getReadOnly);
+        diff.value("secretFile", original, modified, CephFSVolumeSource::getSecretFile);
+        diff.object("secretRef", original, modified, CephFSVolumeSource::getSecretRef, LocalObjectReferenceCodec::diff);
+        diff.value("user", original, modified, CephFSVolumeSource::getUser);
+    }
+
+    /**
+     * Reads a {@link CephFSVolumeSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link CephFSVolumeSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static CephFSVolumeSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<String> monitors = Collections.emptyList();
+        String path = null;
+        Boolean readOnly = null;
+        String secretFile = null;
+        LocalObjectReference secretRef = null;
+        String user = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, CephFSVolumeSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "monitors":
+                    monitors = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "path":
+                    path = Codecs.readString(parser, context);
+                    break;
+                case "readOnly":
+                    readOnly = Codecs.readBoolean(parser, context);
+                    break;
+                case "secretFile":
+                    secretFile = Codecs.readString(parser, context);
+                    break;
+                case "secretRef":
+                    secretRef = LocalObjectReferenceCodec.read(parser, context);
+                    break;
+                case "user":
+                    user = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new CephFSVolumeSource(monitors, path, readOnly, secretFile, secretRef, user);
+        } catch (IllegalArgumentException e) {
+            return (CephFSVolumeSource) context.handleInstantiationProblem(CephFSVolumeSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link CephFSVolumeSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable CephFSVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("monitors", value.getMonitors(), Codecs::writeString, generator, provider);
+        Codecs.writeField("path", value.getPath(), Codecs::writeString, generator, provider);
+        Codecs.writeField("readOnly", value.getReadOnly(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("secretFile", value.getSecretFile(), Codecs::writeString, generator, provider);
+        Codecs.writeField("secretRef", value.getSecretRef(), LocalObjectReferenceCodec::write, generator, provider);
+        Codecs.writeField("user", value.getUser(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
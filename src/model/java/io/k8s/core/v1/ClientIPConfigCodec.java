@@ -0,0 +1,134 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ClientIPConfig} that read and write its fields without reflection.
+ */
+public final class ClientIPConfigCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ClientIPConfig}
+     */
+    public static final JsonDeserializer<ClientIPConfig> DESERIALIZER = new StdDeserializer<ClientIPConfig>(ClientIPConfig.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ClientIPConfig deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ClientIPConfigCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ClientIPConfig}
+     */
+    public static final JsonSerializer<ClientIPConfig> SERIALIZER = new StdSerializer<ClientIPConfig>(ClientIPConfig.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ClientIPConfig value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ClientIPConfigCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ClientIPConfigCodec() {
+    }
+
+    /**
+     * Compares two {@link ClientIPConfig}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ClientIPConfig original, ClientIPConfig modified, Diff diff) {
+        diff.value("timeoutSeconds", original, modified, ClientIPConfig::getTimeoutSeconds);
+    }
+
+    /**
+     * Reads a {@link ClientIPConfig}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ClientIPConfig} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ClientIPConfig read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Integer timeoutSeconds = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, ClientIPConfig.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "timeoutSeconds":
+                    timeoutSeconds = Codecs.readInteger(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ClientIPConfig(timeoutSeconds);
+        } catch (IllegalArgumentException e) {
+            return (ClientIPConfig) context.handleInstantiationProblem(ClientIPConfig.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ClientIPConfig}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ClientIPConfig value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("timeoutSeconds", value.getTimeoutSeconds(), Codecs::writeInteger, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -16,10 +16,13 @@
 
 package io.k8s.core.v1;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import io.k8s.meta.v1.ManagedFieldsEntry;
 import io.k8s.meta.v1.ObjectMeta;
 import io.k8s.meta.v1.OwnerReference;
 import io.k8s.meta.v1.TypeMeta;
+import io.k8s.type.PatchMergeKey;
+import io.k8s.type.PatchStrategy;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
@@ -57,6 +60,7 @@ public class ConfigMap implements ObjectMeta, TypeMeta {
      * overlap with the ones in the Data field, this is enforced during validation process. Using this field will
      * require 1.10+ apiserver and kubelet.
      */
+    @JsonProperty("binaryData")
     @Nullable
     @Singular("binaryData")
     Map<String, String> binaryData;
@@ -66,6 +70,7 @@ public class ConfigMap implements ObjectMeta, TypeMeta {
      * with non-UTF-8 byte sequences must use the BinaryData field. The keys stored in Data must not overlap with the
      * keys in the BinaryData field, this is enforced during validation process.
      */
+    @JsonProperty("data")
     @Nullable
     @Singular("data")
     Map<String, String> data;
@@ -128,6 +133,7 @@ public class ConfigMap implements ObjectMeta, TypeMeta {
      * ordering changes in the list.
      */
     @Nullable
+    @PatchStrategy("merge")
     @Singular
     List<String> finalizers;
 
@@ -199,6 +205,8 @@ public class ConfigMap implements ObjectMeta, TypeMeta {
      * controller, with the controller field set to true. There cannot be more than one managing controller.
      */
     @Nullable
+    @PatchMergeKey("uid")
+    @PatchStrategy("merge")
     @Singular
     List<OwnerReference> ownerReferences;
 
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ConfigMapKeySelector} that read and write its fields without reflection.
+ */
+public final class ConfigMapKeySelectorCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ConfigMapKeySelector}
+     */
+    public static final JsonDeserializer<ConfigMapKeySelector> DESERIALIZER = new StdDeserializer<ConfigMapKeySelector>(ConfigMapKeySelector.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ConfigMapKeySelector deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ConfigMapKeySelectorCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ConfigMapKeySelector}
+     */
+    public static final JsonSerializer<ConfigMapKeySelector> SERIALIZER = new StdSerializer<ConfigMapKeySelector>(ConfigMapKeySelector.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ConfigMapKeySelector value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ConfigMapKeySelectorCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ConfigMapKeySelectorCodec() {
+    }
+
+    /**
+     * Compares two {@link ConfigMapKeySelector}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ConfigMapKeySelector original, ConfigMapKeySelector modified, Diff diff) {
+        diff.value("key", original, modified, ConfigMapKeySelector::getKey);
+        diff.value("name", original, modified, ConfigMapKeySelector::getName);
+        diff.value("optional", original, modified, ConfigMapKeySelector::getOptional);
+    }
+
+    /**
+     * Reads a {@link ConfigMapKeySelector}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ConfigMapKeySelector} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ConfigMapKeySelector read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String key = null;
+        String name = null;
+        Boolean optional = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, ConfigMapKeySelector.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "key":
+                    key = Codecs.readInternedString(parser, context);
+                    break;
+                case "name":
+                    name = Codecs.readString(parser, context);
+                    break;
+                case "optional":
+                    optional = Codecs.readBoolean(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ConfigMapKeySelector(key, name, optional);
+        } catch (IllegalArgumentException e) {
+            return (ConfigMapKeySelector) context.handleInstantiationProblem(ConfigMapKeySelector.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ConfigMapKeySelector}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ConfigMapKeySelector value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("key", value.getKey(), Codecs::writeString, generator, provider);
+        Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("optional", value.getOptional(), Codecs::writeBoolean, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ConfigMapNodeConfigSource} that read and write its fields without reflection.
+ */
+public final class ConfigMapNodeConfigSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ConfigMapNodeConfigSource}
+     */
+    public static final JsonDeserializer<ConfigMapNodeConfigSource> DESERIALIZER = new StdDeserializer<ConfigMapNodeConfigSource>(ConfigMapNodeConfigSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ConfigMapNodeConfigSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ConfigMapNodeConfigSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ConfigMapNodeConfigSource}
+     */
+    public static final JsonSerializer<ConfigMapNodeConfigSource> SERIALIZER = new StdSerializer<ConfigMapNodeConfigSource>(ConfigMapNodeConfigSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ConfigMapNodeConfigSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ConfigMapNodeConfigSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ConfigMapNodeConfigSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link ConfigMapNodeConfigSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ConfigMapNodeConfigSource original, ConfigMapNodeConfigSource modified, Diff diff) {
+        diff.value("kubeletConfigKey", original, modified, ConfigMapNodeConfigSource::getKubeletConfigKey);
+        diff.value("name", original, modified, ConfigMapNodeConfigSource::getName);
+        diff.value("namespace", original, modified, ConfigMapNodeConfigSource::getNamespace);
+        diff.value("resourceVersion", original, modified, ConfigMapNodeConfigSource::getResourceVersion);
+        diff.value("uid", original, modified, ConfigMapNodeConfigSource::getUid);
+    }
+
+    /**
+     * Reads a {@link ConfigMapNodeConfigSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ConfigMapNodeConfigSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ConfigMapNodeConfigSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String kubeletConfigKey = null;
+        String name = null;
+        String namespace = null;
+        String resourceVersion = null;
+        String uid = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, ConfigMapNodeConfigSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "kubeletConfigKey":
+                    kubeletConfigKey = Codecs.readString(parser, context);
+                    break;
+                case "name":
+                    name = Codecs.readString(parser, context);
+                    break;
+                case "namespace":
+                    namespace = Codecs.readInternedString(parser, context);
+                    break;
+                case "resourceVersion":
+                    resourceVersion = Codecs.readString(parser, context);
+                    break;
+                case "uid":
+                    uid = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ConfigMapNodeConfigSource(kubeletConfigKey, name, namespace, resourceVersion, uid);
+        } catch (IllegalArgumentException e) {
+            return (ConfigMapNodeConfigSource) context.handleInstantiationProblem(ConfigMapNodeConfigSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ConfigMapNodeConfigSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ConfigMapNodeConfigSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("kubeletConfigKey", value.getKubeletConfigKey(), Codecs::writeString, generator, provider);
+        Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("namespace", value.getNamespace(), Codecs::writeString, generator, provider);
+        Codecs.writeField("resourceVersion", value.getResourceVersion(), Codecs::writeString, generator, provider);
+        Codecs.writeField("uid", value.getUid(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
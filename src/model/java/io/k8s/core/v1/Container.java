@@ -16,6 +16,9 @@
 
 package io.k8s.core.v1;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.k8s.type.PatchMergeKey;
+import io.k8s.type.PatchStrategy;
 import java.util.List;
 import lombok.Builder;
 import lombok.Singular;
@@ -52,6 +55,7 @@ public class Container {
      * be updated. More info:
      * https://kubernetes.io/docs/tasks/inject-data-application/define-command-argument-container/#running-a-command-in-a-shell
      */
+    @JsonProperty("command")
     @Nullable
     @Singular("command")
     List<String> command;
@@ -59,7 +63,10 @@ public class Container {
     /**
      * List of environment variables to set in the container. Cannot be updated.
      */
+    @JsonProperty("env")
     @Nullable
+    @PatchMergeKey("name")
+    @PatchStrategy("merge")
     @Singular("env")
     List<EnvVar> env;
 
@@ -69,6 +76,7 @@ public class Container {
      * multiple sources, the value associated with the last source will take precedence. Values defined by an Env with a
      * duplicate key will take precedence. Cannot be updated.
      */
+    @JsonProperty("envFrom")
     @Nullable
     @Singular("envFrom")
     List<EnvFromSource> envFrom;
@@ -109,6 +117,8 @@ public class Container {
      * container will be accessible from the network. Cannot be updated.
      */
     @Nullable
+    @PatchMergeKey("containerPort")
+    @PatchStrategy("merge")
     @Singular
     List<ContainerPort> ports;
 
@@ -170,6 +180,8 @@ public class Container {
      * volumeDevices is the list of block devices to be used by the container.
      */
     @Nullable
+    @PatchMergeKey("devicePath")
+    @PatchStrategy("merge")
     @Singular
     List<VolumeDevice> volumeDevices;
 
@@ -177,6 +189,8 @@ public class Container {
      * Pod volumes to mount into the container's filesystem. Cannot be updated.
      */
     @Nullable
+    @PatchMergeKey("mountPath")
+    @PatchStrategy("merge")
     @Singular
     List<VolumeMount> volumeMounts;
 
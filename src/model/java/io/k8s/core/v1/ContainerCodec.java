@@ -0,0 +1,262 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link Container} that read and write its fields without reflection.
+ */
+public final class ContainerCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link Container}
+     */
+    public static final JsonDeserializer<Container> DESERIALIZER = new StdDeserializer<Container>(Container.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Container deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ContainerCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link Container}
+     */
+    public static final JsonSerializer<Container> SERIALIZER = new StdSerializer<Container>(Container.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(Container value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ContainerCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ContainerCodec() {
+    }
+
+    /**
+     * Compares two {@link Container}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable Container original, Container modified, Diff diff) {
+        diff.value("args", original, modified, Container::getArgs);
+        diff.value("command", original, modified, Container::getCommand);
+        diff.list("env", original, modified, Container::getEnv, "name", EnvVar::getName, EnvVarCodec::diff);
+        diff.value("envFrom", original, modified, Container::getEnvFrom);
+        diff.value("image", original, modified, Container::getImage);
+        diff.value("imagePullPolicy", original, modified, Container::getImagePullPolicy);
+        diff.object("lifecycle", original, modified, Container::getLifecycle, LifecycleCodec::diff);
+        diff.object("livenessProbe", original, modified, Container::getLivenessProbe, ProbeCodec::diff);
+        diff.value("name", original, modified, Container::getName);
+        diff.list("ports", original, modified, Container::getPorts, "containerPort", ContainerPort::getContainerPort, ContainerPortCodec::diff);
+        diff.object("readinessProbe", original, modified, Container::getReadinessProbe, ProbeCodec::diff);
+        diff.object("resources", original, modified, Container::getResources, ResourceRequirementsCodec::diff);
+        diff.object("securityContext", original, modified, Container::getSecurityContext, SecurityContextCodec::diff);
+        diff.object("startupProbe", original, modified, Container::getStartupProbe, ProbeCodec::diff);
+        diff.value("stdin", original, modified, Container::getStdin);
+        diff.value("stdinOnce", original, modified, Container::getStdinOnce);
+        diff.value("terminationMessagePath", original, modified, Container::getTerminationMessagePath);
+        diff.value("terminationMessagePolicy", original, modified, Container::getTerminationMessagePolicy);
+        diff.value("tty", original, modified, Container::getTty);
+        diff.list("volumeDevices", original, modified, Container::getVolumeDevices, "devicePath", VolumeDevice::getDevicePath, VolumeDeviceCodec::diff);
+        diff.list("volumeMounts", original, modified, Container::getVolumeMounts, "mountPath", VolumeMount::getMountPath, VolumeMountCodec::diff);
+        diff.value("workingDir", original, modified, Container::getWorkingDir);
+    }
+
+    /**
+     * Reads a {@link Container}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link Container} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static Container read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<String> args = Collections.emptyList();
+        List<String> command = Collections.emptyList();
+        List<EnvVar> env = Collections.emptyList();
+        List<EnvFromSource> envFrom = Collections.emptyList();
+        String image = null;
+        String imagePullPolicy = null;
+        Lifecycle lifecycle = null;
+        Probe livenessProbe = null;
+        String name = null;
+        List<ContainerPort> ports = Collections.emptyList();
+        Probe readinessProbe = null;
+        ResourceRequirements resources = null;
+        SecurityContext securityContext = null;
+        Probe startupProbe = null;
+        Boolean stdin = null;
+        Boolean stdinOnce = null;
+        String terminationMessagePath = null;
+        String terminationMessagePolicy = null;
+        Boolean tty = null;
+        List<VolumeDevice> volumeDevices = Collections.emptyList();
+        List<VolumeMount> volumeMounts = Collections.emptyList();
+        String workingDir = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, Container.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "args":
+                    args = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "command":
+                    command = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "env":
+                    env = Codecs.readList(parser, context, EnvVarCodec::read);
+                    break;
+                case "envFrom":
+                    envFrom = Codecs.readList(parser, context, EnvFromSourceCodec::read);
+                    break;
+                case "image":
+                    image = Codecs.readInternedString(parser, context);
+                    break;
+                case "imagePullPolicy":
+                    imagePullPolicy = Codecs.readInternedString(parser, context);
+                    break;
+                case "lifecycle":
+                    lifecycle = LifecycleCodec.read(parser, context);
+                    break;
+                case "livenessProbe":
+                    livenessProbe = ProbeCodec.read(parser, context);
+                    break;
+                case "name":
+                    name = Codecs.readInternedString(parser, context);
+                    break;
+                case "ports":
+                    ports = Codecs.readList(parser, context, ContainerPortCodec::read);
+                    break;
+                case "readinessProbe":
+                    readinessProbe = ProbeCodec.read(parser, context);
+                    break;
+                case "resources":
+                    resources = ResourceRequirementsCodec.read(parser, context);
+                    break;
+                case "securityContext":
+                    securityContext = SecurityContextCodec.read(parser, context);
+                    break;
+                case "startupProbe":
+                    startupProbe = ProbeCodec.read(parser, context);
+                    break;
+                case "stdin":
+                    stdin = Codecs.readBoolean(parser, context);
+                    break;
+                case "stdinOnce":
+                    stdinOnce = Codecs.readBoolean(parser, context);
+                    break;
+                case "terminationMessagePath":
+                    terminationMessagePath = Codecs.readInternedString(parser, context);
+                    break;
+                case "terminationMessagePolicy":
+                    terminationMessagePolicy = Codecs.readInternedString(parser, context);
+                    break;
+                case "tty":
+                    tty = Codecs.readBoolean(parser, context);
+                    break;
+                case "volumeDevices":
+                    volumeDevices = Codecs.readList(parser, context, VolumeDeviceCodec::read);
+                    break;
+                case "volumeMounts":
+                    volumeMounts = Codecs.readList(parser, context, VolumeMountCodec::read);
+                    break;
+                case "workingDir":
+                    workingDir = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new Container(args, command, env, envFrom, image, imagePullPolicy, lifecycle, livenessProbe, name, ports, readinessProbe, resources, securityContext, startupProbe, stdin, stdinOnce, terminationMessagePath, terminationMessagePolicy, tty, volumeDevices, volumeMounts, workingDir);
+        } catch (IllegalArgumentException e) {
+            return (Container) context.handleInstantiationProblem(Container.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link Container}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable Container value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("args", value.getArgs(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("command", value.getCommand(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("env", value.getEnv(), EnvVarCodec::write, generator, provider);
+        Codecs.writeListField("envFrom", value.getEnvFrom(), EnvFromSourceCodec::write, generator, provider);
+        Codecs.writeField("image", value.getImage(), Codecs::writeString, generator, provider);
+        Codecs.writeField("imagePullPolicy", value.getImagePullPolicy(), Codecs::writeString, generator, provider);
+        Codecs.writeField("lifecycle", value.getLifecycle(), LifecycleCodec::write, generator, provider);
+        Codecs.writeField("livenessProbe", value.getLivenessProbe(), ProbeCodec::write, generator, provider);
+        Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("ports", value.getPorts(), ContainerPortCodec::write, generator, provider);
+        Codecs.writeField("readinessProbe", value.getReadinessProbe(), ProbeCodec::write, generator, provider);
+        Codecs.writeField("resources", value.getResources(), ResourceRequirementsCodec::write, generator, provider);
+        Codecs.writeField("securityContext", value.getSecurityContext(), SecurityContextCodec::write, generator, provider);
+        Codecs.writeField("startupProbe", value.getStartupProbe(), ProbeCodec::write, generator, provider);
+        Codecs.writeField("stdin", value.getStdin(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("stdinOnce", value.getStdinOnce(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("terminationMessagePath", value.getTerminationMessagePath(), Codecs::writeString, generator, provider);
+        Codecs.writeField("terminationMessagePolicy", value.getTerminationMessagePolicy(), Codecs::writeString, generator, provider);
+        Codecs.writeField("tty", value.getTty(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeListField("volumeDevices", value.getVolumeDevices(), VolumeDeviceCodec::write, generator, provider);
+        Codecs.writeListField("volumeMounts", value.getVolumeMounts(), VolumeMountCodec::write, generator, provider);
+        Codecs.writeField("workingDir", value.getWorkingDir(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ContainerPort} that read and write its fields without reflection.
+ */
+public final class ContainerPortCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ContainerPort}
+     */
+    public static final JsonDeserializer<ContainerPort> DESERIALIZER = new StdDeserializer<ContainerPort>(ContainerPort.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ContainerPort deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ContainerPortCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ContainerPort}
+     */
+    public static final JsonSerializer<ContainerPort> SERIALIZER = new StdSerializer<ContainerPort>(ContainerPort.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ContainerPort value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ContainerPortCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ContainerPortCodec() {
+    }
+
+    /**
+     * Compares two {@link ContainerPort}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ContainerPort original, ContainerPort modified, Diff diff) {
+        diff.value("containerPort", original, modified, ContainerPort::getContainerPort);
+        diff.value("hostIP", original, modified, ContainerPort::getHostIP);
+        diff.value("hostPort", original, modified, ContainerPort::getHostPort);
+        diff.value("name", original, modified, ContainerPort::getName);
+        diff.value("protocol", original, modified, ContainerPort::getProtocol);
+    }
+
+    /**
+     * Reads a {@link ContainerPort}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ContainerPort} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ContainerPort read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Integer containerPort = null;
+        String hostIP = null;
+        Integer hostPort = null;
+        String name = null;
+        String protocol = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, ContainerPort.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "containerPort":
+                    containerPort = Codecs.readInteger(parser, context);
+                    break;
+                case "hostIP":
+                    hostIP = Codecs.readInternedString(parser, context);
+                    break;
+                case "hostPort":
+                    hostPort = Codecs.readInteger(parser, context);
+                    break;
+                case "name":
+                    name = Codecs.readInternedString(parser, context);
+                    break;
+                case "protocol":
+                    protocol = Codecs.readInternedString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ContainerPort(containerPort, hostIP, hostPort, name, protocol);
+        } catch (IllegalArgumentException e) {
+            return (ContainerPort) context.handleInstantiationProblem(ContainerPort.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ContainerPort}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ContainerPort value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("containerPort", value.getContainerPort(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("hostIP", value.getHostIP(), Codecs::writeString, generator, provider);
+        Codecs.writeField("hostPort", value.getHostPort(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("protocol", value.getProtocol(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ContainerState} that read and write its fields without reflection.
+ */
+public final class ContainerStateCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ContainerState}
+     */
+    public static final JsonDeserializer<ContainerState> DESERIALIZER = new StdDeserializer<ContainerState>(ContainerState.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ContainerState deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ContainerStateCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ContainerState}
+     */
+    public static final JsonSerializer<ContainerState> SERIALIZER = new StdSerializer<ContainerState>(ContainerState.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ContainerState value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ContainerStateCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ContainerStateCodec() {
+    }
+
+    /**
+     * Compares two {@link ContainerState}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ContainerState original, ContainerState modified, Diff diff) {
+        diff.object("running", original, modified, ContainerState::getRunning, ContainerStateRunningCodec::diff);
+        diff.object("terminated", original, modified, ContainerState::getTerminated, ContainerStateTerminatedCodec::diff);
+        diff.object("waiting", original, modified, ContainerState::getWaiting, ContainerStateWaitingCodec::diff);
+    }
+
+    /**
+     * Reads a {@link ContainerState}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ContainerState} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ContainerState read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        ContainerStateRunning running = null;
+        ContainerStateTerminated terminated = null;
+        ContainerStateWaiting waiting = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, ContainerState.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "running":
+                    running = ContainerStateRunningCodec.read(parser, context);
+                    break;
+                case "terminated":
+                    terminated = ContainerStateTerminatedCodec.read(parser, context);
+                    break;
+                case "waiting":
+                    waiting = ContainerStateWaitingCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ContainerState(running, terminated, waiting);
+        } catch (IllegalArgumentException e) {
+            return (ContainerState) context.handleInstantiationProblem(ContainerState.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ContainerState}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ContainerState value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("running", value.getRunning(), ContainerStateRunningCodec::write, generator, provider);
+        Codecs.writeField("terminated", value.getTerminated(), ContainerStateTerminatedCodec::write, generator, provider);
+        Codecs.writeField("waiting", value.getWaiting(), ContainerStateWaitingCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ContainerStateTerminated} that read and write its fields without reflection.
+ */
+public final class ContainerStateTerminatedCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ContainerStateTerminated}
+     */
+    public static final JsonDeserializer<ContainerStateTerminated> DESERIALIZER = new StdDeserializer<ContainerStateTerminated>(ContainerStateTerminated.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ContainerStateTerminated deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ContainerStateTerminatedCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ContainerStateTerminated}
+     */
+    public static final JsonSerializer<ContainerStateTerminated> SERIALIZER = new StdSerializer<ContainerStateTerminated>(ContainerStateTerminated.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ContainerStateTerminated value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ContainerStateTerminatedCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ContainerStateTerminatedCodec() {
+    }
+
+    /**
+     * Compares two {@link ContainerStateTerminated}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ContainerStateTerminated original, ContainerStateTerminated modified, Diff diff) {
+        diff.value("containerID", original, modified, ContainerStateTerminated::getContainerID);
+        diff.value("exitCode", original, modified, ContainerStateTerminated::getExitCode);
+        diff.value("finishedAt", original, modified, ContainerStateTerminated::getFinishedAt);
+        diff.value("message", original, modified, ContainerStateTerminated::getMessage);
+        diff.value("reason", original, modified, ContainerStateTerminated::getReason);
+        diff.value("signal", original, modified, ContainerStateTerminated::getSignal);
+        diff.value("startedAt", original, modified, ContainerStateTerminated::getStartedAt);
+    }
+
+    /**
+     * Reads a {@link ContainerStateTerminated}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ContainerStateTerminated} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ContainerStateTerminated read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String containerID = null;
+        Integer exitCode = null;
+        OffsetDateTime finishedAt = null;
+        String message = null;
+        String reason = null;
+        Integer signal = null;
+        OffsetDateTime startedAt = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, ContainerStateTerminated.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "containerID":
+                    containerID = Codecs.readString(parser, context);
+                    break;
+                case "exitCode":
+                    exitCode = Codecs.readInteger(parser, context);
+                    break;
+                case "finishedAt":
+                    finishedAt = Codecs.readDateTime(parser, context);
+                    break;
+                case "message":
+                    message = Codecs.readString(parser, context);
+                    break;
+                case "reason":
+                    reason = Codecs.readInternedString(parser, context);
+                    break;
+                case "signal":
+                    signal = Codecs.readInteger(parser, context);
+                    break;
+                case "startedAt":
+                    startedAt = Codecs.readDateTime(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ContainerStateTerminated(containerID, exitCode, finishedAt, message, reason, signal, startedAt);
+        } catch (IllegalArgumentException e) {
+            return (ContainerStateTerminated) context.handleInstantiationProblem(ContainerStateTerminated.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ContainerStateTerminated}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ContainerStateTerminated value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("containerID", value.getContainerID(), Codecs::writeString, generator, provider);
+        Codecs.writeField("exitCode", value.getExitCode(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("finishedAt", value.getFinishedAt(), Codecs::writeDateTime, generator, provider);
+        Codecs.writeField("message", value.getMessage(), Codecs::writeString, generator, provider);
+        Codecs.writeField("reason", value.getReason(), Codecs::writeString, generator, provider);
+        Codecs.writeField("signal", value.getSignal(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("startedAt", value.getStartedAt(), Codecs::writeDateTime, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ContainerStateWaiting} that read and write its fields without reflection.
+ */
+public final class ContainerStateWaitingCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ContainerStateWaiting}
+     */
+    public static final JsonDeserializer<ContainerStateWaiting> DESERIALIZER = new StdDeserializer<ContainerStateWaiting>(ContainerStateWaiting.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ContainerStateWaiting deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ContainerStateWaitingCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ContainerStateWaiting}
+     */
+    public static final JsonSerializer<ContainerStateWaiting> SERIALIZER = new StdSerializer<ContainerStateWaiting>(ContainerStateWaiting.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ContainerStateWaiting value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ContainerStateWaitingCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ContainerStateWaitingCodec() {
+    }
+
+    /**
+     * Compares two {@link ContainerStateWaiting}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ContainerStateWaiting original, ContainerStateWaiting modified, Diff diff) {
+        diff.value("message", original, modified, ContainerStateWaiting::getMessage);
+        diff.value("reason", original, modified, ContainerStateWaiting::getReason);
+    }
+
+    /**
+     * Reads a {@link ContainerStateWaiting}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ContainerStateWaiting} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ContainerStateWaiting read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String message = null;
+        String reason = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, ContainerStateWaiting.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "message":
+                    message = Codecs.readString(parser, context);
+                    break;
+                case "reason":
+                    reason = Codecs.readInternedString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ContainerStateWaiting(message, reason);
+        } catch (IllegalArgumentException e) {
+            return (ContainerStateWaiting) context.handleInstantiationProblem(ContainerStateWaiting.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ContainerStateWaiting}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ContainerStateWaiting value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("message", value.getMessage(), Codecs::writeString, generator, provider);
+        Codecs.writeField("reason", value.getReason(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ContainerStatus} that read and write its fields without reflection.
+ */
+public final class ContainerStatusCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ContainerStatus}
+     */
+    public static final JsonDeserializer<ContainerStatus> DESERIALIZER = new StdDeserializer<ContainerStatus>(ContainerStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ContainerStatus deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ContainerStatusCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ContainerStatus}
+     */
+    public static final JsonSerializer<ContainerStatus> SERIALIZER = new StdSerializer<ContainerStatus>(ContainerStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ContainerStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ContainerStatusCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ContainerStatusCodec() {
+    }
+
+    /**
+     * Compares two {@link ContainerStatus}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ContainerStatus original, ContainerStatus modified, Diff diff) {
+        diff.value("containerID", original, modified, ContainerStatus::getContainerID);
+        diff.value("image", original, modified, ContainerStatus::getImage);
+        diff.value("imageID", original, modified, ContainerStatus::getImageID);
+        diff.object("lastState", original, modified, ContainerStatus::getLastState, ContainerStateCodec::diff);
+        diff.value("name", original, modified, ContainerStatus::getName);
+        diff.value("ready", original, modified, ContainerStatus::getReady);
+        diff.value("restartCount", original, modified, ContainerStatus::getRestartCount);
+        diff.value("started", original, modified, ContainerStatus::getStarted);
+        diff.object("state", original, modified, ContainerStatus::getState, ContainerStateCodec::diff);
+    }
+
+    /**
+     * Reads a {@link ContainerStatus}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ContainerStatus} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ContainerStatus read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String containerID = null;
+        String image = null;
+        String imageID = null;
+        ContainerState lastState = null;
+        String name = null;
+        Boolean ready = null;
+        Integer restartCount = null;
+        Boolean started = null;
+        ContainerState state = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, ContainerStatus.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "containerID":
+                    containerID = Codecs.readString(parser, context);
+                    break;
+                case "image":
+                    image = Codecs.readInternedString(parser, context);
+                    break;
+                case "imageID":
+                    imageID = Codecs.readInternedString(parser, context);
+                    break;
+                case "lastState":
+                    lastState = ContainerStateCodec.read(parser, context);
+                    break;
+                case "name":
+                    name = Codecs.readInternedString(parser, context);
+                    break;
+                case "ready":
+                    ready = Codecs.readBoolean(parser, context);
+                    break;
+                case "restartCount":
+                    restartCount = Codecs.readInteger(parser, context);
+                    break;
+                case "started":
+                    started = Codecs.readBoolean(parser, context);
+                    break;
+                case "state":
+                    state = ContainerStateCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ContainerStatus(containerID, image, imageID, lastState, name, ready, restartCount, started, state);
+        } catch (IllegalArgumentException e) {
+            return (ContainerStatus) context.handleInstantiationProblem(ContainerStatus.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ContainerStatus}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ContainerStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("containerID", value.getContainerID(), Codecs::writeString, generator, provider);
+        Codecs.writeField("image", value.getImage(), Codecs::writeString, generator, provider);
+        Codecs.writeField("imageID", value.getImageID(), Codecs::writeString, generator, provider);
+        Codecs.writeField("lastState", value.getLastState(), ContainerStateCodec::write, generator, provider);
+        Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("ready", value.getReady(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("restartCount", value.getRestartCount(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("started", value.getStarted(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("state", value.getState(), ContainerStateCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
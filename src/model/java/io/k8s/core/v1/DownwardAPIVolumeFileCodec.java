@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link DownwardAPIVolumeFile} that read and write its fields without reflection.
+ */
+public final class DownwardAPIVolumeFileCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link DownwardAPIVolumeFile}
+     */
+    public static final JsonDeserializer<DownwardAPIVolumeFile> DESERIALIZER = new StdDeserializer<DownwardAPIVolumeFile>(DownwardAPIVolumeFile.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public DownwardAPIVolumeFile deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return DownwardAPIVolumeFileCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link DownwardAPIVolumeFile}
+     */
+    public static final JsonSerializer<DownwardAPIVolumeFile> SERIALIZER = new StdSerializer<DownwardAPIVolumeFile>(DownwardAPIVolumeFile.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(DownwardAPIVolumeFile value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            DownwardAPIVolumeFileCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private DownwardAPIVolumeFileCodec() {
+    }
+
+    /**
+     * Compares two {@link DownwardAPIVolumeFile}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable DownwardAPIVolumeFile original, DownwardAPIVolumeFile modified, Diff diff) {
+        diff.object("fieldRef", original, modified, DownwardAPIVolumeFile::getFieldRef, ObjectFieldSelectorCodec::diff);
+        diff.value("mode", original, modified, DownwardAPIVolumeFile::getMode);
+        diff.value("path", original, modified, DownwardAPIVolumeFile::getPath);
+        diff.object("resourceFieldRef", original, modified, DownwardAPIVolumeFile::getResourceFieldRef, ResourceFieldSelectorCodec::diff);
+    }
+
+    /**
+     * Reads a {@link DownwardAPIVolumeFile}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link DownwardAPIVolumeFile} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static DownwardAPIVolumeFile read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        ObjectFieldSelector fieldRef = null;
+        Integer mode = null;
+        String path = null;
+        ResourceFieldSelector resourceFieldRef = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, DownwardAPIVolumeFile.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "fieldRef":
+                    fieldRef = ObjectFieldSelectorCodec.read(parser, context);
+                    break;
+                case "mode":
+                    mode = Codecs.readInteger(parser, context);
+                    break;
+                case "path":
+                    path = Codecs.readString(parser, context);
+                    break;
+                case "resourceFieldRef":
+                    resourceFieldRef = ResourceFieldSelectorCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new DownwardAPIVolumeFile(fieldRef, mode, path, resourceFieldRef);
+        } catch (IllegalArgumentException e) {
+            return (DownwardAPIVolumeFile) context.handleInstantiationProblem(DownwardAPIVolumeFile.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link DownwardAPIVolumeFile}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable DownwardAPIVolumeFile value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("fieldRef", value.getFieldRef(), ObjectFieldSelectorCodec::write, generator, provider);
+        Codecs.writeField("mode", value.getMode(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("path", value.getPath(), Codecs::writeString, generator, provider);
+        Codecs.writeField("resourceFieldRef", value.getResourceFieldRef(), ResourceFieldSelectorCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link DownwardAPIVolumeSource} that read and write its fields without reflection.
+ */
+public final class DownwardAPIVolumeSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link DownwardAPIVolumeSource}
+     */
+    public static final JsonDeserializer<DownwardAPIVolumeSource> DESERIALIZER = new StdDeserializer<DownwardAPIVolumeSource>(DownwardAPIVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public DownwardAPIVolumeSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return DownwardAPIVolumeSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link DownwardAPIVolumeSource}
+     */
+    public static final JsonSerializer<DownwardAPIVolumeSource> SERIALIZER = new StdSerializer<DownwardAPIVolumeSource>(DownwardAPIVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(DownwardAPIVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            DownwardAPIVolumeSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private DownwardAPIVolumeSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link DownwardAPIVolumeSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable DownwardAPIVolumeSource original, DownwardAPIVolumeSource modified, Diff diff) {
+        diff.value("defaultMode", original, modified, DownwardAPIVolumeSource::getDefaultMode);
+        diff.value("items", original, modified, DownwardAPIVolumeSource::getItems);
+    }
+
+    /**
+     * Reads a {@link DownwardAPIVolumeSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link DownwardAPIVolumeSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static DownwardAPIVolumeSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Integer defaultMode = null;
+        List<DownwardAPIVolumeFile> items = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, DownwardAPIVolumeSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "defaultMode":
+                    defaultMode = Codecs.readInteger(parser, context);
+                    break;
+                case "items":
+                    items = Codecs.readList(parser, context, DownwardAPIVolumeFileCodec::read);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new DownwardAPIVolumeSource(defaultMode, items);
+        } catch (IllegalArgumentException e) {
+            return (DownwardAPIVolumeSource) context.handleInstantiationProblem(DownwardAPIVolumeSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link DownwardAPIVolumeSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable DownwardAPIVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("defaultMode", value.getDefaultMode(), Codecs::writeInteger, generator, provider);
+        Codecs.writeListField("items", value.getItems(), DownwardAPIVolumeFileCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -16,6 +16,7 @@
 
 package io.k8s.core.v1;
 
+import io.k8s.resource.Quantity;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.jackson.Jacksonized;
@@ -38,6 +39,6 @@ public class EmptyDirVolumeSource {
     String medium;
 
     @Nullable
-    String sizeLimit;
+    Quantity sizeLimit;
 
 }
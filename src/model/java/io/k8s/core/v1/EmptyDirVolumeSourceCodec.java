@@ -0,0 +1,141 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.resource.Quantity;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link EmptyDirVolumeSource} that read and write its fields without reflection.
+ */
+public final class EmptyDirVolumeSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link EmptyDirVolumeSource}
+     */
+    public static final JsonDeserializer<EmptyDirVolumeSource> DESERIALIZER = new StdDeserializer<EmptyDirVolumeSource>(EmptyDirVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public EmptyDirVolumeSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return EmptyDirVolumeSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link EmptyDirVolumeSource}
+     */
+    public static final JsonSerializer<EmptyDirVolumeSource> SERIALIZER = new StdSerializer<EmptyDirVolumeSource>(EmptyDirVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(EmptyDirVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            EmptyDirVolumeSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private EmptyDirVolumeSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link EmptyDirVolumeSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable EmptyDirVolumeSource original, EmptyDirVolumeSource modified, Diff diff) {
+        diff.value("medium", original, modified, EmptyDirVolumeSource::getMedium);
+        diff.value("sizeLimit", original, modified, EmptyDirVolumeSource::getSizeLimit);
+    }
+
+    /**
+     * Reads a {@link EmptyDirVolumeSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link EmptyDirVolumeSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static EmptyDirVolumeSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String medium = null;
+        Quantity sizeLimit = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, EmptyDirVolumeSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "medium":
+                    medium = Codecs.readString(parser, context);
+                    break;
+                case "sizeLimit":
+                    sizeLimit = Codecs.readQuantity(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new EmptyDirVolumeSource(medium, sizeLimit);
+        } catch (IllegalArgumentException e) {
+            return (EmptyDirVolumeSource) context.handleInstantiationProblem(EmptyDirVolumeSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link EmptyDirVolumeSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable EmptyDirVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("medium", value.getMedium(), Codecs::writeString, generator, provider);
+        Codecs.writeField("sizeLimit", value.getSizeLimit(), Codecs::writeQuantity, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link EndpointAddress} that read and write its fields without reflection.
+ */
+public final class EndpointAddressCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link EndpointAddress}
+     */
+    public static final JsonDeserializer<EndpointAddress> DESERIALIZER = new StdDeserializer<EndpointAddress>(EndpointAddress.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public EndpointAddress deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return EndpointAddressCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link EndpointAddress}
+     */
+    public static final JsonSerializer<EndpointAddress> SERIALIZER = new StdSerializer<EndpointAddress>(EndpointAddress.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(EndpointAddress value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            EndpointAddressCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private EndpointAddressCodec() {
+    }
+
+    /**
+     * Compares two {@link EndpointAddress}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable EndpointAddress original, EndpointAddress modified, Diff diff) {
+        diff.value("hostname", original, modified, EndpointAddress::getHostname);
+        diff.value("ip", original, modified, EndpointAddress::getIp);
+        diff.value("nodeName", original, modified, EndpointAddress::getNodeName);
+        diff.object("targetRef", original, modified, EndpointAddress::getTargetRef, ObjectReferenceCodec::diff);
+    }
+
+    /**
+     * Reads a {@link EndpointAddress}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link EndpointAddress} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static EndpointAddress read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String hostname = null;
+        String ip = null;
+        String nodeName = null;
+        ObjectReference targetRef = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, EndpointAddress.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "hostname":
+                    hostname = Codecs.readString(parser, context);
+                    break;
+                case "ip":
+                    ip = Codecs.readString(parser, context);
+                    break;
+                case "nodeName":
+                    nodeName = Codecs.readInternedString(parser, context);
+                    break;
+                case "targetRef":
+                    targetRef = ObjectReferenceCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new EndpointAddress(hostname, ip, nodeName, targetRef);
+        } catch (IllegalArgumentException e) {
+            return (EndpointAddress) context.handleInstantiationProblem(EndpointAddress.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link EndpointAddress}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable EndpointAddress value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("hostname", value.getHostname(), Codecs::writeString, generator, provider);
+        Codecs.writeField("ip", value.getIp(), Codecs::writeString, generator, provider);
+        Codecs.writeField("nodeName", value.getNodeName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("targetRef", value.getTargetRef(), ObjectReferenceCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
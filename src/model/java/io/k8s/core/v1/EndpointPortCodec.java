@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link EndpointPort} that read and write its fields without reflection.
+ */
+public final class EndpointPortCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link EndpointPort}
+     */
+    public static final JsonDeserializer<EndpointPort> DESERIALIZER = new StdDeserializer<EndpointPort>(EndpointPort.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public EndpointPort deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return EndpointPortCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link EndpointPort}
+     */
+    public static final JsonSerializer<EndpointPort> SERIALIZER = new StdSerializer<EndpointPort>(EndpointPort.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(EndpointPort value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            EndpointPortCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private EndpointPortCodec() {
+    }
+
+    /**
+     * Compares two {@link EndpointPort}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable EndpointPort original, EndpointPort modified, Diff diff) {
+        diff.value("appProtocol", original, modified, EndpointPort::getAppProtocol);
+        diff.value("name", original, modified, EndpointPort::getName);
+        diff.value("port", original, modified, EndpointPort::getPort);
+        diff.value("protocol", original, modified, EndpointPort::getProtocol);
+    }
+
+    /**
+     * Reads a {@link EndpointPort}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link EndpointPort} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static EndpointPort read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String appProtocol = null;
+        String name = null;
+        Integer port = null;
+        String protocol = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, EndpointPort.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "appProtocol":
+                    appProtocol = Codecs.readString(parser, context);
+                    break;
+                case "name":
+                    name = Codecs.readString(parser, context);
+                    break;
+                case "port":
+                    port = Codecs.readInteger(parser, context);
+                    break;
+                case "protocol":
+                    protocol = Codecs.readInternedString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new EndpointPort(appProtocol, name, port, protocol);
+        } catch (IllegalArgumentException e) {
+            return (EndpointPort) context.handleInstantiationProblem(EndpointPort.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link EndpointPort}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable EndpointPort value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("appProtocol", value.getAppProtocol(), Codecs::writeString, generator, provider);
+        Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("port", value.getPort(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("protocol", value.getProtocol(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link EnvFromSource} that read and write its fields without reflection.
+ */
+public final class EnvFromSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link EnvFromSource}
+     */
+    public static final JsonDeserializer<EnvFromSource> DESERIALIZER = new StdDeserializer<EnvFromSource>(EnvFromSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public EnvFromSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return EnvFromSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link EnvFromSource}
+     */
+    public static final JsonSerializer<EnvFromSource> SERIALIZER = new StdSerializer<EnvFromSource>(EnvFromSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(EnvFromSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            EnvFromSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private EnvFromSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link EnvFromSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable EnvFromSource original, EnvFromSource modified, Diff diff) {
+        diff.object("configMapRef", original, modified, EnvFromSource::getConfigMapRef, ConfigMapEnvSourceCodec::diff);
+        diff.value("prefix", original, modified, EnvFromSource::getPrefix);
+        diff.object("secretRef", original, modified, EnvFromSource::getSecretRef, SecretEnvSourceCodec::diff);
+    }
+
+    /**
+     * Reads a {@link EnvFromSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link EnvFromSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static EnvFromSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        ConfigMapEnvSource configMapRef = null;
+        String prefix = null;
+        SecretEnvSource secretRef = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, EnvFromSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "configMapRef":
+                    configMapRef = ConfigMapEnvSourceCodec.read(parser, context);
+                    break;
+                case "prefix":
+                    prefix = Codecs.readString(parser, context);
+                    break;
+                case "secretRef":
+                    secretRef = SecretEnvSourceCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new EnvFromSource(configMapRef, prefix, secretRef);
+        } catch (IllegalArgumentException e) {
+            return (EnvFromSource) context.handleInstantiationProblem(EnvFromSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link EnvFromSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable EnvFromSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("configMapRef", value.getConfigMapRef(), ConfigMapEnvSourceCodec::write, generator, provider);
+        Codecs.writeField("prefix", value.getPrefix(), Codecs::writeString, generator, provider);
+        Codecs.writeField("secretRef", value.getSecretRef(), SecretEnvSourceCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link EnvVar} that read and write its fields without reflection.
+ */
+public final class EnvVarCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link EnvVar}
+     */
+    public static final JsonDeserializer<EnvVar> DESERIALIZER = new StdDeserializer<EnvVar>(EnvVar.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public EnvVar deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return EnvVarCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link EnvVar}
+     */
+    public static final JsonSerializer<EnvVar> SERIALIZER = new StdSerializer<EnvVar>(EnvVar.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(EnvVar value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            EnvVarCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private EnvVarCodec() {
+    }
+
+    /**
+     * Compares two {@link EnvVar}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable EnvVar original, EnvVar modified, Diff diff) {
+        diff.value("name", original, modified, EnvVar::getName);
+        diff.value("value", original, modified, EnvVar::getValue);
+        diff.object("valueFrom", original, modified, EnvVar::getValueFrom, EnvVarSourceCodec::diff);
+    }
+
+    /**
+     * Reads a {@link EnvVar}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link EnvVar} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static EnvVar read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String name = null;
+        String value = null;
+        EnvVarSource valueFrom = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, EnvVar.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "name":
+                    name = Codecs.readInternedString(parser, context);
+                    break;
+                case "value":
+                    value = Codecs.readString(parser, context);
+                    break;
+                case "valueFrom":
+                    valueFrom = EnvVarSourceCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new EnvVar(name, value, valueFrom);
+        } catch (IllegalArgumentException e) {
+            return (EnvVar) context.handleInstantiationProblem(EnvVar.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link EnvVar}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable EnvVar value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("value", value.getValue(), Codecs::writeString, generator, provider);
+        Codecs.writeField("valueFrom", value.getValueFrom(), EnvVarSourceCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
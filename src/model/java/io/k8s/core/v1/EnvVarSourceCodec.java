@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link EnvVarSource} that read and write its fields without reflection.
+ */
+public final class EnvVarSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link EnvVarSource}
+     */
+    public static final JsonDeserializer<EnvVarSource> DESERIALIZER = new StdDeserializer<EnvVarSource>(EnvVarSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public EnvVarSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return EnvVarSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link EnvVarSource}
+     */
+    public static final JsonSerializer<EnvVarSource> SERIALIZER = new StdSerializer<EnvVarSource>(EnvVarSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(EnvVarSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            EnvVarSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private EnvVarSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link EnvVarSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable EnvVarSource original, EnvVarSource modified, Diff diff) {
+        diff.object("configMapKeyRef", original, modified, EnvVarSource::getConfigMapKeyRef, ConfigMapKeySelectorCodec::diff);
+        diff.object("fieldRef", original, modified, EnvVarSource::getFieldRef, ObjectFieldSelectorCodec::diff);
+        diff.object("resourceFieldRef", original, modified, EnvVarSource::getResourceFieldRef, ResourceFieldSelectorCodec::diff);
+        diff.object("secretKeyRef", original, modified, EnvVarSource::getSecretKeyRef, SecretKeySelectorCodec::diff);
+    }
+
+    /**
+     * Reads a {@link EnvVarSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link EnvVarSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static EnvVarSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        ConfigMapKeySelector configMapKeyRef = null;
+        ObjectFieldSelector fieldRef = null;
+        ResourceFieldSelector resourceFieldRef = null;
+        SecretKeySelector secretKeyRef = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, EnvVarSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "configMapKeyRef":
+                    configMapKeyRef = ConfigMapKeySelectorCodec.read(parser, context);
+                    break;
+                case "fieldRef":
+                    fieldRef = ObjectFieldSelectorCodec.read(parser, context);
+                    break;
+                case "resourceFieldRef":
+                    resourceFieldRef = ResourceFieldSelectorCodec.read(parser, context);
+                    break;
+                case "secretKeyRef":
+                    secretKeyRef = SecretKeySelectorCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new EnvVarSource(configMapKeyRef, fieldRef, resourceFieldRef, secretKeyRef);
+        } catch (IllegalArgumentException e) {
+            return (EnvVarSource) context.handleInstantiationProblem(EnvVarSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link EnvVarSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable EnvVarSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("configMapKeyRef", value.getConfigMapKeyRef(), ConfigMapKeySelectorCodec::write, generator, provider);
+        Codecs.writeField("fieldRef", value.getFieldRef(), ObjectFieldSelectorCodec::write, generator, provider);
+        Codecs.writeField("resourceFieldRef", value.getResourceFieldRef(), ResourceFieldSelectorCodec::write, generator, provider);
+        Codecs.writeField("secretKeyRef", value.getSecretKeyRef(), SecretKeySelectorCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
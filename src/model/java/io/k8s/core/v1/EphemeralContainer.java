@@ -16,6 +16,9 @@
 
 package io.k8s.core.v1;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.k8s.type.PatchMergeKey;
+import io.k8s.type.PatchStrategy;
 import java.util.List;
 import lombok.Builder;
 import lombok.Singular;
@@ -57,6 +60,7 @@ public class EphemeralContainer {
      * be updated. More info:
      * https://kubernetes.io/docs/tasks/inject-data-application/define-command-argument-container/#running-a-command-in-a-shell
      */
+    @JsonProperty("command")
     @Nullable
     @Singular("command")
     List<String> command;
@@ -64,7 +68,10 @@ public class EphemeralContainer {
     /**
      * List of environment variables to set in the container. Cannot be updated.
      */
+    @JsonProperty("env")
     @Nullable
+    @PatchMergeKey("name")
+    @PatchStrategy("merge")
     @Singular("env")
     List<EnvVar> env;
 
@@ -74,6 +81,7 @@ public class EphemeralContainer {
      * multiple sources, the value associated with the last source will take precedence. Values defined by an Env with a
      * duplicate key will take precedence. Cannot be updated.
      */
+    @JsonProperty("envFrom")
     @Nullable
     @Singular("envFrom")
     List<EnvFromSource> envFrom;
@@ -178,6 +186,8 @@ public class EphemeralContainer {
      * volumeDevices is the list of block devices to be used by the container.
      */
     @Nullable
+    @PatchMergeKey("devicePath")
+    @PatchStrategy("merge")
     @Singular
     List<VolumeDevice> volumeDevices;
 
@@ -185,6 +195,8 @@ public class EphemeralContainer {
      * Pod volumes to mount into the container's filesystem. Cannot be updated.
      */
     @Nullable
+    @PatchMergeKey("mountPath")
+    @PatchStrategy("merge")
     @Singular
     List<VolumeMount> volumeMounts;
 
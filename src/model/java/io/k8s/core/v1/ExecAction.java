@@ -16,6 +16,7 @@
 
 package io.k8s.core.v1;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 import lombok.Builder;
 import lombok.Singular;
@@ -37,6 +38,7 @@ public class ExecAction {
      * instructions ('|', etc) won't work. To use a shell, you need to explicitly call out to that shell. Exit status of
      * 0 is treated as live/healthy and non-zero is unhealthy.
      */
+    @JsonProperty("command")
     @Nullable
     @Singular("command")
     List<String> command;
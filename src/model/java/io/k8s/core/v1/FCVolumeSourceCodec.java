@@ -0,0 +1,160 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link FCVolumeSource} that read and write its fields without reflection.
+ */
+public final class FCVolumeSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link FCVolumeSource}
+     */
+    public static final JsonDeserializer<FCVolumeSource> DESERIALIZER = new StdDeserializer<FCVolumeSource>(FCVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public FCVolumeSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return FCVolumeSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link FCVolumeSource}
+     */
+    public static final JsonSerializer<FCVolumeSource> SERIALIZER = new StdSerializer<FCVolumeSource>(FCVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(FCVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            FCVolumeSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private FCVolumeSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link FCVolumeSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable FCVolumeSource original, FCVolumeSource modified, Diff diff) {
+        diff.value("fsType", original, modified, FCVolumeSource::getFsType);
+        diff.value("lun", original, modified, FCVolumeSource::getLun);
+        diff.value("readOnly", original, modified, FCVolumeSource::getReadOnly);
+        diff.value("targetWWNs", original, modified, FCVolumeSource::getTargetWWNs);
+        diff.value("wwids", original, modified, FCVolumeSource::getWwids);
+    }
+
+    /**
+     * Reads a {@link FCVolumeSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link FCVolumeSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static FCVolumeSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String fsType = null;
+        Integer lun = null;
+        Boolean readOnly = null;
+        List<String> targetWWNs = Collections.emptyList();
+        List<String> wwids = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, FCVolumeSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "fsType":
+                    fsType = Codecs.readString(parser, context);
+                    break;
+                case "lun":
+                    lun = Codecs.readInteger(parser, context);
+                    break;
+                case "readOnly":
+                    readOnly = Codecs.readBoolean(parser, context);
+                    break;
+                case "targetWWNs":
+                    targetWWNs = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "wwids":
+                    wwids = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new FCVolumeSource(fsType, lun, readOnly, targetWWNs, wwids);
+        } catch (IllegalArgumentException e) {
+            return (FCVolumeSource) context.handleInstantiationProblem(FCVolumeSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link FCVolumeSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable FCVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("fsType", value.getFsType(), Codecs::writeString, generator, provider);
+        Codecs.writeField("lun", value.getLun(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("readOnly", value.getReadOnly(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeListField("targetWWNs", value.getTargetWWNs(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("wwids", value.getWwids(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link FlexPersistentVolumeSource} that read and write its fields without reflection.
+ */
+public final class FlexPersistentVolumeSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link FlexPersistentVolumeSource}
+     */
+    public static final JsonDeserializer<FlexPersistentVolumeSource> DESERIALIZER = new StdDeserializer<FlexPersistentVolumeSource>(FlexPersistentVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public FlexPersistentVolumeSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return FlexPersistentVolumeSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link FlexPersistentVolumeSource}
+     */
+    public static final JsonSerializer<FlexPersistentVolumeSource> SERIALIZER = new StdSerializer<FlexPersistentVolumeSource>(FlexPersistentVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(FlexPersistentVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            FlexPersistentVolumeSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private FlexPersistentVolumeSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link FlexPersistentVolumeSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable FlexPersistentVolumeSource original, FlexPersistentVolumeSource modified, Diff diff) {
+        diff.value("driver", original, modified, FlexPersistentVolumeSource::getDriver);
+        diff.value("fsType", original, modified, FlexPersistentVolumeSource::getFsType);
+        diff.map("options", original, modified, FlexPersistentVolumeSource::getOptions);
+        diff.value("readOnly", original, modified, FlexPersistentVolumeSource::getReadOnly);
+        diff.object("secretRef", original, modified, FlexPersistentVolumeSource::getSecretRef, SecretReferenceCodec::diff);
+    }
+
+    /**
+     * Reads a {@link FlexPersistentVolumeSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link FlexPersistentVolumeSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static FlexPersistentVolumeSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String driver = null;
+        String fsType = null;
+        Map<String, String> options = Collections.emptyMap();
+        Boolean readOnly = null;
+        SecretReference secretRef = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, FlexPersistentVolumeSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "driver":
+                    driver = Codecs.readString(parser, context);
+                    break;
+                case "fsType":
+                    fsType = Codecs.readString(parser, context);
+                    break;
+                case "options":
+                    options = Codecs.readMap(parser, context, Codecs::readString);
+                    break;
+                case "readOnly":
+                    readOnly = Codecs.readBoolean(parser, context);
+                    break;
+                case "secretRef":
+                    secretRef = SecretReferenceCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new FlexPersistentVolumeSource(driver, fsType, options, readOnly, secretRef);
+        } catch (IllegalArgumentException e) {
+            return (FlexPersistentVolumeSource) context.handleInstantiationProblem(FlexPersistentVolumeSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link FlexPersistentVolumeSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable FlexPersistentVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("driver", value.getDriver(), Codecs::writeString, generator, provider);
+        Codecs.writeField("fsType", value.getFsType(), Codecs::writeString, generator, provider);
+        Codecs.writeMapField("options", value.getOptions(), Codecs::writeString, generator, provider);
+        Codecs.writeField("readOnly", value.getReadOnly(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("secretRef", value.getSecretRef(), SecretReferenceCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
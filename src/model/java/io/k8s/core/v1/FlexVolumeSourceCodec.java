@@ -0,0 +1,160 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link FlexVolumeSource} that read and write its fields without reflection.
+ */
+public final class FlexVolumeSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link FlexVolumeSource}
+     */
+    public static final JsonDeserializer<FlexVolumeSource> DESERIALIZER = new StdDeserializer<FlexVolumeSource>(FlexVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public FlexVolumeSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return FlexVolumeSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link FlexVolumeSource}
+     */
+    public static final JsonSerializer<FlexVolumeSource> SERIALIZER = new StdSerializer<FlexVolumeSource>(FlexVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(FlexVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            FlexVolumeSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private FlexVolumeSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link FlexVolumeSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable FlexVolumeSource original, FlexVolumeSource modified, Diff diff) {
+        diff.value("driver", original, modified, FlexVolumeSource::getDriver);
+        diff.value("fsType", original, modified, FlexVolumeSource::getFsType);
+        diff.map("options", original, modified, FlexVolumeSource::getOptions);
+        diff.value("readOnly", original, modified, FlexVolumeSource::getReadOnly);
+        diff.object("secretRef", original, modified, FlexVolumeSource::getSecretRef, LocalObjectReferenceCodec::diff);
+    }
+
+    /**
+     * Reads a {@link FlexVolumeSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link FlexVolumeSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static FlexVolumeSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String driver = null;
+        String fsType = null;
+        Map<String, String> options = Collections.emptyMap();
+        Boolean readOnly = null;
+        LocalObjectReference secretRef = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, FlexVolumeSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "driver":
+                    driver = Codecs.readString(parser, context);
+                    break;
+                case "fsType":
+                    fsType = Codecs.readString(parser, context);
+                    break;
+                case "options":
+                    options = Codecs.readMap(parser, context, Codecs::readString);
+                    break;
+                case "readOnly":
+                    readOnly = Codecs.readBoolean(parser, context);
+                    break;
+                case "secretRef":
+                    secretRef = LocalObjectReferenceCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new FlexVolumeSource(driver, fsType, options, readOnly, secretRef);
+        } catch (IllegalArgumentException e) {
+            return (FlexVolumeSource) context.handleInstantiationProblem(FlexVolumeSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link FlexVolumeSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable FlexVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("driver", value.getDriver(), Codecs::writeString, generator, provider);
+        Codecs.writeField("fsType", value.getFsType(), Codecs::writeString, generator, provider);
+        Codecs.writeMapField("options", value.getOptions(), Codecs::writeString, generator, provider);
+        Codecs.writeField("readOnly", value.getReadOnly(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("secretRef", value.getSecretRef(), LocalObjectReferenceCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
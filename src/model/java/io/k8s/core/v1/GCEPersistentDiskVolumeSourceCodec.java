@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link GCEPersistentDiskVolumeSource} that read and write its fields without reflection.
+ */
+public final class GCEPersistentDiskVolumeSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link GCEPersistentDiskVolumeSource}
+     */
+    public static final JsonDeserializer<GCEPersistentDiskVolumeSource> DESERIALIZER = new StdDeserializer<GCEPersistentDiskVolumeSource>(GCEPersistentDiskVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public GCEPersistentDiskVolumeSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return GCEPersistentDiskVolumeSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link GCEPersistentDiskVolumeSource}
+     */
+    public static final JsonSerializer<GCEPersistentDiskVolumeSource> SERIALIZER = new StdSerializer<GCEPersistentDiskVolumeSource>(GCEPersistentDiskVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(GCEPersistentDiskVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            GCEPersistentDiskVolumeSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private GCEPersistentDiskVolumeSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link GCEPersistentDiskVolumeSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable GCEPersistentDiskVolumeSource original, GCEPersistentDiskVolumeSource modified, Diff diff) {
+        diff.value("fsType", original, modified, GCEPersistentDiskVolumeSource::getFsType);
+        diff.value("partition", original, modified, GCEPersistentDiskVolumeSource::getPartition);
+        diff.value("pdName", original, modified, GCEPersistentDiskVolumeSource::getPdName);
+        diff.value("readOnly", original, modified, GCEPersistentDiskVolumeSource::getReadOnly);
+    }
+
+    /**
+     * Reads a {@link GCEPersistentDiskVolumeSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link GCEPersistentDiskVolumeSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static GCEPersistentDiskVolumeSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String fsType = null;
+        Integer partition = null;
+        String pdName = null;
+        Boolean readOnly = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, GCEPersistentDiskVolumeSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "fsType":
+                    fsType = Codecs.readString(parser, context);
+                    break;
+                case "partition":
+                    partition = Codecs.readInteger(parser, context);
+                    break;
+                case "pdName":
+                    pdName = Codecs.readString(parser, context);
+                    break;
+                case "readOnly":
+                    readOnly = Codecs.readBoolean(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new GCEPersistentDiskVolumeSource(fsType, partition, pdName, readOnly);
+        } catch (IllegalArgumentException e) {
+            return (GCEPersistentDiskVolumeSource) context.handleInstantiationProblem(GCEPersistentDiskVolumeSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link GCEPersistentDiskVolumeSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable GCEPersistentDiskVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("fsType", value.getFsType(), Codecs::writeString, generator, provider);
+        Codecs.writeField("partition", value.getPartition(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("pdName", value.getPdName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("readOnly", value.getReadOnly(), Codecs::writeBoolean, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link GitRepoVolumeSource} that read and write its fields without reflection.
+ */
+public final class GitRepoVolumeSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link GitRepoVolumeSource}
+     */
+    public static final JsonDeserializer<GitRepoVolumeSource> DESERIALIZER = new StdDeserializer<GitRepoVolumeSource>(GitRepoVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public GitRepoVolumeSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return GitRepoVolumeSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link GitRepoVolumeSource}
+     */
+    public static final JsonSerializer<GitRepoVolumeSource> SERIALIZER = new StdSerializer<GitRepoVolumeSource>(GitRepoVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(GitRepoVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            GitRepoVolumeSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private GitRepoVolumeSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link GitRepoVolumeSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable GitRepoVolumeSource original, GitRepoVolumeSource modified, Diff diff) {
+        diff.value("directory", original, modified, GitRepoVolumeSource::getDirectory);
+        diff.value("repository", original, modified, GitRepoVolumeSource::getRepository);
+        diff.value("revision", original, modified, GitRepoVolumeSource::getRevision);
+    }
+
+    /**
+     * Reads a {@link GitRepoVolumeSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link GitRepoVolumeSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static GitRepoVolumeSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String directory = null;
+        String repository = null;
+        String revision = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, GitRepoVolumeSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "directory":
+                    directory = Codecs.readString(parser, context);
+                    break;
+                case "repository":
+                    repository = Codecs.readString(parser, context);
+                    break;
+                case "revision":
+                    revision = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new GitRepoVolumeSource(directory, repository, revision);
+        } catch (IllegalArgumentException e) {
+            return (GitRepoVolumeSource) context.handleInstantiationProblem(GitRepoVolumeSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link GitRepoVolumeSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable GitRepoVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("directory", value.getDirectory(), Codecs::writeString, generator, provider);
+        Codecs.writeField("repository", value.getRepository(), Codecs::writeString, generator, provider);
+        Codecs.writeField("revision", value.getRevision(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link GlusterfsPersistentVolumeSource} that read and write its fields without reflection.
+ */
+public final class GlusterfsPersistentVolumeSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link GlusterfsPersistentVolumeSource}
+     */
+    public static final JsonDeserializer<GlusterfsPersistentVolumeSource> DESERIALIZER = new StdDeserializer<GlusterfsPersistentVolumeSource>(GlusterfsPersistentVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public GlusterfsPersistentVolumeSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return GlusterfsPersistentVolumeSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link GlusterfsPersistentVolumeSource}
+     */
+    public static final JsonSerializer<GlusterfsPersistentVolumeSource> SERIALIZER = new StdSerializer<GlusterfsPersistentVolumeSource>(GlusterfsPersistentVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(GlusterfsPersistentVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            GlusterfsPersistentVolumeSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private GlusterfsPersistentVolumeSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link GlusterfsPersistentVolumeSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable GlusterfsPersistentVolumeSource original, GlusterfsPersistentVolumeSource modified, Diff diff) {
+        diff.value("endpoints", original, modified, GlusterfsPersistentVolumeSource::getEndpoints);
+        diff.value("endpointsNamespace", original, modified, GlusterfsPersistentVolumeSource::getEndpointsNamespace);
+        diff.value("path", original, modified, GlusterfsPersistentVolumeSource::getPath);
+        diff.value("readOnly", original, modified, GlusterfsPersistentVolumeSource::getReadOnly);
+    }
+
+    /**
+     * Reads a {@link GlusterfsPersistentVolumeSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link GlusterfsPersistentVolumeSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static GlusterfsPersistentVolumeSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String endpoints = null;
+        String endpointsNamespace = null;
+        String path = null;
+        Boolean readOnly = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, GlusterfsPersistentVolumeSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "endpoints":
+                    endpoints = Codecs.readString(parser, context);
+                    break;
+                case "endpointsNamespace":
+                    endpointsNamespace = Codecs.readString(parser, context);
+                    break;
+                case "path":
+                    path = Codecs.readString(parser, context);
+                    break;
+                case "readOnly":
+                    readOnly = Codecs.readBoolean(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new GlusterfsPersistentVolumeSource(endpoints, endpointsNamespace, path, readOnly);
+        } catch (IllegalArgumentException e) {
+            return (GlusterfsPersistentVolumeSource) context.handleInstantiationProblem(GlusterfsPersistentVolumeSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link GlusterfsPersistentVolumeSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable GlusterfsPersistentVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("endpoints", value.getEndpoints(), Codecs::writeString, generator, provider);
+        Codecs.writeField("endpointsNamespace", value.getEndpointsNamespace(), Codecs::writeString, generator, provider);
+        Codecs.writeField("path", value.getPath(), Codecs::writeString, generator, provider);
+        Codecs.writeField("readOnly", value.getReadOnly(), Codecs::writeBoolean, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -16,6 +16,7 @@
 
 package io.k8s.core.v1;
 
+import io.k8s.intstr.IntOrString;
 import java.util.List;
 import lombok.Builder;
 import lombok.Singular;
@@ -52,7 +53,7 @@ public class HTTPGetAction {
     String path;
 
     @NonNull
-    String port;
+    IntOrString port;
 
     /**
      * Scheme to use for connecting to the host. Defaults to HTTP.
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.intstr.IntOrString;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link HTTPGetAction} that read and write its fields without reflection.
+ */
+public final class HTTPGetActionCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link HTTPGetAction}
+     */
+    public static final JsonDeserializer<HTTPGetAction> DESERIALIZER = new StdDeserializer<HTTPGetAction>(HTTPGetAction.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public HTTPGetAction deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return HTTPGetActionCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link HTTPGetAction}
+     */
+    public static final JsonSerializer<HTTPGetAction> SERIALIZER = new StdSerializer<HTTPGetAction>(HTTPGetAction.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(HTTPGetAction value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            HTTPGetActionCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private HTTPGetActionCodec() {
+    }
+
+    /**
+     * Compares two {@link HTTPGetAction}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable HTTPGetAction original, HTTPGetAction modified, Diff diff) {
+        diff.value("host", original, modified, HTTPGetAction::getHost);
+        diff.value("httpHeaders", original, modified, HTTPGetAction::getHttpHeaders);
+        diff.value("path", original, modified, HTTPGetAction::getPath);
+        diff.value("port", original, modified, HTTPGetAction::getPort);
+        diff.value("scheme", original, modified, HTTPGetAction::getScheme);
+    }
+
+    /**
+     * Reads a {@link HTTPGetAction}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link HTTPGetAction} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static HTTPGetAction read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String host = null;
+        List<HTTPHeader> httpHeaders = Collections.emptyList();
+        String path = null;
+        IntOrString port = null;
+        String scheme = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, HTTPGetAction.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "host":
+                    host = Codecs.readString(parser, context);
+                    break;
+                case "httpHeaders":
+                    httpHeaders = Codecs.readList(parser, context, HTTPHeaderCodec::read);
+                    break;
+                case "path":
+                    path = Codecs.readString(parser, context);
+                    break;
+                case "port":
+                    port = Codecs.readIntOrString(parser, context);
+                    break;
+                case "scheme":
+                    scheme = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new HTTPGetAction(host, httpHeaders, path, port, scheme);
+        } catch (IllegalArgumentException e) {
+            return (HTTPGetAction) context.handleInstantiationProblem(HTTPGetAction.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link HTTPGetAction}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable HTTPGetAction value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("host", value.getHost(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("httpHeaders", value.getHttpHeaders(), HTTPHeaderCodec::write, generator, provider);
+        Codecs.writeField("path", value.getPath(), Codecs::writeString, generator, provider);
+        Codecs.writeField("port", value.getPort(), Codecs::writeIntOrString, generator, provider);
+        Codecs.writeField("scheme", value.getScheme(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
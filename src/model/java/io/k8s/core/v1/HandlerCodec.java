@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link Handler} that read and write its fields without reflection.
+ */
+public final class HandlerCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link Handler}
+     */
+    public static final JsonDeserializer<Handler> DESERIALIZER = new StdDeserializer<Handler>(Handler.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Handler deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return HandlerCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link Handler}
+     */
+    public static final JsonSerializer<Handler> SERIALIZER = new StdSerializer<Handler>(Handler.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(Handler value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            HandlerCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private HandlerCodec() {
+    }
+
+    /**
+     * Compares two {@link Handler}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable Handler original, Handler modified, Diff diff) {
+        diff.object("exec", original, modified, Handler::getExec, ExecActionCodec::diff);
+        diff.object("httpGet", original, modified, Handler::getHttpGet, HTTPGetActionCodec::diff);
+        diff.object("tcpSocket", original, modified, Handler::getTcpSocket, TCPSocketActionCodec::diff);
+    }
+
+    /**
+     * Reads a {@link Handler}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link Handler} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static Handler read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        ExecAction exec = null;
+        HTTPGetAction httpGet = null;
+        TCPSocketAction tcpSocket = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, Handler.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "exec":
+                    exec = ExecActionCodec.read(parser, context);
+                    break;
+                case "httpGet":
+                    httpGet = HTTPGetActionCodec.read(parser, context);
+                    break;
+                case "tcpSocket":
+                    tcpSocket = TCPSocketActionCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new Handler(exec, httpGet, tcpSocket);
+        } catch (IllegalArgumentException e) {
+            return (Handler) context.handleInstantiationProblem(Handler.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link Handler}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable Handler value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("exec", value.getExec(), ExecActionCodec::write, generator, provider);
+        Codecs.writeField("httpGet", value.getHttpGet(), HTTPGetActionCodec::write, generator, provider);
+        Codecs.writeField("tcpSocket", value.getTcpSocket(), TCPSocketActionCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
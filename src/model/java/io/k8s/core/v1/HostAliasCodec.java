@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link HostAlias} that read and write its fields without reflection.
+ */
+public final class HostAliasCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link HostAlias}
+     */
+    public static final JsonDeserializer<HostAlias> DESERIALIZER = new StdDeserializer<HostAlias>(HostAlias.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public HostAlias deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return HostAliasCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link HostAlias}
+     */
+    public static final JsonSerializer<HostAlias> SERIALIZER = new StdSerializer<HostAlias>(HostAlias.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(HostAlias value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            HostAliasCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private HostAliasCodec() {
+    }
+
+    /**
+     * Compares two {@link HostAlias}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable HostAlias original, HostAlias modified, Diff diff) {
+        diff.value("hostnames", original, modified, HostAlias::getHostnames);
+        diff.value("ip", original, modified, HostAlias::getIp);
+    }
+
+    /**
+     * Reads a {@link HostAlias}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link HostAlias} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static HostAlias read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<String> hostnames = Collections.emptyList();
+        String ip = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, HostAlias.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "hostnames":
+                    hostnames = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "ip":
+                    ip = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new HostAlias(hostnames, ip);
+        } catch (IllegalArgumentException e) {
+            return (HostAlias) context.handleInstantiationProblem(HostAlias.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link HostAlias}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable HostAlias value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("hostnames", value.getHostnames(), Codecs::writeString, generator, provider);
+        Codecs.writeField("ip", value.getIp(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ISCSIPersistentVolumeSource} that read and write its fields without reflection.
+ */
+public final class ISCSIPersistentVolumeSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ISCSIPersistentVolumeSource}
+     */
+    public static final JsonDeserializer<ISCSIPersistentVolumeSource> DESERIALIZER = new StdDeserializer<ISCSIPersistentVolumeSource>(ISCSIPersistentVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ISCSIPersistentVolumeSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ISCSIPersistentVolumeSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ISCSIPersistentVolumeSource}
+     */
+    public static final JsonSerializer<ISCSIPersistentVolumeSource> SERIALIZER = new StdSerializer<ISCSIPersistentVolumeSource>(ISCSIPersistentVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ISCSIPersistentVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ISCSIPersistentVolumeSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ISCSIPersistentVolumeSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link ISCSIPersistentVolumeSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ISCSIPersistentVolumeSource original, ISCSIPersistentVolumeSource modified, Diff diff) {
+        diff.value("chapAuthDiscovery", original, modified, ISCSIPersistentVolumeSource::getChapAuthDiscovery);
+        diff.value("chapAuthSession", original, modified, ISCSIPersistentVolumeSource::getChapAuthSession);
+        diff.value("fsType", original, modified, ISCSIPersistentVolumeSource::getFsType);
+        diff.value("initiatorName", original, modified, ISCSIPersistentVolumeSource::getInitiatorName);
+        diff.value("iqn", original, modified, ISCSIPersistentVolumeSource::getIqn);
+        diff.value("iscsiInterface", original, modified, ISCSIPersistentVolumeSource::getIscsiInterface);
+        diff.value("lun", original, modified, ISCSIPersistentVolumeSource::getLun);
+        diff.value("portals", original, modified, ISCSIPersistentVolumeSource::getPortals);
+        diff.value("readOnly", original, modified, ISCSIPersistentVolumeSource::getReadOnly);
+        diff.object("secretRef", original, modified, ISCSIPersistentVolumeSource::getSecretRef, SecretReferenceCodec::diff);
+        diff.value("targetPortal", original, modified, ISCSIPersistentVolumeSource::getTargetPortal);
+    }
+
+    /**
+     * Reads a {@link ISCSIPersistentVolumeSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ISCSIPersistentVolumeSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ISCSIPersistentVolumeSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Boolean chapAuthDiscovery = null;
+        Boolean chapAuthSession = null;
+        String fsType = null;
+        String initiatorName = null;
+        String iqn = null;
+        String iscsiInterface = null;
+        Integer lun = null;
+        List<String> portals = Collections.emptyList();
+        Boolean readOnly = null;
+        SecretReference secretRef = null;
+        String targetPortal = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, ISCSIPersistentVolumeSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "chapAuthDiscovery":
+                    chapAuthDiscovery = Codecs.readBoolean(parser, context);
+                    break;
+                case "chapAuthSession":
+                    chapAuthSession = Codecs.readBoolean(parser, context);
+                    break;
+                case "fsType":
+                    fsType = Codecs.readString(parser, context);
+                    break;
+                case "initiatorName":
+                    initiatorName = Codecs.readString(parser, context);
+                    break;
+                case "iqn":
+                    iqn = Codecs.readString(parser, context);
+                    break;
+                case "iscsiInterface":
+                    iscsiInterface = Codecs.readString(parser, context);
+                    break;
+                case "lun":
+                    lun = Codecs.readInteger(parser, context);
+                    break;
+                case "portals":
+                    portals = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "readOnly":
+                    readOnly = Codecs.readBoolean(parser, context);
+                    break;
+                case "secretRef":
+                    secretRef = SecretReferenceCodec.read(parser, context);
+                    break;
+                case "targetPortal":
+                    targetPortal = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ISCSIPersistentVolumeSource(chapAuthDiscovery, chapAuthSession, fsType, initiatorName, iqn, iscsiInterface, lun, portals, readOnly, secretRef, targetPortal);
+        } catch (IllegalArgumentException e) {
+            return (ISCSIPersistentVolumeSource) context.handleInstantiationProblem(ISCSIPersistentVolumeSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ISCSIPersistentVolumeSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ISCSIPersistentVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("chapAuthDiscovery", value.getChapAuthDiscovery(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("chapAuthSession", value.getChapAuthSession(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("fsType", value.getFsType(), Codecs::writeString, generator, provider);
+        Codecs.writeField("initiatorName", value.getInitiatorName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("iqn", value.getIqn(), Codecs::writeString, generator, provider);
+        Codecs.writeField("iscsiInterface", value.getIscsiInterface(), Codecs::writeString, generator, provider);
+        Codecs.writeField("lun", value.getLun(), Codecs::writeInteger, generator, provider);
+        Codecs.writeListField("portals", value.getPortals(), Codecs::writeString, generator, provider);
+        Codecs.writeField("readOnly", value.getReadOnly(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("secretRef", value.getSecretRef(), SecretReferenceCodec::write, generator, provider);
+        Codecs.writeField("targetPortal", value.getTargetPortal(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ISCSIVolumeSource} that read and write its fields without reflection.
+ */
+public final class ISCSIVolumeSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ISCSIVolumeSource}
+     */
+    public static final JsonDeserializer<ISCSIVolumeSource> DESERIALIZER = new StdDeserializer<ISCSIVolumeSource>(ISCSIVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ISCSIVolumeSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ISCSIVolumeSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ISCSIVolumeSource}
+     */
+    public static final JsonSerializer<ISCSIVolumeSource> SERIALIZER = new StdSerializer<ISCSIVolumeSource>(ISCSIVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ISCSIVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ISCSIVolumeSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ISCSIVolumeSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link ISCSIVolumeSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ISCSIVolumeSource original, ISCSIVolumeSource modified, Diff diff) {
+        diff.value("chapAuthDiscovery", original, modified, ISCSIVolumeSource::getChapAuthDiscovery);
+        diff.value("chapAuthSession", original, modified, ISCSIVolumeSource::getChapAuthSession);
+        diff.value("fsType", original, modified, ISCSIVolumeSource::getFsType);
+        diff.value("initiatorName", original, modified, ISCSIVolumeSource::getInitiatorName);
+        diff.value("iqn", original, modified, ISCSIVolumeSource::getIqn);
+        diff.value("iscsiInterface", original, modified, ISCSIVolumeSource::getIscsiInterface);
+        diff.value("lun", original, modified, ISCSIVolumeSource::getLun);
+        diff.value("portals", original, modified, ISCSIVolumeSource::getPortals);
+        diff.value("readOnly", original, modified, ISCSIVolumeSource::getReadOnly);
+        diff.object("secretRef", original, modified, ISCSIVolumeSource::getSecretRef, LocalObjectReferenceCodec::diff);
+        diff.value("targetPortal", original, modified, ISCSIVolumeSource::getTargetPortal);
+    }
+
+    /**
+     * Reads a {@link ISCSIVolumeSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ISCSIVolumeSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ISCSIVolumeSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Boolean chapAuthDiscovery = null;
+        Boolean chapAuthSession = null;
+        String fsType = null;
+        String initiatorName = null;
+        String iqn = null;
+        String iscsiInterface = null;
+        Integer lun = null;
+        List<String> portals = Collections.emptyList();
+        Boolean readOnly = null;
+        LocalObjectReference secretRef = null;
+        String targetPortal = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, ISCSIVolumeSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "chapAuthDiscovery":
+                    chapAuthDiscovery = Codecs.readBoolean(parser, context);
+                    break;
+                case "chapAuthSession":
+                    chapAuthSession = Codecs.readBoolean(parser, context);
+                    break;
+                case "fsType":
+                    fsType = Codecs.readString(parser, context);
+                    break;
+                case "initiatorName":
+                    initiatorName = Codecs.readString(parser, context);
+                    break;
+                case "iqn":
+                    iqn = Codecs.readString(parser, context);
+                    break;
+                case "iscsiInterface":
+                    iscsiInterface = Codecs.readString(parser, context);
+                    break;
+                case "lun":
+                    lun = Codecs.readInteger(parser, context);
+                    break;
+                case "portals":
+                    portals = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "readOnly":
+                    readOnly = Codecs.readBoolean(parser, context);
+                    break;
+                case "secretRef":
+                    secretRef = LocalObjectReferenceCodec.read(parser, context);
+                    break;
+                case "targetPortal":
+                    targetPortal = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ISCSIVolumeSource(chapAuthDiscovery, chapAuthSession, fsType, initiatorName, iqn, iscsiInterface, lun, portals, readOnly, secretRef, targetPortal);
+        } catch (IllegalArgumentException e) {
+            return (ISCSIVolumeSource) context.handleInstantiationProblem(ISCSIVolumeSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ISCSIVolumeSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ISCSIVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("chapAuthDiscovery", value.getChapAuthDiscovery(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("chapAuthSession", value.getChapAuthSession(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("fsType", value.getFsType(), Codecs::writeString, generator, provider);
+        Codecs.writeField("initiatorName", value.getInitiatorName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("iqn", value.getIqn(), Codecs::writeString, generator, provider);
+        Codecs.writeField("iscsiInterface", value.getIscsiInterface(), Codecs::writeString, generator, provider);
+        Codecs.writeField("lun", value.getLun(), Codecs::writeInteger, generator, provider);
+        Codecs.writeListField("portals", value.getPortals(), Codecs::writeString, generator, provider);
+        Codecs.writeField("readOnly", value.getReadOnly(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("secretRef", value.getSecretRef(), LocalObjectReferenceCodec::write, generator, provider);
+        Codecs.writeField("targetPortal", value.getTargetPortal(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
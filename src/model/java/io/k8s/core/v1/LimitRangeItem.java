@@ -17,6 +17,7 @@
 package io.k8s.core.v1;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.k8s.resource.Quantity;
 import java.util.Map;
 import lombok.Builder;
 import lombok.Singular;
@@ -39,37 +40,41 @@ public class LimitRangeItem {
     @JsonProperty("default")
     @Nullable
     @Singular("_default")
-    Map<String, String> _default;
+    Map<String, Quantity> _default;
 
     /**
      * DefaultRequest is the default resource requirement request value by resource name if resource request is omitted.
      */
+    @JsonProperty("defaultRequest")
     @Nullable
     @Singular("defaultRequest")
-    Map<String, String> defaultRequest;
+    Map<String, Quantity> defaultRequest;
 
     /**
      * Max usage constraints on this kind by resource name.
      */
+    @JsonProperty("max")
     @Nullable
     @Singular("max")
-    Map<String, String> max;
+    Map<String, Quantity> max;
 
     /**
      * MaxLimitRequestRatio if specified, the named resource must have a request and limit that are both non-zero where
      * limit divided by request is less than or equal to the enumerated value; this represents the max burst for the
      * named resource.
      */
+    @JsonProperty("maxLimitRequestRatio")
     @Nullable
     @Singular("maxLimitRequestRatio")
-    Map<String, String> maxLimitRequestRatio;
+    Map<String, Quantity> maxLimitRequestRatio;
 
     /**
      * Min usage constraints on this kind by resource name.
      */
+    @JsonProperty("min")
     @Nullable
     @Singular("min")
-    Map<String, String> min;
+    Map<String, Quantity> min;
 
     /**
      * Type of resource that this limit applies to.
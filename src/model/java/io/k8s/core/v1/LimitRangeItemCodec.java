@@ -0,0 +1,167 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.resource.Quantity;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link LimitRangeItem} that read and write its fields without reflection.
+ */
+public final class LimitRangeItemCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link LimitRangeItem}
+     */
+    public static final JsonDeserializer<LimitRangeItem> DESERIALIZER = new StdDeserializer<LimitRangeItem>(LimitRangeItem.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public LimitRangeItem deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return LimitRangeItemCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link LimitRangeItem}
+     */
+    public static final JsonSerializer<LimitRangeItem> SERIALIZER = new StdSerializer<LimitRangeItem>(LimitRangeItem.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(LimitRangeItem value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            LimitRangeItemCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private LimitRangeItemCodec() {
+    }
+
+    /**
+     * Compares two {@link LimitRangeItem}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable LimitRangeItem original, LimitRangeItem modified, Diff diff) {
+        diff.map("default", original, modified, LimitRangeItem::getDefault);
+        diff.map("defaultRequest", original, modified, LimitRangeItem::getDefaultRequest);
+        diff.map("max", original, modified, LimitRangeItem::getMax);
+        diff.map("maxLimitRequestRatio", original, modified, LimitRangeItem::getMaxLimitRequestRatio);
+        diff.map("min", original, modified, LimitRangeItem::getMin);
+        diff.value("type", original, modified, LimitRangeItem::getType);
+    }
+
+    /**
+     * Reads a {@link LimitRangeItem}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link LimitRangeItem} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static LimitRangeItem read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Map<String, Quantity> _default = Collections.emptyMap();
+        Map<String, Quantity> defaultRequest = Collections.emptyMap();
+        Map<String, Quantity> max = Collections.emptyMap();
+        Map<String, Quantity> maxLimitRequestRatio = Collections.emptyMap();
+        Map<String, Quantity> min = Collections.emptyMap();
+        String type = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, LimitRangeItem.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "default":
+                    _default = Codecs.readMap(parser, context, Codecs::readQuantity);
+                    break;
+                case "defaultRequest":
+                    defaultRequest = Codecs.readMap(parser, context, Codecs::readQuantity);
+                    break;
+                case "max":
+                    max = Codecs.readMap(parser, context, Codecs::readQuantity);
+                    break;
+                case "maxLimitRequestRatio":
+                    maxLimitRequestRatio = Codecs.readMap(parser, context, Codecs::readQuantity);
+                    break;
+                case "min":
+                    min = Codecs.readMap(parser, context, Codecs::readQuantity);
+                    break;
+                case "type":
+                    type = Codecs.readInternedString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new LimitRangeItem(_default, defaultRequest, max, maxLimitRequestRatio, min, type);
+        } catch (IllegalArgumentException e) {
+            return (LimitRangeItem) context.handleInstantiationProblem(LimitRangeItem.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link LimitRangeItem}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable LimitRangeItem value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeMapField("default", value.getDefault(), Codecs::writeQuantity, generator, provider);
+        Codecs.writeMapField("defaultRequest", value.getDefaultRequest(), Codecs::writeQuantity, generator, provider);
+        Codecs.writeMapField("max", value.getMax(), Codecs::writeQuantity, generator, provider);
+        Codecs.writeMapField("maxLimitRequestRatio", value.getMaxLimitRequestRatio(), Codecs::writeQuantity, generator, provider);
+        Codecs.writeMapField("min", value.getMin(), Codecs::writeQuantity, generator, provider);
+        Codecs.writeField("type", value.getType(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link LimitRangeSpec} that read and write its fields without reflection.
+ */
+public final class LimitRangeSpecCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link LimitRangeSpec}
+     */
+    public static final JsonDeserializer<LimitRangeSpec> DESERIALIZER = new StdDeserializer<LimitRangeSpec>(LimitRangeSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public LimitRangeSpec deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return LimitRangeSpecCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link LimitRangeSpec}
+     */
+    public static final JsonSerializer<LimitRangeSpec> SERIALIZER = new StdSerializer<LimitRangeSpec>(LimitRangeSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(LimitRangeSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            LimitRangeSpecCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private LimitRangeSpecCodec() {
+    }
+
+    /**
+     * Compares two {@link LimitRangeSpec}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable LimitRangeSpec original, LimitRangeSpec modified, Diff diff) {
+        diff.value("limits", original, modified, LimitRangeSpec::getLimits);
+    }
+
+    /**
+     * Reads a {@link LimitRangeSpec}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link LimitRangeSpec} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static LimitRangeSpec read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<LimitRangeItem> limits = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, LimitRangeSpec.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "limits":
+                    limits = Codecs.readList(parser, context, LimitRangeItemCodec::read);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new LimitRangeSpec(limits);
+        } catch (IllegalArgumentException e) {
+            return (LimitRangeSpec) context.handleInstantiationProblem(LimitRangeSpec.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link LimitRangeSpec}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable LimitRangeSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("limits", value.getLimits(), LimitRangeItemCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -16,6 +16,7 @@
 
 package io.k8s.core.v1;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 import lombok.Builder;
 import lombok.Singular;
@@ -35,6 +36,7 @@ public class LoadBalancerStatus {
      * Ingress is a list containing ingress points for the load-balancer. Traffic intended for the service should be
      * sent to these ingress points.
      */
+    @JsonProperty("ingress")
     @Nullable
     @Singular("ingress")
     List<LoadBalancerIngress> ingress;
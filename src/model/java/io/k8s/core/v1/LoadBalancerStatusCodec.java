@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link LoadBalancerStatus} that read and write its fields without reflection.
+ */
+public final class LoadBalancerStatusCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link LoadBalancerStatus}
+     */
+    public static final JsonDeserializer<LoadBalancerStatus> DESERIALIZER = new StdDeserializer<LoadBalancerStatus>(LoadBalancerStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public LoadBalancerStatus deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return LoadBalancerStatusCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link LoadBalancerStatus}
+     */
+    public static final JsonSerializer<LoadBalancerStatus> SERIALIZER = new StdSerializer<LoadBalancerStatus>(LoadBalancerStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(LoadBalancerStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            LoadBalancerStatusCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private LoadBalancerStatusCodec() {
+    }
+
+    /**
+     * Compares two {@link LoadBalancerStatus}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable LoadBalancerStatus original, LoadBalancerStatus modified, Diff diff) {
+        diff.value("ingress", original, modified, LoadBalancerStatus::getIngress);
+    }
+
+    /**
+     * Reads a {@link LoadBalancerStatus}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link LoadBalancerStatus} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static LoadBalancerStatus read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<LoadBalancerIngress> ingress = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, LoadBalancerStatus.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "ingress":
+                    ingress = Codecs.readList(parser, context, LoadBalancerIngressCodec::read);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new LoadBalancerStatus(ingress);
+        } catch (IllegalArgumentException e) {
+            return (LoadBalancerStatus) context.handleInstantiationProblem(LoadBalancerStatus.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link LoadBalancerStatus}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable LoadBalancerStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("ingress", value.getIngress(), LoadBalancerIngressCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link NFSVolumeSource} that read and write its fields without reflection.
+ */
+public final class NFSVolumeSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link NFSVolumeSource}
+     */
+    public static final JsonDeserializer<NFSVolumeSource> DESERIALIZER = new StdDeserializer<NFSVolumeSource>(NFSVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public NFSVolumeSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return NFSVolumeSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link NFSVolumeSource}
+     */
+    public static final JsonSerializer<NFSVolumeSource> SERIALIZER = new StdSerializer<NFSVolumeSource>(NFSVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(NFSVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            NFSVolumeSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private NFSVolumeSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link NFSVolumeSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable NFSVolumeSource original, NFSVolumeSource modified, Diff diff) {
+        diff.value("path", original, modified, NFSVolumeSource::getPath);
+        diff.value("readOnly", original, modified, NFSVolumeSource::getReadOnly);
+        diff.value("server", original, modified, NFSVolumeSource::getServer);
+    }
+
+    /**
+     * Reads a {@link NFSVolumeSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link NFSVolumeSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static NFSVolumeSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String path = null;
+        Boolean readOnly = null;
+        String server = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, NFSVolumeSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "path":
+                    path = Codecs.readString(parser, context);
+                    break;
+                case "readOnly":
+                    readOnly = Codecs.readBoolean(parser, context);
+                    break;
+                case "server":
+                    server = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new NFSVolumeSource(path, readOnly, server);
+        } catch (IllegalArgumentException e) {
+            return (NFSVolumeSource) context.handleInstantiationProblem(NFSVolumeSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link NFSVolumeSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable NFSVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("path", value.getPath(), Codecs::writeString, generator, provider);
+        Codecs.writeField("readOnly", value.getReadOnly(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("server", value.getServer(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
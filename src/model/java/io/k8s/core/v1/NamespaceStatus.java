@@ -16,6 +16,8 @@
 
 package io.k8s.core.v1;
 
+import io.k8s.type.PatchMergeKey;
+import io.k8s.type.PatchStrategy;
 import java.util.List;
 import lombok.Builder;
 import lombok.Singular;
@@ -35,6 +37,8 @@ public class NamespaceStatus {
      * Represents the latest available observations of a namespace's current state.
      */
     @Nullable
+    @PatchMergeKey("type")
+    @PatchStrategy("merge")
     @Singular
     List<NamespaceCondition> conditions;
 
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link NodeAddress} that read and write its fields without reflection.
+ */
+public final class NodeAddressCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link NodeAddress}
+     */
+    public static final JsonDeserializer<NodeAddress> DESERIALIZER = new StdDeserializer<NodeAddress>(NodeAddress.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public NodeAddress deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return NodeAddressCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link NodeAddress}
+     */
+    public static final JsonSerializer<NodeAddress> SERIALIZER = new StdSerializer<NodeAddress>(NodeAddress.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(NodeAddress value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            NodeAddressCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private NodeAddressCodec() {
+    }
+
+    /**
+     * Compares two {@link NodeAddress}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable NodeAddress original, NodeAddress modified, Diff diff) {
+        diff.value("address", original, modified, NodeAddress::getAddress);
+        diff.value("type", original, modified, NodeAddress::getType);
+    }
+
+    /**
+     * Reads a {@link NodeAddress}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link NodeAddress} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static NodeAddress read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String address = null;
+        String type = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, NodeAddress.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "address":
+                    address = Codecs.readString(parser, context);
+                    break;
+                case "type":
+                    type = Codecs.readInternedString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new NodeAddress(address, type);
+        } catch (IllegalArgumentException e) {
+            return (NodeAddress) context.handleInstantiationProblem(NodeAddress.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link NodeAddress}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable NodeAddress value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("address", value.getAddress(), Codecs::writeString, generator, provider);
+        Codecs.writeField("type", value.getType(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
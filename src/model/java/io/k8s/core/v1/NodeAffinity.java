@@ -16,6 +16,7 @@
 
 package io.k8s.core.v1;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 import lombok.Builder;
 import lombok.Singular;
@@ -39,6 +40,7 @@ public class NodeAffinity {
      * elements of this field and adding "weight" to the sum if the node matches the corresponding matchExpressions; the
      * node(s) with the highest sum are the most preferred.
      */
+    @JsonProperty("preferredDuringSchedulingIgnoredDuringExecution")
     @Nullable
     @Singular("preferredDuringSchedulingIgnoredDuringExecution")
     List<PreferredSchedulingTerm> preferredDuringSchedulingIgnoredDuringExecution;
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link NodeCondition} that read and write its fields without reflection.
+ */
+public final class NodeConditionCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link NodeCondition}
+     */
+    public static final JsonDeserializer<NodeCondition> DESERIALIZER = new StdDeserializer<NodeCondition>(NodeCondition.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public NodeCondition deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return NodeConditionCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link NodeCondition}
+     */
+    public static final JsonSerializer<NodeCondition> SERIALIZER = new StdSerializer<NodeCondition>(NodeCondition.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(NodeCondition value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            NodeConditionCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private NodeConditionCodec() {
+    }
+
+    /**
+     * Compares two {@link NodeCondition}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable NodeCondition original, NodeCondition modified, Diff diff) {
+        diff.value("lastHeartbeatTime", original, modified, NodeCondition::getLastHeartbeatTime);
+        diff.value("lastTransitionTime", original, modified, NodeCondition::getLastTransitionTime);
+        diff.value("message", original, modified, NodeCondition::getMessage);
+        diff.value("reason", original, modified, NodeCondition::getReason);
+        diff.value("status", original, modified, NodeCondition::getStatus);
+        diff.value("type", original, modified, NodeCondition::getType);
+    }
+
+    /**
+     * Reads a {@link NodeCondition}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link NodeCondition} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static NodeCondition read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        OffsetDateTime lastHeartbeatTime = null;
+        OffsetDateTime lastTransitionTime = null;
+        String message = null;
+        String reason = null;
+        String status = null;
+        String type = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, NodeCondition.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "lastHeartbeatTime":
+                    lastHeartbeatTime = Codecs.readDateTime(parser, context);
+                    break;
+                case "lastTransitionTime":
+                    lastTransitionTime = Codecs.readDateTime(parser, context);
+                    break;
+                case "message":
+                    message = Codecs.readString(parser, context);
+                    break;
+                case "reason":
+                    reason = Codecs.readInternedString(parser, context);
+                    break;
+                case "status":
+                    status = Codecs.readInternedString(parser, context);
+                    break;
+                case "type":
+                    type = Codecs.readInternedString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new NodeCondition(lastHeartbeatTime, lastTransitionTime, message, reason, status, type);
+        } catch (IllegalArgumentException e) {
+            return (NodeCondition) context.handleInstantiationProblem(NodeCondition.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link NodeCondition}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable NodeCondition value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("lastHeartbeatTime", value.getLastHeartbeatTime(), Codecs::writeDateTime, generator, provider);
+        Codecs.writeField("lastTransitionTime", value.getLastTransitionTime(), Codecs::writeDateTime, generator, provider);
+        Codecs.writeField("message", value.getMessage(), Codecs::writeString, generator, provider);
+        Codecs.writeField("reason", value.getReason(), Codecs::writeString, generator, provider);
+        Codecs.writeField("status", value.getStatus(), Codecs::writeString, generator, provider);
+        Codecs.writeField("type", value.getType(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link NodeConfigStatus} that read and write its fields without reflection.
+ */
+public final class NodeConfigStatusCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link NodeConfigStatus}
+     */
+    public static final JsonDeserializer<NodeConfigStatus> DESERIALIZER = new StdDeserializer<NodeConfigStatus>(NodeConfigStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public NodeConfigStatus deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return NodeConfigStatusCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link NodeConfigStatus}
+     */
+    public static final JsonSerializer<NodeConfigStatus> SERIALIZER = new StdSerializer<NodeConfigStatus>(NodeConfigStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(NodeConfigStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            NodeConfigStatusCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private NodeConfigStatusCodec() {
+    }
+
+    /**
+     * Compares two {@link NodeConfigStatus}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable NodeConfigStatus original, NodeConfigStatus modified, Diff diff) {
+        diff.object("active", original, modified, NodeConfigStatus::getActive, NodeConfigSourceCodec::diff);
+        diff.object("assigned", original, modified, NodeConfigStatus::getAssigned, NodeConfigSourceCodec::diff);
+        diff.value("error", original, modified, NodeConfigStatus::getError);
+        diff.object("lastKnownGood", original, modified, NodeConfigStatus::getLastKnownGood, NodeConfigSourceCodec::diff);
+    }
+
+    /**
+     * Reads a {@link NodeConfigStatus}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link NodeConfigStatus} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static NodeConfigStatus read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        NodeConfigSource active = null;
+        NodeConfigSource assigned = null;
+        String error = null;
+        NodeConfigSource lastKnownGood = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, NodeConfigStatus.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "active":
+                    active = NodeConfigSourceCodec.read(parser, context);
+                    break;
+                case "assigned":
+                    assigned = NodeConfigSourceCodec.read(parser, context);
+                    break;
+                case "error":
+                    error = Codecs.readString(parser, context);
+                    break;
+                case "lastKnownGood":
+                    lastKnownGood = NodeConfigSourceCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new NodeConfigStatus(active, assigned, error, lastKnownGood);
+        } catch (IllegalArgumentException e) {
+            return (NodeConfigStatus) context.handleInstantiationProblem(NodeConfigStatus.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link NodeConfigStatus}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable NodeConfigStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("active", value.getActive(), NodeConfigSourceCodec::write, generator, provider);
+        Codecs.writeField("assigned", value.getAssigned(), NodeConfigSourceCodec::write, generator, provider);
+        Codecs.writeField("error", value.getError(), Codecs::writeString, generator, provider);
+        Codecs.writeField("lastKnownGood", value.getLastKnownGood(), NodeConfigSourceCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -16,6 +16,7 @@
 
 package io.k8s.core.v1;
 
+import io.k8s.type.PatchStrategy;
 import java.util.List;
 import lombok.Builder;
 import lombok.Singular;
@@ -45,6 +46,7 @@ public class NodeSpec {
      * specified, the 0th entry must match the podCIDR field. It may contain at most 1 value for each of IPv4 and IPv6.
      */
     @Nullable
+    @PatchStrategy("merge")
     List<String> podCIDRs;
 
     /**
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link NodeSpec} that read and write its fields without reflection.
+ */
+public final class NodeSpecCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link NodeSpec}
+     */
+    public static final JsonDeserializer<NodeSpec> DESERIALIZER = new StdDeserializer<NodeSpec>(NodeSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public NodeSpec deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return NodeSpecCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link NodeSpec}
+     */
+    public static final JsonSerializer<NodeSpec> SERIALIZER = new StdSerializer<NodeSpec>(NodeSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(NodeSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            NodeSpecCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private NodeSpecCodec() {
+    }
+
+    /**
+     * Compares two {@link NodeSpec}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable NodeSpec original, NodeSpec modified, Diff diff) {
+        diff.object("configSource", original, modified, NodeSpec::getConfigSource, NodeConfigSourceCodec::diff);
+        diff.value("podCIDR", original, modified, NodeSpec::getPodCIDR);
+        diff.list("podCIDRs", original, modified, NodeSpec::getPodCIDRs);
+        diff.value("providerID", original, modified, NodeSpec::getProviderID);
+        diff.value("taints", original, modified, NodeSpec::getTaints);
+        diff.value("unschedulable", original, modified, NodeSpec::getUnschedulable);
+    }
+
+    /**
+     * Reads a {@link NodeSpec}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link NodeSpec} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static NodeSpec read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        NodeConfigSource configSource = null;
+        String podCIDR = null;
+        List<String> podCIDRs = null;
+        String providerID = null;
+        List<Taint> taints = Collections.emptyList();
+        Boolean unschedulable = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, NodeSpec.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "configSource":
+                    configSource = NodeConfigSourceCodec.read(parser, context);
+                    break;
+                case "podCIDR":
+                    podCIDR = Codecs.readString(parser, context);
+                    break;
+                case "podCIDRs":
+                    podCIDRs = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "providerID":
+                    providerID = Codecs.readString(parser, context);
+                    break;
+                case "taints":
+                    taints = Codecs.readList(parser, context, TaintCodec::read);
+                    break;
+                case "unschedulable":
+                    unschedulable = Codecs.readBoolean(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new NodeSpec(configSource, podCIDR, podCIDRs, providerID, taints, unschedulable);
+        } catch (IllegalArgumentException e) {
+            return (NodeSpec) context.handleInstantiationProblem(NodeSpec.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link NodeSpec}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable NodeSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("configSource", value.getConfigSource(), NodeConfigSourceCodec::write, generator, provider);
+        Codecs.writeField("podCIDR", value.getPodCIDR(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("podCIDRs", value.getPodCIDRs(), Codecs::writeString, generator, provider);
+        Codecs.writeField("providerID", value.getProviderID(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("taints", value.getTaints(), TaintCodec::write, generator, provider);
+        Codecs.writeField("unschedulable", value.getUnschedulable(), Codecs::writeBoolean, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -16,6 +16,10 @@
 
 package io.k8s.core.v1;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.k8s.resource.Quantity;
+import io.k8s.type.PatchMergeKey;
+import io.k8s.type.PatchStrategy;
 import java.util.List;
 import java.util.Map;
 import lombok.Builder;
@@ -39,29 +43,35 @@ public class NodeStatus {
      * use a full-replacement patch. See http://pr.k8s.io/79391 for an example.
      */
     @Nullable
+    @PatchMergeKey("type")
+    @PatchStrategy("merge")
     @Singular
     List<NodeAddress> addresses;
 
     /**
      * Allocatable represents the resources of a node that are available for scheduling. Defaults to Capacity.
      */
+    @JsonProperty("allocatable")
     @Nullable
     @Singular("allocatable")
-    Map<String, String> allocatable;
+    Map<String, Quantity> allocatable;
 
     /**
      * Capacity represents the total resources of a node. More info:
      * https://kubernetes.io/docs/concepts/storage/persistent-volumes#capacity
      */
+    @JsonProperty("capacity")
     @Nullable
     @Singular("capacity")
-    Map<String, String> capacity;
+    Map<String, Quantity> capacity;
 
     /**
      * Conditions is an array of current observed node conditions. More info:
      * https://kubernetes.io/docs/concepts/nodes/node/#condition
      */
     @Nullable
+    @PatchMergeKey("type")
+    @PatchStrategy("merge")
     @Singular
     List<NodeCondition> conditions;
 
@@ -84,6 +94,7 @@ public class NodeStatus {
     /**
      * List of volumes that are attached to the node.
      */
+    @JsonProperty("volumesAttached")
     @Nullable
     @Singular("volumesAttached")
     List<AttachedVolume> volumesAttached;
@@ -91,6 +102,7 @@ public class NodeStatus {
     /**
      * List of attachable volumes in use (mounted) by the node.
      */
+    @JsonProperty("volumesInUse")
     @Nullable
     @Singular("volumesInUse")
     List<String> volumesInUse;
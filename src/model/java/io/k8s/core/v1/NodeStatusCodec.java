@@ -0,0 +1,192 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.resource.Quantity;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link NodeStatus} that read and write its fields without reflection.
+ */
+public final class NodeStatusCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link NodeStatus}
+     */
+    public static final JsonDeserializer<NodeStatus> DESERIALIZER = new StdDeserializer<NodeStatus>(NodeStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public NodeStatus deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return NodeStatusCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link NodeStatus}
+     */
+    public static final JsonSerializer<NodeStatus> SERIALIZER = new StdSerializer<NodeStatus>(NodeStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(NodeStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            NodeStatusCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private NodeStatusCodec() {
+    }
+
+    /**
+     * Compares two {@link NodeStatus}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable NodeStatus original, NodeStatus modified, Diff diff) {
+        diff.list("addresses", original, modified, NodeStatus::getAddresses, "type", NodeAddress::getType, NodeAddressCodec::diff);
+        diff.map("allocatable", original, modified, NodeStatus::getAllocatable);
+        diff.map("capacity", original, modified, NodeStatus::getCapacity);
+        diff.list("conditions", original, modified, NodeStatus::getConditions, "type", NodeCondition::getType, NodeConditionCodec::diff);
+        diff.object("config", original, modified, NodeStatus::getConfig, NodeConfigStatusCodec::diff);
+        diff.object("daemonEndpoints", original, modified, NodeStatus::getDaemonEndpoints, NodeDaemonEndpointsCodec::diff);
+        diff.value("images", original, modified, NodeStatus::getImages);
+        diff.object("nodeInfo", original, modified, NodeStatus::getNodeInfo, NodeSystemInfoCodec::diff);
+        diff.value("volumesAttached", original, modified, NodeStatus::getVolumesAttached);
+        diff.value("volumesInUse", original, modified, NodeStatus::getVolumesInUse);
+    }
+
+    /**
+     * Reads a {@link NodeStatus}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link NodeStatus} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static NodeStatus read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<NodeAddress> addresses = Collections.emptyList();
+        Map<String, Quantity> allocatable = Collections.emptyMap();
+        Map<String, Quantity> capacity = Collections.emptyMap();
+        List<NodeCondition> conditions = Collections.emptyList();
+        NodeConfigStatus config = null;
+        NodeDaemonEndpoints daemonEndpoints = null;
+        List<ContainerImage> images = Collections.emptyList();
+        NodeSystemInfo nodeInfo = null;
+        List<AttachedVolume> volumesAttached = Collections.emptyList();
+        List<String> volumesInUse = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, NodeStatus.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "addresses":
+                    addresses = Codecs.readList(parser, context, NodeAddressCodec::read);
+                    break;
+                case "allocatable":
+                    allocatable = Codecs.readMap(parser, context, Codecs::readQuantity);
+                    break;
+                case "capacity":
+                    capacity = Codecs.readMap(parser, context, Codecs::readQuantity);
+                    break;
+                case "conditions":
+                    conditions = Codecs.readList(parser, context, NodeConditionCodec::read);
+                    break;
+                case "config":
+                    config = NodeConfigStatusCodec.read(parser, context);
+                    break;
+                case "daemonEndpoints":
+                    daemonEndpoints = NodeDaemonEndpointsCodec.read(parser, context);
+                    break;
+                case "images":
+                    images = Codecs.readList(parser, context, ContainerImageCodec::read);
+                    break;
+                case "nodeInfo":
+                    nodeInfo = NodeSystemInfoCodec.read(parser, context);
+                    break;
+                case "volumesAttached":
+                    volumesAttached = Codecs.readList(parser, context, AttachedVolumeCodec::read);
+                    break;
+                case "volumesInUse":
+                    volumesInUse = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new NodeStatus(addresses, allocatable, capacity, conditions, config, daemonEndpoints, images, nodeInfo, volumesAttached, volumesInUse);
+        } catch (IllegalArgumentException e) {
+            return (NodeStatus) context.handleInstantiationProblem(NodeStatus.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link NodeStatus}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable NodeStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("addresses", value.getAddresses(), NodeAddressCodec::write, generator, provider);
+        Codecs.writeMapField("allocatable", value.getAllocatable(), Codecs::writeQuantity, generator, provider);
+        Codecs.writeMapField("capacity", value.getCapacity(), Codecs::writeQuantity, generator, provider);
+        Codecs.writeListField("conditions", value.getConditions(), NodeConditionCodec::write, generator, provider);
+        Codecs.writeField("config", value.getConfig(), NodeConfigStatusCodec::write, generator, provider);
+        Codecs.writeField("daemonEndpoints", value.getDaemonEndpoints(), NodeDaemonEndpointsCodec::write, generator, provider);
+        Codecs.writeListField("images", value.getImages(), ContainerImageCodec::write, generator, provider);
+        Codecs.writeField("nodeInfo", value.getNodeInfo(), NodeSystemInfoCodec::write, generator, provider);
+        Codecs.writeListField("volumesAttached", value.getVolumesAttached(), AttachedVolumeCodec::write, generator, provider);
+        Codecs.writeListField("volumesInUse", value.getVolumesInUse(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
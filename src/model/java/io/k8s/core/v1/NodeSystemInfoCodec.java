@@ -0,0 +1,188 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link NodeSystemInfo} that read and write its fields without reflection.
+ */
+public final class NodeSystemInfoCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link NodeSystemInfo}
+     */
+    public static final JsonDeserializer<NodeSystemInfo> DESERIALIZER = new StdDeserializer<NodeSystemInfo>(NodeSystemInfo.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public NodeSystemInfo deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return NodeSystemInfoCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link NodeSystemInfo}
+     */
+    public static final JsonSerializer<NodeSystemInfo> SERIALIZER = new StdSerializer<NodeSystemInfo>(NodeSystemInfo.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(NodeSystemInfo value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            NodeSystemInfoCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private NodeSystemInfoCodec() {
+    }
+
+    /**
+     * Compares two {@link NodeSystemInfo}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable NodeSystemInfo original, NodeSystemInfo modified, Diff diff) {
+        diff.value("architecture", original, modified, NodeSystemInfo::getArchitecture);
+        diff.value("bootID", original, modified, NodeSystemInfo::getBootID);
+        diff.value("containerRuntimeVersion", original, modified, NodeSystemInfo::getContainerRuntimeVersion);
+        diff.value("kernelVersion", original, modified, NodeSystemInfo::getKernelVersion);
+        diff.value("kubeProxyVersion", original, modified, NodeSystemInfo::getKubeProxyVersion);
+        diff.value("kubeletVersion", original, modified, NodeSystemInfo::getKubeletVersion);
+        diff.value("machineID", original, modified, NodeSystemInfo::getMachineID);
+        diff.value("operatingSystem", original, modified, NodeSystemInfo::getOperatingSystem);
+        diff.value("osImage", original, modified, NodeSystemInfo::getOsImage);
+        diff.value("systemUUID", original, modified, NodeSystemInfo::getSystemUUID);
+    }
+
+    /**
+     * Reads a {@link NodeSystemInfo}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link NodeSystemInfo} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static NodeSystemInfo read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String architecture = null;
+        String bootID = null;
+        String containerRuntimeVersion = null;
+        String kernelVersion = null;
+        String kubeProxyVersion = null;
+        String kubeletVersion = null;
+        String machineID = null;
+        String operatingSystem = null;
+        String osImage = null;
+        String systemUUID = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, NodeSystemInfo.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "architecture":
+                    architecture = Codecs.readString(parser, context);
+                    break;
+                case "bootID":
+                    bootID = Codecs.readString(parser, context);
+                    break;
+                case "containerRuntimeVersion":
+                    containerRuntimeVersion = Codecs.readString(parser, context);
+                    break;
+                case "kernelVersion":
+                    kernelVersion = Codecs.readString(parser, context);
+                    break;
+                case "kubeProxyVersion":
+                    kubeProxyVersion = Codecs.readString(parser, context);
+                    break;
+                case "kubeletVersion":
+                    kubeletVersion = Codecs.readString(parser, context);
+                    break;
+                case "machineID":
+                    machineID = Codecs.readString(parser, context);
+                    break;
+                case "operatingSystem":
+                    operatingSystem = Codecs.readString(parser, context);
+                    break;
+                case "osImage":
+                    osImage = Codecs.readString(parser, context);
+                    break;
+                case "systemUUID":
+                    systemUUID = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new NodeSystemInfo(architecture, bootID, containerRuntimeVersion, kernelVersion, kubeProxyVersion, kubeletVersion, machineID, operatingSystem, osImage, systemUUID);
+        } catch (IllegalArgumentException e) {
+            return (NodeSystemInfo) context.handleInstantiationProblem(NodeSystemInfo.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link NodeSystemInfo}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable NodeSystemInfo value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("architecture", value.getArchitecture(), Codecs::writeString, generator, provider);
+        Codecs.writeField("bootID", value.getBootID(), Codecs::writeString, generator, provider);
+        Codecs.writeField("containerRuntimeVersion", value.getContainerRuntimeVersion(), Codecs::writeString, generator, provider);
+        Codecs.writeField("kernelVersion", value.getKernelVersion(), Codecs::writeString, generator, provider);
+        Codecs.writeField("kubeProxyVersion", value.getKubeProxyVersion(), Codecs::writeString, generator, provider);
+        Codecs.writeField("kubeletVersion", value.getKubeletVersion(), Codecs::writeString, generator, provider);
+        Codecs.writeField("machineID", value.getMachineID(), Codecs::writeString, generator, provider);
+        Codecs.writeField("operatingSystem", value.getOperatingSystem(), Codecs::writeString, generator, provider);
+        Codecs.writeField("osImage", value.getOsImage(), Codecs::writeString, generator, provider);
+        Codecs.writeField("systemUUID", value.getSystemUUID(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ObjectFieldSelector} that read and write its fields without reflection.
+ */
+public final class ObjectFieldSelectorCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ObjectFieldSelector}
+     */
+    public static final JsonDeserializer<ObjectFieldSelector> DESERIALIZER = new StdDeserializer<ObjectFieldSelector>(ObjectFieldSelector.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ObjectFieldSelector deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ObjectFieldSelectorCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ObjectFieldSelector}
+     */
+    public static final JsonSerializer<ObjectFieldSelector> SERIALIZER = new StdSerializer<ObjectFieldSelector>(ObjectFieldSelector.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ObjectFieldSelector value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ObjectFieldSelectorCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ObjectFieldSelectorCodec() {
+    }
+
+    /**
+     * Compares two {@link ObjectFieldSelector}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ObjectFieldSelector original, ObjectFieldSelector modified, Diff diff) {
+        diff.value("apiVersion", original, modified, ObjectFieldSelector::getApiVersion);
+        diff.value("fieldPath", original, modified, ObjectFieldSelector::getFieldPath);
+    }
+
+    /**
+     * Reads a {@link ObjectFieldSelector}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ObjectFieldSelector} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ObjectFieldSelector read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String apiVersion = null;
+        String fieldPath = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, ObjectFieldSelector.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "apiVersion":
+                    apiVersion = Codecs.readInternedString(parser, context);
+                    break;
+                case "fieldPath":
+                    fieldPath = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ObjectFieldSelector(apiVersion, fieldPath);
+        } catch (IllegalArgumentException e) {
+            return (ObjectFieldSelector) context.handleInstantiationProblem(ObjectFieldSelector.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ObjectFieldSelector}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ObjectFieldSelector value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("apiVersion", value.getApiVersion(), Codecs::writeString, generator, provider);
+        Codecs.writeField("fieldPath", value.getFieldPath(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
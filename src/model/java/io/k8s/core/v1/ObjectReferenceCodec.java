@@ -0,0 +1,170 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ObjectReference} that read and write its fields without reflection.
+ */
+public final class ObjectReferenceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ObjectReference}
+     */
+    public static final JsonDeserializer<ObjectReference> DESERIALIZER = new StdDeserializer<ObjectReference>(ObjectReference.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ObjectReference deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ObjectReferenceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ObjectReference}
+     */
+    public static final JsonSerializer<ObjectReference> SERIALIZER = new StdSerializer<ObjectReference>(ObjectReference.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ObjectReference value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ObjectReferenceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ObjectReferenceCodec() {
+    }
+
+    /**
+     * Compares two {@link ObjectReference}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ObjectReference original, ObjectReference modified, Diff diff) {
+        diff.value("apiVersion", original, modified, ObjectReference::getApiVersion);
+        diff.value("fieldPath", original, modified, ObjectReference::getFieldPath);
+        diff.value("kind", original, modified, ObjectReference::getKind);
+        diff.value("name", original, modified, ObjectReference::getName);
+        diff.value("namespace", original, modified, ObjectReference::getNamespace);
+        diff.value("resourceVersion", original, modified, ObjectReference::getResourceVersion);
+        diff.value("uid", original, modified, ObjectReference::getUid);
+    }
+
+    /**
+     * Reads a {@link ObjectReference}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ObjectReference} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ObjectReference read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String apiVersion = null;
+        String fieldPath = null;
+        String kind = null;
+        String name = null;
+        String namespace = null;
+        String resourceVersion = null;
+        String uid = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, ObjectReference.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "apiVersion":
+                    apiVersion = Codecs.readInternedString(parser, context);
+                    break;
+                case "fieldPath":
+                    fieldPath = Codecs.readString(parser, context);
+                    break;
+                case "kind":
+                    kind = Codecs.readInternedString(parser, context);
+                    break;
+                case "name":
+                    name = Codecs.readString(parser, context);
+                    break;
+                case "namespace":
+                    namespace = Codecs.readInternedString(parser, context);
+                    break;
+                case "resourceVersion":
+                    resourceVersion = Codecs.readString(parser, context);
+                    break;
+                case "uid":
+                    uid = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ObjectReference(apiVersion, fieldPath, kind, name, namespace, resourceVersion, uid);
+        } catch (IllegalArgumentException e) {
+            return (ObjectReference) context.handleInstantiationProblem(ObjectReference.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ObjectReference}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ObjectReference value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("apiVersion", value.getApiVersion(), Codecs::writeString, generator, provider);
+        Codecs.writeField("fieldPath", value.getFieldPath(), Codecs::writeString, generator, provider);
+        Codecs.writeField("kind", value.getKind(), Codecs::writeString, generator, provider);
+        Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("namespace", value.getNamespace(), Codecs::writeString, generator, provider);
+        Codecs.writeField("resourceVersion", value.getResourceVersion(), Codecs::writeString, generator, provider);
+        Codecs.writeField("uid", value.getUid(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
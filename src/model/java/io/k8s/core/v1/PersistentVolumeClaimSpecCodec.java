@@ -0,0 +1,174 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.meta.v1.LabelSelector;
+import io.k8s.meta.v1.LabelSelectorCodec;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link PersistentVolumeClaimSpec} that read and write its fields without reflection.
+ */
+public final class PersistentVolumeClaimSpecCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link PersistentVolumeClaimSpec}
+     */
+    public static final JsonDeserializer<PersistentVolumeClaimSpec> DESERIALIZER = new StdDeserializer<PersistentVolumeClaimSpec>(PersistentVolumeClaimSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public PersistentVolumeClaimSpec deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return PersistentVolumeClaimSpecCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link PersistentVolumeClaimSpec}
+     */
+    public static final JsonSerializer<PersistentVolumeClaimSpec> SERIALIZER = new StdSerializer<PersistentVolumeClaimSpec>(PersistentVolumeClaimSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(PersistentVolumeClaimSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            PersistentVolumeClaimSpecCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private PersistentVolumeClaimSpecCodec() {
+    }
+
+    /**
+     * Compares two {@link PersistentVolumeClaimSpec}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable PersistentVolumeClaimSpec original, PersistentVolumeClaimSpec modified, Diff diff) {
+        diff.value("accessModes", original, modified, PersistentVolumeClaimSpec::getAccessModes);
+        diff.object("dataSource", original, modified, PersistentVolumeClaimSpec::getDataSource, TypedLocalObjectReferenceCodec::diff);
+        diff.object("resources", original, modified, PersistentVolumeClaimSpec::getResources, ResourceRequirementsCodec::diff);
+        diff.object("selector", original, modified, PersistentVolumeClaimSpec::getSelector, LabelSelectorCodec::diff);
+        diff.value("storageClassName", original, modified, PersistentVolumeClaimSpec::getStorageClassName);
+        diff.value("volumeMode", original, modified, PersistentVolumeClaimSpec::getVolumeMode);
+        diff.value("volumeName", original, modified, PersistentVolumeClaimSpec::getVolumeName);
+    }
+
+    /**
+     * Reads a {@link PersistentVolumeClaimSpec}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link PersistentVolumeClaimSpec} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static PersistentVolumeClaimSpec read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<String> accessModes = Collections.emptyList();
+        TypedLocalObjectReference dataSource = null;
+        ResourceRequirements resources = null;
+        LabelSelector selector = null;
+        String storageClassName = null;
+        String volumeMode = null;
+        String volumeName = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, PersistentVolumeClaimSpec.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "accessModes":
+                    accessModes = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "dataSource":
+                    dataSource = TypedLocalObjectReferenceCodec.read(parser, context);
+                    break;
+                case "resources":
+                    resources = ResourceRequirementsCodec.read(parser, context);
+                    break;
+                case "selector":
+                    selector = LabelSelectorCodec.read(parser, context);
+                    break;
+                case "storageClassName":
+                    storageClassName = Codecs.readString(parser, context);
+                    break;
+                case "volumeMode":
+                    volumeMode = Codecs.readString(parser, context);
+                    break;
+                case "volumeName":
+                    volumeName = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new PersistentVolumeClaimSpec(accessModes, dataSource, resources, selector, storageClassName, volumeMode, volumeName);
+        } catch (IllegalArgumentException e) {
+            return (PersistentVolumeClaimSpec) context.handleInstantiationProblem(PersistentVolumeClaimSpec.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link PersistentVolumeClaimSpec}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable PersistentVolumeClaimSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("accessModes", value.getAccessModes(), Codecs::writeString, generator, provider);
+        Codecs.writeField("dataSource", value.getDataSource(), TypedLocalObjectReferenceCodec::write, generator, provider);
+        Codecs.writeField("resources", value.getResources(), ResourceRequirementsCodec::write, generator, provider);
+        Codecs.writeField("selector", value.getSelector(), LabelSelectorCodec::write, generator, provider);
+        Codecs.writeField("storageClassName", value.getStorageClassName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("volumeMode", value.getVolumeMode(), Codecs::writeString, generator, provider);
+        Codecs.writeField("volumeName", value.getVolumeName(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
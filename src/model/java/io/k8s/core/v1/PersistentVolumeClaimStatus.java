@@ -16,6 +16,10 @@
 
 package io.k8s.core.v1;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.k8s.resource.Quantity;
+import io.k8s.type.PatchMergeKey;
+import io.k8s.type.PatchStrategy;
 import java.util.List;
 import java.util.Map;
 import lombok.Builder;
@@ -43,15 +47,18 @@ public class PersistentVolumeClaimStatus {
     /**
      * Represents the actual resources of the underlying volume.
      */
+    @JsonProperty("capacity")
     @Nullable
     @Singular("capacity")
-    Map<String, String> capacity;
+    Map<String, Quantity> capacity;
 
     /**
      * Current Condition of persistent volume claim. If underlying persistent volume is being resized then the Condition
      * will be set to 'ResizeStarted'.
      */
     @Nullable
+    @PatchMergeKey("type")
+    @PatchStrategy("merge")
     @Singular
     List<PersistentVolumeClaimCondition> conditions;
 
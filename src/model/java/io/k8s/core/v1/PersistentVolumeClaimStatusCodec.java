@@ -0,0 +1,156 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.resource.Quantity;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link PersistentVolumeClaimStatus} that read and write its fields without reflection.
+ */
+public final class PersistentVolumeClaimStatusCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link PersistentVolumeClaimStatus}
+     */
+    public static final JsonDeserializer<PersistentVolumeClaimStatus> DESERIALIZER = new StdDeserializer<PersistentVolumeClaimStatus>(PersistentVolumeClaimStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public PersistentVolumeClaimStatus deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return PersistentVolumeClaimStatusCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link PersistentVolumeClaimStatus}
+     */
+    public static final JsonSerializer<PersistentVolumeClaimStatus> SERIALIZER = new StdSerializer<PersistentVolumeClaimStatus>(PersistentVolumeClaimStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(PersistentVolumeClaimStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            PersistentVolumeClaimStatusCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private PersistentVolumeClaimStatusCodec() {
+    }
+
+    /**
+     * Compares two {@link PersistentVolumeClaimStatus}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable PersistentVolumeClaimStatus original, PersistentVolumeClaimStatus modified, Diff diff) {
+        diff.value("accessModes", original, modified, PersistentVolumeClaimStatus::getAccessModes);
+        diff.map("capacity", original, modified, PersistentVolumeClaimStatus::getCapacity);
+        diff.list("conditions", original, modified, PersistentVolumeClaimStatus::getConditions, "type", PersistentVolumeClaimCondition::getType, PersistentVolumeClaimConditionCodec::diff);
+        diff.value("phase", original, modified, PersistentVolumeClaimStatus::getPhase);
+    }
+
+    /**
+     * Reads a {@link PersistentVolumeClaimStatus}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link PersistentVolumeClaimStatus} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static PersistentVolumeClaimStatus read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<String> accessModes = Collections.emptyList();
+        Map<String, Quantity> capacity = Collections.emptyMap();
+        List<PersistentVolumeClaimCondition> conditions = Collections.emptyList();
+        String phase = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, PersistentVolumeClaimStatus.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "accessModes":
+                    accessModes = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "capacity":
+                    capacity = Codecs.readMap(parser, context, Codecs::readQuantity);
+                    break;
+                case "conditions":
+                    conditions = Codecs.readList(parser, context, PersistentVolumeClaimConditionCodec::read);
+                    break;
+                case "phase":
+                    phase = Codecs.readInternedString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new PersistentVolumeClaimStatus(accessModes, capacity, conditions, phase);
+        } catch (IllegalArgumentException e) {
+            return (PersistentVolumeClaimStatus) context.handleInstantiationProblem(PersistentVolumeClaimStatus.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link PersistentVolumeClaimStatus}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable PersistentVolumeClaimStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("accessModes", value.getAccessModes(), Codecs::writeString, generator, provider);
+        Codecs.writeMapField("capacity", value.getCapacity(), Codecs::writeQuantity, generator, provider);
+        Codecs.writeListField("conditions", value.getConditions(), PersistentVolumeClaimConditionCodec::write, generator, provider);
+        Codecs.writeField("phase", value.getPhase(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
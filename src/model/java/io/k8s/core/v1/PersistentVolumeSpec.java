@@ -16,6 +16,8 @@
 
 package io.k8s.core.v1;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.k8s.resource.Quantity;
 import java.util.List;
 import java.util.Map;
 import lombok.Builder;
@@ -53,9 +55,10 @@ public class PersistentVolumeSpec {
      * A description of the persistent volume's resources and capacity. More info:
      * https://kubernetes.io/docs/concepts/storage/persistent-volumes#capacity
      */
+    @JsonProperty("capacity")
     @Nullable
     @Singular("capacity")
-    Map<String, String> capacity;
+    Map<String, Quantity> capacity;
 
     @Nullable
     CephFSPersistentVolumeSource cephfs;
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.resource.Quantity;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link PersistentVolumeSpec} that read and write its fields without reflection.
+ */
+public final class PersistentVolumeSpecCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link PersistentVolumeSpec}
+     */
+    public static final JsonDeserializer<PersistentVolumeSpec> DESERIALIZER = new StdDeserializer<PersistentVolumeSpec>(PersistentVolumeSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public PersistentVolumeSpec deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return PersistentVolumeSpecCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link PersistentVolumeSpec}
+     */
+    public static final JsonSerializer<PersistentVolumeSpec> SERIALIZER = new StdSerializer<PersistentVolumeSpec>(PersistentVolumeSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(PersistentVolumeSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            PersistentVolumeSpecCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private PersistentVolumeSpecCodec() {
+    }
+
+    /**
+     * Compares two {@link PersistentVolumeSpec}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable PersistentVolumeSpec original, PersistentVolumeSpec modified, Diff diff) {
+        diff.value("accessModes", original, modified, PersistentVolumeSpec::getAccessModes);
+        diff.object("awsElasticBlockStore", original, modified, PersistentVolumeSpec::getAwsElasticBlockStore, AWSElasticBlockStoreVolumeSourceCodec::diff);
+        diff.object("azureDisk", original, modified, PersistentVolumeSpec::getAzureDisk, AzureDiskVolumeSourceCodec::diff);
+        diff.object("azureFile", original, modified, PersistentVolumeSpec::getAzureFile, AzureFilePersistentVolumeSourceCodec::diff);
+        diff.map("capacity", original, modified, PersistentVolumeSpec::getCapacity);
+        diff.object("cephfs", original, modified, PersistentVolumeSpec::getCephfs, CephFSPersistentVolumeSourceCodec::diff);
+        diff.object("cinder", original, modified, PersistentVolumeSpec::getCinder, CinderPersistentVolumeSourceCodec::diff);
+        diff.object("claimRef", original, modified, PersistentVolumeSpec::getClaimRef, ObjectReferenceCodec::diff);
+        diff.object("csi", original, modified, PersistentVolumeSpec::getCsi, CSIPersistentVolumeSourceCodec::diff);
+        diff.object("fc", original, modified, PersistentVolumeSpec::getFc, FCVolumeSourceCodec::diff);
+        diff.object("flexVolume", original, modified, PersistentVolumeSpec::getFlexVolume, FlexPersistentVolumeSourceCodec::diff);
+        diff.object("flocker", original, modified, PersistentVolumeSpec::getFlocker, FlockerVolumeSourceCodec::diff);
+        diff.object("gcePersistentDisk", original, modified, PersistentVolumeSpec::getGcePersistentDisk, GCEPersistentDiskVolumeSourceCodec::diff);
+        diff.object("glusterfs", original, modified, PersistentVolumeSpec::getGlusterfs, GlusterfsPersistentVolumeSourceCodec::diff);
+        diff.object("hostPath", original, modified, PersistentVolumeSpec::getHostPath, HostPathVolumeSourceCodec::diff);
+        diff.object("iscsi", original, modified, PersistentVolumeSpec::getIscsi, ISCSIPersistentVolumeSourceCodec::diff);
+        diff.object("local", original, modified, PersistentVolumeSpec::getLocal, LocalVolumeSourceCodec::diff);
+        diff.value("mountOptions", original, modified, PersistentVolumeSpec::getMountOptions);
+        diff.object("nfs", original, modified, PersistentVolumeSpec::getNfs, NFSVolumeSourceCodec::diff);
+        diff.object("nodeAffinity", original, modified, PersistentVolumeSpec::getNodeAffinity, VolumeNodeAffinityCodec::diff);
+        diff.object("photonPersistentDisk", original, modified, PersistentVolumeSpec::getPhotonPersistentDisk, PhotonPersistentDiskVolumeSourceCodec::diff);
+        diff.object("portworxVolume", original, modified, PersistentVolumeSpec::getPortworxVolume, PortworxVolumeSourceCodec::diff);
+        diff.object("quobyte", original, modified, PersistentVolumeSpec::getQuobyte, QuobyteVolumeSourceCodec::diff);
+        diff.object("rbd", original, modified, PersistentVolumeSpec::getRbd, RBDPersistentVolumeSourceCodec::diff);
+        diff.object("scaleIO", original, modified, PersistentVolumeSpec::getScaleIO, ScaleIOPersistentVolumeSourceCodec::diff);
+        diff.value("storageClassName", original, modified, PersistentVolumeSpec::getStorageClassName);
+        diff.object("storageos", original, modified, PersistentVolumeSpec::getStorageos, StorageOSPersistentVolumeSourceCodec::diff);
+        diff.value("volumeMode", original, modified, PersistentVolumeSpec::getVolumeMode);
+        diff.object("vsphereVolume", original, modified, PersistentVolumeSpec::getVsphereVolume, VsphereVirtualDiskVolumeSourceCodec::diff);
+    }
+
+    /**
+     * Reads a {@link PersistentVolumeSpec}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link PersistentVolumeSpec} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static PersistentVolumeSpec read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<String> accessModes = Collections.emptyList();
+        AWSElasticBlockStoreVolumeSource awsElasticBlockStore = null;
+        AzureDiskVolumeSource azureDisk = null;
+        AzureFilePersistentVolumeSource azureFile = null;
+        Map<String, Quantity> capacity = Collections.emptyMap();
+        CephFSPersistentVolumeSource cephfs = null;
+        CinderPersistentVolumeSource cinder = null;
+        ObjectReference claimRef = null;
+        CSIPersistentVolumeSource csi = null;
+        FCVolumeSource fc = null;
+        FlexPersistentVolumeSource flexVolume = null;
+        FlockerVolumeSource flocker = null;
+        GCEPersistentDiskVolumeSource gcePersistentDisk = null;
+        GlusterfsPersistentVolumeSource glusterfs = null;
+        HostPathVolumeSource hostPath = null;
+        ISCSIPersistentVolumeSource iscsi = null;
+        LocalVolumeSource local = null;
+        List<String> mountOptions = Collections.emptyList();
+        NFSVolumeSource nfs = null;
+        VolumeNodeAffinity nodeAffinity = null;
+        PhotonPersistentDiskVolumeSource photonPersistentDisk = null;
+        PortworxVolumeSource portworxVolume = null;
+        QuobyteVolumeSource quobyte = null;
+        RBDPersistentVolumeSource rbd = null;
+        ScaleIOPersistentVolumeSource scaleIO = null;
+        String storageClassName = null;
+        StorageOSPersistentVolumeSource storageos = null;
+        String volumeMode = null;
+        VsphereVirtualDiskVolumeSource vsphereVolume = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, PersistentVolumeSpec.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "accessModes":
+                    accessModes = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "awsElasticBlockStore":
+                    awsElasticBlockStore = AWSElasticBlockStoreVolumeSourceCodec.read(parser, context);
+                    break;
+                case "azureDisk":
+                    azureDisk = AzureDiskVolumeSourceCodec.read(parser, context);
+                    break;
+                case "azureFile":
+                    azureFile = AzureFilePersistentVolumeSourceCodec.read(parser, context);
+                    break;
+                case "capacity":
+                    capacity = Codecs.readMap(parser, context, Codecs::readQuantity);
+                    break;
+                case "cephfs":
+                    cephfs = CephFSPersistentVolumeSourceCodec.read(parser, context);
+                    break;
+                case "cinder":
+                    cinder = CinderPersistentVolumeSourceCodec.read(parser, context);
+                    break;
+                case "claimRef":
+                    claimRef = ObjectReferenceCodec.read(parser, context);
+                    break;
+                case "csi":
+                    csi = CSIPersistentVolumeSourceCodec.read(parser, context);
+                    break;
+                case "fc":
+                    fc = FCVolumeSourceCodec.read(parser, context);
+                    break;
+                case "flexVolume":
+                    flexVolume = FlexPersistentVolumeSourceCodec.read(parser, context);
+                    break;
+                case "flocker":
+                    flocker = FlockerVolumeSourceCodec.read(parser, context);
+                    break;
+                case "gcePersistentDisk":
+                    gcePersistentDisk = GCEPersistentDiskVolumeSourceCodec.read(parser, context);
+                    break;
+                case "glusterfs":
+                    glusterfs = GlusterfsPersistentVolumeSourceCodec.read(parser, context);
+                    break;
+                case "hostPath":
+                    hostPath = HostPathVolumeSourceCodec.read(parser, context);
+                    break;
+                case "iscsi":
+                    iscsi = ISCSIPersistentVolumeSourceCodec.read(parser, context);
+                    break;
+                case "local":
+                    local = LocalVolumeSourceCodec.read(parser, context);
+                    break;
+                case "mountOptions":
+                    mountOptions = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "nfs":
+                    nfs = NFSVolumeSourceCodec.read(parser, context);
+                    break;
+                case "nodeAffinity":
+                    nodeAffinity = VolumeNodeAffinityCodec.read(parser, context);
+                    break;
+                case "photonPersistentDisk":
+                    photonPersistentDisk = PhotonPersistentDiskVolumeSourceCodec.read(parser, context);
+                    break;
+                case "portworxVolume":
+                    portworxVolume = PortworxVolumeSourceCodec.read(parser, context);
+                    break;
+                case "quobyte":
+                    quobyte = QuobyteVolumeSourceCodec.read(parser, context);
+                    break;
+                case "rbd":
+                    rbd = RBDPersistentVolumeSourceCodec.read(parser, context);
+                    break;
+                case "scaleIO":
+                    scaleIO = ScaleIOPersistentVolumeSourceCodec.read(parser, context);
+                    break;
+                case "storageClassName":
+                    storageClassName = Codecs.readString(parser, context);
+                    break;
+                case "storageos":
+                    storageos = StorageOSPersistentVolumeSourceCodec.read(parser, context);
+                    break;
+                case "volumeMode":
+                    volumeMode = Codecs.readString(parser, context);
+                    break;
+                case "vsphereVolume":
+                    vsphereVolume = VsphereVirtualDiskVolumeSourceCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new PersistentVolumeSpec(accessModes, awsElasticBlockStore, azureDisk, azureFile, capacity, cephfs, cinder, claimRef, csi, fc, flexVolume, flocker, gcePersistentDisk, glusterfs, hostPath, iscsi, local, mountOptions, nfs, nodeAffinity, photonPersistentDisk, portworxVolume, quobyte, rbd, scaleIO, storageClassName, storageos, volumeMode, vsphereVolume);
+        } catch (IllegalArgumentException e) {
+            return (PersistentVolumeSpec) context.handleInstantiationProblem(PersistentVolumeSpec.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link PersistentVolumeSpec}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable PersistentVolumeSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("accessModes", value.getAccessModes(), Codecs::writeString, generator, provider);
+        Codecs.writeField("awsElasticBlockStore", value.getAwsElasticBlockStore(), AWSElasticBlockStoreVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("azureDisk", value.getAzureDisk(), AzureDiskVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("azureFile", value.getAzureFile(), AzureFilePersistentVolumeSourceCodec::write, generator, provider);
+        Codecs.writeMapField("capacity", value.getCapacity(), Codecs::writeQuantity, generator, provider);
+        Codecs.writeField("cephfs", value.getCephfs(), CephFSPersistentVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("cinder", value.getCinder(), CinderPersistentVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("claimRef", value.getClaimRef(), ObjectReferenceCodec::write, generator, provider);
+        Codecs.writeField("csi", value.getCsi(), CSIPersistentVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("fc", value.getFc(), FCVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("flexVolume", value.getFlexVolume(), FlexPersistentVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("flocker", value.getFlocker(), FlockerVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("gcePersistentDisk", value.getGcePersistentDisk(), GCEPersistentDiskVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("glusterfs", value.getGlusterfs(), GlusterfsPersistentVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("hostPath", value.getHostPath(), HostPathVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("iscsi", value.getIscsi(), ISCSIPersistentVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("local", value.getLocal(), LocalVolumeSourceCodec::write, generator, provider);
+        Codecs.writeListField("mountOptions", value.getMountOptions(), Codecs::writeString, generator, provider);
+        Codecs.writeField("nfs", value.getNfs(), NFSVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("nodeAffinity", value.getNodeAffinity(), VolumeNodeAffinityCodec::write, generator, provider);
+        Codecs.writeField("photonPersistentDisk", value.getPhotonPersistentDisk(), PhotonPersistentDiskVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("portworxVolume", value.getPortworxVolume(), PortworxVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("quobyte", value.getQuobyte(), QuobyteVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("rbd", value.getRbd(), RBDPersistentVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("scaleIO", value.getScaleIO(), ScaleIOPersistentVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("storageClassName", value.getStorageClassName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("storageos", value.getStorageos(), StorageOSPersistentVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("volumeMode", value.getVolumeMode(), Codecs::writeString, generator, provider);
+        Codecs.writeField("vsphereVolume", value.getVsphereVolume(), VsphereVirtualDiskVolumeSourceCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
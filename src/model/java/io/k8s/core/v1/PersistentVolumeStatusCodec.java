@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link PersistentVolumeStatus} that read and write its fields without reflection.
+ */
+public final class PersistentVolumeStatusCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link PersistentVolumeStatus}
+     */
+    public static final JsonDeserializer<PersistentVolumeStatus> DESERIALIZER = new StdDeserializer<PersistentVolumeStatus>(PersistentVolumeStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public PersistentVolumeStatus deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return PersistentVolumeStatusCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link PersistentVolumeStatus}
+     */
+    public static final JsonSerializer<PersistentVolumeStatus> SERIALIZER = new StdSerializer<PersistentVolumeStatus>(PersistentVolumeStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(PersistentVolumeStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            PersistentVolumeStatusCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private PersistentVolumeStatusCodec() {
+    }
+
+    /**
+     * Compares two {@link PersistentVolumeStatus}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable PersistentVolumeStatus original, PersistentVolumeStatus modified, Diff diff) {
+        diff.value("message", original, modified, PersistentVolumeStatus::getMessage);
+        diff.value("phase", original, modified, PersistentVolumeStatus::getPhase);
+        diff.value("reason", original, modified, PersistentVolumeStatus::getReason);
+    }
+
+    /**
+     * Reads a {@link PersistentVolumeStatus}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link PersistentVolumeStatus} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static PersistentVolumeStatus read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String message = null;
+        String phase = null;
+        String reason = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, PersistentVolumeStatus.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "message":
+                    message = Codecs.readString(parser, context);
+                    break;
+                case "phase":
+                    phase = Codecs.readInternedString(parser, context);
+                    break;
+                case "reason":
+                    reason = Codecs.readInternedString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new PersistentVolumeStatus(message, phase, reason);
+        } catch (IllegalArgumentException e) {
+            return (PersistentVolumeStatus) context.handleInstantiationProblem(PersistentVolumeStatus.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link PersistentVolumeStatus}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable PersistentVolumeStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("message", value.getMessage(), Codecs::writeString, generator, provider);
+        Codecs.writeField("phase", value.getPhase(), Codecs::writeString, generator, provider);
+        Codecs.writeField("reason", value.getReason(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
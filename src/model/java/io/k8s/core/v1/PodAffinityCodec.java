@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link PodAffinity} that read and write its fields without reflection.
+ */
+public final class PodAffinityCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link PodAffinity}
+     */
+    public static final JsonDeserializer<PodAffinity> DESERIALIZER = new StdDeserializer<PodAffinity>(PodAffinity.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public PodAffinity deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return PodAffinityCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link PodAffinity}
+     */
+    public static final JsonSerializer<PodAffinity> SERIALIZER = new StdSerializer<PodAffinity>(PodAffinity.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(PodAffinity value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            PodAffinityCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private PodAffinityCodec() {
+    }
+
+    /**
+     * Compares two {@link PodAffinity}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable PodAffinity original, PodAffinity modified, Diff diff) {
+        diff.value("preferredDuringSchedulingIgnoredDuringExecution", original, modified, PodAffinity::getPreferredDuringSchedulingIgnoredDuringExecution);
+        diff.value("requiredDuringSchedulingIgnoredDuringExecution", original, modified, PodAffinity::getRequiredDuringSchedulingIgnoredDuringExecution);
+    }
+
+    /**
+     * Reads a {@link PodAffinity}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link PodAffinity} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static PodAffinity read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<WeightedPodAffinityTerm> preferredDuringSchedulingIgnoredDuringExecution = Collections.emptyList();
+        List<PodAffinityTerm> requiredDuringSchedulingIgnoredDuringExecution = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, PodAffinity.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "preferredDuringSchedulingIgnoredDuringExecution":
+                    preferredDuringSchedulingIgnoredDuringExecution = Codecs.readList(parser, context, WeightedPodAffinityTermCodec::read);
+                    break;
+                case "requiredDuringSchedulingIgnoredDuringExecution":
+                    requiredDuringSchedulingIgnoredDuringExecution = Codecs.readList(parser, context, PodAffinityTermCodec::read);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new PodAffinity(preferredDuringSchedulingIgnoredDuringExecution, requiredDuringSchedulingIgnoredDuringExecution);
+        } catch (IllegalArgumentException e) {
+            return (PodAffinity) context.handleInstantiationProblem(PodAffinity.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link PodAffinity}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable PodAffinity value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("preferredDuringSchedulingIgnoredDuringExecution", value.getPreferredDuringSchedulingIgnoredDuringExecution(), WeightedPodAffinityTermCodec::write, generator, provider);
+        Codecs.writeListField("requiredDuringSchedulingIgnoredDuringExecution", value.getRequiredDuringSchedulingIgnoredDuringExecution(), PodAffinityTermCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.meta.v1.LabelSelector;
+import io.k8s.meta.v1.LabelSelectorCodec;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link PodAffinityTerm} that read and write its fields without reflection.
+ */
+public final class PodAffinityTermCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link PodAffinityTerm}
+     */
+    public static final JsonDeserializer<PodAffinityTerm> DESERIALIZER = new StdDeserializer<PodAffinityTerm>(PodAffinityTerm.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public PodAffinityTerm deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return PodAffinityTermCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link PodAffinityTerm}
+     */
+    public static final JsonSerializer<PodAffinityTerm> SERIALIZER = new StdSerializer<PodAffinityTerm>(PodAffinityTerm.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(PodAffinityTerm value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            PodAffinityTermCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private PodAffinityTermCodec() {
+    }
+
+    /**
+     * Compares two {@link PodAffinityTerm}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable PodAffinityTerm original, PodAffinityTerm modified, Diff diff) {
+        diff.object("labelSelector", original, modified, PodAffinityTerm::getLabelSelector, LabelSelectorCodec::diff);
+        diff.value("namespaces", original, modified, PodAffinityTerm::getNamespaces);
+        diff.value("topologyKey", original, modified, PodAffinityTerm::getTopologyKey);
+    }
+
+    /**
+     * Reads a {@link PodAffinityTerm}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link PodAffinityTerm} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static PodAffinityTerm read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        LabelSelector labelSelector = null;
+        List<String> namespaces = Collections.emptyList();
+        String topologyKey = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, PodAffinityTerm.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "labelSelector":
+                    labelSelector = LabelSelectorCodec.read(parser, context);
+                    break;
+                case "namespaces":
+                    namespaces = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "topologyKey":
+                    topologyKey = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new PodAffinityTerm(labelSelector, namespaces, topologyKey);
+        } catch (IllegalArgumentException e) {
+            return (PodAffinityTerm) context.handleInstantiationProblem(PodAffinityTerm.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link PodAffinityTerm}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable PodAffinityTerm value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("labelSelector", value.getLabelSelector(), LabelSelectorCodec::write, generator, provider);
+        Codecs.writeListField("namespaces", value.getNamespaces(), Codecs::writeString, generator, provider);
+        Codecs.writeField("topologyKey", value.getTopologyKey(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
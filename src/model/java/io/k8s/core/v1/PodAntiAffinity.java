@@ -16,6 +16,7 @@
 
 package io.k8s.core.v1;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 import lombok.Builder;
 import lombok.Singular;
@@ -39,6 +40,7 @@ public class PodAntiAffinity {
      * the elements of this field and adding "weight" to the sum if the node has pods which matches the corresponding
      * podAffinityTerm; the node(s) with the highest sum are the most preferred.
      */
+    @JsonProperty("preferredDuringSchedulingIgnoredDuringExecution")
     @Nullable
     @Singular("preferredDuringSchedulingIgnoredDuringExecution")
     List<WeightedPodAffinityTerm> preferredDuringSchedulingIgnoredDuringExecution;
@@ -50,6 +52,7 @@ public class PodAntiAffinity {
      * from its node. When there are multiple elements, the lists of nodes corresponding to each podAffinityTerm are
      * intersected, i.e. all terms must be satisfied.
      */
+    @JsonProperty("requiredDuringSchedulingIgnoredDuringExecution")
     @Nullable
     @Singular("requiredDuringSchedulingIgnoredDuringExecution")
     List<PodAffinityTerm> requiredDuringSchedulingIgnoredDuringExecution;
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link PodDNSConfig} that read and write its fields without reflection.
+ */
+public final class PodDNSConfigCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link PodDNSConfig}
+     */
+    public static final JsonDeserializer<PodDNSConfig> DESERIALIZER = new StdDeserializer<PodDNSConfig>(PodDNSConfig.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public PodDNSConfig deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return PodDNSConfigCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link PodDNSConfig}
+     */
+    public static final JsonSerializer<PodDNSConfig> SERIALIZER = new StdSerializer<PodDNSConfig>(PodDNSConfig.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(PodDNSConfig value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            PodDNSConfigCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private PodDNSConfigCodec() {
+    }
+
+    /**
+     * Compares two {@link PodDNSConfig}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable PodDNSConfig original, PodDNSConfig modified, Diff diff) {
+        diff.value("nameservers", original, modified, PodDNSConfig::getNameservers);
+        diff.value("options", original, modified, PodDNSConfig::getOptions);
+        diff.value("searches", original, modified, PodDNSConfig::getSearches);
+    }
+
+    /**
+     * Reads a {@link PodDNSConfig}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link PodDNSConfig} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static PodDNSConfig read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<String> nameservers = Collections.emptyList();
+        List<PodDNSConfigOption> options = Collections.emptyList();
+        List<String> searches = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, PodDNSConfig.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "nameservers":
+                    nameservers = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "options":
+                    options = Codecs.readList(parser, context, PodDNSConfigOptionCodec::read);
+                    break;
+                case "searches":
+                    searches = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new PodDNSConfig(nameservers, options, searches);
+        } catch (IllegalArgumentException e) {
+            return (PodDNSConfig) context.handleInstantiationProblem(PodDNSConfig.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link PodDNSConfig}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable PodDNSConfig value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("nameservers", value.getNameservers(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("options", value.getOptions(), PodDNSConfigOptionCodec::write, generator, provider);
+        Codecs.writeListField("searches", value.getSearches(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link PodReadinessGate} that read and write its fields without reflection.
+ */
+public final class PodReadinessGateCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link PodReadinessGate}
+     */
+    public static final JsonDeserializer<PodReadinessGate> DESERIALIZER = new StdDeserializer<PodReadinessGate>(PodReadinessGate.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public PodReadinessGate deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return PodReadinessGateCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link PodReadinessGate}
+     */
+    public static final JsonSerializer<PodReadinessGate> SERIALIZER = new StdSerializer<PodReadinessGate>(PodReadinessGate.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(PodReadinessGate value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            PodReadinessGateCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private PodReadinessGateCodec() {
+    }
+
+    /**
+     * Compares two {@link PodReadinessGate}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable PodReadinessGate original, PodReadinessGate modified, Diff diff) {
+        diff.value("conditionType", original, modified, PodReadinessGate::getConditionType);
+    }
+
+    /**
+     * Reads a {@link PodReadinessGate}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link PodReadinessGate} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static PodReadinessGate read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String conditionType = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, PodReadinessGate.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "conditionType":
+                    conditionType = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new PodReadinessGate(conditionType);
+        } catch (IllegalArgumentException e) {
+            return (PodReadinessGate) context.handleInstantiationProblem(PodReadinessGate.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link PodReadinessGate}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable PodReadinessGate value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("conditionType", value.getConditionType(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link PodSecurityContext} that read and write its fields without reflection.
+ */
+public final class PodSecurityContextCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link PodSecurityContext}
+     */
+    public static final JsonDeserializer<PodSecurityContext> DESERIALIZER = new StdDeserializer<PodSecurityContext>(PodSecurityContext.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public PodSecurityContext deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return PodSecurityContextCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link PodSecurityContext}
+     */
+    public static final JsonSerializer<PodSecurityContext> SERIALIZER = new StdSerializer<PodSecurityContext>(PodSecurityContext.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(PodSecurityContext value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            PodSecurityContextCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private PodSecurityContextCodec() {
+    }
+
+    /**
+     * Compares two {@link PodSecurityContext}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable PodSecurityContext original, PodSecurityContext modified, Diff diff) {
+        diff.value("fsGroup", original, modified, PodSecurityContext::getFsGroup);
+        diff.value("fsGroupChangePolicy", original, modified, PodSecurityContext::getFsGroupChangePolicy);
+        diff.value("runAsGroup", original, modified, PodSecurityContext::getRunAsGroup);
+        diff.value("runAsNonRoot", original, modified, PodSecurityContext::getRunAsNonRoot);
+        diff.value("runAsUser", original, modified, PodSecurityContext::getRunAsUser);
+        diff.object("seLinuxOptions", original, modified, PodSecurityContext::getSeLinuxOptions, SELinuxOptionsCodec::diff);
+        diff.object("seccompProfile", original, modified, PodSecurityContext::getSeccompProfile, SeccompProfileCodec::diff);
+        diff.value("supplementalGroups", original, modified, PodSecurityContext::getSupplementalGroups);
+        diff.value("sysctls", original, modified, PodSecurityContext::getSysctls);
+        diff.object("windowsOptions", original, modified, PodSecurityContext::getWindowsOptions, WindowsSecurityContextOptionsCodec::diff);
+    }
+
+    /**
+     * Reads a {@link PodSecurityContext}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link PodSecurityContext} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static PodSecurityContext read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Long fsGroup = null;
+        String fsGroupChangePolicy = null;
+        Long runAsGroup = null;
+        Boolean runAsNonRoot = null;
+        Long runAsUser = null;
+        SELinuxOptions seLinuxOptions = null;
+        SeccompProfile seccompProfile = null;
+        List<Long> supplementalGroups = Collections.emptyList();
+        List<Sysctl> sysctls = Collections.emptyList();
+        WindowsSecurityContextOptions windowsOptions = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, PodSecurityContext.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "fsGroup":
+                    fsGroup = Codecs.readLong(parser, context);
+                    break;
+                case "fsGroupChangePolicy":
+                    fsGroupChangePolicy = Codecs.readString(parser, context);
+                    break;
+                case "runAsGroup":
+                    runAsGroup = Codecs.readLong(parser, context);
+                    break;
+                case "runAsNonRoot":
+                    runAsNonRoot = Codecs.readBoolean(parser, context);
+                    break;
+                case "runAsUser":
+                    runAsUser = Codecs.readLong(parser, context);
+                    break;
+                case "seLinuxOptions":
+                    seLinuxOptions = SELinuxOptionsCodec.read(parser, context);
+                    break;
+                case "seccompProfile":
+                    seccompProfile = SeccompProfileCodec.read(parser, context);
+                    break;
+                case "supplementalGroups":
+                    supplementalGroups = Codecs.readList(parser, context, Codecs::readLong);
+                    break;
+                case "sysctls":
+                    sysctls = Codecs.readList(parser, context, SysctlCodec::read);
+                    break;
+                case "windowsOptions":
+                    windowsOptions = WindowsSecurityContextOptionsCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new PodSecurityContext(fsGroup, fsGroupChangePolicy, runAsGroup, runAsNonRoot, runAsUser, seLinuxOptions, seccompProfile, supplementalGroups, sysctls, windowsOptions);
+        } catch (IllegalArgumentException e) {
+            return (PodSecurityContext) context.handleInstantiationProblem(PodSecurityContext.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link PodSecurityContext}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable PodSecurityContext value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("fsGroup", value.getFsGroup(), Codecs::writeLong, generator, provider);
+        Codecs.writeField("fsGroupChangePolicy", value.getFsGroupChangePolicy(), Codecs::writeString, generator, provider);
+        Codecs.writeField("runAsGroup", value.getRunAsGroup(), Codecs::writeLong, generator, provider);
+        Codecs.writeField("runAsNonRoot", value.getRunAsNonRoot(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("runAsUser", value.getRunAsUser(), Codecs::writeLong, generator, provider);
+        Codecs.writeField("seLinuxOptions", value.getSeLinuxOptions(), SELinuxOptionsCodec::write, generator, provider);
+        Codecs.writeField("seccompProfile", value.getSeccompProfile(), SeccompProfileCodec::write, generator, provider);
+        Codecs.writeListField("supplementalGroups", value.getSupplementalGroups(), Codecs::writeLong, generator, provider);
+        Codecs.writeListField("sysctls", value.getSysctls(), SysctlCodec::write, generator, provider);
+        Codecs.writeField("windowsOptions", value.getWindowsOptions(), WindowsSecurityContextOptionsCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
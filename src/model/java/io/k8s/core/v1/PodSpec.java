@@ -16,6 +16,10 @@
 
 package io.k8s.core.v1;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.k8s.resource.Quantity;
+import io.k8s.type.PatchMergeKey;
+import io.k8s.type.PatchStrategy;
 import java.util.List;
 import java.util.Map;
 import lombok.Builder;
@@ -54,6 +58,8 @@ public class PodSpec {
      * one container in a Pod. Cannot be updated.
      */
     @NonNull
+    @PatchMergeKey("name")
+    @PatchStrategy("merge")
     @Singular
     List<Container> containers;
 
@@ -84,6 +90,8 @@ public class PodSpec {
      * EphemeralContainers feature.
      */
     @Nullable
+    @PatchMergeKey("name")
+    @PatchStrategy("merge")
     @Singular
     List<EphemeralContainer> ephemeralContainers;
 
@@ -92,6 +100,8 @@ public class PodSpec {
      * This is only valid for non-hostNetwork pods.
      */
     @Nullable
+    @PatchMergeKey("ip")
+    @PatchStrategy("merge")
     @Singular
     List<HostAlias> hostAliases;
 
@@ -127,6 +137,8 @@ public class PodSpec {
      * https://kubernetes.io/docs/concepts/containers/images#specifying-imagepullsecrets-on-a-pod
      */
     @Nullable
+    @PatchMergeKey("name")
+    @PatchStrategy("merge")
     @Singular
     List<LocalObjectReference> imagePullSecrets;
 
@@ -141,6 +153,8 @@ public class PodSpec {
      * or removed. Cannot be updated. More info: https://kubernetes.io/docs/concepts/workloads/pods/init-containers/
      */
     @Nullable
+    @PatchMergeKey("name")
+    @PatchStrategy("merge")
     @Singular
     List<Container> initContainers;
 
@@ -156,6 +170,7 @@ public class PodSpec {
      * labels for the pod to be scheduled on that node. More info:
      * https://kubernetes.io/docs/concepts/configuration/assign-pod-node/
      */
+    @JsonProperty("nodeSelector")
     @Nullable
     @Singular("nodeSelector")
     Map<String, String> nodeSelector;
@@ -170,9 +185,10 @@ public class PodSpec {
      * https://git.k8s.io/enhancements/keps/sig-node/20190226-pod-overhead.md This field is alpha-level as of Kubernetes
      * v1.16, and is only honored by servers that enable the PodOverhead feature.
      */
+    @JsonProperty("overhead")
     @Nullable
     @Singular("overhead")
-    Map<String, String> overhead;
+    Map<String, Quantity> overhead;
 
     /**
      * PreemptionPolicy is the Policy for preempting pods with lower priority. One of Never, PreemptLowerPriority.
@@ -289,6 +305,8 @@ public class PodSpec {
      * schedule pods in a way which abides by the constraints. All topologySpreadConstraints are ANDed.
      */
     @Nullable
+    @PatchMergeKey("topologyKey")
+    @PatchStrategy("merge")
     @Singular
     List<TopologySpreadConstraint> topologySpreadConstraints;
 
@@ -297,6 +315,8 @@ public class PodSpec {
      * https://kubernetes.io/docs/concepts/storage/volumes
      */
     @Nullable
+    @PatchMergeKey("name")
+    @PatchStrategy("merge,retainKeys")
     @Singular
     List<Volume> volumes;
 
@@ -0,0 +1,336 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.resource.Quantity;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link PodSpec} that read and write its fields without reflection.
+ */
+public final class PodSpecCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link PodSpec}
+     */
+    public static final JsonDeserializer<PodSpec> DESERIALIZER = new StdDeserializer<PodSpec>(PodSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public PodSpec deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return PodSpecCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link PodSpec}
+     */
+    public static final JsonSerializer<PodSpec> SERIALIZER = new StdSerializer<PodSpec>(PodSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(PodSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            PodSpecCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private PodSpecCodec() {
+    }
+
+    /**
+     * Compares two {@link PodSpec}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable PodSpec original, PodSpec modified, Diff diff) {
+        diff.value("activeDeadlineSeconds", original, modified, PodSpec::getActiveDeadlineSeconds);
+        diff.object("affinity", original, modified, PodSpec::getAffinity, AffinityCodec::diff);
+        diff.value("automountServiceAccountToken", original, modified, PodSpec::getAutomountServiceAccountToken);
+        diff.list("containers", original, modified, PodSpec::getContainers, "name", Container::getName, ContainerCodec::diff);
+        diff.object("dnsConfig", original, modified, PodSpec::getDnsConfig, PodDNSConfigCodec::diff);
+        diff.value("dnsPolicy", original, modified, PodSpec::getDnsPolicy);
+        diff.value("enableServiceLinks", original, modified, PodSpec::getEnableServiceLinks);
+        diff.list("ephemeralContainers", original, modified, PodSpec::getEphemeralContainers, "name", EphemeralContainer::getName, EphemeralContainerCodec::diff);
+        diff.list("hostAliases", original, modified, PodSpec::getHostAliases, "ip", HostAlias::getIp, HostAliasCodec::diff);
+        diff.value("hostIPC", original, modified, PodSpec::getHostIPC);
+        diff.value("hostNetwork", original, modified, PodSpec::getHostNetwork);
+        diff.value("hostPID", original, modified, PodSpec::getHostPID);
+        diff.value("hostname", original, modified, PodSpec::getHostname);
+        diff.list("imagePullSecrets", original, modified, PodSpec::getImagePullSecrets, "name", LocalObjectReference::getName, LocalObjectReferenceCodec::diff);
+        diff.list("initContainers", original, modified, PodSpec::getInitContainers, "name", Container::getName, ContainerCodec::diff);
+        diff.value("nodeName", original, modified, PodSpec::getNodeName);
+        diff.map("nodeSelector", original, modified, PodSpec::getNodeSelector);
+        diff.map("overhead", original, modified, PodSpec::getOverhead);
+        diff.value("preemptionPolicy", original, modified, PodSpec::getPreemptionPolicy);
+        diff.value("priority", original, modified, PodSpec::getPriority);
+        diff.value("priorityClassName", original, modified, PodSpec::getPriorityClassName);
+        diff.value("readinessGates", original, modified, PodSpec::getReadinessGates);
+        diff.value("restartPolicy", original, modified, PodSpec::getRestartPolicy);
+        diff.value("runtimeClassName", original, modified, PodSpec::getRuntimeClassName);
+        diff.value("schedulerName", original, modified, PodSpec::getSchedulerName);
+        diff.object("securityContext", original, modified, PodSpec::getSecurityContext, PodSecurityContextCodec::diff);
+        diff.value("serviceAccountName", original, modified, PodSpec::getServiceAccountName);
+        diff.value("setHostnameAsFQDN", original, modified, PodSpec::getSetHostnameAsFQDN);
+        diff.value("shareProcessNamespace", original, modified, PodSpec::getShareProcessNamespace);
+        diff.value("subdomain", original, modified, PodSpec::getSubdomain);
+        diff.value("terminationGracePeriodSeconds", original, modified, PodSpec::getTerminationGracePeriodSeconds);
+        diff.value("tolerations", original, modified, PodSpec::getTolerations);
+        diff.list("topologySpreadConstraints", original, modified, PodSpec::getTopologySpreadConstraints, "topologyKey", TopologySpreadConstraint::getTopologyKey, TopologySpreadConstraintCodec::diff);
+        diff.list("volumes", original, modified, PodSpec::getVolumes, "name", Volume::getName, Diff.retainKeys(VolumeCodec::diff));
+    }
+
+    /**
+     * Reads a {@link PodSpec}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link PodSpec} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static PodSpec read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Long activeDeadlineSeconds = null;
+        Affinity affinity = null;
+        Boolean automountServiceAccountToken = null;
+        List<Container> containers = Collections.emptyList();
+        PodDNSConfig dnsConfig = null;
+        String dnsPolicy = null;
+        Boolean enableServiceLinks = null;
+        List<EphemeralContainer> ephemeralContainers = Collections.emptyList();
+        List<HostAlias> hostAliases = Collections.emptyList();
+        Boolean hostIPC = null;
+        Boolean hostNetwork = null;
+        Boolean hostPID = null;
+        String hostname = null;
+        List<LocalObjectReference> imagePullSecrets = Collections.emptyList();
+        List<Container> initContainers = Collections.emptyList();
+        String nodeName = null;
+        Map<String, String> nodeSelector = Collections.emptyMap();
+        Map<String, Quantity> overhead = Collections.emptyMap();
+        String preemptionPolicy = null;
+        Integer priority = null;
+        String priorityClassName = null;
+        List<PodReadinessGate> readinessGates = Collections.emptyList();
+        String restartPolicy = null;
+        String runtimeClassName = null;
+        String schedulerName = null;
+        PodSecurityContext securityContext = null;
+        String serviceAccountName = null;
+        Boolean setHostnameAsFQDN = null;
+        Boolean shareProcessNamespace = null;
+        String subdomain = null;
+        Long terminationGracePeriodSeconds = null;
+        List<Toleration> tolerations = Collections.emptyList();
+        List<TopologySpreadConstraint> topologySpreadConstraints = Collections.emptyList();
+        List<Volume> volumes = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, PodSpec.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "activeDeadlineSeconds":
+                    activeDeadlineSeconds = Codecs.readLong(parser, context);
+                    break;
+                case "affinity":
+                    affinity = AffinityCodec.read(parser, context);
+                    break;
+                case "automountServiceAccountToken":
+                    automountServiceAccountToken = Codecs.readBoolean(parser, context);
+                    break;
+                case "containers":
+                    containers = Codecs.readList(parser, context, ContainerCodec::read);
+                    break;
+                case "dnsConfig":
+                    dnsConfig = PodDNSConfigCodec.read(parser, context);
+                    break;
+                case "dnsPolicy":
+                    dnsPolicy = Codecs.readInternedString(parser, context);
+                    break;
+                case "enableServiceLinks":
+                    enableServiceLinks = Codecs.readBoolean(parser, context);
+                    break;
+                case "ephemeralContainers":
+                    ephemeralContainers = Codecs.readList(parser, context, EphemeralContainerCodec::read);
+                    break;
+                case "hostAliases":
+                    hostAliases = Codecs.readList(parser, context, HostAliasCodec::read);
+                    break;
+                case "hostIPC":
+                    hostIPC = Codecs.readBoolean(parser, context);
+                    break;
+                case "hostNetwork":
+                    hostNetwork = Codecs.readBoolean(parser, context);
+                    break;
+                case "hostPID":
+                    hostPID = Codecs.readBoolean(parser, context);
+                    break;
+                case "hostname":
+                    hostname = Codecs.readString(parser, context);
+                    break;
+                case "imagePullSecrets":
+                    imagePullSecrets = Codecs.readList(parser, context, LocalObjectReferenceCodec::read);
+                    break;
+                case "initContainers":
+                    initContainers = Codecs.readList(parser, context, ContainerCodec::read);
+                    break;
+                case "nodeName":
+                    nodeName = Codecs.readInternedString(parser, context);
+                    break;
+                case "nodeSelector":
+                    nodeSelector = Codecs.readMap(parser, context, Codecs::readInternedString);
+                    break;
+                case "overhead":
+                    overhead = Codecs.readMap(parser, context, Codecs::readQuantity);
+                    break;
+                case "preemptionPolicy":
+                    preemptionPolicy = Codecs.readString(parser, context);
+                    break;
+                case "priority":
+                    priority = Codecs.readInteger(parser, context);
+                    break;
+                case "priorityClassName":
+                    priorityClassName = Codecs.readInternedString(parser, context);
+                    break;
+                case "readinessGates":
+                    readinessGates = Codecs.readList(parser, context, PodReadinessGateCodec::read);
+                    break;
+                case "restartPolicy":
+                    restartPolicy = Codecs.readInternedString(parser, context);
+                    break;
+                case "runtimeClassName":
+                    runtimeClassName = Codecs.readString(parser, context);
+                    break;
+                case "schedulerName":
+                    schedulerName = Codecs.readInternedString(parser, context);
+                    break;
+                case "securityContext":
+                    securityContext = PodSecurityContextCodec.read(parser, context);
+                    break;
+                case "serviceAccountName":
+                    serviceAccountName = Codecs.readInternedString(parser, context);
+                    break;
+                case "setHostnameAsFQDN":
+                    setHostnameAsFQDN = Codecs.readBoolean(parser, context);
+                    break;
+                case "shareProcessNamespace":
+                    shareProcessNamespace = Codecs.readBoolean(parser, context);
+                    break;
+                case "subdomain":
+                    subdomain = Codecs.readString(parser, context);
+                    break;
+                case "terminationGracePeriodSeconds":
+                    terminationGracePeriodSeconds = Codecs.readLong(parser, context);
+                    break;
+                case "tolerations":
+                    tolerations = Codecs.readList(parser, context, TolerationCodec::read);
+                    break;
+                case "topologySpreadConstraints":
+                    topologySpreadConstraints = Codecs.readList(parser, context, TopologySpreadConstraintCodec::read);
+                    break;
+                case "volumes":
+                    volumes = Codecs.readList(parser, context, VolumeCodec::read);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new PodSpec(activeDeadlineSeconds, affinity, automountServiceAccountToken, containers, dnsConfig, dnsPolicy, enableServiceLinks, ephemeralContainers, hostAliases, hostIPC, hostNetwork, hostPID, hostname, imagePullSecrets, initContainers, nodeName, nodeSelector, overhead, preemptionPolicy, priority, priorityClassName, readinessGates, restartPolicy, runtimeClassName, schedulerName, securityContext, serviceAccountName, setHostnameAsFQDN, shareProcessNamespace, subdomain, terminationGracePeriodSeconds, tolerations, topologySpreadConstraints, volumes);
+        } catch (IllegalArgumentException e) {
+            return (PodSpec) context.handleInstantiationProblem(PodSpec.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link PodSpec}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable PodSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("activeDeadlineSeconds", value.getActiveDeadlineSeconds(), Codecs::writeLong, generator, provider);
+        Codecs.writeField("affinity", value.getAffinity(), AffinityCodec::write, generator, provider);
+        Codecs.writeField("automountServiceAccountToken", value.getAutomountServiceAccountToken(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeListField("containers", value.getContainers(), ContainerCodec::write, generator, provider);
+        Codecs.writeField("dnsConfig", value.getDnsConfig(), PodDNSConfigCodec::write, generator, provider);
+        Codecs.writeField("dnsPolicy", value.getDnsPolicy(), Codecs::writeString, generator, provider);
+        Codecs.writeField("enableServiceLinks", value.getEnableServiceLinks(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeListField("ephemeralContainers", value.getEphemeralContainers(), EphemeralContainerCodec::write, generator, provider);
+        Codecs.writeListField("hostAliases", value.getHostAliases(), HostAliasCodec::write, generator, provider);
+        Codecs.writeField("hostIPC", value.getHostIPC(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("hostNetwork", value.getHostNetwork(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("hostPID", value.getHostPID(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("hostname", value.getHostname(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("imagePullSecrets", value.getImagePullSecrets(), LocalObjectReferenceCodec::write, generator, provider);
+        Codecs.writeListField("initContainers", value.getInitContainers(), ContainerCodec::write, generator, provider);
+        Codecs.writeField("nodeName", value.getNodeName(), Codecs::writeString, generator, provider);
+        Codecs.writeMapField("nodeSelector", value.getNodeSelector(), Codecs::writeString, generator, provider);
+        Codecs.writeMapField("overhead", value.getOverhead(), Codecs::writeQuantity, generator, provider);
+        Codecs.writeField("preemptionPolicy", value.getPreemptionPolicy(), Codecs::writeString, generator, provider);
+        Codecs.writeField("priority", value.getPriority(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("priorityClassName", value.getPriorityClassName(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("readinessGates", value.getReadinessGates(), PodReadinessGateCodec::write, generator, provider);
+        Codecs.writeField("restartPolicy", value.getRestartPolicy(), Codecs::writeString, generator, provider);
+        Codecs.writeField("runtimeClassName", value.getRuntimeClassName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("schedulerName", value.getSchedulerName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("securityContext", value.getSecurityContext(), PodSecurityContextCodec::write, generator, provider);
+        Codecs.writeField("serviceAccountName", value.getServiceAccountName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("setHostnameAsFQDN", value.getSetHostnameAsFQDN(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("shareProcessNamespace", value.getShareProcessNamespace(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("subdomain", value.getSubdomain(), Codecs::writeString, generator, provider);
+        Codecs.writeField("terminationGracePeriodSeconds", value.getTerminationGracePeriodSeconds(), Codecs::writeLong, generator, provider);
+        Codecs.writeListField("tolerations", value.getTolerations(), TolerationCodec::write, generator, provider);
+        Codecs.writeListField("topologySpreadConstraints", value.getTopologySpreadConstraints(), TopologySpreadConstraintCodec::write, generator, provider);
+        Codecs.writeListField("volumes", value.getVolumes(), VolumeCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -16,6 +16,8 @@
 
 package io.k8s.core.v1;
 
+import io.k8s.type.PatchMergeKey;
+import io.k8s.type.PatchStrategy;
 import java.time.OffsetDateTime;
 import java.util.List;
 import lombok.Builder;
@@ -38,6 +40,8 @@ public class PodStatus {
      * https://kubernetes.io/docs/concepts/workloads/pods/pod-lifecycle#pod-conditions
      */
     @Nullable
+    @PatchMergeKey("type")
+    @PatchStrategy("merge")
     @Singular
     List<PodCondition> conditions;
 
@@ -120,6 +124,8 @@ public class PodStatus {
      * been allocated yet.
      */
     @Nullable
+    @PatchMergeKey("ip")
+    @PatchStrategy("merge")
     @Singular
     List<PodIP> podIPs;
 
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link PodStatus} that read and write its fields without reflection.
+ */
+public final class PodStatusCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link PodStatus}
+     */
+    public static final JsonDeserializer<PodStatus> DESERIALIZER = new StdDeserializer<PodStatus>(PodStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public PodStatus deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return PodStatusCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link PodStatus}
+     */
+    public static final JsonSerializer<PodStatus> SERIALIZER = new StdSerializer<PodStatus>(PodStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(PodStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            PodStatusCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private PodStatusCodec() {
+    }
+
+    /**
+     * Compares two {@link PodStatus}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable PodStatus original, PodStatus modified, Diff diff) {
+        diff.list("conditions", original, modified, PodStatus::getConditions, "type", PodCondition::getType, PodConditionCodec::diff);
+        diff.value("containerStatuses", original, modified, PodStatus::getContainerStatuses);
+        diff.value("ephemeralContainerStatuses", original, modified, PodStatus::getEphemeralContainerStatuses);
+        diff.value("hostIP", original, modified, PodStatus::getHostIP);
+        diff.value("initContainerStatuses", original, modified, PodStatus::getInitContainerStatuses);
+        diff.value("message", original, modified, PodStatus::getMessage);
+        diff.value("nominatedNodeName", original, modified, PodStatus::getNominatedNodeName);
+        diff.value("phase", original, modified, PodStatus::getPhase);
+        diff.value("podIP", original, modified, PodStatus::getPodIP);
+        diff.list("podIPs", original, modified, PodStatus::getPodIPs, "ip", PodIP::getIp, PodIPCodec::diff);
+        diff.value("qosClass", original, modified, PodStatus::getQosClass);
+        diff.value("reason", original, modified, PodStatus::getReason);
+        diff.value("startTime", original, modified, PodStatus::getStartTime);
+    }
+
+    /**
+     * Reads a {@link PodStatus}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link PodStatus} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static PodStatus read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<PodCondition> conditions = Collections.emptyList();
+        List<ContainerStatus> containerStatuses = Collections.emptyList();
+        List<ContainerStatus> ephemeralContainerStatuses = Collections.emptyList();
+        String hostIP = null;
+        List<ContainerStatus> initContainerStatuses = Collections.emptyList();
+        String message = null;
+        String nominatedNodeName = null;
+        String phase = null;
+        String podIP = null;
+        List<PodIP> podIPs = Collections.emptyList();
+        String qosClass = null;
+        String reason = null;
+        OffsetDateTime startTime = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, PodStatus.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "conditions":
+                    conditions = Codecs.readList(parser, context, PodConditionCodec::read);
+                    break;
+                case "containerStatuses":
+                    containerStatuses = Codecs.readList(parser, context, ContainerStatusCodec::read);
+                    break;
+                case "ephemeralContainerStatuses":
+                    ephemeralContainerStatuses = Codecs.readList(parser, context, ContainerStatusCodec::read);
+                    break;
+                case "hostIP":
+                    hostIP = Codecs.readInternedString(parser, context);
+                    break;
+                case "initContainerStatuses":
+                    initContainerStatuses = Codecs.readList(parser, context, ContainerStatusCodec::read);
+                    break;
+                case "message":
+                    message = Codecs.readString(parser, context);
+                    break;
+                case "nominatedNodeName":
+                    nominatedNodeName = Codecs.readString(parser, context);
+                    break;
+                case "phase":
+                    phase = Codecs.readInternedString(parser, context);
+                    break;
+                case "podIP":
+                    podIP = Codecs.readString(parser, context);
+                    break;
+                case "podIPs":
+                    podIPs = Codecs.readList(parser, context, PodIPCodec::read);
+                    break;
+                case "qosClass":
+                    qosClass = Codecs.readInternedString(parser, context);
+                    break;
+                case "reason":
+                    reason = Codecs.readInternedString(parser, context);
+                    break;
+                case "startTime":
+                    startTime = Codecs.readDateTime(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new PodStatus(conditions, containerStatuses, ephemeralContainerStatuses, hostIP, initContainerStatuses, message, nominatedNodeName, phase, podIP, podIPs, qosClass, reason, startTime);
+        } catch (IllegalArgumentException e) {
+            return (PodStatus) context.handleInstantiationProblem(PodStatus.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link PodStatus}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable PodStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("conditions", value.getConditions(), PodConditionCodec::write, generator, provider);
+        Codecs.writeListField("containerStatuses", value.getContainerStatuses(), ContainerStatusCodec::write, generator, provider);
+        Codecs.writeListField("ephemeralContainerStatuses", value.getEphemeralContainerStatuses(), ContainerStatusCodec::write, generator, provider);
+        Codecs.writeField("hostIP", value.getHostIP(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("initContainerStatuses", value.getInitContainerStatuses(), ContainerStatusCodec::write, generator, provider);
+        Codecs.writeField("message", value.getMessage(), Codecs::writeString, generator, provider);
+        Codecs.writeField("nominatedNodeName", value.getNominatedNodeName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("phase", value.getPhase(), Codecs::writeString, generator, provider);
+        Codecs.writeField("podIP", value.getPodIP(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("podIPs", value.getPodIPs(), PodIPCodec::write, generator, provider);
+        Codecs.writeField("qosClass", value.getQosClass(), Codecs::writeString, generator, provider);
+        Codecs.writeField("reason", value.getReason(), Codecs::writeString, generator, provider);
+        Codecs.writeField("startTime", value.getStartTime(), Codecs::writeDateTime, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link PreferredSchedulingTerm} that read and write its fields without reflection.
+ */
+public final class PreferredSchedulingTermCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link PreferredSchedulingTerm}
+     */
+    public static final JsonDeserializer<PreferredSchedulingTerm> DESERIALIZER = new StdDeserializer<PreferredSchedulingTerm>(PreferredSchedulingTerm.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public PreferredSchedulingTerm deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return PreferredSchedulingTermCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link PreferredSchedulingTerm}
+     */
+    public static final JsonSerializer<PreferredSchedulingTerm> SERIALIZER = new StdSerializer<PreferredSchedulingTerm>(PreferredSchedulingTerm.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(PreferredSchedulingTerm value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            PreferredSchedulingTermCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private PreferredSchedulingTermCodec() {
+    }
+
+    /**
+     * Compares two {@link PreferredSchedulingTerm}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable PreferredSchedulingTerm original, PreferredSchedulingTerm modified, Diff diff) {
+        diff.object("preference", original, modified, PreferredSchedulingTerm::getPreference, NodeSelectorTermCodec::diff);
+        diff.value("weight", original, modified, PreferredSchedulingTerm::getWeight);
+    }
+
+    /**
+     * Reads a {@link PreferredSchedulingTerm}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link PreferredSchedulingTerm} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static PreferredSchedulingTerm read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        NodeSelectorTerm preference = null;
+        Integer weight = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, PreferredSchedulingTerm.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "preference":
+                    preference = NodeSelectorTermCodec.read(parser, context);
+                    break;
+                case "weight":
+                    weight = Codecs.readInteger(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new PreferredSchedulingTerm(preference, weight);
+        } catch (IllegalArgumentException e) {
+            return (PreferredSchedulingTerm) context.handleInstantiationProblem(PreferredSchedulingTerm.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link PreferredSchedulingTerm}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable PreferredSchedulingTerm value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("preference", value.getPreference(), NodeSelectorTermCodec::write, generator, provider);
+        Codecs.writeField("weight", value.getWeight(), Codecs::writeInteger, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
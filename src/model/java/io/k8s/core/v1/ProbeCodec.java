@@ -0,0 +1,176 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link Probe} that read and write its fields without reflection.
+ */
+public final class ProbeCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link Probe}
+     */
+    public static final JsonDeserializer<Probe> DESERIALIZER = new StdDeserializer<Probe>(Probe.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Probe deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ProbeCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link Probe}
+     */
+    public static final JsonSerializer<Probe> SERIALIZER = new StdSerializer<Probe>(Probe.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(Probe value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ProbeCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ProbeCodec() {
+    }
+
+    /**
+     * Compares two {@link Probe}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable Probe original, Probe modified, Diff diff) {
+        diff.object("exec", original, modified, Probe::getExec, ExecActionCodec::diff);
+        diff.value("failureThreshold", original, modified, Probe::getFailureThreshold);
+        diff.object("httpGet", original, modified, Probe::getHttpGet, HTTPGetActionCodec::diff);
+        diff.value("initialDelaySeconds", original, modified, Probe::getInitialDelaySeconds);
+        diff.value("periodSeconds", original, modified, Probe::getPeriodSeconds);
+        diff.value("successThreshold", original, modified, Probe::getSuccessThreshold);
+        diff.object("tcpSocket", original, modified, Probe::getTcpSocket, TCPSocketActionCodec::diff);
+        diff.value("timeoutSeconds", original, modified, Probe::getTimeoutSeconds);
+    }
+
+    /**
+     * Reads a {@link Probe}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link Probe} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static Probe read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        ExecAction exec = null;
+        Integer failureThreshold = null;
+        HTTPGetAction httpGet = null;
+        Integer initialDelaySeconds = null;
+        Integer periodSeconds = null;
+        Integer successThreshold = null;
+        TCPSocketAction tcpSocket = null;
+        Integer timeoutSeconds = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, Probe.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "exec":
+                    exec = ExecActionCodec.read(parser, context);
+                    break;
+                case "failureThreshold":
+                    failureThreshold = Codecs.readInteger(parser, context);
+                    break;
+                case "httpGet":
+                    httpGet = HTTPGetActionCodec.read(parser, context);
+                    break;
+                case "initialDelaySeconds":
+                    initialDelaySeconds = Codecs.readInteger(parser, context);
+                    break;
+                case "periodSeconds":
+                    periodSeconds = Codecs.readInteger(parser, context);
+                    break;
+                case "successThreshold":
+                    successThreshold = Codecs.readInteger(parser, context);
+                    break;
+                case "tcpSocket":
+                    tcpSocket = TCPSocketActionCodec.read(parser, context);
+                    break;
+                case "timeoutSeconds":
+                    timeoutSeconds = Codecs.readInteger(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new Probe(exec, failureThreshold, httpGet, initialDelaySeconds, periodSeconds, successThreshold, tcpSocket, timeoutSeconds);
+        } catch (IllegalArgumentException e) {
+            return (Probe) context.handleInstantiationProblem(Probe.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link Probe}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable Probe value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("exec", value.getExec(), ExecActionCodec::write, generator, provider);
+        Codecs.writeField("failureThreshold", value.getFailureThreshold(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("httpGet", value.getHttpGet(), HTTPGetActionCodec::write, generator, provider);
+        Codecs.writeField("initialDelaySeconds", value.getInitialDelaySeconds(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("periodSeconds", value.getPeriodSeconds(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("successThreshold", value.getSuccessThreshold(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("tcpSocket", value.getTcpSocket(), TCPSocketActionCodec::write, generator, provider);
+        Codecs.writeField("timeoutSeconds", value.getTimeoutSeconds(), Codecs::writeInteger, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link QuobyteVolumeSource} that read and write its fields without reflection.
+ */
+public final class QuobyteVolumeSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link QuobyteVolumeSource}
+     */
+    public static final JsonDeserializer<QuobyteVolumeSource> DESERIALIZER = new StdDeserializer<QuobyteVolumeSource>(QuobyteVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public QuobyteVolumeSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return QuobyteVolumeSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link QuobyteVolumeSource}
+     */
+    public static final JsonSerializer<QuobyteVolumeSource> SERIALIZER = new StdSerializer<QuobyteVolumeSource>(QuobyteVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(QuobyteVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            QuobyteVolumeSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private QuobyteVolumeSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link QuobyteVolumeSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable QuobyteVolumeSource original, QuobyteVolumeSource modified, Diff diff) {
+        diff.value("group", original, modified, QuobyteVolumeSource::getGroup);
+        diff.value("readOnly", original, modified, QuobyteVolumeSource::getReadOnly);
+        diff.value("registry", original, modified, QuobyteVolumeSource::getRegistry);
+        diff.value("tenant", original, modified, QuobyteVolumeSource::getTenant);
+        diff.value("user", original, modified, QuobyteVolumeSource::getUser);
+        diff.value("volume", original, modified, QuobyteVolumeSource::getVolume);
+    }
+
+    /**
+     * Reads a {@link QuobyteVolumeSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link QuobyteVolumeSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static QuobyteVolumeSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String group = null;
+        Boolean readOnly = null;
+        String registry = null;
+        String tenant = null;
+        String user = null;
+        String volume = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, QuobyteVolumeSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "group":
+                    group = Codecs.readString(parser, context);
+                    break;
+                case "readOnly":
+                    readOnly = Codecs.readBoolean(parser, context);
+                    break;
+                case "registry":
+                    registry = Codecs.readString(parser, context);
+                    break;
+                case "tenant":
+                    tenant = Codecs.readString(parser, context);
+                    break;
+                case "user":
+                    user = Codecs.readString(parser, context);
+                    break;
+                case "volume":
+                    volume = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new QuobyteVolumeSource(group, readOnly, registry, tenant, user, volume);
+        } catch (IllegalArgumentException e) {
+            return (QuobyteVolumeSource) context.handleInstantiationProblem(QuobyteVolumeSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link QuobyteVolumeSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable QuobyteVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("group", value.getGroup(), Codecs::writeString, generator, provider);
+        Codecs.writeField("readOnly", value.getReadOnly(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("registry", value.getRegistry(), Codecs::writeString, generator, provider);
+        Codecs.writeField("tenant", value.getTenant(), Codecs::writeString, generator, provider);
+        Codecs.writeField("user", value.getUser(), Codecs::writeString, generator, provider);
+        Codecs.writeField("volume", value.getVolume(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
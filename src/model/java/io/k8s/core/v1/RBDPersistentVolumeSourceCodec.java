@@ -0,0 +1,178 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link RBDPersistentVolumeSource} that read and write its fields without reflection.
+ */
+public final class RBDPersistentVolumeSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link RBDPersistentVolumeSource}
+     */
+    public static final JsonDeserializer<RBDPersistentVolumeSource> DESERIALIZER = new StdDeserializer<RBDPersistentVolumeSource>(RBDPersistentVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public RBDPersistentVolumeSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return RBDPersistentVolumeSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link RBDPersistentVolumeSource}
+     */
+    public static final JsonSerializer<RBDPersistentVolumeSource> SERIALIZER = new StdSerializer<RBDPersistentVolumeSource>(RBDPersistentVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(RBDPersistentVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            RBDPersistentVolumeSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private RBDPersistentVolumeSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link RBDPersistentVolumeSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable RBDPersistentVolumeSource original, RBDPersistentVolumeSource modified, Diff diff) {
+        diff.value("fsType", original, modified, RBDPersistentVolumeSource::getFsType);
+        diff.value("image", original, modified, RBDPersistentVolumeSource::getImage);
+        diff.value("keyring", original, modified, RBDPersistentVolumeSource::getKeyring);
+        diff.value("monitors", original, modified, RBDPersistentVolumeSource::getMonitors);
+        diff.value("pool", original, modified, RBDPersistentVolumeSource::getPool);
+        diff.value("readOnly", original, modified, RBDPersistentVolumeSource::getReadOnly);
+        diff.object("secretRef", original, modified, RBDPersistentVolumeSource::getSecretRef, SecretReferenceCodec::diff);
+        diff.value("user", original, modified, RBDPersistentVolumeSource::getUser);
+    }
+
+    /**
+     * Reads a {@link RBDPersistentVolumeSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link RBDPersistentVolumeSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static RBDPersistentVolumeSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String fsType = null;
+        String image = null;
+        String keyring = null;
+        List<String> monitors = Collections.emptyList();
+        String pool = null;
+        Boolean readOnly = null;
+        SecretReference secretRef = null;
+        String user = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, RBDPersistentVolumeSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "fsType":
+                    fsType = Codecs.readString(parser, context);
+                    break;
+                case "image":
+                    image = Codecs.readInternedString(parser, context);
+                    break;
+                case "keyring":
+                    keyring = Codecs.readString(parser, context);
+                    break;
+                case "monitors":
+                    monitors = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "pool":
+                    pool = Codecs.readString(parser, context);
+                    break;
+                case "readOnly":
+                    readOnly = Codecs.readBoolean(parser, context);
+                    break;
+                case "secretRef":
+                    secretRef = SecretReferenceCodec.read(parser, context);
+                    break;
+                case "user":
+                    user = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new RBDPersistentVolumeSource(fsType, image, keyring, monitors, pool, readOnly, secretRef, user);
+        } catch (IllegalArgumentException e) {
+            return (RBDPersistentVolumeSource) context.handleInstantiationProblem(RBDPersistentVolumeSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link RBDPersistentVolumeSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable RBDPersistentVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("fsType", value.getFsType(), Codecs::writeString, generator, provider);
+        Codecs.writeField("image", value.getImage(), Codecs::writeString, generator, provider);
+        Codecs.writeField("keyring", value.getKeyring(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("monitors", value.getMonitors(), Codecs::writeString, generator, provider);
+        Codecs.writeField("pool", value.getPool(), Codecs::writeString, generator, provider);
+        Codecs.writeField("readOnly", value.getReadOnly(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("secretRef", value.getSecretRef(), SecretReferenceCodec::write, generator, provider);
+        Codecs.writeField("user", value.getUser(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
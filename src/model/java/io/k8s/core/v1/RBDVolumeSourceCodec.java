@@ -0,0 +1,178 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link RBDVolumeSource} that read and write its fields without reflection.
+ */
+public final class RBDVolumeSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link RBDVolumeSource}
+     */
+    public static final JsonDeserializer<RBDVolumeSource> DESERIALIZER = new StdDeserializer<RBDVolumeSource>(RBDVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public RBDVolumeSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return RBDVolumeSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link RBDVolumeSource}
+     */
+    public static final JsonSerializer<RBDVolumeSource> SERIALIZER = new StdSerializer<RBDVolumeSource>(RBDVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(RBDVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            RBDVolumeSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private RBDVolumeSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link RBDVolumeSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable RBDVolumeSource original, RBDVolumeSource modified, Diff diff) {
+        diff.value("fsType", original, modified, RBDVolumeSource::getFsType);
+        diff.value("image", original, modified, RBDVolumeSource::getImage);
+        diff.value("keyring", original, modified, RBDVolumeSource::getKeyring);
+        diff.value("monitors", original, modified, RBDVolumeSource::getMonitors);
+        diff.value("pool", original, modified, RBDVolumeSource::getPool);
+        diff.value("readOnly", original, modified, RBDVolumeSource::getReadOnly);
+        diff.object("secretRef", original, modified, RBDVolumeSource::getSecretRef, LocalObjectReferenceCodec::diff);
+        diff.value("user", original, modified, RBDVolumeSource::getUser);
+    }
+
+    /**
+     * Reads a {@link RBDVolumeSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link RBDVolumeSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static RBDVolumeSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String fsType = null;
+        String image = null;
+        String keyring = null;
+        List<String> monitors = Collections.emptyList();
+        String pool = null;
+        Boolean readOnly = null;
+        LocalObjectReference secretRef = null;
+        String user = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, RBDVolumeSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "fsType":
+                    fsType = Codecs.readString(parser, context);
+                    break;
+                case "image":
+                    image = Codecs.readInternedString(parser, context);
+                    break;
+                case "keyring":
+                    keyring = Codecs.readString(parser, context);
+                    break;
+                case "monitors":
+                    monitors = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "pool":
+                    pool = Codecs.readString(parser, context);
+                    break;
+                case "readOnly":
+                    readOnly = Codecs.readBoolean(parser, context);
+                    break;
+                case "secretRef":
+                    secretRef = LocalObjectReferenceCodec.read(parser, context);
+                    break;
+                case "user":
+                    user = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new RBDVolumeSource(fsType, image, keyring, monitors, pool, readOnly, secretRef, user);
+        } catch (IllegalArgumentException e) {
+            return (RBDVolumeSource) context.handleInstantiationProblem(RBDVolumeSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link RBDVolumeSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable RBDVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("fsType", value.getFsType(), Codecs::writeString, generator, provider);
+        Codecs.writeField("image", value.getImage(), Codecs::writeString, generator, provider);
+        Codecs.writeField("keyring", value.getKeyring(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("monitors", value.getMonitors(), Codecs::writeString, generator, provider);
+        Codecs.writeField("pool", value.getPool(), Codecs::writeString, generator, provider);
+        Codecs.writeField("readOnly", value.getReadOnly(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("secretRef", value.getSecretRef(), LocalObjectReferenceCodec::write, generator, provider);
+        Codecs.writeField("user", value.getUser(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -16,6 +16,7 @@
 
 package io.k8s.core.v1;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.Map;
 import lombok.Builder;
 import lombok.Singular;
@@ -52,6 +53,7 @@ public class ReplicationControllerSpec {
      * this replication controller, if empty defaulted to labels on Pod template. More info:
      * https://kubernetes.io/docs/concepts/overview/working-with-objects/labels/#label-selectors
      */
+    @JsonProperty("selector")
     @Nullable
     @Singular("selector")
     Map<String, String> selector;
@@ -16,6 +16,8 @@
 
 package io.k8s.core.v1;
 
+import io.k8s.type.PatchMergeKey;
+import io.k8s.type.PatchStrategy;
 import java.util.List;
 import lombok.Builder;
 import lombok.Singular;
@@ -42,6 +44,8 @@ public class ReplicationControllerStatus {
      * Represents the latest available observations of a replication controller's current state.
      */
     @Nullable
+    @PatchMergeKey("type")
+    @PatchStrategy("merge")
     @Singular
     List<ReplicationControllerCondition> conditions;
 
@@ -16,6 +16,7 @@
 
 package io.k8s.core.v1;
 
+import io.k8s.resource.Quantity;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.jackson.Jacksonized;
@@ -37,7 +38,7 @@ public class ResourceFieldSelector {
     String containerName;
 
     @Nullable
-    String divisor;
+    Quantity divisor;
 
     /**
      * Required: resource to select
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.resource.Quantity;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ResourceFieldSelector} that read and write its fields without reflection.
+ */
+public final class ResourceFieldSelectorCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ResourceFieldSelector}
+     */
+    public static final JsonDeserializer<ResourceFieldSelector> DESERIALIZER = new StdDeserializer<ResourceFieldSelector>(ResourceFieldSelector.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ResourceFieldSelector deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ResourceFieldSelectorCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ResourceFieldSelector}
+     */
+    public static final JsonSerializer<ResourceFieldSelector> SERIALIZER = new StdSerializer<ResourceFieldSelector>(ResourceFieldSelector.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ResourceFieldSelector value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ResourceFieldSelectorCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ResourceFieldSelectorCodec() {
+    }
+
+    /**
+     * Compares two {@link ResourceFieldSelector}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ResourceFieldSelector original, ResourceFieldSelector modified, Diff diff) {
+        diff.value("containerName", original, modified, ResourceFieldSelector::getContainerName);
+        diff.value("divisor", original, modified, ResourceFieldSelector::getDivisor);
+        diff.value("resource", original, modified, ResourceFieldSelector::getResource);
+    }
+
+    /**
+     * Reads a {@link ResourceFieldSelector}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ResourceFieldSelector} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ResourceFieldSelector read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String containerName = null;
+        Quantity divisor = null;
+        String resource = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, ResourceFieldSelector.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "containerName":
+                    containerName = Codecs.readString(parser, context);
+                    break;
+                case "divisor":
+                    divisor = Codecs.readQuantity(parser, context);
+                    break;
+                case "resource":
+                    resource = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ResourceFieldSelector(containerName, divisor, resource);
+        } catch (IllegalArgumentException e) {
+            return (ResourceFieldSelector) context.handleInstantiationProblem(ResourceFieldSelector.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ResourceFieldSelector}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ResourceFieldSelector value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("containerName", value.getContainerName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("divisor", value.getDivisor(), Codecs::writeQuantity, generator, provider);
+        Codecs.writeField("resource", value.getResource(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
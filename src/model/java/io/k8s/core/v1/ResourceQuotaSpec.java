@@ -16,6 +16,8 @@
 
 package io.k8s.core.v1;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.k8s.resource.Quantity;
 import java.util.List;
 import java.util.Map;
 import lombok.Builder;
@@ -36,9 +38,10 @@ public class ResourceQuotaSpec {
      * hard is the set of desired hard limits for each named resource. More info:
      * https://kubernetes.io/docs/concepts/policy/resource-quotas/
      */
+    @JsonProperty("hard")
     @Nullable
     @Singular("hard")
-    Map<String, String> hard;
+    Map<String, Quantity> hard;
 
     @Nullable
     ScopeSelector scopeSelector;
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.resource.Quantity;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ResourceQuotaSpec} that read and write its fields without reflection.
+ */
+public final class ResourceQuotaSpecCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ResourceQuotaSpec}
+     */
+    public static final JsonDeserializer<ResourceQuotaSpec> DESERIALIZER = new StdDeserializer<ResourceQuotaSpec>(ResourceQuotaSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ResourceQuotaSpec deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ResourceQuotaSpecCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ResourceQuotaSpec}
+     */
+    public static final JsonSerializer<ResourceQuotaSpec> SERIALIZER = new StdSerializer<ResourceQuotaSpec>(ResourceQuotaSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ResourceQuotaSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ResourceQuotaSpecCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ResourceQuotaSpecCodec() {
+    }
+
+    /**
+     * Compares two {@link ResourceQuotaSpec}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ResourceQuotaSpec original, ResourceQuotaSpec modified, Diff diff) {
+        diff.map("hard", original, modified, ResourceQuotaSpec::getHard);
+        diff.object("scopeSelector", original, modified, ResourceQuotaSpec::getScopeSelector, ScopeSelectorCodec::diff);
+        diff.value("scopes", original, modified, ResourceQuotaSpec::getScopes);
+    }
+
+    /**
+     * Reads a {@link ResourceQuotaSpec}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ResourceQuotaSpec} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ResourceQuotaSpec read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Map<String, Quantity> hard = Collections.emptyMap();
+        ScopeSelector scopeSelector = null;
+        List<String> scopes = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, ResourceQuotaSpec.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "hard":
+                    hard = Codecs.readMap(parser, context, Codecs::readQuantity);
+                    break;
+                case "scopeSelector":
+                    scopeSelector = ScopeSelectorCodec.read(parser, context);
+                    break;
+                case "scopes":
+                    scopes = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ResourceQuotaSpec(hard, scopeSelector, scopes);
+        } catch (IllegalArgumentException e) {
+            return (ResourceQuotaSpec) context.handleInstantiationProblem(ResourceQuotaSpec.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ResourceQuotaSpec}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ResourceQuotaSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeMapField("hard", value.getHard(), Codecs::writeQuantity, generator, provider);
+        Codecs.writeField("scopeSelector", value.getScopeSelector(), ScopeSelectorCodec::write, generator, provider);
+        Codecs.writeListField("scopes", value.getScopes(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -16,6 +16,8 @@
 
 package io.k8s.core.v1;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.k8s.resource.Quantity;
 import java.util.Map;
 import lombok.Builder;
 import lombok.Singular;
@@ -35,15 +37,17 @@ public class ResourceQuotaStatus {
      * Hard is the set of enforced hard limits for each named resource. More info:
      * https://kubernetes.io/docs/concepts/policy/resource-quotas/
      */
+    @JsonProperty("hard")
     @Nullable
     @Singular("hard")
-    Map<String, String> hard;
+    Map<String, Quantity> hard;
 
     /**
      * Used is the current observed total usage of the resource in the namespace.
      */
+    @JsonProperty("used")
     @Nullable
     @Singular("used")
-    Map<String, String> used;
+    Map<String, Quantity> used;
 
 }
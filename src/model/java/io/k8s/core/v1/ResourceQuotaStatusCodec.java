@@ -0,0 +1,143 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.resource.Quantity;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ResourceQuotaStatus} that read and write its fields without reflection.
+ */
+public final class ResourceQuotaStatusCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ResourceQuotaStatus}
+     */
+    public static final JsonDeserializer<ResourceQuotaStatus> DESERIALIZER = new StdDeserializer<ResourceQuotaStatus>(ResourceQuotaStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ResourceQuotaStatus deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ResourceQuotaStatusCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ResourceQuotaStatus}
+     */
+    public static final JsonSerializer<ResourceQuotaStatus> SERIALIZER = new StdSerializer<ResourceQuotaStatus>(ResourceQuotaStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ResourceQuotaStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ResourceQuotaStatusCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ResourceQuotaStatusCodec() {
+    }
+
+    /**
+     * Compares two {@link ResourceQuotaStatus}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ResourceQuotaStatus original, ResourceQuotaStatus modified, Diff diff) {
+        diff.map("hard", original, modified, ResourceQuotaStatus::getHard);
+        diff.map("used", original, modified, ResourceQuotaStatus::getUsed);
+    }
+
+    /**
+     * Reads a {@link ResourceQuotaStatus}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ResourceQuotaStatus} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ResourceQuotaStatus read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Map<String, Quantity> hard = Collections.emptyMap();
+        Map<String, Quantity> used = Collections.emptyMap();
+
+        for (String fieldName = Codecs.startObject(parser, context, ResourceQuotaStatus.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "hard":
+                    hard = Codecs.readMap(parser, context, Codecs::readQuantity);
+                    break;
+                case "used":
+                    used = Codecs.readMap(parser, context, Codecs::readQuantity);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ResourceQuotaStatus(hard, used);
+        } catch (IllegalArgumentException e) {
+            return (ResourceQuotaStatus) context.handleInstantiationProblem(ResourceQuotaStatus.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ResourceQuotaStatus}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ResourceQuotaStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeMapField("hard", value.getHard(), Codecs::writeQuantity, generator, provider);
+        Codecs.writeMapField("used", value.getUsed(), Codecs::writeQuantity, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -16,6 +16,7 @@
 
 package io.k8s.core.v1;
 
+import io.k8s.resource.Quantity;
 import java.util.Map;
 import lombok.Builder;
 import lombok.Singular;
@@ -37,7 +38,7 @@ public class ResourceRequirements {
      */
     @Nullable
     @Singular
-    Map<String, String> limits;
+    Map<String, Quantity> limits;
 
     /**
      * Requests describes the minimum amount of compute resources required. If Requests is omitted for a container, it
@@ -46,6 +47,6 @@ public class ResourceRequirements {
      */
     @Nullable
     @Singular
-    Map<String, String> requests;
+    Map<String, Quantity> requests;
 
 }
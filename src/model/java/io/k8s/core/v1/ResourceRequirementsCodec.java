@@ -0,0 +1,143 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.resource.Quantity;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ResourceRequirements} that read and write its fields without reflection.
+ */
+public final class ResourceRequirementsCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ResourceRequirements}
+     */
+    public static final JsonDeserializer<ResourceRequirements> DESERIALIZER = new StdDeserializer<ResourceRequirements>(ResourceRequirements.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ResourceRequirements deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ResourceRequirementsCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ResourceRequirements}
+     */
+    public static final JsonSerializer<ResourceRequirements> SERIALIZER = new StdSerializer<ResourceRequirements>(ResourceRequirements.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ResourceRequirements value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ResourceRequirementsCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ResourceRequirementsCodec() {
+    }
+
+    /**
+     * Compares two {@link ResourceRequirements}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ResourceRequirements original, ResourceRequirements modified, Diff diff) {
+        diff.map("limits", original, modified, ResourceRequirements::getLimits);
+        diff.map("requests", original, modified, ResourceRequirements::getRequests);
+    }
+
+    /**
+     * Reads a {@link ResourceRequirements}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ResourceRequirements} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ResourceRequirements read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Map<String, Quantity> limits = Collections.emptyMap();
+        Map<String, Quantity> requests = Collections.emptyMap();
+
+        for (String fieldName = Codecs.startObject(parser, context, ResourceRequirements.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "limits":
+                    limits = Codecs.readMap(parser, context, Codecs::readQuantity);
+                    break;
+                case "requests":
+                    requests = Codecs.readMap(parser, context, Codecs::readQuantity);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ResourceRequirements(limits, requests);
+        } catch (IllegalArgumentException e) {
+            return (ResourceRequirements) context.handleInstantiationProblem(ResourceRequirements.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ResourceRequirements}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ResourceRequirements value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeMapField("limits", value.getLimits(), Codecs::writeQuantity, generator, provider);
+        Codecs.writeMapField("requests", value.getRequests(), Codecs::writeQuantity, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
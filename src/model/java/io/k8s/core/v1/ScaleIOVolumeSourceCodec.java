@@ -0,0 +1,188 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ScaleIOVolumeSource} that read and write its fields without reflection.
+ */
+public final class ScaleIOVolumeSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ScaleIOVolumeSource}
+     */
+    public static final JsonDeserializer<ScaleIOVolumeSource> DESERIALIZER = new StdDeserializer<ScaleIOVolumeSource>(ScaleIOVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ScaleIOVolumeSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ScaleIOVolumeSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ScaleIOVolumeSource}
+     */
+    public static final JsonSerializer<ScaleIOVolumeSource> SERIALIZER = new StdSerializer<ScaleIOVolumeSource>(ScaleIOVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ScaleIOVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ScaleIOVolumeSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ScaleIOVolumeSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link ScaleIOVolumeSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ScaleIOVolumeSource original, ScaleIOVolumeSource modified, Diff diff) {
+        diff.value("fsType", original, modified, ScaleIOVolumeSource::getFsType);
+        diff.value("gateway", original, modified, ScaleIOVolumeSource::getGateway);
+        diff.value("protectionDomain", original, modified, ScaleIOVolumeSource::getProtectionDomain);
+        diff.value("readOnly", original, modified, ScaleIOVolumeSource::getReadOnly);
+        diff.object("secretRef", original, modified, ScaleIOVolumeSource::getSecretRef, LocalObjectReferenceCodec::diff);
+        diff.value("sslEnabled", original, modified, ScaleIOVolumeSource::getSslEnabled);
+        diff.value("storageMode", original, modified, ScaleIOVolumeSource::getStorageMode);
+        diff.value("storagePool", original, modified, ScaleIOVolumeSource::getStoragePool);
+        diff.value("system", original, modified, ScaleIOVolumeSource::getSystem);
+        diff.value("volumeName", original, modified, ScaleIOVolumeSource::getVolumeName);
+    }
+
+    /**
+     * Reads a {@link ScaleIOVolumeSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ScaleIOVolumeSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ScaleIOVolumeSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String fsType = null;
+        String gateway = null;
+        String protectionDomain = null;
+        Boolean readOnly = null;
+        LocalObjectReference secretRef = null;
+        Boolean sslEnabled = null;
+        String storageMode = null;
+        String storagePool = null;
+        String system = null;
+        String volumeName = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, ScaleIOVolumeSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "fsType":
+                    fsType = Codecs.readString(parser, context);
+                    break;
+                case "gateway":
+                    gateway = Codecs.readString(parser, context);
+                    break;
+                case "protectionDomain":
+                    protectionDomain = Codecs.readString(parser, context);
+                    break;
+                case "readOnly":
+                    readOnly = Codecs.readBoolean(parser, context);
+                    break;
+                case "secretRef":
+                    secretRef = LocalObjectReferenceCodec.read(parser, context);
+                    break;
+                case "sslEnabled":
+                    sslEnabled = Codecs.readBoolean(parser, context);
+                    break;
+                case "storageMode":
+                    storageMode = Codecs.readString(parser, context);
+                    break;
+                case "storagePool":
+                    storagePool = Codecs.readString(parser, context);
+                    break;
+                case "system":
+                    system = Codecs.readString(parser, context);
+                    break;
+                case "volumeName":
+                    volumeName = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ScaleIOVolumeSource(fsType, gateway, protectionDomain, readOnly, secretRef, sslEnabled, storageMode, storagePool, system, volumeName);
+        } catch (IllegalArgumentException e) {
+            return (ScaleIOVolumeSource) context.handleInstantiationProblem(ScaleIOVolumeSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ScaleIOVolumeSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ScaleIOVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("fsType", value.getFsType(), Codecs::writeString, generator, provider);
+        Codecs.writeField("gateway", value.getGateway(), Codecs::writeString, generator, provider);
+        Codecs.writeField("protectionDomain", value.getProtectionDomain(), Codecs::writeString, generator, provider);
+        Codecs.writeField("readOnly", value.getReadOnly(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("secretRef", value.getSecretRef(), LocalObjectReferenceCodec::write, generator, provider);
+        Codecs.writeField("sslEnabled", value.getSslEnabled(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("storageMode", value.getStorageMode(), Codecs::writeString, generator, provider);
+        Codecs.writeField("storagePool", value.getStoragePool(), Codecs::writeString, generator, provider);
+        Codecs.writeField("system", value.getSystem(), Codecs::writeString, generator, provider);
+        Codecs.writeField("volumeName", value.getVolumeName(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
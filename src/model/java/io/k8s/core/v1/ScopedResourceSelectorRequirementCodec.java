@@ -0,0 +1,148 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ScopedResourceSelectorRequirement} that read and write its fields without reflection.
+ */
+public final class ScopedResourceSelectorRequirementCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ScopedResourceSelectorRequirement}
+     */
+    public static final JsonDeserializer<ScopedResourceSelectorRequirement> DESERIALIZER = new StdDeserializer<ScopedResourceSelectorRequirement>(ScopedResourceSelectorRequirement.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ScopedResourceSelectorRequirement deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ScopedResourceSelectorRequirementCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ScopedResourceSelectorRequirement}
+     */
+    public static final JsonSerializer<ScopedResourceSelectorRequirement> SERIALIZER = new StdSerializer<ScopedResourceSelectorRequirement>(ScopedResourceSelectorRequirement.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ScopedResourceSelectorRequirement value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ScopedResourceSelectorRequirementCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ScopedResourceSelectorRequirementCodec() {
+    }
+
+    /**
+     * Compares two {@link ScopedResourceSelectorRequirement}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ScopedResourceSelectorRequirement original, ScopedResourceSelectorRequirement modified, Diff diff) {
+        diff.value("operator", original, modified, ScopedResourceSelectorRequirement::getOperator);
+        diff.value("scopeName", original, modified, ScopedResourceSelectorRequirement::getScopeName);
+        diff.value("values", original, modified, ScopedResourceSelectorRequirement::getValues);
+    }
+
+    /**
+     * Reads a {@link ScopedResourceSelectorRequirement}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ScopedResourceSelectorRequirement} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ScopedResourceSelectorRequirement read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String operator = null;
+        String scopeName = null;
+        List<String> values = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, ScopedResourceSelectorRequirement.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "operator":
+                    operator = Codecs.readInternedString(parser, context);
+                    break;
+                case "scopeName":
+                    scopeName = Codecs.readString(parser, context);
+                    break;
+                case "values":
+                    values = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ScopedResourceSelectorRequirement(operator, scopeName, values);
+        } catch (IllegalArgumentException e) {
+            return (ScopedResourceSelectorRequirement) context.handleInstantiationProblem(ScopedResourceSelectorRequirement.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ScopedResourceSelectorRequirement}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ScopedResourceSelectorRequirement value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("operator", value.getOperator(), Codecs::writeString, generator, provider);
+        Codecs.writeField("scopeName", value.getScopeName(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("values", value.getValues(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -16,10 +16,13 @@
 
 package io.k8s.core.v1;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import io.k8s.meta.v1.ManagedFieldsEntry;
 import io.k8s.meta.v1.ObjectMeta;
 import io.k8s.meta.v1.OwnerReference;
 import io.k8s.meta.v1.TypeMeta;
+import io.k8s.type.PatchMergeKey;
+import io.k8s.type.PatchStrategy;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
@@ -57,6 +60,7 @@ public class Secret implements ObjectMeta, TypeMeta {
      * form of the secret data is a base64 encoded string, representing the arbitrary (possibly non-string) data value
      * here. Described in https://tools.ietf.org/html/rfc4648#section-4
      */
+    @JsonProperty("data")
     @Nullable
     @Singular("data")
     Map<String, String> data;
@@ -82,6 +86,7 @@ public class Secret implements ObjectMeta, TypeMeta {
      * method. All keys and values are merged into the data field on write, overwriting any existing values. It is never
      * output when reading from the API.
      */
+    @JsonProperty("stringData")
     @Nullable
     @Singular("stringData")
     Map<String, String> stringData;
@@ -134,6 +139,7 @@ public class Secret implements ObjectMeta, TypeMeta {
      * ordering changes in the list.
      */
     @Nullable
+    @PatchStrategy("merge")
     @Singular
     List<String> finalizers;
 
@@ -205,6 +211,8 @@ public class Secret implements ObjectMeta, TypeMeta {
      * controller, with the controller field set to true. There cannot be more than one managing controller.
      */
     @Nullable
+    @PatchMergeKey("uid")
+    @PatchStrategy("merge")
     @Singular
     List<OwnerReference> ownerReferences;
 
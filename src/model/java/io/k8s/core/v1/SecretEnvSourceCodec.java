@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link SecretEnvSource} that read and write its fields without reflection.
+ */
+public final class SecretEnvSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link SecretEnvSource}
+     */
+    public static final JsonDeserializer<SecretEnvSource> DESERIALIZER = new StdDeserializer<SecretEnvSource>(SecretEnvSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public SecretEnvSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return SecretEnvSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link SecretEnvSource}
+     */
+    public static final JsonSerializer<SecretEnvSource> SERIALIZER = new StdSerializer<SecretEnvSource>(SecretEnvSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(SecretEnvSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            SecretEnvSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private SecretEnvSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link SecretEnvSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable SecretEnvSource original, SecretEnvSource modified, Diff diff) {
+        diff.value("name", original, modified, SecretEnvSource::getName);
+        diff.value("optional", original, modified, SecretEnvSource::getOptional);
+    }
+
+    /**
+     * Reads a {@link SecretEnvSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link SecretEnvSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static SecretEnvSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String name = null;
+        Boolean optional = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, SecretEnvSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "name":
+                    name = Codecs.readString(parser, context);
+                    break;
+                case "optional":
+                    optional = Codecs.readBoolean(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new SecretEnvSource(name, optional);
+        } catch (IllegalArgumentException e) {
+            return (SecretEnvSource) context.handleInstantiationProblem(SecretEnvSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link SecretEnvSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable SecretEnvSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("optional", value.getOptional(), Codecs::writeBoolean, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link SecretKeySelector} that read and write its fields without reflection.
+ */
+public final class SecretKeySelectorCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link SecretKeySelector}
+     */
+    public static final JsonDeserializer<SecretKeySelector> DESERIALIZER = new StdDeserializer<SecretKeySelector>(SecretKeySelector.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public SecretKeySelector deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return SecretKeySelectorCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link SecretKeySelector}
+     */
+    public static final JsonSerializer<SecretKeySelector> SERIALIZER = new StdSerializer<SecretKeySelector>(SecretKeySelector.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(SecretKeySelector value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            SecretKeySelectorCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private SecretKeySelectorCodec() {
+    }
+
+    /**
+     * Compares two {@link SecretKeySelector}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable SecretKeySelector original, SecretKeySelector modified, Diff diff) {
+        diff.value("key", original, modified, SecretKeySelector::getKey);
+        diff.value("name", original, modified, SecretKeySelector::getName);
+        diff.value("optional", original, modified, SecretKeySelector::getOptional);
+    }
+
+    /**
+     * Reads a {@link SecretKeySelector}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link SecretKeySelector} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static SecretKeySelector read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String key = null;
+        String name = null;
+        Boolean optional = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, SecretKeySelector.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "key":
+                    key = Codecs.readInternedString(parser, context);
+                    break;
+                case "name":
+                    name = Codecs.readString(parser, context);
+                    break;
+                case "optional":
+                    optional = Codecs.readBoolean(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new SecretKeySelector(key, name, optional);
+        } catch (IllegalArgumentException e) {
+            return (SecretKeySelector) context.handleInstantiationProblem(SecretKeySelector.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link SecretKeySelector}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable SecretKeySelector value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("key", value.getKey(), Codecs::writeString, generator, provider);
+        Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("optional", value.getOptional(), Codecs::writeBoolean, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link SecretVolumeSource} that read and write its fields without reflection.
+ */
+public final class SecretVolumeSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link SecretVolumeSource}
+     */
+    public static final JsonDeserializer<SecretVolumeSource> DESERIALIZER = new StdDeserializer<SecretVolumeSource>(SecretVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public SecretVolumeSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return SecretVolumeSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link SecretVolumeSource}
+     */
+    public static final JsonSerializer<SecretVolumeSource> SERIALIZER = new StdSerializer<SecretVolumeSource>(SecretVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(SecretVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            SecretVolumeSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private SecretVolumeSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link SecretVolumeSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable SecretVolumeSource original, SecretVolumeSource modified, Diff diff) {
+        diff.value("defaultMode", original, modified, SecretVolumeSource::getDefaultMode);
+        diff.value("items", original, modified, SecretVolumeSource::getItems);
+        diff.value("optional", original, modified, SecretVolumeSource::getOptional);
+        diff.value("secretName", original, modified, SecretVolumeSource::getSecretName);
+    }
+
+    /**
+     * Reads a {@link SecretVolumeSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link SecretVolumeSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static SecretVolumeSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Integer defaultMode = null;
+        List<KeyToPath> items = Collections.emptyList();
+        Boolean optional = null;
+        String secretName = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, SecretVolumeSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "defaultMode":
+                    defaultMode = Codecs.readInteger(parser, context);
+                    break;
+                case "items":
+                    items = Codecs.readList(parser, context, KeyToPathCodec::read);
+                    break;
+                case "optional":
+                    optional = Codecs.readBoolean(parser, context);
+                    break;
+                case "secretName":
+                    secretName = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new SecretVolumeSource(defaultMode, items, optional, secretName);
+        } catch (IllegalArgumentException e) {
+            return (SecretVolumeSource) context.handleInstantiationProblem(SecretVolumeSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link SecretVolumeSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable SecretVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("defaultMode", value.getDefaultMode(), Codecs::writeInteger, generator, provider);
+        Codecs.writeListField("items", value.getItems(), KeyToPathCodec::write, generator, provider);
+        Codecs.writeField("optional", value.getOptional(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("secretName", value.getSecretName(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link SecurityContext} that read and write its fields without reflection.
+ */
+public final class SecurityContextCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link SecurityContext}
+     */
+    public static final JsonDeserializer<SecurityContext> DESERIALIZER = new StdDeserializer<SecurityContext>(SecurityContext.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public SecurityContext deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return SecurityContextCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link SecurityContext}
+     */
+    public static final JsonSerializer<SecurityContext> SERIALIZER = new StdSerializer<SecurityContext>(SecurityContext.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(SecurityContext value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            SecurityContextCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private SecurityContextCodec() {
+    }
+
+    /**
+     * Compares two {@link SecurityContext}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable SecurityContext original, SecurityContext modified, Diff diff) {
+        diff.value("allowPrivilegeEscalation", original, modified, SecurityContext::getAllowPrivilegeEscalation);
+        diff.object("capabilities", original, modified, SecurityContext::getCapabilities, CapabilitiesCodec::diff);
+        diff.value("privileged", original, modified, SecurityContext::getPrivileged);
+        diff.value("procMount", original, modified, SecurityContext::getProcMount);
+        diff.value("readOnlyRootFilesystem", original, modified, SecurityContext::getReadOnlyRootFilesystem);
+        diff.value("runAsGroup", original, modified, SecurityContext::getRunAsGroup);
+        diff.value("runAsNonRoot", original, modified, SecurityContext::getRunAsNonRoot);
+        diff.value("runAsUser", original, modified, SecurityContext::getRunAsUser);
+        diff.object("seLinuxOptions", original, modified, SecurityContext::getSeLinuxOptions, SELinuxOptionsCodec::diff);
+        diff.object("seccompProfile", original, modified, SecurityContext::getSeccompProfile, SeccompProfileCodec::diff);
+        diff.object("windowsOptions", original, modified, SecurityContext::getWindowsOptions, WindowsSecurityContextOptionsCodec::diff);
+    }
+
+    /**
+     * Reads a {@link SecurityContext}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link SecurityContext} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static SecurityContext read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Boolean allowPrivilegeEscalation = null;
+        Capabilities capabilities = null;
+        Boolean privileged = null;
+        String procMount = null;
+        Boolean readOnlyRootFilesystem = null;
+        Long runAsGroup = null;
+        Boolean runAsNonRoot = null;
+        Long runAsUser = null;
+        SELinuxOptions seLinuxOptions = null;
+        SeccompProfile seccompProfile = null;
+        WindowsSecurityContextOptions windowsOptions = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, SecurityContext.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "allowPrivilegeEscalation":
+                    allowPrivilegeEscalation = Codecs.readBoolean(parser, context);
+                    break;
+                case "capabilities":
+                    capabilities = CapabilitiesCodec.read(parser, context);
+                    break;
+                case "privileged":
+                    privileged = Codecs.readBoolean(parser, context);
+                    break;
+                case "procMount":
+                    procMount = Codecs.readString(parser, context);
+                    break;
+                case "readOnlyRootFilesystem":
+                    readOnlyRootFilesystem = Codecs.readBoolean(parser, context);
+                    break;
+                case "runAsGroup":
+                    runAsGroup = Codecs.readLong(parser, context);
+                    break;
+                case "runAsNonRoot":
+                    runAsNonRoot = Codecs.readBoolean(parser, context);
+                    break;
+                case "runAsUser":
+                    runAsUser = Codecs.readLong(parser, context);
+                    break;
+                case "seLinuxOptions":
+                    seLinuxOptions = SELinuxOptionsCodec.read(parser, context);
+                    break;
+                case "seccompProfile":
+                    seccompProfile = SeccompProfileCodec.read(parser, context);
+                    break;
+                case "windowsOptions":
+                    windowsOptions = WindowsSecurityContextOptionsCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new SecurityContext(allowPrivilegeEscalation, capabilities, privileged, procMount, readOnlyRootFilesystem, runAsGroup, runAsNonRoot, runAsUser, seLinuxOptions, seccompProfile, windowsOptions);
+        } catch (IllegalArgumentException e) {
+            return (SecurityContext) context.handleInstantiationProblem(SecurityContext.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link SecurityContext}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable SecurityContext value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("allowPrivilegeEscalation", value.getAllowPrivilegeEscalation(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("capabilities", value.getCapabilities(), CapabilitiesCodec::write, generator, provider);
+        Codecs.writeField("privileged", value.getPrivileged(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("procMount", value.getProcMount(), Codecs::writeString, generator, provider);
+        Codecs.writeField("readOnlyRootFilesystem", value.getReadOnlyRootFilesystem(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("runAsGroup", value.getRunAsGroup(), Codecs::writeLong, generator, provider);
+        Codecs.writeField("runAsNonRoot", value.getRunAsNonRoot(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("runAsUser", value.getRunAsUser(), Codecs::writeLong, generator, provider);
+        Codecs.writeField("seLinuxOptions", value.getSeLinuxOptions(), SELinuxOptionsCodec::write, generator, provider);
+        Codecs.writeField("seccompProfile", value.getSeccompProfile(), SeccompProfileCodec::write, generator, provider);
+        Codecs.writeField("windowsOptions", value.getWindowsOptions(), WindowsSecurityContextOptionsCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
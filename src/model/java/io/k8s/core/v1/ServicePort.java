@@ -16,6 +16,7 @@
 
 package io.k8s.core.v1;
 
+import io.k8s.intstr.IntOrString;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.jackson.Jacksonized;
@@ -69,6 +70,6 @@ public class ServicePort {
     String protocol;
 
     @Nullable
-    String targetPort;
+    IntOrString targetPort;
 
 }
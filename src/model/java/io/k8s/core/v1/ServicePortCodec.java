@@ -0,0 +1,165 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.intstr.IntOrString;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ServicePort} that read and write its fields without reflection.
+ */
+public final class ServicePortCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ServicePort}
+     */
+    public static final JsonDeserializer<ServicePort> DESERIALIZER = new StdDeserializer<ServicePort>(ServicePort.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ServicePort deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ServicePortCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ServicePort}
+     */
+    public static final JsonSerializer<ServicePort> SERIALIZER = new StdSerializer<ServicePort>(ServicePort.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ServicePort value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ServicePortCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ServicePortCodec() {
+    }
+
+    /**
+     * Compares two {@link ServicePort}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ServicePort original, ServicePort modified, Diff diff) {
+        diff.value("appProtocol", original, modified, ServicePort::getAppProtocol);
+        diff.value("name", original, modified, ServicePort::getName);
+        diff.value("nodePort", original, modified, ServicePort::getNodePort);
+        diff.value("port", original, modified, ServicePort::getPort);
+        diff.value("protocol", original, modified, ServicePort::getProtocol);
+        diff.value("targetPort", original, modified, ServicePort::getTargetPort);
+    }
+
+    /**
+     * Reads a {@link ServicePort}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ServicePort} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ServicePort read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String appProtocol = null;
+        String name = null;
+        Integer nodePort = null;
+        Integer port = null;
+        String protocol = null;
+        IntOrString targetPort = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, ServicePort.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "appProtocol":
+                    appProtocol = Codecs.readString(parser, context);
+                    break;
+                case "name":
+                    name = Codecs.readString(parser, context);
+                    break;
+                case "nodePort":
+                    nodePort = Codecs.readInteger(parser, context);
+                    break;
+                case "port":
+                    port = Codecs.readInteger(parser, context);
+                    break;
+                case "protocol":
+                    protocol = Codecs.readInternedString(parser, context);
+                    break;
+                case "targetPort":
+                    targetPort = Codecs.readIntOrString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ServicePort(appProtocol, name, nodePort, port, protocol, targetPort);
+        } catch (IllegalArgumentException e) {
+            return (ServicePort) context.handleInstantiationProblem(ServicePort.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ServicePort}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ServicePort value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("appProtocol", value.getAppProtocol(), Codecs::writeString, generator, provider);
+        Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("nodePort", value.getNodePort(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("port", value.getPort(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("protocol", value.getProtocol(), Codecs::writeString, generator, provider);
+        Codecs.writeField("targetPort", value.getTargetPort(), Codecs::writeIntOrString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -16,6 +16,9 @@
 
 package io.k8s.core.v1;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.k8s.type.PatchMergeKey;
+import io.k8s.type.PatchStrategy;
 import java.util.List;
 import java.util.Map;
 import lombok.Builder;
@@ -116,6 +119,8 @@ public class ServiceSpec {
      * https://kubernetes.io/docs/concepts/services-networking/service/#virtual-ips-and-service-proxies
      */
     @Nullable
+    @PatchMergeKey("port")
+    @PatchStrategy("merge")
     @Singular
     List<ServicePort> ports;
 
@@ -136,6 +141,7 @@ public class ServiceSpec {
      * applies to types ClusterIP, NodePort, and LoadBalancer. Ignored if type is ExternalName. More info:
      * https://kubernetes.io/docs/concepts/services-networking/service/
      */
+    @JsonProperty("selector")
     @Nullable
     @Singular("selector")
     Map<String, String> selector;
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ServiceSpec} that read and write its fields without reflection.
+ */
+public final class ServiceSpecCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ServiceSpec}
+     */
+    public static final JsonDeserializer<ServiceSpec> DESERIALIZER = new StdDeserializer<ServiceSpec>(ServiceSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ServiceSpec deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ServiceSpecCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ServiceSpec}
+     */
+    public static final JsonSerializer<ServiceSpec> SERIALIZER = new StdSerializer<ServiceSpec>(ServiceSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ServiceSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ServiceSpecCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ServiceSpecCodec() {
+    }
+
+    /**
+     * Compares two {@link ServiceSpec}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ServiceSpec original, ServiceSpec modified, Diff diff) {
+        diff.value("clusterIP", original, modified, ServiceSpec::getClusterIP);
+        diff.value("externalIPs", original, modified, ServiceSpec::getExternalIPs);
+        diff.value("externalName", original, modified, ServiceSpec::getExternalName);
+        diff.value("externalTrafficPolicy", original, modified, ServiceSpec::getExternalTrafficPolicy);
+        diff.value("healthCheckNodePort", original, modified, ServiceSpec::getHealthCheckNodePort);
+        diff.value("ipFamily", original, modified, ServiceSpec::getIpFamily);
+        diff.value("loadBalancerIP", original, modified, ServiceSpec::getLoadBalancerIP);
+        diff.value("loadBalancerSourceRanges", original, modified, ServiceSpec::getLoadBalancerSourceRanges);
+        diff.list("ports", original, modified, ServiceSpec::getPorts, "port", ServicePort::getPort, ServicePortCodec::diff);
+        diff.value("publishNotReadyAddresses", original, modified, ServiceSpec::getPublishNotReadyAddresses);
+        diff.map("selector", original, modified, ServiceSpec::getSelector);
+        diff.value("sessionAffinity", original, modified, ServiceSpec::getSessionAffinity);
+        diff.object("sessionAffinityConfig", original, modified, ServiceSpec::getSessionAffinityConfig, SessionAffinityConfigCodec::diff);
+        diff.value("topologyKeys", original, modified, ServiceSpec::getTopologyKeys);
+        diff.value("type", original, modified, ServiceSpec::getType);
+    }
+
+    /**
+     * Reads a {@link ServiceSpec}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ServiceSpec} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ServiceSpec read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String clusterIP = null;
+        List<String> externalIPs = Collections.emptyList();
+        String externalName = null;
+        String externalTrafficPolicy = null;
+        Integer healthCheckNodePort = null;
+        String ipFamily = null;
+        String loadBalancerIP = null;
+        List<String> loadBalancerSourceRanges = Collections.emptyList();
+        List<ServicePort> ports = Collections.emptyList();
+        Boolean publishNotReadyAddresses = null;
+        Map<String, String> selector = Collections.emptyMap();
+        String sessionAffinity = null;
+        SessionAffinityConfig sessionAffinityConfig = null;
+        List<String> topologyKeys = Collections.emptyList();
+        String type = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, ServiceSpec.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "clusterIP":
+                    clusterIP = Codecs.readString(parser, context);
+                    break;
+                case "externalIPs":
+                    externalIPs = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "externalName":
+                    externalName = Codecs.readString(parser, context);
+                    break;
+                case "externalTrafficPolicy":
+                    externalTrafficPolicy = Codecs.readString(parser, context);
+                    break;
+                case "healthCheckNodePort":
+                    healthCheckNodePort = Codecs.readInteger(parser, context);
+                    break;
+                case "ipFamily":
+                    ipFamily = Codecs.readString(parser, context);
+                    break;
+                case "loadBalancerIP":
+                    loadBalancerIP = Codecs.readString(parser, context);
+                    break;
+                case "loadBalancerSourceRanges":
+                    loadBalancerSourceRanges = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "ports":
+                    ports = Codecs.readList(parser, context, ServicePortCodec::read);
+                    break;
+                case "publishNotReadyAddresses":
+                    publishNotReadyAddresses = Codecs.readBoolean(parser, context);
+                    break;
+                case "selector":
+                    selector = Codecs.readMap(parser, context, Codecs::readInternedString);
+                    break;
+                case "sessionAffinity":
+                    sessionAffinity = Codecs.readString(parser, context);
+                    break;
+                case "sessionAffinityConfig":
+                    sessionAffinityConfig = SessionAffinityConfigCodec.read(parser, context);
+                    break;
+                case "topologyKeys":
+                    topologyKeys = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "type":
+                    type = Codecs.readInternedString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ServiceSpec(clusterIP, externalIPs, externalName, externalTrafficPolicy, healthCheckNodePort, ipFamily, loadBalancerIP, loadBalancerSourceRanges, ports, publishNotReadyAddresses, selector, sessionAffinity, sessionAffinityConfig, topologyKeys, type);
+        } catch (IllegalArgumentException e) {
+            return (ServiceSpec) context.handleInstantiationProblem(ServiceSpec.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ServiceSpec}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ServiceSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("clusterIP", value.getClusterIP(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("externalIPs", value.getExternalIPs(), Codecs::writeString, generator, provider);
+        Codecs.writeField("externalName", value.getExternalName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("externalTrafficPolicy", value.getExternalTrafficPolicy(), Codecs::writeString, generator, provider);
+        Codecs.writeField("healthCheckNodePort", value.getHealthCheckNodePort(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("ipFamily", value.getIpFamily(), Codecs::writeString, generator, provider);
+        Codecs.writeField("loadBalancerIP", value.getLoadBalancerIP(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("loadBalancerSourceRanges", value.getLoadBalancerSourceRanges(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("ports", value.getPorts(), ServicePortCodec::write, generator, provider);
+        Codecs.writeField("publishNotReadyAddresses", value.getPublishNotReadyAddresses(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeMapField("selector", value.getSelector(), Codecs::writeString, generator, provider);
+        Codecs.writeField("sessionAffinity", value.getSessionAffinity(), Codecs::writeString, generator, provider);
+        Codecs.writeField("sessionAffinityConfig", value.getSessionAffinityConfig(), SessionAffinityConfigCodec::write, generator, provider);
+        Codecs.writeListField("topologyKeys", value.getTopologyKeys(), Codecs::writeString, generator, provider);
+        Codecs.writeField("type", value.getType(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link StorageOSPersistentVolumeSource} that read and write its fields without reflection.
+ */
+public final class StorageOSPersistentVolumeSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link StorageOSPersistentVolumeSource}
+     */
+    public static final JsonDeserializer<StorageOSPersistentVolumeSource> DESERIALIZER = new StdDeserializer<StorageOSPersistentVolumeSource>(StorageOSPersistentVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public StorageOSPersistentVolumeSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return StorageOSPersistentVolumeSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link StorageOSPersistentVolumeSource}
+     */
+    public static final JsonSerializer<StorageOSPersistentVolumeSource> SERIALIZER = new StdSerializer<StorageOSPersistentVolumeSource>(StorageOSPersistentVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(StorageOSPersistentVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            StorageOSPersistentVolumeSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private StorageOSPersistentVolumeSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link StorageOSPersistentVolumeSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable StorageOSPersistentVolumeSource original, StorageOSPersistentVolumeSource modified, Diff diff) {
+        diff.value("fsType", original, modified, StorageOSPersistentVolumeSource::getFsType);
+        diff.value("readOnly", original, modified, StorageOSPersistentVolumeSource::getReadOnly);
+        diff.object("secretRef", original, modified, StorageOSPersistentVolumeSource::getSecretRef, ObjectReferenceCodec::diff);
+        diff.value("volumeName", original, modified, StorageOSPersistentVolumeSource::getVolumeName);
+        diff.value("volumeNamespace", original, modified, StorageOSPersistentVolumeSource::getVolumeNamespace);
+    }
+
+    /**
+     * Reads a {@link StorageOSPersistentVolumeSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link StorageOSPersistentVolumeSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static StorageOSPersistentVolumeSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String fsType = null;
+        Boolean readOnly = null;
+        ObjectReference secretRef = null;
+        String volumeName = null;
+        String volumeNamespace = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, StorageOSPersistentVolumeSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "fsType":
+                    fsType = Codecs.readString(parser, context);
+                    break;
+                case "readOnly":
+                    readOnly = Codecs.readBoolean(parser, context);
+                    break;
+                case "secretRef":
+                    secretRef = ObjectReferenceCodec.read(parser, context);
+                    break;
+                case "volumeName":
+                    volumeName = Codecs.readString(parser, context);
+                    break;
+                case "volumeNamespace":
+                    volumeNamespace = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new StorageOSPersistentVolumeSource(fsType, readOnly, secretRef, volumeName, volumeNamespace);
+        } catch (IllegalArgumentException e) {
+            return (StorageOSPersistentVolumeSource) context.handleInstantiationProblem(StorageOSPersistentVolumeSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link StorageOSPersistentVolumeSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable StorageOSPersistentVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("fsType", value.getFsType(), Codecs::writeString, generator, provider);
+        Codecs.writeField("readOnly", value.getReadOnly(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("secretRef", value.getSecretRef(), ObjectReferenceCodec::write, generator, provider);
+        Codecs.writeField("volumeName", value.getVolumeName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("volumeNamespace", value.getVolumeNamespace(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
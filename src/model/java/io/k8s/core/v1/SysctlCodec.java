@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link Sysctl} that read and write its fields without reflection.
+ */
+public final class SysctlCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link Sysctl}
+     */
+    public static final JsonDeserializer<Sysctl> DESERIALIZER = new StdDeserializer<Sysctl>(Sysctl.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Sysctl deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return SysctlCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link Sysctl}
+     */
+    public static final JsonSerializer<Sysctl> SERIALIZER = new StdSerializer<Sysctl>(Sysctl.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(Sysctl value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            SysctlCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private SysctlCodec() {
+    }
+
+    /**
+     * Compares two {@link Sysctl}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable Sysctl original, Sysctl modified, Diff diff) {
+        diff.value("name", original, modified, Sysctl::getName);
+        diff.value("value", original, modified, Sysctl::getValue);
+    }
+
+    /**
+     * Reads a {@link Sysctl}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link Sysctl} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static Sysctl read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String name = null;
+        String value = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, Sysctl.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "name":
+                    name = Codecs.readString(parser, context);
+                    break;
+                case "value":
+                    value = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new Sysctl(name, value);
+        } catch (IllegalArgumentException e) {
+            return (Sysctl) context.handleInstantiationProblem(Sysctl.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link Sysctl}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable Sysctl value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("value", value.getValue(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
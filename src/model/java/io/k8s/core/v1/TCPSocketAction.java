@@ -16,6 +16,7 @@
 
 package io.k8s.core.v1;
 
+import io.k8s.intstr.IntOrString;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.jackson.Jacksonized;
@@ -37,6 +38,6 @@ public class TCPSocketAction {
     String host;
 
     @NonNull
-    String port;
+    IntOrString port;
 
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link Toleration} that read and write its fields without reflection.
+ */
+public final class TolerationCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link Toleration}
+     */
+    public static final JsonDeserializer<Toleration> DESERIALIZER = new StdDeserializer<Toleration>(Toleration.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Toleration deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return TolerationCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link Toleration}
+     */
+    public static final JsonSerializer<Toleration> SERIALIZER = new StdSerializer<Toleration>(Toleration.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(Toleration value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            TolerationCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private TolerationCodec() {
+    }
+
+    /**
+     * Compares two {@link Toleration}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable Toleration original, Toleration modified, Diff diff) {
+        diff.value("effect", original, modified, Toleration::getEffect);
+        diff.value("key", original, modified, Toleration::getKey);
+        diff.value("operator", original, modified, Toleration::getOperator);
+        diff.value("tolerationSeconds", original, modified, Toleration::getTolerationSeconds);
+        diff.value("value", original, modified, Toleration::getValue);
+    }
+
+    /**
+     * Reads a {@link Toleration}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link Toleration} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static Toleration read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String effect = null;
+        String key = null;
+        String operator = null;
+        Long tolerationSeconds = null;
+        String value = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, Toleration.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "effect":
+                    effect = Codecs.readInternedString(parser, context);
+                    break;
+                case "key":
+                    key = Codecs.readInternedString(parser, context);
+                    break;
+                case "operator":
+                    operator = Codecs.readInternedString(parser, context);
+                    break;
+                case "tolerationSeconds":
+                    tolerationSeconds = Codecs.readLong(parser, context);
+                    break;
+                case "value":
+                    value = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new Toleration(effect, key, operator, tolerationSeconds, value);
+        } catch (IllegalArgumentException e) {
+            return (Toleration) context.handleInstantiationProblem(Toleration.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link Toleration}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable Toleration value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("effect", value.getEffect(), Codecs::writeString, generator, provider);
+        Codecs.writeField("key", value.getKey(), Codecs::writeString, generator, provider);
+        Codecs.writeField("operator", value.getOperator(), Codecs::writeString, generator, provider);
+        Codecs.writeField("tolerationSeconds", value.getTolerationSeconds(), Codecs::writeLong, generator, provider);
+        Codecs.writeField("value", value.getValue(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link TopologySelectorLabelRequirement} that read and write its fields without reflection.
+ */
+public final class TopologySelectorLabelRequirementCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link TopologySelectorLabelRequirement}
+     */
+    public static final JsonDeserializer<TopologySelectorLabelRequirement> DESERIALIZER = new StdDeserializer<TopologySelectorLabelRequirement>(TopologySelectorLabelRequirement.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public TopologySelectorLabelRequirement deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return TopologySelectorLabelRequirementCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link TopologySelectorLabelRequirement}
+     */
+    public static final JsonSerializer<TopologySelectorLabelRequirement> SERIALIZER = new StdSerializer<TopologySelectorLabelRequirement>(TopologySelectorLabelRequirement.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(TopologySelectorLabelRequirement value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            TopologySelectorLabelRequirementCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private TopologySelectorLabelRequirementCodec() {
+    }
+
+    /**
+     * Compares two {@link TopologySelectorLabelRequirement}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable TopologySelectorLabelRequirement original, TopologySelectorLabelRequirement modified, Diff diff) {
+        diff.value("key", original, modified, TopologySelectorLabelRequirement::getKey);
+        diff.value("values", original, modified, TopologySelectorLabelRequirement::getValues);
+    }
+
+    /**
+     * Reads a {@link TopologySelectorLabelRequirement}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link TopologySelectorLabelRequirement} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static TopologySelectorLabelRequirement read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String key = null;
+        List<String> values = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, TopologySelectorLabelRequirement.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "key":
+                    key = Codecs.readInternedString(parser, context);
+                    break;
+                case "values":
+                    values = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new TopologySelectorLabelRequirement(key, values);
+        } catch (IllegalArgumentException e) {
+            return (TopologySelectorLabelRequirement) context.handleInstantiationProblem(TopologySelectorLabelRequirement.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link TopologySelectorLabelRequirement}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable TopologySelectorLabelRequirement value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("key", value.getKey(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("values", value.getValues(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
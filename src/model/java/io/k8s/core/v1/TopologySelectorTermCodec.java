@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link TopologySelectorTerm} that read and write its fields without reflection.
+ */
+public final class TopologySelectorTermCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link TopologySelectorTerm}
+     */
+    public static final JsonDeserializer<TopologySelectorTerm> DESERIALIZER = new StdDeserializer<TopologySelectorTerm>(TopologySelectorTerm.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public TopologySelectorTerm deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return TopologySelectorTermCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link TopologySelectorTerm}
+     */
+    public static final JsonSerializer<TopologySelectorTerm> SERIALIZER = new StdSerializer<TopologySelectorTerm>(TopologySelectorTerm.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(TopologySelectorTerm value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            TopologySelectorTermCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private TopologySelectorTermCodec() {
+    }
+
+    /**
+     * Compares two {@link TopologySelectorTerm}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable TopologySelectorTerm original, TopologySelectorTerm modified, Diff diff) {
+        diff.value("matchLabelExpressions", original, modified, TopologySelectorTerm::getMatchLabelExpressions);
+    }
+
+    /**
+     * Reads a {@link TopologySelectorTerm}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link TopologySelectorTerm} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static TopologySelectorTerm read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<TopologySelectorLabelRequirement> matchLabelExpressions = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, TopologySelectorTerm.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "matchLabelExpressions":
+                    matchLabelExpressions = Codecs.readList(parser, context, TopologySelectorLabelRequirementCodec::read);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new TopologySelectorTerm(matchLabelExpressions);
+        } catch (IllegalArgumentException e) {
+            return (TopologySelectorTerm) context.handleInstantiationProblem(TopologySelectorTerm.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link TopologySelectorTerm}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable TopologySelectorTerm value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("matchLabelExpressions", value.getMatchLabelExpressions(), TopologySelectorLabelRequirementCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.meta.v1.LabelSelector;
+import io.k8s.meta.v1.LabelSelectorCodec;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link TopologySpreadConstraint} that read and write its fields without reflection.
+ */
+public final class TopologySpreadConstraintCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link TopologySpreadConstraint}
+     */
+    public static final JsonDeserializer<TopologySpreadConstraint> DESERIALIZER = new StdDeserializer<TopologySpreadConstraint>(TopologySpreadConstraint.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public TopologySpreadConstraint deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return TopologySpreadConstraintCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link TopologySpreadConstraint}
+     */
+    public static final JsonSerializer<TopologySpreadConstraint> SERIALIZER = new StdSerializer<TopologySpreadConstraint>(TopologySpreadConstraint.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(TopologySpreadConstraint value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            TopologySpreadConstraintCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private TopologySpreadConstraintCodec() {
+    }
+
+    /**
+     * Compares two {@link TopologySpreadConstraint}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable TopologySpreadConstraint original, TopologySpreadConstraint modified, Diff diff) {
+        diff.object("labelSelector", original, modified, TopologySpreadConstraint::getLabelSelector, LabelSelectorCodec::diff);
+        diff.value("maxSkew", original, modified, TopologySpreadConstraint::getMaxSkew);
+        diff.value("topologyKey", original, modified, TopologySpreadConstraint::getTopologyKey);
+        diff.value("whenUnsatisfiable", original, modified, TopologySpreadConstraint::getWhenUnsatisfiable);
+    }
+
+    /**
+     * Reads a {@link TopologySpreadConstraint}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link TopologySpreadConstraint} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static TopologySpreadConstraint read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        LabelSelector labelSelector = null;
+        Integer maxSkew = null;
+        String topologyKey = null;
+        String whenUnsatisfiable = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, TopologySpreadConstraint.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "labelSelector":
+                    labelSelector = LabelSelectorCodec.read(parser, context);
+                    break;
+                case "maxSkew":
+                    maxSkew = Codecs.readInteger(parser, context);
+                    break;
+                case "topologyKey":
+                    topologyKey = Codecs.readString(parser, context);
+                    break;
+                case "whenUnsatisfiable":
+                    whenUnsatisfiable = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new TopologySpreadConstraint(labelSelector, maxSkew, topologyKey, whenUnsatisfiable);
+        } catch (IllegalArgumentException e) {
+            return (TopologySpreadConstraint) context.handleInstantiationProblem(TopologySpreadConstraint.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link TopologySpreadConstraint}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable TopologySpreadConstraint value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("labelSelector", value.getLabelSelector(), LabelSelectorCodec::write, generator, provider);
+        Codecs.writeField("maxSkew", value.getMaxSkew(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("topologyKey", value.getTopologyKey(), Codecs::writeString, generator, provider);
+        Codecs.writeField("whenUnsatisfiable", value.getWhenUnsatisfiable(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
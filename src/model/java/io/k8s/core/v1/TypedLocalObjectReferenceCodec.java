@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link TypedLocalObjectReference} that read and write its fields without reflection.
+ */
+public final class TypedLocalObjectReferenceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link TypedLocalObjectReference}
+     */
+    public static final JsonDeserializer<TypedLocalObjectReference> DESERIALIZER = new StdDeserializer<TypedLocalObjectReference>(TypedLocalObjectReference.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public TypedLocalObjectReference deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return TypedLocalObjectReferenceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link TypedLocalObjectReference}
+     */
+    public static final JsonSerializer<TypedLocalObjectReference> SERIALIZER = new StdSerializer<TypedLocalObjectReference>(TypedLocalObjectReference.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(TypedLocalObjectReference value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            TypedLocalObjectReferenceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private TypedLocalObjectReferenceCodec() {
+    }
+
+    /**
+     * Compares two {@link TypedLocalObjectReference}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable TypedLocalObjectReference original, TypedLocalObjectReference modified, Diff diff) {
+        diff.value("apiGroup", original, modified, TypedLocalObjectReference::getApiGroup);
+        diff.value("kind", original, modified, TypedLocalObjectReference::getKind);
+        diff.value("name", original, modified, TypedLocalObjectReference::getName);
+    }
+
+    /**
+     * Reads a {@link TypedLocalObjectReference}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link TypedLocalObjectReference} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static TypedLocalObjectReference read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String apiGroup = null;
+        String kind = null;
+        String name = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, TypedLocalObjectReference.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "apiGroup":
+                    apiGroup = Codecs.readString(parser, context);
+                    break;
+                case "kind":
+                    kind = Codecs.readInternedString(parser, context);
+                    break;
+                case "name":
+                    name = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new TypedLocalObjectReference(apiGroup, kind, name);
+        } catch (IllegalArgumentException e) {
+            return (TypedLocalObjectReference) context.handleInstantiationProblem(TypedLocalObjectReference.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link TypedLocalObjectReference}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable TypedLocalObjectReference value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("apiGroup", value.getApiGroup(), Codecs::writeString, generator, provider);
+        Codecs.writeField("kind", value.getKind(), Codecs::writeString, generator, provider);
+        Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link Volume} that read and write its fields without reflection.
+ */
+public final class VolumeCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link Volume}
+     */
+    public static final JsonDeserializer<Volume> DESERIALIZER = new StdDeserializer<Volume>(Volume.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Volume deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return VolumeCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link Volume}
+     */
+    public static final JsonSerializer<Volume> SERIALIZER = new StdSerializer<Volume>(Volume.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(Volume value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            VolumeCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private VolumeCodec() {
+    }
+
+    /**
+     * Compares two {@link Volume}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable Volume original, Volume modified, Diff diff) {
+        diff.object("awsElasticBlockStore", original, modified, Volume::getAwsElasticBlockStore, AWSElasticBlockStoreVolumeSourceCodec::diff);
+        diff.object("azureDisk", original, modified, Volume::getAzureDisk, AzureDiskVolumeSourceCodec::diff);
+        diff.object("azureFile", original, modified, Volume::getAzureFile, AzureFileVolumeSourceCodec::diff);
+        diff.object("cephfs", original, modified, Volume::getCephfs, CephFSVolumeSourceCodec::diff);
+        diff.object("cinder", original, modified, Volume::getCinder, CinderVolumeSourceCodec::diff);
+        diff.object("configMap", original, modified, Volume::getConfigMap, ConfigMapVolumeSourceCodec::diff);
+        diff.object("csi", original, modified, Volume::getCsi, CSIVolumeSourceCodec::diff);
+        diff.object("downwardAPI", original, modified, Volume::getDownwardAPI, DownwardAPIVolumeSourceCodec::diff);
+        diff.object("emptyDir", original, modified, Volume::getEmptyDir, EmptyDirVolumeSourceCodec::diff);
+        diff.object("ephemeral", original, modified, Volume::getEphemeral, EphemeralVolumeSourceCodec::diff);
+        diff.object("fc", original, modified, Volume::getFc, FCVolumeSourceCodec::diff);
+        diff.object("flexVolume", original, modified, Volume::getFlexVolume, FlexVolumeSourceCodec::diff);
+        diff.object("flocker", original, modified, Volume::getFlocker, FlockerVolumeSourceCodec::diff);
+        diff.object("gcePersistentDisk", original, modified, Volume::getGcePersistentDisk, GCEPersistentDiskVolumeSourceCodec::diff);
+        diff.object("gitRepo", original, modified, Volume::getGitRepo, GitRepoVolumeSourceCodec::diff);
+        diff.object("glusterfs", original, modified, Volume::getGlusterfs, GlusterfsVolumeSourceCodec::diff);
+        diff.object("hostPath", original, modified, Volume::getHostPath, HostPathVolumeSourceCodec::diff);
+        diff.object("iscsi", original, modified, Volume::getIscsi, ISCSIVolumeSourceCodec::diff);
+        diff.value("name", original, modified, Volume::getName);
+        diff.object("nfs", original, modified, Volume::getNfs, NFSVolumeSourceCodec::diff);
+        diff.object("persistentVolumeClaim", original, modified, Volume::getPersistentVolumeClaim, PersistentVolumeClaimVolumeSourceCodec::diff);
+        diff.object("photonPersistentDisk", original, modified, Volume::getPhotonPersistentDisk, PhotonPersistentDiskVolumeSourceCodec::diff);
+        diff.object("portworxVolume", original, modified, Volume::getPortworxVolume, PortworxVolumeSourceCodec::diff);
+        diff.object("projected", original, modified, Volume::getProjected, ProjectedVolumeSourceCodec::diff);
+        diff.object("quobyte", original, modified, Volume::getQuobyte, QuobyteVolumeSourceCodec::diff);
+        diff.object("rbd", original, modified, Volume::getRbd, RBDVolumeSourceCodec::diff);
+        diff.object("scaleIO", original, modified, Volume::getScaleIO, ScaleIOVolumeSourceCodec::diff);
+        diff.object("secret", original, modified, Volume::getSecret, SecretVolumeSourceCodec::diff);
+        diff.object("storageos", original, modified, Volume::getStorageos, StorageOSVolumeSourceCodec::diff);
+        diff.object("vsphereVolume", original, modified, Volume::getVsphereVolume, VsphereVirtualDiskVolumeSourceCodec::diff);
+    }
+
+    /**
+     * Reads a {@link Volume}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link Volume} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static Volume read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        AWSElasticBlockStoreVolumeSource awsElasticBlockStore = null;
+        AzureDiskVolumeSource azureDisk = null;
+        AzureFileVolumeSource azureFile = null;
+        CephFSVolumeSource cephfs = null;
+        CinderVolumeSource cinder = null;
+        ConfigMapVolumeSource configMap = null;
+        CSIVolumeSource csi = null;
+        DownwardAPIVolumeSource downwardAPI = null;
+        EmptyDirVolumeSource emptyDir = null;
+        EphemeralVolumeSource ephemeral = null;
+        FCVolumeSource fc = null;
+        FlexVolumeSource flexVolume = null;
+        FlockerVolumeSource flocker = null;
+        GCEPersistentDiskVolumeSource gcePersistentDisk = null;
+        GitRepoVolumeSource gitRepo = null;
+        GlusterfsVolumeSource glusterfs = null;
+        HostPathVolumeSource hostPath = null;
+        ISCSIVolumeSource iscsi = null;
+        String name = null;
+        NFSVolumeSource nfs = null;
+        PersistentVolumeClaimVolumeSource persistentVolumeClaim = null;
+        PhotonPersistentDiskVolumeSource photonPersistentDisk = null;
+        PortworxVolumeSource portworxVolume = null;
+        ProjectedVolumeSource projected = null;
+        QuobyteVolumeSource quobyte = null;
+        RBDVolumeSource rbd = null;
+        ScaleIOVolumeSource scaleIO = null;
+        SecretVolumeSource secret = null;
+        StorageOSVolumeSource storageos = null;
+        VsphereVirtualDiskVolumeSource vsphereVolume = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, Volume.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "awsElasticBlockStore":
+                    awsElasticBlockStore = AWSElasticBlockStoreVolumeSourceCodec.read(parser, context);
+                    break;
+                case "azureDisk":
+                    azureDisk = AzureDiskVolumeSourceCodec.read(parser, context);
+                    break;
+                case "azureFile":
+                    azureFile = AzureFileVolumeSourceCodec.read(parser, context);
+                    break;
+                case "cephfs":
+                    cephfs = CephFSVolumeSourceCodec.read(parser, context);
+                    break;
+                case "cinder":
+                    cinder = CinderVolumeSourceCodec.read(parser, context);
+                    break;
+                case "configMap":
+                    configMap = ConfigMapVolumeSourceCodec.read(parser, context);
+                    break;
+                case "csi":
+                    csi = CSIVolumeSourceCodec.read(parser, context);
+                    break;
+                case "downwardAPI":
+                    downwardAPI = DownwardAPIVolumeSourceCodec.read(parser, context);
+                    break;
+                case "emptyDir":
+                    emptyDir = EmptyDirVolumeSourceCodec.read(parser, context);
+                    break;
+                case "ephemeral":
+                    ephemeral = EphemeralVolumeSourceCodec.read(parser, context);
+                    break;
+                case "fc":
+                    fc = FCVolumeSourceCodec.read(parser, context);
+                    break;
+                case "flexVolume":
+                    flexVolume = FlexVolumeSourceCodec.read(parser, context);
+                    break;
+                case "flocker":
+                    flocker = FlockerVolumeSourceCodec.read(parser, context);
+                    break;
+                case "gcePersistentDisk":
+                    gcePersistentDisk = GCEPersistentDiskVolumeSourceCodec.read(parser, context);
+                    break;
+                case "gitRepo":
+                    gitRepo = GitRepoVolumeSourceCodec.read(parser, context);
+                    break;
+                case "glusterfs":
+                    glusterfs = GlusterfsVolumeSourceCodec.read(parser, context);
+                    break;
+                case "hostPath":
+                    hostPath = HostPathVolumeSourceCodec.read(parser, context);
+                    break;
+                case "iscsi":
+                    iscsi = ISCSIVolumeSourceCodec.read(parser, context);
+                    break;
+                case "name":
+                    name = Codecs.readInternedString(parser, context);
+                    break;
+                case "nfs":
+                    nfs = NFSVolumeSourceCodec.read(parser, context);
+                    break;
+                case "persistentVolumeClaim":
+                    persistentVolumeClaim = PersistentVolumeClaimVolumeSourceCodec.read(parser, context);
+                    break;
+                case "photonPersistentDisk":
+                    photonPersistentDisk = PhotonPersistentDiskVolumeSourceCodec.read(parser, context);
+                    break;
+                case "portworxVolume":
+                    portworxVolume = PortworxVolumeSourceCodec.read(parser, context);
+                    break;
+                case "projected":
+                    projected = ProjectedVolumeSourceCodec.read(parser, context);
+                    break;
+                case "quobyte":
+                    quobyte = QuobyteVolumeSourceCodec.read(parser, context);
+                    break;
+                case "rbd":
+                    rbd = RBDVolumeSourceCodec.read(parser, context);
+                    break;
+                case "scaleIO":
+                    scaleIO = ScaleIOVolumeSourceCodec.read(parser, context);
+                    break;
+                case "secret":
+                    secret = SecretVolumeSourceCodec.read(parser, context);
+                    break;
+                case "storageos":
+                    storageos = StorageOSVolumeSourceCodec.read(parser, context);
+                    break;
+                case "vsphereVolume":
+                    vsphereVolume = VsphereVirtualDiskVolumeSourceCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new Volume(awsElasticBlockStore, azureDisk, azureFile, cephfs, cinder, configMap, csi, downwardAPI, emptyDir, ephemeral, fc, flexVolume, flocker, gcePersistentDisk, gitRepo, glusterfs, hostPath, iscsi, name, nfs, persistentVolumeClaim, photonPersistentDisk, portworxVolume, projected, quobyte, rbd, scaleIO, secret, storageos, vsphereVolume);
+        } catch (IllegalArgumentException e) {
+            return (Volume) context.handleInstantiationProblem(Volume.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link Volume}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable Volume value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("awsElasticBlockStore", value.getAwsElasticBlockStore(), AWSElasticBlockStoreVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("azureDisk", value.getAzureDisk(), AzureDiskVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("azureFile", value.getAzureFile(), AzureFileVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("cephfs", value.getCephfs(), CephFSVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("cinder", value.getCinder(), CinderVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("configMap", value.getConfigMap(), ConfigMapVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("csi", value.getCsi(), CSIVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("downwardAPI", value.getDownwardAPI(), DownwardAPIVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("emptyDir", value.getEmptyDir(), EmptyDirVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("ephemeral", value.getEphemeral(), EphemeralVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("fc", value.getFc(), FCVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("flexVolume", value.getFlexVolume(), FlexVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("flocker", value.getFlocker(), FlockerVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("gcePersistentDisk", value.getGcePersistentDisk(), GCEPersistentDiskVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("gitRepo", value.getGitRepo(), GitRepoVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("glusterfs", value.getGlusterfs(), GlusterfsVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("hostPath", value.getHostPath(), HostPathVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("iscsi", value.getIscsi(), ISCSIVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("nfs", value.getNfs(), NFSVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("persistentVolumeClaim", value.getPersistentVolumeClaim(), PersistentVolumeClaimVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("photonPersistentDisk", value.getPhotonPersistentDisk(), PhotonPersistentDiskVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("portworxVolume", value.getPortworxVolume(), PortworxVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("projected", value.getProjected(), ProjectedVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("quobyte", value.getQuobyte(), QuobyteVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("rbd", value.getRbd(), RBDVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("scaleIO", value.getScaleIO(), ScaleIOVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("secret", value.getSecret(), SecretVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("storageos", value.getStorageos(), StorageOSVolumeSourceCodec::write, generator, provider);
+        Codecs.writeField("vsphereVolume", value.getVsphereVolume(), VsphereVirtualDiskVolumeSourceCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link VolumeMount} that read and write its fields without reflection.
+ */
+public final class VolumeMountCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link VolumeMount}
+     */
+    public static final JsonDeserializer<VolumeMount> DESERIALIZER = new StdDeserializer<VolumeMount>(VolumeMount.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public VolumeMount deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return VolumeMountCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link VolumeMount}
+     */
+    public static final JsonSerializer<VolumeMount> SERIALIZER = new StdSerializer<VolumeMount>(VolumeMount.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(VolumeMount value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            VolumeMountCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private VolumeMountCodec() {
+    }
+
+    /**
+     * Compares two {@link VolumeMount}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable VolumeMount original, VolumeMount modified, Diff diff) {
+        diff.value("mountPath", original, modified, VolumeMount::getMountPath);
+        diff.value("mountPropagation", original, modified, VolumeMount::getMountPropagation);
+        diff.value("name", original, modified, VolumeMount::getName);
+        diff.value("readOnly", original, modified, VolumeMount::getReadOnly);
+        diff.value("subPath", original, modified, VolumeMount::getSubPath);
+        diff.value("subPathExpr", original, modified, VolumeMount::getSubPathExpr);
+    }
+
+    /**
+     * Reads a {@link VolumeMount}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link VolumeMount} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static VolumeMount read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String mountPath = null;
+        String mountPropagation = null;
+        String name = null;
+        Boolean readOnly = null;
+        String subPath = null;
+        String subPathExpr = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, VolumeMount.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "mountPath":
+                    mountPath = Codecs.readString(parser, context);
+                    break;
+                case "mountPropagation":
+                    mountPropagation = Codecs.readString(parser, context);
+                    break;
+                case "name":
+                    name = Codecs.readInternedString(parser, context);
+                    break;
+                case "readOnly":
+                    readOnly = Codecs.readBoolean(parser, context);
+                    break;
+                case "subPath":
+                    subPath = Codecs.readString(parser, context);
+                    break;
+                case "subPathExpr":
+                    subPathExpr = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new VolumeMount(mountPath, mountPropagation, name, readOnly, subPath, subPathExpr);
+        } catch (IllegalArgumentException e) {
+            return (VolumeMount) context.handleInstantiationProblem(VolumeMount.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link VolumeMount}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable VolumeMount value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("mountPath", value.getMountPath(), Codecs::writeString, generator, provider);
+        Codecs.writeField("mountPropagation", value.getMountPropagation(), Codecs::writeString, generator, provider);
+        Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("readOnly", value.getReadOnly(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("subPath", value.getSubPath(), Codecs::writeString, generator, provider);
+        Codecs.writeField("subPathExpr", value.getSubPathExpr(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
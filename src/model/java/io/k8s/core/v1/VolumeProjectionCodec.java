@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link VolumeProjection} that read and write its fields without reflection.
+ */
+public final class VolumeProjectionCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link VolumeProjection}
+     */
+    public static final JsonDeserializer<VolumeProjection> DESERIALIZER = new StdDeserializer<VolumeProjection>(VolumeProjection.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public VolumeProjection deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return VolumeProjectionCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link VolumeProjection}
+     */
+    public static final JsonSerializer<VolumeProjection> SERIALIZER = new StdSerializer<VolumeProjection>(VolumeProjection.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(VolumeProjection value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            VolumeProjectionCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private VolumeProjectionCodec() {
+    }
+
+    /**
+     * Compares two {@link VolumeProjection}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable VolumeProjection original, VolumeProjection modified, Diff diff) {
+        diff.object("configMap", original, modified, VolumeProjection::getConfigMap, ConfigMapProjectionCodec::diff);
+        diff.object("downwardAPI", original, modified, VolumeProjection::getDownwardAPI, DownwardAPIProjectionCodec::diff);
+        diff.object("secret", original, modified, VolumeProjection::getSecret, SecretProjectionCodec::diff);
+        diff.object("serviceAccountToken", original, modified, VolumeProjection::getServiceAccountToken, ServiceAccountTokenProjectionCodec::diff);
+    }
+
+    /**
+     * Reads a {@link VolumeProjection}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link VolumeProjection} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static VolumeProjection read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        ConfigMapProjection configMap = null;
+        DownwardAPIProjection downwardAPI = null;
+        SecretProjection secret = null;
+        ServiceAccountTokenProjection serviceAccountToken = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, VolumeProjection.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "configMap":
+                    configMap = ConfigMapProjectionCodec.read(parser, context);
+                    break;
+                case "downwardAPI":
+                    downwardAPI = DownwardAPIProjectionCodec.read(parser, context);
+                    break;
+                case "secret":
+                    secret = SecretProjectionCodec.read(parser, context);
+                    break;
+                case "serviceAccountToken":
+                    serviceAccountToken = ServiceAccountTokenProjectionCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new VolumeProjection(configMap, downwardAPI, secret, serviceAccountToken);
+        } catch (IllegalArgumentException e) {
+            return (VolumeProjection) context.handleInstantiationProblem(VolumeProjection.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link VolumeProjection}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable VolumeProjection value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("configMap", value.getConfigMap(), ConfigMapProjectionCodec::write, generator, provider);
+        Codecs.writeField("downwardAPI", value.getDownwardAPI(), DownwardAPIProjectionCodec::write, generator, provider);
+        Codecs.writeField("secret", value.getSecret(), SecretProjectionCodec::write, generator, provider);
+        Codecs.writeField("serviceAccountToken", value.getServiceAccountToken(), ServiceAccountTokenProjectionCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
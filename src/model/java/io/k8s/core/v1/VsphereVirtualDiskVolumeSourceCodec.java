@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link VsphereVirtualDiskVolumeSource} that read and write its fields without reflection.
+ */
+public final class VsphereVirtualDiskVolumeSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link VsphereVirtualDiskVolumeSource}
+     */
+    public static final JsonDeserializer<VsphereVirtualDiskVolumeSource> DESERIALIZER = new StdDeserializer<VsphereVirtualDiskVolumeSource>(VsphereVirtualDiskVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public VsphereVirtualDiskVolumeSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return VsphereVirtualDiskVolumeSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link VsphereVirtualDiskVolumeSource}
+     */
+    public static final JsonSerializer<VsphereVirtualDiskVolumeSource> SERIALIZER = new StdSerializer<VsphereVirtualDiskVolumeSource>(VsphereVirtualDiskVolumeSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(VsphereVirtualDiskVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            VsphereVirtualDiskVolumeSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private VsphereVirtualDiskVolumeSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link VsphereVirtualDiskVolumeSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable VsphereVirtualDiskVolumeSource original, VsphereVirtualDiskVolumeSource modified, Diff diff) {
+        diff.value("fsType", original, modified, VsphereVirtualDiskVolumeSource::getFsType);
+        diff.value("storagePolicyID", original, modified, VsphereVirtualDiskVolumeSource::getStoragePolicyID);
+        diff.value("storagePolicyName", original, modified, VsphereVirtualDiskVolumeSource::getStoragePolicyName);
+        diff.value("volumePath", original, modified, VsphereVirtualDiskVolumeSource::getVolumePath);
+    }
+
+    /**
+     * Reads a {@link VsphereVirtualDiskVolumeSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link VsphereVirtualDiskVolumeSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static VsphereVirtualDiskVolumeSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String fsType = null;
+        String storagePolicyID = null;
+        String storagePolicyName = null;
+        String volumePath = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, VsphereVirtualDiskVolumeSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "fsType":
+                    fsType = Codecs.readString(parser, context);
+                    break;
+                case "storagePolicyID":
+                    storagePolicyID = Codecs.readString(parser, context);
+                    break;
+                case "storagePolicyName":
+                    storagePolicyName = Codecs.readString(parser, context);
+                    break;
+                case "volumePath":
+                    volumePath = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new VsphereVirtualDiskVolumeSource(fsType, storagePolicyID, storagePolicyName, volumePath);
+        } catch (IllegalArgumentException e) {
+            return (VsphereVirtualDiskVolumeSource) context.handleInstantiationProblem(VsphereVirtualDiskVolumeSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link VsphereVirtualDiskVolumeSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable VsphereVirtualDiskVolumeSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("fsType", value.getFsType(), Codecs::writeString, generator, provider);
+        Codecs.writeField("storagePolicyID", value.getStoragePolicyID(), Codecs::writeString, generator, provider);
+        Codecs.writeField("storagePolicyName", value.getStoragePolicyName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("volumePath", value.getVolumePath(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
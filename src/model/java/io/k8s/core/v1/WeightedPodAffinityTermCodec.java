@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link WeightedPodAffinityTerm} that read and write its fields without reflection.
+ */
+public final class WeightedPodAffinityTermCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link WeightedPodAffinityTerm}
+     */
+    public static final JsonDeserializer<WeightedPodAffinityTerm> DESERIALIZER = new StdDeserializer<WeightedPodAffinityTerm>(WeightedPodAffinityTerm.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public WeightedPodAffinityTerm deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return WeightedPodAffinityTermCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link WeightedPodAffinityTerm}
+     */
+    public static final JsonSerializer<WeightedPodAffinityTerm> SERIALIZER = new StdSerializer<WeightedPodAffinityTerm>(WeightedPodAffinityTerm.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(WeightedPodAffinityTerm value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            WeightedPodAffinityTermCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private WeightedPodAffinityTermCodec() {
+    }
+
+    /**
+     * Compares two {@link WeightedPodAffinityTerm}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable WeightedPodAffinityTerm original, WeightedPodAffinityTerm modified, Diff diff) {
+        diff.object("podAffinityTerm", original, modified, WeightedPodAffinityTerm::getPodAffinityTerm, PodAffinityTermCodec::diff);
+        diff.value("weight", original, modified, WeightedPodAffinityTerm::getWeight);
+    }
+
+    /**
+     * Reads a {@link WeightedPodAffinityTerm}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link WeightedPodAffinityTerm} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static WeightedPodAffinityTerm read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        PodAffinityTerm podAffinityTerm = null;
+        Integer weight = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, WeightedPodAffinityTerm.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "podAffinityTerm":
+                    podAffinityTerm = PodAffinityTermCodec.read(parser, context);
+                    break;
+                case "weight":
+                    weight = Codecs.readInteger(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new WeightedPodAffinityTerm(podAffinityTerm, weight);
+        } catch (IllegalArgumentException e) {
+            return (WeightedPodAffinityTerm) context.handleInstantiationProblem(WeightedPodAffinityTerm.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link WeightedPodAffinityTerm}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable WeightedPodAffinityTerm value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("podAffinityTerm", value.getPodAffinityTerm(), PodAffinityTermCodec::write, generator, provider);
+        Codecs.writeField("weight", value.getWeight(), Codecs::writeInteger, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.core.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link WindowsSecurityContextOptions} that read and write its fields without reflection.
+ */
+public final class WindowsSecurityContextOptionsCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link WindowsSecurityContextOptions}
+     */
+    public static final JsonDeserializer<WindowsSecurityContextOptions> DESERIALIZER = new StdDeserializer<WindowsSecurityContextOptions>(WindowsSecurityContextOptions.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public WindowsSecurityContextOptions deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return WindowsSecurityContextOptionsCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link WindowsSecurityContextOptions}
+     */
+    public static final JsonSerializer<WindowsSecurityContextOptions> SERIALIZER = new StdSerializer<WindowsSecurityContextOptions>(WindowsSecurityContextOptions.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(WindowsSecurityContextOptions value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            WindowsSecurityContextOptionsCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private WindowsSecurityContextOptionsCodec() {
+    }
+
+    /**
+     * Compares two {@link WindowsSecurityContextOptions}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable WindowsSecurityContextOptions original, WindowsSecurityContextOptions modified, Diff diff) {
+        diff.value("gmsaCredentialSpec", original, modified, WindowsSecurityContextOptions::getGmsaCredentialSpec);
+        diff.value("gmsaCredentialSpecName", original, modified, WindowsSecurityContextOptions::getGmsaCredentialSpecName);
+        diff.value("runAsUserName", original, modified, WindowsSecurityContextOptions::getRunAsUserName);
+    }
+
+    /**
+     * Reads a {@link WindowsSecurityContextOptions}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link WindowsSecurityContextOptions} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static WindowsSecurityContextOptions read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String gmsaCredentialSpec = null;
+        String gmsaCredentialSpecName = null;
+        String runAsUserName = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, WindowsSecurityContextOptions.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "gmsaCredentialSpec":
+                    gmsaCredentialSpec = Codecs.readString(parser, context);
+                    break;
+                case "gmsaCredentialSpecName":
+                    gmsaCredentialSpecName = Codecs.readString(parser, context);
+                    break;
+                case "runAsUserName":
+                    runAsUserName = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new WindowsSecurityContextOptions(gmsaCredentialSpec, gmsaCredentialSpecName, runAsUserName);
+        } catch (IllegalArgumentException e) {
+            return (WindowsSecurityContextOptions) context.handleInstantiationProblem(WindowsSecurityContextOptions.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link WindowsSecurityContextOptions}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable WindowsSecurityContextOptions value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("gmsaCredentialSpec", value.getGmsaCredentialSpec(), Codecs::writeString, generator, provider);
+        Codecs.writeField("gmsaCredentialSpecName", value.getGmsaCredentialSpecName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("runAsUserName", value.getRunAsUserName(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
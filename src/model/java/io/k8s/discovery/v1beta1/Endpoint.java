@@ -16,6 +16,7 @@
 
 package io.k8s.discovery.v1beta1;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import io.k8s.core.v1.ObjectReference;
 import java.util.List;
 import java.util.Map;
@@ -72,6 +73,7 @@ public class Endpoint {
      * indicates the region where the
      *   endpoint is located. This should match the corresponding node label.
      */
+    @JsonProperty("topology")
     @Nullable
     @Singular("topology")
     Map<String, String> topology;
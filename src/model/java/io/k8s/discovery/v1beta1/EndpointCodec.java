@@ -0,0 +1,163 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.discovery.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.core.v1.ObjectReference;
+import io.k8s.core.v1.ObjectReferenceCodec;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link Endpoint} that read and write its fields without reflection.
+ */
+public final class EndpointCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link Endpoint}
+     */
+    public static final JsonDeserializer<Endpoint> DESERIALIZER = new StdDeserializer<Endpoint>(Endpoint.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Endpoint deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return EndpointCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link Endpoint}
+     */
+    public static final JsonSerializer<Endpoint> SERIALIZER = new StdSerializer<Endpoint>(Endpoint.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(Endpoint value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            EndpointCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private EndpointCodec() {
+    }
+
+    /**
+     * Compares two {@link Endpoint}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable Endpoint original, Endpoint modified, Diff diff) {
+        diff.value("addresses", original, modified, Endpoint::getAddresses);
+        diff.object("conditions", original, modified, Endpoint::getConditions, EndpointConditionsCodec::diff);
+        diff.value("hostname", original, modified, Endpoint::getHostname);
+        diff.object("targetRef", original, modified, Endpoint::getTargetRef, ObjectReferenceCodec::diff);
+        diff.map("topology", original, modified, Endpoint::getTopology);
+    }
+
+    /**
+     * Reads a {@link Endpoint}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link Endpoint} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static Endpoint read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<String> addresses = Collections.emptyList();
+        EndpointConditions conditions = null;
+        String hostname = null;
+        ObjectReference targetRef = null;
+        Map<String, String> topology = Collections.emptyMap();
+
+        for (String fieldName = Codecs.startObject(parser, context, Endpoint.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "addresses":
+                    addresses = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "conditions":
+                    conditions = EndpointConditionsCodec.read(parser, context);
+                    break;
+                case "hostname":
+                    hostname = Codecs.readString(parser, context);
+                    break;
+                case "targetRef":
+                    targetRef = ObjectReferenceCodec.read(parser, context);
+                    break;
+                case "topology":
+                    topology = Codecs.readMap(parser, context, Codecs::readString);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new Endpoint(addresses, conditions, hostname, targetRef, topology);
+        } catch (IllegalArgumentException e) {
+            return (Endpoint) context.handleInstantiationProblem(Endpoint.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link Endpoint}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable Endpoint value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("addresses", value.getAddresses(), Codecs::writeString, generator, provider);
+        Codecs.writeField("conditions", value.getConditions(), EndpointConditionsCodec::write, generator, provider);
+        Codecs.writeField("hostname", value.getHostname(), Codecs::writeString, generator, provider);
+        Codecs.writeField("targetRef", value.getTargetRef(), ObjectReferenceCodec::write, generator, provider);
+        Codecs.writeMapField("topology", value.getTopology(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
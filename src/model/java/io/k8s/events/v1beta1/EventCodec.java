@@ -0,0 +1,346 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.events.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.core.v1.EventSource;
+import io.k8s.core.v1.EventSourceCodec;
+import io.k8s.core.v1.ObjectReference;
+import io.k8s.core.v1.ObjectReferenceCodec;
+import io.k8s.meta.v1.ManagedFieldsEntry;
+import io.k8s.meta.v1.ManagedFieldsEntryCodec;
+import io.k8s.meta.v1.OwnerReference;
+import io.k8s.meta.v1.OwnerReferenceCodec;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link Event} that read and write its fields without reflection.
+ */
+public final class EventCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link Event}
+     */
+    public static final JsonDeserializer<Event> DESERIALIZER = new StdDeserializer<Event>(Event.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Event deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return EventCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link Event}
+     */
+    public static final JsonSerializer<Event> SERIALIZER = new StdSerializer<Event>(Event.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(Event value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            EventCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private EventCodec() {
+    }
+
+    /**
+     * Compares two {@link Event}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable Event original, Event modified, Diff diff) {
+        diff.value("action", original, modified, Event::getAction);
+        diff.value("apiVersion", original, modified, Event::getApiVersion);
+        diff.value("deprecatedFirstTimestamp", original, modified, Event::getDeprecatedFirstTimestamp);
+        diff.value("deprecatedLastTimestamp", original, modified, Event::getDeprecatedLastTimestamp);
+        diff.object("deprecatedSource", original, modified, Event::getDeprecatedSource, EventSourceCodec::diff);
+        diff.value("eventTime", original, modified, Event::getEventTime);
+        diff.value("kind", original, modified, Event::getKind);
+        diff.value("note", original, modified, Event::getNote);
+        diff.value("reason", original, modified, Event::getReason);
+        diff.object("regarding", original, modified, Event::getRegarding, ObjectReferenceCodec::diff);
+        diff.object("related", original, modified, Event::getRelated, ObjectReferenceCodec::diff);
+        diff.value("reportingController", original, modified, Event::getReportingController);
+        diff.value("reportingInstance", original, modified, Event::getReportingInstance);
+        diff.object("series", original, modified, Event::getSeries, EventSeriesCodec::diff);
+        diff.value("type", original, modified, Event::getType);
+        diff.object("metadata", original, modified, EventCodec::getMetadata, EventCodec::diffMetadata);
+    }
+
+    /**
+     * Reads a {@link Event}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link Event} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static Event read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String action = null;
+        String apiVersion = null;
+        OffsetDateTime deprecatedFirstTimestamp = null;
+        OffsetDateTime deprecatedLastTimestamp = null;
+        EventSource deprecatedSource = null;
+        OffsetDateTime eventTime = null;
+        String kind = null;
+        String note = null;
+        String reason = null;
+        ObjectReference regarding = null;
+        ObjectReference related = null;
+        String reportingController = null;
+        String reportingInstance = null;
+        EventSeries series = null;
+        String type = null;
+        Map<String, String> annotations = Collections.emptyMap();
+        String clusterName = null;
+        OffsetDateTime creationTimestamp = null;
+        Long deletionGracePeriodSeconds = null;
+        OffsetDateTime deletionTimestamp = null;
+        List<String> finalizers = Collections.emptyList();
+        String generateName = null;
+        Long generation = null;
+        Map<String, String> labels = Collections.emptyMap();
+        List<ManagedFieldsEntry> managedFields = Collections.emptyList();
+        String name = null;
+        String namespace = null;
+        List<OwnerReference> ownerReferences = Collections.emptyList();
+        String resourceVersion = null;
+        String uid = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, Event.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "action":
+                    action = Codecs.readString(parser, context);
+                    break;
+                case "apiVersion":
+                    apiVersion = Codecs.readInternedString(parser, context);
+                    break;
+                case "deprecatedFirstTimestamp":
+                    deprecatedFirstTimestamp = Codecs.readDateTime(parser, context);
+                    break;
+                case "deprecatedLastTimestamp":
+                    deprecatedLastTimestamp = Codecs.readDateTime(parser, context);
+                    break;
+                case "deprecatedSource":
+                    deprecatedSource = EventSourceCodec.read(parser, context);
+                    break;
+                case "eventTime":
+                    eventTime = Codecs.readDateTime(parser, context);
+                    break;
+                case "kind":
+                    kind = Codecs.readInternedString(parser, context);
+                    break;
+                case "note":
+                    note = Codecs.readString(parser, context);
+                    break;
+                case "reason":
+                    reason = Codecs.readInternedString(parser, context);
+                    break;
+                case "regarding":
+                    regarding = ObjectReferenceCodec.read(parser, context);
+                    break;
+                case "related":
+                    related = ObjectReferenceCodec.read(parser, context);
+                    break;
+                case "reportingController":
+                    reportingController = Codecs.readString(parser, context);
+                    break;
+                case "reportingInstance":
+                    reportingInstance = Codecs.readString(parser, context);
+                    break;
+                case "series":
+                    series = EventSeriesCodec.read(parser, context);
+                    break;
+                case "type":
+                    type = Codecs.readInternedString(parser, context);
+                    break;
+                case "metadata":
+                    for (String metadataName = Codecs.startObject(parser, context, Event.class); metadataName != null; metadataName = parser.nextFieldName()) {
+                        parser.nextToken();
+
+                        switch (metadataName) {
+                            case "annotations":
+                                annotations = Codecs.readMap(parser, context, Codecs::readString);
+                                break;
+                            case "clusterName":
+                                clusterName = Codecs.readString(parser, context);
+                                break;
+                            case "creationTimestamp":
+                                creationTimestamp = Codecs.readDateTime(parser, context);
+                                break;
+                            case "deletionGracePeriodSeconds":
+                                deletionGracePeriodSeconds = Codecs.readLong(parser, context);
+                                break;
+                            case "deletionTimestamp":
+                                deletionTimestamp = Codecs.readDateTime(parser, context);
+                                break;
+                            case "finalizers":
+                                finalizers = Codecs.readList(parser, context, Codecs::readString);
+                                break;
+                            case "generateName":
+                                generateName = Codecs.readString(parser, context);
+                                break;
+                            case "generation":
+                                generation = Codecs.readLong(parser, context);
+                                break;
+                            case "labels":
+                                labels = Codecs.readMap(parser, context, Codecs::readInternedString);
+                                break;
+                            case "managedFields":
+                                managedFields = Codecs.readManagedFields(parser, context, ManagedFieldsEntryCodec::read);
+                                break;
+                            case "name":
+                                name = Codecs.readString(parser, context);
+                                break;
+                            case "namespace":
+                                namespace = Codecs.readInternedString(parser, context);
+                                break;
+                            case "ownerReferences":
+                                ownerReferences = Codecs.readList(parser, context, OwnerReferenceCodec::read);
+                                break;
+                            case "resourceVersion":
+                                resourceVersion = Codecs.readString(parser, context);
+                                break;
+                            case "uid":
+                                uid = Codecs.readString(parser, context);
+                                break;
+                            default:
+                                parser.skipChildren();
+                        }
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new Event(action, apiVersion, deprecatedFirstTimestamp, deprecatedLastTimestamp, deprecatedSource, eventTime, kind, note, reason, regarding, related, reportingController, reportingInstance, series, type, annotations, clusterName, creationTimestamp, deletionGracePeriodSeconds, deletionTimestamp, finalizers, generateName, generation, labels, managedFields, name, namespace, ownerReferences, resourceVersion, uid);
+        } catch (IllegalArgumentException e) {
+            return (Event) context.handleInstantiationProblem(Event.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link Event}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable Event value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("action", value.getAction(), Codecs::writeString, generator, provider);
+        Codecs.writeField("apiVersion", value.getApiVersion(), Codecs::writeString, generator, provider);
+        Codecs.writeField("deprecatedFirstTimestamp", value.getDeprecatedFirstTimestamp(), Codecs::writeDateTime, generator, provider);
+        Codecs.writeField("deprecatedLastTimestamp", value.getDeprecatedLastTimestamp(), Codecs::writeDateTime, generator, provider);
+        Codecs.writeField("deprecatedSource", value.getDeprecatedSource(), EventSourceCodec::write, generator, provider);
+        Codecs.writeField("eventTime", value.getEventTime(), Codecs::writeDateTime, generator, provider);
+        Codecs.writeField("kind", value.getKind(), Codecs::writeString, generator, provider);
+        Codecs.writeField("note", value.getNote(), Codecs::writeString, generator, provider);
+        Codecs.writeField("reason", value.getReason(), Codecs::writeString, generator, provider);
+        Codecs.writeField("regarding", value.getRegarding(), ObjectReferenceCodec::write, generator, provider);
+        Codecs.writeField("related", value.getRelated(), ObjectReferenceCodec::write, generator, provider);
+        Codecs.writeField("reportingController", value.getReportingController(), Codecs::writeString, generator, provider);
+        Codecs.writeField("reportingInstance", value.getReportingInstance(), Codecs::writeString, generator, provider);
+        Codecs.writeField("series", value.getSeries(), EventSeriesCodec::write, generator, provider);
+        Codecs.writeField("type", value.getType(), Codecs::writeString, generator, provider);
+
+        if (Codecs.isPresent(value.getAnnotations(), value.getClusterName(), value.getCreationTimestamp(), value.getDeletionGracePeriodSeconds(), value.getDeletionTimestamp(), value.getFinalizers(), value.getGenerateName(), value.getGeneration(), value.getLabels(), value.getManagedFields(), value.getName(), value.getNamespace(), value.getOwnerReferences(), value.getResourceVersion(), value.getUid())) {
+            generator.writeFieldName("metadata");
+            generator.writeStartObject();
+            Codecs.writeMapField("annotations", value.getAnnotations(), Codecs::writeString, generator, provider);
+            Codecs.writeField("clusterName", value.getClusterName(), Codecs::writeString, generator, provider);
+            Codecs.writeField("creationTimestamp", value.getCreationTimestamp(), Codecs::writeDateTime, generator, provider);
+            Codecs.writeField("deletionGracePeriodSeconds", value.getDeletionGracePeriodSeconds(), Codecs::writeLong, generator, provider);
+            Codecs.writeField("deletionTimestamp", value.getDeletionTimestamp(), Codecs::writeDateTime, generator, provider);
+            Codecs.writeListField("finalizers", value.getFinalizers(), Codecs::writeString, generator, provider);
+            Codecs.writeField("generateName", value.getGenerateName(), Codecs::writeString, generator, provider);
+            Codecs.writeField("generation", value.getGeneration(), Codecs::writeLong, generator, provider);
+            Codecs.writeMapField("labels", value.getLabels(), Codecs::writeString, generator, provider);
+            Codecs.writeListField("managedFields", value.getManagedFields(), ManagedFieldsEntryCodec::write, generator, provider);
+            Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+            Codecs.writeField("namespace", value.getNamespace(), Codecs::writeString, generator, provider);
+            Codecs.writeListField("ownerReferences", value.getOwnerReferences(), OwnerReferenceCodec::write, generator, provider);
+            Codecs.writeField("resourceVersion", value.getResourceVersion(), Codecs::writeString, generator, provider);
+            Codecs.writeField("uid", value.getUid(), Codecs::writeString, generator, provider);
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+    }
+
+    private static void diffMetadata(@Nullable Event original, Event modified, Diff diff) {
+        diff.map("annotations", original, modified, Event::getAnnotations);
+        diff.value("clusterName", original, modified, Event::getClusterName);
+        diff.value("creationTimestamp", original, modified, Event::getCreationTimestamp);
+        diff.value("deletionGracePeriodSeconds", original, modified, Event::getDeletionGracePeriodSeconds);
+        diff.value("deletionTimestamp", original, modified, Event::getDeletionTimestamp);
+        diff.list("finalizers", original, modified, Event::getFinalizers);
+        diff.value("generateName", original, modified, Event::getGenerateName);
+        diff.value("generation", original, modified, Event::getGeneration);
+        diff.map("labels", original, modified, Event::getLabels);
+        diff.value("managedFields", original, modified, Event::getManagedFields);
+        diff.value("name", original, modified, Event::getName);
+        diff.value("namespace", original, modified, Event::getNamespace);
+        diff.list("ownerReferences", original, modified, Event::getOwnerReferences, "uid", OwnerReference::getUid, OwnerReferenceCodec::diff);
+        diff.value("resourceVersion", original, modified, Event::getResourceVersion);
+        diff.value("uid", original, modified, Event::getUid);
+    }
+
+    // The value stands in for its own metadata, which is only present on the wire if any of its properties are
+    @Nullable
+    private static Event getMetadata(Event value) {
+        return Codecs.isPresent(value.getAnnotations(), value.getClusterName(), value.getCreationTimestamp(), value.getDeletionGracePeriodSeconds(), value.getDeletionTimestamp(), value.getFinalizers(), value.getGenerateName(), value.getGeneration(), value.getLabels(), value.getManagedFields(), value.getName(), value.getNamespace(), value.getOwnerReferences(), value.getResourceVersion(), value.getUid()) ? value : null;
+    }
+
+}
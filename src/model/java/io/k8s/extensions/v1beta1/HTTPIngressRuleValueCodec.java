@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.extensions.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link HTTPIngressRuleValue} that read and write its fields without reflection.
+ */
+public final class HTTPIngressRuleValueCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link HTTPIngressRuleValue}
+     */
+    public static final JsonDeserializer<HTTPIngressRuleValue> DESERIALIZER = new StdDeserializer<HTTPIngressRuleValue>(HTTPIngressRuleValue.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public HTTPIngressRuleValue deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return HTTPIngressRuleValueCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link HTTPIngressRuleValue}
+     */
+    public static final JsonSerializer<HTTPIngressRuleValue> SERIALIZER = new StdSerializer<HTTPIngressRuleValue>(HTTPIngressRuleValue.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(HTTPIngressRuleValue value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            HTTPIngressRuleValueCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private HTTPIngressRuleValueCodec() {
+    }
+
+    /**
+     * Compares two {@link HTTPIngressRuleValue}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable HTTPIngressRuleValue original, HTTPIngressRuleValue modified, Diff diff) {
+        diff.value("paths", original, modified, HTTPIngressRuleValue::getPaths);
+    }
+
+    /**
+     * Reads a {@link HTTPIngressRuleValue}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link HTTPIngressRuleValue} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static HTTPIngressRuleValue read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<HTTPIngressPath> paths = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, HTTPIngressRuleValue.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "paths":
+                    paths = Codecs.readList(parser, context, HTTPIngressPathCodec::read);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new HTTPIngressRuleValue(paths);
+        } catch (IllegalArgumentException e) {
+            return (HTTPIngressRuleValue) context.handleInstantiationProblem(HTTPIngressRuleValue.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link HTTPIngressRuleValue}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable HTTPIngressRuleValue value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("paths", value.getPaths(), HTTPIngressPathCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.extensions.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.core.v1.TypedLocalObjectReference;
+import io.k8s.core.v1.TypedLocalObjectReferenceCodec;
+import io.k8s.intstr.IntOrString;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link IngressBackend} that read and write its fields without reflection.
+ */
+public final class IngressBackendCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link IngressBackend}
+     */
+    public static final JsonDeserializer<IngressBackend> DESERIALIZER = new StdDeserializer<IngressBackend>(IngressBackend.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public IngressBackend deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return IngressBackendCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link IngressBackend}
+     */
+    public static final JsonSerializer<IngressBackend> SERIALIZER = new StdSerializer<IngressBackend>(IngressBackend.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(IngressBackend value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            IngressBackendCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private IngressBackendCodec() {
+    }
+
+    /**
+     * Compares two {@link IngressBackend}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable IngressBackend original, IngressBackend modified, Diff diff) {
+        diff.object("resource", original, modified, IngressBackend::getResource, TypedLocalObjectReferenceCodec::diff);
+        diff.value("serviceName", original, modified, IngressBackend::getServiceName);
+        diff.value("servicePort", original, modified, IngressBackend::getServicePort);
+    }
+
+    /**
+     * Reads a {@link IngressBackend}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link IngressBackend} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static IngressBackend read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        TypedLocalObjectReference resource = null;
+        String serviceName = null;
+        IntOrString servicePort = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, IngressBackend.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "resource":
+                    resource = TypedLocalObjectReferenceCodec.read(parser, context);
+                    break;
+                case "serviceName":
+                    serviceName = Codecs.readString(parser, context);
+                    break;
+                case "servicePort":
+                    servicePort = Codecs.readIntOrString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new IngressBackend(resource, serviceName, servicePort);
+        } catch (IllegalArgumentException e) {
+            return (IngressBackend) context.handleInstantiationProblem(IngressBackend.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link IngressBackend}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable IngressBackend value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("resource", value.getResource(), TypedLocalObjectReferenceCodec::write, generator, provider);
+        Codecs.writeField("serviceName", value.getServiceName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("servicePort", value.getServicePort(), Codecs::writeIntOrString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
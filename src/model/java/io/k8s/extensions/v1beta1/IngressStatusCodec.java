@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.extensions.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.core.v1.LoadBalancerStatus;
+import io.k8s.core.v1.LoadBalancerStatusCodec;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link IngressStatus} that read and write its fields without reflection.
+ */
+public final class IngressStatusCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link IngressStatus}
+     */
+    public static final JsonDeserializer<IngressStatus> DESERIALIZER = new StdDeserializer<IngressStatus>(IngressStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public IngressStatus deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return IngressStatusCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link IngressStatus}
+     */
+    public static final JsonSerializer<IngressStatus> SERIALIZER = new StdSerializer<IngressStatus>(IngressStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(IngressStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            IngressStatusCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private IngressStatusCodec() {
+    }
+
+    /**
+     * Compares two {@link IngressStatus}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable IngressStatus original, IngressStatus modified, Diff diff) {
+        diff.object("loadBalancer", original, modified, IngressStatus::getLoadBalancer, LoadBalancerStatusCodec::diff);
+    }
+
+    /**
+     * Reads a {@link IngressStatus}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link IngressStatus} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static IngressStatus read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        LoadBalancerStatus loadBalancer = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, IngressStatus.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "loadBalancer":
+                    loadBalancer = LoadBalancerStatusCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new IngressStatus(loadBalancer);
+        } catch (IllegalArgumentException e) {
+            return (IngressStatus) context.handleInstantiationProblem(IngressStatus.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link IngressStatus}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable IngressStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("loadBalancer", value.getLoadBalancer(), LoadBalancerStatusCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
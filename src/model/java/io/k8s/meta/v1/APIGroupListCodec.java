@@ -0,0 +1,148 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.meta.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link APIGroupList} that read and write its fields without reflection.
+ */
+public final class APIGroupListCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link APIGroupList}
+     */
+    public static final JsonDeserializer<APIGroupList> DESERIALIZER = new StdDeserializer<APIGroupList>(APIGroupList.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public APIGroupList deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return APIGroupListCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link APIGroupList}
+     */
+    public static final JsonSerializer<APIGroupList> SERIALIZER = new StdSerializer<APIGroupList>(APIGroupList.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(APIGroupList value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            APIGroupListCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private APIGroupListCodec() {
+    }
+
+    /**
+     * Compares two {@link APIGroupList}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable APIGroupList original, APIGroupList modified, Diff diff) {
+        diff.value("apiVersion", original, modified, APIGroupList::getApiVersion);
+        diff.value("groups", original, modified, APIGroupList::getGroups);
+        diff.value("kind", original, modified, APIGroupList::getKind);
+    }
+
+    /**
+     * Reads a {@link APIGroupList}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link APIGroupList} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static APIGroupList read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String apiVersion = null;
+        List<APIGroup> groups = Collections.emptyList();
+        String kind = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, APIGroupList.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "apiVersion":
+                    apiVersion = Codecs.readInternedString(parser, context);
+                    break;
+                case "groups":
+                    groups = Codecs.readList(parser, context, APIGroupCodec::read);
+                    break;
+                case "kind":
+                    kind = Codecs.readInternedString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new APIGroupList(apiVersion, groups, kind);
+        } catch (IllegalArgumentException e) {
+            return (APIGroupList) context.handleInstantiationProblem(APIGroupList.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link APIGroupList}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable APIGroupList value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("apiVersion", value.getApiVersion(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("groups", value.getGroups(), APIGroupCodec::write, generator, provider);
+        Codecs.writeField("kind", value.getKind(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.meta.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link APIResource} that read and write its fields without reflection.
+ */
+public final class APIResourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link APIResource}
+     */
+    public static final JsonDeserializer<APIResource> DESERIALIZER = new StdDeserializer<APIResource>(APIResource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public APIResource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return APIResourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link APIResource}
+     */
+    public static final JsonSerializer<APIResource> SERIALIZER = new StdSerializer<APIResource>(APIResource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(APIResource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            APIResourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private APIResourceCodec() {
+    }
+
+    /**
+     * Compares two {@link APIResource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable APIResource original, APIResource modified, Diff diff) {
+        diff.value("categories", original, modified, APIResource::getCategories);
+        diff.value("group", original, modified, APIResource::getGroup);
+        diff.value("kind", original, modified, APIResource::getKind);
+        diff.value("name", original, modified, APIResource::getName);
+        diff.value("namespaced", original, modified, APIResource::getNamespaced);
+        diff.value("shortNames", original, modified, APIResource::getShortNames);
+        diff.value("singularName", original, modified, APIResource::getSingularName);
+        diff.value("storageVersionHash", original, modified, APIResource::getStorageVersionHash);
+        diff.value("verbs", original, modified, APIResource::getVerbs);
+        diff.value("version", original, modified, APIResource::getVersion);
+    }
+
+    /**
+     * Reads a {@link APIResource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link APIResource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static APIResource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<String> categories = Collections.emptyList();
+        String group = null;
+        String kind = null;
+        String name = null;
+        Boolean namespaced = null;
+        List<String> shortNames = Collections.emptyList();
+        String singularName = null;
+        String storageVersionHash = null;
+        List<String> verbs = Collections.emptyList();
+        String version = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, APIResource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "categories":
+                    categories = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "group":
+                    group = Codecs.readString(parser, context);
+                    break;
+                case "kind":
+                    kind = Codecs.readInternedString(parser, context);
+                    break;
+                case "name":
+                    name = Codecs.readString(parser, context);
+                    break;
+                case "namespaced":
+                    namespaced = Codecs.readBoolean(parser, context);
+                    break;
+                case "shortNames":
+                    shortNames = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "singularName":
+                    singularName = Codecs.readString(parser, context);
+                    break;
+                case "storageVersionHash":
+                    storageVersionHash = Codecs.readString(parser, context);
+                    break;
+                case "verbs":
+                    verbs = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "version":
+                    version = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new APIResource(categories, group, kind, name, namespaced, shortNames, singularName, storageVersionHash, verbs, version);
+        } catch (IllegalArgumentException e) {
+            return (APIResource) context.handleInstantiationProblem(APIResource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link APIResource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable APIResource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("categories", value.getCategories(), Codecs::writeString, generator, provider);
+        Codecs.writeField("group", value.getGroup(), Codecs::writeString, generator, provider);
+        Codecs.writeField("kind", value.getKind(), Codecs::writeString, generator, provider);
+        Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("namespaced", value.getNamespaced(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeListField("shortNames", value.getShortNames(), Codecs::writeString, generator, provider);
+        Codecs.writeField("singularName", value.getSingularName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("storageVersionHash", value.getStorageVersionHash(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("verbs", value.getVerbs(), Codecs::writeString, generator, provider);
+        Codecs.writeField("version", value.getVersion(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
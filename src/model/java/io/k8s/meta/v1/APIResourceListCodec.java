@@ -0,0 +1,154 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.meta.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link APIResourceList} that read and write its fields without reflection.
+ */
+public final class APIResourceListCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link APIResourceList}
+     */
+    public static final JsonDeserializer<APIResourceList> DESERIALIZER = new StdDeserializer<APIResourceList>(APIResourceList.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public APIResourceList deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return APIResourceListCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link APIResourceList}
+     */
+    public static final JsonSerializer<APIResourceList> SERIALIZER = new StdSerializer<APIResourceList>(APIResourceList.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(APIResourceList value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            APIResourceListCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private APIResourceListCodec() {
+    }
+
+    /**
+     * Compares two {@link APIResourceList}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable APIResourceList original, APIResourceList modified, Diff diff) {
+        diff.value("apiVersion", original, modified, APIResourceList::getApiVersion);
+        diff.value("groupVersion", original, modified, APIResourceList::getGroupVersion);
+        diff.value("kind", original, modified, APIResourceList::getKind);
+        diff.value("resources", original, modified, APIResourceList::getResources);
+    }
+
+    /**
+     * Reads a {@link APIResourceList}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link APIResourceList} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static APIResourceList read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String apiVersion = null;
+        String groupVersion = null;
+        String kind = null;
+        List<APIResource> resources = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, APIResourceList.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "apiVersion":
+                    apiVersion = Codecs.readInternedString(parser, context);
+                    break;
+                case "groupVersion":
+                    groupVersion = Codecs.readString(parser, context);
+                    break;
+                case "kind":
+                    kind = Codecs.readInternedString(parser, context);
+                    break;
+                case "resources":
+                    resources = Codecs.readList(parser, context, APIResourceCodec::read);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new APIResourceList(apiVersion, groupVersion, kind, resources);
+        } catch (IllegalArgumentException e) {
+            return (APIResourceList) context.handleInstantiationProblem(APIResourceList.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link APIResourceList}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable APIResourceList value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("apiVersion", value.getApiVersion(), Codecs::writeString, generator, provider);
+        Codecs.writeField("groupVersion", value.getGroupVersion(), Codecs::writeString, generator, provider);
+        Codecs.writeField("kind", value.getKind(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("resources", value.getResources(), APIResourceCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.meta.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link APIVersions} that read and write its fields without reflection.
+ */
+public final class APIVersionsCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link APIVersions}
+     */
+    public static final JsonDeserializer<APIVersions> DESERIALIZER = new StdDeserializer<APIVersions>(APIVersions.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public APIVersions deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return APIVersionsCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link APIVersions}
+     */
+    public static final JsonSerializer<APIVersions> SERIALIZER = new StdSerializer<APIVersions>(APIVersions.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(APIVersions value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            APIVersionsCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private APIVersionsCodec() {
+    }
+
+    /**
+     * Compares two {@link APIVersions}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable APIVersions original, APIVersions modified, Diff diff) {
+        diff.value("apiVersion", original, modified, APIVersions::getApiVersion);
+        diff.value("kind", original, modified, APIVersions::getKind);
+        diff.value("serverAddressByClientCIDRs", original, modified, APIVersions::getServerAddressByClientCIDRs);
+        diff.value("versions", original, modified, APIVersions::getVersions);
+    }
+
+    /**
+     * Reads a {@link APIVersions}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link APIVersions} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static APIVersions read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String apiVersion = null;
+        String kind = null;
+        List<ServerAddressByClientCIDR> serverAddressByClientCIDRs = Collections.emptyList();
+        List<String> versions = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, APIVersions.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "apiVersion":
+                    apiVersion = Codecs.readInternedString(parser, context);
+                    break;
+                case "kind":
+                    kind = Codecs.readInternedString(parser, context);
+                    break;
+                case "serverAddressByClientCIDRs":
+                    serverAddressByClientCIDRs = Codecs.readList(parser, context, ServerAddressByClientCIDRCodec::read);
+                    break;
+                case "versions":
+                    versions = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new APIVersions(apiVersion, kind, serverAddressByClientCIDRs, versions);
+        } catch (IllegalArgumentException e) {
+            return (APIVersions) context.handleInstantiationProblem(APIVersions.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link APIVersions}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable APIVersions value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("apiVersion", value.getApiVersion(), Codecs::writeString, generator, provider);
+        Codecs.writeField("kind", value.getKind(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("serverAddressByClientCIDRs", value.getServerAddressByClientCIDRs(), ServerAddressByClientCIDRCodec::write, generator, provider);
+        Codecs.writeListField("versions", value.getVersions(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
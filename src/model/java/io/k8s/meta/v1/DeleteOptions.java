@@ -16,6 +16,7 @@
 
 package io.k8s.meta.v1;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 import lombok.Builder;
 import lombok.Singular;
@@ -50,6 +51,7 @@ public class DeleteOptions implements TypeMeta {
      * will result in an error response and no further processing of the request. Valid values are: - All: all dry run
      * stages will be processed
      */
+    @JsonProperty("dryRun")
     @Nullable
     @Singular("dryRun")
     List<String> dryRun;
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.meta.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link DeleteOptions} that read and write its fields without reflection.
+ */
+public final class DeleteOptionsCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link DeleteOptions}
+     */
+    public static final JsonDeserializer<DeleteOptions> DESERIALIZER = new StdDeserializer<DeleteOptions>(DeleteOptions.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public DeleteOptions deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return DeleteOptionsCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link DeleteOptions}
+     */
+    public static final JsonSerializer<DeleteOptions> SERIALIZER = new StdSerializer<DeleteOptions>(DeleteOptions.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(DeleteOptions value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            DeleteOptionsCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private DeleteOptionsCodec() {
+    }
+
+    /**
+     * Compares two {@link DeleteOptions}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable DeleteOptions original, DeleteOptions modified, Diff diff) {
+        diff.value("apiVersion", original, modified, DeleteOptions::getApiVersion);
+        diff.value("dryRun", original, modified, DeleteOptions::getDryRun);
+        diff.value("gracePeriodSeconds", original, modified, DeleteOptions::getGracePeriodSeconds);
+        diff.value("kind", original, modified, DeleteOptions::getKind);
+        diff.object("preconditions", original, modified, DeleteOptions::getPreconditions, PreconditionsCodec::diff);
+        diff.value("propagationPolicy", original, modified, DeleteOptions::getPropagationPolicy);
+    }
+
+    /**
+     * Reads a {@link DeleteOptions}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link DeleteOptions} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static DeleteOptions read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String apiVersion = null;
+        List<String> dryRun = Collections.emptyList();
+        Long gracePeriodSeconds = null;
+        String kind = null;
+        Preconditions preconditions = null;
+        String propagationPolicy = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, DeleteOptions.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "apiVersion":
+                    apiVersion = Codecs.readInternedString(parser, context);
+                    break;
+                case "dryRun":
+                    dryRun = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "gracePeriodSeconds":
+                    gracePeriodSeconds = Codecs.readLong(parser, context);
+                    break;
+                case "kind":
+                    kind = Codecs.readInternedString(parser, context);
+                    break;
+                case "preconditions":
+                    preconditions = PreconditionsCodec.read(parser, context);
+                    break;
+                case "propagationPolicy":
+                    propagationPolicy = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new DeleteOptions(apiVersion, dryRun, gracePeriodSeconds, kind, preconditions, propagationPolicy);
+        } catch (IllegalArgumentException e) {
+            return (DeleteOptions) context.handleInstantiationProblem(DeleteOptions.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link DeleteOptions}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable DeleteOptions value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("apiVersion", value.getApiVersion(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("dryRun", value.getDryRun(), Codecs::writeString, generator, provider);
+        Codecs.writeField("gracePeriodSeconds", value.getGracePeriodSeconds(), Codecs::writeLong, generator, provider);
+        Codecs.writeField("kind", value.getKind(), Codecs::writeString, generator, provider);
+        Codecs.writeField("preconditions", value.getPreconditions(), PreconditionsCodec::write, generator, provider);
+        Codecs.writeField("propagationPolicy", value.getPropagationPolicy(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.meta.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link LabelSelector} that read and write its fields without reflection.
+ */
+public final class LabelSelectorCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link LabelSelector}
+     */
+    public static final JsonDeserializer<LabelSelector> DESERIALIZER = new StdDeserializer<LabelSelector>(LabelSelector.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public LabelSelector deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return LabelSelectorCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link LabelSelector}
+     */
+    public static final JsonSerializer<LabelSelector> SERIALIZER = new StdSerializer<LabelSelector>(LabelSelector.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(LabelSelector value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            LabelSelectorCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private LabelSelectorCodec() {
+    }
+
+    /**
+     * Compares two {@link LabelSelector}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable LabelSelector original, LabelSelector modified, Diff diff) {
+        diff.value("matchExpressions", original, modified, LabelSelector::getMatchExpressions);
+        diff.map("matchLabels", original, modified, LabelSelector::getMatchLabels);
+    }
+
+    /**
+     * Reads a {@link LabelSelector}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link LabelSelector} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static LabelSelector read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<LabelSelectorRequirement> matchExpressions = Collections.emptyList();
+        Map<String, String> matchLabels = Collections.emptyMap();
+
+        for (String fieldName = Codecs.startObject(parser, context, LabelSelector.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "matchExpressions":
+                    matchExpressions = Codecs.readList(parser, context, LabelSelectorRequirementCodec::read);
+                    break;
+                case "matchLabels":
+                    matchLabels = Codecs.readMap(parser, context, Codecs::readInternedString);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new LabelSelector(matchExpressions, matchLabels);
+        } catch (IllegalArgumentException e) {
+            return (LabelSelector) context.handleInstantiationProblem(LabelSelector.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link LabelSelector}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable LabelSelector value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("matchExpressions", value.getMatchExpressions(), LabelSelectorRequirementCodec::write, generator, provider);
+        Codecs.writeMapField("matchLabels", value.getMatchLabels(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -16,6 +16,8 @@
 
 package io.k8s.meta.v1;
 
+import io.k8s.type.PatchMergeKey;
+import io.k8s.type.PatchStrategy;
 import java.util.List;
 import lombok.Builder;
 import lombok.Singular;
@@ -37,6 +39,8 @@ public class LabelSelectorRequirement {
      * key is the label key that the selector applies to.
      */
     @NonNull
+    @PatchMergeKey("key")
+    @PatchStrategy("merge")
     String key;
 
     /**
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.meta.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ManagedFieldsEntry} that read and write its fields without reflection.
+ */
+public final class ManagedFieldsEntryCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ManagedFieldsEntry}
+     */
+    public static final JsonDeserializer<ManagedFieldsEntry> DESERIALIZER = new StdDeserializer<ManagedFieldsEntry>(ManagedFieldsEntry.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ManagedFieldsEntry deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ManagedFieldsEntryCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ManagedFieldsEntry}
+     */
+    public static final JsonSerializer<ManagedFieldsEntry> SERIALIZER = new StdSerializer<ManagedFieldsEntry>(ManagedFieldsEntry.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ManagedFieldsEntry value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ManagedFieldsEntryCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ManagedFieldsEntryCodec() {
+    }
+
+    /**
+     * Compares two {@link ManagedFieldsEntry}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ManagedFieldsEntry original, ManagedFieldsEntry modified, Diff diff) {
+        diff.value("apiVersion", original, modified, ManagedFieldsEntry::getApiVersion);
+        diff.value("fieldsType", original, modified, ManagedFieldsEntry::getFieldsType);
+        diff.value("fieldsV1", original, modified, ManagedFieldsEntry::getFieldsV1);
+        diff.value("manager", original, modified, ManagedFieldsEntry::getManager);
+        diff.value("operation", original, modified, ManagedFieldsEntry::getOperation);
+        diff.value("time", original, modified, ManagedFieldsEntry::getTime);
+    }
+
+    /**
+     * Reads a {@link ManagedFieldsEntry}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ManagedFieldsEntry} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ManagedFieldsEntry read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String apiVersion = null;
+        String fieldsType = null;
+        FieldsV1 fieldsV1 = null;
+        String manager = null;
+        String operation = null;
+        OffsetDateTime time = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, ManagedFieldsEntry.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "apiVersion":
+                    apiVersion = Codecs.readInternedString(parser, context);
+                    break;
+                case "fieldsType":
+                    fieldsType = Codecs.readInternedString(parser, context);
+                    break;
+                case "fieldsV1":
+                    fieldsV1 = Codecs.readFieldsV1(parser, context);
+                    break;
+                case "manager":
+                    manager = Codecs.readInternedString(parser, context);
+                    break;
+                case "operation":
+                    operation = Codecs.readInternedString(parser, context);
+                    break;
+                case "time":
+                    time = Codecs.readDateTime(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ManagedFieldsEntry(apiVersion, fieldsType, fieldsV1, manager, operation, time);
+        } catch (IllegalArgumentException e) {
+            return (ManagedFieldsEntry) context.handleInstantiationProblem(ManagedFieldsEntry.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ManagedFieldsEntry}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ManagedFieldsEntry value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("apiVersion", value.getApiVersion(), Codecs::writeString, generator, provider);
+        Codecs.writeField("fieldsType", value.getFieldsType(), Codecs::writeString, generator, provider);
+        Codecs.writeField("fieldsV1", value.getFieldsV1(), Codecs::writeFieldsV1, generator, provider);
+        Codecs.writeField("manager", value.getManager(), Codecs::writeString, generator, provider);
+        Codecs.writeField("operation", value.getOperation(), Codecs::writeString, generator, provider);
+        Codecs.writeField("time", value.getTime(), Codecs::writeDateTime, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
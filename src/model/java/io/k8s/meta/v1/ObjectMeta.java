@@ -16,6 +16,8 @@
 
 package io.k8s.meta.v1;
 
+import io.k8s.type.PatchMergeKey;
+import io.k8s.type.PatchStrategy;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
@@ -67,6 +69,7 @@ public interface ObjectMeta {
      * ordering changes in the list.
      */
     @Nullable
+    @PatchStrategy("merge")
     List<String> getFinalizers();
 
     /**
@@ -135,6 +138,8 @@ public interface ObjectMeta {
      * controller, with the controller field set to true. There cannot be more than one managing controller.
      */
     @Nullable
+    @PatchMergeKey("uid")
+    @PatchStrategy("merge")
     List<OwnerReference> getOwnerReferences();
 
     /**
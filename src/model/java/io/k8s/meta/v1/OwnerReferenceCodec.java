@@ -0,0 +1,164 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.meta.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link OwnerReference} that read and write its fields without reflection.
+ */
+public final class OwnerReferenceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link OwnerReference}
+     */
+    public static final JsonDeserializer<OwnerReference> DESERIALIZER = new StdDeserializer<OwnerReference>(OwnerReference.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public OwnerReference deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return OwnerReferenceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link OwnerReference}
+     */
+    public static final JsonSerializer<OwnerReference> SERIALIZER = new StdSerializer<OwnerReference>(OwnerReference.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(OwnerReference value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            OwnerReferenceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private OwnerReferenceCodec() {
+    }
+
+    /**
+     * Compares two {@link OwnerReference}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable OwnerReference original, OwnerReference modified, Diff diff) {
+        diff.value("apiVersion", original, modified, OwnerReference::getApiVersion);
+        diff.value("blockOwnerDeletion", original, modified, OwnerReference::getBlockOwnerDeletion);
+        diff.value("controller", original, modified, OwnerReference::getController);
+        diff.value("kind", original, modified, OwnerReference::getKind);
+        diff.value("name", original, modified, OwnerReference::getName);
+        diff.value("uid", original, modified, OwnerReference::getUid);
+    }
+
+    /**
+     * Reads a {@link OwnerReference}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link OwnerReference} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static OwnerReference read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String apiVersion = null;
+        Boolean blockOwnerDeletion = null;
+        Boolean controller = null;
+        String kind = null;
+        String name = null;
+        String uid = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, OwnerReference.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "apiVersion":
+                    apiVersion = Codecs.readInternedString(parser, context);
+                    break;
+                case "blockOwnerDeletion":
+                    blockOwnerDeletion = Codecs.readBoolean(parser, context);
+                    break;
+                case "controller":
+                    controller = Codecs.readBoolean(parser, context);
+                    break;
+                case "kind":
+                    kind = Codecs.readInternedString(parser, context);
+                    break;
+                case "name":
+                    name = Codecs.readString(parser, context);
+                    break;
+                case "uid":
+                    uid = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new OwnerReference(apiVersion, blockOwnerDeletion, controller, kind, name, uid);
+        } catch (IllegalArgumentException e) {
+            return (OwnerReference) context.handleInstantiationProblem(OwnerReference.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link OwnerReference}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable OwnerReference value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("apiVersion", value.getApiVersion(), Codecs::writeString, generator, provider);
+        Codecs.writeField("blockOwnerDeletion", value.getBlockOwnerDeletion(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("controller", value.getController(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("kind", value.getKind(), Codecs::writeString, generator, provider);
+        Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("uid", value.getUid(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.meta.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link ServerAddressByClientCIDR} that read and write its fields without reflection.
+ */
+public final class ServerAddressByClientCIDRCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link ServerAddressByClientCIDR}
+     */
+    public static final JsonDeserializer<ServerAddressByClientCIDR> DESERIALIZER = new StdDeserializer<ServerAddressByClientCIDR>(ServerAddressByClientCIDR.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public ServerAddressByClientCIDR deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return ServerAddressByClientCIDRCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link ServerAddressByClientCIDR}
+     */
+    public static final JsonSerializer<ServerAddressByClientCIDR> SERIALIZER = new StdSerializer<ServerAddressByClientCIDR>(ServerAddressByClientCIDR.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(ServerAddressByClientCIDR value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            ServerAddressByClientCIDRCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private ServerAddressByClientCIDRCodec() {
+    }
+
+    /**
+     * Compares two {@link ServerAddressByClientCIDR}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable ServerAddressByClientCIDR original, ServerAddressByClientCIDR modified, Diff diff) {
+        diff.value("clientCIDR", original, modified, ServerAddressByClientCIDR::getClientCIDR);
+        diff.value("serverAddress", original, modified, ServerAddressByClientCIDR::getServerAddress);
+    }
+
+    /**
+     * Reads a {@link ServerAddressByClientCIDR}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link ServerAddressByClientCIDR} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static ServerAddressByClientCIDR read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String clientCIDR = null;
+        String serverAddress = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, ServerAddressByClientCIDR.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "clientCIDR":
+                    clientCIDR = Codecs.readString(parser, context);
+                    break;
+                case "serverAddress":
+                    serverAddress = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new ServerAddressByClientCIDR(clientCIDR, serverAddress);
+        } catch (IllegalArgumentException e) {
+            return (ServerAddressByClientCIDR) context.handleInstantiationProblem(ServerAddressByClientCIDR.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link ServerAddressByClientCIDR}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable ServerAddressByClientCIDR value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("clientCIDR", value.getClientCIDR(), Codecs::writeString, generator, provider);
+        Codecs.writeField("serverAddress", value.getServerAddress(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
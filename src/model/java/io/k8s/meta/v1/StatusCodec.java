@@ -0,0 +1,214 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.meta.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link Status} that read and write its fields without reflection.
+ */
+public final class StatusCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link Status}
+     */
+    public static final JsonDeserializer<Status> DESERIALIZER = new StdDeserializer<Status>(Status.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Status deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return StatusCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link Status}
+     */
+    public static final JsonSerializer<Status> SERIALIZER = new StdSerializer<Status>(Status.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(Status value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            StatusCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private StatusCodec() {
+    }
+
+    /**
+     * Compares two {@link Status}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable Status original, Status modified, Diff diff) {
+        diff.value("apiVersion", original, modified, Status::getApiVersion);
+        diff.value("code", original, modified, Status::getCode);
+        diff.object("details", original, modified, Status::getDetails, StatusDetailsCodec::diff);
+        diff.value("kind", original, modified, Status::getKind);
+        diff.value("message", original, modified, Status::getMessage);
+        diff.value("reason", original, modified, Status::getReason);
+        diff.value("status", original, modified, Status::getStatus);
+        diff.object("metadata", original, modified, StatusCodec::getMetadata, StatusCodec::diffMetadata);
+    }
+
+    /**
+     * Reads a {@link Status}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link Status} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static Status read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String apiVersion = null;
+        Integer code = null;
+        StatusDetails details = null;
+        String kind = null;
+        String message = null;
+        String reason = null;
+        String status = null;
+        String _continue = null;
+        Long remainingItemCount = null;
+        String resourceVersion = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, Status.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "apiVersion":
+                    apiVersion = Codecs.readInternedString(parser, context);
+                    break;
+                case "code":
+                    code = Codecs.readInteger(parser, context);
+                    break;
+                case "details":
+                    details = StatusDetailsCodec.read(parser, context);
+                    break;
+                case "kind":
+                    kind = Codecs.readInternedString(parser, context);
+                    break;
+                case "message":
+                    message = Codecs.readString(parser, context);
+                    break;
+                case "reason":
+                    reason = Codecs.readInternedString(parser, context);
+                    break;
+                case "status":
+                    status = Codecs.readInternedString(parser, context);
+                    break;
+                case "metadata":
+                    for (String metadataName = Codecs.startObject(parser, context, Status.class); metadataName != null; metadataName = parser.nextFieldName()) {
+                        parser.nextToken();
+
+                        switch (metadataName) {
+                            case "continue":
+                                _continue = Codecs.readString(parser, context);
+                                break;
+                            case "remainingItemCount":
+                                remainingItemCount = Codecs.readLong(parser, context);
+                                break;
+                            case "resourceVersion":
+                                resourceVersion = Codecs.readString(parser, context);
+                                break;
+                            default:
+                                parser.skipChildren();
+                        }
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new Status(apiVersion, code, details, kind, message, reason, status, _continue, remainingItemCount, resourceVersion);
+        } catch (IllegalArgumentException e) {
+            return (Status) context.handleInstantiationProblem(Status.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link Status}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable Status value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("apiVersion", value.getApiVersion(), Codecs::writeString, generator, provider);
+        Codecs.writeField("code", value.getCode(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("details", value.getDetails(), StatusDetailsCodec::write, generator, provider);
+        Codecs.writeField("kind", value.getKind(), Codecs::writeString, generator, provider);
+        Codecs.writeField("message", value.getMessage(), Codecs::writeString, generator, provider);
+        Codecs.writeField("reason", value.getReason(), Codecs::writeString, generator, provider);
+        Codecs.writeField("status", value.getStatus(), Codecs::writeString, generator, provider);
+
+        if (Codecs.isPresent(value.getContinue(), value.getRemainingItemCount(), value.getResourceVersion())) {
+            generator.writeFieldName("metadata");
+            generator.writeStartObject();
+            Codecs.writeField("continue", value.getContinue(), Codecs::writeString, generator, provider);
+            Codecs.writeField("remainingItemCount", value.getRemainingItemCount(), Codecs::writeLong, generator, provider);
+            Codecs.writeField("resourceVersion", value.getResourceVersion(), Codecs::writeString, generator, provider);
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+    }
+
+    private static void diffMetadata(@Nullable Status original, Status modified, Diff diff) {
+        diff.value("continue", original, modified, Status::getContinue);
+        diff.value("remainingItemCount", original, modified, Status::getRemainingItemCount);
+        diff.value("resourceVersion", original, modified, Status::getResourceVersion);
+    }
+
+    // The value stands in for its own metadata, which is only present on the wire if any of its properties are
+    @Nullable
+    private static Status getMetadata(Status value) {
+        return Codecs.isPresent(value.getContinue(), value.getRemainingItemCount(), value.getResourceVersion()) ? value : null;
+    }
+
+}
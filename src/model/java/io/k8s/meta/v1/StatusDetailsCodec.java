@@ -0,0 +1,166 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.meta.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link StatusDetails} that read and write its fields without reflection.
+ */
+public final class StatusDetailsCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link StatusDetails}
+     */
+    public static final JsonDeserializer<StatusDetails> DESERIALIZER = new StdDeserializer<StatusDetails>(StatusDetails.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public StatusDetails deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return StatusDetailsCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link StatusDetails}
+     */
+    public static final JsonSerializer<StatusDetails> SERIALIZER = new StdSerializer<StatusDetails>(StatusDetails.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(StatusDetails value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            StatusDetailsCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private StatusDetailsCodec() {
+    }
+
+    /**
+     * Compares two {@link StatusDetails}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable StatusDetails original, StatusDetails modified, Diff diff) {
+        diff.value("causes", original, modified, StatusDetails::getCauses);
+        diff.value("group", original, modified, StatusDetails::getGroup);
+        diff.value("kind", original, modified, StatusDetails::getKind);
+        diff.value("name", original, modified, StatusDetails::getName);
+        diff.value("retryAfterSeconds", original, modified, StatusDetails::getRetryAfterSeconds);
+        diff.value("uid", original, modified, StatusDetails::getUid);
+    }
+
+    /**
+     * Reads a {@link StatusDetails}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link StatusDetails} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static StatusDetails read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<StatusCause> causes = Collections.emptyList();
+        String group = null;
+        String kind = null;
+        String name = null;
+        Integer retryAfterSeconds = null;
+        String uid = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, StatusDetails.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "causes":
+                    causes = Codecs.readList(parser, context, StatusCauseCodec::read);
+                    break;
+                case "group":
+                    group = Codecs.readString(parser, context);
+                    break;
+                case "kind":
+                    kind = Codecs.readInternedString(parser, context);
+                    break;
+                case "name":
+                    name = Codecs.readString(parser, context);
+                    break;
+                case "retryAfterSeconds":
+                    retryAfterSeconds = Codecs.readInteger(parser, context);
+                    break;
+                case "uid":
+                    uid = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new StatusDetails(causes, group, kind, name, retryAfterSeconds, uid);
+        } catch (IllegalArgumentException e) {
+            return (StatusDetails) context.handleInstantiationProblem(StatusDetails.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link StatusDetails}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable StatusDetails value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("causes", value.getCauses(), StatusCauseCodec::write, generator, provider);
+        Codecs.writeField("group", value.getGroup(), Codecs::writeString, generator, provider);
+        Codecs.writeField("kind", value.getKind(), Codecs::writeString, generator, provider);
+        Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("retryAfterSeconds", value.getRetryAfterSeconds(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("uid", value.getUid(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
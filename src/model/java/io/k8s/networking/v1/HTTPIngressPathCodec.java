@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.networking.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link HTTPIngressPath} that read and write its fields without reflection.
+ */
+public final class HTTPIngressPathCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link HTTPIngressPath}
+     */
+    public static final JsonDeserializer<HTTPIngressPath> DESERIALIZER = new StdDeserializer<HTTPIngressPath>(HTTPIngressPath.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public HTTPIngressPath deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return HTTPIngressPathCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link HTTPIngressPath}
+     */
+    public static final JsonSerializer<HTTPIngressPath> SERIALIZER = new StdSerializer<HTTPIngressPath>(HTTPIngressPath.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(HTTPIngressPath value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            HTTPIngressPathCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private HTTPIngressPathCodec() {
+    }
+
+    /**
+     * Compares two {@link HTTPIngressPath}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable HTTPIngressPath original, HTTPIngressPath modified, Diff diff) {
+        diff.object("backend", original, modified, HTTPIngressPath::getBackend, IngressBackendCodec::diff);
+        diff.value("path", original, modified, HTTPIngressPath::getPath);
+        diff.value("pathType", original, modified, HTTPIngressPath::getPathType);
+    }
+
+    /**
+     * Reads a {@link HTTPIngressPath}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link HTTPIngressPath} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static HTTPIngressPath read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        IngressBackend backend = null;
+        String path = null;
+        String pathType = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, HTTPIngressPath.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "backend":
+                    backend = IngressBackendCodec.read(parser, context);
+                    break;
+                case "path":
+                    path = Codecs.readString(parser, context);
+                    break;
+                case "pathType":
+                    pathType = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new HTTPIngressPath(backend, path, pathType);
+        } catch (IllegalArgumentException e) {
+            return (HTTPIngressPath) context.handleInstantiationProblem(HTTPIngressPath.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link HTTPIngressPath}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable HTTPIngressPath value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("backend", value.getBackend(), IngressBackendCodec::write, generator, provider);
+        Codecs.writeField("path", value.getPath(), Codecs::writeString, generator, provider);
+        Codecs.writeField("pathType", value.getPathType(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -16,6 +16,7 @@
 
 package io.k8s.networking.v1;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 import lombok.Builder;
 import lombok.Singular;
@@ -43,6 +44,7 @@ public class IPBlock {
      * Except is a slice of CIDRs that should not be included within an IP Block Valid examples are "192.168.1.1/24" or
      * "2001:db9::/64" Except values will be rejected if they are outside the CIDR range
      */
+    @JsonProperty("except")
     @Nullable
     @Singular("except")
     List<String> except;
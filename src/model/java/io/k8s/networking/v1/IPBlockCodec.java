@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.networking.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link IPBlock} that read and write its fields without reflection.
+ */
+public final class IPBlockCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link IPBlock}
+     */
+    public static final JsonDeserializer<IPBlock> DESERIALIZER = new StdDeserializer<IPBlock>(IPBlock.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public IPBlock deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return IPBlockCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link IPBlock}
+     */
+    public static final JsonSerializer<IPBlock> SERIALIZER = new StdSerializer<IPBlock>(IPBlock.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(IPBlock value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            IPBlockCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private IPBlockCodec() {
+    }
+
+    /**
+     * Compares two {@link IPBlock}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable IPBlock original, IPBlock modified, Diff diff) {
+        diff.value("cidr", original, modified, IPBlock::getCidr);
+        diff.value("except", original, modified, IPBlock::getExcept);
+    }
+
+    /**
+     * Reads a {@link IPBlock}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link IPBlock} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static IPBlock read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String cidr = null;
+        List<String> except = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, IPBlock.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "cidr":
+                    cidr = Codecs.readString(parser, context);
+                    break;
+                case "except":
+                    except = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new IPBlock(cidr, except);
+        } catch (IllegalArgumentException e) {
+            return (IPBlock) context.handleInstantiationProblem(IPBlock.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link IPBlock}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable IPBlock value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("cidr", value.getCidr(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("except", value.getExcept(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
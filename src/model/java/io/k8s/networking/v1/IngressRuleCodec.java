@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.networking.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link IngressRule} that read and write its fields without reflection.
+ */
+public final class IngressRuleCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link IngressRule}
+     */
+    public static final JsonDeserializer<IngressRule> DESERIALIZER = new StdDeserializer<IngressRule>(IngressRule.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public IngressRule deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return IngressRuleCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link IngressRule}
+     */
+    public static final JsonSerializer<IngressRule> SERIALIZER = new StdSerializer<IngressRule>(IngressRule.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(IngressRule value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            IngressRuleCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private IngressRuleCodec() {
+    }
+
+    /**
+     * Compares two {@link IngressRule}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable IngressRule original, IngressRule modified, Diff diff) {
+        diff.value("host", original, modified, IngressRule::getHost);
+        diff.object("http", original, modified, IngressRule::getHttp, HTTPIngressRuleValueCodec::diff);
+    }
+
+    /**
+     * Reads a {@link IngressRule}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link IngressRule} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static IngressRule read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String host = null;
+        HTTPIngressRuleValue http = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, IngressRule.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "host":
+                    host = Codecs.readString(parser, context);
+                    break;
+                case "http":
+                    http = HTTPIngressRuleValueCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new IngressRule(host, http);
+        } catch (IllegalArgumentException e) {
+            return (IngressRule) context.handleInstantiationProblem(IngressRule.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link IngressRule}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable IngressRule value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("host", value.getHost(), Codecs::writeString, generator, provider);
+        Codecs.writeField("http", value.getHttp(), HTTPIngressRuleValueCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.networking.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link IngressServiceBackend} that read and write its fields without reflection.
+ */
+public final class IngressServiceBackendCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link IngressServiceBackend}
+     */
+    public static final JsonDeserializer<IngressServiceBackend> DESERIALIZER = new StdDeserializer<IngressServiceBackend>(IngressServiceBackend.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public IngressServiceBackend deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return IngressServiceBackendCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link IngressServiceBackend}
+     */
+    public static final JsonSerializer<IngressServiceBackend> SERIALIZER = new StdSerializer<IngressServiceBackend>(IngressServiceBackend.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(IngressServiceBackend value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            IngressServiceBackendCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private IngressServiceBackendCodec() {
+    }
+
+    /**
+     * Compares two {@link IngressServiceBackend}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable IngressServiceBackend original, IngressServiceBackend modified, Diff diff) {
+        diff.value("name", original, modified, IngressServiceBackend::getName);
+        diff.object("port", original, modified, IngressServiceBackend::getPort, ServiceBackendPortCodec::diff);
+    }
+
+    /**
+     * Reads a {@link IngressServiceBackend}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link IngressServiceBackend} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static IngressServiceBackend read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String name = null;
+        ServiceBackendPort port = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, IngressServiceBackend.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "name":
+                    name = Codecs.readString(parser, context);
+                    break;
+                case "port":
+                    port = ServiceBackendPortCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new IngressServiceBackend(name, port);
+        } catch (IllegalArgumentException e) {
+            return (IngressServiceBackend) context.handleInstantiationProblem(IngressServiceBackend.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link IngressServiceBackend}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable IngressServiceBackend value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("port", value.getPort(), ServiceBackendPortCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
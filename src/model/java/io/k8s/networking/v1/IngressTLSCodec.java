@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.networking.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link IngressTLS} that read and write its fields without reflection.
+ */
+public final class IngressTLSCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link IngressTLS}
+     */
+    public static final JsonDeserializer<IngressTLS> DESERIALIZER = new StdDeserializer<IngressTLS>(IngressTLS.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public IngressTLS deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return IngressTLSCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link IngressTLS}
+     */
+    public static final JsonSerializer<IngressTLS> SERIALIZER = new StdSerializer<IngressTLS>(IngressTLS.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(IngressTLS value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            IngressTLSCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private IngressTLSCodec() {
+    }
+
+    /**
+     * Compares two {@link IngressTLS}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable IngressTLS original, IngressTLS modified, Diff diff) {
+        diff.value("hosts", original, modified, IngressTLS::getHosts);
+        diff.value("secretName", original, modified, IngressTLS::getSecretName);
+    }
+
+    /**
+     * Reads a {@link IngressTLS}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link IngressTLS} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static IngressTLS read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<String> hosts = Collections.emptyList();
+        String secretName = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, IngressTLS.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "hosts":
+                    hosts = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "secretName":
+                    secretName = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new IngressTLS(hosts, secretName);
+        } catch (IllegalArgumentException e) {
+            return (IngressTLS) context.handleInstantiationProblem(IngressTLS.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link IngressTLS}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable IngressTLS value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("hosts", value.getHosts(), Codecs::writeString, generator, provider);
+        Codecs.writeField("secretName", value.getSecretName(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -16,6 +16,7 @@
 
 package io.k8s.networking.v1;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 import lombok.Builder;
 import lombok.Singular;
@@ -48,6 +49,7 @@ public class NetworkPolicyEgressRule {
      * restricted by destination). If this field is present and contains at least one item, this rule allows traffic
      * only if the traffic matches at least one item in the to list.
      */
+    @JsonProperty("to")
     @Nullable
     @Singular("to")
     List<NetworkPolicyPeer> to;
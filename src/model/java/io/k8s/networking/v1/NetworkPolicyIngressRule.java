@@ -16,6 +16,7 @@
 
 package io.k8s.networking.v1;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 import lombok.Builder;
 import lombok.Singular;
@@ -38,6 +39,7 @@ public class NetworkPolicyIngressRule {
      * restricted by source). If this field is present and contains at least one item, this rule allows traffic only if
      * the traffic matches at least one item in the from list.
      */
+    @JsonProperty("from")
     @Nullable
     @Singular("from")
     List<NetworkPolicyPeer> from;
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.networking.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.meta.v1.LabelSelector;
+import io.k8s.meta.v1.LabelSelectorCodec;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link NetworkPolicyPeer} that read and write its fields without reflection.
+ */
+public final class NetworkPolicyPeerCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link NetworkPolicyPeer}
+     */
+    public static final JsonDeserializer<NetworkPolicyPeer> DESERIALIZER = new StdDeserializer<NetworkPolicyPeer>(NetworkPolicyPeer.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public NetworkPolicyPeer deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return NetworkPolicyPeerCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link NetworkPolicyPeer}
+     */
+    public static final JsonSerializer<NetworkPolicyPeer> SERIALIZER = new StdSerializer<NetworkPolicyPeer>(NetworkPolicyPeer.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(NetworkPolicyPeer value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            NetworkPolicyPeerCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private NetworkPolicyPeerCodec() {
+    }
+
+    /**
+     * Compares two {@link NetworkPolicyPeer}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable NetworkPolicyPeer original, NetworkPolicyPeer modified, Diff diff) {
+        diff.object("ipBlock", original, modified, NetworkPolicyPeer::getIpBlock, IPBlockCodec::diff);
+        diff.object("namespaceSelector", original, modified, NetworkPolicyPeer::getNamespaceSelector, LabelSelectorCodec::diff);
+        diff.object("podSelector", original, modified, NetworkPolicyPeer::getPodSelector, LabelSelectorCodec::diff);
+    }
+
+    /**
+     * Reads a {@link NetworkPolicyPeer}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link NetworkPolicyPeer} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static NetworkPolicyPeer read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        IPBlock ipBlock = null;
+        LabelSelector namespaceSelector = null;
+        LabelSelector podSelector = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, NetworkPolicyPeer.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "ipBlock":
+                    ipBlock = IPBlockCodec.read(parser, context);
+                    break;
+                case "namespaceSelector":
+                    namespaceSelector = LabelSelectorCodec.read(parser, context);
+                    break;
+                case "podSelector":
+                    podSelector = LabelSelectorCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new NetworkPolicyPeer(ipBlock, namespaceSelector, podSelector);
+        } catch (IllegalArgumentException e) {
+            return (NetworkPolicyPeer) context.handleInstantiationProblem(NetworkPolicyPeer.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link NetworkPolicyPeer}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable NetworkPolicyPeer value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("ipBlock", value.getIpBlock(), IPBlockCodec::write, generator, provider);
+        Codecs.writeField("namespaceSelector", value.getNamespaceSelector(), LabelSelectorCodec::write, generator, provider);
+        Codecs.writeField("podSelector", value.getPodSelector(), LabelSelectorCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -16,6 +16,7 @@
 
 package io.k8s.networking.v1;
 
+import io.k8s.intstr.IntOrString;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.jackson.Jacksonized;
@@ -30,7 +31,7 @@ import org.springframework.lang.Nullable;
 public class NetworkPolicyPort {
 
     @Nullable
-    String port;
+    IntOrString port;
 
     /**
      * The protocol (TCP, UDP, or SCTP) which traffic must match. If not specified, this field defaults to TCP.
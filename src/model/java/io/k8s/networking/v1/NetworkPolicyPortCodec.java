@@ -0,0 +1,141 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.networking.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.intstr.IntOrString;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link NetworkPolicyPort} that read and write its fields without reflection.
+ */
+public final class NetworkPolicyPortCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link NetworkPolicyPort}
+     */
+    public static final JsonDeserializer<NetworkPolicyPort> DESERIALIZER = new StdDeserializer<NetworkPolicyPort>(NetworkPolicyPort.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public NetworkPolicyPort deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return NetworkPolicyPortCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link NetworkPolicyPort}
+     */
+    public static final JsonSerializer<NetworkPolicyPort> SERIALIZER = new StdSerializer<NetworkPolicyPort>(NetworkPolicyPort.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(NetworkPolicyPort value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            NetworkPolicyPortCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private NetworkPolicyPortCodec() {
+    }
+
+    /**
+     * Compares two {@link NetworkPolicyPort}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable NetworkPolicyPort original, NetworkPolicyPort modified, Diff diff) {
+        diff.value("port", original, modified, NetworkPolicyPort::getPort);
+        diff.value("protocol", original, modified, NetworkPolicyPort::getProtocol);
+    }
+
+    /**
+     * Reads a {@link NetworkPolicyPort}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link NetworkPolicyPort} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static NetworkPolicyPort read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        IntOrString port = null;
+        String protocol = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, NetworkPolicyPort.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "port":
+                    port = Codecs.readIntOrString(parser, context);
+                    break;
+                case "protocol":
+                    protocol = Codecs.readInternedString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new NetworkPolicyPort(port, protocol);
+        } catch (IllegalArgumentException e) {
+            return (NetworkPolicyPort) context.handleInstantiationProblem(NetworkPolicyPort.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link NetworkPolicyPort}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable NetworkPolicyPort value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("port", value.getPort(), Codecs::writeIntOrString, generator, provider);
+        Codecs.writeField("protocol", value.getProtocol(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
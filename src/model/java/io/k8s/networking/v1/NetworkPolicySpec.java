@@ -16,6 +16,7 @@
 
 package io.k8s.networking.v1;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import io.k8s.meta.v1.LabelSelector;
 import java.util.List;
 import lombok.Builder;
@@ -40,6 +41,7 @@ public class NetworkPolicySpec {
      * empty then this NetworkPolicy limits all outgoing traffic (and serves solely to ensure that the pods it selects
      * are isolated by default). This field is beta-level in 1.8
      */
+    @JsonProperty("egress")
     @Nullable
     @Singular("egress")
     List<NetworkPolicyEgressRule> egress;
@@ -51,6 +53,7 @@ public class NetworkPolicySpec {
      * whose podSelector matches the pod. If this field is empty then this NetworkPolicy does not allow any traffic (and
      * serves solely to ensure that the pods it selects are isolated by default)
      */
+    @JsonProperty("ingress")
     @Nullable
     @Singular("ingress")
     List<NetworkPolicyIngressRule> ingress;
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.networking.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.meta.v1.LabelSelector;
+import io.k8s.meta.v1.LabelSelectorCodec;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link NetworkPolicySpec} that read and write its fields without reflection.
+ */
+public final class NetworkPolicySpecCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link NetworkPolicySpec}
+     */
+    public static final JsonDeserializer<NetworkPolicySpec> DESERIALIZER = new StdDeserializer<NetworkPolicySpec>(NetworkPolicySpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public NetworkPolicySpec deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return NetworkPolicySpecCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link NetworkPolicySpec}
+     */
+    public static final JsonSerializer<NetworkPolicySpec> SERIALIZER = new StdSerializer<NetworkPolicySpec>(NetworkPolicySpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(NetworkPolicySpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            NetworkPolicySpecCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private NetworkPolicySpecCodec() {
+    }
+
+    /**
+     * Compares two {@link NetworkPolicySpec}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable NetworkPolicySpec original, NetworkPolicySpec modified, Diff diff) {
+        diff.value("egress", original, modified, NetworkPolicySpec::getEgress);
+        diff.value("ingress", original, modified, NetworkPolicySpec::getIngress);
+        diff.object("podSelector", original, modified, NetworkPolicySpec::getPodSelector, LabelSelectorCodec::diff);
+        diff.value("policyTypes", original, modified, NetworkPolicySpec::getPolicyTypes);
+    }
+
+    /**
+     * Reads a {@link NetworkPolicySpec}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link NetworkPolicySpec} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static NetworkPolicySpec read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<NetworkPolicyEgressRule> egress = Collections.emptyList();
+        List<NetworkPolicyIngressRule> ingress = Collections.emptyList();
+        LabelSelector podSelector = null;
+        List<String> policyTypes = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, NetworkPolicySpec.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "egress":
+                    egress = Codecs.readList(parser, context, NetworkPolicyEgressRuleCodec::read);
+                    break;
+                case "ingress":
+                    ingress = Codecs.readList(parser, context, NetworkPolicyIngressRuleCodec::read);
+                    break;
+                case "podSelector":
+                    podSelector = LabelSelectorCodec.read(parser, context);
+                    break;
+                case "policyTypes":
+                    policyTypes = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new NetworkPolicySpec(egress, ingress, podSelector, policyTypes);
+        } catch (IllegalArgumentException e) {
+            return (NetworkPolicySpec) context.handleInstantiationProblem(NetworkPolicySpec.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link NetworkPolicySpec}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable NetworkPolicySpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("egress", value.getEgress(), NetworkPolicyEgressRuleCodec::write, generator, provider);
+        Codecs.writeListField("ingress", value.getIngress(), NetworkPolicyIngressRuleCodec::write, generator, provider);
+        Codecs.writeField("podSelector", value.getPodSelector(), LabelSelectorCodec::write, generator, provider);
+        Codecs.writeListField("policyTypes", value.getPolicyTypes(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
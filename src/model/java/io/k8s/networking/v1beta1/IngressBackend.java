@@ -17,6 +17,7 @@
 package io.k8s.networking.v1beta1;
 
 import io.k8s.core.v1.TypedLocalObjectReference;
+import io.k8s.intstr.IntOrString;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.jackson.Jacksonized;
@@ -40,6 +41,6 @@ public class IngressBackend {
     String serviceName;
 
     @Nullable
-    String servicePort;
+    IntOrString servicePort;
 
 }
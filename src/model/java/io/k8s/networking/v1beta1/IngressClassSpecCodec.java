@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.networking.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.core.v1.TypedLocalObjectReference;
+import io.k8s.core.v1.TypedLocalObjectReferenceCodec;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link IngressClassSpec} that read and write its fields without reflection.
+ */
+public final class IngressClassSpecCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link IngressClassSpec}
+     */
+    public static final JsonDeserializer<IngressClassSpec> DESERIALIZER = new StdDeserializer<IngressClassSpec>(IngressClassSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public IngressClassSpec deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return IngressClassSpecCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link IngressClassSpec}
+     */
+    public static final JsonSerializer<IngressClassSpec> SERIALIZER = new StdSerializer<IngressClassSpec>(IngressClassSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(IngressClassSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            IngressClassSpecCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private IngressClassSpecCodec() {
+    }
+
+    /**
+     * Compares two {@link IngressClassSpec}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable IngressClassSpec original, IngressClassSpec modified, Diff diff) {
+        diff.value("controller", original, modified, IngressClassSpec::getController);
+        diff.object("parameters", original, modified, IngressClassSpec::getParameters, TypedLocalObjectReferenceCodec::diff);
+    }
+
+    /**
+     * Reads a {@link IngressClassSpec}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link IngressClassSpec} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static IngressClassSpec read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String controller = null;
+        TypedLocalObjectReference parameters = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, IngressClassSpec.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "controller":
+                    controller = Codecs.readString(parser, context);
+                    break;
+                case "parameters":
+                    parameters = TypedLocalObjectReferenceCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new IngressClassSpec(controller, parameters);
+        } catch (IllegalArgumentException e) {
+            return (IngressClassSpec) context.handleInstantiationProblem(IngressClassSpec.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link IngressClassSpec}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable IngressClassSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("controller", value.getController(), Codecs::writeString, generator, provider);
+        Codecs.writeField("parameters", value.getParameters(), TypedLocalObjectReferenceCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.networking.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link IngressSpec} that read and write its fields without reflection.
+ */
+public final class IngressSpecCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link IngressSpec}
+     */
+    public static final JsonDeserializer<IngressSpec> DESERIALIZER = new StdDeserializer<IngressSpec>(IngressSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public IngressSpec deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return IngressSpecCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link IngressSpec}
+     */
+    public static final JsonSerializer<IngressSpec> SERIALIZER = new StdSerializer<IngressSpec>(IngressSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(IngressSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            IngressSpecCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private IngressSpecCodec() {
+    }
+
+    /**
+     * Compares two {@link IngressSpec}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable IngressSpec original, IngressSpec modified, Diff diff) {
+        diff.object("backend", original, modified, IngressSpec::getBackend, IngressBackendCodec::diff);
+        diff.value("rules", original, modified, IngressSpec::getRules);
+        diff.value("tls", original, modified, IngressSpec::getTls);
+    }
+
+    /**
+     * Reads a {@link IngressSpec}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link IngressSpec} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static IngressSpec read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        IngressBackend backend = null;
+        List<IngressRule> rules = Collections.emptyList();
+        List<IngressTLS> tls = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, IngressSpec.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "backend":
+                    backend = IngressBackendCodec.read(parser, context);
+                    break;
+                case "rules":
+                    rules = Codecs.readList(parser, context, IngressRuleCodec::read);
+                    break;
+                case "tls":
+                    tls = Codecs.readList(parser, context, IngressTLSCodec::read);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new IngressSpec(backend, rules, tls);
+        } catch (IllegalArgumentException e) {
+            return (IngressSpec) context.handleInstantiationProblem(IngressSpec.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link IngressSpec}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable IngressSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("backend", value.getBackend(), IngressBackendCodec::write, generator, provider);
+        Codecs.writeListField("rules", value.getRules(), IngressRuleCodec::write, generator, provider);
+        Codecs.writeListField("tls", value.getTls(), IngressTLSCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
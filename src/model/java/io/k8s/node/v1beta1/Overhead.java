@@ -16,6 +16,8 @@
 
 package io.k8s.node.v1beta1;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.k8s.resource.Quantity;
 import java.util.Map;
 import lombok.Builder;
 import lombok.Singular;
@@ -34,8 +36,9 @@ public class Overhead {
     /**
      * PodFixed represents the fixed resource overhead associated with running a pod.
      */
+    @JsonProperty("podFixed")
     @Nullable
     @Singular("podFixed")
-    Map<String, String> podFixed;
+    Map<String, Quantity> podFixed;
 
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.node.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.resource.Quantity;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link Overhead} that read and write its fields without reflection.
+ */
+public final class OverheadCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link Overhead}
+     */
+    public static final JsonDeserializer<Overhead> DESERIALIZER = new StdDeserializer<Overhead>(Overhead.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Overhead deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return OverheadCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link Overhead}
+     */
+    public static final JsonSerializer<Overhead> SERIALIZER = new StdSerializer<Overhead>(Overhead.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(Overhead value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            OverheadCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private OverheadCodec() {
+    }
+
+    /**
+     * Compares two {@link Overhead}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable Overhead original, Overhead modified, Diff diff) {
+        diff.map("podFixed", original, modified, Overhead::getPodFixed);
+    }
+
+    /**
+     * Reads a {@link Overhead}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link Overhead} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static Overhead read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Map<String, Quantity> podFixed = Collections.emptyMap();
+
+        for (String fieldName = Codecs.startObject(parser, context, Overhead.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "podFixed":
+                    podFixed = Codecs.readMap(parser, context, Codecs::readQuantity);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new Overhead(podFixed);
+        } catch (IllegalArgumentException e) {
+            return (Overhead) context.handleInstantiationProblem(Overhead.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link Overhead}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable Overhead value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeMapField("podFixed", value.getPodFixed(), Codecs::writeQuantity, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -16,6 +16,7 @@
 
 package io.k8s.node.v1beta1;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import io.k8s.core.v1.Toleration;
 import java.util.List;
 import java.util.Map;
@@ -38,6 +39,7 @@ public class Scheduling {
      * RuntimeClass can only be scheduled to a node matched by this selector. The RuntimeClass nodeSelector is merged
      * with a pod's existing nodeSelector. Any conflicts will cause the pod to be rejected in admission.
      */
+    @JsonProperty("nodeSelector")
     @Nullable
     @Singular("nodeSelector")
     Map<String, String> nodeSelector;
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.node.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.core.v1.Toleration;
+import io.k8s.core.v1.TolerationCodec;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link Scheduling} that read and write its fields without reflection.
+ */
+public final class SchedulingCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link Scheduling}
+     */
+    public static final JsonDeserializer<Scheduling> DESERIALIZER = new StdDeserializer<Scheduling>(Scheduling.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Scheduling deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return SchedulingCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link Scheduling}
+     */
+    public static final JsonSerializer<Scheduling> SERIALIZER = new StdSerializer<Scheduling>(Scheduling.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(Scheduling value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            SchedulingCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private SchedulingCodec() {
+    }
+
+    /**
+     * Compares two {@link Scheduling}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable Scheduling original, Scheduling modified, Diff diff) {
+        diff.map("nodeSelector", original, modified, Scheduling::getNodeSelector);
+        diff.value("tolerations", original, modified, Scheduling::getTolerations);
+    }
+
+    /**
+     * Reads a {@link Scheduling}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link Scheduling} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static Scheduling read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Map<String, String> nodeSelector = Collections.emptyMap();
+        List<Toleration> tolerations = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, Scheduling.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "nodeSelector":
+                    nodeSelector = Codecs.readMap(parser, context, Codecs::readInternedString);
+                    break;
+                case "tolerations":
+                    tolerations = Codecs.readList(parser, context, TolerationCodec::read);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new Scheduling(nodeSelector, tolerations);
+        } catch (IllegalArgumentException e) {
+            return (Scheduling) context.handleInstantiationProblem(Scheduling.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link Scheduling}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable Scheduling value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeMapField("nodeSelector", value.getNodeSelector(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("tolerations", value.getTolerations(), TolerationCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
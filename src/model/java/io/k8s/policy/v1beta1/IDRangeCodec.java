@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.policy.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link IDRange} that read and write its fields without reflection.
+ */
+public final class IDRangeCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link IDRange}
+     */
+    public static final JsonDeserializer<IDRange> DESERIALIZER = new StdDeserializer<IDRange>(IDRange.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public IDRange deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return IDRangeCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link IDRange}
+     */
+    public static final JsonSerializer<IDRange> SERIALIZER = new StdSerializer<IDRange>(IDRange.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(IDRange value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            IDRangeCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private IDRangeCodec() {
+    }
+
+    /**
+     * Compares two {@link IDRange}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable IDRange original, IDRange modified, Diff diff) {
+        diff.value("max", original, modified, IDRange::getMax);
+        diff.value("min", original, modified, IDRange::getMin);
+    }
+
+    /**
+     * Reads a {@link IDRange}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link IDRange} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static IDRange read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Long max = null;
+        Long min = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, IDRange.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "max":
+                    max = Codecs.readLong(parser, context);
+                    break;
+                case "min":
+                    min = Codecs.readLong(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new IDRange(max, min);
+        } catch (IllegalArgumentException e) {
+            return (IDRange) context.handleInstantiationProblem(IDRange.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link IDRange}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable IDRange value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("max", value.getMax(), Codecs::writeLong, generator, provider);
+        Codecs.writeField("min", value.getMin(), Codecs::writeLong, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
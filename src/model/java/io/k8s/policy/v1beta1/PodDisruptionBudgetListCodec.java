@@ -0,0 +1,192 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.policy.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link PodDisruptionBudgetList} that read and write its fields without reflection.
+ */
+public final class PodDisruptionBudgetListCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link PodDisruptionBudgetList}
+     */
+    public static final JsonDeserializer<PodDisruptionBudgetList> DESERIALIZER = new StdDeserializer<PodDisruptionBudgetList>(PodDisruptionBudgetList.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public PodDisruptionBudgetList deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return PodDisruptionBudgetListCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link PodDisruptionBudgetList}
+     */
+    public static final JsonSerializer<PodDisruptionBudgetList> SERIALIZER = new StdSerializer<PodDisruptionBudgetList>(PodDisruptionBudgetList.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(PodDisruptionBudgetList value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            PodDisruptionBudgetListCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private PodDisruptionBudgetListCodec() {
+    }
+
+    /**
+     * Compares two {@link PodDisruptionBudgetList}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable PodDisruptionBudgetList original, PodDisruptionBudgetList modified, Diff diff) {
+        diff.value("apiVersion", original, modified, PodDisruptionBudgetList::getApiVersion);
+        diff.value("items", original, modified, PodDisruptionBudgetList::getItems);
+        diff.value("kind", original, modified, PodDisruptionBudgetList::getKind);
+        diff.object("metadata", original, modified, PodDisruptionBudgetListCodec::getMetadata, PodDisruptionBudgetListCodec::diffMetadata);
+    }
+
+    /**
+     * Reads a {@link PodDisruptionBudgetList}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link PodDisruptionBudgetList} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static PodDisruptionBudgetList read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String apiVersion = null;
+        List<PodDisruptionBudget> items = Collections.emptyList();
+        String kind = null;
+        String _continue = null;
+        Long remainingItemCount = null;
+        String resourceVersion = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, PodDisruptionBudgetList.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "apiVersion":
+                    apiVersion = Codecs.readInternedString(parser, context);
+                    break;
+                case "items":
+                    items = Codecs.readList(parser, context, PodDisruptionBudgetCodec::read);
+                    break;
+                case "kind":
+                    kind = Codecs.readInternedString(parser, context);
+                    break;
+                case "metadata":
+                    for (String metadataName = Codecs.startObject(parser, context, PodDisruptionBudgetList.class); metadataName != null; metadataName = parser.nextFieldName()) {
+                        parser.nextToken();
+
+                        switch (metadataName) {
+                            case "continue":
+                                _continue = Codecs.readString(parser, context);
+                                break;
+                            case "remainingItemCount":
+                                remainingItemCount = Codecs.readLong(parser, context);
+                                break;
+                            case "resourceVersion":
+                                resourceVersion = Codecs.readString(parser, context);
+                                break;
+                            default:
+                                parser.skipChildren();
+                        }
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new PodDisruptionBudgetList(apiVersion, items, kind, _continue, remainingItemCount, resourceVersion);
+        } catch (IllegalArgumentException e) {
+            return (PodDisruptionBudgetList) context.handleInstantiationProblem(PodDisruptionBudgetList.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link PodDisruptionBudgetList}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable PodDisruptionBudgetList value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("apiVersion", value.getApiVersion(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("items", value.getItems(), PodDisruptionBudgetCodec::write, generator, provider);
+        Codecs.writeField("kind", value.getKind(), Codecs::writeString, generator, provider);
+
+        if (Codecs.isPresent(value.getContinue(), value.getRemainingItemCount(), value.getResourceVersion())) {
+            generator.writeFieldName("metadata");
+            generator.writeStartObject();
+            Codecs.writeField("continue", value.getContinue(), Codecs::writeString, generator, provider);
+            Codecs.writeField("remainingItemCount", value.getRemainingItemCount(), Codecs::writeLong, generator, provider);
+            Codecs.writeField("resourceVersion", value.getResourceVersion(), Codecs::writeString, generator, provider);
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+    }
+
+    private static void diffMetadata(@Nullable PodDisruptionBudgetList original, PodDisruptionBudgetList modified, Diff diff) {
+        diff.value("continue", original, modified, PodDisruptionBudgetList::getContinue);
+        diff.value("remainingItemCount", original, modified, PodDisruptionBudgetList::getRemainingItemCount);
+        diff.value("resourceVersion", original, modified, PodDisruptionBudgetList::getResourceVersion);
+    }
+
+    // The value stands in for its own metadata, which is only present on the wire if any of its properties are
+    @Nullable
+    private static PodDisruptionBudgetList getMetadata(PodDisruptionBudgetList value) {
+        return Codecs.isPresent(value.getContinue(), value.getRemainingItemCount(), value.getResourceVersion()) ? value : null;
+    }
+
+}
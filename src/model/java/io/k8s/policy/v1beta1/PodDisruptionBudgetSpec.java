@@ -16,6 +16,7 @@
 
 package io.k8s.policy.v1beta1;
 
+import io.k8s.intstr.IntOrString;
 import io.k8s.meta.v1.LabelSelector;
 import lombok.Builder;
 import lombok.Value;
@@ -31,10 +32,10 @@ import org.springframework.lang.Nullable;
 public class PodDisruptionBudgetSpec {
 
     @Nullable
-    String maxUnavailable;
+    IntOrString maxUnavailable;
 
     @Nullable
-    String minAvailable;
+    IntOrString minAvailable;
 
     @Nullable
     LabelSelector selector;
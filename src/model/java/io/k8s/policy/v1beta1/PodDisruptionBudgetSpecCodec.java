@@ -0,0 +1,149 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.policy.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.intstr.IntOrString;
+import io.k8s.meta.v1.LabelSelector;
+import io.k8s.meta.v1.LabelSelectorCodec;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link PodDisruptionBudgetSpec} that read and write its fields without reflection.
+ */
+public final class PodDisruptionBudgetSpecCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link PodDisruptionBudgetSpec}
+     */
+    public static final JsonDeserializer<PodDisruptionBudgetSpec> DESERIALIZER = new StdDeserializer<PodDisruptionBudgetSpec>(PodDisruptionBudgetSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public PodDisruptionBudgetSpec deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return PodDisruptionBudgetSpecCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link PodDisruptionBudgetSpec}
+     */
+    public static final JsonSerializer<PodDisruptionBudgetSpec> SERIALIZER = new StdSerializer<PodDisruptionBudgetSpec>(PodDisruptionBudgetSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(PodDisruptionBudgetSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            PodDisruptionBudgetSpecCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private PodDisruptionBudgetSpecCodec() {
+    }
+
+    /**
+     * Compares two {@link PodDisruptionBudgetSpec}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable PodDisruptionBudgetSpec original, PodDisruptionBudgetSpec modified, Diff diff) {
+        diff.value("maxUnavailable", original, modified, PodDisruptionBudgetSpec::getMaxUnavailable);
+        diff.value("minAvailable", original, modified, PodDisruptionBudgetSpec::getMinAvailable);
+        diff.object("selector", original, modified, PodDisruptionBudgetSpec::getSelector, LabelSelectorCodec::diff);
+    }
+
+    /**
+     * Reads a {@link PodDisruptionBudgetSpec}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link PodDisruptionBudgetSpec} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static PodDisruptionBudgetSpec read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        IntOrString maxUnavailable = null;
+        IntOrString minAvailable = null;
+        LabelSelector selector = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, PodDisruptionBudgetSpec.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "maxUnavailable":
+                    maxUnavailable = Codecs.readIntOrString(parser, context);
+                    break;
+                case "minAvailable":
+                    minAvailable = Codecs.readIntOrString(parser, context);
+                    break;
+                case "selector":
+                    selector = LabelSelectorCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new PodDisruptionBudgetSpec(maxUnavailable, minAvailable, selector);
+        } catch (IllegalArgumentException e) {
+            return (PodDisruptionBudgetSpec) context.handleInstantiationProblem(PodDisruptionBudgetSpec.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link PodDisruptionBudgetSpec}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable PodDisruptionBudgetSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("maxUnavailable", value.getMaxUnavailable(), Codecs::writeIntOrString, generator, provider);
+        Codecs.writeField("minAvailable", value.getMinAvailable(), Codecs::writeIntOrString, generator, provider);
+        Codecs.writeField("selector", value.getSelector(), LabelSelectorCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
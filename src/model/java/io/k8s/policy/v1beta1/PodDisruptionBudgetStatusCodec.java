@@ -0,0 +1,167 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.policy.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link PodDisruptionBudgetStatus} that read and write its fields without reflection.
+ */
+public final class PodDisruptionBudgetStatusCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link PodDisruptionBudgetStatus}
+     */
+    public static final JsonDeserializer<PodDisruptionBudgetStatus> DESERIALIZER = new StdDeserializer<PodDisruptionBudgetStatus>(PodDisruptionBudgetStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public PodDisruptionBudgetStatus deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return PodDisruptionBudgetStatusCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link PodDisruptionBudgetStatus}
+     */
+    public static final JsonSerializer<PodDisruptionBudgetStatus> SERIALIZER = new StdSerializer<PodDisruptionBudgetStatus>(PodDisruptionBudgetStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(PodDisruptionBudgetStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            PodDisruptionBudgetStatusCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private PodDisruptionBudgetStatusCodec() {
+    }
+
+    /**
+     * Compares two {@link PodDisruptionBudgetStatus}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable PodDisruptionBudgetStatus original, PodDisruptionBudgetStatus modified, Diff diff) {
+        diff.value("currentHealthy", original, modified, PodDisruptionBudgetStatus::getCurrentHealthy);
+        diff.value("desiredHealthy", original, modified, PodDisruptionBudgetStatus::getDesiredHealthy);
+        diff.map("disruptedPods", original, modified, PodDisruptionBudgetStatus::getDisruptedPods);
+        diff.value("disruptionsAllowed", original, modified, PodDisruptionBudgetStatus::getDisruptionsAllowed);
+        diff.value("expectedPods", original, modified, PodDisruptionBudgetStatus::getExpectedPods);
+        diff.value("observedGeneration", original, modified, PodDisruptionBudgetStatus::getObservedGeneration);
+    }
+
+    /**
+     * Reads a {@link PodDisruptionBudgetStatus}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link PodDisruptionBudgetStatus} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static PodDisruptionBudgetStatus read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Integer currentHealthy = null;
+        Integer desiredHealthy = null;
+        Map<String, OffsetDateTime> disruptedPods = Collections.emptyMap();
+        Integer disruptionsAllowed = null;
+        Integer expectedPods = null;
+        Long observedGeneration = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, PodDisruptionBudgetStatus.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "currentHealthy":
+                    currentHealthy = Codecs.readInteger(parser, context);
+                    break;
+                case "desiredHealthy":
+                    desiredHealthy = Codecs.readInteger(parser, context);
+                    break;
+                case "disruptedPods":
+                    disruptedPods = Codecs.readMap(parser, context, Codecs::readDateTime);
+                    break;
+                case "disruptionsAllowed":
+                    disruptionsAllowed = Codecs.readInteger(parser, context);
+                    break;
+                case "expectedPods":
+                    expectedPods = Codecs.readInteger(parser, context);
+                    break;
+                case "observedGeneration":
+                    observedGeneration = Codecs.readLong(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new PodDisruptionBudgetStatus(currentHealthy, desiredHealthy, disruptedPods, disruptionsAllowed, expectedPods, observedGeneration);
+        } catch (IllegalArgumentException e) {
+            return (PodDisruptionBudgetStatus) context.handleInstantiationProblem(PodDisruptionBudgetStatus.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link PodDisruptionBudgetStatus}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable PodDisruptionBudgetStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("currentHealthy", value.getCurrentHealthy(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("desiredHealthy", value.getDesiredHealthy(), Codecs::writeInteger, generator, provider);
+        Codecs.writeMapField("disruptedPods", value.getDisruptedPods(), Codecs::writeDateTime, generator, provider);
+        Codecs.writeField("disruptionsAllowed", value.getDisruptionsAllowed(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("expectedPods", value.getExpectedPods(), Codecs::writeInteger, generator, provider);
+        Codecs.writeField("observedGeneration", value.getObservedGeneration(), Codecs::writeLong, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
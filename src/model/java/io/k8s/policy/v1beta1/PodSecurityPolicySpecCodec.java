@@ -0,0 +1,274 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.policy.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link PodSecurityPolicySpec} that read and write its fields without reflection.
+ */
+public final class PodSecurityPolicySpecCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link PodSecurityPolicySpec}
+     */
+    public static final JsonDeserializer<PodSecurityPolicySpec> DESERIALIZER = new StdDeserializer<PodSecurityPolicySpec>(PodSecurityPolicySpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public PodSecurityPolicySpec deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return PodSecurityPolicySpecCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link PodSecurityPolicySpec}
+     */
+    public static final JsonSerializer<PodSecurityPolicySpec> SERIALIZER = new StdSerializer<PodSecurityPolicySpec>(PodSecurityPolicySpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(PodSecurityPolicySpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            PodSecurityPolicySpecCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private PodSecurityPolicySpecCodec() {
+    }
+
+    /**
+     * Compares two {@link PodSecurityPolicySpec}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable PodSecurityPolicySpec original, PodSecurityPolicySpec modified, Diff diff) {
+        diff.value("allowPrivilegeEscalation", original, modified, PodSecurityPolicySpec::getAllowPrivilegeEscalation);
+        diff.value("allowedCSIDrivers", original, modified, PodSecurityPolicySpec::getAllowedCSIDrivers);
+        diff.value("allowedCapabilities", original, modified, PodSecurityPolicySpec::getAllowedCapabilities);
+        diff.value("allowedFlexVolumes", original, modified, PodSecurityPolicySpec::getAllowedFlexVolumes);
+        diff.value("allowedHostPaths", original, modified, PodSecurityPolicySpec::getAllowedHostPaths);
+        diff.value("allowedProcMountTypes", original, modified, PodSecurityPolicySpec::getAllowedProcMountTypes);
+        diff.value("allowedUnsafeSysctls", original, modified, PodSecurityPolicySpec::getAllowedUnsafeSysctls);
+        diff.value("defaultAddCapabilities", original, modified, PodSecurityPolicySpec::getDefaultAddCapabilities);
+        diff.value("defaultAllowPrivilegeEscalation", original, modified, PodSecurityPolicySpec::getDefaultAllowPrivilegeEscalation);
+        diff.value("forbiddenSysctls", original, modified, PodSecurityPolicySpec::getForbiddenSysctls);
+        diff.object("fsGroup", original, modified, PodSecurityPolicySpec::getFsGroup, FSGroupStrategyOptionsCodec::diff);
+        diff.value("hostIPC", original, modified, PodSecurityPolicySpec::getHostIPC);
+        diff.value("hostNetwork", original, modified, PodSecurityPolicySpec::getHostNetwork);
+        diff.value("hostPID", original, modified, PodSecurityPolicySpec::getHostPID);
+        diff.value("hostPorts", original, modified, PodSecurityPolicySpec::getHostPorts);
+        diff.value("privileged", original, modified, PodSecurityPolicySpec::getPrivileged);
+        diff.value("readOnlyRootFilesystem", original, modified, PodSecurityPolicySpec::getReadOnlyRootFilesystem);
+        diff.value("requiredDropCapabilities", original, modified, PodSecurityPolicySpec::getRequiredDropCapabilities);
+        diff.object("runAsGroup", original, modified, PodSecurityPolicySpec::getRunAsGroup, RunAsGroupStrategyOptionsCodec::diff);
+        diff.object("runAsUser", original, modified, PodSecurityPolicySpec::getRunAsUser, RunAsUserStrategyOptionsCodec::diff);
+        diff.object("runtimeClass", original, modified, PodSecurityPolicySpec::getRuntimeClass, RuntimeClassStrategyOptionsCodec::diff);
+        diff.object("seLinux", original, modified, PodSecurityPolicySpec::getSeLinux, SELinuxStrategyOptionsCodec::diff);
+        diff.object("supplementalGroups", original, modified, PodSecurityPolicySpec::getSupplementalGroups, SupplementalGroupsStrategyOptionsCodec::diff);
+        diff.value("volumes", original, modified, PodSecurityPolicySpec::getVolumes);
+    }
+
+    /**
+     * Reads a {@link PodSecurityPolicySpec}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link PodSecurityPolicySpec} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static PodSecurityPolicySpec read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Boolean allowPrivilegeEscalation = null;
+        List<AllowedCSIDriver> allowedCSIDrivers = Collections.emptyList();
+        List<String> allowedCapabilities = Collections.emptyList();
+        List<AllowedFlexVolume> allowedFlexVolumes = Collections.emptyList();
+        List<AllowedHostPath> allowedHostPaths = Collections.emptyList();
+        List<String> allowedProcMountTypes = Collections.emptyList();
+        List<String> allowedUnsafeSysctls = Collections.emptyList();
+        List<String> defaultAddCapabilities = Collections.emptyList();
+        Boolean defaultAllowPrivilegeEscalation = null;
+        List<String> forbiddenSysctls = Collections.emptyList();
+        FSGroupStrategyOptions fsGroup = null;
+        Boolean hostIPC = null;
+        Boolean hostNetwork = null;
+        Boolean hostPID = null;
+        List<HostPortRange> hostPorts = Collections.emptyList();
+        Boolean privileged = null;
+        Boolean readOnlyRootFilesystem = null;
+        List<String> requiredDropCapabilities = Collections.emptyList();
+        RunAsGroupStrategyOptions runAsGroup = null;
+        RunAsUserStrategyOptions runAsUser = null;
+        RuntimeClassStrategyOptions runtimeClass = null;
+        SELinuxStrategyOptions seLinux = null;
+        SupplementalGroupsStrategyOptions supplementalGroups = null;
+        List<String> volumes = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, PodSecurityPolicySpec.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "allowPrivilegeEscalation":
+                    allowPrivilegeEscalation = Codecs.readBoolean(parser, context);
+                    break;
+                case "allowedCSIDrivers":
+                    allowedCSIDrivers = Codecs.readList(parser, context, AllowedCSIDriverCodec::read);
+                    break;
+                case "allowedCapabilities":
+                    allowedCapabilities = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "allowedFlexVolumes":
+                    allowedFlexVolumes = Codecs.readList(parser, context, AllowedFlexVolumeCodec::read);
+                    break;
+                case "allowedHostPaths":
+                    allowedHostPaths = Codecs.readList(parser, context, AllowedHostPathCodec::read);
+                    break;
+                case "allowedProcMountTypes":
+                    allowedProcMountTypes = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "allowedUnsafeSysctls":
+                    allowedUnsafeSysctls = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "defaultAddCapabilities":
+                    defaultAddCapabilities = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "defaultAllowPrivilegeEscalation":
+                    defaultAllowPrivilegeEscalation = Codecs.readBoolean(parser, context);
+                    break;
+                case "forbiddenSysctls":
+                    forbiddenSysctls = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "fsGroup":
+                    fsGroup = FSGroupStrategyOptionsCodec.read(parser, context);
+                    break;
+                case "hostIPC":
+                    hostIPC = Codecs.readBoolean(parser, context);
+                    break;
+                case "hostNetwork":
+                    hostNetwork = Codecs.readBoolean(parser, context);
+                    break;
+                case "hostPID":
+                    hostPID = Codecs.readBoolean(parser, context);
+                    break;
+                case "hostPorts":
+                    hostPorts = Codecs.readList(parser, context, HostPortRangeCodec::read);
+                    break;
+                case "privileged":
+                    privileged = Codecs.readBoolean(parser, context);
+                    break;
+                case "readOnlyRootFilesystem":
+                    readOnlyRootFilesystem = Codecs.readBoolean(parser, context);
+                    break;
+                case "requiredDropCapabilities":
+                    requiredDropCapabilities = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "runAsGroup":
+                    runAsGroup = RunAsGroupStrategyOptionsCodec.read(parser, context);
+                    break;
+                case "runAsUser":
+                    runAsUser = RunAsUserStrategyOptionsCodec.read(parser, context);
+                    break;
+                case "runtimeClass":
+                    runtimeClass = RuntimeClassStrategyOptionsCodec.read(parser, context);
+                    break;
+                case "seLinux":
+                    seLinux = SELinuxStrategyOptionsCodec.read(parser, context);
+                    break;
+                case "supplementalGroups":
+                    supplementalGroups = SupplementalGroupsStrategyOptionsCodec.read(parser, context);
+                    break;
+                case "volumes":
+                    volumes = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new PodSecurityPolicySpec(allowPrivilegeEscalation, allowedCSIDrivers, allowedCapabilities, allowedFlexVolumes, allowedHostPaths, allowedProcMountTypes, allowedUnsafeSysctls, defaultAddCapabilities, defaultAllowPrivilegeEscalation, forbiddenSysctls, fsGroup, hostIPC, hostNetwork, hostPID, hostPorts, privileged, readOnlyRootFilesystem, requiredDropCapabilities, runAsGroup, runAsUser, runtimeClass, seLinux, supplementalGroups, volumes);
+        } catch (IllegalArgumentException e) {
+            return (PodSecurityPolicySpec) context.handleInstantiationProblem(PodSecurityPolicySpec.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link PodSecurityPolicySpec}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable PodSecurityPolicySpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("allowPrivilegeEscalation", value.getAllowPrivilegeEscalation(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeListField("allowedCSIDrivers", value.getAllowedCSIDrivers(), AllowedCSIDriverCodec::write, generator, provider);
+        Codecs.writeListField("allowedCapabilities", value.getAllowedCapabilities(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("allowedFlexVolumes", value.getAllowedFlexVolumes(), AllowedFlexVolumeCodec::write, generator, provider);
+        Codecs.writeListField("allowedHostPaths", value.getAllowedHostPaths(), AllowedHostPathCodec::write, generator, provider);
+        Codecs.writeListField("allowedProcMountTypes", value.getAllowedProcMountTypes(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("allowedUnsafeSysctls", value.getAllowedUnsafeSysctls(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("defaultAddCapabilities", value.getDefaultAddCapabilities(), Codecs::writeString, generator, provider);
+        Codecs.writeField("defaultAllowPrivilegeEscalation", value.getDefaultAllowPrivilegeEscalation(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeListField("forbiddenSysctls", value.getForbiddenSysctls(), Codecs::writeString, generator, provider);
+        Codecs.writeField("fsGroup", value.getFsGroup(), FSGroupStrategyOptionsCodec::write, generator, provider);
+        Codecs.writeField("hostIPC", value.getHostIPC(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("hostNetwork", value.getHostNetwork(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("hostPID", value.getHostPID(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeListField("hostPorts", value.getHostPorts(), HostPortRangeCodec::write, generator, provider);
+        Codecs.writeField("privileged", value.getPrivileged(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("readOnlyRootFilesystem", value.getReadOnlyRootFilesystem(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeListField("requiredDropCapabilities", value.getRequiredDropCapabilities(), Codecs::writeString, generator, provider);
+        Codecs.writeField("runAsGroup", value.getRunAsGroup(), RunAsGroupStrategyOptionsCodec::write, generator, provider);
+        Codecs.writeField("runAsUser", value.getRunAsUser(), RunAsUserStrategyOptionsCodec::write, generator, provider);
+        Codecs.writeField("runtimeClass", value.getRuntimeClass(), RuntimeClassStrategyOptionsCodec::write, generator, provider);
+        Codecs.writeField("seLinux", value.getSeLinux(), SELinuxStrategyOptionsCodec::write, generator, provider);
+        Codecs.writeField("supplementalGroups", value.getSupplementalGroups(), SupplementalGroupsStrategyOptionsCodec::write, generator, provider);
+        Codecs.writeListField("volumes", value.getVolumes(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
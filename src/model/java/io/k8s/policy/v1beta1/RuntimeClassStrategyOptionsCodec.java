@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.policy.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link RuntimeClassStrategyOptions} that read and write its fields without reflection.
+ */
+public final class RuntimeClassStrategyOptionsCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link RuntimeClassStrategyOptions}
+     */
+    public static final JsonDeserializer<RuntimeClassStrategyOptions> DESERIALIZER = new StdDeserializer<RuntimeClassStrategyOptions>(RuntimeClassStrategyOptions.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public RuntimeClassStrategyOptions deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return RuntimeClassStrategyOptionsCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link RuntimeClassStrategyOptions}
+     */
+    public static final JsonSerializer<RuntimeClassStrategyOptions> SERIALIZER = new StdSerializer<RuntimeClassStrategyOptions>(RuntimeClassStrategyOptions.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(RuntimeClassStrategyOptions value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            RuntimeClassStrategyOptionsCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private RuntimeClassStrategyOptionsCodec() {
+    }
+
+    /**
+     * Compares two {@link RuntimeClassStrategyOptions}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable RuntimeClassStrategyOptions original, RuntimeClassStrategyOptions modified, Diff diff) {
+        diff.value("allowedRuntimeClassNames", original, modified, RuntimeClassStrategyOptions::getAllowedRuntimeClassNames);
+        diff.value("defaultRuntimeClassName", original, modified, RuntimeClassStrategyOptions::getDefaultRuntimeClassName);
+    }
+
+    /**
+     * Reads a {@link RuntimeClassStrategyOptions}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link RuntimeClassStrategyOptions} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static RuntimeClassStrategyOptions read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<String> allowedRuntimeClassNames = Collections.emptyList();
+        String defaultRuntimeClassName = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, RuntimeClassStrategyOptions.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "allowedRuntimeClassNames":
+                    allowedRuntimeClassNames = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "defaultRuntimeClassName":
+                    defaultRuntimeClassName = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new RuntimeClassStrategyOptions(allowedRuntimeClassNames, defaultRuntimeClassName);
+        } catch (IllegalArgumentException e) {
+            return (RuntimeClassStrategyOptions) context.handleInstantiationProblem(RuntimeClassStrategyOptions.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link RuntimeClassStrategyOptions}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable RuntimeClassStrategyOptions value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("allowedRuntimeClassNames", value.getAllowedRuntimeClassNames(), Codecs::writeString, generator, provider);
+        Codecs.writeField("defaultRuntimeClassName", value.getDefaultRuntimeClassName(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.policy.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.core.v1.SELinuxOptions;
+import io.k8s.core.v1.SELinuxOptionsCodec;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link SELinuxStrategyOptions} that read and write its fields without reflection.
+ */
+public final class SELinuxStrategyOptionsCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link SELinuxStrategyOptions}
+     */
+    public static final JsonDeserializer<SELinuxStrategyOptions> DESERIALIZER = new StdDeserializer<SELinuxStrategyOptions>(SELinuxStrategyOptions.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public SELinuxStrategyOptions deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return SELinuxStrategyOptionsCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link SELinuxStrategyOptions}
+     */
+    public static final JsonSerializer<SELinuxStrategyOptions> SERIALIZER = new StdSerializer<SELinuxStrategyOptions>(SELinuxStrategyOptions.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(SELinuxStrategyOptions value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            SELinuxStrategyOptionsCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private SELinuxStrategyOptionsCodec() {
+    }
+
+    /**
+     * Compares two {@link SELinuxStrategyOptions}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable SELinuxStrategyOptions original, SELinuxStrategyOptions modified, Diff diff) {
+        diff.value("rule", original, modified, SELinuxStrategyOptions::getRule);
+        diff.object("seLinuxOptions", original, modified, SELinuxStrategyOptions::getSeLinuxOptions, SELinuxOptionsCodec::diff);
+    }
+
+    /**
+     * Reads a {@link SELinuxStrategyOptions}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link SELinuxStrategyOptions} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static SELinuxStrategyOptions read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String rule = null;
+        SELinuxOptions seLinuxOptions = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, SELinuxStrategyOptions.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "rule":
+                    rule = Codecs.readString(parser, context);
+                    break;
+                case "seLinuxOptions":
+                    seLinuxOptions = SELinuxOptionsCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new SELinuxStrategyOptions(rule, seLinuxOptions);
+        } catch (IllegalArgumentException e) {
+            return (SELinuxStrategyOptions) context.handleInstantiationProblem(SELinuxStrategyOptions.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link SELinuxStrategyOptions}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable SELinuxStrategyOptions value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("rule", value.getRule(), Codecs::writeString, generator, provider);
+        Codecs.writeField("seLinuxOptions", value.getSeLinuxOptions(), SELinuxOptionsCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.rbac.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link Subject} that read and write its fields without reflection.
+ */
+public final class SubjectCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link Subject}
+     */
+    public static final JsonDeserializer<Subject> DESERIALIZER = new StdDeserializer<Subject>(Subject.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Subject deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return SubjectCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link Subject}
+     */
+    public static final JsonSerializer<Subject> SERIALIZER = new StdSerializer<Subject>(Subject.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(Subject value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            SubjectCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private SubjectCodec() {
+    }
+
+    /**
+     * Compares two {@link Subject}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable Subject original, Subject modified, Diff diff) {
+        diff.value("apiGroup", original, modified, Subject::getApiGroup);
+        diff.value("kind", original, modified, Subject::getKind);
+        diff.value("name", original, modified, Subject::getName);
+        diff.value("namespace", original, modified, Subject::getNamespace);
+    }
+
+    /**
+     * Reads a {@link Subject}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link Subject} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static Subject read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String apiGroup = null;
+        String kind = null;
+        String name = null;
+        String namespace = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, Subject.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "apiGroup":
+                    apiGroup = Codecs.readString(parser, context);
+                    break;
+                case "kind":
+                    kind = Codecs.readInternedString(parser, context);
+                    break;
+                case "name":
+                    name = Codecs.readString(parser, context);
+                    break;
+                case "namespace":
+                    namespace = Codecs.readInternedString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new Subject(apiGroup, kind, name, namespace);
+        } catch (IllegalArgumentException e) {
+            return (Subject) context.handleInstantiationProblem(Subject.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link Subject}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable Subject value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("apiGroup", value.getApiGroup(), Codecs::writeString, generator, provider);
+        Codecs.writeField("kind", value.getKind(), Codecs::writeString, generator, provider);
+        Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("namespace", value.getNamespace(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.rbac.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link PolicyRule} that read and write its fields without reflection.
+ */
+public final class PolicyRuleCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link PolicyRule}
+     */
+    public static final JsonDeserializer<PolicyRule> DESERIALIZER = new StdDeserializer<PolicyRule>(PolicyRule.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public PolicyRule deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return PolicyRuleCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link PolicyRule}
+     */
+    public static final JsonSerializer<PolicyRule> SERIALIZER = new StdSerializer<PolicyRule>(PolicyRule.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(PolicyRule value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            PolicyRuleCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private PolicyRuleCodec() {
+    }
+
+    /**
+     * Compares two {@link PolicyRule}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable PolicyRule original, PolicyRule modified, Diff diff) {
+        diff.value("apiGroups", original, modified, PolicyRule::getApiGroups);
+        diff.value("nonResourceURLs", original, modified, PolicyRule::getNonResourceURLs);
+        diff.value("resourceNames", original, modified, PolicyRule::getResourceNames);
+        diff.value("resources", original, modified, PolicyRule::getResources);
+        diff.value("verbs", original, modified, PolicyRule::getVerbs);
+    }
+
+    /**
+     * Reads a {@link PolicyRule}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link PolicyRule} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static PolicyRule read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<String> apiGroups = Collections.emptyList();
+        List<String> nonResourceURLs = Collections.emptyList();
+        List<String> resourceNames = Collections.emptyList();
+        List<String> resources = Collections.emptyList();
+        List<String> verbs = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, PolicyRule.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "apiGroups":
+                    apiGroups = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "nonResourceURLs":
+                    nonResourceURLs = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "resourceNames":
+                    resourceNames = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "resources":
+                    resources = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "verbs":
+                    verbs = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new PolicyRule(apiGroups, nonResourceURLs, resourceNames, resources, verbs);
+        } catch (IllegalArgumentException e) {
+            return (PolicyRule) context.handleInstantiationProblem(PolicyRule.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link PolicyRule}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable PolicyRule value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("apiGroups", value.getApiGroups(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("nonResourceURLs", value.getNonResourceURLs(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("resourceNames", value.getResourceNames(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("resources", value.getResources(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("verbs", value.getVerbs(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
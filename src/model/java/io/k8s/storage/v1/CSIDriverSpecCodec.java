@@ -0,0 +1,160 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.storage.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link CSIDriverSpec} that read and write its fields without reflection.
+ */
+public final class CSIDriverSpecCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link CSIDriverSpec}
+     */
+    public static final JsonDeserializer<CSIDriverSpec> DESERIALIZER = new StdDeserializer<CSIDriverSpec>(CSIDriverSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public CSIDriverSpec deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return CSIDriverSpecCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link CSIDriverSpec}
+     */
+    public static final JsonSerializer<CSIDriverSpec> SERIALIZER = new StdSerializer<CSIDriverSpec>(CSIDriverSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(CSIDriverSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            CSIDriverSpecCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private CSIDriverSpecCodec() {
+    }
+
+    /**
+     * Compares two {@link CSIDriverSpec}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable CSIDriverSpec original, CSIDriverSpec modified, Diff diff) {
+        diff.value("attachRequired", original, modified, CSIDriverSpec::getAttachRequired);
+        diff.value("fsGroupPolicy", original, modified, CSIDriverSpec::getFsGroupPolicy);
+        diff.value("podInfoOnMount", original, modified, CSIDriverSpec::getPodInfoOnMount);
+        diff.value("storageCapacity", original, modified, CSIDriverSpec::getStorageCapacity);
+        diff.value("volumeLifecycleModes", original, modified, CSIDriverSpec::getVolumeLifecycleModes);
+    }
+
+    /**
+     * Reads a {@link CSIDriverSpec}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link CSIDriverSpec} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static CSIDriverSpec read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Boolean attachRequired = null;
+        String fsGroupPolicy = null;
+        Boolean podInfoOnMount = null;
+        Boolean storageCapacity = null;
+        List<String> volumeLifecycleModes = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, CSIDriverSpec.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "attachRequired":
+                    attachRequired = Codecs.readBoolean(parser, context);
+                    break;
+                case "fsGroupPolicy":
+                    fsGroupPolicy = Codecs.readString(parser, context);
+                    break;
+                case "podInfoOnMount":
+                    podInfoOnMount = Codecs.readBoolean(parser, context);
+                    break;
+                case "storageCapacity":
+                    storageCapacity = Codecs.readBoolean(parser, context);
+                    break;
+                case "volumeLifecycleModes":
+                    volumeLifecycleModes = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new CSIDriverSpec(attachRequired, fsGroupPolicy, podInfoOnMount, storageCapacity, volumeLifecycleModes);
+        } catch (IllegalArgumentException e) {
+            return (CSIDriverSpec) context.handleInstantiationProblem(CSIDriverSpec.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link CSIDriverSpec}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable CSIDriverSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("attachRequired", value.getAttachRequired(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("fsGroupPolicy", value.getFsGroupPolicy(), Codecs::writeString, generator, provider);
+        Codecs.writeField("podInfoOnMount", value.getPodInfoOnMount(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeField("storageCapacity", value.getStorageCapacity(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeListField("volumeLifecycleModes", value.getVolumeLifecycleModes(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
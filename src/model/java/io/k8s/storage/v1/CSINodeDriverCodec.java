@@ -0,0 +1,154 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.storage.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link CSINodeDriver} that read and write its fields without reflection.
+ */
+public final class CSINodeDriverCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link CSINodeDriver}
+     */
+    public static final JsonDeserializer<CSINodeDriver> DESERIALIZER = new StdDeserializer<CSINodeDriver>(CSINodeDriver.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public CSINodeDriver deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return CSINodeDriverCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link CSINodeDriver}
+     */
+    public static final JsonSerializer<CSINodeDriver> SERIALIZER = new StdSerializer<CSINodeDriver>(CSINodeDriver.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(CSINodeDriver value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            CSINodeDriverCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private CSINodeDriverCodec() {
+    }
+
+    /**
+     * Compares two {@link CSINodeDriver}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable CSINodeDriver original, CSINodeDriver modified, Diff diff) {
+        diff.object("allocatable", original, modified, CSINodeDriver::getAllocatable, VolumeNodeResourcesCodec::diff);
+        diff.value("name", original, modified, CSINodeDriver::getName);
+        diff.value("nodeID", original, modified, CSINodeDriver::getNodeID);
+        diff.value("topologyKeys", original, modified, CSINodeDriver::getTopologyKeys);
+    }
+
+    /**
+     * Reads a {@link CSINodeDriver}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link CSINodeDriver} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static CSINodeDriver read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        VolumeNodeResources allocatable = null;
+        String name = null;
+        String nodeID = null;
+        List<String> topologyKeys = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, CSINodeDriver.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "allocatable":
+                    allocatable = VolumeNodeResourcesCodec.read(parser, context);
+                    break;
+                case "name":
+                    name = Codecs.readString(parser, context);
+                    break;
+                case "nodeID":
+                    nodeID = Codecs.readString(parser, context);
+                    break;
+                case "topologyKeys":
+                    topologyKeys = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new CSINodeDriver(allocatable, name, nodeID, topologyKeys);
+        } catch (IllegalArgumentException e) {
+            return (CSINodeDriver) context.handleInstantiationProblem(CSINodeDriver.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link CSINodeDriver}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable CSINodeDriver value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("allocatable", value.getAllocatable(), VolumeNodeResourcesCodec::write, generator, provider);
+        Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("nodeID", value.getNodeID(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("topologyKeys", value.getTopologyKeys(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.storage.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link CSINodeSpec} that read and write its fields without reflection.
+ */
+public final class CSINodeSpecCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link CSINodeSpec}
+     */
+    public static final JsonDeserializer<CSINodeSpec> DESERIALIZER = new StdDeserializer<CSINodeSpec>(CSINodeSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public CSINodeSpec deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return CSINodeSpecCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link CSINodeSpec}
+     */
+    public static final JsonSerializer<CSINodeSpec> SERIALIZER = new StdSerializer<CSINodeSpec>(CSINodeSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(CSINodeSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            CSINodeSpecCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private CSINodeSpecCodec() {
+    }
+
+    /**
+     * Compares two {@link CSINodeSpec}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable CSINodeSpec original, CSINodeSpec modified, Diff diff) {
+        diff.list("drivers", original, modified, CSINodeSpec::getDrivers, "name", CSINodeDriver::getName, CSINodeDriverCodec::diff);
+    }
+
+    /**
+     * Reads a {@link CSINodeSpec}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link CSINodeSpec} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static CSINodeSpec read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        List<CSINodeDriver> drivers = Collections.emptyList();
+
+        for (String fieldName = Codecs.startObject(parser, context, CSINodeSpec.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "drivers":
+                    drivers = Codecs.readList(parser, context, CSINodeDriverCodec::read);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new CSINodeSpec(drivers);
+        } catch (IllegalArgumentException e) {
+            return (CSINodeSpec) context.handleInstantiationProblem(CSINodeSpec.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link CSINodeSpec}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable CSINodeSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeListField("drivers", value.getDrivers(), CSINodeDriverCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.storage.v1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.core.v1.PersistentVolumeSpec;
+import io.k8s.core.v1.PersistentVolumeSpecCodec;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link VolumeAttachmentSource} that read and write its fields without reflection.
+ */
+public final class VolumeAttachmentSourceCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link VolumeAttachmentSource}
+     */
+    public static final JsonDeserializer<VolumeAttachmentSource> DESERIALIZER = new StdDeserializer<VolumeAttachmentSource>(VolumeAttachmentSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public VolumeAttachmentSource deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return VolumeAttachmentSourceCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link VolumeAttachmentSource}
+     */
+    public static final JsonSerializer<VolumeAttachmentSource> SERIALIZER = new StdSerializer<VolumeAttachmentSource>(VolumeAttachmentSource.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(VolumeAttachmentSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            VolumeAttachmentSourceCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private VolumeAttachmentSourceCodec() {
+    }
+
+    /**
+     * Compares two {@link VolumeAttachmentSource}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable VolumeAttachmentSource original, VolumeAttachmentSource modified, Diff diff) {
+        diff.object("inlineVolumeSpec", original, modified, VolumeAttachmentSource::getInlineVolumeSpec, PersistentVolumeSpecCodec::diff);
+        diff.value("persistentVolumeName", original, modified, VolumeAttachmentSource::getPersistentVolumeName);
+    }
+
+    /**
+     * Reads a {@link VolumeAttachmentSource}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link VolumeAttachmentSource} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static VolumeAttachmentSource read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        PersistentVolumeSpec inlineVolumeSpec = null;
+        String persistentVolumeName = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, VolumeAttachmentSource.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "inlineVolumeSpec":
+                    inlineVolumeSpec = PersistentVolumeSpecCodec.read(parser, context);
+                    break;
+                case "persistentVolumeName":
+                    persistentVolumeName = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new VolumeAttachmentSource(inlineVolumeSpec, persistentVolumeName);
+        } catch (IllegalArgumentException e) {
+            return (VolumeAttachmentSource) context.handleInstantiationProblem(VolumeAttachmentSource.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link VolumeAttachmentSource}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable VolumeAttachmentSource value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("inlineVolumeSpec", value.getInlineVolumeSpec(), PersistentVolumeSpecCodec::write, generator, provider);
+        Codecs.writeField("persistentVolumeName", value.getPersistentVolumeName(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
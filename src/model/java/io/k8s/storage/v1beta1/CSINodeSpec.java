@@ -16,6 +16,8 @@
 
 package io.k8s.storage.v1beta1;
 
+import io.k8s.type.PatchMergeKey;
+import io.k8s.type.PatchStrategy;
 import java.util.List;
 import lombok.Builder;
 import lombok.Singular;
@@ -36,6 +38,8 @@ public class CSINodeSpec {
      * uninstalled, this can become empty.
      */
     @NonNull
+    @PatchMergeKey("name")
+    @PatchStrategy("merge")
     @Singular
     List<CSINodeDriver> drivers;
 
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.storage.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import io.k8s.core.v1.TopologySelectorTerm;
+import io.k8s.core.v1.TopologySelectorTermCodec;
+import io.k8s.meta.v1.ManagedFieldsEntry;
+import io.k8s.meta.v1.ManagedFieldsEntryCodec;
+import io.k8s.meta.v1.OwnerReference;
+import io.k8s.meta.v1.OwnerReferenceCodec;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link StorageClass} that read and write its fields without reflection.
+ */
+public final class StorageClassCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link StorageClass}
+     */
+    public static final JsonDeserializer<StorageClass> DESERIALIZER = new StdDeserializer<StorageClass>(StorageClass.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public StorageClass deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return StorageClassCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link StorageClass}
+     */
+    public static final JsonSerializer<StorageClass> SERIALIZER = new StdSerializer<StorageClass>(StorageClass.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(StorageClass value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            StorageClassCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private StorageClassCodec() {
+    }
+
+    /**
+     * Compares two {@link StorageClass}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable StorageClass original, StorageClass modified, Diff diff) {
+        diff.value("allowVolumeExpansion", original, modified, StorageClass::getAllowVolumeExpansion);
+        diff.value("allowedTopologies", original, modified, StorageClass::getAllowedTopologies);
+        diff.value("apiVersion", original, modified, StorageClass::getApiVersion);
+        diff.value("kind", original, modified, StorageClass::getKind);
+        diff.value("mountOptions", original, modified, StorageClass::getMountOptions);
+        diff.map("parameters", original, modified, StorageClass::getParameters);
+        diff.value("provisioner", original, modified, StorageClass::getProvisioner);
+        diff.value("reclaimPolicy", original, modified, StorageClass::getReclaimPolicy);
+        diff.value("volumeBindingMode", original, modified, StorageClass::getVolumeBindingMode);
+        diff.object("metadata", original, modified, StorageClassCodec::getMetadata, StorageClassCodec::diffMetadata);
+    }
+
+    /**
+     * Reads a {@link StorageClass}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link StorageClass} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static StorageClass read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Boolean allowVolumeExpansion = null;
+        List<TopologySelectorTerm> allowedTopologies = Collections.emptyList();
+        String apiVersion = null;
+        String kind = null;
+        List<String> mountOptions = Collections.emptyList();
+        Map<String, String> parameters = Collections.emptyMap();
+        String provisioner = null;
+        String reclaimPolicy = null;
+        String volumeBindingMode = null;
+        Map<String, String> annotations = Collections.emptyMap();
+        String clusterName = null;
+        OffsetDateTime creationTimestamp = null;
+        Long deletionGracePeriodSeconds = null;
+        OffsetDateTime deletionTimestamp = null;
+        List<String> finalizers = Collections.emptyList();
+        String generateName = null;
+        Long generation = null;
+        Map<String, String> labels = Collections.emptyMap();
+        List<ManagedFieldsEntry> managedFields = Collections.emptyList();
+        String name = null;
+        String namespace = null;
+        List<OwnerReference> ownerReferences = Collections.emptyList();
+        String resourceVersion = null;
+        String uid = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, StorageClass.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "allowVolumeExpansion":
+                    allowVolumeExpansion = Codecs.readBoolean(parser, context);
+                    break;
+                case "allowedTopologies":
+                    allowedTopologies = Codecs.readList(parser, context, TopologySelectorTermCodec::read);
+                    break;
+                case "apiVersion":
+                    apiVersion = Codecs.readInternedString(parser, context);
+                    break;
+                case "kind":
+                    kind = Codecs.readInternedString(parser, context);
+                    break;
+                case "mountOptions":
+                    mountOptions = Codecs.readList(parser, context, Codecs::readString);
+                    break;
+                case "parameters":
+                    parameters = Codecs.readMap(parser, context, Codecs::readString);
+                    break;
+                case "provisioner":
+                    provisioner = Codecs.readString(parser, context);
+                    break;
+                case "reclaimPolicy":
+                    reclaimPolicy = Codecs.readString(parser, context);
+                    break;
+                case "volumeBindingMode":
+                    volumeBindingMode = Codecs.readString(parser, context);
+                    break;
+                case "metadata":
+                    for (String metadataName = Codecs.startObject(parser, context, StorageClass.class); metadataName != null; metadataName = parser.nextFieldName()) {
+                        parser.nextToken();
+
+                        switch (metadataName) {
+                            case "annotations":
+                                annotations = Codecs.readMap(parser, context, Codecs::readString);
+                                break;
+                            case "clusterName":
+                                clusterName = Codecs.readString(parser, context);
+                                break;
+                            case "creationTimestamp":
+                                creationTimestamp = Codecs.readDateTime(parser, context);
+                                break;
+                            case "deletionGracePeriodSeconds":
+                                deletionGracePeriodSeconds = Codecs.readLong(parser, context);
+                                break;
+                            case "deletionTimestamp":
+                                deletionTimestamp = Codecs.readDateTime(parser, context);
+                                break;
+                            case "finalizers":
+                                finalizers = Codecs.readList(parser, context, Codecs::readString);
+                                break;
+                            case "generateName":
+                                generateName = Codecs.readString(parser, context);
+                                break;
+                            case "generation":
+                                generation = Codecs.readLong(parser, context);
+                                break;
+                            case "labels":
+                                labels = Codecs.readMap(parser, context, Codecs::readInternedString);
+                                break;
+                            case "managedFields":
+                                managedFields = Codecs.readManagedFields(parser, context, ManagedFieldsEntryCodec::read);
+                                break;
+                            case "name":
+                                name = Codecs.readString(parser, context);
+                                break;
+                            case "namespace":
+                                namespace = Codecs.readInternedString(parser, context);
+                                break;
+                            case "ownerReferences":
+                                ownerReferences = Codecs.readList(parser, context, OwnerReferenceCodec::read);
+                                break;
+                            case "resourceVersion":
+                                resourceVersion = Codecs.readString(parser, context);
+                                break;
+                            case "uid":
+                                uid = Codecs.readString(parser, context);
+                                break;
+                            default:
+                                parser.skipChildren();
+                        }
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new StorageClass(allowVolumeExpansion, allowedTopologies, apiVersion, kind, mountOptions, parameters, provisioner, reclaimPolicy, volumeBindingMode, annotations, clusterName, creationTimestamp, deletionGracePeriodSeconds, deletionTimestamp, finalizers, generateName, generation, labels, managedFields, name, namespace, ownerReferences, resourceVersion, uid);
+        } catch (IllegalArgumentException e) {
+            return (StorageClass) context.handleInstantiationProblem(StorageClass.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link StorageClass}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable StorageClass value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("allowVolumeExpansion", value.getAllowVolumeExpansion(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeListField("allowedTopologies", value.getAllowedTopologies(), TopologySelectorTermCodec::write, generator, provider);
+        Codecs.writeField("apiVersion", value.getApiVersion(), Codecs::writeString, generator, provider);
+        Codecs.writeField("kind", value.getKind(), Codecs::writeString, generator, provider);
+        Codecs.writeListField("mountOptions", value.getMountOptions(), Codecs::writeString, generator, provider);
+        Codecs.writeMapField("parameters", value.getParameters(), Codecs::writeString, generator, provider);
+        Codecs.writeField("provisioner", value.getProvisioner(), Codecs::writeString, generator, provider);
+        Codecs.writeField("reclaimPolicy", value.getReclaimPolicy(), Codecs::writeString, generator, provider);
+        Codecs.writeField("volumeBindingMode", value.getVolumeBindingMode(), Codecs::writeString, generator, provider);
+
+        if (Codecs.isPresent(value.getAnnotations(), value.getClusterName(), value.getCreationTimestamp(), value.getDeletionGracePeriodSeconds(), value.getDeletionTimestamp(), value.getFinalizers(), value.getGenerateName(), value.getGeneration(), value.getLabels(), value.getManagedFields(), value.getName(), value.getNamespace(), value.getOwnerReferences(), value.getResourceVersion(), value.getUid())) {
+            generator.writeFieldName("metadata");
+            generator.writeStartObject();
+            Codecs.writeMapField("annotations", value.getAnnotations(), Codecs::writeString, generator, provider);
+            Codecs.writeField("clusterName", value.getClusterName(), Codecs::writeString, generator, provider);
+            Codecs.writeField("creationTimestamp", value.getCreationTimestamp(), Codecs::writeDateTime, generator, provider);
+            Codecs.writeField("deletionGracePeriodSeconds", value.getDeletionGracePeriodSeconds(), Codecs::writeLong, generator, provider);
+            Codecs.writeField("deletionTimestamp", value.getDeletionTimestamp(), Codecs::writeDateTime, generator, provider);
+            Codecs.writeListField("finalizers", value.getFinalizers(), Codecs::writeString, generator, provider);
+            Codecs.writeField("generateName", value.getGenerateName(), Codecs::writeString, generator, provider);
+            Codecs.writeField("generation", value.getGeneration(), Codecs::writeLong, generator, provider);
+            Codecs.writeMapField("labels", value.getLabels(), Codecs::writeString, generator, provider);
+            Codecs.writeListField("managedFields", value.getManagedFields(), ManagedFieldsEntryCodec::write, generator, provider);
+            Codecs.writeField("name", value.getName(), Codecs::writeString, generator, provider);
+            Codecs.writeField("namespace", value.getNamespace(), Codecs::writeString, generator, provider);
+            Codecs.writeListField("ownerReferences", value.getOwnerReferences(), OwnerReferenceCodec::write, generator, provider);
+            Codecs.writeField("resourceVersion", value.getResourceVersion(), Codecs::writeString, generator, provider);
+            Codecs.writeField("uid", value.getUid(), Codecs::writeString, generator, provider);
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+    }
+
+    private static void diffMetadata(@Nullable StorageClass original, StorageClass modified, Diff diff) {
+        diff.map("annotations", original, modified, StorageClass::getAnnotations);
+        diff.value("clusterName", original, modified, StorageClass::getClusterName);
+        diff.value("creationTimestamp", original, modified, StorageClass::getCreationTimestamp);
+        diff.value("deletionGracePeriodSeconds", original, modified, StorageClass::getDeletionGracePeriodSeconds);
+        diff.value("deletionTimestamp", original, modified, StorageClass::getDeletionTimestamp);
+        diff.list("finalizers", original, modified, StorageClass::getFinalizers);
+        diff.value("generateName", original, modified, StorageClass::getGenerateName);
+        diff.value("generation", original, modified, StorageClass::getGeneration);
+        diff.map("labels", original, modified, StorageClass::getLabels);
+        diff.value("managedFields", original, modified, StorageClass::getManagedFields);
+        diff.value("name", original, modified, StorageClass::getName);
+        diff.value("namespace", original, modified, StorageClass::getNamespace);
+        diff.list("ownerReferences", original, modified, StorageClass::getOwnerReferences, "uid", OwnerReference::getUid, OwnerReferenceCodec::diff);
+        diff.value("resourceVersion", original, modified, StorageClass::getResourceVersion);
+        diff.value("uid", original, modified, StorageClass::getUid);
+    }
+
+    // The value stands in for its own metadata, which is only present on the wire if any of its properties are
+    @Nullable
+    private static StorageClass getMetadata(StorageClass value) {
+        return Codecs.isPresent(value.getAnnotations(), value.getClusterName(), value.getCreationTimestamp(), value.getDeletionGracePeriodSeconds(), value.getDeletionTimestamp(), value.getFinalizers(), value.getGenerateName(), value.getGeneration(), value.getLabels(), value.getManagedFields(), value.getName(), value.getNamespace(), value.getOwnerReferences(), value.getResourceVersion(), value.getUid()) ? value : null;
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.storage.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link VolumeAttachmentSpec} that read and write its fields without reflection.
+ */
+public final class VolumeAttachmentSpecCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link VolumeAttachmentSpec}
+     */
+    public static final JsonDeserializer<VolumeAttachmentSpec> DESERIALIZER = new StdDeserializer<VolumeAttachmentSpec>(VolumeAttachmentSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public VolumeAttachmentSpec deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return VolumeAttachmentSpecCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link VolumeAttachmentSpec}
+     */
+    public static final JsonSerializer<VolumeAttachmentSpec> SERIALIZER = new StdSerializer<VolumeAttachmentSpec>(VolumeAttachmentSpec.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(VolumeAttachmentSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            VolumeAttachmentSpecCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private VolumeAttachmentSpecCodec() {
+    }
+
+    /**
+     * Compares two {@link VolumeAttachmentSpec}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable VolumeAttachmentSpec original, VolumeAttachmentSpec modified, Diff diff) {
+        diff.value("attacher", original, modified, VolumeAttachmentSpec::getAttacher);
+        diff.value("nodeName", original, modified, VolumeAttachmentSpec::getNodeName);
+        diff.object("source", original, modified, VolumeAttachmentSpec::getSource, VolumeAttachmentSourceCodec::diff);
+    }
+
+    /**
+     * Reads a {@link VolumeAttachmentSpec}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link VolumeAttachmentSpec} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static VolumeAttachmentSpec read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String attacher = null;
+        String nodeName = null;
+        VolumeAttachmentSource source = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, VolumeAttachmentSpec.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "attacher":
+                    attacher = Codecs.readString(parser, context);
+                    break;
+                case "nodeName":
+                    nodeName = Codecs.readInternedString(parser, context);
+                    break;
+                case "source":
+                    source = VolumeAttachmentSourceCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new VolumeAttachmentSpec(attacher, nodeName, source);
+        } catch (IllegalArgumentException e) {
+            return (VolumeAttachmentSpec) context.handleInstantiationProblem(VolumeAttachmentSpec.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link VolumeAttachmentSpec}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable VolumeAttachmentSpec value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("attacher", value.getAttacher(), Codecs::writeString, generator, provider);
+        Codecs.writeField("nodeName", value.getNodeName(), Codecs::writeString, generator, provider);
+        Codecs.writeField("source", value.getSource(), VolumeAttachmentSourceCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -16,6 +16,7 @@
 
 package io.k8s.storage.v1beta1;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.Map;
 import lombok.Builder;
 import lombok.Singular;
@@ -47,6 +48,7 @@ public class VolumeAttachmentStatus {
      * be passed into subsequent WaitForAttach or Mount calls. This field must only be set by the entity completing the
      * attach operation, i.e. the external-attacher.
      */
+    @JsonProperty("attachmentMetadata")
     @Nullable
     @Singular("attachmentMetadata")
     Map<String, String> attachmentMetadata;
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.storage.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link VolumeAttachmentStatus} that read and write its fields without reflection.
+ */
+public final class VolumeAttachmentStatusCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link VolumeAttachmentStatus}
+     */
+    public static final JsonDeserializer<VolumeAttachmentStatus> DESERIALIZER = new StdDeserializer<VolumeAttachmentStatus>(VolumeAttachmentStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public VolumeAttachmentStatus deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return VolumeAttachmentStatusCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link VolumeAttachmentStatus}
+     */
+    public static final JsonSerializer<VolumeAttachmentStatus> SERIALIZER = new StdSerializer<VolumeAttachmentStatus>(VolumeAttachmentStatus.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(VolumeAttachmentStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            VolumeAttachmentStatusCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private VolumeAttachmentStatusCodec() {
+    }
+
+    /**
+     * Compares two {@link VolumeAttachmentStatus}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable VolumeAttachmentStatus original, VolumeAttachmentStatus modified, Diff diff) {
+        diff.object("attachError", original, modified, VolumeAttachmentStatus::getAttachError, VolumeErrorCodec::diff);
+        diff.value("attached", original, modified, VolumeAttachmentStatus::getAttached);
+        diff.map("attachmentMetadata", original, modified, VolumeAttachmentStatus::getAttachmentMetadata);
+        diff.object("detachError", original, modified, VolumeAttachmentStatus::getDetachError, VolumeErrorCodec::diff);
+    }
+
+    /**
+     * Reads a {@link VolumeAttachmentStatus}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link VolumeAttachmentStatus} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static VolumeAttachmentStatus read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        VolumeError attachError = null;
+        Boolean attached = null;
+        Map<String, String> attachmentMetadata = Collections.emptyMap();
+        VolumeError detachError = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, VolumeAttachmentStatus.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "attachError":
+                    attachError = VolumeErrorCodec.read(parser, context);
+                    break;
+                case "attached":
+                    attached = Codecs.readBoolean(parser, context);
+                    break;
+                case "attachmentMetadata":
+                    attachmentMetadata = Codecs.readMap(parser, context, Codecs::readString);
+                    break;
+                case "detachError":
+                    detachError = VolumeErrorCodec.read(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new VolumeAttachmentStatus(attachError, attached, attachmentMetadata, detachError);
+        } catch (IllegalArgumentException e) {
+            return (VolumeAttachmentStatus) context.handleInstantiationProblem(VolumeAttachmentStatus.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link VolumeAttachmentStatus}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable VolumeAttachmentStatus value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("attachError", value.getAttachError(), VolumeErrorCodec::write, generator, provider);
+        Codecs.writeField("attached", value.getAttached(), Codecs::writeBoolean, generator, provider);
+        Codecs.writeMapField("attachmentMetadata", value.getAttachmentMetadata(), Codecs::writeString, generator, provider);
+        Codecs.writeField("detachError", value.getDetachError(), VolumeErrorCodec::write, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.storage.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link VolumeError} that read and write its fields without reflection.
+ */
+public final class VolumeErrorCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link VolumeError}
+     */
+    public static final JsonDeserializer<VolumeError> DESERIALIZER = new StdDeserializer<VolumeError>(VolumeError.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public VolumeError deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return VolumeErrorCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link VolumeError}
+     */
+    public static final JsonSerializer<VolumeError> SERIALIZER = new StdSerializer<VolumeError>(VolumeError.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(VolumeError value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            VolumeErrorCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private VolumeErrorCodec() {
+    }
+
+    /**
+     * Compares two {@link VolumeError}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable VolumeError original, VolumeError modified, Diff diff) {
+        diff.value("message", original, modified, VolumeError::getMessage);
+        diff.value("time", original, modified, VolumeError::getTime);
+    }
+
+    /**
+     * Reads a {@link VolumeError}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link VolumeError} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static VolumeError read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String message = null;
+        OffsetDateTime time = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, VolumeError.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "message":
+                    message = Codecs.readString(parser, context);
+                    break;
+                case "time":
+                    time = Codecs.readDateTime(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new VolumeError(message, time);
+        } catch (IllegalArgumentException e) {
+            return (VolumeError) context.handleInstantiationProblem(VolumeError.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link VolumeError}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable VolumeError value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("message", value.getMessage(), Codecs::writeString, generator, provider);
+        Codecs.writeField("time", value.getTime(), Codecs::writeDateTime, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.storage.v1beta1;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link VolumeNodeResources} that read and write its fields without reflection.
+ */
+public final class VolumeNodeResourcesCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link VolumeNodeResources}
+     */
+    public static final JsonDeserializer<VolumeNodeResources> DESERIALIZER = new StdDeserializer<VolumeNodeResources>(VolumeNodeResources.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public VolumeNodeResources deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return VolumeNodeResourcesCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link VolumeNodeResources}
+     */
+    public static final JsonSerializer<VolumeNodeResources> SERIALIZER = new StdSerializer<VolumeNodeResources>(VolumeNodeResources.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(VolumeNodeResources value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            VolumeNodeResourcesCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private VolumeNodeResourcesCodec() {
+    }
+
+    /**
+     * Compares two {@link VolumeNodeResources}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable VolumeNodeResources original, VolumeNodeResources modified, Diff diff) {
+        diff.value("count", original, modified, VolumeNodeResources::getCount);
+    }
+
+    /**
+     * Reads a {@link VolumeNodeResources}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link VolumeNodeResources} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static VolumeNodeResources read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        Integer count = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, VolumeNodeResources.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "count":
+                    count = Codecs.readInteger(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new VolumeNodeResources(count);
+        } catch (IllegalArgumentException e) {
+            return (VolumeNodeResources) context.handleInstantiationProblem(VolumeNodeResources.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link VolumeNodeResources}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable VolumeNodeResources value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("count", value.getCount(), Codecs::writeInteger, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
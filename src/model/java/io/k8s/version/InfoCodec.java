@@ -0,0 +1,182 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.version;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.k8s.codec.Codecs;
+import io.k8s.codec.Diff;
+import java.io.IOException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Jackson codecs for {@link Info} that read and write its fields without reflection.
+ */
+public final class InfoCodec {
+
+    /**
+     * A {@link JsonDeserializer} for {@link Info}
+     */
+    public static final JsonDeserializer<Info> DESERIALIZER = new StdDeserializer<Info>(Info.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Info deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return InfoCodec.read(parser, context);
+        }
+
+    };
+
+    /**
+     * A {@link JsonSerializer} for {@link Info}
+     */
+    public static final JsonSerializer<Info> SERIALIZER = new StdSerializer<Info>(Info.class) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void serialize(Info value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            InfoCodec.write(value, generator, provider);
+        }
+
+    };
+
+    private InfoCodec() {
+    }
+
+    /**
+     * Compares two {@link Info}s property by property, recording their differences
+     *
+     * @param original the original value, or {@code null} if it is absent
+     * @param modified the modified value
+     * @param diff     the difference to record into
+     */
+    public static void diff(@Nullable Info original, Info modified, Diff diff) {
+        diff.value("buildDate", original, modified, Info::getBuildDate);
+        diff.value("compiler", original, modified, Info::getCompiler);
+        diff.value("gitCommit", original, modified, Info::getGitCommit);
+        diff.value("gitTreeState", original, modified, Info::getGitTreeState);
+        diff.value("gitVersion", original, modified, Info::getGitVersion);
+        diff.value("goVersion", original, modified, Info::getGoVersion);
+        diff.value("major", original, modified, Info::getMajor);
+        diff.value("minor", original, modified, Info::getMinor);
+        diff.value("platform", original, modified, Info::getPlatform);
+    }
+
+    /**
+     * Reads a {@link Info}, leaving the parser on its last token
+     *
+     * @param parser  the parser to read from
+     * @param context the context to read with
+     * @return the {@link Info} or {@code null} if the value is {@code null}
+     * @throws IOException if the value cannot be read
+     */
+    @Nullable
+    public static Info read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        String buildDate = null;
+        String compiler = null;
+        String gitCommit = null;
+        String gitTreeState = null;
+        String gitVersion = null;
+        String goVersion = null;
+        String major = null;
+        String minor = null;
+        String platform = null;
+
+        for (String fieldName = Codecs.startObject(parser, context, Info.class); fieldName != null; fieldName = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (fieldName) {
+                case "buildDate":
+                    buildDate = Codecs.readString(parser, context);
+                    break;
+                case "compiler":
+                    compiler = Codecs.readString(parser, context);
+                    break;
+                case "gitCommit":
+                    gitCommit = Codecs.readString(parser, context);
+                    break;
+                case "gitTreeState":
+                    gitTreeState = Codecs.readString(parser, context);
+                    break;
+                case "gitVersion":
+                    gitVersion = Codecs.readString(parser, context);
+                    break;
+                case "goVersion":
+                    goVersion = Codecs.readString(parser, context);
+                    break;
+                case "major":
+                    major = Codecs.readString(parser, context);
+                    break;
+                case "minor":
+                    minor = Codecs.readString(parser, context);
+                    break;
+                case "platform":
+                    platform = Codecs.readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        try {
+            return new Info(buildDate, compiler, gitCommit, gitTreeState, gitVersion, goVersion, major, minor, platform);
+        } catch (IllegalArgumentException e) {
+            return (Info) context.handleInstantiationProblem(Info.class, null, e);
+        }
+    }
+
+    /**
+     * Writes a {@link Info}, omitting {@code null} fields and empty collections
+     *
+     * @param value     the value to write
+     * @param generator the generator to write to
+     * @param provider  the provider to write with
+     * @throws IOException if the value cannot be written
+     */
+    public static void write(@Nullable Info value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+
+        generator.writeStartObject(value);
+        Codecs.writeField("buildDate", value.getBuildDate(), Codecs::writeString, generator, provider);
+        Codecs.writeField("compiler", value.getCompiler(), Codecs::writeString, generator, provider);
+        Codecs.writeField("gitCommit", value.getGitCommit(), Codecs::writeString, generator, provider);
+        Codecs.writeField("gitTreeState", value.getGitTreeState(), Codecs::writeString, generator, provider);
+        Codecs.writeField("gitVersion", value.getGitVersion(), Codecs::writeString, generator, provider);
+        Codecs.writeField("goVersion", value.getGoVersion(), Codecs::writeString, generator, provider);
+        Codecs.writeField("major", value.getMajor(), Codecs::writeString, generator, provider);
+        Codecs.writeField("minor", value.getMinor(), Codecs::writeString, generator, provider);
+        Codecs.writeField("platform", value.getPlatform(), Codecs::writeString, generator, provider);
+        generator.writeEndObject();
+    }
+
+}
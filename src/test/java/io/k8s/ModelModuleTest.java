@@ -0,0 +1,129 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.k8s.apiextensions.v1.CustomResourceDefinition;
+import io.k8s.core.v1.Pod;
+import io.k8s.core.v1.PodCodec;
+import io.k8s.core.v1.PodList;
+import io.nebhale.kubernetes.engine.ConnectionContext;
+import io.nebhale.kubernetes.engine.KubernetesModule;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class ModelModuleTest {
+
+    private static final String CUSTOM_RESOURCE_DEFINITION = "{\"metadata\":{\"name\":\"widgets.example.com\"},\"spec\":{\"group\":\"example.com\"," +
+        "\"names\":{\"kind\":\"Widget\",\"plural\":\"widgets\"},\"scope\":\"Namespaced\",\"versions\":[{\"name\":\"v1\",\"served\":true," +
+        "\"storage\":true,\"schema\":{\"openAPIV3Schema\":{\"type\":\"object\",\"x-kubernetes-preserve-unknown-fields\":true," +
+        "\"properties\":{\"size\":{\"type\":\"string\"}}}}}]}}";
+
+    private static final String POD = "{\"apiVersion\":\"v1\",\"kind\":\"Pod\",\"metadata\":{\"name\":\"alpha\",\"namespace\":\"test-namespace\"," +
+        "\"labels\":{\"app\":\"web\",\"tier\":\"front\"},\"creationTimestamp\":\"2020-01-01T00:00:00Z\",\"finalizers\":[\"test-finalizer\"]," +
+        "\"unknown\":{\"x\":[1,2]},\"managedFields\":[{\"manager\":\"kubectl\",\"operation\":\"Update\",\"fieldsV1\":{\"f:spec\":{}}}]}," +
+        "\"spec\":{\"containers\":[{\"name\":\"c\",\"image\":\"i\",\"env\":[{\"name\":\"A\",\"value\":\"1\"}],\"ports\":[{\"containerPort\":80}]," +
+        "\"resources\":{\"limits\":{\"cpu\":\"100m\"}},\"livenessProbe\":{\"httpGet\":{\"port\":8080,\"path\":\"/\"}}}]," +
+        "\"nodeSelector\":{\"disk\":\"ssd\"},\"hostNetwork\":true,\"terminationGracePeriodSeconds\":30}," +
+        "\"status\":{\"phase\":\"Running\",\"podIPs\":[{\"ip\":\"10.0.0.1\"}],\"conditions\":[{\"type\":\"Ready\",\"status\":\"True\"," +
+        "\"lastTransitionTime\":\"2020-01-01T00:00:01Z\"}]}}";
+
+    private final ObjectMapper generated = ConnectionContext.defaultObjectMapper();
+
+    private final ObjectMapper reflective = reflective();
+
+    @Test
+    void customResourceDefinition() throws IOException {
+        CustomResourceDefinition crd = generated.readValue(CUSTOM_RESOURCE_DEFINITION, CustomResourceDefinition.class);
+
+        assertThat(crd).isEqualTo(reflective.readValue(CUSTOM_RESOURCE_DEFINITION, CustomResourceDefinition.class));
+        assertThat(generated.readValue(generated.writeValueAsString(crd), CustomResourceDefinition.class)).isEqualTo(crd);
+    }
+
+    @Test
+    void generatedDeserializer() throws IOException {
+        DeserializationContext context = ((DefaultDeserializationContext) generated.getDeserializationContext())
+            .createInstance(generated.getDeserializationConfig(), null, null);
+
+        assertThat(context.findRootValueDeserializer(generated.constructType(Pod.class))).isSameAs(PodCodec.DESERIALIZER);
+    }
+
+    @Test
+    void list() throws IOException {
+        String list = String.format("{\"kind\":\"PodList\",\"metadata\":{\"continue\":\"next-page\",\"resourceVersion\":\"5\"},\"items\":[%1$s,%1$s]}", POD);
+
+        PodList podList = generated.readValue(list, PodList.class);
+
+        assertThat(podList).isEqualTo(reflective.readValue(list, PodList.class));
+        assertThat(podList.getContinue()).isEqualTo("next-page");
+        assertThat(generated.readTree(generated.writeValueAsString(podList)))
+            .isEqualTo(reflective.readTree(reflective.writeValueAsString(podList)));
+    }
+
+    @Test
+    void missingRequired() {
+        assertThatThrownBy(() -> generated.readValue("{\"spec\":{\"containers\":[{}]}}", Pod.class))
+            .isInstanceOf(JsonMappingException.class);
+    }
+
+    @Test
+    void nullCollections() throws IOException {
+        Pod pod = generated.readValue("{\"metadata\":{\"name\":\"alpha\"},\"spec\":{\"containers\":[],\"tolerations\":null}}", Pod.class);
+
+        assertThat(pod.getName()).isEqualTo("alpha");
+        assertThat(pod.getSpec().getTolerations()).isEmpty();
+    }
+
+    @Test
+    void pod() throws IOException {
+        Pod pod = generated.readValue(POD, Pod.class);
+
+        assertThat(pod).isEqualTo(reflective.readValue(POD, Pod.class));
+        assertThat(pod.getName()).isEqualTo("alpha");
+        assertThat(pod.getSpec().getContainers().get(0).getEnv().get(0).getValue()).isEqualTo("1");
+        assertThat(generated.readTree(generated.writeValueAsString(pod)))
+            .isEqualTo(reflective.readTree(reflective.writeValueAsString(pod)));
+    }
+
+    private static ObjectMapper reflective() {
+        ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new KubernetesModule())
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+            .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+        objectMapper.configOverride(List.class).setInclude(JsonInclude.Value.construct(JsonInclude.Include.NON_EMPTY, null));
+        objectMapper.configOverride(Map.class).setInclude(JsonInclude.Value.construct(JsonInclude.Include.NON_EMPTY, null));
+
+        return objectMapper;
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.k8s.apps.v1.Deployment;
+import io.k8s.apps.v1.DeploymentCodec;
+import io.k8s.apps.v1.DeploymentSpec;
+import io.k8s.apps.v1.DeploymentStrategy;
+import io.k8s.apps.v1.RollingUpdateDeployment;
+import io.k8s.core.v1.ConfigMap;
+import io.k8s.core.v1.ConfigMapCodec;
+import io.k8s.core.v1.PodTemplateSpec;
+import io.k8s.intstr.IntOrString;
+import io.k8s.meta.v1.LabelSelector;
+import io.k8s.type.PatchType;
+import io.nebhale.kubernetes.engine.ConnectionContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class DiffTest {
+
+    private final ObjectMapper objectMapper = ConnectionContext.defaultObjectMapper();
+
+    @Test
+    void absentMetadata() throws IOException {
+        ConfigMap original = ConfigMap.builder().data("key", "value").build();
+        ConfigMap modified = ConfigMap.builder().data("key", "value").name("test-config-map").label("example.com/tier", "front").build();
+
+        assertThat(objectMapper.writeValueAsString(Diff.of(original, modified, ConfigMapCodec::diff).toPatch(PatchType.JSON)))
+            .isEqualTo("[{\"op\":\"add\",\"path\":\"/metadata\",\"value\":{\"labels\":{\"example.com/tier\":\"front\"},\"name\":\"test-config-map\"}}]");
+        assertThat(objectMapper.writeValueAsString(Diff.of(modified, original, ConfigMapCodec::diff).toPatch(PatchType.MERGE)))
+            .isEqualTo("{\"metadata\":null}");
+    }
+
+    @Test
+    void diff() throws IOException {
+        Deployment original = deployment(1, "old", null);
+        Deployment modified = deployment(3, "new", RollingUpdateDeployment.builder().maxSurge(IntOrString.of(1)).build());
+
+        Diff diff = Diff.of(original, modified, DeploymentCodec::diff);
+
+        assertThat(diff.getChanges()).extracting(Object::toString)
+            .containsExactly("REPLACE /spec/replicas", "ADD /spec/strategy", "REMOVE /metadata/labels/old", "ADD /metadata/labels/new");
+        assertThat(objectMapper.writeValueAsString(diff.toPatch(PatchType.JSON))).isEqualTo("[" +
+            "{\"op\":\"replace\",\"path\":\"/spec/replicas\",\"value\":3}," +
+            "{\"op\":\"add\",\"path\":\"/spec/strategy\",\"value\":{\"rollingUpdate\":{\"maxSurge\":1}}}," +
+            "{\"op\":\"remove\",\"path\":\"/metadata/labels/old\"}," +
+            "{\"op\":\"add\",\"path\":\"/metadata/labels/new\",\"value\":\"x\"}]");
+        assertThat(objectMapper.writeValueAsString(diff.toPatch(PatchType.MERGE)))
+            .isEqualTo("{\"spec\":{\"replicas\":3,\"strategy\":{\"rollingUpdate\":{\"maxSurge\":1}}},\"metadata\":{\"labels\":{\"old\":null,\"new\":\"x\"}}}");
+    }
+
+    @Test
+    void escapedPointer() {
+        ConfigMap original = ConfigMap.builder().name("test-config-map").label("example.com/tier", "front").build();
+        ConfigMap modified = ConfigMap.builder().name("test-config-map").label("example.com/tier", "front").label("example.com/zone", "a").build();
+
+        assertThat(Diff.of(original, modified, ConfigMapCodec::diff).getChanges().get(0).getPointer()).isEqualTo("/metadata/labels/example.com~1zone");
+    }
+
+    @Test
+    void unchanged() {
+        assertThat(Diff.of(deployment(1, "old", null), deployment(1, "old", null), DeploymentCodec::diff).isEmpty()).isTrue();
+    }
+
+    private static Deployment deployment(int replicas, String label, @Nullable RollingUpdateDeployment rollingUpdate) {
+        return Deployment.builder()
+            .apiVersion("apps/v1")
+            .kind("Deployment")
+            .namespace("test-namespace")
+            .name("test-deployment")
+            .label("app", "web")
+            .label(label, "x")
+            .spec(DeploymentSpec.builder()
+                .replicas(replicas)
+                .selector(LabelSelector.builder().matchLabel("app", "web").build())
+                .template(PodTemplateSpec.builder().build())
+                .strategy(rollingUpdate == null ? null : DeploymentStrategy.builder().rollingUpdate(rollingUpdate).build())
+                .build())
+            .build();
+    }
+
+}
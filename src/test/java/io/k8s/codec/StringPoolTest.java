@@ -0,0 +1,69 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.k8s.core.v1.Pod;
+import io.nebhale.kubernetes.engine.ConnectionContext;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class StringPoolTest {
+
+    private static final String POD = "{\"kind\":\"Pod\",\"apiVersion\":\"v1\",\"metadata\":{\"name\":\"%s\",\"namespace\":\"default\"," +
+        "\"labels\":{\"app\":\"web\"}},\"spec\":{\"nodeName\":\"node-1\",\"containers\":[{\"name\":\"main\",\"image\":\"nginx:1.19\"}]}}";
+
+    @Test
+    void decode() throws IOException {
+        StringPool pool = new StringPool();
+        ObjectMapper objectMapper = ConnectionContext.defaultObjectMapper();
+
+        Pod alpha = objectMapper.readerFor(Pod.class).withAttribute(Codecs.STRING_POOL, pool).readValue(String.format(POD, "alpha"));
+        Pod bravo = objectMapper.readerFor(Pod.class).withAttribute(Codecs.STRING_POOL, pool).readValue(String.format(POD, "bravo"));
+
+        assertThat(bravo.getName()).isEqualTo("bravo");
+        assertThat(bravo.getNamespace()).isSameAs(alpha.getNamespace());
+        assertThat(bravo.getLabels().get("app")).isSameAs(alpha.getLabels().get("app"));
+        assertThat(bravo.getSpec().getNodeName()).isSameAs(alpha.getSpec().getNodeName());
+        assertThat(bravo.getSpec().getContainers().get(0).getImage()).isSameAs(alpha.getSpec().getContainers().get(0).getImage());
+        assertThat(bravo.getSpec().getContainers().get(0).getName()).isSameAs(alpha.getSpec().getContainers().get(0).getName());
+        assertThat(pool.getHitRatio()).isGreaterThan(0.4);
+
+        Pod charlie = objectMapper.readValue(String.format(POD, "charlie"), Pod.class);
+        assertThat(charlie.getNamespace()).isNotSameAs(alpha.getNamespace());
+    }
+
+    @Test
+    void intern() {
+        StringPool pool = new StringPool(3);
+        assertThat(pool.toString()).contains("capacity=4");
+        assertThat(pool.getHitRatio()).isNaN();
+
+        String value = pool.intern("abc".toCharArray(), 0, 3);
+        assertThat(pool.intern("xabcx".toCharArray(), 1, 3)).isSameAs(value);
+        assertThat(pool.intern(new String("abc"))).isSameAs(value);
+
+        assertThat(pool.getHits()).isEqualTo(2);
+        assertThat(pool.getMisses()).isEqualTo(1);
+        assertThat(pool.getHitRatio()).isEqualTo(2.0 / 3);
+        assertThat(pool.intern("".toCharArray(), 0, 0)).isEmpty();
+    }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.intstr;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.k8s.apps.v1.RollingUpdateDeployment;
+import io.k8s.core.v1.ServicePort;
+import io.nebhale.kubernetes.engine.ConnectionContext;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class IntOrStringTest {
+
+    @Test
+    void equality() {
+        assertThat(IntOrString.of(80)).isEqualTo(IntOrString.of(80)).isNotEqualTo(IntOrString.of("80"));
+    }
+
+    @Test
+    void json() throws IOException {
+        ObjectMapper objectMapper = ConnectionContext.defaultObjectMapper();
+
+        RollingUpdateDeployment rollingUpdate = objectMapper.readValue("{\"maxSurge\":1,\"maxUnavailable\":\"25%\"}", RollingUpdateDeployment.class);
+        assertThat(rollingUpdate.getMaxSurge()).isEqualTo(IntOrString.of(1));
+        assertThat(rollingUpdate.getMaxUnavailable().isPercentage()).isTrue();
+        assertThat(objectMapper.writeValueAsString(rollingUpdate)).isEqualTo("{\"maxSurge\":1,\"maxUnavailable\":\"25%\"}");
+
+        ServicePort port = objectMapper.readValue("{\"port\":80,\"targetPort\":\"http\"}", ServicePort.class);
+        assertThat(port.getTargetPort().getStringValue()).isEqualTo("http");
+
+        assertThat(new ObjectMapper().writeValueAsString(IntOrString.of(8080))).isEqualTo("8080");
+        assertThat(new ObjectMapper().readValue("\"http\"", IntOrString.class)).isEqualTo(IntOrString.of("http"));
+    }
+
+    @Test
+    void scaledValue() {
+        assertThat(IntOrString.of("25%").getScaledValue(10, true)).isEqualTo(3);
+        assertThat(IntOrString.of("25%").getScaledValue(10, false)).isEqualTo(2);
+        assertThat(IntOrString.of(7).getScaledValue(10, false)).isEqualTo(7);
+        assertThat(IntOrString.of("100%").getScaledValue(Integer.MAX_VALUE, true)).isEqualTo(Integer.MAX_VALUE);
+        assertThat(IntOrString.of("-10%").getScaledValue(15, true)).isEqualTo(-1);
+        assertThat(IntOrString.of("-10%").getScaledValue(15, false)).isEqualTo(-2);
+    }
+
+    @Test
+    void scaledValueInvalid() {
+        assertThatThrownBy(() -> IntOrString.of("http").getScaledValue(1, true)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IntOrString.of("%").getScaledValue(1, true)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.meta.v1;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.nebhale.kubernetes.engine.ConnectionContext;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class FieldsV1Test {
+
+    private final ObjectMapper objectMapper = ConnectionContext.defaultObjectMapper();
+
+    @Test
+    void builder() {
+        FieldsV1 fields = FieldsV1.builder()
+            .child("f:bravo", null)
+            .child("f:alpha", null)
+            .child("f:bravo", FieldsV1.builder().child(".", null).build())
+            .build();
+
+        assertThat(fields.getKeys()).containsExactly("f:alpha", "f:bravo");
+        assertThat(fields.get("f:bravo").getKeys()).containsExactly(".");
+    }
+
+    @Test
+    void difference() throws IOException {
+        FieldsV1 alpha = fields("{'f:a':{},'f:b':{'f:c':{}}}");
+        FieldsV1 bravo = fields("{'f:b':{'.':{},'f:d':{}},'f:e':{}}");
+
+        assertThat(string(alpha.difference(bravo))).isEqualTo("{'f:a':{},'f:b':{'f:c':{}}}");
+        assertThat(string(bravo.difference(alpha))).isEqualTo("{'f:b':{'.':{},'f:d':{}},'f:e':{}}");
+        assertThat(alpha.difference(alpha)).isSameAs(FieldsV1.EMPTY);
+    }
+
+    @Test
+    void empty() {
+        assertThat(FieldsV1.builder().build()).isSameAs(FieldsV1.EMPTY);
+    }
+
+    @Test
+    void intersection() throws IOException {
+        FieldsV1 alpha = fields("{'f:a':{},'f:b':{'f:c':{}}}");
+        FieldsV1 bravo = fields("{'f:b':{'.':{},'f:d':{}},'f:e':{}}");
+
+        assertThat(alpha.intersection(bravo)).isSameAs(FieldsV1.EMPTY);
+        assertThat(string(alpha.intersection(fields("{'f:b':{'f:c':{},'f:d':{}}}")))).isEqualTo("{'f:b':{'f:c':{}}}");
+    }
+
+    @Test
+    void leafAndChildren() throws IOException {
+        FieldsV1 leaf = fields("{'f:s':{}}");
+        FieldsV1 children = fields("{'f:s':{'f:t':{}}}");
+
+        assertThat(string(leaf.union(children))).isEqualTo("{'f:s':{'.':{},'f:t':{}}}");
+        assertThat(string(leaf.difference(children))).isEqualTo("{'f:s':{}}");
+        assertThat(string(children.difference(leaf))).isEqualTo("{'f:s':{'f:t':{}}}");
+        assertThat(string(leaf.union(children).intersection(leaf))).isEqualTo("{'f:s':{}}");
+    }
+
+    @Test
+    void matchesPathSets() {
+        Random random = new Random(7);
+
+        for (int i = 0; i < 2000; i++) {
+            FieldsV1 alpha = random(random, 0);
+            FieldsV1 bravo = random(random, 0);
+
+            Set<String> union = paths(alpha);
+            union.addAll(paths(bravo));
+            Set<String> intersection = paths(alpha);
+            intersection.retainAll(paths(bravo));
+            Set<String> difference = paths(alpha);
+            difference.removeAll(paths(bravo));
+
+            assertThat(paths(alpha.union(bravo))).isEqualTo(union);
+            assertThat(paths(alpha.intersection(bravo))).isEqualTo(intersection);
+            assertThat(paths(alpha.difference(bravo))).isEqualTo(difference);
+        }
+    }
+
+    @Test
+    void roundTrip() throws IOException {
+        String json = "{\"fieldsType\":\"FieldsV1\",\"fieldsV1\":{\"f:spec\":{\"f:containers\":{\"k:{\\\"name\\\":\\\"alpha\\\"}\":{\".\":{},\"f:image\":{}}}}}," +
+            "\"manager\":\"test-manager\"}";
+
+        ManagedFieldsEntry entry = objectMapper.readValue(json, ManagedFieldsEntry.class);
+
+        assertThat(entry.getFieldsV1().contains("f:spec", "f:containers", "k:{\"name\":\"alpha\"}", ".")).isTrue();
+        assertThat(entry.getFieldsV1().contains("f:spec", "f:selector")).isFalse();
+        assertThat(objectMapper.writeValueAsString(entry)).isEqualTo(json);
+    }
+
+    @Test
+    void union() throws IOException {
+        FieldsV1 alpha = fields("{'f:a':{},'f:b':{'f:c':{}}}");
+        FieldsV1 bravo = fields("{'f:b':{'.':{},'f:d':{}},'f:e':{}}");
+
+        assertThat(string(alpha.union(bravo))).isEqualTo("{'f:a':{},'f:b':{'.':{},'f:c':{},'f:d':{}},'f:e':{}}");
+        assertThat(alpha.union(alpha)).isSameAs(alpha);
+    }
+
+    private FieldsV1 fields(String json) throws IOException {
+        return this.objectMapper.readValue(json.replace('\'', '"'), FieldsV1.class);
+    }
+
+    private String string(FieldsV1 fields) throws IOException {
+        return this.objectMapper.writeValueAsString(fields).replace('"', '\'');
+    }
+
+    private static Set<String> paths(FieldsV1 fields) {
+        Set<String> paths = new HashSet<>();
+        paths(fields, "", true, paths);
+        return paths;
+    }
+
+    private static void paths(FieldsV1 fields, String path, boolean root, Set<String> paths) {
+        if (!root && (fields.isEmpty() || fields.get(".") != null)) {
+            paths.add(path);
+        }
+
+        for (String key : fields.getKeys()) {
+            if (!".".equals(key)) {
+                paths(fields.get(key), path + "/" + key, false, paths);
+            }
+        }
+    }
+
+    private static FieldsV1 random(Random random, int depth) {
+        FieldsV1.Builder builder = FieldsV1.builder();
+
+        if (depth > 0 && random.nextBoolean()) {
+            builder.child(".", null);
+        }
+
+        int size = depth > 3 ? 0 : random.nextInt(4);
+        for (int i = 0; i < size; i++) {
+            builder.child("f:" + (char) ('a' + random.nextInt(4)), random.nextInt(3) == 0 ? null : random(random, depth + 1));
+        }
+
+        return builder.build();
+    }
+
+}
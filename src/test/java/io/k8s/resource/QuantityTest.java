@@ -0,0 +1,110 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.k8s.resource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.k8s.core.v1.ResourceRequirements;
+import io.nebhale.kubernetes.engine.ConnectionContext;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class QuantityTest {
+
+    @Test
+    void add() {
+        Quantity sum = Quantity.ZERO;
+        for (int i = 0; i < 100_000; i++) {
+            sum = sum.add(Quantity.parse("250m"));
+        }
+
+        assertThat(sum).hasToString("25k");
+        assertThat(Quantity.parse("1Gi").add(Quantity.parse("512Mi"))).hasToString("1536Mi");
+        assertThat(Quantity.parse("1").subtract(Quantity.parse("250m"))).hasToString("750m");
+    }
+
+    @Test
+    void canonical() {
+        assertCanonical("1.5", "1500m");
+        assertCanonical("1.5Gi", "1536Mi");
+        assertCanonical("1000", "1k");
+        assertCanonical("100m", "100m");
+        assertCanonical("0.1m", "100u");
+        assertCanonical("0.0000000001", "1n");
+        assertCanonical("1Ki", "1Ki");
+        assertCanonical("1000Ki", "1000Ki");
+        assertCanonical("512", "512");
+        assertCanonical("0.5Ki", "512");
+        assertCanonical("1e3", "1e3");
+        assertCanonical("1E3", "1e3");
+        assertCanonical("1E", "1E");
+        assertCanonical("1Ei", "1Ei");
+        assertCanonical("-1.5", "-1500m");
+        assertCanonical("+2", "2");
+        assertCanonical("0", "0");
+        assertCanonical("12e-3", "12e-3");
+        assertCanonical("100M", "100M");
+        assertCanonical(".5", "500m");
+        assertCanonical("5.", "5");
+        assertCanonical("1000E", "1000E");
+    }
+
+    @Test
+    void compare() {
+        assertThat(Quantity.parse("1Ki")).isEqualTo(Quantity.parse("1024")).isEqualByComparingTo(Quantity.parse("1.024k"));
+        assertThat(Quantity.parse("100m")).isLessThan(Quantity.parse("1"));
+        assertThat(Quantity.parse("-1")).isLessThan(Quantity.parse("1m"));
+        assertThat(Quantity.parse("1E")).isGreaterThan(Quantity.parse("1n"));
+    }
+
+    @Test
+    void invalid() {
+        for (String text : new String[]{"", "m", "1x", "1Ki2", "1e", "1.2.3", "--1", "1 m", "1mi"}) {
+            assertThatThrownBy(() -> Quantity.parse(text)).as(text).isInstanceOf(NumberFormatException.class);
+        }
+    }
+
+    @Test
+    void json() throws IOException {
+        ObjectMapper objectMapper = ConnectionContext.defaultObjectMapper();
+
+        ResourceRequirements requirements = objectMapper.readValue("{\"limits\":{\"cpu\":\"1.5\",\"memory\":\"1Gi\",\"pods\":2}}",
+            ResourceRequirements.class);
+
+        assertThat(requirements.getLimits().get("cpu").getMilliValue()).isEqualTo(1500);
+        assertThat(requirements.getLimits().get("pods").getValue()).isEqualTo(2);
+        assertThat(objectMapper.writeValueAsString(requirements)).isEqualTo("{\"limits\":{\"cpu\":\"1500m\",\"memory\":\"1Gi\",\"pods\":\"2\"}}");
+        assertThat(new ObjectMapper().readValue("\"1.5\"", Quantity.class)).isEqualTo(Quantity.parse("1500m"));
+        assertThat(new ObjectMapper().writeValueAsString(Quantity.parse("1.5"))).isEqualTo("\"1500m\"");
+    }
+
+    @Test
+    void values() {
+        assertThat(Quantity.parse("1500m").getValue()).isEqualTo(2);
+        assertThat(Quantity.parse("-1500m").getValue()).isEqualTo(-2);
+        assertThat(Quantity.parse("1.5").getMilliValue()).isEqualTo(1500);
+        assertThat(Quantity.parse("1.5Gi").toBigDecimal().longValueExact()).isEqualTo(1610612736L);
+    }
+
+    private static void assertCanonical(String text, String canonical) {
+        assertThat(Quantity.parse(text)).as(text).hasToString(canonical);
+    }
+
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.engine;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.k8s.core.v1.Pod;
+import io.k8s.core.v1.PodList;
+import io.k8s.meta.v1.CreateOptions;
+import io.k8s.meta.v1.GetOptions;
+import io.k8s.meta.v1.ListOptions;
+import io.k8s.meta.v1.PatchOptions;
+import io.k8s.type.PatchType;
+import io.nebhale.kubernetes.client.core.v1.ReactorPodClient;
+import io.nebhale.kubernetes.engine.RateLimiter.VerbClass;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class ConnectionContextTest {
+
+    static final String POD = "{\"apiVersion\":\"v1\",\"kind\":\"Pod\",\"metadata\":{\"name\":\"foo\",\"namespace\":\"default\"," +
+        "\"labels\":{\"app\":\"a\"},\"creationTimestamp\":\"2020-01-01T00:00:00Z\",\"resourceVersion\":\"12\"}," +
+        "\"spec\":{\"nodeName\":\"n1\",\"containers\":[{\"name\":\"c\",\"image\":\"i\"}]},\"status\":{\"phase\":\"Running\"}}";
+
+    private static final String NOT_FOUND = "{\"kind\":\"Status\",\"apiVersion\":\"v1\",\"metadata\":{},\"status\":\"Failure\"," +
+        "\"message\":\"pods \\\"missing\\\" not found\",\"reason\":\"NotFound\",\"code\":404}";
+
+    private static final String TOO_MANY_REQUESTS = "{\"kind\":\"Status\",\"apiVersion\":\"v1\",\"metadata\":{},\"status\":\"Failure\"," +
+        "\"message\":\"Too many requests, please try again later.\",\"reason\":\"TooManyRequests\",\"code\":429}";
+
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+
+    private final AtomicInteger throttled = new AtomicInteger();
+
+    private ConnectionContext connectionContext;
+
+    private DisposableServer server;
+
+    @Test
+    void concurrent() {
+        ReactorPodClient client = new ReactorPodClient(connectionContext, "default");
+
+        assertThat(Flux.range(0, 2_000)
+            .flatMap(i -> client.get("foo" + i, GetOptions.builder().build()), 1_000)
+            .count()
+            .block())
+            .isEqualTo(2_000);
+    }
+
+    @Test
+    void create() throws Exception {
+        Pod pod = connectionContext.getObjectMapper().readValue(POD, Pod.class);
+
+        Pod created = new ReactorPodClient(connectionContext, "default").create(pod, CreateOptions.builder().dryRun("All").build()).block();
+
+        assertThat(created).isEqualTo(pod);
+        assertThat(requests).containsExactly("POST /api/v1/namespaces/default/pods?dryRun=All application/json");
+    }
+
+    @Test
+    void encodeMetadata() throws Exception {
+        Pod pod = connectionContext.getObjectMapper().readValue(POD, Pod.class);
+
+        JsonNode node = new ObjectMapper().readTree(connectionContext.getObjectMapper().writeValueAsString(pod));
+
+        assertThat(node.has("name")).isFalse();
+        assertThat(node.get("metadata").get("name").asText()).isEqualTo("foo");
+        assertThat(node.get("metadata").get("creationTimestamp").asText()).isEqualTo("2020-01-01T00:00:00Z");
+    }
+
+    @Test
+    void get() {
+        Pod pod = new ReactorPodClient(connectionContext, "default").get("foo", GetOptions.builder().resourceVersion("5").build()).block();
+
+        assertThat(pod.getName()).isEqualTo("foo");
+        assertThat(pod.getLabels()).containsEntry("app", "a");
+        assertThat(pod.getSpec().getNodeName()).isEqualTo("n1");
+        assertThat(pod.getCreationTimestamp().getYear()).isEqualTo(2020);
+        assertThat(requests).containsExactly("GET /api/v1/namespaces/default/pods/foo?resourceVersion=5 null");
+    }
+
+    @Test
+    void list() {
+        PodList list = new ReactorPodClient(connectionContext).list(ListOptions.builder().limit(5L).build()).block();
+
+        assertThat(list.getItems()).extracting(Pod::getName).containsExactly("foo", "foo");
+        assertThat(list.getContinue()).isEqualTo("abc");
+        assertThat(list.getResourceVersion()).isEqualTo("99");
+        assertThat(requests).containsExactly("GET /api/v1/pods?limit=5 null");
+    }
+
+    @Test
+    void notFound() {
+        assertThatThrownBy(() -> new ReactorPodClient(connectionContext, "default").get("missing", GetOptions.builder().build()).block())
+            .isInstanceOf(StatusException.class)
+            .hasMessageContaining("not found")
+            .satisfies(e -> assertThat(((StatusException) e).getStatus().getReason()).isEqualTo("NotFound"));
+    }
+
+    @Test
+    void patch() {
+        new ReactorPodClient(connectionContext, "default").patch("foo", PatchType.MERGE, "{\"spec\":{}}", PatchOptions.builder().build()).block();
+
+        assertThat(requests).containsExactly("PATCH /api/v1/namespaces/default/pods/foo application/merge-patch+json");
+    }
+
+    @Test
+    void requiresNamespace() {
+        assertThatThrownBy(() -> new ReactorPodClient(connectionContext).get("foo", GetOptions.builder().build()).block())
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void retryExhausted() {
+        ConnectionContext rateLimited = ConnectionContext.builder()
+            .apiServer(String.format("http://localhost:%d", server.port()))
+            .rateLimiter(TokenBucketRateLimiter.builder().build())
+            .build();
+
+        try {
+            assertThatThrownBy(() -> new ReactorPodClient(rateLimited, "default").get("exhausted", GetOptions.builder().build()).block())
+                .isInstanceOf(StatusException.class)
+                .satisfies(e -> assertThat(((StatusException) e).getStatus().getCode()).isEqualTo(429));
+            assertThat(requests).hasSize(11);
+        } finally {
+            rateLimited.dispose();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+            .port(0)
+            .handle((request, response) -> {
+                requests.add(String.format("%s %s %s", request.method(), request.uri(), request.requestHeaders().get("Content-Type")));
+
+                if (request.uri().startsWith("/api/v1/namespaces/default/pods/missing")) {
+                    return response.status(404).sendString(Mono.just(NOT_FOUND)).then();
+                }
+
+                if (request.uri().startsWith("/api/v1/namespaces/default/pods/exhausted")) {
+                    return response.status(429).header("Retry-After", "0").sendString(Mono.just(TOO_MANY_REQUESTS)).then();
+                }
+
+                if (request.uri().startsWith("/api/v1/namespaces/default/pods/throttled") && throttled.incrementAndGet() <= 2) {
+                    return response.status(429)
+                        .header("Retry-After", "1")
+                        .header("X-Kubernetes-PF-PriorityLevel-UID", "test-priority-level")
+                        .sendString(Mono.just(TOO_MANY_REQUESTS))
+                        .then();
+                }
+
+                if ("GET".equals(request.method().name()) && request.uri().startsWith("/api/v1/namespaces/default/pods/")) {
+                    return response.sendString(Mono.just(POD)).then();
+                }
+
+                if (request.uri().startsWith("/api/v1/pods")) {
+                    return response.sendString(Mono.just(String.format("{\"apiVersion\":\"v1\",\"kind\":\"PodList\"," +
+                        "\"metadata\":{\"resourceVersion\":\"99\",\"continue\":\"abc\"},\"items\":[%1$s,%1$s]}", POD))).then();
+                }
+
+                return response.sendString(request.receive().aggregate().asString()).then();
+            })
+            .bindNow();
+
+        connectionContext = ConnectionContext.builder()
+            .apiServer(String.format("http://localhost:%d", server.port()))
+            .token("test-token")
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionContext.dispose();
+        server.disposeNow();
+    }
+
+    @Test
+    void throttled() {
+        TokenBucketRateLimiter rateLimiter = TokenBucketRateLimiter.builder().build();
+        ConnectionContext rateLimited = ConnectionContext.builder()
+            .apiServer(String.format("http://localhost:%d", server.port()))
+            .rateLimiter(rateLimiter)
+            .build();
+
+        try {
+            long start = System.nanoTime();
+            Pod pod = new ReactorPodClient(rateLimited, "default").get("throttled", GetOptions.builder().build()).block();
+
+            assertThat(pod.getName()).isEqualTo("foo");
+            assertThat(requests).hasSize(3);
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(1_800));
+            assertThat(rateLimiter.getPriorityLevel(VerbClass.READ)).isEqualTo("test-priority-level");
+            assertThat(rateLimiter.getAcquisitions(VerbClass.READ)).isEqualTo(3);
+        } finally {
+            rateLimited.dispose();
+        }
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.engine;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.TooLongFrameException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class LengthDelimitedDecoderTest {
+
+    @Test
+    void chunkBoundaries() {
+        ByteBuf stream = Unpooled.buffer();
+        for (String frame : new String[]{"alpha", "", "bravo-charlie", "delta"}) {
+            stream.writeInt(frame.length()).writeCharSequence(frame, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[stream.readableBytes()];
+        stream.readBytes(bytes);
+
+        for (int size = 1; size <= bytes.length; size++) {
+            LengthDelimitedDecoder decoder = new LengthDelimitedDecoder(ByteBufAllocator.DEFAULT, 1024);
+
+            List<String> frames = new ArrayList<>();
+            for (int i = 0; i < bytes.length; i += size) {
+                frames.addAll(decoder.decode(Unpooled.wrappedBuffer(bytes, i, Math.min(size, bytes.length - i)),
+                    frame -> frame.toString(StandardCharsets.UTF_8)));
+            }
+            decoder.release();
+
+            assertThat(frames).as("chunk size %d", size).containsExactly("alpha", "", "bravo-charlie", "delta");
+        }
+    }
+
+    @Test
+    void tooLong() {
+        LengthDelimitedDecoder decoder = new LengthDelimitedDecoder(ByteBufAllocator.DEFAULT, 8);
+
+        assertThatThrownBy(() -> decoder.decode(Unpooled.buffer().writeInt(9), frame -> frame))
+            .isInstanceOf(TooLongFrameException.class);
+    }
+
+}
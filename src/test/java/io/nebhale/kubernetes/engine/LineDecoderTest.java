@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.engine;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.TooLongFrameException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class LineDecoderTest {
+
+    @Test
+    void carriageReturn() {
+        assertThat(decode(new LineDecoder(ByteBufAllocator.DEFAULT, 1024), "alpha\r\nbravo\r", "\n"))
+            .containsExactly("alpha", "bravo");
+    }
+
+    @Test
+    void chunkBoundaries() {
+        String input = "alpha\nbravo\n\ncharlie-delta-echo\nfoxtrot\n";
+
+        for (int size = 1; size <= input.length(); size++) {
+            List<String> chunks = new ArrayList<>();
+            for (int i = 0; i < input.length(); i += size) {
+                chunks.add(input.substring(i, Math.min(input.length(), i + size)));
+            }
+
+            assertThat(decode(new LineDecoder(ByteBufAllocator.DEFAULT, 1024), chunks.toArray(new String[0])))
+                .as("chunk size %d", size)
+                .containsExactly("alpha", "bravo", "charlie-delta-echo", "foxtrot");
+        }
+    }
+
+    @Test
+    void partialLine() {
+        LineDecoder decoder = new LineDecoder(ByteBufAllocator.DEFAULT, 1024);
+
+        assertThat(decode(decoder, "alpha\nbra")).containsExactly("alpha");
+        decoder.release();
+        assertThat(decode(decoder, "charlie\n")).containsExactly("charlie");
+    }
+
+    @Test
+    void tooLong() {
+        LineDecoder decoder = new LineDecoder(ByteBufAllocator.DEFAULT, 8);
+
+        assertThat(decode(decoder, "alpha\n", "bravo")).containsExactly("alpha");
+        assertThatThrownBy(() -> decode(decoder, "-charlie"))
+            .isInstanceOf(TooLongFrameException.class);
+    }
+
+    private static List<String> decode(LineDecoder decoder, String... chunks) {
+        List<String> lines = new ArrayList<>();
+
+        for (String chunk : chunks) {
+            ByteBuf buffer = Unpooled.copiedBuffer(chunk, StandardCharsets.UTF_8);
+            try {
+                lines.addAll(decoder.decode(buffer, line -> line.toString(StandardCharsets.UTF_8)));
+            } finally {
+                buffer.release();
+            }
+        }
+
+        return lines;
+    }
+
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.engine;
+
+import io.k8s.core.v1.Pod;
+import io.k8s.meta.v1.ListOptions;
+import io.nebhale.kubernetes.client.core.v1.ReactorPodClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class ListAllTest {
+
+    private static final String EXPIRED = "{\"kind\":\"Status\",\"apiVersion\":\"v1\",\"metadata\":{\"continue\":\"c1-resumed\"}," +
+        "\"status\":\"Failure\",\"reason\":\"Expired\",\"code\":410}";
+
+    private final AtomicInteger consumed = new AtomicInteger();
+
+    private final List<Integer> consumedAtRequest = new CopyOnWriteArrayList<>();
+
+    private final AtomicBoolean expire = new AtomicBoolean();
+
+    private final Sinks.Empty<Void> secondPage = Sinks.empty();
+
+    private final List<String> uris = new CopyOnWriteArrayList<>();
+
+    private ConnectionContext connectionContext;
+
+    private DisposableServer server;
+
+    @Test
+    void backpressure() {
+        StepVerifier.create(new ReactorPodClient(connectionContext).listAll(ListOptions.builder().build())
+            .map(Pod::getName)
+            .doOnNext(n -> consumed.incrementAndGet()), 1)
+            .expectNext("p1-0")
+            .then(() -> secondPage.asMono().block(Duration.ofSeconds(5)))
+            .thenRequest(3)
+            .expectNext("p1-1", "p1-2", "p2-0")
+            .thenRequest(Long.MAX_VALUE)
+            .expectNextCount(5)
+            .verifyComplete();
+
+        // The second page is requested while the first is consumed, but the third only once the first has been
+        assertThat(uris).hasSize(3);
+        assertThat(consumedAtRequest.get(2)).isGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    void expired() {
+        expire.set(true);
+
+        List<String> names = new ReactorPodClient(connectionContext).listAll(ListOptions.builder().build()).map(Pod::getName).collectList().block();
+
+        assertThat(names).containsExactly("p1-0", "p1-1", "p1-2", "p2-0", "p2-1", "p2-2", "p3-0", "p3-1", "p3-2");
+        assertThat(uris).containsExactly(
+            "/api/v1/pods?limit=500",
+            "/api/v1/pods?limit=500&continue=c1",
+            "/api/v1/pods?limit=500&continue=c1-resumed",
+            "/api/v1/pods?limit=500&continue=c2");
+    }
+
+    @Test
+    void explicitLimit() {
+        new ReactorPodClient(connectionContext).listAll(ListOptions.builder().limit(3L).build()).blockLast();
+
+        assertThat(uris.get(0)).isEqualTo("/api/v1/pods?limit=3");
+    }
+
+    @Test
+    void pages() {
+        List<String> names = new ReactorPodClient(connectionContext)
+            .listAll(ListOptions.builder().labelSelector("app=web").build())
+            .map(Pod::getName)
+            .collectList()
+            .block();
+
+        assertThat(names).containsExactly("p1-0", "p1-1", "p1-2", "p2-0", "p2-1", "p2-2", "p3-0", "p3-1", "p3-2");
+        assertThat(uris).containsExactly(
+            "/api/v1/pods?labelSelector=app%3Dweb&limit=500",
+            "/api/v1/pods?labelSelector=app%3Dweb&limit=500&continue=c1",
+            "/api/v1/pods?labelSelector=app%3Dweb&limit=500&continue=c2");
+    }
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+            .port(0)
+            .handle((request, response) -> {
+                String uri = request.uri();
+                consumedAtRequest.add(consumed.get());
+                uris.add(uri);
+                if (uris.size() == 2) {
+                    secondPage.tryEmitEmpty();
+                }
+
+                if (uri.endsWith("continue=c1") && expire.getAndSet(false)) {
+                    return response.status(410).sendString(Mono.just(EXPIRED)).then();
+                } else if (uri.contains("continue=c1")) {
+                    return response.sendString(Mono.just(page(2, "c2"))).then();
+                } else if (uri.contains("continue=c2")) {
+                    return response.sendString(Mono.just(page(3, null))).then();
+                } else {
+                    return response.sendString(Mono.just(page(1, "c1"))).then();
+                }
+            })
+            .bindNow();
+
+        connectionContext = ConnectionContext.builder()
+            .apiServer(String.format("http://localhost:%d", server.port()))
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionContext.dispose();
+        server.disposeNow();
+    }
+
+    private static String page(int page, @Nullable String continueToken) {
+        StringBuilder sb = new StringBuilder("{\"kind\":\"PodList\",\"apiVersion\":\"v1\",\"metadata\":{\"resourceVersion\":\"7\"");
+        if (continueToken != null) {
+            sb.append(",\"continue\":\"").append(continueToken).append('"');
+        }
+        sb.append("},\"items\":[");
+
+        for (int i = 0; i < 3; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(String.format("{\"metadata\":{\"name\":\"p%d-%d\"}}", page, i));
+        }
+
+        return sb.append("]}").toString();
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.engine;
+
+import io.k8s.core.v1.Pod;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class ListDecoderTest {
+
+    @Test
+    void chunkBoundaries() throws IOException {
+        StringBuilder sb = new StringBuilder("{\"kind\":\"PodList\",\"apiVersion\":\"v1\",\"metadata\":{\"resourceVersion\":\"5\"},\"items\":[");
+        for (int i = 0; i < 20; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(String.format("{\"metadata\":{\"name\":\"pod-%d\",\"annotations\":{\"note\":\"üé\"}},\"status\":{\"phase\":\"Running\"}}", i));
+        }
+        byte[] document = sb.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+
+        for (int size : new int[]{1, 2, 5, 64, document.length}) {
+            List<String> continueTokens = new ArrayList<>();
+            ListDecoder<Pod> decoder = new ListDecoder<>(ConnectionContext.defaultObjectMapper(), Pod.class, continueTokens::add);
+
+            List<Pod> pods = new ArrayList<>();
+            for (int i = 0; i < document.length; i += size) {
+                pods.addAll(decode(decoder, Unpooled.wrappedBuffer(document, i, Math.min(size, document.length - i))));
+            }
+            pods.addAll(decoder.end());
+
+            assertThat(pods).as("chunk size %d", size).hasSize(20);
+            assertThat(pods.get(19).getName()).isEqualTo("pod-19");
+            assertThat(pods.get(7).getAnnotations()).containsEntry("note", "üé");
+            assertThat(continueTokens).containsExactly("");
+        }
+    }
+
+    @Test
+    void continueToken() throws IOException {
+        List<String> continueTokens = new ArrayList<>();
+        ListDecoder<Pod> decoder = new ListDecoder<>(ConnectionContext.defaultObjectMapper(), Pod.class, continueTokens::add);
+
+        decode(decoder, "{\"kind\":\"PodList\",\"metadata\":{\"continue\":\"next-page\"},\"items\":[");
+
+        assertThat(continueTokens).containsExactly("next-page");
+    }
+
+    @Test
+    void incomplete() throws IOException {
+        ListDecoder<Pod> decoder = new ListDecoder<>(ConnectionContext.defaultObjectMapper(), Pod.class, t -> {
+        });
+
+        decode(decoder, "{\"kind\":\"PodList\",\"items\":[{\"metadata\":");
+
+        assertThatThrownBy(decoder::end).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void itemsBeforeEnd() throws IOException {
+        ListDecoder<Pod> decoder = new ListDecoder<>(ConnectionContext.defaultObjectMapper(), Pod.class, t -> {
+        });
+
+        assertThat(decode(decoder, "{\"kind\":\"PodList\",\"items\":[{\"metadata\":{\"name\":\"alpha\",\"labels\":{\"tricky\":\"[}\"}}},"))
+            .extracting(Pod::getName)
+            .containsExactly("alpha");
+        assertThat(decode(decoder, "{\"metadata\":{\"name\":\"bravo\"}}],\"metadata\":{\"resourceVersion\":\"5\"}}"))
+            .extracting(Pod::getName)
+            .containsExactly("bravo");
+        assertThat(decoder.end()).isEmpty();
+    }
+
+    private static List<Pod> decode(ListDecoder<Pod> decoder, String chunk) throws IOException {
+        return decode(decoder, Unpooled.copiedBuffer(chunk, StandardCharsets.UTF_8));
+    }
+
+    private static List<Pod> decode(ListDecoder<Pod> decoder, ByteBuf chunk) throws IOException {
+        try {
+            return decoder.decode(chunk);
+        } finally {
+            chunk.release();
+        }
+    }
+
+}
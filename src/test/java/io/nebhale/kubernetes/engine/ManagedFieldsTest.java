@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.engine;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.k8s.codec.Codecs;
+import io.k8s.core.v1.Pod;
+import io.k8s.meta.v1.GetOptions;
+import io.k8s.meta.v1.ListOptions;
+import io.nebhale.kubernetes.client.core.v1.ReactorPodClient;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class ManagedFieldsTest {
+
+    private static final String POD = "{\"kind\":\"Pod\",\"apiVersion\":\"v1\",\"metadata\":{\"name\":\"alpha\",\"managedFields\":[{\"manager\":\"kubectl\"," +
+        "\"fieldsV1\":{\"f:metadata\":{\"f:labels\":{}}}}],\"resourceVersion\":\"5\"}}";
+
+    @Test
+    void connectionContext() {
+        DisposableServer server = HttpServer.create()
+            .port(0)
+            .handle((request, response) -> request.uri().contains("watch") ?
+                response.sendString(Mono.just(String.format("{\"type\":\"ADDED\",\"object\":%s}\n", POD))).then() :
+                response.sendString(Mono.just(POD)).then())
+            .bindNow();
+
+        ConnectionContext connectionContext = ConnectionContext.builder()
+            .apiServer(String.format("http://localhost:%d", server.port()))
+            .build();
+
+        try {
+            ConnectionContext withoutManagedFields = connectionContext.withoutManagedFields();
+
+            assertThat(new ReactorPodClient(connectionContext, "test-namespace").get("alpha", GetOptions.builder().build()).block()
+                .getManagedFields()).hasSize(1);
+            assertThat(new ReactorPodClient(withoutManagedFields, "test-namespace").get("alpha", GetOptions.builder().build()).block()
+                .getManagedFields()).isEmpty();
+            assertThat(new ReactorPodClient(withoutManagedFields, "test-namespace").watch(ListOptions.builder().build()).blockFirst()
+                .getObject().getManagedFields()).isEmpty();
+
+            withoutManagedFields.dispose();
+            assertThat(connectionContext.isDisposed()).isFalse();
+        } finally {
+            connectionContext.dispose();
+            server.disposeNow();
+        }
+    }
+
+    @Test
+    void generated() throws IOException {
+        assertSkipped(ConnectionContext.defaultObjectMapper());
+    }
+
+    @Test
+    void reflective() throws IOException {
+        assertSkipped(new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new KubernetesModule())
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false));
+    }
+
+    private static void assertSkipped(ObjectMapper objectMapper) throws IOException {
+        assertThat(objectMapper.readValue(POD, Pod.class).getManagedFields()).hasSize(1);
+
+        Pod pod = objectMapper.readerFor(Pod.class).withAttribute(Codecs.SKIP_MANAGED_FIELDS, true).readValue(POD);
+        assertThat(pod.getManagedFields()).isEmpty();
+        assertThat(pod.getName()).isEqualTo("alpha");
+        assertThat(pod.getResourceVersion()).isEqualTo("5");
+    }
+
+}
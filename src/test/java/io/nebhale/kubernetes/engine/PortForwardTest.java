@@ -0,0 +1,169 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.engine;
+
+import io.nebhale.kubernetes.client.core.v1.ReactorPodPortForwardOptionsClient;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.WebsocketServerSpec;
+import reactor.netty.tcp.TcpClient;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class PortForwardTest {
+
+    private static final int CHUNK = 64 * 1024;
+
+    private static final int MAX_FRAME_PAYLOAD_LENGTH = 16 * 1024 * 1024;
+
+    private static final int SIZE = 4 * 1024 * 1024;
+
+    private ReactorPodPortForwardOptionsClient client;
+
+    private ConnectionContext connectionContext;
+
+    private DisposableServer server;
+
+    @Test
+    void error() {
+        PortForward portForward = client.connectPortforward("failing", 1, 0).block();
+
+        try {
+            assertThat(TcpClient.create()
+                .host("localhost")
+                .port(portForward.getLocalPort())
+                .connect()
+                .flatMap(c -> c.inbound().receive().then().thenReturn(true))
+                .block(Duration.ofSeconds(10)))
+                .isTrue();
+
+            assertThat(portForward.getConnections()).isZero();
+        } finally {
+            portForward.dispose();
+        }
+    }
+
+    @Test
+    void forward() {
+        PortForward portForward = client.connectPortforward("echo", 5432, 0).block();
+
+        byte[] payload = new byte[SIZE];
+        long expected = 0;
+        for (int i = 0; i < SIZE; i++) {
+            payload[i] = (byte) (i * 31);
+            expected += payload[i];
+        }
+
+        try {
+            List<Long> checksums = Flux.range(0, 4)
+                .flatMap(i -> echo(portForward.getLocalPort(), payload))
+                .collectList()
+                .block(Duration.ofSeconds(60));
+
+            assertThat(checksums).containsOnly(expected).hasSize(4);
+            assertThat(portForward.getSent()).isEqualTo(4L * SIZE);
+            assertThat(portForward.getReceived()).isEqualTo(4L * SIZE);
+        } finally {
+            portForward.dispose();
+        }
+
+        assertThat(portForward.isDisposed()).isTrue();
+    }
+
+    @Test
+    void nullLocalPort() {
+        PortForward portForward = client.connectPortforward("echo", 5432, null).block();
+
+        try {
+            assertThat(portForward.getLocalPort()).isPositive();
+        } finally {
+            portForward.dispose();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        WebsocketServerSpec spec = WebsocketServerSpec.builder()
+            .protocols(RemoteCommand.PROTOCOL)
+            .maxFramePayloadLength(MAX_FRAME_PAYLOAD_LENGTH)
+            .build();
+
+        server = HttpServer.create()
+            .port(0)
+            .route(routes -> routes
+                .ws("/api/v1/namespaces/default/pods/echo/portforward", (in, out) -> out.sendObject(Flux.<WebSocketFrame>just(port(0, 5432), port(1, 5432))
+                    .concatWith(in.aggregateFrames(MAX_FRAME_PAYLOAD_LENGTH).receiveFrames()
+                        .map(f -> new BinaryWebSocketFrame(f.content().retain()))))
+                    .then(), spec)
+                .ws("/api/v1/namespaces/default/pods/failing/portforward", (in, out) -> out.sendObject(Flux.just(port(0, 1), port(1, 1),
+                    new BinaryWebSocketFrame(Unpooled.wrappedBuffer(new byte[]{1}, "test-error".getBytes(StandardCharsets.UTF_8))))).then(), spec))
+            .bindNow();
+
+        connectionContext = ConnectionContext.builder()
+            .apiServer(String.format("http://localhost:%d", server.port()))
+            .build();
+
+        client = new ReactorPodPortForwardOptionsClient(connectionContext, "default");
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionContext.dispose();
+        server.disposeNow();
+    }
+
+    private static Mono<Long> echo(int port, byte[] payload) {
+        return TcpClient.create()
+            .host("localhost")
+            .port(port)
+            .connect()
+            .flatMap(c -> c.outbound().send(Flux.range(0, payload.length / CHUNK).map(i -> Unpooled.wrappedBuffer(payload, i * CHUNK, CHUNK)))
+                .then()
+                .then(c.inbound().receive()
+                    .scan(new long[2], (totals, b) -> new long[]{totals[0] + b.readableBytes(), totals[1] + sum(b)})
+                    .takeUntil(totals -> totals[0] >= payload.length)
+                    .last()
+                    .map(totals -> totals[1]))
+                .doFinally(s -> c.dispose()));
+    }
+
+    private static WebSocketFrame port(int channel, int port) {
+        return new BinaryWebSocketFrame(Unpooled.wrappedBuffer(new byte[]{(byte) channel, (byte) (port & 0xff), (byte) (port >> 8)}));
+    }
+
+    private static long sum(ByteBuf buffer) {
+        long sum = 0;
+        for (int i = buffer.readerIndex(); i < buffer.writerIndex(); i++) {
+            sum += buffer.getByte(i);
+        }
+        return sum;
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.engine;
+
+import io.k8s.meta.v1.Status;
+import io.k8s.runtime.RawWatchEvent;
+import io.k8s.runtime.Unknown;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.CorruptedFrameException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class ProtobufTest {
+
+    @Test
+    void notEnvelope() {
+        assertThatThrownBy(() -> Protobuf.readUnknown(Unpooled.wrappedBuffer("{}".getBytes(StandardCharsets.UTF_8))))
+            .isInstanceOf(CorruptedFrameException.class);
+    }
+
+    @Test
+    void resourceVersion() {
+        Unknown object = Unknown.builder()
+            .raw(message(field(1, message(field(1, "alpha"), field(6, "42"))), field(2, message(field(1, "test-node")))))
+            .build();
+
+        assertThat(Protobuf.readResourceVersion(object)).isEqualTo("42");
+        assertThat(Protobuf.readResourceVersion(Unknown.builder().raw(new byte[0]).build())).isNull();
+    }
+
+    @Test
+    void status() {
+        Unknown status = Unknown.builder()
+            .apiVersion("v1")
+            .kind("Status")
+            .raw(message(field(2, "Failure"), field(3, "too old resource version"), field(4, "Expired"), varint(6, 410)))
+            .build();
+
+        Status decoded = Protobuf.readStatus(status);
+
+        assertThat(decoded.getKind()).isEqualTo("Status");
+        assertThat(decoded.getStatus()).isEqualTo("Failure");
+        assertThat(decoded.getMessage()).isEqualTo("too old resource version");
+        assertThat(decoded.getReason()).isEqualTo("Expired");
+        assertThat(decoded.getCode()).isEqualTo(410);
+    }
+
+    @Test
+    void unknown() {
+        Unknown unknown = Unknown.builder()
+            .apiVersion("v1")
+            .kind("Pod")
+            .contentType("application/vnd.kubernetes.protobuf")
+            .raw(new byte[]{1, 2, 3})
+            .build();
+
+        ByteBuf buffer = Unpooled.buffer();
+        Protobuf.writeUnknown(unknown, buffer);
+
+        assertThat(Protobuf.readUnknown(buffer)).isEqualTo(unknown);
+    }
+
+    @Test
+    void watchEvent() {
+        byte[] object = envelope("v1", "Pod", message(field(1, message(field(1, "alpha"), field(6, "7")))));
+        byte[] event = envelope("meta.k8s.io/v1", "WatchEvent", message(field(1, "ADDED"), field(2, message(field(1, object)))));
+
+        RawWatchEvent decoded = Protobuf.readWatchEvent(Unpooled.wrappedBuffer(event));
+
+        assertThat(decoded.getType()).isEqualTo("ADDED");
+        assertThat(decoded.getResourceVersion()).isEqualTo("7");
+        assertThat(decoded.getObject().getKind()).isEqualTo("Pod");
+    }
+
+    static byte[] envelope(String apiVersion, String kind, byte[] raw) {
+        ByteBuf buffer = Unpooled.buffer();
+        Protobuf.writeUnknown(Unknown.builder().apiVersion(apiVersion).kind(kind).raw(raw).build(), buffer);
+
+        byte[] bytes = new byte[buffer.readableBytes()];
+        buffer.readBytes(bytes);
+        return bytes;
+    }
+
+    static byte[] field(int number, String value) {
+        return field(number, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static byte[] field(int number, byte[] value) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeVarint(out, (number << 3) | 2);
+        writeVarint(out, value.length);
+        out.write(value, 0, value.length);
+        return out.toByteArray();
+    }
+
+    static byte[] message(byte[]... fields) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] field : fields) {
+            out.write(field, 0, field.length);
+        }
+        return out.toByteArray();
+    }
+
+    static byte[] varint(int number, int value) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeVarint(out, number << 3);
+        writeVarint(out, value);
+        return out.toByteArray();
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7f) != 0) {
+            out.write((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+}
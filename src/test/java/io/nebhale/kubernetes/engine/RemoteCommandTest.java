@@ -0,0 +1,183 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.engine;
+
+import io.nebhale.kubernetes.client.core.v1.ReactorPodExecOptionsClient;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.WebsocketServerSpec;
+import reactor.test.StepVerifier;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuple3;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class RemoteCommandTest {
+
+    private static final String FAILURE = "{\"metadata\":{},\"status\":\"Failure\",\"reason\":\"NonZeroExitCode\"," +
+        "\"details\":{\"causes\":[{\"reason\":\"ExitCode\",\"message\":\"42\"}]}}";
+
+    private static final String SUCCESS = "{\"metadata\":{},\"status\":\"Success\"}";
+
+    private ReactorPodExecOptionsClient client;
+
+    private ConnectionContext connectionContext;
+
+    private final List<String> resizes = new CopyOnWriteArrayList<>();
+
+    private DisposableServer server;
+
+    @Test
+    void exec() {
+        Flux<ByteBuffer> stdin = Flux.just("alpha", "bravo").map(s -> ByteBuffer.wrap(s.getBytes(StandardCharsets.UTF_8)));
+
+        Tuple3<List<String>, List<String>, Integer> result = client.connectExec(Arrays.asList("sh", "-c", "cat"), null, "echo", true, true, true, false,
+            stdin, Mono.just(TerminalSize.of(80, 24)).delaySubscription(Duration.ofMillis(200)))
+            .flatMap(c -> Mono.zip(read(c.getStdout()), read(c.getStderr()), c.getExitCode()))
+            .block();
+
+        assertThat(result.getT1()).containsExactly("ALPHA", "BRAVO");
+        assertThat(result.getT2()).containsExactly("test-error");
+        assertThat(result.getT3()).isEqualTo(42);
+        assertThat(resizes).containsExactly("{\"Width\":80,\"Height\":24}");
+    }
+
+    @Test
+    void openStdin() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Flux<ByteBuffer> stdin = Flux.<ByteBuffer>never().doOnCancel(() -> cancelled.set(true));
+
+        Tuple2<List<String>, Integer> result = client.connectExec(Collections.singletonList("true"), null, "true", true, false, true, false, stdin, Flux.never())
+            .flatMap(c -> Mono.zip(read(c.getStdout()), c.getExitCode()))
+            .block(Duration.ofSeconds(10));
+
+        assertThat(result.getT1()).containsExactly("test-output");
+        assertThat(result.getT2()).isZero();
+        assertThat(cancelled).isTrue();
+    }
+
+    @Test
+    void outputPacedByConsumer() {
+        RemoteCommand command = client.connectExec(Collections.singletonList("yes"), null, "chatty", false, false, true, false, Flux.empty(), Flux.empty())
+            .block();
+
+        StepVerifier.create(command.getStatus())
+            .expectSubscription()
+            .expectNoEvent(Duration.ofMillis(500))
+            .thenCancel()
+            .verify();
+
+        assertThat(read(command.getStdout()).block()).hasSize(100).allMatch("test-output"::equals);
+        assertThat(command.getExitCode().block()).isZero();
+    }
+
+    @BeforeEach
+    void setUp() {
+        WebsocketServerSpec spec = WebsocketServerSpec.builder().protocols(RemoteCommand.PROTOCOL).build();
+
+        server = HttpServer.create()
+            .port(0)
+            .route(routes -> routes
+                .ws("/api/v1/namespaces/default/pods/echo/exec", (in, out) -> out.sendObject(in.receiveFrames()
+                    .concatMap(f -> {
+                        ByteBuf content = f.content();
+                        String payload = content.toString(1, content.readableBytes() - 1, StandardCharsets.UTF_8);
+
+                        if (content.getByte(0) == 4) {
+                            resizes.add(payload);
+                            return Flux.just(frame(2, "test-error"), new StatusFrame(frame(3, FAILURE)));
+                        }
+
+                        return Flux.just(frame(1, payload.toUpperCase()));
+                    })
+                    .takeUntil(f -> f instanceof StatusFrame)
+                    .concatWith(Mono.delay(Duration.ofMillis(100)).then(Mono.empty())))
+                    .then(), spec)
+                .ws("/api/v1/namespaces/default/pods/chatty/exec", (in, out) -> out.sendObject(Flux.range(0, 100)
+                    .map(i -> frame(1, "test-output"))
+                    .concatWith(Mono.fromSupplier(() -> frame(3, SUCCESS))))
+                    .then(), spec)
+                .ws("/api/v1/namespaces/default/pods/true/exec", (in, out) -> out.sendObject(Flux.just(frame(1, "test-output"), frame(3, SUCCESS)))
+                    .then(), spec))
+            .bindNow();
+
+        connectionContext = ConnectionContext.builder()
+            .apiServer(String.format("http://localhost:%d", server.port()))
+            .build();
+
+        client = new ReactorPodExecOptionsClient(connectionContext, "default");
+    }
+
+    @Test
+    void success() {
+        for (int i = 0; i < 50; i++) {
+            assertThat(client.connectExec(Collections.singletonList("true"), null, "true", false, false, true, false, Flux.empty(), Flux.empty())
+                .flatMap(RemoteCommand::getExitCode)
+                .block())
+                .isZero();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionContext.dispose();
+        server.disposeNow();
+    }
+
+    private static WebSocketFrame frame(int channel, String payload) {
+        return new BinaryWebSocketFrame(Unpooled.wrappedBuffer(new byte[]{(byte) channel}, payload.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static Mono<List<String>> read(Flux<ByteBuf> data) {
+        return data
+            .map(b -> {
+                try {
+                    return b.toString(StandardCharsets.UTF_8);
+                } finally {
+                    b.release();
+                }
+            })
+            .collectList();
+    }
+
+    private static final class StatusFrame extends BinaryWebSocketFrame {
+
+        private StatusFrame(WebSocketFrame frame) {
+            super(frame.content());
+        }
+
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.engine;
+
+import io.k8s.core.v1.Pod;
+import io.k8s.meta.v1.GetOptions;
+import io.nebhale.kubernetes.client.core.v1.ReactorPodClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.util.function.Tuple2;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class RequestCoalescerTest {
+
+    private static final String POD = ConnectionContextTest.POD.replace("\"resourceVersion\":\"12\"}",
+        "\"resourceVersion\":\"12\",\"managedFields\":[{\"manager\":\"test-manager\",\"operation\":\"Apply\"}]}");
+
+    private final RequestCoalescer coalescer = new RequestCoalescer();
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private ConnectionContext connectionContext;
+
+    private DisposableServer server;
+
+    @Test
+    void coalesce() {
+        ReactorPodClient client = new ReactorPodClient(connectionContext.withCoalescing(coalescer), "default");
+
+        List<Pod> pods = Flux.range(0, 20)
+            .flatMap(i -> client.get("foo", GetOptions.builder().build()))
+            .collectList()
+            .block();
+
+        assertThat(pods).hasSize(20);
+        assertThat(pods.stream().distinct()).hasSize(1);
+        assertThat(requests).hasValue(1);
+        assertThat(coalescer.getCollapseRatio()).isEqualTo(19 / 20.0);
+        assertThat(coalescer.getInFlight()).isZero();
+    }
+
+    @Test
+    void differentOptions() {
+        ReactorPodClient client = new ReactorPodClient(connectionContext.withCoalescing(coalescer), "default");
+
+        Flux.merge(
+            client.get("foo", GetOptions.builder().build()),
+            client.get("foo", GetOptions.builder().resourceVersion("1").build()))
+            .blockLast();
+
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void released() {
+        ReactorPodClient client = new ReactorPodClient(connectionContext.withCoalescing(coalescer), "default");
+
+        client.get("foo", GetOptions.builder().build()).block();
+        client.get("foo", GetOptions.builder().build()).block();
+
+        assertThat(requests).hasValue(2);
+    }
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+            .port(0)
+            .handle((request, response) -> {
+                requests.incrementAndGet();
+                return response.sendString(Mono.just(POD).delayElement(Duration.ofMillis(300))).then();
+            })
+            .bindNow();
+
+        connectionContext = ConnectionContext.builder()
+            .apiServer(String.format("http://localhost:%d", server.port()))
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionContext.dispose();
+        server.disposeNow();
+    }
+
+    @Test
+    void sharedByContexts() {
+        ReactorPodClient alpha = new ReactorPodClient(connectionContext.withCoalescing(coalescer), "default");
+        ReactorPodClient bravo = new ReactorPodClient(connectionContext.withCoalescing(coalescer), "default");
+
+        List<Pod> pods = Flux.merge(alpha.get("foo", GetOptions.builder().build()), bravo.get("foo", GetOptions.builder().build()))
+            .collectList()
+            .block();
+
+        assertThat(pods.get(0)).isSameAs(pods.get(1));
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void sharedByDifferentlyDecodingContexts() {
+        ReactorPodClient full = new ReactorPodClient(connectionContext.withCoalescing(coalescer), "default");
+        ReactorPodClient stripped = new ReactorPodClient(connectionContext.withCoalescing(coalescer).withoutManagedFields(), "default");
+
+        Tuple2<Pod, Pod> pods = Mono.zip(full.get("foo", GetOptions.builder().build()), stripped.get("foo", GetOptions.builder().build())).block();
+
+        assertThat(pods.getT1().getManagedFields()).hasSize(1);
+        assertThat(pods.getT2().getManagedFields()).isEmpty();
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void uncoalesced() {
+        ReactorPodClient client = new ReactorPodClient(connectionContext, "default");
+
+        Flux.range(0, 3)
+            .flatMap(i -> client.get("foo", GetOptions.builder().build()))
+            .blockLast();
+
+        assertThat(requests).hasValue(3);
+    }
+
+}
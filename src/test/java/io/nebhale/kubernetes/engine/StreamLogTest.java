@@ -0,0 +1,96 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.engine;
+
+import io.k8s.meta.v1.GetOptions;
+import io.nebhale.kubernetes.client.core.v1.ReactorPodClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class StreamLogTest {
+
+    private ReactorPodClient client;
+
+    private ConnectionContext connectionContext;
+
+    private DisposableServer server;
+
+    @Test
+    void follow() {
+        assertThat(client.streamLog(null, true, null, null, "following", null, null, null, null, GetOptions.builder().build())
+            .take(5)
+            .collectList()
+            .block())
+            .extracting(LogLine::getMessage)
+            .containsExactly("line 0", "line 1", "line 2", "line 3", "line 4");
+    }
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+            .port(0)
+            .route(routes -> routes
+                .get("/api/v1/namespaces/default/pods/timestamped/log", (request, response) -> response.sendString(Flux.just(
+                    "2020-01-01T00:00:00.123456789Z hel", "lo\r\n2020-01-01T00:00:01Z ", "wörld\n", "2020-01-01T00:00:02Z \n", "2020-01-01T00:00:03Z tail"), StandardCharsets.UTF_8)
+                    .then())
+                .get("/api/v1/namespaces/default/pods/untimestamped/log", (request, response) -> response.sendString(Flux.just("alpha\n\nbra", "vo\n"), StandardCharsets.UTF_8)
+                    .then())
+                .get("/api/v1/namespaces/default/pods/following/log", (request, response) -> response.sendString(Flux.interval(Duration.ofMillis(10))
+                    .map(i -> String.format("line %d\n", i)))
+                    .then()))
+            .bindNow();
+
+        connectionContext = ConnectionContext.builder()
+            .apiServer(String.format("http://localhost:%d", server.port()))
+            .build();
+
+        client = new ReactorPodClient(connectionContext, "default");
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionContext.dispose();
+        server.disposeNow();
+    }
+
+    @Test
+    void timestamps() {
+        assertThat(client.streamLog(null, null, null, null, "timestamped", null, null, null, true, GetOptions.builder().build()).collectList().block())
+            .containsExactly(
+                LogLine.of(Instant.parse("2020-01-01T00:00:00.123456789Z"), "hello"),
+                LogLine.of(Instant.parse("2020-01-01T00:00:01Z"), "wörld"),
+                LogLine.of(Instant.parse("2020-01-01T00:00:02Z"), ""),
+                LogLine.of(Instant.parse("2020-01-01T00:00:03Z"), "tail"));
+    }
+
+    @Test
+    void withoutTimestamps() {
+        assertThat(client.streamLog(null, null, null, null, "untimestamped", null, null, null, null, GetOptions.builder().build()).collectList().block())
+            .containsExactly(LogLine.of(null, "alpha"), LogLine.of(null, ""), LogLine.of(null, "bravo"));
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.engine;
+
+import io.nebhale.kubernetes.engine.RateLimiter.VerbClass;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class TokenBucketRateLimiterTest {
+
+    @Test
+    void burst() {
+        TokenBucketRateLimiter rateLimiter = TokenBucketRateLimiter.builder().readQps(10.0).readBurst(5).build();
+
+        Duration elapsed = time(() -> Flux.range(0, 15).flatMap(i -> rateLimiter.acquire(VerbClass.READ)).blockLast());
+
+        assertThat(elapsed).isBetween(Duration.ofMillis(900), Duration.ofMillis(1_500));
+        assertThat(rateLimiter.getAcquisitions(VerbClass.READ)).isEqualTo(15);
+        assertThat(rateLimiter.getQueueDepth(VerbClass.READ)).isZero();
+        assertThat(rateLimiter.getWaitTime(VerbClass.READ)).isBetween(Duration.ofMillis(4_500), Duration.ofMillis(6_500));
+    }
+
+    @Test
+    void independentVerbClasses() {
+        TokenBucketRateLimiter rateLimiter = TokenBucketRateLimiter.builder().readQps(1.0).readBurst(1).build();
+        rateLimiter.acquire(VerbClass.READ).block();
+
+        assertThat(time(() -> rateLimiter.acquire(VerbClass.WRITE).block())).isLessThan(Duration.ofMillis(100));
+    }
+
+    @Test
+    void priorityLevel() {
+        TokenBucketRateLimiter rateLimiter = TokenBucketRateLimiter.builder().build();
+
+        rateLimiter.observe(VerbClass.WATCH, "test-priority-level", null);
+        rateLimiter.observe(VerbClass.WRITE, "test-priority-level", Duration.ofMillis(500));
+
+        assertThat(time(() -> rateLimiter.acquire(VerbClass.WATCH).block())).isBetween(Duration.ofMillis(400), Duration.ofMillis(900));
+        assertThat(time(() -> rateLimiter.acquire(VerbClass.READ).block())).isLessThan(Duration.ofMillis(100));
+        assertThat(rateLimiter.getPriorityLevel(VerbClass.WATCH)).isEqualTo("test-priority-level");
+    }
+
+    @Test
+    void queueDepth() {
+        TokenBucketRateLimiter rateLimiter = TokenBucketRateLimiter.builder().readQps(1.0).readBurst(1).build();
+        rateLimiter.acquire(VerbClass.READ).block();
+
+        Disposable waiting = Flux.range(0, 10).flatMap(i -> rateLimiter.acquire(VerbClass.READ)).subscribe();
+
+        try {
+            assertThat(rateLimiter.getQueueDepth(VerbClass.READ)).isEqualTo(10);
+        } finally {
+            waiting.dispose();
+        }
+    }
+
+    private static Duration time(Runnable runnable) {
+        long start = System.nanoTime();
+        runnable.run();
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+}
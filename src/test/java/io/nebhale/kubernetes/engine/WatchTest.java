@@ -0,0 +1,158 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.engine;
+
+import io.k8s.core.v1.Pod;
+import io.k8s.meta.v1.ListOptions;
+import io.k8s.meta.v1.WatchEvent;
+import io.k8s.runtime.RawWatchEvent;
+import io.nebhale.kubernetes.client.core.v1.ReactorPodClient;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpMethod;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class WatchTest {
+
+    private final List<String> uris = new CopyOnWriteArrayList<>();
+
+    private ConnectionContext connectionContext;
+
+    private DisposableServer server;
+
+    @Test
+    void error() {
+        start(event("ADDED", "alpha", "1") + "{\"type\":\"ERROR\",\"object\":{\"kind\":\"Status\",\"apiVersion\":\"v1\"," +
+            "\"status\":\"Failure\",\"message\":\"too old resource version\",\"reason\":\"Expired\",\"code\":410}}\n");
+
+        List<String> types = new CopyOnWriteArrayList<>();
+        assertThatThrownBy(() -> new ReactorPodClient(connectionContext).watch(ListOptions.builder().build())
+            .doOnNext(e -> types.add(e.getType()))
+            .blockLast())
+            .isInstanceOf(StatusException.class)
+            .satisfies(e -> assertThat(((StatusException) e).getStatusCode()).isEqualTo(410));
+        assertThat(types).containsExactly("ADDED");
+    }
+
+    @Test
+    void nestedResourceVersion() {
+        start("{\"object\":{\"kind\":\"Pod\",\"spec\":{\"containers\":[{\"name\":\"c\",\"env\":[{\"name\":\"resourceVersion\"," +
+            "\"value\":\"nested\"}]}]},\"metadata\":{\"labels\":{\"resourceVersion\":\"nested\"},\"resourceVersion\":\"42\"," +
+            "\"name\":\"alpha\"}},\"type\":\"BOOKMARK\"}\n");
+
+        WatchEvent<Pod> event = new ReactorPodClient(connectionContext).watch(ListOptions.builder().build()).blockLast();
+
+        assertThat(event.getType()).isEqualTo("BOOKMARK");
+        assertThat(event.getResourceVersion()).isEqualTo("42");
+        assertThat(event.getObject().getName()).isEqualTo("alpha");
+        assertThat(event.getObject().getSpec().getContainers().get(0).getEnv().get(0).getValue()).isEqualTo("nested");
+        assertThat(event.isDecoded()).isTrue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionContext.dispose();
+        server.disposeNow();
+    }
+
+    @Test
+    void watch() {
+        start(event("ADDED", "alpha", "1") + "\n" + event("MODIFIED", "alpha", "2") + event("DELETED", "bravo", "3"));
+
+        List<WatchEvent<Pod>> events = new ReactorPodClient(connectionContext, "test-namespace")
+            .watch(ListOptions.builder().resourceVersion("0").build())
+            .collectList()
+            .block();
+
+        assertThat(events).extracting(WatchEvent::getType).containsExactly("ADDED", "MODIFIED", "DELETED");
+        assertThat(events).extracting(WatchEvent::getResourceVersion).containsExactly("1", "2", "3");
+        assertThat(events).noneMatch(WatchEvent::isDecoded);
+        assertThat(events).extracting(e -> e.getObject().getName()).containsExactly("alpha", "alpha", "bravo");
+        assertThat(events).extracting(e -> e.getObject().getResourceVersion()).containsExactly("1", "2", "3");
+        assertThat(uris).containsExactly("/api/v1/namespaces/test-namespace/pods?resourceVersion=0&watch=true");
+    }
+
+    @Test
+    void watchUnknown() {
+        ByteBuf body = Unpooled.buffer();
+        for (int i = 1; i <= 2; i++) {
+            byte[] object = ProtobufTest.envelope("v1", "Pod", ProtobufTest.message(
+                ProtobufTest.field(1, ProtobufTest.message(ProtobufTest.field(1, "pod-" + i), ProtobufTest.field(6, String.valueOf(i))))));
+            byte[] event = ProtobufTest.envelope("meta.k8s.io/v1", "WatchEvent", ProtobufTest.message(
+                ProtobufTest.field(1, "ADDED"), ProtobufTest.field(2, ProtobufTest.message(ProtobufTest.field(1, object)))));
+            body.writeInt(event.length).writeBytes(event);
+        }
+        byte[] bytes = new byte[body.readableBytes()];
+        body.readBytes(bytes);
+        start(bytes);
+
+        List<RawWatchEvent> events = connectionContext.watchUnknown(Request.builder()
+                .method(HttpMethod.GET)
+                .clusterPath("/api/v1/pods")
+                .queryParameter("watch", true)
+                .build())
+            .collectList()
+            .block();
+
+        assertThat(events).extracting(RawWatchEvent::getType).containsExactly("ADDED", "ADDED");
+        assertThat(events).extracting(RawWatchEvent::getResourceVersion).containsExactly("1", "2");
+        assertThat(uris).containsExactly("/api/v1/pods?watch=true");
+    }
+
+    private static String event(String type, String name, String resourceVersion) {
+        return String.format("{\"type\":\"%s\",\"object\":{\"kind\":\"Pod\",\"apiVersion\":\"v1\"," +
+            "\"metadata\":{\"name\":\"%s\",\"resourceVersion\":\"%s\"}}}\n", type, name, resourceVersion);
+    }
+
+    private void start(String body) {
+        start(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void start(byte[] body) {
+        // Odd-sized chunks cross frame boundaries
+        List<ByteBuffer> chunks = new ArrayList<>();
+        for (int i = 0; i < body.length; i += 7) {
+            chunks.add(ByteBuffer.wrap(body, i, Math.min(7, body.length - i)));
+        }
+
+        server = HttpServer.create()
+            .port(0)
+            .handle((request, response) -> {
+                uris.add(request.uri());
+                return response.send(Flux.fromIterable(chunks).map(Unpooled::wrappedBuffer)).then();
+            })
+            .bindNow();
+
+        connectionContext = ConnectionContext.builder()
+            .apiServer(String.format("http://localhost:%d", server.port()))
+            .build();
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.fields;
+
+import io.k8s.core.v1.Container;
+import io.k8s.core.v1.Pod;
+import io.k8s.core.v1.PodList;
+import io.k8s.core.v1.PodSpec;
+import io.k8s.core.v1.PodStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.lang.Nullable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class FieldSelectorTest {
+
+    @Test
+    void escaping() {
+        FieldSelector<Pod> selector = FieldSelector.parse(Pod.class, "spec.nodeName=a\\,b");
+
+        assertThat(selector.test(pod("a,b", "Running", null))).isTrue();
+        assertThat(selector).hasToString("spec.nodeName=a\\,b");
+    }
+
+    @Test
+    void invalid() {
+        for (String text : new String[]{"spec.bogus=x", "spec.containers=x", "spec=x", "a", "spec.nodeName=x,", "=x"}) {
+            assertThatThrownBy(() -> FieldSelector.parse(Pod.class, text)).as(text).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void parse() {
+        FieldSelector<Pod> selector = FieldSelector.parse(Pod.class, "spec.nodeName=node-1, status.phase!=Running,metadata.namespace==default");
+
+        assertThat(selector).hasToString("spec.nodeName=node-1,status.phase!=Running,metadata.namespace=default");
+        assertThat(selector.test(pod("node-1", "Pending", 1))).isTrue();
+        assertThat(selector.test(pod("node-1", null, 1))).isTrue();
+        assertThat(selector.test(pod("node-1", "Running", 1))).isFalse();
+        assertThat(selector.test(pod("node-2", "Pending", 1))).isFalse();
+        assertThat(FieldSelector.parse(Pod.class, "").test(pod("node-1", "Running", null))).isTrue();
+        assertThat(FieldSelector.parse(PodList.class, "metadata.continue=x").getRequirements()).hasSize(1);
+    }
+
+    @Test
+    void values() {
+        assertThat(FieldSelector.parse(Pod.class, "spec.priority=5").test(pod("node-1", "Running", 5))).isTrue();
+        assertThat(FieldSelector.parse(Pod.class, "spec.priority=05").test(pod("node-1", "Running", 5))).isFalse();
+        assertThat(FieldSelector.parse(Pod.class, "spec.priority=").test(pod("node-1", "Running", null))).isTrue();
+        assertThat(FieldSelector.parse(Pod.class, "spec.hostNetwork=true").test(pod("node-1", "Running", null))).isTrue();
+        assertThat(FieldSelector.parse(Pod.class, "metadata.name=test-pod").test(pod("node-1", "Running", null))).isTrue();
+    }
+
+    private static Pod pod(String nodeName, @Nullable String phase, @Nullable Integer priority) {
+        return Pod.builder()
+            .namespace("default")
+            .name("test-pod")
+            .spec(PodSpec.builder()
+                .nodeName(nodeName)
+                .priority(priority)
+                .hostNetwork(true)
+                .container(Container.builder().name("test-container").build())
+                .build())
+            .status(phase == null ? null : PodStatus.builder().phase(phase).build())
+            .build();
+    }
+
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.informer;
+
+import io.k8s.core.v1.Pod;
+import io.k8s.core.v1.PodList;
+import io.k8s.meta.v1.OwnerReference;
+import io.k8s.meta.v1.Status;
+import io.k8s.meta.v1.WatchEvent;
+import io.nebhale.kubernetes.engine.StatusException;
+import org.junit.jupiter.api.Test;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class SharedInformerTest {
+
+    @Test
+    void factory() {
+        SharedInformerFactory factory = new SharedInformerFactory();
+        ListWatch<Pod, PodList> listWatch = ListWatch.of(o -> Mono.never(), PodList::getItems, o -> Flux.never());
+
+        assertThat(factory.getInformer(Pod.class, listWatch)).isSameAs(factory.getInformer(Pod.class, listWatch));
+
+        factory.dispose();
+        assertThat(factory.isDisposed()).isTrue();
+    }
+
+    @Test
+    void informer() throws InterruptedException {
+        AtomicInteger lists = new AtomicInteger();
+        AtomicInteger watches = new AtomicInteger();
+        AtomicInteger decodes = new AtomicInteger();
+        List<String> resourceVersions = new CopyOnWriteArrayList<>();
+        CountDownLatch rewatched = new CountDownLatch(1);
+
+        ListWatch<Pod, PodList> listWatch = ListWatch.of(
+            o -> Mono.fromSupplier(() -> {
+                List<Pod> items = new ArrayList<>();
+                items.add(pod("alpha", "pod-1", "1", "web", "owner-1"));
+
+                if (lists.incrementAndGet() == 1) {
+                    items.add(pod("alpha", "pod-2", "2", "db", "owner-1"));
+                    return PodList.builder().resourceVersion("2").items(items).build();
+                } else {
+                    items.add(pod("bravo", "pod-3", "9", "web", "owner-2"));
+                    return PodList.builder().resourceVersion("9").items(items).build();
+                }
+            }),
+            PodList::getItems,
+            o -> Flux.defer(() -> {
+                resourceVersions.add(String.format("%s/%s", o.getResourceVersion(), o.getAllowWatchBookmarks()));
+
+                switch (watches.incrementAndGet()) {
+                    case 1:
+                        return Flux.just(
+                            WatchEvent.of(WatchEvent.MODIFIED, pod("alpha", "pod-1", "3", "db", "owner-1")),
+                            WatchEvent.of(WatchEvent.BOOKMARK, "4", () -> {
+                                decodes.incrementAndGet();
+                                return pod(null, "bookmark", "4", "", "");
+                            }));
+                    case 2:
+                        return Flux.error(new StatusException(410, Status.builder().code(410).build()));
+                    default:
+                        rewatched.countDown();
+                        return Flux.never();
+                }
+            }));
+
+        SharedInformer<Pod> informer = new SharedInformer<>(listWatch);
+        informer.getStore().addIndex(Indexers.NAMESPACE, Indexers.namespace());
+        informer.getStore().addIndex("app", Indexers.label("app"));
+        informer.getStore().addIndex(Indexers.OWNER_UID, Indexers.ownerUid());
+
+        List<String> events = new CopyOnWriteArrayList<>();
+        informer.events().subscribe(e -> events.add(String.format("%s %s %s", e.getType(), e.getObject().getName(), e.getResourceVersion())));
+
+        informer.start();
+        informer.synced().block(Duration.ofSeconds(5));
+        assertThat(rewatched.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(lists.get()).isEqualTo(2);
+        assertThat(resourceVersions).containsExactly("2/true", "4/true", "9/true");
+        assertThat(decodes.get()).isZero();
+        assertThat(events).containsExactly("ADDED pod-1 1", "ADDED pod-2 2", "MODIFIED pod-1 3", "MODIFIED pod-1 1", "ADDED pod-3 9",
+            "DELETED pod-2 2");
+
+        Store<Pod> store = informer.getStore();
+        assertThat(store.list()).extracting(Pod::getName).containsExactlyInAnyOrder("pod-1", "pod-3");
+        assertThat(store.get("alpha", "pod-1").getResourceVersion()).isEqualTo("1");
+        assertThat(store.getByIndex("app", "web")).extracting(Pod::getName).containsExactlyInAnyOrder("pod-1", "pod-3");
+        assertThat(store.getByIndex("app", "db")).isEmpty();
+        assertThat(store.getByIndex(Indexers.NAMESPACE, "bravo")).extracting(Pod::getName).containsExactly("pod-3");
+        assertThat(store.getByIndex(Indexers.OWNER_UID, "owner-1")).extracting(Pod::getName).containsExactly("pod-1");
+
+        List<String> late = new CopyOnWriteArrayList<>();
+        informer.events().subscribe(e -> late.add(String.format("%s %s", e.getType(), e.getObject().getName())));
+        assertThat(late).containsExactlyInAnyOrder("ADDED pod-1", "ADDED pod-3");
+
+        informer.dispose();
+        assertThat(informer.isDisposed()).isTrue();
+    }
+
+    @Test
+    void slowSubscriber() {
+        int count = SharedInformer.MAX_BUFFERED_EVENTS * 2;
+        String last = String.format("pod-%d", count - 1);
+
+        ListWatch<Pod, PodList> listWatch = ListWatch.of(
+            o -> Mono.just(PodList.builder().resourceVersion("1").build()),
+            PodList::getItems,
+            o -> Flux.range(0, count)
+                .map(i -> WatchEvent.of(WatchEvent.ADDED, pod("alpha", String.format("pod-%d", i), "2", "web", "owner-1")))
+                .concatWith(Flux.just(
+                    WatchEvent.of(WatchEvent.DELETED, pod("alpha", "pod-0", "2", "web", "owner-1")),
+                    WatchEvent.of(WatchEvent.MODIFIED, pod("alpha", "pod-1", "3", "web", "owner-1")),
+                    WatchEvent.of(WatchEvent.MODIFIED, pod("alpha", last, "3", "web", "owner-1")),
+                    WatchEvent.of(WatchEvent.MODIFIED, pod("alpha", last, "4", "web", "owner-1"))))
+                .concatWith(Flux.never()));
+
+        SharedInformer<Pod> informer = new SharedInformer<>(listWatch);
+
+        // Completes once the informer has applied every watch event, by which time the slow subscriber has overflowed
+        Mono<WatchEvent<Pod>> watched = informer.events()
+            .filter(e -> last.equals(e.getObject().getName()) && "4".equals(e.getResourceVersion()))
+            .next()
+            .cache();
+        watched.subscribe();
+
+        StepVerifier.create(informer.events(), 0)
+            .then(informer::start)
+            .then(() -> watched.block(Duration.ofSeconds(5)))
+            .thenRequest(Long.MAX_VALUE)
+            .recordWith(ArrayList::new)
+            .expectNextCount(count + 2)
+            .consumeRecordedWith(events -> {
+                List<WatchEvent<Pod>> received = new ArrayList<>(events);
+
+                assertThat(received.subList(0, SharedInformer.MAX_BUFFERED_EVENTS)).allMatch(e -> WatchEvent.ADDED.equals(e.getType()));
+                assertThat(received).filteredOn(e -> last.equals(e.getObject().getName()))
+                    .extracting(e -> String.format("%s %s", e.getType(), e.getResourceVersion()))
+                    .containsExactly("ADDED 4");
+
+                Map<String, String> resourceVersions = new HashMap<>();
+                received.forEach(e -> {
+                    if (WatchEvent.DELETED.equals(e.getType())) {
+                        resourceVersions.remove(e.getObject().getName());
+                    } else {
+                        resourceVersions.put(e.getObject().getName(), e.getResourceVersion());
+                    }
+                });
+
+                assertThat(resourceVersions).hasSize(count - 1).doesNotContainKey("pod-0").containsEntry("pod-1", "3");
+            })
+            .thenCancel()
+            .verify(Duration.ofSeconds(5));
+
+        informer.dispose();
+    }
+
+    private static Pod pod(@Nullable String namespace, String name, String resourceVersion, String app, String owner) {
+        return Pod.builder()
+            .namespace(namespace)
+            .name(name)
+            .resourceVersion(resourceVersion)
+            .label("app", app)
+            .ownerReference(OwnerReference.builder().apiVersion("apps/v1").kind("ReplicaSet").name("test-replica-set").uid(owner).build())
+            .build();
+    }
+
+}
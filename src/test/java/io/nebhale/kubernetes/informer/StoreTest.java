@@ -0,0 +1,75 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.informer;
+
+import io.k8s.core.v1.Pod;
+import io.k8s.meta.v1.LabelSelector;
+import io.k8s.meta.v1.LabelSelectorRequirement;
+import io.nebhale.kubernetes.labels.Selector;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class StoreTest {
+
+    @Test
+    void index() {
+        Store<Pod> store = new Store<>();
+        store.addIndex("app", Indexers.label("app"));
+
+        store.put(Pod.builder().namespace("alpha").name("pod-1").label("app", "web").build());
+        store.put(Pod.builder().namespace("alpha").name("pod-2").label("app", "web").build());
+        assertThat(store.getByIndex("app", "web")).extracting(Pod::getName).containsExactlyInAnyOrder("pod-1", "pod-2");
+
+        store.put(Pod.builder().namespace("alpha").name("pod-1").label("app", "db").build());
+        assertThat(store.getByIndex("app", "web")).extracting(Pod::getName).containsExactly("pod-2");
+        assertThat(store.getIndexValues("app")).containsExactlyInAnyOrder("web", "db");
+
+        store.remove(Store.getKey("alpha", "pod-2"));
+        assertThat(store.getByIndex("app", "web")).isEmpty();
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void selector() {
+        Store<Pod> store = new Store<>();
+        for (int i = 0; i < 100; i++) {
+            store.put(Pod.builder()
+                .namespace("test-namespace")
+                .name("pod-" + i)
+                .label("app", i % 2 == 0 ? "web" : "db")
+                .label("shard", String.valueOf(i % 10))
+                .build());
+        }
+
+        assertThat(store.list(Selector.parse("app=web,shard in (2,4)"))).hasSize(20);
+
+        store.addIndex(Indexers.LABELS, Indexers.labels());
+        assertThat(store.list(Selector.parse("app=web,shard in (2,4)"))).hasSize(20);
+        assertThat(store.list(Selector.parse("app=web,shard in (2,4,2)"))).hasSize(20);
+        assertThat(store.list(Selector.of(LabelSelector.builder()
+            .matchExpression(LabelSelectorRequirement.builder().key("shard").operator("In").value("2").value("2").build())
+            .build()))).hasSize(10);
+        assertThat(store.list(Selector.parse("app=web,shard notin (2,4)"))).hasSize(30);
+        assertThat(store.list(Selector.of(Collections.singletonMap("app", "db")))).hasSize(50);
+        assertThat(store.list(Selector.everything())).hasSize(100);
+        assertThat(store.list(Selector.nothing())).isEmpty();
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.labels;
+
+import io.k8s.meta.v1.LabelSelector;
+import io.k8s.meta.v1.LabelSelectorRequirement;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+final class SelectorTest {
+
+    @Test
+    void invalid() {
+        for (String text : new String[]{"a b", "a in b", "a in (x", ",", "a,", "a>x", "=x", "a in ()x"}) {
+            assertThatThrownBy(() -> Selector.parse(text)).as(text).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        assertThatThrownBy(() -> Selector.of(LabelSelector.builder()
+            .matchExpression(LabelSelectorRequirement.builder().key("a").operator("Bogus").build())
+            .build()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void labelSelector() {
+        Selector selector = Selector.of(LabelSelector.builder()
+            .matchLabel("app", "web")
+            .matchExpression(LabelSelectorRequirement.builder().key("tier").operator("NotIn").value("db").build())
+            .matchExpression(LabelSelectorRequirement.builder().key("zone").operator("Exists").build())
+            .build());
+
+        assertThat(selector).hasToString("app=web,tier notin (db),zone");
+        assertThat(selector.matches(labels("app", "web", "zone", "a"))).isTrue();
+        assertThat(Selector.of((LabelSelector) null).matches(labels())).isFalse();
+        assertThat(Selector.of(LabelSelector.builder().build()).matches(labels())).isTrue();
+    }
+
+    @Test
+    void parse() {
+        Selector selector = Selector.parse(" env = prod, tier!=frontend,release in (stable, canary),!deprecated, partition, replicas>2 ");
+
+        assertThat(selector).hasToString("!deprecated,env=prod,partition,release in (canary,stable),replicas>2,tier!=frontend");
+        assertThat(Selector.parse(selector.toString())).isEqualTo(selector);
+        assertThat(selector.matches(labels("env", "prod", "release", "canary", "partition", "x", "replicas", "3"))).isTrue();
+        assertThat(selector.matches(labels("env", "prod", "release", "canary", "partition", "x", "replicas", "2"))).isFalse();
+        assertThat(selector.matches(labels("env", "prod", "release", "canary", "partition", "x", "replicas", "3", "tier", "frontend"))).isFalse();
+        assertThat(selector.matches(labels("env", "prod", "release", "canary", "partition", "x", "replicas", "3", "deprecated", ""))).isFalse();
+        assertThat(selector.matches(labels("env", "prod", "release", "canary", "replicas", "3"))).isFalse();
+        assertThat(selector.matches((Map<String, String>) null)).isFalse();
+    }
+
+    @Test
+    void parseEdgeCases() {
+        assertThat(Selector.parse("a notin (x), b==c, d=").matches(labels("b", "c", "d", ""))).isTrue();
+        assertThat(Selector.parse("a in (y, x, y)")).hasToString("a in (x,y)").isEqualTo(Selector.parse("a in (x,y)"));
+        assertThat(Selector.parse("").isEverything()).isTrue();
+        assertThat(Selector.parse("a<5").matches(labels("a", "x"))).isFalse();
+    }
+
+    private static Map<String, String> labels(String... keysAndValues) {
+        Map<String, String> labels = new HashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            labels.put(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return labels;
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.logs;
+
+import io.k8s.core.v1.Container;
+import io.k8s.core.v1.ContainerState;
+import io.k8s.core.v1.ContainerStateRunning;
+import io.k8s.core.v1.ContainerStatus;
+import io.k8s.core.v1.Pod;
+import io.k8s.core.v1.PodSpec;
+import io.k8s.core.v1.PodStatus;
+import io.k8s.meta.v1.LabelSelector;
+import io.k8s.meta.v1.WatchEvent;
+import io.nebhale.kubernetes.engine.LogLine;
+import org.junit.jupiter.api.Test;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+final class PodLogsTest {
+
+    private final List<String> cancelled = new CopyOnWriteArrayList<>();
+
+    private final Sinks.Many<WatchEvent<Pod>> events = Sinks.many().unicast().onBackpressureBuffer();
+
+    private final List<String> opened = new CopyOnWriteArrayList<>();
+
+    @Test
+    void follow() {
+        StepVerifier.create(followAlpha())
+            .then(() -> {
+                events.tryEmitNext(WatchEvent.of(WatchEvent.ADDED, pod("pod-1", "alpha", null)));
+                events.tryEmitNext(WatchEvent.of(WatchEvent.ADDED, pod("pod-2", "alpha", "container-2")));
+                events.tryEmitNext(WatchEvent.of(WatchEvent.ADDED, pod("pod-3", "bravo", "container-3")));
+                events.tryEmitNext(WatchEvent.of(WatchEvent.MODIFIED, pod("pod-1", "alpha", "container-1")));
+                events.tryEmitNext(WatchEvent.of(WatchEvent.MODIFIED, pod("pod-1", "alpha", "container-1")));
+            })
+            .recordWith(ArrayList::new)
+            .expectNextCount(5)
+            .consumeRecordedWith(lines -> {
+                assertThat(lines).extracting(l -> l.getLine().getMessage()).containsExactly("pod-1-1", "pod-2-2", "pod-1-3", "pod-2-4", "pod-1-5");
+                assertThat(lines).first().extracting(PodLogLine::getNamespace, PodLogLine::getName, PodLogLine::getContainer)
+                    .containsExactly("test-namespace", "pod-1", "test-container");
+            })
+            .thenCancel()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(opened).containsExactlyInAnyOrder("pod-2/container-2", "pod-1/container-1");
+    }
+
+    @Test
+    void heldLinesBounded() {
+        Flux<WatchEvent<Pod>> pods = Flux.just(WatchEvent.of(WatchEvent.ADDED, pod("pod-1", "alpha", "container-1")))
+            .concatWith(Flux.never());
+
+        List<PodLogLine> released = PodLogs.follow(pods, null, (pod, container) -> Flux.range(0, 3 * PodLogs.MAX_HELD_LINES)
+            .map(i -> line(i, String.valueOf(i)))
+            .concatWith(Flux.never()), Duration.ofHours(1))
+            .take(2 * PodLogs.MAX_HELD_LINES)
+            .collectList()
+            .block(Duration.ofSeconds(10));
+
+        assertThat(released).extracting(l -> Integer.valueOf(l.getLine().getMessage())).isSorted().hasSize(2 * PodLogs.MAX_HELD_LINES);
+    }
+
+    @Test
+    void invalidOrderingWindow() {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> PodLogs.follow(Flux.empty(), null, (pod, container) -> Flux.empty(), Duration.ZERO));
+    }
+
+    @Test
+    void noSelector() {
+        Flux<WatchEvent<Pod>> pods = Flux.just(WatchEvent.of(WatchEvent.ADDED, pod("pod-1", "bravo", "container-1")))
+            .concatWith(Flux.never());
+
+        assertThat(PodLogs.follow(pods, null, (pod, container) -> Flux.just(line(1, "pod-1-1")).concatWith(Flux.never()), Duration.ofMillis(100))
+            .blockFirst(Duration.ofSeconds(5)))
+            .extracting(PodLogLine::getName)
+            .isEqualTo("pod-1");
+    }
+
+    // Pod events are handled on the thread that emits them, so streams are opened and cancelled before emitting returns
+    @Test
+    void restart() {
+        StepVerifier.create(followAlpha())
+            .then(() -> {
+                events.tryEmitNext(WatchEvent.of(WatchEvent.ADDED, pod("pod-1", "alpha", "container-1")));
+                events.tryEmitNext(WatchEvent.of(WatchEvent.ADDED, pod("pod-2", "alpha", "container-2")));
+                assertThat(opened).containsExactly("pod-1/container-1", "pod-2/container-2");
+
+                events.tryEmitNext(WatchEvent.of(WatchEvent.MODIFIED, pod("pod-1", "alpha", "container-1-restarted")));
+                assertThat(cancelled).containsExactly("pod-1/container-1");
+
+                events.tryEmitNext(WatchEvent.of(WatchEvent.DELETED, pod("pod-2", "alpha", "container-2")));
+                events.tryEmitNext(WatchEvent.of(WatchEvent.MODIFIED, pod("pod-1", "bravo", "container-1-restarted")));
+                assertThat(cancelled).containsExactly("pod-1/container-1", "pod-2/container-2", "pod-1/container-1-restarted");
+
+                events.tryEmitNext(WatchEvent.of(WatchEvent.ADDED, pod("pod-2", "alpha", "container-2")));
+                assertThat(opened).containsExactly("pod-1/container-1", "pod-2/container-2", "pod-1/container-1-restarted", "pod-2/container-2");
+            })
+            .thenCancel()
+            .verify(Duration.ofSeconds(5));
+    }
+
+    private Flux<PodLogLine> followAlpha() {
+        return PodLogs.follow(events.asFlux(), LabelSelector.builder().matchLabel("app", "alpha").build(), (pod, container) -> {
+            String id = String.format("%s/%s", pod.getName(), pod.getStatus().getContainerStatuses().get(0).getContainerID());
+            opened.add(id);
+
+            Flux<LogLine> log = "pod-1".equals(pod.getName()) ?
+                Flux.just(line(1, "pod-1-1"), line(3, "pod-1-3"), line(5, "pod-1-5")) :
+                Flux.just(line(2, "pod-2-2"), line(4, "pod-2-4")).delayElements(Duration.ofMillis(100));
+
+            return log
+                .concatWith(Flux.never())
+                .doOnCancel(() -> cancelled.add(id));
+        }, Duration.ofMillis(500));
+    }
+
+    private static LogLine line(int second, String message) {
+        return LogLine.of(Instant.parse("2020-01-01T00:00:00Z").plusSeconds(second), message);
+    }
+
+    private static Pod pod(String name, String app, @Nullable String containerId) {
+        Pod.Builder builder = Pod.builder()
+            .name(name)
+            .namespace("test-namespace")
+            .label("app", app)
+            .spec(PodSpec.builder().container(Container.builder().name("test-container").build()).build());
+
+        if (containerId != null) {
+            builder.status(PodStatus.builder()
+                .containerStatus(ContainerStatus.builder()
+                    .name("test-container")
+                    .containerID(containerId)
+                    .image("test-image")
+                    .imageID("test-image")
+                    .ready(true)
+                    .restartCount(0)
+                    .state(ContainerState.builder().running(ContainerStateRunning.builder().build()).build())
+                    .build())
+                .build());
+        }
+
+        return builder.build();
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.patch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.k8s.apps.v1.Deployment;
+import io.k8s.apps.v1.DeploymentSpec;
+import io.k8s.apps.v1.DeploymentStatus;
+import io.k8s.core.v1.ConfigMap;
+import io.k8s.core.v1.Container;
+import io.k8s.core.v1.PodSpec;
+import io.k8s.core.v1.PodTemplateSpec;
+import io.k8s.meta.v1.FieldsV1;
+import io.k8s.meta.v1.LabelSelector;
+import io.k8s.meta.v1.ManagedFieldsEntry;
+import io.nebhale.kubernetes.engine.ConnectionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+final class ServerSideApplyTest {
+
+    private static final String MINE = "{\"f:metadata\":{\"f:labels\":{\"f:app\":{}}},\"f:spec\":{\"f:replicas\":{},\"f:template\":{\"f:spec\":{\"f:containers\":" +
+        "{\"k:{\\\"name\\\":\\\"alpha\\\"}\":{\".\":{},\"f:image\":{},\"f:name\":{}}}}}}}";
+
+    private static final String THEIRS = "{\"f:metadata\":{\"f:annotations\":{\"f:note\":{}}},\"f:spec\":{\"f:template\":{\"f:spec\":{\"f:containers\":" +
+        "{\"k:{\\\"name\\\":\\\"bravo\\\"}\":{\".\":{},\"f:image\":{},\"f:name\":{}}}}}}}";
+
+    private final ObjectMapper objectMapper = ConnectionContext.defaultObjectMapper();
+
+    private Deployment desired;
+
+    private Deployment live;
+
+    @Test
+    void conflicts() throws IOException {
+        ConfigMap live = ConfigMap.builder()
+            .name("test-config-map")
+            .managedField(ManagedFieldsEntry.builder().manager("test-manager").operation("Apply")
+                .fieldsV1(objectMapper.readValue("{\"f:data\":{\"f:alpha\":{}}}", FieldsV1.class)).build())
+            .managedField(ManagedFieldsEntry.builder().manager("other-manager").operation("Update")
+                .fieldsV1(objectMapper.readValue("{\"f:data\":{\"f:bravo\":{},\"f:charlie\":{}}}", FieldsV1.class)).build())
+            .build();
+
+        Map<String, FieldsV1> conflicts = ServerSideApply.conflicts(live, "test-manager",
+            objectMapper.readValue("{\"f:data\":{\"f:alpha\":{},\"f:bravo\":{}}}", FieldsV1.class));
+
+        assertThat(conflicts).containsOnlyKeys("other-manager");
+        assertThat(objectMapper.writeValueAsString(conflicts.get("other-manager"))).isEqualTo("{\"f:data\":{\"f:bravo\":{}}}");
+    }
+
+    @Test
+    void create() throws IOException {
+        String created = objectMapper.writeValueAsString(ServerSideApply.configuration(objectMapper, "test-manager", null, desired));
+
+        assertThat(created)
+            .contains("\"selector\":{\"matchLabels\":{\"app\":\"web\"}}", "{\"name\":\"bravo\",\"image\":\"bravo:1\"}")
+            .doesNotContain("status", "resourceVersion", "managedFields");
+    }
+
+    @Test
+    void missingManagedFields() {
+        Deployment stripped = Deployment.builder().apiVersion("apps/v1").kind("Deployment").name("test-deployment").build();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> ServerSideApply.configuration(objectMapper, "test-manager", stripped, desired));
+    }
+
+    @Test
+    void modify() throws IOException {
+        assertThat(objectMapper.writeValueAsString(ServerSideApply.configuration(objectMapper, "test-manager", live, desired))).isEqualTo(
+            "{\"apiVersion\":\"apps/v1\",\"kind\":\"Deployment\",\"metadata\":{\"name\":\"test-deployment\",\"namespace\":\"test-namespace\"," +
+                "\"labels\":{\"app\":\"web\",\"tier\":\"back\"}},\"spec\":{\"replicas\":3,\"template\":{\"spec\":{\"containers\":[{\"name\":\"alpha\",\"image\":\"alpha:2\"}]}}}}");
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        FieldsV1 mine = objectMapper.readValue(MINE, FieldsV1.class);
+        FieldsV1 theirs = objectMapper.readValue(THEIRS, FieldsV1.class);
+
+        this.live = deployment(3, "alpha:1", "front", mine, theirs);
+        this.desired = deployment(3, "alpha:2", "back", mine, theirs);
+    }
+
+    @Test
+    void unmanaged() throws IOException {
+        assertThat(objectMapper.writeValueAsString(ServerSideApply.configuration(objectMapper, "other-manager", live, live))).isEqualTo(
+            "{\"apiVersion\":\"apps/v1\",\"kind\":\"Deployment\",\"metadata\":{\"name\":\"test-deployment\",\"namespace\":\"test-namespace\"}}");
+    }
+
+    private static Deployment deployment(int replicas, String image, String tier, FieldsV1 mine, FieldsV1 theirs) {
+        return Deployment.builder()
+            .apiVersion("apps/v1")
+            .kind("Deployment")
+            .name("test-deployment")
+            .namespace("test-namespace")
+            .resourceVersion("42")
+            .uid("test-uid")
+            .label("app", "web")
+            .label("tier", tier)
+            .annotation("note", "test-note")
+            .managedField(ManagedFieldsEntry.builder().manager("test-manager").operation("Apply").apiVersion("apps/v1").fieldsType("FieldsV1").fieldsV1(mine).build())
+            .managedField(ManagedFieldsEntry.builder().manager("kubectl").operation("Update").apiVersion("apps/v1").fieldsType("FieldsV1").fieldsV1(theirs).build())
+            .spec(DeploymentSpec.builder()
+                .replicas(replicas)
+                .selector(LabelSelector.builder().matchLabel("app", "web").build())
+                .template(PodTemplateSpec.builder()
+                    .spec(PodSpec.builder()
+                        .container(Container.builder().name("alpha").image(image).build())
+                        .container(Container.builder().name("bravo").image("bravo:1").build())
+                        .build())
+                    .build())
+                .build())
+            .status(DeploymentStatus.builder().replicas(replicas).build())
+            .build();
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2020-2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nebhale.kubernetes.patch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.k8s.apps.v1.Deployment;
+import io.k8s.apps.v1.DeploymentCodec;
+import io.k8s.apps.v1.DeploymentSpec;
+import io.k8s.apps.v1.DeploymentStrategy;
+import io.k8s.apps.v1.RollingUpdateDeployment;
+import io.k8s.codec.Diff;
+import io.k8s.core.v1.Container;
+import io.k8s.core.v1.EmptyDirVolumeSource;
+import io.k8s.core.v1.EnvVar;
+import io.k8s.core.v1.HostPathVolumeSource;
+import io.k8s.core.v1.PodSpec;
+import io.k8s.core.v1.PodTemplateSpec;
+import io.k8s.core.v1.Volume;
+import io.k8s.intstr.IntOrString;
+import io.k8s.meta.v1.LabelSelector;
+import io.k8s.type.PatchType;
+import io.nebhale.kubernetes.engine.ConnectionContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+final class StrategicMergePatchTest {
+
+    private final ObjectMapper objectMapper = ConnectionContext.defaultObjectMapper();
+
+    @Test
+    void merge() throws IOException {
+        Deployment original = deployment(Collections.singletonList("finalizer-1"), null, Collections.emptyList(),
+            container("alpha", "image:1", env("X", "1")), container("bravo", "image:1"));
+
+        Deployment merged = StrategicMergePatch.apply(objectMapper, original, objectMapper.readTree("{\"metadata\":{\"finalizers\":[\"finalizer-2\"]}," +
+            "\"spec\":{\"template\":{\"spec\":{\"containers\":[{\"name\":\"bravo\",\"image\":\"image:2\"}]}}}}"));
+
+        assertThat(merged.getFinalizers()).containsExactly("finalizer-1", "finalizer-2");
+        assertThat(merged.getSpec().getTemplate().getSpec().getContainers())
+            .containsExactly(container("alpha", "image:1", env("X", "1")), container("bravo", "image:2"));
+    }
+
+    @Test
+    void replace() throws IOException {
+        Deployment original = deployment(Collections.singletonList("finalizer-1"), null, Collections.emptyList(),
+            container("alpha", "image:1", env("X", "1")), container("bravo", "image:1"));
+
+        Deployment replaced = StrategicMergePatch.apply(objectMapper, original, objectMapper.readTree(
+            "{\"spec\":{\"template\":{\"spec\":{\"containers\":[{\"name\":\"zulu\",\"image\":\"image:9\"},{\"$patch\":\"replace\"}]}}}}"));
+
+        assertThat(replaced.getSpec().getTemplate().getSpec().getContainers()).containsExactly(container("zulu", "image:9"));
+    }
+
+    @Test
+    void roundTrip() throws IOException {
+        Deployment original = deployment(Arrays.asList("finalizer-1", "finalizer-2"),
+            DeploymentStrategy.builder().type("RollingUpdate").rollingUpdate(RollingUpdateDeployment.builder().maxSurge(IntOrString.of(1)).build()).build(),
+            Collections.singletonList(Volume.builder().name("data").emptyDir(EmptyDirVolumeSource.builder().build()).build()),
+            container("alpha", "image:1", env("X", "1"), env("Y", "2")), container("bravo", "image:1"));
+        Deployment modified = deployment(Arrays.asList("finalizer-2", "finalizer-3"),
+            DeploymentStrategy.builder().type("Recreate").build(),
+            Collections.singletonList(Volume.builder().name("data").hostPath(HostPathVolumeSource.builder().path("/data").build()).build()),
+            container("charlie", "image:3"), container("alpha", "image:2", env("X", "1"), env("Z", "3")));
+
+        JsonNode patch = Diff.of(original, modified, DeploymentCodec::diff).toPatch(PatchType.STRATEGIC_MERGE);
+        String json = objectMapper.writeValueAsString(patch);
+
+        assertThat(json).contains(
+            "\"$retainKeys\":[\"type\"]",
+            "\"$setElementOrder/containers\":[{\"name\":\"charlie\"},{\"name\":\"alpha\"}]",
+            "{\"name\":\"bravo\",\"$patch\":\"delete\"}",
+            "\"$deleteFromPrimitiveList/finalizers\":[\"finalizer-1\"]",
+            "\"finalizers\":[\"finalizer-3\"]",
+            "{\"name\":\"Y\",\"$patch\":\"delete\"}",
+            "\"$retainKeys\":[\"hostPath\",\"name\"]");
+        assertThat(StrategicMergePatch.apply(objectMapper, original, patch)).isEqualTo(modified);
+        assertThat(StrategicMergePatch.apply(objectMapper, original, objectMapper.readTree(json))).isEqualTo(modified);
+    }
+
+    @Test
+    void unchanged() {
+        Deployment original = deployment(Collections.singletonList("finalizer-1"), null, Collections.emptyList(), container("alpha", "image:1"));
+
+        assertThat(StrategicMergePatch.apply(objectMapper, original, Diff.of(original, original, DeploymentCodec::diff).toPatch(PatchType.STRATEGIC_MERGE)))
+            .isEqualTo(original);
+    }
+
+    private static Container container(String name, String image, EnvVar... env) {
+        return Container.builder().name(name).image(image).env(Arrays.asList(env)).build();
+    }
+
+    private static Deployment deployment(List<String> finalizers, @Nullable DeploymentStrategy strategy, List<Volume> volumes, Container... containers) {
+        return Deployment.builder()
+            .apiVersion("apps/v1")
+            .kind("Deployment")
+            .name("test-deployment")
+            .finalizers(finalizers)
+            .spec(DeploymentSpec.builder()
+                .selector(LabelSelector.builder().matchLabel("app", "web").build())
+                .strategy(strategy)
+                .template(PodTemplateSpec.builder()
+                    .spec(PodSpec.builder().containers(Arrays.asList(containers)).volumes(volumes).build())
+                    .build())
+                .build())
+            .build();
+    }
+
+    private static EnvVar env(String name, String value) {
+        return EnvVar.builder().name(name).value(value).build();
+    }
+
+}